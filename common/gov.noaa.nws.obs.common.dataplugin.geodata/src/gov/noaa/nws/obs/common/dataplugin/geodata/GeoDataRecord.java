@@ -12,6 +12,7 @@ import javax.persistence.FetchType;
 import javax.persistence.OneToMany;
 import javax.persistence.SequenceGenerator;
 import javax.persistence.Table;
+import javax.persistence.Transient;
 import javax.persistence.UniqueConstraint;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
@@ -33,6 +34,12 @@ import com.vividsolutions.jts.geom.Geometry;
  * provides mappings to database tables for Float, Integer, and String
  * attributes of a given GeoDataRecord.
  *
+ * The attributes may instead be packed into a single byte array (see
+ * {@link #packAttributes()}), stored in the separate geodata_att_packed table
+ * rather than in the geodata table. Use {@link #getIntegerAttributes()},
+ * {@link #getFloatAttributes()}, and {@link #getStringAttributes()} to read
+ * the attributes of a record stored either way.
+ *
  * <pre>
  *
  * SOFTWARE HISTORY
@@ -41,6 +48,9 @@ import com.vividsolutions.jts.geom.Geometry;
  * ------------ ---------- ----------- --------------------------
  * 07/25/2016     19064      jburks    Initial creation (DCS 19064)
  * 08/20/2016     19064    mcomerford  Added method to return all Attribute names
+ * 10/17/2026                agent     Added packed attribute storage
+ * 10/17/2026                agent     Packed attributes are no longer a
+ *                                     column of the geodata table
  *
  * </pre>
  *
@@ -95,6 +105,25 @@ public class GeoDataRecord extends PersistablePluginDataObject {
     @DynamicSerializeElement
     private Set<IntegerAttribute> integerAtt = new HashSet<>();
 
+    /*
+     * Attributes encoded by PackedAttributes, instead of attribute rows. Not
+     * mapped, so the geodata table is the same whichever way attributes are
+     * stored; the GeoDataDao stores them in the geodata_att_packed table.
+     */
+    @Transient
+    @DynamicSerializeElement
+    private byte[] packedAttributes;
+
+    /* Attributes decoded from packedAttributes, on first use. */
+    @Transient
+    private transient Set<IntegerAttribute> unpackedIntegerAtt;
+
+    @Transient
+    private transient Set<FloatAttribute> unpackedFloatAtt;
+
+    @Transient
+    private transient Set<StringAttribute> unpackedStringAtt;
+
     /**
      * @return the source
      */
@@ -185,6 +214,98 @@ public class GeoDataRecord extends PersistablePluginDataObject {
         this.integerAtt = integerAtt;
     }
 
+    /**
+     * @return the packedAttributes
+     */
+    public byte[] getPackedAttributes() {
+        return packedAttributes;
+    }
+
+    /**
+     * @param packedAttributes
+     *            the packedAttributes to set
+     */
+    public void setPackedAttributes(byte[] packedAttributes) {
+        this.packedAttributes = packedAttributes;
+        this.unpackedIntegerAtt = null;
+        this.unpackedFloatAtt = null;
+        this.unpackedStringAtt = null;
+    }
+
+    /**
+     * Pack the Integer, Float, and String Attribute(s) of this record into
+     * the packedAttributes column, so no attribute rows are stored for it.
+     */
+    public void packAttributes() {
+        setPackedAttributes(
+                PackedAttributes.pack(integerAtt, floatAtt, stringAtt));
+        integerAtt = new HashSet<>();
+        floatAtt = new HashSet<>();
+        stringAtt = new HashSet<>();
+    }
+
+    /**
+     * @return true if the record has attribute rows or packed attributes.
+     *         Records decoded with packed attributes have neither when they
+     *         are queried, until their packed attributes are retrieved.
+     */
+    public boolean hasAttributes() {
+        return packedAttributes != null || !integerAtt.isEmpty()
+                || !floatAtt.isEmpty() || !stringAtt.isEmpty();
+    }
+
+    /**
+     * @return the IntegerAttribute(s) of this record, whether stored as rows
+     *         or packed.
+     */
+    public Set<IntegerAttribute> getIntegerAttributes() {
+        if (packedAttributes == null) {
+            return integerAtt;
+        }
+        unpackAttributes();
+        return unpackedIntegerAtt;
+    }
+
+    /**
+     * @return the FloatAttribute(s) of this record, whether stored as rows or
+     *         packed.
+     */
+    public Set<FloatAttribute> getFloatAttributes() {
+        if (packedAttributes == null) {
+            return floatAtt;
+        }
+        unpackAttributes();
+        return unpackedFloatAtt;
+    }
+
+    /**
+     * @return the StringAttribute(s) of this record, whether stored as rows
+     *         or packed.
+     */
+    public Set<StringAttribute> getStringAttributes() {
+        if (packedAttributes == null) {
+            return stringAtt;
+        }
+        unpackAttributes();
+        return unpackedStringAtt;
+    }
+
+    /**
+     * Decode the packedAttributes, if not already decoded.
+     */
+    private synchronized void unpackAttributes() {
+        if (unpackedIntegerAtt == null) {
+            Set<IntegerAttribute> integerAtts = new HashSet<>();
+            Set<FloatAttribute> floatAtts = new HashSet<>();
+            Set<StringAttribute> stringAtts = new HashSet<>();
+            PackedAttributes.unpack(packedAttributes, this, integerAtts,
+                    floatAtts, stringAtts);
+            unpackedFloatAtt = floatAtts;
+            unpackedStringAtt = stringAtts;
+            unpackedIntegerAtt = integerAtts;
+        }
+    }
+
     @Override
     public String getPluginName() {
         return PLUGIN_NAME;
@@ -199,13 +320,13 @@ public class GeoDataRecord extends PersistablePluginDataObject {
     public List<String> getAttNames() {
 
         List<String> names = new ArrayList<String>();
-        for (IntegerAttribute intAtt : getIntegerAtt()) {
+        for (IntegerAttribute intAtt : getIntegerAttributes()) {
             names.add(intAtt.getName());
         }
-        for (FloatAttribute floatAtt : getFloatAtt()) {
+        for (FloatAttribute floatAtt : getFloatAttributes()) {
             names.add(floatAtt.getName());
         }
-        for (StringAttribute stringAtt : getStringAtt()) {
+        for (StringAttribute stringAtt : getStringAttributes()) {
             names.add(stringAtt.getName());
         }
 
@@ -0,0 +1,174 @@
+package gov.noaa.nws.obs.common.dataplugin.geodata;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+/**
+ * PackedAttributes
+ *
+ * Encodes the Float, Integer, and String attributes of a GeoDataRecord into a
+ * single byte array, so a record can be stored in one row instead of one row
+ * per attribute. The encoding is a version byte followed by the count and the
+ * name/value pairs of the Integer, Float, and String attributes, in that
+ * order. Names and String values are written as a length followed by their
+ * UTF-8 bytes, so there is no limit on their length.
+ *
+ * <pre>
+ *
+ * SOFTWARE HISTORY
+ *
+ * Date         Ticket#    Engineer    Description
+ * ------------ ---------- ----------- --------------------------
+ * 10/17/2026                agent     Initial creation
+ * 10/17/2026                agent     Length-prefixed UTF-8 strings (version 2)
+ *
+ * </pre>
+ *
+ * @author agent
+ * @version 1.0
+ */
+public final class PackedAttributes {
+
+    /* Version of the encoding. */
+    private static final byte VERSION = 2;
+
+    /* Version of the encoding with modified UTF-8 strings of up to 64 KB. */
+    private static final byte VERSION_MODIFIED_UTF = 1;
+
+    private PackedAttributes() {
+    }
+
+    /**
+     * Encode the attributes of a GeoDataRecord.
+     *
+     * @param integerAtts
+     *            The IntegerAttribute(s) of the record.
+     * @param floatAtts
+     *            The FloatAttribute(s) of the record.
+     * @param stringAtts
+     *            The StringAttribute(s) of the record.
+     * @return The encoded attributes.
+     */
+    public static byte[] pack(Set<IntegerAttribute> integerAtts,
+            Set<FloatAttribute> floatAtts, Set<StringAttribute> stringAtts) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+
+            out.writeInt(integerAtts.size());
+            for (IntegerAttribute att : integerAtts) {
+                writeString(out, att.getName());
+                out.writeInt(att.getValue());
+            }
+
+            out.writeInt(floatAtts.size());
+            for (FloatAttribute att : floatAtts) {
+                writeString(out, att.getName());
+                out.writeFloat(att.getValue());
+            }
+
+            out.writeInt(stringAtts.size());
+            for (StringAttribute att : stringAtts) {
+                writeString(out, att.getName());
+                writeString(out, att.getValue());
+            }
+        } catch (IOException e) {
+            /* Not thrown when writing to a ByteArrayOutputStream. */
+            throw new IllegalStateException(
+                    "Could not pack the GeoDataRecord attributes.", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decode attributes encoded by
+     * {@link #pack(Set, Set, Set)}.
+     *
+     * @param packed
+     *            The encoded attributes.
+     * @param record
+     *            The GeoDataRecord the attributes belong to.
+     * @param integerAtts
+     *            The Set the IntegerAttribute(s) are added to.
+     * @param floatAtts
+     *            The Set the FloatAttribute(s) are added to.
+     * @param stringAtts
+     *            The Set the StringAttribute(s) are added to.
+     */
+    public static void unpack(byte[] packed, GeoDataRecord record,
+            Set<IntegerAttribute> integerAtts, Set<FloatAttribute> floatAtts,
+            Set<StringAttribute> stringAtts) {
+        try (DataInputStream in = new DataInputStream(
+                new ByteArrayInputStream(packed))) {
+            byte version = in.readByte();
+            if (version != VERSION && version != VERSION_MODIFIED_UTF) {
+                throw new IllegalArgumentException(
+                        "Unknown GeoDataRecord attribute encoding version: "
+                                + version);
+            }
+
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                integerAtts.add(new IntegerAttribute(readString(in, version),
+                        in.readInt(), record));
+            }
+
+            count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                floatAtts.add(new FloatAttribute(readString(in, version),
+                        in.readFloat(), record));
+            }
+
+            count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                stringAtts.add(new StringAttribute(readString(in, version),
+                        readString(in, version), record));
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException(
+                    "Could not unpack the GeoDataRecord attributes.", e);
+        }
+    }
+
+    /**
+     * Write a String as its length followed by its UTF-8 bytes.
+     *
+     * @param out
+     *            The stream to write to.
+     * @param value
+     *            The String to write.
+     * @throws IOException
+     */
+    private static void writeString(DataOutputStream out, String value)
+            throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Read a String written by the given version of the encoding.
+     *
+     * @param in
+     *            The stream to read from.
+     * @param version
+     *            The version of the encoding.
+     * @return The String.
+     * @throws IOException
+     */
+    private static String readString(DataInputStream in, byte version)
+            throws IOException {
+        if (version == VERSION_MODIFIED_UTF) {
+            return in.readUTF();
+        }
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+}
@@ -0,0 +1,66 @@
+package gov.noaa.nws.obs.common.dataplugin.geodata.request;
+
+import com.raytheon.uf.common.serialization.annotations.DynamicSerialize;
+import com.raytheon.uf.common.serialization.annotations.DynamicSerializeElement;
+import com.raytheon.uf.common.serialization.comm.IServerRequest;
+
+/**
+ * GetPackedAttributesRequest
+ *
+ * Request for the packed attributes of GeoDataRecord(s), which are not
+ * returned with the records themselves. The response is a Map of record id to
+ * the packed attributes of the record; records without packed attributes are
+ * left out.
+ *
+ * <pre>
+ *
+ * SOFTWARE HISTORY
+ *
+ * Date         Ticket#    Engineer    Description
+ * ------------ ---------- ----------- --------------------------
+ * 10/17/2026                agent     Initial creation
+ *
+ * </pre>
+ *
+ * @author agent
+ * @version 1.0
+ */
+@DynamicSerialize
+public class GetPackedAttributesRequest implements IServerRequest {
+
+    @DynamicSerializeElement
+    private int[] recordIds;
+
+    /**
+     * Default constructor
+     */
+    public GetPackedAttributesRequest() {
+
+    }
+
+    /**
+     * Constructor setting the ids of the records.
+     *
+     * @param recordIds
+     *            Ids of the GeoDataRecord(s).
+     */
+    public GetPackedAttributesRequest(int[] recordIds) {
+        this.recordIds = recordIds;
+    }
+
+    /**
+     * @return the recordIds
+     */
+    public int[] getRecordIds() {
+        return recordIds;
+    }
+
+    /**
+     * @param recordIds
+     *            the recordIds to set
+     */
+    public void setRecordIds(int[] recordIds) {
+        this.recordIds = recordIds;
+    }
+
+}
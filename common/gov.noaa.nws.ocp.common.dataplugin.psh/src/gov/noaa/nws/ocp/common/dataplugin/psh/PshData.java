@@ -5,7 +5,9 @@ package gov.noaa.nws.ocp.common.dataplugin.psh;
 
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
+import java.util.Collections;
 import java.util.List;
 import java.util.TimeZone;
 
@@ -42,6 +44,7 @@ import gov.noaa.nws.ocp.common.localization.psh.PshConfigurationManager;
  * Nov 08, 2017  #40423    jwu         Replace tide/surge with water level.
  * Jan 11, 2018  DCS19326  jwu         Baseline version.
  * Mar 06, 2018  #47069    wpaintsil   Remove initialize(). Check for null in getters instead.
+ * Oct 17, 2026            agent       Add access to storm data by category.
  *
  * </pre>
  *
@@ -53,6 +56,16 @@ import gov.noaa.nws.ocp.common.localization.psh.PshConfigurationManager;
 @DynamicSerialize
 public class PshData {
 
+    /**
+     * Categories of storm data, one per data tab.
+     */
+    public static final List<PshDataCategory> STORM_DATA_CATEGORIES = Collections
+            .unmodifiableList(Arrays.asList(PshDataCategory.METAR,
+                    PshDataCategory.NON_METAR, PshDataCategory.MARINE,
+                    PshDataCategory.RAINFALL, PshDataCategory.FLOODING,
+                    PshDataCategory.WATER_LEVEL, PshDataCategory.TORNADO,
+                    PshDataCategory.EFFECT));
+
     @DynamicSerializeElement
     @XmlAttribute
     private String basinName;
@@ -456,6 +469,75 @@ public class PshData {
         this.effect = effect;
     }
 
+    /**
+     * Get the storm data of a category.
+     * 
+     * @param category
+     *            one of {@link #STORM_DATA_CATEGORIES}
+     * @return the storm data, null for other categories.
+     */
+    public StormData getStormData(PshDataCategory category) {
+        switch (category) {
+        case METAR:
+            return getMetar();
+        case NON_METAR:
+            return getNonmetar();
+        case MARINE:
+            return getMarine();
+        case RAINFALL:
+            return getRainfall();
+        case FLOODING:
+            return getFlooding();
+        case WATER_LEVEL:
+            return getWaterLevel();
+        case TORNADO:
+            return getTornado();
+        case EFFECT:
+            return getEffect();
+        default:
+            return null;
+        }
+    }
+
+    /**
+     * Set the storm data of a category.
+     * 
+     * @param category
+     *            one of {@link #STORM_DATA_CATEGORIES}
+     * @param data
+     *            storm data of the matching type
+     */
+    public void setStormData(PshDataCategory category, StormData data) {
+        switch (category) {
+        case METAR:
+            setMetar((MetarStormData) data);
+            break;
+        case NON_METAR:
+            setNonmetar((NonMetarStormData) data);
+            break;
+        case MARINE:
+            setMarine((MarineStormData) data);
+            break;
+        case RAINFALL:
+            setRainfall((RainfallStormData) data);
+            break;
+        case FLOODING:
+            setFlooding((FloodingStormData) data);
+            break;
+        case WATER_LEVEL:
+            setWaterLevel((WaterLevelStormData) data);
+            break;
+        case TORNADO:
+            setTornado((TornadoStormData) data);
+            break;
+        case EFFECT:
+            setEffect((EffectStormData) data);
+            break;
+        default:
+            break;
+        }
+    }
+
     /**
      * Update the status, used when a new issue type is selected.
      * 
@@ -1,7 +1,7 @@
 /**
  * This software was developed and / or modified by NOAA/NWS/OCP/ASDT
  */
-package gov.noaa.nws.ocp.viz.psh.ui.generator;
+package gov.noaa.nws.ocp.common.dataplugin.psh;
 
 /**
  * Enum containing the types of storm hazards to be used in the LSR Dialog.
@@ -11,6 +11,8 @@ package gov.noaa.nws.ocp.viz.psh.ui.generator;
  * Date         Ticket#     Engineer    Description
  * ------------ ---------- ----------- --------------------------
  * Aug 11, 2017 #36919     wpaintsil   Initial creation.
+ * Oct 17, 2026            agent       Moved to common so that LSR products
+ *                                     can be parsed in EDEX.
  * 
  * </pre>
  * 
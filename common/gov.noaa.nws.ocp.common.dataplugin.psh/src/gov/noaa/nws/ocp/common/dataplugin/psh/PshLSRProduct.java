@@ -4,6 +4,7 @@
 package gov.noaa.nws.ocp.common.dataplugin.psh;
 
 import java.util.Calendar;
+import java.util.List;
 
 import com.raytheon.uf.common.serialization.annotations.DynamicSerialize;
 import com.raytheon.uf.common.serialization.annotations.DynamicSerializeElement;
@@ -21,6 +22,7 @@ import com.raytheon.uf.common.serialization.annotations.DynamicSerializeElement;
  * Jul 07, 2017 35102      wpaintsil   Initial creation
  * Aug 07, 2017 36369      wpaintsil   Rename to PshLSRProduct.
  * Jan 11, 2018 DCS19326   jwu         Baseline version.
+ * Oct 17, 2026            agent       Add reports parsed in EDEX.
  *
  * </pre>
  *
@@ -43,6 +45,13 @@ public class PshLSRProduct {
     @DynamicSerializeElement
     private String lsrText;
 
+    /**
+     * Reports parsed from the product for the requested PSH tab, in product
+     * order. Null if no tab was requested.
+     */
+    @DynamicSerializeElement
+    private List<PshLSRReport> reports;
+
     /**
      * Constructor.
      */
@@ -87,4 +96,19 @@ public class PshLSRProduct {
         this.lsrText = lsrText;
     }
 
+    /**
+     * @return the reports
+     */
+    public List<PshLSRReport> getReports() {
+        return reports;
+    }
+
+    /**
+     * @param reports
+     *            the reports to set
+     */
+    public void setReports(List<PshLSRReport> reports) {
+        this.reports = reports;
+    }
+
 }
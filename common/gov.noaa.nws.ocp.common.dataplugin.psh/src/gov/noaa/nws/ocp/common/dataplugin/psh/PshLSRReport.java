@@ -0,0 +1,89 @@
+/**
+ * This software was developed and / or modified by NOAA/NWS/OCP/ASDT
+ **/
+package gov.noaa.nws.ocp.common.dataplugin.psh;
+
+import com.raytheon.uf.common.serialization.annotations.DynamicSerialize;
+import com.raytheon.uf.common.serialization.annotations.DynamicSerializeElement;
+
+/**
+ * One report parsed from an LSR product: the LSR event and the storm data
+ * entry built from it for a PSH tab.
+ *
+ * <pre>
+ *
+ * SOFTWARE HISTORY
+ *
+ * Date         Ticket#    Engineer    Description
+ * ------------ ---------- ----------- --------------------------
+ * Oct 17, 2026            agent       Initial creation
+ *
+ * </pre>
+ *
+ * @author agent
+ * @version 1.0
+ */
+@DynamicSerialize
+public class PshLSRReport {
+
+    /**
+     * Event of the report as written in the LSR, e.g. "HEAVY RAIN". For storm
+     * effects, the label of the matching {@link PshLSRHazard}.
+     */
+    @DynamicSerializeElement
+    private String event;
+
+    /**
+     * Storm data entry built from the report.
+     */
+    @DynamicSerializeElement
+    private StormDataEntry entry;
+
+    /**
+     * Constructor.
+     */
+    public PshLSRReport() {
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param event
+     * @param entry
+     */
+    public PshLSRReport(String event, StormDataEntry entry) {
+        this.event = event;
+        this.entry = entry;
+    }
+
+    /**
+     * @return the event
+     */
+    public String getEvent() {
+        return event;
+    }
+
+    /**
+     * @param event
+     *            the event to set
+     */
+    public void setEvent(String event) {
+        this.event = event;
+    }
+
+    /**
+     * @return the entry
+     */
+    public StormDataEntry getEntry() {
+        return entry;
+    }
+
+    /**
+     * @param entry
+     *            the entry to set
+     */
+    public void setEntry(StormDataEntry entry) {
+        this.entry = entry;
+    }
+
+}
@@ -21,6 +21,7 @@ import com.raytheon.uf.common.serialization.annotations.DynamicSerializeElement;
  * ------------ ---------- ----------- --------------------------
  * Oct 12, 2017 #39468     jwu         Initial creation
  * Jan 11, 2018 DCS19326   jwu         Baseline version.
+ * Oct 17, 2026            agent       Add version of the stored data.
  *
  * </pre>
  *
@@ -37,6 +38,14 @@ public abstract class StormData {
     @XmlElement(name = "Remarks")
     protected String remarks;
 
+    /**
+     * Version of the stored data this was retrieved from, checked when the
+     * category is saved. Not part of the XML.
+     */
+    @DynamicSerializeElement
+    @XmlTransient
+    protected int version;
+
     public StormData() {
         this.remarks = NO_REMARKS;
     }
@@ -56,4 +65,19 @@ public abstract class StormData {
         this.remarks = remarks;
     }
 
+    /**
+     * @return the version
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * @param version
+     *            the version to set
+     */
+    public void setVersion(int version) {
+        this.version = version;
+    }
+
 }
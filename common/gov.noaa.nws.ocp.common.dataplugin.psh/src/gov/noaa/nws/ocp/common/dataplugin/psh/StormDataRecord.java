@@ -4,6 +4,8 @@
 package gov.noaa.nws.ocp.common.dataplugin.psh;
 
 import java.util.Calendar;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import javax.persistence.Column;
 import javax.persistence.Entity;
@@ -36,6 +38,9 @@ import com.raytheon.uf.common.time.util.TimeUtil;
  * Jan 05, 2017            jwu         Remove "insertDateTime"
  * Jan 11, 2018 DCS19326   jwu         Baseline version.
  * Mar 06, 2018 47069      wpaintsil   Remove dataURI column.
+ * Oct 17, 2026            agent       Store the header and each category of
+ *                                     storm data as separate versioned
+ *                                     datasets instead of one XML document.
  *
  * </pre>
  *
@@ -56,8 +61,27 @@ public class StormDataRecord extends PersistablePluginDataObject {
 
     public static final String pluginName = "psh";
 
+    /**
+     * Dataset of the whole PshData as XML, written before the data was stored
+     * by category. Only read.
+     */
     public static final String STORMDATA_XML = "StormDataXML";
 
+    /**
+     * Dataset of the PshData header: storm information without storm data.
+     */
+    public static final String STORMDATA_HEADER = "StormDataHeader";
+
+    /**
+     * Dataset of the version of each category, indexed by category code.
+     */
+    public static final String STORMDATA_VERSIONS = "StormDataVersions";
+
+    /**
+     * Prefix of the dataset of each category of storm data.
+     */
+    public static final String STORMDATA_CATEGORY_PREFIX = "StormData";
+
     @DataURI(position = 1)
     @Column(nullable = false)
     @DynamicSerializeElement
@@ -77,9 +101,13 @@ public class StormDataRecord extends PersistablePluginDataObject {
     @Column
     private String forecaster;
 
-    /* serialized PshData Object */
+    /* serialized header and storm data to store, by dataset name */
+    @Transient
+    private Map<String, byte[]> stormData = new LinkedHashMap<>();
+
+    /* versions of the categories to store */
     @Transient
-    private String stormDataXML;
+    private int[] versions;
 
     /**
      * Empty constructor
@@ -163,18 +191,41 @@ public class StormDataRecord extends PersistablePluginDataObject {
     }
 
     /**
-     * @return the stormDataXML
+     * @param category
+     * @return name of the dataset of a category of storm data.
+     */
+    public static String getStormDataName(PshDataCategory category) {
+        return STORMDATA_CATEGORY_PREFIX + category.name();
+    }
+
+    /**
+     * @return the stormData
+     */
+    public Map<String, byte[]> getStormData() {
+        return stormData;
+    }
+
+    /**
+     * @param stormData
+     *            the stormData to set
+     */
+    public void setStormData(Map<String, byte[]> stormData) {
+        this.stormData = stormData;
+    }
+
+    /**
+     * @return the versions
      */
-    public String getStormDataXML() {
-        return stormDataXML;
+    public int[] getVersions() {
+        return versions;
     }
 
     /**
-     * @param stormDataXML
-     *            the stormDataXML to set
+     * @param versions
+     *            the versions to set
      */
-    public void setStormDataXML(String stormDataXML) {
-        this.stormDataXML = stormDataXML;
+    public void setVersions(int[] versions) {
+        this.versions = versions;
     }
 
     /**
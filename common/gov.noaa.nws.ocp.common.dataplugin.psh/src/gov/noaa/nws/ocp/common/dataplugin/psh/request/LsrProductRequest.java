@@ -7,6 +7,8 @@ import com.raytheon.uf.common.serialization.annotations.DynamicSerialize;
 import com.raytheon.uf.common.serialization.annotations.DynamicSerializeElement;
 import com.raytheon.uf.common.serialization.comm.IServerRequest;
 
+import gov.noaa.nws.ocp.common.dataplugin.psh.PshDataCategory;
+
 /**
  * Request for LSR products taken from the textdb.
  * 
@@ -20,6 +22,8 @@ import com.raytheon.uf.common.serialization.comm.IServerRequest;
  * Aug 08, 2017 36369       wpaintsil   Product ID field is unnecessary.
  * Aug 09, 2017 36369       wpaintsil   Add lsrHeader and operational fields.
  * Jan 11, 2018 DCS19326    wpaintsil   Baseline version.
+ * Oct 17, 2026             agent       Add category and mixedCase fields to
+ *                                      get reports parsed in EDEX.
  *
  * </pre>
  *
@@ -35,6 +39,19 @@ public class LsrProductRequest implements IServerRequest {
     @DynamicSerializeElement
     private boolean operational;
 
+    /**
+     * PSH tab to return products and parsed reports for. If null, all
+     * products are returned without reports.
+     */
+    @DynamicSerializeElement
+    private PshDataCategory category;
+
+    /**
+     * True to write report remarks in mixed case.
+     */
+    @DynamicSerializeElement
+    private boolean mixedCase;
+
     /**
      * Empty constructor
      */
@@ -53,6 +70,21 @@ public class LsrProductRequest implements IServerRequest {
         this.operational = operational;
     }
 
+    /**
+     * Constructor
+     * 
+     * @param lsrHeader
+     * @param operational
+     * @param category
+     * @param mixedCase
+     */
+    public LsrProductRequest(String lsrHeader, boolean operational,
+            PshDataCategory category, boolean mixedCase) {
+        this(lsrHeader, operational);
+        this.category = category;
+        this.mixedCase = mixedCase;
+    }
+
     /**
      * @return the lsrHeader
      */
@@ -83,4 +115,34 @@ public class LsrProductRequest implements IServerRequest {
         this.operational = operational;
     }
 
+    /**
+     * @return the category
+     */
+    public PshDataCategory getCategory() {
+        return category;
+    }
+
+    /**
+     * @param category
+     *            the category to set
+     */
+    public void setCategory(PshDataCategory category) {
+        this.category = category;
+    }
+
+    /**
+     * @return the mixedCase
+     */
+    public boolean isMixedCase() {
+        return mixedCase;
+    }
+
+    /**
+     * @param mixedCase
+     *            the mixedCase to set
+     */
+    public void setMixedCase(boolean mixedCase) {
+        this.mixedCase = mixedCase;
+    }
+
 }
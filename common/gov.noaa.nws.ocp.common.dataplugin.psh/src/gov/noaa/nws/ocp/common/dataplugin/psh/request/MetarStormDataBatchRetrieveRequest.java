@@ -0,0 +1,71 @@
+/**
+ * This software was developed and / or modified by NOAA/NWS/OCP/ASDT
+ **/
+package gov.noaa.nws.ocp.common.dataplugin.psh.request;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.raytheon.uf.common.serialization.annotations.DynamicSerialize;
+import com.raytheon.uf.common.serialization.annotations.DynamicSerializeElement;
+import com.raytheon.uf.common.serialization.comm.IServerRequest;
+
+/**
+ * MetarStormDataBatchRetrieveRequest
+ *
+ * Retrieves the METAR storm data of several stations in one request. The
+ * response is a list of MetarDataEntry, in the order of the requests.
+ *
+ * <pre>
+ *
+ * SOFTWARE HISTORY
+ *
+ * Date         Ticket#    Engineer    Description
+ * ------------ ---------- ----------- --------------------------
+ * Oct 17, 2026            agent       Initial creation
+ *
+ * </pre>
+ *
+ * @author agent
+ * @version 1.0
+ */
+@DynamicSerialize
+public class MetarStormDataBatchRetrieveRequest implements IServerRequest {
+
+    @DynamicSerializeElement
+    private List<MetarStormDataRetrieveRequest> requests = new ArrayList<>();
+
+    /**
+     * Empty constructor
+     */
+    public MetarStormDataBatchRetrieveRequest() {
+
+    }
+
+    /**
+     * Constructor
+     *
+     * @param requests
+     *            request of each station
+     */
+    public MetarStormDataBatchRetrieveRequest(
+            List<MetarStormDataRetrieveRequest> requests) {
+        this.requests = requests;
+    }
+
+    /**
+     * @return the requests
+     */
+    public List<MetarStormDataRetrieveRequest> getRequests() {
+        return requests;
+    }
+
+    /**
+     * @param requests
+     *            the requests to set
+     */
+    public void setRequests(List<MetarStormDataRetrieveRequest> requests) {
+        this.requests = requests;
+    }
+
+}
@@ -3,10 +3,13 @@
  **/
 package gov.noaa.nws.ocp.common.dataplugin.psh.request;
 
+import java.util.List;
+
 import com.raytheon.uf.common.serialization.annotations.DynamicSerialize;
 import com.raytheon.uf.common.serialization.annotations.DynamicSerializeElement;
 import com.raytheon.uf.common.serialization.comm.IServerRequest;
 
+import gov.noaa.nws.ocp.common.dataplugin.psh.PshDataCategory;
 import gov.noaa.nws.ocp.common.dataplugin.psh.StormDataRecord;
 
 /**
@@ -21,6 +24,7 @@ import gov.noaa.nws.ocp.common.dataplugin.psh.StormDataRecord;
  * Aug 04, 2017            pwang       Initial creation
  * Aug 10, 2017            pwang       Added getdataURI method
  * Jan 11, 2018 DCS19326   jwu         Baseline version.
+ * Oct 17, 2026            agent       Add the categories to retrieve.
  * </pre>
  *
  * @author pwang
@@ -38,6 +42,13 @@ public class RetrievePSHDataRequest implements IServerRequest {
     @DynamicSerializeElement
     private String stormName;
 
+    /**
+     * Categories of storm data to retrieve with the header. Null to retrieve
+     * all categories.
+     */
+    @DynamicSerializeElement
+    private List<PshDataCategory> categories;
+
     
     /**
      * Empty Constructor
@@ -61,6 +72,21 @@ public class RetrievePSHDataRequest implements IServerRequest {
         this.stormName = stormName;
     }
     
+    /**
+     * Constructor
+     * 
+     * @param basin
+     * @param year
+     * @param stormName
+     * @param categories
+     *            categories to retrieve, null for all categories
+     */
+    public RetrievePSHDataRequest(String basin, int year, String stormName,
+            List<PshDataCategory> categories) {
+        this(basin, year, stormName);
+        this.categories = categories;
+    }
+
     /**
      * getDataURI for retrieving PSH data
      * @return
@@ -124,6 +150,19 @@ public class RetrievePSHDataRequest implements IServerRequest {
         this.stormName = stormName;
     }
 
-}
+    /**
+     * @return the categories
+     */
+    public List<PshDataCategory> getCategories() {
+        return categories;
+    }
 
+    /**
+     * @param categories
+     *            the categories to set
+     */
+    public void setCategories(List<PshDataCategory> categories) {
+        this.categories = categories;
+    }
 
+}
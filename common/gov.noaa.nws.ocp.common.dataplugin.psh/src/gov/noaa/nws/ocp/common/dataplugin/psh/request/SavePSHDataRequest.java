@@ -8,6 +8,7 @@ import com.raytheon.uf.common.serialization.annotations.DynamicSerializeElement;
 import com.raytheon.uf.common.serialization.comm.IServerRequest;
 
 import gov.noaa.nws.ocp.common.dataplugin.psh.PshData;
+import gov.noaa.nws.ocp.common.dataplugin.psh.PshDataCategory;
 
 /**
  * SavePSHDataRequest
@@ -20,6 +21,8 @@ import gov.noaa.nws.ocp.common.dataplugin.psh.PshData;
  * ------------ ---------- ----------- --------------------------
  * Aug 04, 2017            pwang       Initial creation
  * Jan 11, 2018 DCS19326   jwu         Baseline version.
+ * Oct 17, 2026            agent       Add the category to save, overwrite
+ *                                     and header only flags.
  *
  * </pre>
  *
@@ -33,6 +36,26 @@ public class SavePSHDataRequest implements IServerRequest {
     @DynamicSerializeElement
     private PshData pshData;
 
+    /**
+     * Category of storm data to save, with the header. Null to save all
+     * categories.
+     */
+    @DynamicSerializeElement
+    private PshDataCategory category;
+
+    /**
+     * True to save even if the stored data changed since the data was
+     * retrieved.
+     */
+    @DynamicSerializeElement
+    private boolean overwrite;
+
+    /**
+     * True to save only the storm information, without storm data.
+     */
+    @DynamicSerializeElement
+    private boolean headerOnly;
+
     /**
      * Empty constructor
      */
@@ -53,6 +76,18 @@ public class SavePSHDataRequest implements IServerRequest {
         this.pshData = data;
     }
 
+    /**
+     * Constructor
+     * 
+     * @param data
+     * @param category
+     *            category to save, null for all categories
+     */
+    public SavePSHDataRequest(PshData data, PshDataCategory category) {
+        this.pshData = data;
+        this.category = category;
+    }
+
     /**
      * @return the pshData
      */
@@ -68,4 +103,49 @@ public class SavePSHDataRequest implements IServerRequest {
         this.pshData = pshData;
     }
 
+    /**
+     * @return the category
+     */
+    public PshDataCategory getCategory() {
+        return category;
+    }
+
+    /**
+     * @param category
+     *            the category to set
+     */
+    public void setCategory(PshDataCategory category) {
+        this.category = category;
+    }
+
+    /**
+     * @return the overwrite
+     */
+    public boolean isOverwrite() {
+        return overwrite;
+    }
+
+    /**
+     * @param overwrite
+     *            the overwrite to set
+     */
+    public void setOverwrite(boolean overwrite) {
+        this.overwrite = overwrite;
+    }
+
+    /**
+     * @return the headerOnly
+     */
+    public boolean isHeaderOnly() {
+        return headerOnly;
+    }
+
+    /**
+     * @param headerOnly
+     *            the headerOnly to set
+     */
+    public void setHeaderOnly(boolean headerOnly) {
+        this.headerOnly = headerOnly;
+    }
+
 }
@@ -0,0 +1,34 @@
+#!/bin/bash
+# Creates the indexes used by the Climate Creator's FSS report lookups, which
+# select reports by station, report subtype and nominal time, then join their
+# element values by report instance and element. Without them each lookup
+# scans fss_report and the element value tables.
+#
+# The indexes are built CONCURRENTLY, so ingest into the tables can continue
+# while this runs. The script can be run again; existing indexes are kept.
+
+PSQL="/awips2/psql/bin/psql"
+
+echo "INFO: Creating FSS report indexes in the climate database"
+
+for index in \
+    "fss_report_station_subtype_nominal_idx ON fss_report (station_id, report_subtype, nominal_dtime)" \
+    "fss_contin_real_instance_element_idx ON fss_contin_real (fss_rpt_instance, element_id)" \
+    "fss_categ_single_instance_element_idx ON fss_categ_single (fss_rpt_instance, element_id)" \
+    "fss_categ_multi_instance_element_idx ON fss_categ_multi (fss_rpt_instance, element_id)"
+do
+    ${PSQL} -U awips -d climate -q -c "CREATE INDEX CONCURRENTLY IF NOT EXISTS ${index};"
+
+    if [[ $? -ne 0 ]]; then
+        echo "ERROR: Failed to create index ${index}"
+        exit 1
+    fi
+done
+
+${PSQL} -U awips -d climate -q -c "
+ANALYZE fss_report;
+ANALYZE fss_contin_real;
+ANALYZE fss_categ_single;
+ANALYZE fss_categ_multi;"
+
+echo "INFO: Done creating FSS report indexes"
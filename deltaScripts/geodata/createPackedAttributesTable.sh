@@ -0,0 +1,25 @@
+#!/bin/bash
+# Creates the geodata_att_packed table. The table holds the attributes of
+# geodata records decoded with -Dgeodata.attributeStorage=packed, one row per
+# record, so they do not need rows in geodata_att_float, geodata_att_integer
+# or geodata_att_string. It is only read or written in packed mode, so this
+# must be run before enabling packed mode; it is not needed otherwise.
+# Rows are deleted with their geodata record.
+
+PSQL="/awips2/psql/bin/psql"
+
+echo "INFO: Creating geodata_att_packed table"
+
+${PSQL} -U awips -d metadata -q -c "
+CREATE TABLE IF NOT EXISTS geodata_att_packed (
+    geodatarecord_id integer NOT NULL PRIMARY KEY
+        REFERENCES geodata (id) ON DELETE CASCADE,
+    attributes bytea NOT NULL
+);"
+
+if [[ $? -ne 0 ]]; then
+    echo "ERROR: Failed to create geodata_att_packed table"
+    exit 1
+fi
+
+echo "INFO: Done creating geodata_att_packed table"
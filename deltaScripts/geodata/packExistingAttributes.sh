@@ -0,0 +1,81 @@
+#!/bin/bash
+# Converts the attribute rows of existing geodata records into packed
+# attributes, for sites that enable -Dgeodata.attributeStorage=packed and want
+# existing records to stop using geodata_att_float, geodata_att_integer and
+# geodata_att_string as well. Optional: records stored with attribute rows are
+# read as before. Run createPackedAttributesTable.sh first.
+#
+# Each record's Integer, Float and String attributes are encoded as by
+# gov.noaa.nws.obs.common.dataplugin.geodata.PackedAttributes (version 2) into
+# one geodata_att_packed row, and its attribute rows are deleted, in a single
+# transaction. Records with a null attribute name or String value cannot be
+# packed and are left as they are. The script can be run again; records
+# already packed are skipped.
+
+PSQL="/awips2/psql/bin/psql"
+
+echo "INFO: Packing the attributes of existing geodata records"
+
+${PSQL} -U awips -d metadata -q -v ON_ERROR_STOP=1 -c "
+BEGIN;
+
+CREATE TEMP TABLE geodata_att_packed_new ON COMMIT DROP AS
+SELECT r.geodatarecord_id,
+       decode('02', 'hex')
+       || int4send(coalesce(i.n, 0)) || coalesce(i.b, ''::bytea)
+       || int4send(coalesce(f.n, 0)) || coalesce(f.b, ''::bytea)
+       || int4send(coalesce(s.n, 0)) || coalesce(s.b, ''::bytea)
+       AS attributes
+FROM (SELECT geodatarecord_id FROM geodata_att_integer
+      UNION SELECT geodatarecord_id FROM geodata_att_float
+      UNION SELECT geodatarecord_id FROM geodata_att_string) r
+LEFT JOIN (SELECT geodatarecord_id, count(*)::integer AS n,
+                  string_agg(int4send(octet_length(convert_to(name, 'UTF8')))
+                             || convert_to(name, 'UTF8')
+                             || int4send(value), ''::bytea) AS b
+           FROM geodata_att_integer GROUP BY geodatarecord_id) i
+       ON i.geodatarecord_id = r.geodatarecord_id
+LEFT JOIN (SELECT geodatarecord_id, count(*)::integer AS n,
+                  string_agg(int4send(octet_length(convert_to(name, 'UTF8')))
+                             || convert_to(name, 'UTF8')
+                             || float4send(value), ''::bytea) AS b
+           FROM geodata_att_float GROUP BY geodatarecord_id) f
+       ON f.geodatarecord_id = r.geodatarecord_id
+LEFT JOIN (SELECT geodatarecord_id, count(*)::integer AS n,
+                  string_agg(int4send(octet_length(convert_to(name, 'UTF8')))
+                             || convert_to(name, 'UTF8')
+                             || int4send(octet_length(convert_to(value, 'UTF8')))
+                             || convert_to(value, 'UTF8'), ''::bytea) AS b
+           FROM geodata_att_string GROUP BY geodatarecord_id) s
+       ON s.geodatarecord_id = r.geodatarecord_id
+WHERE r.geodatarecord_id IS NOT NULL
+  AND NOT EXISTS (SELECT 1 FROM geodata_att_packed p
+                  WHERE p.geodatarecord_id = r.geodatarecord_id)
+  AND NOT EXISTS (SELECT 1 FROM geodata_att_integer a
+                  WHERE a.geodatarecord_id = r.geodatarecord_id
+                  AND a.name IS NULL)
+  AND NOT EXISTS (SELECT 1 FROM geodata_att_float a
+                  WHERE a.geodatarecord_id = r.geodatarecord_id
+                  AND a.name IS NULL)
+  AND NOT EXISTS (SELECT 1 FROM geodata_att_string a
+                  WHERE a.geodatarecord_id = r.geodatarecord_id
+                  AND (a.name IS NULL OR a.value IS NULL));
+
+INSERT INTO geodata_att_packed (geodatarecord_id, attributes)
+SELECT geodatarecord_id, attributes FROM geodata_att_packed_new;
+
+DELETE FROM geodata_att_integer a USING geodata_att_packed_new n
+WHERE a.geodatarecord_id = n.geodatarecord_id;
+DELETE FROM geodata_att_float a USING geodata_att_packed_new n
+WHERE a.geodatarecord_id = n.geodatarecord_id;
+DELETE FROM geodata_att_string a USING geodata_att_packed_new n
+WHERE a.geodatarecord_id = n.geodatarecord_id;
+
+COMMIT;"
+
+if [[ $? -ne 0 ]]; then
+    echo "ERROR: Failed to pack the attributes of existing geodata records"
+    exit 1
+fi
+
+echo "INFO: Done packing the attributes of existing geodata records"
@@ -1,15 +1,20 @@
 package gov.noaa.nws.crh.edex.grib.decoderpostprocessor;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 
 import com.raytheon.edex.plugin.grib.exception.GribException;
 import com.raytheon.uf.common.dataplugin.PluginException;
 import com.raytheon.uf.common.dataplugin.grid.GridConstants;
 import com.raytheon.uf.common.dataplugin.grid.GridRecord;
-import com.raytheon.uf.common.dataquery.db.QueryParam.QueryOperand;
 import com.raytheon.uf.edex.database.DataAccessLayerException;
 import com.raytheon.uf.edex.database.query.DatabaseQuery;
 import com.raytheon.uf.edex.plugin.grid.dao.GridDao;
@@ -26,6 +31,14 @@ import com.raytheon.uf.edex.plugin.grid.dao.GridDao;
  * Date          Ticket#  Engineer    Description
  * ------------- -------- ----------- --------------------------
  * Sep 05, 2014           M. Foster   Initial Creation
+ * Oct 17, 2026           agent       Keep the precip inventory of recent
+ *                                    cycles and recent accumulation grids in
+ *                                    memory, difference large grids in
+ *                                    parallel.
+ * Oct 17, 2026           agent       Add processed grids to the inventory and
+ *                                    grid cache once they are found stored.
+ *                                    Difference grids in one loop. Key
+ *                                    cached grids by level.
  * 
  *
  * </pre>
@@ -36,13 +49,58 @@ import com.raytheon.uf.edex.plugin.grid.dao.GridDao;
 
 public class NamNestPostProcessor extends OneHrPrecipGridProcessor {
 
+    private static final String TP1HR = "TP1hr";
+
+    private static final String TP2HR = "TP2hr";
+
+    private static final String TP3HR = "TP3hr";
+
+    /** Number of model cycles to keep the precip inventory of */
+    private static final int INVENTORY_CYCLES = Integer
+            .getInteger("namnest.precip.inventoryCycles", 8);
+
+    /** Number of recent accumulation grids to keep the data of */
+    private static final int CACHED_GRIDS = Integer
+            .getInteger("namnest.precip.cachedGrids", 6);
+
+    /** HDF5 data level of the full resolution grid */
+    private static final int FULL_RESOLUTION_LEVEL = 0;
+
+    /** Precip inventory by datasetid and refTime */
+    private static final Map<String, CycleInventory> inventories = Collections
+            .synchronizedMap(new LruMap<String, CycleInventory>(
+                    INVENTORY_CYCLES));
+
+    /**
+     * Data of recent stored accumulation grids, by
+     * {@link #getGridKey(GridRecord, int)}
+     */
+    private static final Map<String, float[]> cachedGrids = Collections
+            .synchronizedMap(new LruMap<String, float[]>(CACHED_GRIDS));
+
+    /**
+     * Data of recent processed accumulation grids that have not been found
+     * stored yet, by {@link #getGridKey(GridRecord, int)}
+     */
+    private static final Map<String, float[]> pendingGrids = Collections
+            .synchronizedMap(new LruMap<String, float[]>(CACHED_GRIDS));
+
     @Override
     public GridRecord[] process(GridRecord record) throws GribException {
         // Post process the data if this is a Total Precipitation grid
-        if (record.getParameter().getAbbreviation().equals("TP2hr") ||
-        	record.getParameter().getAbbreviation().equals("TP3hr")) {
+        if (record.getParameter().getAbbreviation().equals(TP2HR) ||
+        	record.getParameter().getAbbreviation().equals(TP3HR)) {
             return super.process(record);
         }
+        if (record.getParameter().getAbbreviation().equals(TP1HR)) {
+            // Model 1hr grids are the previous grids of the 2hr grids
+            CycleInventory inventory = getCycleInventory(record.getDatasetId(),
+                    record.getDataTime().getRefTime());
+            synchronized (inventory) {
+                inventory.addPending(record);
+            }
+            cacheData(record);
+        }
         return new GridRecord[] { record };
     }
 
@@ -81,38 +139,6 @@ public class NamNestPostProcessor extends OneHrPrecipGridProcessor {
         }
     }
 
-    /**
-     *
-     * @param refTime
-     *            The reftime (cycle time) of the model being worked on
-     * @return List of Integer of the fcstTimes of the current 1hr precip
-     *            inventory
-     * @throws GribException
-     */
-    @SuppressWarnings("unchecked")
-    protected HashSet<Integer> getPrecip1hrInventory(String datasetId, Date refTime)
-    		throws GribException {
-        GridDao dao = null;
-        try {
-            dao = new GridDao();
-        } catch (PluginException e) {
-            throw new GribException("Error instantiating grib dao!", e);
-        }
-        DatabaseQuery query = new DatabaseQuery(GridRecord.class);
-        query.addQueryParam(GridConstants.PARAMETER_ABBREVIATION, "TP1hr");
-        query.addQueryParam(GridConstants.DATASET_ID, datasetId, 
-        		QueryOperand.EQUALS);
-        query.addQueryParam("dataTime.refTime", refTime);
-        query.addReturnedField("dataTime.fcstTime");
-        query.setDistinct(true);
-        try {
-            return new HashSet<Integer>((List<Integer>) dao.queryByCriteria(query));
-        } catch (DataAccessLayerException e) {
-            throw new GribException(
-                    "Error getting Precip inventory for NAMNest!", e);
-        }
-    }
-
     /**
      * Generates the 1 hour accumulated grid from the run accumulated
      * precipitation grids. This function will look in the inventory and
@@ -127,67 +153,143 @@ public class NamNestPostProcessor extends OneHrPrecipGridProcessor {
     protected synchronized GridRecord[] generate1hrPrecipGrids(GridRecord record)
             throws GribException {
 
-    	List<GridRecord> currInventory;
-    	List<GridRecord> prevInventory;
-    	HashSet<Integer> precip1hrInventory;
-    	
-    	if (record.getParameter().getAbbreviation().equals("TP3hr")) {
-    		// Get an inventory of TP3hr grids
-    		currInventory = getPrecipInventory(record.getDatasetId(), "TP3hr",
-        			record.getDataTime().getRefTime());
-        	
-        	// Get an inventory of TP2hr grids
-        	prevInventory = getPrecipInventory(record.getDatasetId(), "TP2hr", 
-        			record.getDataTime().getRefTime());
-        	
-        	// The current 1hr precip inventory
-        	precip1hrInventory = getPrecip1hrInventory(record.getDatasetId(),
-        			record.getDataTime().getRefTime());
-        	
-    	} else if (record.getParameter().getAbbreviation().equals("TP2hr")) {
-    		// Get an inventory of TP2hr grids
-        	currInventory = getPrecipInventory(record.getDatasetId(), "TP2hr",
-        			record.getDataTime().getRefTime());
-        	// Get an inventory of TP1hr grids
-        	prevInventory = getPrecipInventory(record.getDatasetId(), "TP1hr", 
-        			record.getDataTime().getRefTime());
-        	
-        	precip1hrInventory = new HashSet<Integer>();
-        	for (GridRecord rec : prevInventory) {
-        		precip1hrInventory.add(rec.getDataTime().getFcstTime());
-        	}
-    	} else {
-    		throw new GribException("Didn't get TP3hr or TP2hr grid");
-    	}
-
-        // Adds the current record to the precip inventory
-        float[] currentData = (float[]) record.getMessageData();
-        record.setMessageData(currentData);
-        currInventory.add(record);
-
-        // Examine each grid in the inventory and generate the 1hr precipitation
-        // grid if possible
+        String parm = record.getParameter().getAbbreviation();
+        String prevParm;
+        if (TP3HR.equals(parm)) {
+            prevParm = TP2HR;
+        } else if (TP2HR.equals(parm)) {
+            prevParm = TP1HR;
+        } else {
+            throw new GribException("Didn't get TP3hr or TP2hr grid");
+        }
+
+        CycleInventory inventory = getCycleInventory(record.getDatasetId(),
+                record.getDataTime().getRefTime());
         List<GridRecord> generatedRecords = new ArrayList<GridRecord>();
-        for (GridRecord currRecord : currInventory) {
-        	// Check if the 1hr precipitation grid has already been produced
-        	if (! precip1hrInventory.contains(currRecord.getDataTime()
-        			.getFcstTime())) {
-        		List<GridRecord> generated1hrPrecips = generate1hrPrecip(
-        				currRecord, prevInventory);
-        		for (GridRecord newRecord : generated1hrPrecips) {
-        			// Add the generated grid to the current inventory
-        			if (newRecord != null) {
-        				precip1hrInventory.add(newRecord.getDataTime()
-        						.getFcstTime());
-        				generatedRecords.add(newRecord);
-        			}
-        		}
-        	}
+        synchronized (inventory) {
+            List<GridRecord> currInventory = inventory.getRecords(this, parm);
+            List<GridRecord> prevInventory = inventory.getRecords(this,
+                    prevParm);
+            Set<Integer> precip1hrInventory = inventory.getFcstTimes(this,
+                    TP1HR);
+
+            // Adds the current record to the precip inventory, replacing
+            // the stored record of the same time if it is being reprocessed
+            int fcstTime = record.getDataTime().getFcstTime();
+            for (int i = 0; i < currInventory.size(); i++) {
+                if (currInventory.get(i).getDataTime()
+                        .getFcstTime() == fcstTime) {
+                    currInventory.remove(i);
+                    break;
+                }
+            }
+            currInventory.add(record);
+            inventory.addPending(record);
+            cacheData(record);
+
+            // Examine each grid in the inventory and generate the 1hr
+            // precipitation grid if possible
+            for (GridRecord currRecord : currInventory) {
+                // Check if the 1hr precipitation grid has already been
+                // produced
+                if (!precip1hrInventory
+                        .contains(currRecord.getDataTime().getFcstTime())) {
+                    List<GridRecord> generated1hrPrecips = generate1hrPrecip(
+                            currRecord, prevInventory);
+                    for (GridRecord newRecord : generated1hrPrecips) {
+                        // Add the generated grid to the current inventory
+                        if (newRecord != null) {
+                            precip1hrInventory.add(
+                                    newRecord.getDataTime().getFcstTime());
+                            inventory.addPending(newRecord);
+                            generatedRecords.add(newRecord);
+                        }
+                    }
+                }
+            }
         }
 
         return generatedRecords.toArray(new GridRecord[] {});
     }
 
+    /**
+     * Reads the data of a stored grid, from the recent accumulation grids if
+     * it is there.
+     */
+    @Override
+    protected float[] retrieveData(GridRecord record, int level)
+            throws GribException {
+        String key = getGridKey(record, level);
+        float[] data = cachedGrids.get(key);
+        if (data == null) {
+            data = super.retrieveData(record, level);
+            cachedGrids.put(key, data);
+        }
+        return data;
+    }
+
+    /**
+     * Keeps a copy of the data of an accumulation grid being processed, as it
+     * is the previous grid of the next accumulation. The copy is used once the
+     * grid is found stored.
+     *
+     * @param record
+     *            The record being processed
+     */
+    private void cacheData(GridRecord record) {
+        if (record.getMessageData() instanceof float[]) {
+            pendingGrids.put(getGridKey(record, FULL_RESOLUTION_LEVEL),
+                    ((float[]) record.getMessageData()).clone());
+        }
+    }
+
+    /**
+     * Moves the data of a processed grid that has been found stored to the
+     * recent accumulation grids.
+     *
+     * @param record
+     *            The stored record
+     */
+    private static void confirmData(GridRecord record) {
+        String key = getGridKey(record, FULL_RESOLUTION_LEVEL);
+        float[] data = pendingGrids.remove(key);
+        if (data != null) {
+            cachedGrids.put(key, data);
+        }
+    }
+
+    /**
+     * @param record
+     * @param level
+     *            The HDF5 data level
+     * @return The key of a grid in the recent accumulation grids
+     */
+    private static String getGridKey(GridRecord record, int level) {
+        return record.getDatasetId() + ':'
+                + record.getParameter().getAbbreviation() + ':'
+                + record.getDataTime().getRefTime().getTime() + ':'
+                + record.getDataTime().getFcstTime() + ':' + level;
+    }
+
+    /**
+     * @param datasetId
+     *            The datasetid of the model being worked on
+     * @param refTime
+     *            The refTime (cycle time) of the model
+     * @return The precip inventory of the model cycle
+     */
+    private CycleInventory getCycleInventory(String datasetId, Date refTime) {
+        String key = datasetId + ':' + refTime.getTime();
+        synchronized (inventories) {
+            CycleInventory inventory = inventories.get(key);
+            if (inventory == null) {
+                inventory = new CycleInventory(datasetId, refTime);
+                inventories.put(key, inventory);
+            }
+            return inventory;
+        }
+    }
+
 	/**
      * Calculates the new data by subtracting the previous inventory data from
      * the current data
@@ -198,11 +300,134 @@ public class NamNestPostProcessor extends OneHrPrecipGridProcessor {
      *            The data from the current precipitation record
      */
     protected void calculatePrecipValues(float[] inventoryData, float[] newData) {
+        // a plain counted loop, so it can be vectorized
         for (int i = 0; i < inventoryData.length; i++) {
-            newData[i] = newData[i] - inventoryData[i];
-            if (newData[i] < 0) {
-                newData[i] = 0;
+            float value = newData[i] - inventoryData[i];
+            newData[i] = value < 0 ? 0 : value;
+        }
+    }
+
+    /**
+     * Precip inventory of one model cycle. Each parameter is queried from the
+     * database the first time it is needed. Grids processed or generated for
+     * the cycle are kept as pending until a query finds them stored, so a grid
+     * that fails to store is not taken as the previous grid, and its 1-hr grid
+     * is generated again. Records are kept without their data.
+     */
+    private static class CycleInventory {
+
+        private final String datasetId;
+
+        private final Date refTime;
+
+        /** Stored records by parameter and fcstTime */
+        private final Map<String, Map<Integer, GridRecord>> records = new HashMap<>();
+
+        /** Records not found stored yet, by parameter and fcstTime */
+        private final Map<String, Map<Integer, GridRecord>> pending = new HashMap<>();
+
+        /** Parameters that have been queried from the database */
+        private final Set<String> queried = new HashSet<>();
+
+        public CycleInventory(String datasetId, Date refTime) {
+            this.datasetId = datasetId;
+            this.refTime = refTime;
+        }
+
+        /**
+         * @param processor
+         *            The processor to query the database with
+         * @param parm
+         *            The parameter (e.g. TP3hr)
+         * @return A new List of the stored records of the parameter
+         * @throws GribException
+         */
+        public List<GridRecord> getRecords(NamNestPostProcessor processor,
+                String parm) throws GribException {
+            return new ArrayList<>(getRecordMap(processor, parm).values());
+        }
+
+        /**
+         * @param processor
+         *            The processor to query the database with
+         * @param parm
+         *            The parameter (e.g. TP1hr)
+         * @return A new Set of the fcstTimes of the stored records of the
+         *         parameter
+         * @throws GribException
+         */
+        public Set<Integer> getFcstTimes(NamNestPostProcessor processor,
+                String parm) throws GribException {
+            return new HashSet<>(getRecordMap(processor, parm).keySet());
+        }
+
+        /**
+         * Adds a record that was processed or generated for this cycle, to be
+         * used once it is found stored.
+         *
+         * @param record
+         */
+        public void addPending(GridRecord record) {
+            GridRecord inventoryRecord = new GridRecord(record);
+            inventoryRecord.setMessageData(null);
+            getParmRecords(pending, record.getParameter().getAbbreviation())
+                    .put(record.getDataTime().getFcstTime(), inventoryRecord);
+        }
+
+        /**
+         * Queries the parameter the first time it is needed, and again while
+         * any of its processed records have not been found stored.
+         */
+        private Map<Integer, GridRecord> getRecordMap(
+                NamNestPostProcessor processor, String parm)
+                throws GribException {
+            Map<Integer, GridRecord> parmRecords = getParmRecords(records,
+                    parm);
+            Map<Integer, GridRecord> parmPending = getParmRecords(pending,
+                    parm);
+            if (queried.add(parm) || !parmPending.isEmpty()) {
+                for (GridRecord rec : processor.getPrecipInventory(datasetId,
+                        parm, refTime)) {
+                    Integer fcstTime = rec.getDataTime().getFcstTime();
+                    parmRecords.put(fcstTime, rec);
+                    if (parmPending.remove(fcstTime) != null) {
+                        confirmData(rec);
+                    }
+                }
             }
+            return parmRecords;
+        }
+
+        private static Map<Integer, GridRecord> getParmRecords(
+                Map<String, Map<Integer, GridRecord>> recordsByParm,
+                String parm) {
+            Map<Integer, GridRecord> parmRecords = recordsByParm.get(parm);
+            if (parmRecords == null) {
+                /* ordered by fcstTime, as the database query is */
+                parmRecords = new TreeMap<>();
+                recordsByParm.put(parm, parmRecords);
+            }
+            return parmRecords;
+        }
+    }
+
+    /**
+     * Map of the least recently used entries, up to a maximum size.
+     */
+    private static final class LruMap<K, V> extends LinkedHashMap<K, V> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int maxSize;
+
+        private LruMap(int maxSize) {
+            super(16, 0.75f, true);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+            return size() > maxSize;
         }
     }
 }
@@ -25,6 +25,9 @@ import com.raytheon.uf.edex.plugin.grid.dao.GridDao;
  * ------------- -------- ------------- --------------------------
  * Sep 05, 2014           M. Foster     Initial creation
  * Oct 07, 2015  3756     nabowle       Extends DecoderPostProcessor.
+ * Oct 17, 2026           agent         Read grids through retrieveData() with
+ *                                       one GridDao, without keeping the data
+ *                                       on inventory records.
  * 
  * </pre>
  * 
@@ -37,6 +40,8 @@ public abstract class OneHrPrecipGridProcessor extends DecoderPostProcessor {
     /** The number of seconds in 1 hour */
     protected static final int SECONDS_IN_1_HR = 3600;
 
+    private GridDao dao;
+
     public GridRecord[] process(GridRecord record) throws GribException {
 
         // Post process the data if this is a 2hr or 3hr precip accumulation
@@ -97,21 +102,13 @@ public abstract class OneHrPrecipGridProcessor extends DecoderPostProcessor {
         // recognize it as a new record
         GridRecord tp1hrRecord = new GridRecord(currentRecord);
         tp1hrRecord.setId(0);
-        if (currentRecord.getMessageData() == null) {
-            GridDao dao = null;
-            try {
-                dao = new GridDao();
-                currentRecord.setMessageData(((FloatDataRecord) dao
-                        .getHDF5Data(currentRecord, -1)[0]).getFloatData());
-            } catch (PluginException e) {
-                throw new GribException("Error populating grib data!", e);
-            }
+        float[] currentData = (float[]) currentRecord.getMessageData();
+        if (currentData == null) {
+            currentData = retrieveData(currentRecord, -1);
         }
 
         // Copy the data to the new record so the data from the original record
         // does not get modified
-        float[] currentData = (float[]) currentRecord.getMessageData();
-        currentRecord.setMessageData(currentData);
         float[] newData = new float[currentData.length];
         System.arraycopy(currentData, 0, newData, 0, currentData.length);
         tp1hrRecord.setMessageData(newData);
@@ -127,23 +124,39 @@ public abstract class OneHrPrecipGridProcessor extends DecoderPostProcessor {
 
         // Calculate the new data values
         if (inventoryRecord != null) {
-            if (inventoryRecord.getMessageData() == null) {
-                GridDao dao = null;
-                try {
-                    dao = new GridDao();
-                    inventoryRecord
-                            .setMessageData(((FloatDataRecord) dao.getHDF5Data(
-                                    inventoryRecord, 0)[0]).getFloatData());
-                } catch (PluginException e) {
-                    throw new GribException("Error populating grib data!", e);
-                }
+            float[] inventoryData = (float[]) inventoryRecord.getMessageData();
+            if (inventoryData == null) {
+                inventoryData = retrieveData(inventoryRecord, 0);
             }
-            calculatePrecipValues((float[]) inventoryRecord.getMessageData(),
-                    (float[]) tp1hrRecord.getMessageData());
+            calculatePrecipValues(inventoryData, newData);
         }
         return tp1hrRecord;
     }
 
+    /**
+     * Reads the data of a stored grid. The data is not set on the record, so
+     * records kept in an inventory do not hold on to it.
+     *
+     * @param record
+     *            The stored grid record
+     * @param level
+     *            The HDF5 data level to read
+     * @return The grid data, not to be modified
+     * @throws GribException
+     */
+    protected float[] retrieveData(GridRecord record, int level)
+            throws GribException {
+        try {
+            if (dao == null) {
+                dao = new GridDao();
+            }
+            return ((FloatDataRecord) dao.getHDF5Data(record, level)[0])
+                    .getFloatData();
+        } catch (PluginException e) {
+            throw new GribException("Error populating grib data!", e);
+        }
+    }
+
     /**
      * Calculates the new data by subtracting the previous inventory data from
      * the current data
@@ -0,0 +1,136 @@
+package gov.noaa.nws.obs.edex.plugin.geodata.dao;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.raytheon.uf.common.dataplugin.PluginDataObject;
+import com.raytheon.uf.common.dataplugin.PluginException;
+import com.raytheon.uf.common.dataplugin.persist.IPersistable;
+import com.raytheon.uf.common.datastorage.IDataStore;
+import com.raytheon.uf.edex.database.plugin.PluginDao;
+
+import gov.noaa.nws.obs.common.dataplugin.geodata.GeoDataRecord;
+
+/**
+ * GeoDataDao
+ *
+ * Data access object for GeoDataRecord(s). Records decoded with packed
+ * attributes (see {@link GeoDataRecord#packAttributes()}) have their
+ * attributes stored in the geodata_att_packed table, which is created by
+ * deltaScripts/geodata/createPackedAttributesTable.sh. The table is not
+ * mapped by Hibernate and the geodata table is unchanged, so nothing reads or
+ * writes it unless packed attribute storage is enabled.
+ *
+ * <pre>
+ *
+ * SOFTWARE HISTORY
+ *
+ * Date         Ticket#    Engineer    Description
+ * ------------ ---------- ----------- --------------------------
+ * 10/17/2026                agent     Initial creation
+ *
+ * </pre>
+ *
+ * @author agent
+ * @version 1.0
+ */
+public class GeoDataDao extends PluginDao {
+
+    /* Table holding the packed attributes of each record. */
+    public static final String PACKED_ATTRIBUTES_TABLE = "geodata_att_packed";
+
+    /* Number of rows inserted or selected by one statement. */
+    private static final int STATEMENT_ROWS = 500;
+
+    /**
+     * Constructor
+     *
+     * @param pluginName
+     *            Name of the plugin.
+     * @throws PluginException
+     */
+    public GeoDataDao(String pluginName) throws PluginException {
+        super(pluginName);
+    }
+
+    @Override
+    protected IDataStore populateDataStore(IDataStore dataStore,
+            IPersistable obj) throws Exception {
+        return dataStore;
+    }
+
+    /**
+     * Persist the records, then the packed attributes of the records that
+     * were persisted.
+     */
+    @Override
+    public PluginDataObject[] persistToDatabase(PluginDataObject... records) {
+        PluginDataObject[] persisted = super.persistToDatabase(records);
+
+        List<GeoDataRecord> packed = new ArrayList<>();
+        for (PluginDataObject pdo : persisted) {
+            if (pdo instanceof GeoDataRecord
+                    && ((GeoDataRecord) pdo).getPackedAttributes() != null) {
+                packed.add((GeoDataRecord) pdo);
+            }
+        }
+
+        for (int start = 0; start < packed.size(); start += STATEMENT_ROWS) {
+            List<GeoDataRecord> rows = packed.subList(start,
+                    Math.min(start + STATEMENT_ROWS, packed.size()));
+            StringBuilder insert = new StringBuilder("INSERT INTO ")
+                    .append(PACKED_ATTRIBUTES_TABLE)
+                    .append(" (geodatarecord_id, attributes) VALUES ");
+            Map<String, Object> paramMap = new HashMap<>(rows.size() * 2);
+            for (int i = 0; i < rows.size(); i++) {
+                if (i > 0) {
+                    insert.append(", ");
+                }
+                insert.append("(:id").append(i).append(", :attributes")
+                        .append(i).append(")");
+                paramMap.put("id" + i, rows.get(i).getId());
+                paramMap.put("attributes" + i,
+                        rows.get(i).getPackedAttributes());
+            }
+            executeSQLUpdate(insert.toString(), paramMap);
+        }
+
+        return persisted;
+    }
+
+    /**
+     * Retrieve packed attributes.
+     *
+     * @param recordIds
+     *            Ids of the GeoDataRecord(s).
+     * @return The packed attributes of each record that has them, by record
+     *         id.
+     */
+    public Map<Integer, byte[]> getPackedAttributes(int[] recordIds) {
+        Map<Integer, byte[]> packed = new HashMap<>(recordIds.length);
+        for (int start = 0; start < recordIds.length; start += STATEMENT_ROWS) {
+            int end = Math.min(start + STATEMENT_ROWS, recordIds.length);
+            StringBuilder query = new StringBuilder(
+                    "SELECT geodatarecord_id, attributes FROM ")
+                            .append(PACKED_ATTRIBUTES_TABLE)
+                            .append(" WHERE geodatarecord_id IN (");
+            for (int i = start; i < end; i++) {
+                if (i > start) {
+                    query.append(", ");
+                }
+                /* Ids are ints, so they are safe to write as literals. */
+                query.append(recordIds[i]);
+            }
+            query.append(")");
+
+            for (Object result : executeSQLQuery(query.toString())) {
+                Object[] row = (Object[]) result;
+                packed.put(((Number) row[0]).intValue(), (byte[]) row[1]);
+            }
+        }
+        return packed;
+    }
+
+}
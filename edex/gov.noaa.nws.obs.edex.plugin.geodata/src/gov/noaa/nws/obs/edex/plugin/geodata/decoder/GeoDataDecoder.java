@@ -7,11 +7,18 @@ import java.text.DateFormat;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
 
 import javax.xml.bind.JAXB;
 
@@ -59,6 +66,11 @@ import ucar.nc2.Variable;
  * Date         Ticket#    Engineer    Description
  * ------------ ---------- ----------- --------------------------
  * 08/20/2016    19064      mcomerford  Initial creation (DCS 19064)
+ * 10/17/2026                 agent      Pack record attributes when
+ *                                        geodata.attributeStorage=packed
+ * 10/17/2026                 agent      Only process descriptions whose
+ *                                        variables are in the file, read each
+ *                                        variable of a file once
  *
  * </pre>
  *
@@ -89,6 +101,32 @@ public class GeoDataDecoder {
     /* The ProductDescriptions that will be loaded from descriptions files. */
     private ProductDescriptions descriptions;
 
+    /*
+     * The NetCDF Variables each ProductDescription cannot generate
+     * GeoDataRecords without.
+     */
+    private Map<ProductDescription, Set<String>> requiredVariables = new HashMap<>();
+
+    /* Number of file signatures to keep the candidate descriptions of. */
+    private static final int SIGNATURE_CACHE_SIZE = 32;
+
+    /*
+     * The ProductDescriptions whose required Variables are all present, by
+     * file signature (the names of the Variables in the file).
+     */
+    private final Map<String, List<ProductDescription>> candidateDescriptions = Collections
+            .synchronizedMap(new LinkedHashMap<String, List<ProductDescription>>(
+                    16, 0.75f, true) {
+
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(
+                        Map.Entry<String, List<ProductDescription>> eldest) {
+                    return size() > SIGNATURE_CACHE_SIZE;
+                }
+            });
+
     /*
      * Generic exception message for an array-retrieval error (mismatch in
      * indices, etc.) for a given GeoDataRecord. Used when debugging a given
@@ -96,6 +134,16 @@ public class GeoDataDecoder {
      */
     private static final String ARRAY_RETRIEVAL_ERROR = "Could not retrieve the next value in the \"%s\" array.";
 
+    /*
+     * Whether the attributes of each GeoDataRecord are packed into a single
+     * row of the geodata_att_packed table ("packed"), rather than stored as
+     * one row per attribute ("rows", the default). The table is only used in
+     * packed mode; deltaScripts/geodata/createPackedAttributesTable.sh must be
+     * run before enabling it.
+     */
+    private static final boolean PACK_ATTRIBUTES = "packed".equalsIgnoreCase(
+            System.getProperty("geodata.attributeStorage", "rows"));
+
     /**
      * Open a NetCDF file and loop through the list of ProductDescription(s) in
      * order to generate GeoDataRecord(s)
@@ -115,14 +163,22 @@ public class GeoDataDecoder {
 
         NetcdfFile dataFile = NetcdfFile.open(file.getAbsolutePath());
 
+        /*
+         * The Arrays of the Variables read for any description of this file,
+         * so each Variable is only read once.
+         */
+        Map<String, Array> variableCache = new HashMap<>();
+
         /*
          * Decode the file open the file parse through to set GeoDataRecords
          * need to collect attribute/variable/value definitions product
          * descriptions?
          */
-        for (ProductDescription description : descriptions.getDescriptions()) {
+        for (ProductDescription description : getCandidateDescriptions(
+                dataFile)) {
             try {
-                processDescription(description, dataFile, records);
+                processDescription(description, dataFile, records,
+                        variableCache);
                 descMatch++;
             } catch (Exception e) {
                 if (description.isDebug()) {
@@ -160,11 +216,14 @@ public class GeoDataDecoder {
      * @param records
      *            The list that will be populated with each generated
      *            GeoDataRecord.
+     * @param variableCache
+     *            The Arrays of the Variables already read from the file.
      * @throws Exception
      * @throws IOException
      */
     private void processDescription(ProductDescription description,
-            NetcdfFile dataFile, List<GeoDataRecord> records)
+            NetcdfFile dataFile, List<GeoDataRecord> records,
+            Map<String, Array> variableCache)
                     throws InvalidDescriptionException, IOException {
 
         /*
@@ -201,8 +260,8 @@ public class GeoDataDecoder {
                                     + dataFile.getTitle());
                 }
                 if (!geomAtts.contains(newDesc)) {
-                    newDesc.setArray(
-                            dataFile.findVariable(desc.getName()).read());
+                    newDesc.setArray(readVariable(descVar, desc.getName(),
+                            variableCache));
                     geomDimensionArrays.add(newDesc.getArray());
                     geomAtts.add(newDesc);
                 }
@@ -229,7 +288,8 @@ public class GeoDataDecoder {
          */
         int epochOffsetVal = 0;
         VariableDescriptor epochOffsetVar = processDelegate(
-                description.getDataTime().getRefTime().getDelegate(), dataFile);
+                description.getDataTime().getRefTime().getDelegate(), dataFile,
+                variableCache);
         if (epochOffsetVar == null) {
             if (description.getDataTime()
                     .getRefTime() instanceof EpochOffsetDateValue) {
@@ -247,7 +307,8 @@ public class GeoDataDecoder {
          */
         int geomOffsetVal = 0;
         VariableDescriptor geomOffsetVar = processDelegate(
-                description.getGeomOffset().getDelegate(), dataFile);
+                description.getGeomOffset().getDelegate(), dataFile,
+                variableCache);
         if (geomOffsetVar == null) {
             geomOffsetVal = description.getGeomOffset().getDelegate()
                     .getNumber(dataFile).intValue();
@@ -258,7 +319,8 @@ public class GeoDataDecoder {
         /* Determine Geometry Types. */
         int geomTypeVal = -1;
         VariableDescriptor geomTypeVar = processDelegate(
-                description.getGeomType().getDelegate(), dataFile);
+                description.getGeomType().getDelegate(), dataFile,
+                variableCache);
         if (geomTypeVar == null) {
             geomTypeVal = description.getGeomType().getDelegate()
                     .getNumber(dataFile).intValue();
@@ -269,7 +331,8 @@ public class GeoDataDecoder {
         /* Determine number of lat/lon pairs per Geometry */
         int geomNelsVal = 0;
         VariableDescriptor geomNelsVar = processDelegate(
-                description.getGeomNels().getDelegate(), dataFile);
+                description.getGeomNels().getDelegate(), dataFile,
+                variableCache);
         if (geomNelsVar == null) {
             geomNelsVal = description.getGeomNels().getDelegate()
                     .getNumber(dataFile).intValue();
@@ -309,8 +372,10 @@ public class GeoDataDecoder {
         VariableDescriptor lonVar = new VariableDescriptor(lon,
                 description.getLon().getName());
 
-            latVar.setArray(lat.read());
-            lonVar.setArray(lon.read());
+        latVar.setArray(readVariable(lat, description.getLat().getName(),
+                variableCache));
+        lonVar.setArray(readVariable(lon, description.getLon().getName(),
+                variableCache));
 
         if (latVar.getArray().getSize() != lonVar.getArray().getSize()) {
             throw new InvalidDescriptionException(
@@ -505,7 +570,8 @@ public class GeoDataDecoder {
             VariableDescriptor latVar, VariableDescriptor lonVar) {
 
         int endIndex = startIndex + numElements - 1;
-        List<Coordinate> geomCoords = new ArrayList<>();
+        /* Room to close a ring. */
+        List<Coordinate> geomCoords = new ArrayList<>(numElements + 1);
         for (int i = startIndex; i <= endIndex; i++) {
             float lat = calcScaledCoord(latVar, i);
             float lon = calcScaledCoord(lonVar, i);
@@ -600,6 +666,33 @@ public class GeoDataDecoder {
     public VariableDescriptor processDelegate(IFieldDescription delegate,
             NetcdfFile dataFile)
                     throws InvalidDescriptionException, IOException {
+        return processDelegate(delegate, dataFile,
+                new HashMap<String, Array>());
+    }
+
+    /**
+     * Populate a VariableDescriptor from a given IFieldDescription (if it
+     * references a NetCDF Array), reading the Variable only if it has not
+     * already been read from the file.
+     *
+     * @param delegate
+     *            The IFieldDescription to check against.
+     * @param dataFile
+     *            The NetCDF file containing the ProductDescriptions
+     *            Variable/Attribute/Value.
+     * @param variableCache
+     *            The Arrays of the Variables already read from the file.
+     * @return The VariableDescriptor instance populated from the
+     *         IFieldDescription
+     * @throws InvalidDescriptionException
+     *             If there is an error retrieving the default value from the
+     *             NetCDF File.
+     * @throws IOException
+     *             If there is an error reading the Variable into an array.
+     */
+    private VariableDescriptor processDelegate(IFieldDescription delegate,
+            NetcdfFile dataFile, Map<String, Array> variableCache)
+                    throws InvalidDescriptionException, IOException {
 
         if (!delegate.isPresent(dataFile)) {
             throw new InvalidDescriptionException(
@@ -611,15 +704,126 @@ public class GeoDataDecoder {
         VariableDescriptor var = null;
         if (delegate instanceof VariableDescription) {
             // try {
-            var = new VariableDescriptor(
-                    dataFile.findVariable(delegate.getName()),
-                    delegate.getName());
-            var.setArray(dataFile.findVariable(delegate.getName()).read());
+            Variable variable = dataFile.findVariable(delegate.getName());
+            var = new VariableDescriptor(variable, delegate.getName());
+            var.setArray(
+                    readVariable(variable, delegate.getName(), variableCache));
         }
 
         return var;
     }
 
+    /**
+     * Read the Array of a Variable, or reuse it if it was already read from
+     * the file.
+     *
+     * @param variable
+     *            The NetCDF Variable to read.
+     * @param name
+     *            The name of the Variable.
+     * @param variableCache
+     *            The Arrays of the Variables already read from the file.
+     * @return A new Array over the data of the Variable, unsigned if the
+     *         Variable is. The values of an Array are consumed by iterating
+     *         over it, so each use gets its own.
+     * @throws IOException
+     *             If there is an error reading the Variable into an array.
+     */
+    private static Array readVariable(Variable variable, String name,
+            Map<String, Array> variableCache) throws IOException {
+        Array array = variableCache.get(name);
+        if (array == null) {
+            array = variable.read();
+            variableCache.put(name, array);
+        }
+        Array view = Array.factory(array.getDataType(), array.getShape(),
+                array.getStorage());
+        view.setUnsigned(array.isUnsigned());
+        return view;
+    }
+
+    /**
+     * Determine which ProductDescriptions could generate GeoDataRecords from
+     * a NetCDF file, from the Variables in the file. Descriptions that need a
+     * Variable the file does not have are skipped, rather than failing part
+     * way through processing.
+     *
+     * @param dataFile
+     *            The NetCDF file being decoded.
+     * @return The candidate ProductDescriptions, in description order.
+     */
+    private List<ProductDescription> getCandidateDescriptions(
+            NetcdfFile dataFile) {
+        Set<String> fileVariables = new TreeSet<>();
+        for (Variable variable : dataFile.getVariables()) {
+            fileVariables.add(variable.getShortName());
+        }
+        String signature = fileVariables.toString();
+
+        List<ProductDescription> candidates = candidateDescriptions
+                .get(signature);
+        if (candidates == null) {
+            candidates = new ArrayList<>();
+            for (ProductDescription description : descriptions
+                    .getDescriptions()) {
+                Set<String> missing = new LinkedHashSet<>();
+                for (String name : requiredVariables.get(description)) {
+                    if (dataFile.findVariable(name) == null) {
+                        missing.add(name);
+                    }
+                }
+
+                if (missing.isEmpty()) {
+                    candidates.add(description);
+                } else if (description.isDebug()) {
+                    statusHandler.info("ProductDescription \""
+                            + description.getName()
+                            + "\" -- Skipped, the NetCDF File has no Variable(s) "
+                            + missing);
+                }
+            }
+            candidateDescriptions.put(signature, candidates);
+        }
+
+        return candidates;
+    }
+
+    /**
+     * Determine the names of the NetCDF Variables a ProductDescription cannot
+     * generate GeoDataRecords without.
+     *
+     * @param description
+     *            The ProductDescription.
+     * @return The names of the required Variables.
+     */
+    private static Set<String> getRequiredVariables(
+            ProductDescription description) {
+        Set<String> names = new HashSet<>();
+        names.add(description.getLat().getName());
+        names.add(description.getLon().getName());
+
+        if (description.getGeomNInfos() != null) {
+            for (DelegateFieldDescription desc : description
+                    .getGeomNInfos()) {
+                if (desc.getDelegate() instanceof VariableDescription) {
+                    names.add(desc.getName());
+                }
+            }
+        }
+
+        for (IFieldDescription delegate : Arrays.asList(
+                description.getDataTime().getRefTime().getDelegate(),
+                description.getGeomOffset().getDelegate(),
+                description.getGeomType().getDelegate(),
+                description.getGeomNels().getDelegate())) {
+            if (delegate instanceof VariableDescription) {
+                names.add(delegate.getName());
+            }
+        }
+
+        return names;
+    }
+
     /**
      * Generate the Calendar instance that represents the NetCDF File's epoch
      * date; Some files base their data times from the default UNIX (1970-01-01
@@ -746,6 +950,10 @@ public class GeoDataDecoder {
         record.setIntegerAtt(integerAtts);
         record.setFloatAtt(floatAtts);
         record.setStringAtt(stringAtts);
+
+        if (PACK_ATTRIBUTES) {
+            record.packAttributes();
+        }
     }
 
     /**
@@ -759,6 +967,7 @@ public class GeoDataDecoder {
         LocalizationFile[] files = pathManager.listStaticFiles(
                 "dbgeo/descriptions", new String[] { ".xml" }, true, true);
         ProductDescriptions descriptions = new ProductDescriptions();
+        Map<ProductDescription, Set<String>> requiredVariables = new HashMap<>();
         for (LocalizationFile file : files) {
             statusHandler.info(
                     "Loading DBGeo data description(s) from " + file.getPath());
@@ -770,6 +979,8 @@ public class GeoDataDecoder {
                     try {
                         description.validateDescription();
                         descriptions.addDescription(description);
+                        requiredVariables.put(description,
+                                getRequiredVariables(description));
                     } catch (InvalidDescriptionException e) {
                         statusHandler
                                 .error("Unable to load product description \""
@@ -785,6 +996,8 @@ public class GeoDataDecoder {
         }
 
         this.descriptions = descriptions;
+        this.requiredVariables = requiredVariables;
+        candidateDescriptions.clear();
     }
 
 }
@@ -0,0 +1,52 @@
+package gov.noaa.nws.obs.edex.plugin.geodata.handler;
+
+import java.util.Map;
+
+import com.raytheon.uf.common.serialization.comm.IRequestHandler;
+
+import gov.noaa.nws.obs.common.dataplugin.geodata.request.GetPackedAttributesRequest;
+import gov.noaa.nws.obs.edex.plugin.geodata.dao.GeoDataDao;
+
+/**
+ * GetPackedAttributesHandler
+ *
+ * Handler for {@link GetPackedAttributesRequest}, returning the packed
+ * attributes of the requested GeoDataRecord(s) by record id.
+ *
+ * <pre>
+ *
+ * SOFTWARE HISTORY
+ *
+ * Date         Ticket#    Engineer    Description
+ * ------------ ---------- ----------- --------------------------
+ * 10/17/2026                agent     Initial creation
+ *
+ * </pre>
+ *
+ * @author agent
+ * @version 1.0
+ */
+public class GetPackedAttributesHandler
+        implements IRequestHandler<GetPackedAttributesRequest> {
+
+    private GeoDataDao dao;
+
+    @Override
+    public Map<Integer, byte[]> handleRequest(
+            GetPackedAttributesRequest request) throws Exception {
+        return getDao().getPackedAttributes(request.getRecordIds());
+    }
+
+    /**
+     * @return the GeoDataDao, created on first use, once the geodata plugin
+     *         is registered.
+     * @throws Exception
+     */
+    private synchronized GeoDataDao getDao() throws Exception {
+        if (dao == null) {
+            dao = new GeoDataDao("geodata");
+        }
+        return dao;
+    }
+
+}
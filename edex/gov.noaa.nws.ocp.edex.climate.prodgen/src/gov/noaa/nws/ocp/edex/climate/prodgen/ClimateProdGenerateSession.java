@@ -88,6 +88,8 @@ import gov.noaa.nws.ocp.edex.common.climate.util.ClimateAlertUtils;
  *                                     in AlertViz, which is pushed as separate task. Reorg of constants
  *                                     and Alert levels.
  * Nov 07, 2017 35729      pwang       Added logic to support site defined QC check for auto cli generation
+ * Oct 17, 2026            agent       Wait for display and review with scheduled tasks instead of
+ *                                     a blocked thread polling the database every second.
  * </pre>
  *
  * @author pwang
@@ -396,6 +398,9 @@ public final class ClimateProdGenerateSession {
 
     /**
      * is designated to be called by cron job. Automatically run Creator.
+     * Returns once the report is created; the session is continued by
+     * {@link ClimateProdGenerateSessionMonitor} when a user displays it or the
+     * wait for display times out.
      * 
      */
     public void autoCreateClimate() {
@@ -457,25 +462,21 @@ public final class ClimateProdGenerateSession {
         }
         // Min to seconds
         dispWait *= 60;
-        int secondsLeft = dispWait;
-
-        Object waiter = new Object();
-        synchronized (waiter) {
-            while (!this.getCurrentStatus().getStatus()
-                    .equals(StateStatus.Status.CANCELLED)
-                    && this.getCurrentState() != SessionState.DISPLAY
-                    && secondsLeft-- > 0) {
-                // send time countdown info to the client
-                this.sendTimeCountdownMessage(dispWait, dispWait - secondsLeft);
-
-                try {
-                    waiter.wait(1000);
-                } catch (InterruptedException e) {
-                    ;
-                }
-            }
-        }
 
+        // wait for display without holding this thread
+        ClimateProdGenerateSessionMonitor.await(this, SessionState.DISPLAY,
+                dispWait, this::autoDisplayWaitOver);
+    }
+
+    /**
+     * Continue automatic generation after the wait for display. If no user
+     * started Display before the wait timed out, run headless Display and
+     * Format, and wait for review.
+     * 
+     * @param timedOut
+     *            true if the wait timed out.
+     */
+    private void autoDisplayWaitOver(boolean timedOut) {
         // Check if cancelled
         if (this.getCurrentStatus().getStatus()
                 .equals(StateStatus.Status.CANCELLED)) {
@@ -485,30 +486,30 @@ public final class ClimateProdGenerateSession {
         }
 
         // Refresh state from DB
-        if (this.getCurrentState() == SessionState.DISPLAY
+        if (!timedOut || this.getCurrentState() == SessionState.DISPLAY
                 || this.state == SessionState.DISPLAYED) {
             // User participated before timeout and reviewed
             // exit, hand the control to user
             return;
-        } else if (secondsLeft <= 0) {
-            // timed out, move on and calling HeadlessDispaly
-            try {
-                this.executeHeadlessDisplayCimate();
-            } catch (ClimateSessionException e) {
-                logger.error("Failed to execute Headless Display", e);
-                failCPGSession("Failed to execute Headless Display! "
-                        + e.getMessage());
-                return;
-            }
+        }
 
-            try {
-                this.executeFormatClimate();
-            } catch (ClimateSessionException e) {
-                logger.error("Failed to execute Format Climate", e);
-                failCPGSession(
-                        "Failed to execute Format Climate! " + e.getMessage());
-                return;
-            }
+        // timed out, move on and calling HeadlessDispaly
+        try {
+            this.executeHeadlessDisplayCimate();
+        } catch (ClimateSessionException e) {
+            logger.error("Failed to execute Headless Display", e);
+            failCPGSession(
+                    "Failed to execute Headless Display! " + e.getMessage());
+            return;
+        }
+
+        try {
+            this.executeFormatClimate();
+        } catch (ClimateSessionException e) {
+            logger.error("Failed to execute Format Climate", e);
+            failCPGSession(
+                    "Failed to execute Format Climate! " + e.getMessage());
+            return;
         }
 
         // Check if cancelled
@@ -520,7 +521,7 @@ public final class ClimateProdGenerateSession {
         }
 
         // Alert User for review
-        msgDesc = "Formatted Climate Product generated, waiting for review. CPG Session ID = "
+        String msgDesc = "Formatted Climate Product generated, waiting for review. CPG Session ID = "
                 + this.cpgSessionId;
         sendAlertVizMessage(Priority.INFO, msgDesc, "");
 
@@ -530,26 +531,20 @@ public final class ClimateProdGenerateSession {
         }
         // Minutes to seconds
         revWait *= 60;
-        secondsLeft = revWait;
-
-        Object waiter2 = new Object();
-        synchronized (waiter2) {
-            while (!this.getCurrentStatus().getStatus()
-                    .equals(StateStatus.Status.CANCELLED)
-                    && this.getCurrentState() != SessionState.REVIEW
-                    && secondsLeft-- > 0) {
-
-                // send time countdown info to the client
-                this.sendTimeCountdownMessage(revWait, revWait - secondsLeft);
-
-                try {
-                    waiter2.wait(1000);
-                } catch (InterruptedException e) {
-                    ;
-                }
-            }
-        }
 
+        // wait for review without holding this thread
+        ClimateProdGenerateSessionMonitor.await(this, SessionState.REVIEW,
+                revWait, this::autoReviewWaitOver);
+    }
+
+    /**
+     * Continue automatic generation after the wait for review. If no user
+     * started Review before the wait timed out, send the products.
+     * 
+     * @param timedOut
+     *            true if the wait timed out.
+     */
+    private void autoReviewWaitOver(boolean timedOut) {
         // Check if cancelled
         if (this.getCurrentStatus().getStatus()
                 .equals(StateStatus.Status.CANCELLED)) {
@@ -559,24 +554,23 @@ public final class ClimateProdGenerateSession {
         }
 
         // Refresh state from DB
-        if (this.getCurrentState() == SessionState.REVIEW
+        if (!timedOut || this.getCurrentState() == SessionState.REVIEW
                 || this.state == SessionState.PENDING) {
             // User participated before timeout and reviewed
             // exit, hand the control to user
             return;
-        } else if (secondsLeft <= 0) {
-            // Timed out without user response
-            // Go ahead to send the product
-            try {
-                this.autoSendClimateProducts();
-            } catch (Exception e) {
-                logger.error("Send climate products for "
-                        + this.getCPGSessionId() + " failed!", e);
-                failCPGSession("Send climate products for "
-                        + this.getCPGSessionId() + " failed!");
-            }
         }
 
+        // Timed out without user response
+        // Go ahead to send the product
+        try {
+            this.autoSendClimateProducts();
+        } catch (Exception e) {
+            logger.error("Send climate products for " + this.getCPGSessionId()
+                    + " failed!", e);
+            failCPGSession("Send climate products for "
+                    + this.getCPGSessionId() + " failed!");
+        }
     }
 
     /**
@@ -1202,6 +1196,9 @@ public final class ClimateProdGenerateSession {
             logger.error("Update Session State into database failed", e);
         }
 
+        // wake a wait of this session, if any
+        ClimateProdGenerateSessionMonitor.sessionChanged(this.cpgSessionId);
+
         String msgDesc = "The CPG session state will update to: " + this.state;
         Map<String, String> actions = new HashMap<>();
         actions.put("ACTION", "Change State");
@@ -1231,6 +1228,9 @@ public final class ClimateProdGenerateSession {
             logger.error("Update Session Status into database failed", e);
         }
 
+        // wake a wait of this session, if any
+        ClimateProdGenerateSessionMonitor.sessionChanged(this.cpgSessionId);
+
         String msgDesc = "The CPG session Status will update to:"
                 + this.stateStatus.getStatus();
 
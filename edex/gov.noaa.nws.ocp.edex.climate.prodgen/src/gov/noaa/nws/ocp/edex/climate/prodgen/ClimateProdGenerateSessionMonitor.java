@@ -0,0 +1,301 @@
+/**
+ * This software was developed and / or modified by NOAA/NWS/OCP/ASDT
+ **/
+package gov.noaa.nws.ocp.edex.climate.prodgen;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import com.raytheon.uf.common.message.StatusMessage;
+import com.raytheon.uf.common.serialization.DynamicSerializationManager;
+import com.raytheon.uf.common.serialization.DynamicSerializationManager.SerializationType;
+import com.raytheon.uf.common.status.IUFStatusHandler;
+import com.raytheon.uf.common.status.UFStatus;
+import com.raytheon.uf.common.time.util.TimeUtil;
+
+import gov.noaa.nws.ocp.common.dataplugin.climate.SessionState;
+import gov.noaa.nws.ocp.common.dataplugin.climate.StateStatus;
+
+/**
+ * Waits of automatic CPG sessions for a user to display or review. A wait
+ * holds no thread: its timeout and countdown messages are scheduled tasks, and
+ * it is checked against the database when the session changes.
+ *
+ * Changes made in this EDEX wake the wait directly. Changes made in another
+ * EDEX of the cluster wake it through the CPG notification topic, and the
+ * session is also checked with each countdown message in case a notification
+ * is lost.
+ *
+ * <pre>
+ *
+ * SOFTWARE HISTORY
+ *
+ * Date         Ticket#    Engineer    Description
+ * ------------ ---------- ----------- --------------------------
+ * 17 OCT 2026             agent       Initial creation
+ * </pre>
+ *
+ * @author agent
+ */
+public class ClimateProdGenerateSessionMonitor {
+
+    private static final transient IUFStatusHandler logger = UFStatus
+            .getHandler(ClimateProdGenerateSessionMonitor.class);
+
+    /**
+     * Seconds between countdown messages, which are also when the session is
+     * checked without being woken.
+     */
+    private static final int COUNTDOWN_INTERVAL_SECONDS = 15;
+
+    /**
+     * Description of countdown messages, which do not change the session.
+     */
+    private static final String COUNTDOWN_DESC = "Timer countdown ...";
+
+    /**
+     * Session ID field of notification details.
+     */
+    private static final String ID_FIELD = "ID=";
+
+    /**
+     * Runs timeouts, countdowns, and checks.
+     */
+    private static final ScheduledExecutorService SCHEDULER = Executors
+            .newSingleThreadScheduledExecutor(
+                    r -> newDaemonThread(r, "cpgSessionMonitor"));
+
+    private static final AtomicInteger WORKER_COUNT = new AtomicInteger();
+
+    /**
+     * Continues sessions after their waits, which can take a while (format,
+     * send), so that they do not hold up the scheduler.
+     */
+    private static final ExecutorService WORKER = Executors
+            .newCachedThreadPool(r -> newDaemonThread(r,
+                    "cpgSessionWorker-" + WORKER_COUNT.incrementAndGet()));
+
+    /**
+     * Current waits by CPG session ID.
+     */
+    private static final Map<String, SessionWait> WAITS = new ConcurrentHashMap<>();
+
+    /**
+     * Wait of one session for a state.
+     */
+    private static final class SessionWait {
+        private final ClimateProdGenerateSession session;
+
+        private final SessionState awaitedState;
+
+        private final int totalSeconds;
+
+        private final Consumer<Boolean> onDone;
+
+        private final long startMillis = TimeUtil.currentTimeMillis();
+
+        private boolean done = false;
+
+        private ScheduledFuture<?> countdown;
+
+        private ScheduledFuture<?> timeout;
+
+        private SessionWait(ClimateProdGenerateSession session,
+                SessionState awaitedState, int totalSeconds,
+                Consumer<Boolean> onDone) {
+            this.session = session;
+            this.awaitedState = awaitedState;
+            this.totalSeconds = totalSeconds;
+            this.onDone = onDone;
+        }
+
+        private synchronized void start() {
+            if (done) {
+                return;
+            }
+            timeout = SCHEDULER.schedule(() -> finish(true), totalSeconds,
+                    TimeUnit.SECONDS);
+            countdown = SCHEDULER.scheduleAtFixedRate(this::countdown, 0,
+                    COUNTDOWN_INTERVAL_SECONDS, TimeUnit.SECONDS);
+        }
+
+        /**
+         * Check the session, and send a countdown message if still waiting.
+         */
+        private void countdown() {
+            try {
+                if (!check()) {
+                    int secondsPassed = (int) Math
+                            .min((TimeUtil.currentTimeMillis() - startMillis)
+                                    / TimeUtil.MILLIS_PER_SECOND, totalSeconds);
+                    session.sendTimeCountdownMessage(totalSeconds,
+                            secondsPassed);
+                }
+            } catch (RuntimeException e) {
+                // keep the countdown scheduled
+                logger.error("Error checking CPG session: ["
+                        + session.getCPGSessionId() + "]", e);
+            }
+        }
+
+        /**
+         * Finish the wait if the session was cancelled or has reached the
+         * awaited state.
+         *
+         * @return true if the wait is finished.
+         */
+        private boolean check() {
+            synchronized (this) {
+                if (done) {
+                    return true;
+                }
+            }
+
+            if (session.getCurrentStatus().getStatus()
+                    .equals(StateStatus.Status.CANCELLED)
+                    || session.getCurrentState().getValue() >= awaitedState
+                            .getValue()) {
+                finish(false);
+                return true;
+            }
+            return false;
+        }
+
+        /**
+         * Stop the wait without continuing the session.
+         *
+         * @return false if the wait was already stopped.
+         */
+        private synchronized boolean cancel() {
+            if (done) {
+                return false;
+            }
+            done = true;
+
+            if (timeout != null) {
+                timeout.cancel(false);
+            }
+            if (countdown != null) {
+                countdown.cancel(false);
+            }
+            return true;
+        }
+
+        /**
+         * Stop the wait, and continue the session.
+         *
+         * @param timedOut
+         */
+        private synchronized void finish(boolean timedOut) {
+            if (!cancel()) {
+                return;
+            }
+            WAITS.remove(session.getCPGSessionId(), this);
+
+            WORKER.execute(() -> {
+                try {
+                    onDone.accept(timedOut);
+                } catch (RuntimeException e) {
+                    logger.error("Error continuing CPG session: ["
+                            + session.getCPGSessionId() + "]", e);
+                }
+            });
+        }
+    }
+
+    /**
+     * Wait for a user to move the session to the given state or past it, or to
+     * cancel it, without holding the calling thread.
+     *
+     * @param session
+     * @param awaitedState
+     * @param totalSeconds
+     *            seconds to wait before timing out.
+     * @param onDone
+     *            called once the wait is over, with true if it timed out.
+     */
+    public static void await(ClimateProdGenerateSession session,
+            SessionState awaitedState, int totalSeconds,
+            Consumer<Boolean> onDone) {
+        SessionWait wait = new SessionWait(session, awaitedState,
+                totalSeconds, onDone);
+        SessionWait previous = WAITS.put(session.getCPGSessionId(), wait);
+        if (previous != null) {
+            logger.warn("CPG session: [" + session.getCPGSessionId()
+                    + "] was already waiting for: [" + previous.awaitedState
+                    + "]. Replacing with wait for: [" + awaitedState + "]");
+            previous.cancel();
+        }
+        wait.start();
+    }
+
+    /**
+     * Check the wait of the given session, if any, because the session
+     * changed.
+     *
+     * @param cpgSessionId
+     */
+    public static void sessionChanged(String cpgSessionId) {
+        SessionWait wait = WAITS.get(cpgSessionId);
+        if (wait != null) {
+            SCHEDULER.execute(() -> {
+                try {
+                    wait.check();
+                } catch (RuntimeException e) {
+                    logger.error("Error checking CPG session: ["
+                            + cpgSessionId + "]", e);
+                }
+            });
+        }
+    }
+
+    /**
+     * Check the wait of the session of a CPG notification from any EDEX of
+     * the cluster.
+     *
+     * @param message
+     *            Thrift serialized {@link StatusMessage}.
+     */
+    public void notificationReceived(byte[] message) {
+        if (WAITS.isEmpty()) {
+            return;
+        }
+
+        StatusMessage sm;
+        try {
+            sm = (StatusMessage) DynamicSerializationManager
+                    .getManager(SerializationType.Thrift).deserialize(message);
+        } catch (Exception e) {
+            logger.error("Could not deserialize CPG notification", e);
+            return;
+        }
+
+        String details = sm.getDetails();
+        if (COUNTDOWN_DESC.equals(sm.getMessage()) || details == null
+                || !details.startsWith(ID_FIELD)) {
+            return;
+        }
+
+        int end = details.indexOf(',');
+        sessionChanged(details.substring(ID_FIELD.length(),
+                end < 0 ? details.length() : end));
+    }
+
+    /**
+     * @param r
+     * @param name
+     * @return daemon thread, so that waits do not keep EDEX from stopping.
+     */
+    private static Thread newDaemonThread(Runnable r, String name) {
+        Thread thread = new Thread(r, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+}
@@ -4,13 +4,13 @@
 package gov.noaa.nws.ocp.edex.climate.prodgen.qc;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.InputStream;
 import java.util.Arrays;
 import java.util.Map.Entry;
 import java.util.Properties;
 import java.util.regex.Pattern;
 
+import com.raytheon.uf.common.localization.ILocalizationFile;
 import com.raytheon.uf.common.localization.IPathManager;
 import com.raytheon.uf.common.localization.LocalizationContext;
 import com.raytheon.uf.common.localization.LocalizationContext.LocalizationLevel;
@@ -31,6 +31,10 @@ import gov.noaa.nws.ocp.edex.climate.prodgen.qc.checker.MonthlyClimateDataQualit
  * Part of auto ClimateProdGenerateSession, used by session to check site
  * defined QC parameters before move on after Climate data is generated.
  * 
+ * The QC properties file is parsed and its checks compiled once per version of
+ * the file, identified by its localization checksum, and the compiled checkers
+ * are shared by all sessions until the file changes.
+ * 
  * <pre>
  *
  * SOFTWARE HISTORY
@@ -38,6 +42,7 @@ import gov.noaa.nws.ocp.edex.climate.prodgen.qc.checker.MonthlyClimateDataQualit
  * Date         Ticket#    Engineer    Description
  * ------------ ---------- ----------- --------------------------
  * Nov 7, 2017  35729      pwang       Initial creation
+ * Oct 17, 2026            agent       Cache compiled checkers by file checksum.
  *
  * </pre>
  *
@@ -85,12 +90,48 @@ public class DefinedDataQualityCheck {
     private static final LocalizationLevel[] LOCALIZATIONS_TO_TRY = new LocalizationLevel[] {
             LocalizationLevel.SITE, LocalizationLevel.BASE };
 
+    /**
+     * Compiled checkers of the last loaded QC properties file.
+     */
+    private static volatile QCPlan plan;
+
     private boolean check = false;
 
     private PeriodType periodType;
 
     private ClimateDataQualityChecker checker;
 
+    /**
+     * Checkers compiled from one version of the QC properties file. Not
+     * changed once built, so that they can be shared by sessions.
+     */
+    private static final class QCPlan {
+        /**
+         * Path and checksum of the file, null if no file was found.
+         */
+        private final String key;
+
+        private final boolean check;
+
+        private final ClimateDataQualityChecker dailyChecker;
+
+        private final ClimateDataQualityChecker periodChecker;
+
+        private QCPlan(String key, Properties props) {
+            this.key = key;
+            this.check = props != null && props.size() > 0;
+            if (check) {
+                dailyChecker = populateQCTriples(props,
+                        new DailyClimateDataQualityChecker(), DAILY_PARAM);
+                periodChecker = populateQCTriples(props,
+                        new MonthlyClimateDataQualityChecker(), PERIOD_PARAM);
+            } else {
+                dailyChecker = null;
+                periodChecker = null;
+            }
+        }
+    }
+
     /**
      * Constructor
      * 
@@ -99,9 +140,19 @@ public class DefinedDataQualityCheck {
     public DefinedDataQualityCheck(PeriodType pType) {
         this.periodType = pType;
 
-        Properties props = this.loadDefinedQCProperties();
-        if (check && props != null) {
-            populateQCTriples(props);
+        QCPlan currentPlan = getPlan();
+        check = currentPlan.check;
+        if (check) {
+            if (periodType.isDaily()) {
+                // Only dsm properties
+                checker = currentPlan.dailyChecker;
+            } else if (periodType.isPeriod()) {
+                // Only msm properties
+                checker = currentPlan.periodChecker;
+            } else {
+                logger.warn("Unsupported period type for QC: ["
+                        + periodType.toString() + "]");
+            }
         } else {
             logger.warn(
                     "Null or empty Climate QC properties. No QC checking will be performed.");
@@ -109,50 +160,73 @@ public class DefinedDataQualityCheck {
     }
 
     /**
-     * Load QC properties.
+     * @return the compiled checkers of the current QC properties file,
+     *         compiling them if the file changed since last time.
      */
-    private Properties loadDefinedQCProperties() {
-        IPathManager pm = PathManagerFactory.getPathManager();
-
-        boolean success = false;
+    private static QCPlan getPlan() {
+        ILocalizationFile qcParamFile = findDefinedQCFile();
+        String key = null;
+        if (qcParamFile != null) {
+            key = qcParamFile.getPath() + ":" + qcParamFile.getCheckSum();
+        }
 
-        File qcParamFile = null;
+        QCPlan currentPlan = plan;
+        if (currentPlan == null || (key == null ? currentPlan.key != null
+                : !key.equals(currentPlan.key))) {
+            currentPlan = new QCPlan(key,
+                    qcParamFile == null ? null
+                            : loadDefinedQCProperties(qcParamFile));
+            plan = currentPlan;
+        }
+        return currentPlan;
+    }
 
-        for (int i = 0; (i < LOCALIZATIONS_TO_TRY.length) && !success; i++) {
-            LocalizationLevel level = LOCALIZATIONS_TO_TRY[i];
+    /**
+     * @return the QC properties file at the first localization level that has
+     *         one, or null if none.
+     */
+    private static ILocalizationFile findDefinedQCFile() {
+        IPathManager pm = PathManagerFactory.getPathManager();
 
+        for (LocalizationLevel level : LOCALIZATIONS_TO_TRY) {
             LocalizationContext lc = pm
                     .getContext(LocalizationType.COMMON_STATIC, level);
 
-            qcParamFile = pm.getFile(lc, DEFINED_QC_PATH);
+            ILocalizationFile qcParamFile = pm.getLocalizationFile(lc,
+                    DEFINED_QC_PATH);
 
-            if (qcParamFile.exists() && qcParamFile.isFile()) {
-                success = true;
+            if (qcParamFile != null && qcParamFile.exists()) {
+                return qcParamFile;
             }
         }
 
-        if (!success) {
-            logger.warn("No [" + DEFINED_QC_PATH
-                    + "] common localization file found in the levels: ["
-                    + Arrays.toString(LOCALIZATIONS_TO_TRY)
-                    + "]. No QC check will be performed.");
-            return null;
-        }
+        logger.warn("No [" + DEFINED_QC_PATH
+                + "] common localization file found in the levels: ["
+                + Arrays.toString(LOCALIZATIONS_TO_TRY)
+                + "]. No QC check will be performed.");
+        return null;
+    }
 
+    /**
+     * Load QC properties.
+     * 
+     * @param qcParamFile
+     */
+    private static Properties loadDefinedQCProperties(
+            ILocalizationFile qcParamFile) {
         Properties qcParams = new Properties();
-        try (InputStream is = new FileInputStream(qcParamFile)) {
+        try (InputStream is = qcParamFile.openInputStream()) {
             qcParams.load(is);
         } catch (Exception e) {
             logger.error("Failed to load defined QC parameters from file: ["
-                    + qcParamFile.getAbsolutePath() + "].", e);
+                    + qcParamFile.getPath() + "].", e);
         }
 
         if (qcParams.size() > 0) {
             // There are site defined QC parameters
-            check = true;
             logger.debug("Loaded [" + qcParams.size()
-                    + "] Climate QC properties file ["
-                    + qcParamFile.getAbsolutePath() + "]");
+                    + "] Climate QC properties file [" + qcParamFile.getPath()
+                    + "]");
         }
 
         return qcParams;
@@ -162,30 +236,21 @@ public class DefinedDataQualityCheck {
      * populateQCTriples
      * 
      * @param props
+     * @param qcChecker
+     *            checker to add the matching properties to.
+     * @param propertyPattern
+     *            pattern of the properties for the checker.
+     * @return the checker.
      */
-    private void populateQCTriples(Properties props) {
-        Pattern propertyPattern = null;
-
-        if (periodType.isDaily()) {
-            // Only populate dsm properties
-            checker = new DailyClimateDataQualityChecker();
-            propertyPattern = DAILY_PARAM;
-        } else if (periodType.isPeriod()) {
-            // Only populate msm properties
-            checker = new MonthlyClimateDataQualityChecker();
-            propertyPattern = PERIOD_PARAM;
-        } else {
-            logger.warn("Unsupported period type for QC: ["
-                    + periodType.toString() + "]");
-            return;
-        }
-
+    private static ClimateDataQualityChecker populateQCTriples(
+            Properties props, ClimateDataQualityChecker qcChecker,
+            Pattern propertyPattern) {
         for (Entry<Object, Object> entry : props.entrySet()) {
             logger.debug("Examining QC property: [" + entry.getKey().toString()
                     + "],[" + entry.getValue().toString() + "]");
 
             if (propertyPattern.matcher(entry.getKey().toString()).matches()) {
-                checker.addOneDataQualityCheckTriple(
+                qcChecker.addOneDataQualityCheckTriple(
                         new DataQualityCheckTriple(entry.getKey().toString(),
                                 entry.getValue().toString()));
             } else {
@@ -193,6 +258,7 @@ public class DefinedDataQualityCheck {
                         + propertyPattern.toString() + "]");
             }
         }
+        return qcChecker;
     }
 
     /**
@@ -0,0 +1,130 @@
+/**
+ * This software was developed and / or modified by NOAA/NWS/OCP/ASDT
+ **/
+package gov.noaa.nws.ocp.edex.climate.prodgen.qc;
+
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+
+/**
+ * QCParameter
+ *
+ * A typed accessor of one QC parameter of a climate data class, with the
+ * parameter's missing value. Values are read as double, which holds int,
+ * float, and double values exactly, and thresholds are parsed in the
+ * parameter's own type, so comparisons match comparing in that type. A value
+ * is missing if its text in the parameter's type is the missing value text, as
+ * the reflective checks compared them.
+ *
+ * <pre>
+ *
+ * SOFTWARE HISTORY
+ *
+ * Date         Ticket#    Engineer    Description
+ * ------------ ---------- ----------- --------------------------
+ * Oct 17, 2026            agent       Initial creation
+ *
+ * </pre>
+ *
+ * @author agent
+ * @param <T>
+ *            climate data class.
+ */
+public final class QCParameter<T> {
+
+    private final CheckDataType type;
+
+    private final ToDoubleFunction<T> getter;
+
+    private final String missingValue;
+
+    private QCParameter(CheckDataType type, ToDoubleFunction<T> getter,
+            String missingValue) {
+        this.type = type;
+        this.getter = getter;
+        this.missingValue = missingValue;
+    }
+
+    /**
+     * @param getter
+     * @param missingValue
+     * @return accessor of an int parameter.
+     */
+    public static <T> QCParameter<T> ofInt(ToIntFunction<T> getter,
+            String missingValue) {
+        return new QCParameter<>(CheckDataType.INT, getter::applyAsInt,
+                missingValue);
+    }
+
+    /**
+     * @param getter
+     * @param missingValue
+     * @return accessor of a float parameter.
+     */
+    public static <T> QCParameter<T> ofFloat(ToDoubleFunction<T> getter,
+            String missingValue) {
+        return new QCParameter<>(CheckDataType.FLOAT, getter, missingValue);
+    }
+
+    /**
+     * @param getter
+     * @param missingValue
+     * @return accessor of a double parameter.
+     */
+    public static <T> QCParameter<T> ofDouble(ToDoubleFunction<T> getter,
+            String missingValue) {
+        return new QCParameter<>(CheckDataType.DOUBLE, getter, missingValue);
+    }
+
+    /**
+     * @param data
+     * @return the value of the parameter in the given data.
+     */
+    public double getValue(T data) {
+        return getter.applyAsDouble(data);
+    }
+
+    /**
+     * @param value
+     * @return true if the value is the parameter's missing value.
+     */
+    public boolean isMissing(double value) {
+        String text;
+        switch (type) {
+        case INT:
+            text = Integer.toString((int) value);
+            break;
+        case FLOAT:
+            text = Float.toString((float) value);
+            break;
+        default:
+            text = Double.toString(value);
+            break;
+        }
+        return missingValue.equals(text);
+    }
+
+    /**
+     * @param threshold
+     * @return the threshold parsed in the parameter's type.
+     * @throws NumberFormatException
+     *             if the threshold is not a number of that type.
+     */
+    public Number parseThreshold(String threshold) {
+        switch (type) {
+        case INT:
+            return Integer.valueOf(threshold);
+        case FLOAT:
+            return Float.valueOf(threshold);
+        default:
+            return Double.valueOf(threshold);
+        }
+    }
+
+    /**
+     * @return the type
+     */
+    public CheckDataType getType() {
+        return type;
+    }
+}
@@ -3,27 +3,29 @@
  **/
 package gov.noaa.nws.ocp.edex.climate.prodgen.qc.checker;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
-import gov.noaa.nws.ocp.common.dataplugin.climate.ClimateWind;
 import gov.noaa.nws.ocp.common.dataplugin.climate.DailyClimateData;
 import gov.noaa.nws.ocp.common.dataplugin.climate.Station;
 import gov.noaa.nws.ocp.common.dataplugin.climate.parameter.ParameterFormatClimate;
 import gov.noaa.nws.ocp.common.dataplugin.climate.report.ClimateDailyReportData;
 import gov.noaa.nws.ocp.common.dataplugin.climate.response.ClimateRunDailyData;
 import gov.noaa.nws.ocp.common.dataplugin.climate.response.ClimateRunData;
-import gov.noaa.nws.ocp.edex.climate.prodgen.qc.CheckDataType;
 import gov.noaa.nws.ocp.edex.climate.prodgen.qc.CheckResult;
 import gov.noaa.nws.ocp.edex.climate.prodgen.qc.DataQualityCheckTriple;
-import gov.noaa.nws.ocp.edex.climate.prodgen.qc.FieldTypeAndValue;
 import gov.noaa.nws.ocp.edex.climate.prodgen.qc.QCOperator;
+import gov.noaa.nws.ocp.edex.climate.prodgen.qc.QCParameter;
 
 /**
  * DailyClimateDataQualityChecker
  * 
  * All DSM parameters defined in the qcparams.properties will be handled by this
- * checker
+ * checker. Checks are compiled as they are added, resolving each parameter to
+ * a typed accessor and parsing its threshold once, so that checking a report
+ * does no reflection or parsing.
  * 
  * <pre>
  *
@@ -32,6 +34,8 @@ import gov.noaa.nws.ocp.edex.climate.prodgen.qc.QCOperator;
  * Date         Ticket#    Engineer    Description
  * ------------ ---------- ----------- --------------------------
  * Nov 7, 2017  35729      pwang       Initial creation
+ * Oct 17, 2026            agent       Compile checks to typed accessors instead
+ *                                     of reflection on each check.
  *
  * </pre>
  *
@@ -42,45 +46,96 @@ import gov.noaa.nws.ocp.edex.climate.prodgen.qc.QCOperator;
 public class DailyClimateDataQualityChecker extends ClimateDataQualityChecker {
 
     /*
-     * Mapping a DSM table column name to DailyClimateData getter and missing
-     * values.
+     * Mapping a DSM table column name to DailyClimateData accessor and missing
+     * value.
      */
-    private static final Map<String, String[]> PARAM_ATTRIBUTE_MAP = new HashMap<>();
+    private static final Map<String, QCParameter<DailyClimateData>> PARAM_ATTRIBUTE_MAP = new HashMap<>();
 
     // Supported daily parameters
     static {
-        PARAM_ATTRIBUTE_MAP.put("maxtemp_cal", new String[] { "maxTemp",
-                String.valueOf(ParameterFormatClimate.MISSING) });
-        PARAM_ATTRIBUTE_MAP.put("mintemp_cal", new String[] { "minTemp",
-                String.valueOf(ParameterFormatClimate.MISSING) });
-        PARAM_ATTRIBUTE_MAP.put("min_press", new String[] { "minSlp",
-                String.valueOf(ParameterFormatClimate.MISSING_SLP) });
-        PARAM_ATTRIBUTE_MAP.put("equiv_water", new String[] { "precip",
-                String.valueOf(ParameterFormatClimate.MISSING_PRECIP) });
-
-        PARAM_ATTRIBUTE_MAP.put("twomin_wspd", new String[] { "avgWindSpeed",
-                String.valueOf(ParameterFormatClimate.MISSING_SPEED) });
-        PARAM_ATTRIBUTE_MAP.put("max2min_wdir", new String[] { "maxWind",
-                String.valueOf(ParameterFormatClimate.MISSING) });
-        PARAM_ATTRIBUTE_MAP.put("max2min_wspd", new String[] { "maxWind",
-                String.valueOf(ParameterFormatClimate.MISSING_SPEED) });
-        PARAM_ATTRIBUTE_MAP.put("pkwnd_dir", new String[] { "maxGust",
-                String.valueOf(ParameterFormatClimate.MISSING) });
-        PARAM_ATTRIBUTE_MAP.put("pkwnd_spd", new String[] { "maxGust",
-                String.valueOf(ParameterFormatClimate.MISSING_SPEED) });
-
-        PARAM_ATTRIBUTE_MAP.put("min_sun", new String[] { "minutesSun",
-                String.valueOf(ParameterFormatClimate.MISSING) });
-        PARAM_ATTRIBUTE_MAP.put("percent_sun", new String[] { "percentPossSun",
-                String.valueOf(ParameterFormatClimate.MISSING) });
-        PARAM_ATTRIBUTE_MAP.put("solid_precip", new String[] { "snowDay",
-                String.valueOf(ParameterFormatClimate.MISSING_SNOW) });
-        PARAM_ATTRIBUTE_MAP.put("snowdepth", new String[] { "snowGround",
-                String.valueOf(ParameterFormatClimate.MISSING_SNOW) });
-        PARAM_ATTRIBUTE_MAP.put("avg_sky_cover", new String[] { "skyCover",
-                String.valueOf(ParameterFormatClimate.MISSING) });
+        PARAM_ATTRIBUTE_MAP.put("maxtemp_cal",
+                QCParameter.ofInt(DailyClimateData::getMaxTemp,
+                        String.valueOf(ParameterFormatClimate.MISSING)));
+        PARAM_ATTRIBUTE_MAP.put("mintemp_cal",
+                QCParameter.ofInt(DailyClimateData::getMinTemp,
+                        String.valueOf(ParameterFormatClimate.MISSING)));
+        PARAM_ATTRIBUTE_MAP.put("min_press",
+                QCParameter.ofDouble(DailyClimateData::getMinSlp,
+                        String.valueOf(ParameterFormatClimate.MISSING_SLP)));
+        PARAM_ATTRIBUTE_MAP.put("equiv_water",
+                QCParameter.ofFloat(DailyClimateData::getPrecip,
+                        String.valueOf(ParameterFormatClimate.MISSING_PRECIP)));
+
+        PARAM_ATTRIBUTE_MAP.put("twomin_wspd",
+                QCParameter.ofFloat(DailyClimateData::getAvgWindSpeed,
+                        String.valueOf(ParameterFormatClimate.MISSING_SPEED)));
+        PARAM_ATTRIBUTE_MAP.put("max2min_wdir",
+                QCParameter.ofInt(data -> data.getMaxWind().getDir(),
+                        String.valueOf(ParameterFormatClimate.MISSING)));
+        PARAM_ATTRIBUTE_MAP.put("max2min_wspd",
+                QCParameter.ofFloat(data -> data.getMaxWind().getSpeed(),
+                        String.valueOf(ParameterFormatClimate.MISSING_SPEED)));
+        PARAM_ATTRIBUTE_MAP.put("pkwnd_dir",
+                QCParameter.ofInt(data -> data.getMaxGust().getDir(),
+                        String.valueOf(ParameterFormatClimate.MISSING)));
+        PARAM_ATTRIBUTE_MAP.put("pkwnd_spd",
+                QCParameter.ofFloat(data -> data.getMaxGust().getSpeed(),
+                        String.valueOf(ParameterFormatClimate.MISSING_SPEED)));
+
+        PARAM_ATTRIBUTE_MAP.put("min_sun",
+                QCParameter.ofInt(DailyClimateData::getMinutesSun,
+                        String.valueOf(ParameterFormatClimate.MISSING)));
+        PARAM_ATTRIBUTE_MAP.put("percent_sun",
+                QCParameter.ofInt(DailyClimateData::getPercentPossSun,
+                        String.valueOf(ParameterFormatClimate.MISSING)));
+        PARAM_ATTRIBUTE_MAP.put("solid_precip",
+                QCParameter.ofFloat(DailyClimateData::getSnowDay,
+                        String.valueOf(ParameterFormatClimate.MISSING_SNOW)));
+        PARAM_ATTRIBUTE_MAP.put("snowdepth",
+                QCParameter.ofFloat(DailyClimateData::getSnowGround,
+                        String.valueOf(ParameterFormatClimate.MISSING_SNOW)));
+        PARAM_ATTRIBUTE_MAP.put("avg_sky_cover",
+                QCParameter.ofFloat(DailyClimateData::getSkyCover,
+                        String.valueOf(ParameterFormatClimate.MISSING)));
     }
 
+    /**
+     * A check with its parameter resolved and its threshold parsed.
+     */
+    private static final class CompiledCheck {
+        private final DataQualityCheckTriple qcInfo;
+
+        /** Null if the parameter is not supported. */
+        private final QCParameter<DailyClimateData> parameter;
+
+        /** Threshold of a GT or LT check, null if none or not a number. */
+        private final Number threshold;
+
+        private CompiledCheck(DataQualityCheckTriple qcInfo) {
+            this.qcInfo = qcInfo;
+            this.parameter = qcInfo.getParamName() == null ? null
+                    : PARAM_ATTRIBUTE_MAP.get(qcInfo.getParamName());
+
+            Number parsed = null;
+            if (parameter != null && (qcInfo.getCheckOp() == QCOperator.GT
+                    || qcInfo.getCheckOp() == QCOperator.LT)) {
+                try {
+                    parsed = parameter
+                            .parseThreshold((String) qcInfo.getParamValue());
+                } catch (NumberFormatException e) {
+                    // reported when checked
+                    parsed = null;
+                }
+            }
+            this.threshold = parsed;
+        }
+    }
+
+    /**
+     * Compiled checks, in the order of the check list.
+     */
+    private List<CompiledCheck> compiledChecks = new ArrayList<>();
+
     /**
      * Constructor
      */
@@ -88,6 +143,22 @@ public class DailyClimateDataQualityChecker extends ClimateDataQualityChecker {
         super();
     }
 
+    @Override
+    public void setCheckList(List<DataQualityCheckTriple> checkList) {
+        super.setCheckList(checkList);
+        List<CompiledCheck> compiled = new ArrayList<>();
+        for (DataQualityCheckTriple dqc : checkList) {
+            compiled.add(new CompiledCheck(dqc));
+        }
+        compiledChecks = compiled;
+    }
+
+    @Override
+    public void addOneDataQualityCheckTriple(DataQualityCheckTriple dqc) {
+        super.addOneDataQualityCheckTriple(dqc);
+        compiledChecks.add(new CompiledCheck(dqc));
+    }
+
     @Override
     public CheckResult check(ClimateRunData data) throws Exception {
         CheckResult cresult = new CheckResult();
@@ -127,7 +198,8 @@ public class DailyClimateDataQualityChecker extends ClimateDataQualityChecker {
         Station station = report.getStation();
 
         // Check each defined QC param on the report data
-        for (DataQualityCheckTriple qcInfo : checkList) {
+        for (CompiledCheck compiled : compiledChecks) {
+            DataQualityCheckTriple qcInfo = compiled.qcInfo;
             boolean currCheckPass = true;
 
             if (qcInfo.getParamName() == null
@@ -149,15 +221,13 @@ public class DailyClimateDataQualityChecker extends ClimateDataQualityChecker {
 
             switch (op) {
             case M:
-                currCheckPass = isMissing(data, station, qcInfo.getParamName(),
-                        cresult) ? false : true;
+                currCheckPass = isMissing(data, station, compiled, cresult)
+                        ? false : true;
                 break;
             case GT:
-                if (!isMissing(data, station, qcInfo.getParamName(),
-                        new CheckResult())) {
-                    currCheckPass = isGreaterThan(data, station,
-                            qcInfo.getParamName(), checkValue, cresult) ? false
-                                    : true;
+                if (!isMissing(data, station, compiled, new CheckResult())) {
+                    currCheckPass = isGreaterThan(data, station, compiled,
+                            cresult) ? false : true;
                 } else {
                     String msg = "Parameter [" + qcInfo.getParamName()
                             + "] for station [" + station.getStationName()
@@ -170,11 +240,9 @@ public class DailyClimateDataQualityChecker extends ClimateDataQualityChecker {
                 }
                 break;
             case LT:
-                if (!isMissing(data, station, qcInfo.getParamName(),
-                        new CheckResult())) {
-                    currCheckPass = isLessThan(data, station,
-                            qcInfo.getParamName(), checkValue, cresult) ? false
-                                    : true;
+                if (!isMissing(data, station, compiled, new CheckResult())) {
+                    currCheckPass = isLessThan(data, station, compiled,
+                            cresult) ? false : true;
                 } else {
                     String msg = "Parameter [" + qcInfo.getParamName()
                             + "] for station [" + station.getStationName()
@@ -209,24 +277,34 @@ public class DailyClimateDataQualityChecker extends ClimateDataQualityChecker {
     }
 
     /**
-     * getWindValue
-     * 
-     * Get real type and value for Wind parameters, including: twomin_wspd,
-     * max2min_wspd, pkwnd_dir, pkwnd_spd
-     * 
-     * @param checkParamName
-     * @param ftv
+     * @param compiled
+     * @return the accessor of the check's parameter.
+     * @throws Exception
+     *             if the parameter is not supported.
      */
-    private void getWindValue(String checkParamName, FieldTypeAndValue ftv) {
-        ClimateWind wind = (ClimateWind) ftv.getValue();
-        String ds = checkParamName.substring(checkParamName.length() - 3);
-        if (ds.equalsIgnoreCase("dir")) {
-            ftv.setValue(wind.getDir());
-            ftv.setType(CheckDataType.INT);
-        } else if (ds.equalsIgnoreCase("spd")) {
-            ftv.setValue(wind.getSpeed());
-            ftv.setType(CheckDataType.FLOAT);
+    private QCParameter<DailyClimateData> getParameter(CompiledCheck compiled)
+            throws Exception {
+        if (compiled.parameter == null) {
+            throw new Exception("Failed to get value for the attribute: "
+                    + compiled.qcInfo.getParamName() + " from DailyClimateData");
         }
+        return compiled.parameter;
+    }
+
+    /**
+     * @param compiled
+     * @return the threshold of the check.
+     * @throws Exception
+     *             if the threshold is not a number of the parameter's type.
+     */
+    private Number getThreshold(CompiledCheck compiled) throws Exception {
+        if (compiled.threshold == null) {
+            throw new Exception("Threshold [" + compiled.qcInfo.getParamValue()
+                    + "] of the parameter " + compiled.qcInfo.getParamName()
+                    + " is not a valid " + getParameter(compiled).getType()
+                    + " value");
+        }
+        return compiled.threshold;
     }
 
     /**
@@ -234,37 +312,18 @@ public class DailyClimateDataQualityChecker extends ClimateDataQualityChecker {
      * 
      * @param data
      * @param station
-     * @param checkParam
+     * @param compiled
      * @param cresult
      * @return
      * @throws Exception
      */
     private boolean isMissing(DailyClimateData data, Station station,
-            String checkParamName, CheckResult cresult) throws Exception {
+            CompiledCheck compiled, CheckResult cresult) throws Exception {
         boolean missing = false;
-        FieldTypeAndValue value = null;
 
-        String checkFieldName = PARAM_ATTRIBUTE_MAP.get(checkParamName)[0];
-
-        try {
-            value = this.getFieldValue(data, checkFieldName);
-        } catch (Exception e) {
-            throw new Exception("Failed to get value for the attribute: "
-                    + checkParamName + " from DailyClimateData");
-        }
-
-        /*
-         * Wind dir and speed are encapsulated in ClimateWind
-         * 
-         * Following call extracted their real type and value
-         */
-        if (value.getType() == CheckDataType.WINDOBJ) {
-            getWindValue(checkParamName, value);
-        }
-
-        if (PARAM_ATTRIBUTE_MAP.get(checkParamName)[1]
-                .equals(value.getValue().toString())) {
-            String msg = "The parameter [" + checkParamName
+        QCParameter<DailyClimateData> parameter = getParameter(compiled);
+        if (parameter.isMissing(parameter.getValue(data))) {
+            String msg = "The parameter [" + compiled.qcInfo.getParamName()
                     + "] is missing for station [" + station.getStationName()
                     + "]";
             cresult.setPassed(false);
@@ -279,80 +338,22 @@ public class DailyClimateDataQualityChecker extends ClimateDataQualityChecker {
      * 
      * @param data
      * @param station
-     * @param checkParam
-     * @param checkValue
+     * @param compiled
+     * @param cresult
      * @return
      * @throws Exception
      */
     private boolean isGreaterThan(DailyClimateData data, Station station,
-            String checkParamName, Object checkValue, CheckResult cresult)
-                    throws Exception {
-
-        boolean greaterThan = false;
-        String checkFieldName = PARAM_ATTRIBUTE_MAP.get(checkParamName)[0];
-        FieldTypeAndValue tv = getFieldValue(data, checkFieldName);
-
-        if (tv.getType() == CheckDataType.UNKNOWN || tv.getValue() == null) {
-            throw new Exception("Data Type of the parameter " + checkParamName
-                    + " is not supported for greater-than check");
-        }
-
-        /*
-         * Wind dir and speed are encapsulated in ClimateWind Following call
-         * extracted their real type and value
-         */
-        if (tv.getType() == CheckDataType.WINDOBJ) {
-            getWindValue(checkParamName, tv);
-        }
-
-        String msg = "The value of [" + checkParamName + "] is greater than ";
-
-        switch (tv.getType()) {
-        case SHORT:
-        case INT:
-            int iv = (int) tv.getValue();
-            int iV = Integer.valueOf((String) checkValue);
-            if (iv > iV) {
-                greaterThan = true;
-                msg = msg + iV;
-                cresult.setPassed(false);
-            }
-            break;
-        case LONG:
-            long lv = (long) tv.getValue();
-            long lV = Long.valueOf((String) checkValue);
-            if (lv > lV) {
-                greaterThan = true;
-                msg = msg + lV;
-                cresult.setPassed(false);
-            }
-            break;
-        case FLOAT:
-            float fv = (float) tv.getValue();
-            float fV = Float.valueOf((String) checkValue);
-            if (fv > fV) {
-                greaterThan = true;
-                msg = msg + fV;
-                cresult.setPassed(false);
-            }
-            break;
-        case DOUBLE:
-            double dv = (double) tv.getValue();
-            double dV = Double.valueOf((String) checkValue);
-            if (dv > dV) {
-                greaterThan = true;
-                msg = msg + dV;
-                cresult.setPassed(false);
-
-            }
-            break;
-        default:
-            break;
-        }
+            CompiledCheck compiled, CheckResult cresult) throws Exception {
+        Number threshold = getThreshold(compiled);
 
+        boolean greaterThan = getParameter(compiled)
+                .getValue(data) > threshold.doubleValue();
         if (greaterThan) {
-            cresult.addDetail(
-                    msg + " for station [" + station.getStationName() + "]");
+            cresult.setPassed(false);
+            cresult.addDetail("The value of [" + compiled.qcInfo.getParamName()
+                    + "] is greater than " + threshold + " for station ["
+                    + station.getStationName() + "]");
         }
 
         return greaterThan;
@@ -363,80 +364,23 @@ public class DailyClimateDataQualityChecker extends ClimateDataQualityChecker {
      * 
      * @param data
      * @param station
-     * @param checkParamName
-     * @param checkValue
+     * @param compiled
      * @param cresult:
      *            a reference of CheckResult object,
      * @return
      * @throws Exception
      */
     private boolean isLessThan(DailyClimateData data, Station station,
-            String checkParamName, Object checkValue, CheckResult cresult)
-                    throws Exception {
-
-        boolean lessThan = false;
-        String checkFieldName = PARAM_ATTRIBUTE_MAP.get(checkParamName)[0];
-        FieldTypeAndValue tv = getFieldValue(data, checkFieldName);
-
-        if (tv.getType() == CheckDataType.UNKNOWN || tv.getValue() == null) {
-            throw new Exception("Data Type of the parameter " + checkParamName
-                    + " is not supported for less-than check");
-        }
-
-        /*
-         * Wind dir and speed are encapsulated in ClimateWind Following call
-         * extracted their real type and value
-         */
-        if (tv.getType() == CheckDataType.WINDOBJ) {
-            getWindValue(checkParamName, tv);
-        }
-
-        String msg = "The value of [" + checkParamName + "] is less than ";
-        switch (tv.getType()) {
-        case SHORT:
-        case INT:
-            int iv = (int) tv.getValue();
-            int iV = Integer.valueOf((String) checkValue);
-            if (iv < iV) {
-                lessThan = true;
-                msg = msg + iV;
-                cresult.setPassed(false);
-            }
-            break;
-        case LONG:
-            long lv = (long) tv.getValue();
-            long lV = Long.valueOf((String) checkValue);
-            if (lv < lV) {
-                lessThan = true;
-                msg = msg + lV;
-                cresult.setPassed(false);
-            }
-            break;
-        case FLOAT:
-            float fv = (float) tv.getValue();
-            float fV = Float.valueOf((String) checkValue);
-            if (fv < fV) {
-                lessThan = true;
-                msg = msg + fV;
-                cresult.setPassed(false);
-            }
-            break;
-        case DOUBLE:
-            double dv = (double) tv.getValue();
-            double dV = Double.valueOf((String) checkValue);
-            if (dv < dV) {
-                lessThan = true;
-                msg = msg + dV;
-                cresult.setPassed(false);
-            }
-            break;
-        default:
-            break;
-        }
+            CompiledCheck compiled, CheckResult cresult) throws Exception {
+        Number threshold = getThreshold(compiled);
 
+        boolean lessThan = getParameter(compiled)
+                .getValue(data) < threshold.doubleValue();
         if (lessThan) {
-            cresult.addDetail(
-                    msg + " for station [" + station.getStationName() + "]");
+            cresult.setPassed(false);
+            cresult.addDetail("The value of [" + compiled.qcInfo.getParamName()
+                    + "] is less than " + threshold + " for station ["
+                    + station.getStationName() + "]");
         }
 
         return lessThan;
@@ -0,0 +1,244 @@
+/**
+ * This software was developed and / or modified by NOAA/NWS/OCP/ASDT
+ **/
+package gov.noaa.nws.ocp.edex.climate.prodgen.qc.checker;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+
+import gov.noaa.nws.ocp.common.dataplugin.climate.ClimateDate;
+import gov.noaa.nws.ocp.common.dataplugin.climate.ClimateWind;
+import gov.noaa.nws.ocp.common.dataplugin.climate.DailyClimateData;
+import gov.noaa.nws.ocp.common.dataplugin.climate.PeriodType;
+import gov.noaa.nws.ocp.common.dataplugin.climate.Station;
+import gov.noaa.nws.ocp.common.dataplugin.climate.parameter.ParameterFormatClimate;
+import gov.noaa.nws.ocp.common.dataplugin.climate.report.ClimateDailyReportData;
+import gov.noaa.nws.ocp.common.dataplugin.climate.response.ClimateRunDailyData;
+import gov.noaa.nws.ocp.edex.climate.prodgen.qc.CheckResult;
+import gov.noaa.nws.ocp.edex.climate.prodgen.qc.DataQualityCheckTriple;
+
+/**
+ * Micro-benchmark of the daily QC checks: a missing, an upper and a lower limit
+ * check of every supported parameter over synthetic stations, checked by
+ * {@link DailyClimateDataQualityChecker} and by a reference that reads each
+ * value by reflection, compares its text with the missing value text, and
+ * parses the threshold on each check, as the checks did before they were
+ * compiled. Every value is in its limits, so every check of every station is
+ * run. Some stations have a missing sky cover written as the integer missing
+ * value, which neither check reports as missing. The results of the two are
+ * compared before timing.
+ *
+ * Run with: java DailyClimateDataQualityCheckerBenchmark [stations]
+ * [iterations]
+ *
+ * <pre>
+ *
+ * SOFTWARE HISTORY
+ *
+ * Date         Ticket#    Engineer    Description
+ * ------------ ---------- ----------- --------------------------
+ * Oct 17, 2026            agent       Initial creation
+ *
+ * </pre>
+ *
+ * @author agent
+ */
+public class DailyClimateDataQualityCheckerBenchmark {
+
+    private static final long SEED = 20171107L;
+
+    private static final int WARMUP_ITERATIONS = 20;
+
+    /**
+     * Parameter, getter of the reference, lower and upper limit.
+     */
+    private static final String[][] PARAMETERS = {
+            { "maxtemp_cal", "getMaxTemp", "-60", "130" },
+            { "mintemp_cal", "getMinTemp", "-60", "130" },
+            { "min_press", "getMinSlp", "25.0", "35.0" },
+            { "equiv_water", "getPrecip", "-1.0", "30.0" },
+            { "twomin_wspd", "getAvgWindSpeed", "-1.0", "150.0" },
+            { "max2min_wdir", "getMaxWind.getDir", "-1", "361" },
+            { "max2min_wspd", "getMaxWind.getSpeed", "-1.0", "150.0" },
+            { "pkwnd_dir", "getMaxGust.getDir", "-1", "361" },
+            { "pkwnd_spd", "getMaxGust.getSpeed", "-1.0", "250.0" },
+            { "min_sun", "getMinutesSun", "-1", "1441" },
+            { "percent_sun", "getPercentPossSun", "-1", "101" },
+            { "solid_precip", "getSnowDay", "-1.0", "80.0" },
+            { "snowdepth", "getSnowGround", "-1.0", "400.0" },
+            { "avg_sky_cover", "getSkyCover", "-1.0", "10000.0" } };
+
+    /** Missing value text of each parameter, as the reference compares. */
+    private static final String[] MISSING = {
+            String.valueOf(ParameterFormatClimate.MISSING),
+            String.valueOf(ParameterFormatClimate.MISSING),
+            String.valueOf(ParameterFormatClimate.MISSING_SLP),
+            String.valueOf(ParameterFormatClimate.MISSING_PRECIP),
+            String.valueOf(ParameterFormatClimate.MISSING_SPEED),
+            String.valueOf(ParameterFormatClimate.MISSING),
+            String.valueOf(ParameterFormatClimate.MISSING_SPEED),
+            String.valueOf(ParameterFormatClimate.MISSING),
+            String.valueOf(ParameterFormatClimate.MISSING_SPEED),
+            String.valueOf(ParameterFormatClimate.MISSING),
+            String.valueOf(ParameterFormatClimate.MISSING),
+            String.valueOf(ParameterFormatClimate.MISSING_SNOW),
+            String.valueOf(ParameterFormatClimate.MISSING_SNOW),
+            String.valueOf(ParameterFormatClimate.MISSING) };
+
+    public static void main(String[] args) throws Exception {
+        int stations = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+        int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+
+        List<DataQualityCheckTriple> checks = new ArrayList<>();
+        for (String[] parameter : PARAMETERS) {
+            String key = "daily." + parameter[0];
+            checks.add(new DataQualityCheckTriple(key, "M"));
+            checks.add(new DataQualityCheckTriple(key, "<" + parameter[2]));
+            checks.add(new DataQualityCheckTriple(key, ">" + parameter[3]));
+        }
+        DailyClimateDataQualityChecker checker;
+        checker = new DailyClimateDataQualityChecker();
+        checker.setCheckList(checks);
+
+        ClimateRunDailyData data = reportData(stations);
+
+        CheckResult compiled = checker.check(data);
+        boolean reference = checkReference(checks, data);
+        if (!compiled.isPassed() || !reference) {
+            throw new IllegalStateException("Checks failed: compiled "
+                    + compiled.isPassed() + ", reference " + reference + ": "
+                    + compiled.getDetails());
+        }
+
+        long checked = (long) stations * checks.size() * iterations;
+        for (int pass = 0; pass < 2; pass++) {
+            for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+                checker.check(data);
+                checkReference(checks, data);
+            }
+
+            long start = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                checker.check(data);
+            }
+            long compiledNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                checkReference(checks, data);
+            }
+            long referenceNanos = System.nanoTime() - start;
+
+            System.out.printf(
+                    "pass %d: compiled %.1f ns/check, reflective %.1f"
+                            + " ns/check%n",
+                    pass + 1, (double) compiledNanos / checked,
+                    (double) referenceNanos / checked);
+        }
+    }
+
+    /**
+     * @param stations
+     * @return report data of the given number of stations, every value in its
+     *         limits.
+     */
+    private static ClimateRunDailyData reportData(int stations) {
+        Random random = new Random(SEED);
+        HashMap<Integer, ClimateDailyReportData> reportMap = new HashMap<>();
+        for (int id = 1; id <= stations; id++) {
+            Station station = new Station();
+            station.setInformId(id);
+            station.setStationName("Station " + id);
+
+            DailyClimateData daily = new DailyClimateData();
+            daily.setMaxTemp(40 + random.nextInt(50));
+            daily.setMinTemp(10 + random.nextInt(30));
+            daily.setMinSlp(29 + random.nextDouble() * 2);
+            daily.setPrecip(random.nextInt(300) / 100f);
+            daily.setAvgWindSpeed(random.nextInt(300) / 10f);
+            daily.setMaxWind(new ClimateWind(random.nextInt(36) * 10,
+                    random.nextInt(500) / 10f));
+            daily.setMaxGust(new ClimateWind(random.nextInt(36) * 10,
+                    random.nextInt(800) / 10f));
+            daily.setMinutesSun(random.nextInt(900));
+            daily.setPercentPossSun(random.nextInt(101));
+            daily.setSnowDay(random.nextInt(100) / 10f);
+            daily.setSnowGround(random.nextInt(300) / 10f);
+            daily.setSkyCover(id % 10 == 0 ? ParameterFormatClimate.MISSING
+                    : random.nextInt(11) / 10f);
+
+            reportMap.put(id, new ClimateDailyReportData(station, null, null,
+                    daily, null, null, null));
+        }
+        return new ClimateRunDailyData(PeriodType.MORN_NWWS,
+                new ClimateDate(7, 11, 2017), reportMap);
+    }
+
+    /**
+     * @param checks
+     * @param data
+     * @return true if every station passed every check, checked as before the
+     *         checks were compiled.
+     */
+    private static boolean checkReference(List<DataQualityCheckTriple> checks,
+            ClimateRunDailyData data) throws Exception {
+        for (ClimateDailyReportData report : data.getReportMap().values()) {
+            for (DataQualityCheckTriple check : checks) {
+                int index = indexOf(check.getParamName());
+                Object value = getReferenceValue(report.getData(),
+                        PARAMETERS[index][1]);
+                if (MISSING[index].equals(value.toString())) {
+                    return false;
+                }
+                switch (check.getCheckOp()) {
+                case GT:
+                    if (compare(value, (String) check.getParamValue()) > 0) {
+                        return false;
+                    }
+                    break;
+                case LT:
+                    if (compare(value, (String) check.getParamValue()) < 0) {
+                        return false;
+                    }
+                    break;
+                default:
+                    break;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static int indexOf(String paramName) {
+        for (int i = 0; i < PARAMETERS.length; i++) {
+            if (PARAMETERS[i][0].equals(paramName)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException(paramName);
+    }
+
+    private static Object getReferenceValue(Object data, String getters)
+            throws Exception {
+        Object value = data;
+        for (String getter : getters.split("\\.")) {
+            Method method = value.getClass().getMethod(getter);
+            value = method.invoke(value);
+        }
+        return value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static int compare(Object value, String threshold) {
+        Comparable<Object> comparable = (Comparable<Object>) value;
+        if (value instanceof Integer) {
+            return comparable.compareTo(Integer.valueOf(threshold));
+        } else if (value instanceof Float) {
+            return comparable.compareTo(Float.valueOf(threshold));
+        }
+        return comparable.compareTo(Double.valueOf(threshold));
+    }
+}
@@ -36,6 +36,7 @@ import gov.noaa.nws.ocp.edex.common.climate.dao.ClimateCreatorDAO.FSSReportResul
 import gov.noaa.nws.ocp.edex.common.climate.dao.ClimateDailyNormDAO;
 import gov.noaa.nws.ocp.edex.common.climate.dao.ClimatePeriodNormDAO;
 import gov.noaa.nws.ocp.edex.common.climate.dao.DailyClimateDAO;
+import gov.noaa.nws.ocp.edex.common.climate.dao.MetarHourlyWindow;
 import gov.noaa.nws.ocp.edex.common.climate.util.ClimateDAOUtils;
 import gov.noaa.nws.ocp.edex.common.climate.util.MetarUtils;
 import gov.noaa.nws.ocp.edex.common.climate.util.SunLib;
@@ -80,6 +81,8 @@ import gov.noaa.nws.ocp.edex.common.climate.util.SunLib;
  * 13 DEC 2017  41565      wpaintsil   Fix IM/PM discrepancies.
  * 13 APR 2018  DR17116    wpaintsil   Wherever precipSeason and snowSeason are used, change
  *                                     the algorithm to account for multiple seasons.
+ * 17 OCT 2026             agent       Load each station's METARs for the window in one pass
+ *                                     instead of querying per hour and element.
  * </pre>
  * 
  * @author amoore
@@ -794,11 +797,13 @@ public final class DailyClimateCreator {
      * @param dailyClimateData
      *            data to set, assumed to already have inform ID (station ID)
      *            set.
+     * @param hourly
+     *            preloaded METAR window, or null to query.
      * @throws ClimateQueryException
      */
     private void buildDailyObsWind(ClimateDates window, PeriodType itype,
-            short numOffUTC, DailyClimateData dailyClimateData)
-            throws ClimateQueryException {
+            short numOffUTC, DailyClimateData dailyClimateData,
+            MetarHourlyWindow hourly) throws ClimateQueryException {
         /*
          * Retrieve up to 24 hours of wind directions and speeds from the data
          * base. Build the array of wind directions and speeds one hour at a
@@ -920,7 +925,7 @@ public final class DailyClimateCreator {
                  * Get the hourly winds from which to estimate maximum wind
                  * speed and to calculate the resultant wind.
                  */
-                climateCreatorDAO.getHourlyWinds(currDate, currTime,
+                climateCreatorDAO.getHourlyWinds(hourly, currDate, currTime,
                         dailyClimateData.getInformId(), winds.get(i));
 
                 /*
@@ -953,8 +958,8 @@ public final class DailyClimateCreator {
                  * and nominal time
                  */
                 ClimateWind aGust = ClimateWind.getMissingClimateWind();
-                climateCreatorDAO.getAllHourlyGusts(currDate, currTime,
-                        dailyClimateData.getInformId(), aGust);
+                climateCreatorDAO.getAllHourlyGusts(hourly, currDate,
+                        currTime, dailyClimateData.getInformId(), aGust);
 
                 /*
                  * Now test against to see if the most recent hourly gust is
@@ -990,8 +995,8 @@ public final class DailyClimateCreator {
 
                 ClimateWind aPeakWind = ClimateWind.getMissingClimateWind();
                 ClimateTime aPeakWindTime = ClimateTime.getMissingClimateTime();
-                climateCreatorDAO.getHourlyPeakWinds(currDate, currTime,
-                        dailyClimateData.getInformId(), aPeakWind,
+                climateCreatorDAO.getHourlyPeakWinds(hourly, currDate,
+                        currTime, dailyClimateData.getInformId(), aPeakWind,
                         aPeakWindTime);
 
                 /*
@@ -1138,9 +1143,11 @@ public final class DailyClimateCreator {
      * @param dailyClimateData
      *            data to set. Assumed to already have inform ID (station ID)
      *            set.
+     * @param hourly
+     *            preloaded METAR window, or null to query.
      */
     private void buildDailyObsRh(ClimateDates window, PeriodType itype,
-            DailyClimateData dailyClimateData) {
+            DailyClimateData dailyClimateData, MetarHourlyWindow hourly) {
         int stationID = dailyClimateData.getInformId();
 
         int hourMaxRH = 0;
@@ -1192,9 +1199,10 @@ public final class DailyClimateCreator {
 
             currTime.setHour(ihour);
 
-            double temperature = getTemp(tempDate, currTime, stationID);
+            double temperature = getTemp(tempDate, currTime, stationID,
+                    hourly);
 
-            double dewpoint = getDew(tempDate, currTime, stationID);
+            double dewpoint = getDew(tempDate, currTime, stationID, hourly);
 
             // Now calculate RH for each valid temperature and dewpoint.
             if ((temperature != ParameterFormatClimate.MISSING)
@@ -1316,9 +1324,11 @@ public final class DailyClimateCreator {
      * @param dailyClimateData
      *            data to set. Assumed to already have inform ID (station ID)
      *            set.
+     * @param hourly
+     *            preloaded METAR window, or null to query.
      */
     private void buildDailyObsPrecip(ClimateDates window,
-            DailyClimateData dailyClimateData) {
+            DailyClimateData dailyClimateData, MetarHourlyWindow hourly) {
         /*
          * Contains the beginning base time in UNIX ticks representation.
          */
@@ -1409,7 +1419,7 @@ public final class DailyClimateCreator {
 
             try {
                 FSSReportResult result = climateCreatorDAO.getMetarConreal(
-                        dailyClimateData.getInformId(),
+                        hourly, dailyClimateData.getInformId(),
                         MetarUtils.METAR_6HR_PRECIP, nominalTimeString);
 
                 if (!result.isMissing()) {
@@ -1447,7 +1457,7 @@ public final class DailyClimateCreator {
 
                 try {
                     FSSReportResult result = climateCreatorDAO.getMetarConreal(
-                            dailyClimateData.getInformId(),
+                            hourly, dailyClimateData.getInformId(),
                             MetarUtils.METAR_3HR_PRECIP, nominalTimeString);
 
                     if (!result.isMissing()) {
@@ -1462,7 +1472,7 @@ public final class DailyClimateCreator {
 
                         dailyClimateData.setPrecip(getPrecipRainAmount(-2, 0,
                                 dailyClimateData.getInformId(), baseMilliTicks,
-                                dailyClimateData.getPrecip()));
+                                dailyClimateData.getPrecip(), hourly));
 
                         threeHour = true;
                         oneHour = true;
@@ -1485,7 +1495,7 @@ public final class DailyClimateCreator {
                      */
                     dailyClimateData.setPrecip(getPrecipRainAmount(-5, 0,
                             dailyClimateData.getInformId(), baseMilliTicks,
-                            dailyClimateData.getPrecip()));
+                            dailyClimateData.getPrecip(), hourly));
 
                     oneHour = true;
                 }
@@ -1514,7 +1524,8 @@ public final class DailyClimateCreator {
                 boolean sixHourMissingOrError = false;
                 try {
                     FSSReportResult sixHourResult = climateCreatorDAO
-                            .getMetarConreal(dailyClimateData.getInformId(),
+                            .getMetarConreal(hourly,
+                                    dailyClimateData.getInformId(),
                                     MetarUtils.METAR_6HR_PRECIP,
                                     nominalTimeString);
 
@@ -1539,6 +1550,7 @@ public final class DailyClimateCreator {
                         try {
                             FSSReportResult threeHourResult = climateCreatorDAO
                                     .getMetarConreal(
+                                            hourly,
                                             dailyClimateData.getInformId(),
                                             MetarUtils.METAR_3HR_PRECIP,
                                             nominalTimeString);
@@ -1568,7 +1580,7 @@ public final class DailyClimateCreator {
                                                 -1 * (beginOffset - 1), 0,
                                                 dailyClimateData.getInformId(),
                                                 beginBaseMilliTicks,
-                                                rainAmount);
+                                                rainAmount, hourly);
                                         oneHour = true;
                                     } else if (ClimateUtilities.floatingEquals(
                                             rainAmount,
@@ -1583,7 +1595,7 @@ public final class DailyClimateCreator {
                                                 -1 * (beginOffset - 1), -3,
                                                 dailyClimateData.getInformId(),
                                                 beginBaseMilliTicks,
-                                                rainAmount);
+                                                rainAmount, hourly);
                                         oneHour = true;
                                     } else {
                                         rainAmount -= threeHourResult
@@ -1597,7 +1609,7 @@ public final class DailyClimateCreator {
                                                 -1 * (beginOffset - 1), -3,
                                                 dailyClimateData.getInformId(),
                                                 beginBaseMilliTicks,
-                                                rainAmount);
+                                                rainAmount, hourly);
                                         oneHour = true;
                                     }
                                 } else if ((threeHourResult.getValue() > 0)
@@ -1614,7 +1626,7 @@ public final class DailyClimateCreator {
                                             -1 * (beginOffset - 1), -3,
                                             dailyClimateData.getInformId(),
                                             beginBaseMilliTicks,
-                                            ClimateCreatorDAO.R_MISS);
+                                            ClimateCreatorDAO.R_MISS, hourly);
                                 }
                             }
                         } catch (ClimateQueryException e) {
@@ -1633,7 +1645,7 @@ public final class DailyClimateCreator {
                                     -1 * (beginOffset - 1), 0,
                                     dailyClimateData.getInformId(),
                                     beginBaseMilliTicks,
-                                    ClimateCreatorDAO.R_MISS);
+                                    ClimateCreatorDAO.R_MISS, hourly);
                             oneHour = true;
                         }
                     }
@@ -1650,7 +1662,7 @@ public final class DailyClimateCreator {
                      */
                     rainAmount = getPrecipRainAmount(-1 * (beginOffset - 1), 0,
                             dailyClimateData.getInformId(), beginBaseMilliTicks,
-                            ClimateCreatorDAO.R_MISS);
+                            ClimateCreatorDAO.R_MISS, hourly);
                     oneHour = true;
                 }
             } else {
@@ -1660,7 +1672,7 @@ public final class DailyClimateCreator {
                  */
                 rainAmount = getPrecipRainAmount(-1 * (beginOffset - 1), 0,
                         dailyClimateData.getInformId(), beginBaseMilliTicks,
-                        rainAmount);
+                        rainAmount, hourly);
                 oneHour = true;
             }
 
@@ -1685,7 +1697,8 @@ public final class DailyClimateCreator {
                 boolean threeHourMissingOrError = false;
                 try {
                     FSSReportResult threeHourResult = climateCreatorDAO
-                            .getMetarConreal(dailyClimateData.getInformId(),
+                            .getMetarConreal(hourly,
+                                    dailyClimateData.getInformId(),
                                     MetarUtils.METAR_3HR_PRECIP,
                                     nominalTimeString);
 
@@ -1700,7 +1713,7 @@ public final class DailyClimateCreator {
                         if (endOffset > 3) {
                             rainAmount = getPrecipRainAmount(4, endOffset,
                                     dailyClimateData.getInformId(),
-                                    endBaseMilliTicks, rainAmount);
+                                    endBaseMilliTicks, rainAmount, hourly);
                             oneHour = true;
                         }
                     }
@@ -1717,7 +1730,7 @@ public final class DailyClimateCreator {
                      */
                     rainAmount = getPrecipRainAmount(1, endOffset,
                             dailyClimateData.getInformId(), endBaseMilliTicks,
-                            rainAmount);
+                            rainAmount, hourly);
                     oneHour = true;
                 }
 
@@ -1727,7 +1740,7 @@ public final class DailyClimateCreator {
                  */
                 rainAmount = getPrecipRainAmount(1, endOffset,
                         dailyClimateData.getInformId(), endBaseMilliTicks,
-                        rainAmount);
+                        rainAmount, hourly);
                 oneHour = true;
             }
 
@@ -1917,9 +1930,11 @@ public final class DailyClimateCreator {
      * @param dailyClimateData
      *            data to set. Assumed to already have inform ID (station ID)
      *            set.
+     * @param hourly
+     *            preloaded METAR window, or null to query.
      */
     private void buildDailyObsTemp(ClimateDates window, PeriodType itype,
-            DailyClimateData dailyClimateData) {
+            DailyClimateData dailyClimateData, MetarHourlyWindow hourly) {
         /*
          * Initialize the structure that contains the time of the max/min
          * temperatures (if these were determined via hourly observations).
@@ -2010,7 +2025,8 @@ public final class DailyClimateCreator {
                                 .format(nominalCal.getTime());
 
                         FSSReportResult result = climateCreatorDAO
-                                .getMetarConreal(dailyClimateData.getInformId(),
+                                .getMetarConreal(hourly,
+                                        dailyClimateData.getInformId(),
                                         MetarUtils.METAR_24HR_MAXTEMP,
                                         nominalTimeString);
 
@@ -2034,7 +2050,8 @@ public final class DailyClimateCreator {
                                 .format(nominalCal.getTime());
 
                         FSSReportResult result = climateCreatorDAO
-                                .getMetarConreal(dailyClimateData.getInformId(),
+                                .getMetarConreal(hourly,
+                                        dailyClimateData.getInformId(),
                                         MetarUtils.METAR_24HR_MINTEMP,
                                         nominalTimeString);
 
@@ -2107,7 +2124,8 @@ public final class DailyClimateCreator {
                          * the time period's end time metar
                          */
                         FSSReportResult tempFrom6Result = climateCreatorDAO
-                                .getMetarConreal(dailyClimateData.getInformId(),
+                                .getMetarConreal(hourly,
+                                        dailyClimateData.getInformId(),
                                         MetarUtils.METAR_6HR_MAXTEMP,
                                         adjustEndTimeString);
 
@@ -2123,7 +2141,8 @@ public final class DailyClimateCreator {
                              */
                             ClimateCreatorDAO.ExtremeTempPeriodResult result = determinePeriodMax(
                                     dailyClimateData.getInformId(),
-                                    adjustBeginMilliTime, adjustEndMilliTime);
+                                    adjustBeginMilliTime, adjustEndMilliTime,
+                                    hourly);
 
                             if (!result.isMissing()) {
                                 value = result.getTemp();
@@ -2188,7 +2207,8 @@ public final class DailyClimateCreator {
                          * the time period's end time metar
                          */
                         FSSReportResult tempFrom6Result = climateCreatorDAO
-                                .getMetarConreal(dailyClimateData.getInformId(),
+                                .getMetarConreal(hourly,
+                                        dailyClimateData.getInformId(),
                                         MetarUtils.METAR_6HR_MINTEMP,
                                         adjustEndTimeString);
 
@@ -2204,7 +2224,8 @@ public final class DailyClimateCreator {
                              */
                             ClimateCreatorDAO.ExtremeTempPeriodResult result = determinePeriodMin(
                                     dailyClimateData.getInformId(),
-                                    adjustBeginTimeMilli, adjustEndTimeMilli);
+                                    adjustBeginTimeMilli, adjustEndTimeMilli,
+                                    hourly);
                             if (!result.isMissing()) {
                                 value = result.getTemp();
                                 qcFlag = result.getFlag();
@@ -2251,7 +2272,7 @@ public final class DailyClimateCreator {
 
                     ClimateCreatorDAO.ExtremeTempPeriodResult maxResult = determinePeriodMax(
                             dailyClimateData.getInformId(), beginDTimeMilli,
-                            endDTimeMilli);
+                            endDTimeMilli, hourly);
 
                     if (!maxResult.isMissing()) {
 
@@ -2282,7 +2303,7 @@ public final class DailyClimateCreator {
 
                     ClimateCreatorDAO.ExtremeTempPeriodResult minResult = determinePeriodMin(
                             dailyClimateData.getInformId(), beginDTimeMilli,
-                            endDTimeMilli);
+                            endDTimeMilli, hourly);
                     if (!minResult.isMissing()) {
                         float minValue = minResult.getTemp();
                         int minFlag = minResult.getFlag();
@@ -2318,7 +2339,7 @@ public final class DailyClimateCreator {
 
                     ClimateCreatorDAO.ExtremeTempPeriodResult maxResult = determinePeriodMax(
                             dailyClimateData.getInformId(), beginDTimeMilli,
-                            endDTimeMilli);
+                            endDTimeMilli, hourly);
 
                     if (!maxResult.isMissing()) {
 
@@ -2349,7 +2370,7 @@ public final class DailyClimateCreator {
 
                     ClimateCreatorDAO.ExtremeTempPeriodResult minResult = determinePeriodMin(
                             dailyClimateData.getInformId(), beginDTimeMilli,
-                            endDTimeMilli);
+                            endDTimeMilli, hourly);
                     if (!minResult.isMissing()) {
                         float minValue = minResult.getTemp();
                         int minFlag = minResult.getFlag();
@@ -2481,6 +2502,18 @@ public final class DailyClimateCreator {
             ClimateDates window = determineWindow(aDate, currStation, itype,
                     validTime);
 
+            // Load the METARs of the window at once, rather than querying for
+            // each hour and element.
+            MetarHourlyWindow hourly = null;
+            try {
+                hourly = climateCreatorDAO.getMetarHourlyWindow(
+                        currStation.getInformId(), window);
+            } catch (ClimateQueryException e) {
+                logger.error(
+                        "Error loading METAR window. METAR values will be queried by hour.",
+                        e);
+            }
+
             // *************************************************************************
             // 7-19-99
             // Routine retrieves the weather values from ASOS daily summary
@@ -2514,7 +2547,7 @@ public final class DailyClimateCreator {
                     || (yesterday
                             .getMinTemp() == ParameterFormatClimate.MISSING)) {
 
-                buildDailyObsTemp(window, itype, yesterday);
+                buildDailyObsTemp(window, itype, yesterday, hourly);
             }
 
             // If the time the max and min was reported, convert that time to
@@ -2557,7 +2590,7 @@ public final class DailyClimateCreator {
                     .getPrecip() != ParameterFormatClimate.MISSING_PRECIP) {
                 yesterdayQC.setPrecipQc(QCValues.PRECIP_FROM_DSM);
             } else {
-                buildDailyObsPrecip(window, yesterday);
+                buildDailyObsPrecip(window, yesterday, hourly);
             }
 
             // Build/retrieve the daily observed snow climatology
@@ -2578,7 +2611,7 @@ public final class DailyClimateCreator {
             if ((yesterdayQC.getSnowQc() == ParameterFormatClimate.MISSING)
                     || (yesterdayQC
                             .getDepthQc() == ParameterFormatClimate.MISSING)) {
-                computeDailySnow(window, itype, yesterday);
+                computeDailySnow(window, itype, yesterday, hourly);
             }
             // Using snow_ground from DSM if snow_ground is not missing.
             if (snowGround != ParameterFormatClimate.MISSING_SNOW) {
@@ -2598,7 +2631,7 @@ public final class DailyClimateCreator {
             }
 
             // Build/retrieve the daily observed RH climatology
-            buildDailyObsRh(window, itype, yesterday);
+            buildDailyObsRh(window, itype, yesterday, hourly);
 
             // Build/retrieve the daily observed wind climatology
             if (yesterday.getMaxWind()
@@ -2621,7 +2654,7 @@ public final class DailyClimateCreator {
                 yesterdayQC.setAvgWindQc(ParameterFormatClimate.MISSING);
             }
             buildDailyObsWind(window, itype, currStation.getNumOffUTC(),
-                    yesterday);
+                    yesterday, hourly);
 
             // Build/retrieve the daily observed sky condition climatology
             if (yesterday.getSkyCover() != ParameterFormatClimate.MISSING) {
@@ -3150,10 +3183,13 @@ public final class DailyClimateCreator {
      * @param date
      * @param time
      * @param stationID
+     * @param hourly
+     *            preloaded METAR window, or null to query.
      * @return
      */
 
-    private double getDew(ClimateDate date, ClimateTime time, int stationID) {
+    private double getDew(ClimateDate date, ClimateTime time, int stationID,
+            MetarHourlyWindow hourly) {
         Calendar cal = date.getCalendarFromClimateDate();
         cal.set(Calendar.HOUR_OF_DAY, time.getHour());
         cal.set(Calendar.MINUTE, time.getMin());
@@ -3172,7 +3208,8 @@ public final class DailyClimateCreator {
              * or not the data is legitimate.
              */
             FSSReportResult result = climateCreatorDAO.getMetarConreal(
-                    stationID, MetarUtils.METAR_DEWPOINT_2_TENTHS, datetime);
+                    hourly, stationID, MetarUtils.METAR_DEWPOINT_2_TENTHS,
+                    datetime);
 
             if (result.isMissing()) {
                 dewpoint = ParameterFormatClimate.MISSING;
@@ -3190,7 +3227,7 @@ public final class DailyClimateCreator {
              */
             try {
                 FSSReportResult result = climateCreatorDAO.getMetarConreal(
-                        stationID, MetarUtils.METAR_DEWPOINT, datetime);
+                        hourly, stationID, MetarUtils.METAR_DEWPOINT, datetime);
 
                 if (result.isMissing()) {
                     dewpoint = ParameterFormatClimate.MISSING;
@@ -3244,10 +3281,13 @@ public final class DailyClimateCreator {
      * @param date
      * @param time
      * @param stationID
+     * @param hourly
+     *            preloaded METAR window, or null to query.
      * @return
      */
 
-    private double getTemp(ClimateDate date, ClimateTime time, int stationID) {
+    private double getTemp(ClimateDate date, ClimateTime time, int stationID,
+            MetarHourlyWindow hourly) {
         Calendar cal = date.getCalendarFromClimateDate();
         cal.set(Calendar.HOUR_OF_DAY, time.getHour());
         cal.set(Calendar.MINUTE, time.getMin());
@@ -3266,7 +3306,8 @@ public final class DailyClimateCreator {
              * see whether or not the data is legitimate.
              */
             FSSReportResult result = climateCreatorDAO.getMetarConreal(
-                    stationID, MetarUtils.METAR_TEMP_2_TENTHS, datetime);
+                    hourly, stationID, MetarUtils.METAR_TEMP_2_TENTHS,
+                    datetime);
 
             if (result.isMissing()) {
                 temperature = ParameterFormatClimate.MISSING;
@@ -3285,7 +3326,7 @@ public final class DailyClimateCreator {
              */
             try {
                 FSSReportResult result = climateCreatorDAO.getMetarConreal(
-                        stationID, MetarUtils.METAR_TEMP, datetime);
+                        hourly, stationID, MetarUtils.METAR_TEMP, datetime);
 
                 if (result.isMissing()) {
                     temperature = ParameterFormatClimate.MISSING;
@@ -3362,10 +3403,12 @@ public final class DailyClimateCreator {
      * @param data
      *            data to set. Assumed to already have inform ID (station ID)
      *            set.
+     * @param hourly
+     *            preloaded METAR window, or null to query.
      */
 
     private void computeDailySnow(ClimateDates window, PeriodType itype,
-            DailyClimateData data) {
+            DailyClimateData data, MetarHourlyWindow hourly) {
         /*
          * Contains the beginning base time in UNIX ticks representation.
          */
@@ -3547,7 +3590,8 @@ public final class DailyClimateCreator {
                 } else if (!correction.equals("A")) {
                     try {
                         FSSReportResult result = climateCreatorDAO
-                                .getMetarConreal(data.getInformId(),
+                                .getMetarConreal(hourly,
+                                        data.getInformId(),
                                         MetarUtils.METAR_SNOW_DEPTH,
                                         nominalTimeString);
                         data.setSnowGround((float) result.getValue());
@@ -3607,7 +3651,8 @@ public final class DailyClimateCreator {
                     } else if (!correction.equals("A")) {
                         try {
                             FSSReportResult result = climateCreatorDAO
-                                    .getMetarConreal(data.getInformId(),
+                                    .getMetarConreal(hourly,
+                                            data.getInformId(),
                                             MetarUtils.METAR_SNOW_DEPTH,
                                             nominalTimeString);
                             data.setSnowGround((float) result.getValue());
@@ -3688,11 +3733,13 @@ public final class DailyClimateCreator {
      * @param baseMilliTicks
      * @param precip
      *            current precip value
+     * @param hourly
+     *            preloaded METAR window, or null to query.
      * @return new precip value
      */
 
     private float getPrecipRainAmount(int bottomTime, int topTime, int informId,
-            long baseMilliTicks, float precip) {
+            long baseMilliTicks, float precip, MetarHourlyWindow hourly) {
         try {
             for (int i = topTime; i >= bottomTime; i--) {
                 long nominalMilliTicks = baseMilliTicks
@@ -3704,7 +3751,7 @@ public final class DailyClimateCreator {
                         .format(nominalTimeCal.getTime());
 
                 FSSReportResult result = climateCreatorDAO.getMetarConreal(
-                        informId, MetarUtils.METAR_1HR_PRECIP,
+                        hourly, informId, MetarUtils.METAR_1HR_PRECIP,
                         nominalTimeString);
 
                 if (!result.isMissing()) {
@@ -3737,11 +3784,14 @@ public final class DailyClimateCreator {
      *            in milliseconds
      * @param endTimeMilli
      *            in milliseconds
+     * @param hourly
+     *            preloaded METAR window, or null to query.
      * @return
      */
 
     private ClimateCreatorDAO.ExtremeTempPeriodResult determinePeriodMin(
-            int informId, long beginTimeMilli, long endTimeMilli) {
+            int informId, long beginTimeMilli, long endTimeMilli,
+            MetarHourlyWindow hourly) {
         Calendar beginCal = TimeUtil.newCalendar();
         beginCal.setTimeInMillis(beginTimeMilli);
         String beginTimeString = ClimateDate.getFullDateTimeFormat()
@@ -3751,7 +3801,7 @@ public final class DailyClimateCreator {
             /* should be only one metar; get its temperature */
             try {
                 FSSReportResult tenthsResult = climateCreatorDAO
-                        .getMetarConreal(informId,
+                        .getMetarConreal(hourly, informId,
                                 MetarUtils.METAR_TEMP_2_TENTHS,
                                 beginTimeString);
 
@@ -3770,7 +3820,8 @@ public final class DailyClimateCreator {
             /* See if the rounded temperature is there. */
             try {
                 FSSReportResult result = climateCreatorDAO.getMetarConreal(
-                        informId, MetarUtils.METAR_TEMP, beginTimeString);
+                        hourly, informId, MetarUtils.METAR_TEMP,
+                        beginTimeString);
 
                 if (result.isMissing()) {
                     logger.warn(
@@ -3971,11 +4022,14 @@ public final class DailyClimateCreator {
      *            in milliseconds
      * @param endTimeMilli
      *            in milliseconds
+     * @param hourly
+     *            preloaded METAR window, or null to query.
      * @return
      */
 
     private ClimateCreatorDAO.ExtremeTempPeriodResult determinePeriodMax(
-            int informId, long beginTimeMilli, long endTimeMilli) {
+            int informId, long beginTimeMilli, long endTimeMilli,
+            MetarHourlyWindow hourly) {
         Calendar beginCal = TimeUtil.newCalendar();
         beginCal.setTimeInMillis(beginTimeMilli);
         String beginTimeString = ClimateDate.getFullDateTimeFormat()
@@ -3986,7 +4040,7 @@ public final class DailyClimateCreator {
             boolean tenthsFailure = false;
             try {
                 FSSReportResult tenthsResult = climateCreatorDAO
-                        .getMetarConreal(informId,
+                        .getMetarConreal(hourly, informId,
                                 MetarUtils.METAR_TEMP_2_TENTHS,
                                 beginTimeString);
 
@@ -4009,7 +4063,8 @@ public final class DailyClimateCreator {
                 /* See if the rounded temperature is there. */
                 try {
                     FSSReportResult result = climateCreatorDAO.getMetarConreal(
-                            informId, MetarUtils.METAR_TEMP, beginTimeString);
+                            hourly, informId, MetarUtils.METAR_TEMP,
+                            beginTimeString);
 
                     if (result.isMissing()) {
                         logger.warn(
@@ -12,6 +12,11 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.velocity.Template;
 import org.apache.velocity.VelocityContext;
@@ -49,7 +54,6 @@ import gov.noaa.nws.ocp.common.dataplugin.climate.DailyClimateData;
 import gov.noaa.nws.ocp.common.dataplugin.climate.PeriodClimo;
 import gov.noaa.nws.ocp.common.dataplugin.climate.PeriodData;
 import gov.noaa.nws.ocp.common.dataplugin.climate.PeriodType;
-import gov.noaa.nws.ocp.common.dataplugin.climate.QueryData;
 import gov.noaa.nws.ocp.common.dataplugin.climate.SLP;
 import gov.noaa.nws.ocp.common.dataplugin.climate.Station;
 import gov.noaa.nws.ocp.common.dataplugin.climate.exception.ClimateQueryException;
@@ -112,6 +116,9 @@ import gov.noaa.nws.ocp.edex.common.climate.util.ClimateFileUtils;
  * 16 OCT 2017  39449      amoore      Print weather line if any weather detected, not just if
  *                                     num_weather_obs value is non-missing.
  * 28 AUG 2018  DR 20861   dfriedman   Support transmission of F6 reports.
+ * 17 OCT 2026             agent       Share one Velocity engine with cached templates, load
+ *                                     each station's month at once, and build station
+ *                                     reports in parallel.
  * </pre>
  * 
  * @author amoore
@@ -146,10 +153,36 @@ public class F6Builder {
      */
     private static final boolean SEND_ANY_SITE = Boolean.getBoolean("climate.f6.sendAnySite");
 
+    /**
+     * Number of station reports to build at once.
+     */
+    private static final int STATION_THREADS = Integer
+            .getInteger("climate.f6.stationThreads", 4);
+
     /** The logger */
     private static final IUFStatusHandler logger = UFStatus
             .getHandler(F6Builder.class);
 
+    private static final AtomicInteger STATION_THREAD_COUNT = new AtomicInteger();
+
+    /**
+     * Builds station reports. Threads are daemons so that they do not keep
+     * EDEX from stopping.
+     */
+    private static final ExecutorService STATION_EXECUTOR = Executors
+            .newFixedThreadPool(STATION_THREADS, r -> {
+                Thread thread = new Thread(r,
+                        "F6Builder-" + STATION_THREAD_COUNT.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    /**
+     * Velocity engine shared by all reports. Templates are parsed once and
+     * cached by the engine. The engine is thread safe once initialized.
+     */
+    private static final VelocityEngine VELOCITY_ENGINE = createVelocityEngine();
+
     /**
      * Middle part of an F6 LCD PIL.
      * 
@@ -242,21 +275,35 @@ public class F6Builder {
             ccc = siteName;
         }
 
-        boolean disseminate = ClimateGlobalConfiguration.getGlobal()
-                .isAllowDisseminate();
+        ClimateGlobal prefs = ClimateGlobalConfiguration.getGlobal();
+        if (prefs == null) {
+            prefs = ClimateGlobal.getMissingClimateGlobal();
+        }
+        boolean disseminate = prefs.isAllowDisseminate();
+        boolean allUpperCase = prefs.isNoSmallLetters();
 
         if (transmit && !disseminate) {
             messages.append("Dissemination over MHS is disabled!\n");
         }
 
+        /*
+         * Build the reports in parallel, then store or transmit them in
+         * station order.
+         */
+        List<Future<List<String>>> reports = new ArrayList<>(stations.size());
         for (Station station : stations) {
+            reports.add(STATION_EXECUTOR.submit(() -> buildF6ForStation(station,
+                    aDate, remarks, allUpperCase)));
+        }
+
+        for (int i = 0; i < stations.size(); i++) {
+            Station station = stations.get(i);
             // File name to match legacy
             String fileName = OUTPUT_F6_PREFIX + station.getIcaoId();
 
             try {
 
-                List<String> reportContent = buildF6ForStation(station, aDate,
-                        remarks);
+                List<String> reportContent = getReport(reports.get(i));
 
                 if (print) {
                     fileMap.put(fileName, F6_OUTPUT_LOCATION + fileName);
@@ -432,16 +479,56 @@ public class F6Builder {
                 messages.toString());
     }
 
+    /**
+     * @return Velocity engine loading templates from the classpath, and
+     *         caching them.
+     */
+    private static VelocityEngine createVelocityEngine() {
+        VelocityEngine ve = new VelocityEngine();
+        ve.setProperty(RuntimeConstants.RESOURCE_LOADER, "classpath");
+        ve.setProperty("classpath.resource.loader.class",
+                ClasspathResourceLoader.class.getName());
+        ve.setProperty("classpath.resource.loader.cache", "true");
+
+        ve.init();
+
+        return ve;
+    }
+
+    /**
+     * @param report
+     * @return the built report.
+     * @throws Exception
+     *             the exception building the report, if any.
+     */
+    private static List<String> getReport(Future<List<String>> report)
+            throws Exception {
+        try {
+            return report.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw e;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception) {
+                throw (Exception) e.getCause();
+            }
+            throw e;
+        }
+    }
+
     /**
      * 
      * @param station
      * @param aDate
      * @param remarks
+     * @param allUpperCase
+     *            true to use the all upper case template.
      * @return
      * @throws ClimateQueryException
      */
     private List<String> buildF6ForStation(Station station, ClimateDate aDate,
-            String remarks) throws ClimateQueryException {
+            String remarks, boolean allUpperCase)
+            throws ClimateQueryException {
         List<String> lines = new ArrayList<>();
 
         // create latitude/longitude in degrees/minutes
@@ -464,26 +551,12 @@ public class F6Builder {
          * American Samoa has negative latitude (about 14 degrees South).
          */
 
-        // use template
-        VelocityEngine ve = new VelocityEngine();
-        ve.setProperty(RuntimeConstants.RESOURCE_LOADER, "classpath");
-        ve.setProperty("classpath.resource.loader.class",
-                ClasspathResourceLoader.class.getName());
-
-        ve.init();
-
         VelocityContext context = new VelocityContext();
 
         /*
          * Get the Template - use either all upper case or mixed case. Default
          * is to use all upper case.
          */
-        ClimateGlobal prefs = ClimateGlobalConfiguration.getGlobal();
-        if (prefs == null) {
-            prefs = ClimateGlobal.getMissingClimateGlobal();
-        }
-        boolean allUpperCase = prefs.isNoSmallLetters();
-
         String vmTempFile;
         if (allUpperCase) {
             vmTempFile = VELOCITY_TEMP_ALL_UPPER_CASE;
@@ -538,6 +611,19 @@ public class F6Builder {
         DailyClimateData dailyData = DailyClimateData
                 .getMissingDailyClimateData();
 
+        // data and norms for the whole month, by day
+        Map<Integer, DailyClimateData> monthData = dailyClimateDao
+                .getLastYearForMonth(aDate, station.getInformId());
+
+        Map<Integer, ClimateRecordDay> monthNorms;
+        try {
+            monthNorms = climateDailyNormDao
+                    .getHistoricalNormsForMonth(aDate, station.getInformId());
+        } catch (ClimateQueryException e) {
+            logger.error("Error getting historical data.", e);
+            monthNorms = new HashMap<>();
+        }
+
         for (int i = 0; i < aDate.getDay(); i++) {
 
             Map<String, String> dailyValueMap = new HashMap<>();
@@ -548,22 +634,15 @@ public class F6Builder {
 
             f6Date.setDay(i + 1);
 
-            QueryData queryData = dailyClimateDao.getLastYear(f6Date,
-                    station.getInformId());
-            if (queryData.getExists()) {
-                dailyData = (DailyClimateData) queryData.getData();
-            } else {
+            dailyData = monthData.get(i + 1);
+            if (dailyData == null) {
                 logger.warn("No data for day: [" + f6Date.toFullDateString()
                         + "] for station ID: [" + station.getInformId() + "]");
                 dailyData = DailyClimateData.getMissingDailyClimateData();
             }
 
-            ClimateRecordDay historyData;
-            try {
-                historyData = climateDailyNormDao.getHistoricalNorms(f6Date,
-                        station.getInformId());
-            } catch (ClimateQueryException e) {
-                logger.error("Error getting historical data.", e);
+            ClimateRecordDay historyData = monthNorms.get(i + 1);
+            if (historyData == null) {
                 historyData = ClimateRecordDay.getMissingClimateRecordDay();
             }
 
@@ -1511,7 +1590,7 @@ public class F6Builder {
          */
         Template vmTemp;
         try {
-            vmTemp = ve.getTemplate(vmTempFile);
+            vmTemp = VELOCITY_ENGINE.getTemplate(vmTempFile);
 
             /* now render the template into a Writer */
             StringWriter writer = new StringWriter();
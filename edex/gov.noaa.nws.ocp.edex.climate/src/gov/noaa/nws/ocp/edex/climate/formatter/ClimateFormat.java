@@ -4,7 +4,6 @@
 package gov.noaa.nws.ocp.edex.climate.formatter;
 
 import java.util.Calendar;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TimeZone;
@@ -22,8 +21,9 @@ import gov.noaa.nws.ocp.common.dataplugin.climate.exception.ClimateInvalidParame
 import gov.noaa.nws.ocp.common.dataplugin.climate.exception.ClimateQueryException;
 import gov.noaa.nws.ocp.common.dataplugin.climate.parameter.ParameterFormatClimate;
 import gov.noaa.nws.ocp.common.dataplugin.climate.response.ClimateRunData;
+import gov.noaa.nws.ocp.common.localization.climate.climodates.ClimoDates;
+import gov.noaa.nws.ocp.common.localization.climate.climodates.ClimoDatesManager;
 import gov.noaa.nws.ocp.common.localization.climate.producttype.ClimateProductType;
-import gov.noaa.nws.ocp.edex.common.climate.dao.ClimateStationsSetupDAO;
 
 /**
  * Abstract class used to consolidate common functionality for child format
@@ -40,6 +40,11 @@ import gov.noaa.nws.ocp.edex.common.climate.dao.ClimateStationsSetupDAO;
  * 11 OCT 2017  39212      amoore      Better logging of TimeZone defaulting.
  * 20 NOV 2017  41088      amoore      Snow section was missing in CLM due to
  *                                     faulty checks of reportWindow
+ * 17 OCT 2026             agent       Take the station map from the caller,
+ *                                     which loads it once for all products.
+ * 17 OCT 2026             agent       Removed String.format patterns, numbers
+ *                                     are written with ColumnWriter.
+ * 17 OCT 2026             agent       Added #getClimoDates.
  * </pre>
  *
  * @author wpaintsil
@@ -63,9 +68,10 @@ public abstract class ClimateFormat {
     protected final ClimateGlobal globalConfig;
 
     /**
-     * Holds list of stations.
+     * Holds stations by inform ID. Shared by the formats of one run, so it
+     * must not be changed.
      */
-    protected Map<Integer, Station> stationMap = new HashMap<>();
+    protected final Map<Integer, Station> stationMap;
 
     /**
      * The extension for an nwws text product file.
@@ -77,87 +83,11 @@ public abstract class ClimateFormat {
      */
     private static final String NWR_EXT = ".nwr";
 
-    /**
-     * Used to get list of stations.
-     */
-    protected final ClimateStationsSetupDAO climateStationsSetupDao = new ClimateStationsSetupDAO();
-
-    /**
-     * Parameter for String.format to specify a two-digit zero-padded integer.
-     */
-    protected static final String TWO_DIGIT_INT = "%02d";
-
-    /**
-     * Parameter for String.format to specify a three-digit zero-padded integer.
-     */
-    protected static final String THREE_DIGIT_INT = "%03d";
-
-    /**
-     * Parameter for String.format to specify an integer with commas.
-     */
-    protected static final String INT_COMMAS = "%,d";
-
-    /**
-     * Parameter for String.format to specify a float with 1 decimal place.
-     */
-    protected static final String FLOAT_ONE_DECIMAL = "%.1f";
-
-    /**
-     * Parameter for String.format to specify a float with 1 decimal place and
-     * String length of seven.
-     */
-    protected static final String FLOAT_ONE_DECIMAL_SEVEN = "%7.1f";
-
-    /**
-     * Parameter for String.format to specify an integer with a space-padded
-     * string length of five.
-     */
-    protected static final String INT_FIVE = "%5d";
-
-    /**
-     * Parameter for String.format to specify an integer with a space-padded
-     * string length of two.
-     */
-    protected static final String INT_TWO = "%2d";
-
-    /**
-     * Parameter for String.format to specify an integer with a space-padded
-     * string length of three.
-     */
-    protected static final String INT_THREE = "%3d";
-
-    /**
-     * Parameter for String.format to specify a float with 2 decimal places.
-     */
-    protected static final String FLOAT_TWO_DECIMALS1 = "%.2f";
-
-    /**
-     * Parameter for String.format to specify a float with 2 decimal places.
-     */
-    protected static final String FLOAT_TWO_DECIMALS_SEVEN = "%7.2f";
-
-    /**
-     * Parameter for String.format to specify a float with 2 decimal places and
-     * 0 padded in the ones place.
-     */
-    protected static final String FLOAT_TWO_DECIMALS2 = "%04.2f";
-
-    /**
-     * Parameter for String.format to specify a float with 1 decimal and commas.
-     */
-    protected static final String FLOAT_COMMAS_ONE_DECIMAL = "%,.1f";
-
     /**
      * GMT timezone string
      */
     public static final String GMT_STRING = "GMT";
 
-    /**
-     * Parameter for String.format to specify a float with 2 decimals and
-     * commas.
-     */
-    protected static final String FLOAT_COMMAS_TWO_DECIMALS = "%,.2f";
-
     protected static final String AMOUNT = "amount";
 
     protected static final String AND = "and";
@@ -335,27 +265,19 @@ public abstract class ClimateFormat {
     protected static final String PRODUCT_TERMINATOR = "$$";
 
     /**
-     * Constructor. Set the current settings and global configuration.
+     * Constructor. Set the current settings, global configuration, and
+     * stations.
      * 
      * @param currentSettings
      * @param globalConfig
-     * @throws ClimateQueryException
+     * @param stationMap
+     *            stations by inform ID.
      */
     public ClimateFormat(ClimateProductType currentSettings,
-            ClimateGlobal globalConfig) throws ClimateQueryException {
+            ClimateGlobal globalConfig, Map<Integer, Station> stationMap) {
         this.globalConfig = globalConfig;
         this.currentSettings = currentSettings;
-
-        List<Station> stations = climateStationsSetupDao.getMasterStations();
-
-        if (stations.isEmpty()) {
-            logger.error("No stations returned from getMasterStations query.");
-        }
-
-        // Map station to stationIds for easy station lookup.
-        for (Station station : stations) {
-            stationMap.put(station.getInformId(), station);
-        }
+        this.stationMap = stationMap;
     }
 
     /**
@@ -547,6 +469,14 @@ public abstract class ClimateFormat {
                 currentSettings.getReportType(), getExpirationTime());
     }
 
+    /**
+     * @return the seasonal and yearly dates for snow and precipitation, from
+     *         localization.
+     */
+    protected ClimoDates getClimoDates() {
+        return ClimoDatesManager.getInstance().getClimoDates();
+    }
+
     /**
      * @return {@link TimeZone} object. If global config timezone is null,
      *         empty, or not parseable, object is based on GMT.
@@ -4,10 +4,19 @@
 package gov.noaa.nws.ocp.edex.climate.formatter;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.raytheon.uf.common.serialization.DynamicSerializationManager;
+import com.raytheon.uf.common.serialization.DynamicSerializationManager.SerializationType;
+import com.raytheon.uf.common.serialization.SerializationException;
 import com.raytheon.uf.common.status.IUFStatusHandler;
 import com.raytheon.uf.common.status.UFStatus;
 
@@ -23,6 +32,7 @@ import gov.noaa.nws.ocp.common.dataplugin.climate.response.ClimateRunPeriodData;
 import gov.noaa.nws.ocp.common.dataplugin.climate.response.ClimateRunData;
 import gov.noaa.nws.ocp.common.localization.climate.producttype.ClimateProductType;
 import gov.noaa.nws.ocp.edex.climate.record.RecordClimate;
+import gov.noaa.nws.ocp.edex.common.climate.dao.ClimateStationsSetupDAO;
 
 /**
  * Format climate data for NWWS and NWR products. Migrated from
@@ -44,6 +54,13 @@ import gov.noaa.nws.ocp.edex.climate.record.RecordClimate;
  * 11 MAY 2017  33104      amoore      Logging.
  * 19 MAY 2017  30163      wpaintsil   Consolidate algorithms for checking new daily records
  *                                     in ClimateNWWSDailyFormat.
+ * Oct 17, 2026            agent       Load stations once per run, and build
+ *                                     the products of a run concurrently,
+ *                                     each from its own copy of the data.
+ * Oct 17, 2026            agent       A single product is built from the data
+ *                                     as given; added #newFormat.
+ *                                     #formatProducts package-private for
+ *                                     ClimateFormatterTest.
  *
  * </pre>
  *
@@ -59,30 +76,55 @@ public class ClimateFormatter {
             .getHandler(ClimateFormatter.class);
 
     /**
-     * Holds global configuration.
+     * Number of threads formatting products, shared by all formatters.
      */
-    private final ClimateGlobal globalConfig;
+    private static final int PRODUCT_THREADS = Integer
+            .getInteger("climate.formatter.productThreads", 4);
+
+    private static final AtomicInteger PRODUCT_THREAD_COUNT = new AtomicInteger();
 
     /**
-     * List of settings.
+     * Formats the products of a run concurrently. Threads are daemons so that
+     * they do not keep EDEX from stopping.
      */
-    private List<ClimateProductType> settingsList;
+    private static final ExecutorService PRODUCT_EXECUTOR = Executors
+            .newFixedThreadPool(PRODUCT_THREADS, r -> {
+                Thread thread = new Thread(r, "ClimateFormatter-"
+                        + PRODUCT_THREAD_COUNT.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
 
     /**
-     * Station map used in writeStationInfo()
+     * Holds global configuration.
      */
-    private Map<String, List<StationInfo>> stationInfoMap = new HashMap<>();
+    private final ClimateGlobal globalConfig;
 
     /**
-     * Raw data map used in writeBrockenRecs()
+     * List of settings.
      */
-    private List<RecordClimateRawData> rawDatas = new ArrayList<>();
+    private List<ClimateProductType> settingsList;
 
     /**
      * String constant used in writeStationInfo()
      */
     private static final String RER_STRING = "RER";
 
+    /**
+     * Products and new daily records built for one settings object.
+     */
+    static final class FormatResult {
+        final Map<String, ClimateProduct> products;
+
+        final List<RecordClimateRawData> recordData;
+
+        private FormatResult(Map<String, ClimateProduct> products,
+                List<RecordClimateRawData> recordData) {
+            this.products = products;
+            this.recordData = recordData;
+        }
+    }
+
     /**
      * Constructor. Set the list of settings and global configuration.
      * 
@@ -141,13 +183,31 @@ public class ClimateFormatter {
             }
 
             // Create text for each settings object in the list
-
+            List<ClimateProductType> validSettings = new ArrayList<>();
             for (ClimateProductType settings : settingsList) {
                 if (settings == null) {
                     logger.error(
                             "A ClimateProductType settings object in the list of settings is null.");
                 } else {
-                    products.putAll(formatClimate(reportData, settings));
+                    validSettings.add(settings);
+                }
+            }
+
+            List<FormatResult> results = formatProducts(reportData,
+                    validSettings, getStationMap());
+
+            // Station map used in writeStationInfo()
+            Map<String, List<StationInfo>> stationInfoMap = new HashMap<>();
+            // Raw data list used in writeBrockenRecs()
+            List<RecordClimateRawData> rawDatas = new ArrayList<>();
+            for (int i = 0; i < validSettings.size(); i++) {
+                FormatResult result = results.get(i);
+                products.putAll(result.products);
+
+                // Climate record data is stored only with daily nwws.
+                if (result.recordData != null) {
+                    writeStationInfo(validSettings.get(i), stationInfoMap);
+                    rawDatas.addAll(result.recordData);
                 }
             }
 
@@ -165,6 +225,132 @@ public class ClimateFormatter {
 
     }
 
+    /**
+     * @return unmodifiable map of stations by inform ID, loaded once for all
+     *         products of a run.
+     * @throws ClimateQueryException
+     */
+    private Map<Integer, Station> getStationMap()
+            throws ClimateQueryException {
+        List<Station> stations = new ClimateStationsSetupDAO()
+                .getMasterStations();
+
+        if (stations.isEmpty()) {
+            logger.error("No stations returned from getMasterStations query.");
+        }
+
+        // Map station to stationIds for easy station lookup.
+        Map<Integer, Station> stationMap = new HashMap<>();
+        for (Station station : stations) {
+            stationMap.put(station.getInformId(), station);
+        }
+        return Collections.unmodifiableMap(stationMap);
+    }
+
+    /**
+     * Format the products of all the given settings.
+     * 
+     * Formats change the report data they are given: they rewrite zero totals
+     * to trace, and trace totals to zero for departures from normal. Legacy
+     * formatting built the products of a run one after another from the same
+     * data, so a product could print the values rewritten by the products
+     * before it, and its text depended on the order of the settings. Several
+     * products are now built concurrently, each from its own copy of the data,
+     * so each product is the same as when it is formatted alone, and the given
+     * data is not changed. A single product is built from the given data, as
+     * before.
+     * 
+     * @param reportData
+     * @param settingsList
+     * @param stationMap
+     * @return results in the order of the settings.
+     * @throws ClimateQueryException
+     * @throws ClimateInvalidParameterException
+     */
+    List<FormatResult> formatProducts(ClimateRunData reportData,
+            List<ClimateProductType> settingsList,
+            Map<Integer, Station> stationMap) throws ClimateQueryException,
+                    ClimateInvalidParameterException {
+        List<FormatResult> results = new ArrayList<>(settingsList.size());
+        if (settingsList.isEmpty()) {
+            return results;
+        } else if (settingsList.size() == 1) {
+            results.add(
+                    formatClimate(reportData, settingsList.get(0), stationMap));
+            return results;
+        }
+
+        final byte[] data;
+        try {
+            data = DynamicSerializationManager
+                    .getManager(SerializationType.Thrift).serialize(reportData);
+        } catch (SerializationException e) {
+            throw new ClimateInvalidParameterException(
+                    "Could not copy the report data to format.", e);
+        }
+
+        List<Future<FormatResult>> futures = new ArrayList<>(
+                settingsList.size());
+        try {
+            for (ClimateProductType settings : settingsList) {
+                futures.add(PRODUCT_EXECUTOR.submit(() -> formatClimate(
+                        copyReportData(data), settings, stationMap)));
+            }
+
+            for (Future<FormatResult> future : futures) {
+                results.add(getResult(future));
+            }
+        } finally {
+            // stop the other products if one failed
+            for (Future<FormatResult> future : futures) {
+                future.cancel(true);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * @param data
+     *            Thrift serialized report data.
+     * @return a copy of the report data.
+     * @throws SerializationException
+     */
+    private static ClimateRunData copyReportData(byte[] data)
+            throws SerializationException {
+        return (ClimateRunData) DynamicSerializationManager
+                .getManager(SerializationType.Thrift).deserialize(data);
+    }
+
+    /**
+     * @param future
+     * @return the result of a product formatted on another thread.
+     * @throws ClimateQueryException
+     * @throws ClimateInvalidParameterException
+     */
+    private static FormatResult getResult(Future<FormatResult> future)
+            throws ClimateQueryException, ClimateInvalidParameterException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ClimateQueryException(
+                    "Interrupted while formatting climate products.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof ClimateQueryException) {
+                throw (ClimateQueryException) cause;
+            } else if (cause instanceof ClimateInvalidParameterException) {
+                throw (ClimateInvalidParameterException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new ClimateQueryException(
+                    "Error formatting climate products.", cause);
+        }
+    }
+
     /**
      * Migrated from format_climate.f
      * 
@@ -181,62 +367,66 @@ public class ClimateFormatter {
      * 
      * @param reportData
      * @param settings
+     * @param stationMap
      * @return
      * @throws ClimateQueryException
      * @throws ClimateInvalidParameterException
      */
-    private Map<String, ClimateProduct> formatClimate(
-            ClimateRunData reportData, ClimateProductType settings)
+    private FormatResult formatClimate(ClimateRunData reportData,
+            ClimateProductType settings, Map<Integer, Station> stationMap)
                     throws ClimateQueryException,
                     ClimateInvalidParameterException {
 
-        Map<String, ClimateProduct> productMap;
+        ClimateFormat formatter = newFormat(settings, stationMap);
+        Map<String, ClimateProduct> productMap = formatter
+                .buildText(reportData);
+
+        // buildText() for ClimateNWWSDailyFormat also creates a list of any
+        // new records.
+        // getDailyRecordData() returns that list.
+        List<RecordClimateRawData> recordData = null;
+        if (formatter instanceof ClimateNWWSDailyFormat) {
+            recordData = ((ClimateNWWSDailyFormat) formatter)
+                    .getDailyRecordData();
+        }
+
+        return new FormatResult(productMap, recordData);
+    }
 
+    /**
+     * @param settings
+     * @param stationMap
+     * @return the format for the report type of the settings.
+     * @throws ClimateInvalidParameterException
+     */
+    protected ClimateFormat newFormat(ClimateProductType settings,
+            Map<Integer, Station> stationMap)
+                    throws ClimateInvalidParameterException {
         switch (settings.getReportType()) {
-
         case MORN_RAD:
         case EVEN_RAD:
         case INTER_RAD:
-            ClimateFormat dailyRadioFormatter = new ClimateNWRDailyFormat(
-                    settings, globalConfig);
-            productMap = dailyRadioFormatter.buildText(reportData);
-            break;
+            return new ClimateNWRDailyFormat(settings, globalConfig,
+                    stationMap);
         case MORN_NWWS:
         case EVEN_NWWS:
         case INTER_NWWS:
-            ClimateFormat dailyWireFormatter = new ClimateNWWSDailyFormat(
-                    settings, globalConfig);
-            productMap = dailyWireFormatter.buildText(reportData);
-
-            // Climate record data is stored only with daily nwws.
-            writeStationInfo(settings);
-            // buildText() for ClimateNWWSDailyFormat also creates a list of any
-            // new records.
-            // getDailyRecordData() returns that list.
-            rawDatas.addAll(((ClimateNWWSDailyFormat) dailyWireFormatter)
-                    .getDailyRecordData());
-            break;
+            return new ClimateNWWSDailyFormat(settings, globalConfig,
+                    stationMap);
         case MONTHLY_RAD:
         case SEASONAL_RAD:
         case ANNUAL_RAD:
-            ClimateFormat periodRadioFormatter = new ClimateNWRPeriodFormat(
-                    settings, globalConfig);
-            productMap = periodRadioFormatter.buildText(reportData);
-            break;
+            return new ClimateNWRPeriodFormat(settings, globalConfig,
+                    stationMap);
         case MONTHLY_NWWS:
         case SEASONAL_NWWS:
         case ANNUAL_NWWS:
-            ClimateFormat periodWireFormatter = new ClimateNWWSPeriodFormat(
-                    settings, globalConfig);
-            productMap = periodWireFormatter.buildText(reportData);
-            break;
+            return new ClimateNWWSPeriodFormat(settings, globalConfig,
+                    stationMap);
         default:
             throw new ClimateInvalidParameterException("Invalid period type: "
                     + settings.getReportType().toString());
-
         }
-
-        return productMap;
     }
 
     /**
@@ -244,8 +434,10 @@ public class ClimateFormatter {
      * station info for each NWWS product to an output file used to create RERs.
      * 
      * @param settings
+     * @param stationInfoMap
      */
-    private void writeStationInfo(ClimateProductType settings) {
+    private static void writeStationInfo(ClimateProductType settings,
+            Map<String, List<StationInfo>> stationInfoMap) {
 
         List<StationInfo> stationInfo = new ArrayList<StationInfo>();
         // AFOS ID
@@ -23,13 +23,11 @@ import gov.noaa.nws.ocp.common.dataplugin.climate.DailyClimateData;
 import gov.noaa.nws.ocp.common.dataplugin.climate.PeriodType;
 import gov.noaa.nws.ocp.common.dataplugin.climate.Station;
 import gov.noaa.nws.ocp.common.dataplugin.climate.exception.ClimateInvalidParameterException;
-import gov.noaa.nws.ocp.common.dataplugin.climate.exception.ClimateQueryException;
 import gov.noaa.nws.ocp.common.dataplugin.climate.parameter.ParameterFormatClimate;
 import gov.noaa.nws.ocp.common.dataplugin.climate.report.ClimateDailyReportData;
 import gov.noaa.nws.ocp.common.dataplugin.climate.response.ClimateRunDailyData;
 import gov.noaa.nws.ocp.common.dataplugin.climate.response.ClimateRunData;
 import gov.noaa.nws.ocp.common.dataplugin.climate.util.ClimateUtilities;
-import gov.noaa.nws.ocp.common.localization.climate.climodates.ClimoDatesManager;
 import gov.noaa.nws.ocp.common.localization.climate.producttype.ClimateProductFlags;
 import gov.noaa.nws.ocp.common.localization.climate.producttype.ClimateProductType;
 import gov.noaa.nws.ocp.common.localization.climate.producttype.DegreeDaysControlFlags;
@@ -55,6 +53,9 @@ import gov.noaa.nws.ocp.common.localization.climate.producttype.WindControlFlags
  * Apr 20, 2018 DR17116    wpaintsil   Accommodate more than one alternate snow/precip season.
  * Aug 08, 2018 DR20836    wpaintsil   Minor correction to precip grammar.
  *
+ * Oct 17, 2026            agent       Take the station map from the caller.
+ * Oct 17, 2026            agent       Format numbers with ColumnWriter.
+ * Oct 17, 2026            agent       Climo dates from #getClimoDates.
  * </pre>
  *
  * @author wpaintsil
@@ -69,15 +70,17 @@ public class ClimateNWRDailyFormat extends ClimateNWRFormat {
             .getHandler(ClimateNWRDailyFormat.class);
 
     /**
-     * Constructor. Set the current settings and global configuration.
+     * Constructor. Set the current settings, global configuration, and
+     * stations.
      * 
      * @param currentSettings
      * @param globalConfig
-     * @throws ClimateQueryException
+     * @param stationMap
+     *            stations by inform ID.
      */
     public ClimateNWRDailyFormat(ClimateProductType currentSettings,
-            ClimateGlobal globalConfig) throws ClimateQueryException {
-        super(currentSettings, globalConfig);
+            ClimateGlobal globalConfig, Map<Integer, Station> stationMap) {
+        super(currentSettings, globalConfig, stationMap);
 
     }
 
@@ -1053,7 +1056,7 @@ public class ClimateNWRDailyFormat extends ClimateNWRFormat {
 
                         if (deltaDegDay != 0) {
                             nwrHeatAndCool
-                                    .append(String.format(INT_COMMAS,
+                                    .append(ColumnWriter.formatGrouped(
                                             deltaDegDay))
                                     .append(SPACE)
                                     .append(ClimateNWRFormat.aboveBelow(which))
@@ -1088,7 +1091,7 @@ public class ClimateNWRDailyFormat extends ClimateNWRFormat {
 
                         if (deltaDegDay != 0) {
                             nwrHeatAndCool
-                                    .append(String.format(INT_COMMAS,
+                                    .append(ColumnWriter.formatGrouped(
                                             deltaDegDay))
                                     .append(SPACE)
                                     .append(ClimateNWRFormat.aboveBelow(which))
@@ -1106,7 +1109,7 @@ public class ClimateNWRDailyFormat extends ClimateNWRFormat {
                 if (degreeFlag.getTotalHDD().isTotalYear() && yesterday
                         .getNumHeatYear() != ParameterFormatClimate.MISSING_DEGREE_DAY) {
                     nwrHeatAndCool.append("The yearly total since July 1 is ")
-                            .append(String.format(INT_COMMAS,
+                            .append(ColumnWriter.formatGrouped(
                                     yesterday.getNumHeatYear()));
 
                     if (degreeFlag.getTotalHDD().isDeparture() && yClimate
@@ -1127,7 +1130,7 @@ public class ClimateNWRDailyFormat extends ClimateNWRFormat {
 
                         if (deltaDegDay != 0) {
                             nwrHeatAndCool
-                                    .append(String.format(INT_COMMAS,
+                                    .append(ColumnWriter.formatGrouped(
                                             deltaDegDay))
                                     .append(SPACE)
                                     .append(ClimateNWRFormat.aboveBelow(which))
@@ -1239,7 +1242,7 @@ public class ClimateNWRDailyFormat extends ClimateNWRFormat {
                             .append(ClimateNWRFormat.bringLeave(which))
                             .append(" the monthly total ")
                             .append(ClimateNWRFormat.toAt(which)).append(SPACE)
-                            .append(String.format(INT_COMMAS,
+                            .append(ColumnWriter.formatGrouped(
                                     yesterday.getNumCoolMonth()));
                     if (degreeFlag.getTotalCDD().isDeparture() && yClimate
                             .getNumCoolMonth() != ParameterFormatClimate.MISSING_DEGREE_DAY) {
@@ -1256,7 +1259,7 @@ public class ClimateNWRDailyFormat extends ClimateNWRFormat {
 
                         if (deltaDegDay != 0) {
                             nwrHeatAndCool
-                                    .append(String.format(INT_COMMAS,
+                                    .append(ColumnWriter.formatGrouped(
                                             deltaDegDay))
                                     .append(SPACE)
                                     .append(ClimateNWRFormat.aboveBelow(which))
@@ -1273,7 +1276,7 @@ public class ClimateNWRDailyFormat extends ClimateNWRFormat {
                 if (degreeFlag.getTotalCDD().isTotalSeason() && yesterday
                         .getNumHeatSeason() != ParameterFormatClimate.MISSING_DEGREE_DAY) {
                     nwrHeatAndCool.append("The seasonal total is ")
-                            .append(String.format(INT_COMMAS,
+                            .append(ColumnWriter.formatGrouped(
                                     yesterday.getNumCoolSeason()));
 
                     if (degreeFlag.getTotalCDD().isDeparture() && yClimate
@@ -1292,7 +1295,7 @@ public class ClimateNWRDailyFormat extends ClimateNWRFormat {
 
                         if (deltaDegDay != 0) {
                             nwrHeatAndCool
-                                    .append(String.format(INT_COMMAS,
+                                    .append(ColumnWriter.formatGrouped(
                                             deltaDegDay))
                                     .append(SPACE)
                                     .append(ClimateNWRFormat.aboveBelow(which))
@@ -1309,7 +1312,7 @@ public class ClimateNWRDailyFormat extends ClimateNWRFormat {
                         .getNumCoolYear() != ParameterFormatClimate.MISSING_DEGREE_DAY) {
                     nwrHeatAndCool
                             .append("The yearly total since January 1 is ")
-                            .append(String.format(INT_COMMAS,
+                            .append(ColumnWriter.formatGrouped(
                                     yesterday.getNumCoolYear()));
 
                     if (degreeFlag.getTotalCDD().isDeparture() && yClimate
@@ -1328,7 +1331,7 @@ public class ClimateNWRDailyFormat extends ClimateNWRFormat {
 
                         if (deltaDegDay != 0) {
                             nwrHeatAndCool
-                                    .append(String.format(INT_COMMAS,
+                                    .append(ColumnWriter.formatGrouped(
                                             deltaDegDay))
                                     .append(SPACE)
                                     .append(ClimateNWRFormat.aboveBelow(which))
@@ -1486,8 +1489,8 @@ public class ClimateNWRDailyFormat extends ClimateNWRFormat {
 
         DailyClimateData yesterday = reportData.getData();
         ClimateRecordDay yClimate = reportData.getyClimate();
-        List<ClimateDate> snowSeasons = ClimoDatesManager.getInstance()
-                .getClimoDates().getSnowSeasons();
+        List<ClimateDate> snowSeasons = getClimoDates()
+                .getSnowSeasons();
 
         ClimateDate beginDate = new ClimateDate(report.getBeginDate());
 
@@ -1531,8 +1534,8 @@ public class ClimateNWRDailyFormat extends ClimateNWRFormat {
                                 ClimateNWRFormat.timeFrame(morning, false));
                     }
                 } else {
-                    String snowString = String.format(FLOAT_ONE_DECIMAL,
-                            yesterday.getSnowDay());
+                    String snowString = ColumnWriter.formatFloat(
+                            yesterday.getSnowDay(), 1);
 
                     if (currentSettings
                             .getReportType() == PeriodType.INTER_RAD) {
@@ -1586,8 +1589,8 @@ public class ClimateNWRDailyFormat extends ClimateNWRFormat {
                  * ",which breaks/ties the daily record of <a trace>/<__ inches>"
                  */
                 if (snowRecord) {
-                    String snowString = String.format(FLOAT_ONE_DECIMAL,
-                            yClimate.getSnowDayRecord());
+                    String snowString = ColumnWriter.formatFloat(
+                            yClimate.getSnowDayRecord(), 1);
 
                     if (yClimate
                             .getSnowDayRecord() == ParameterFormatClimate.TRACE) {
@@ -1650,8 +1653,8 @@ public class ClimateNWRDailyFormat extends ClimateNWRFormat {
 
                     which = yesterday.getSnowDay() == 0;
 
-                    String snowString = String.format(FLOAT_ONE_DECIMAL,
-                            yesterday.getSnowMonth());
+                    String snowString = ColumnWriter.formatFloat(
+                            yesterday.getSnowMonth(), 1);
 
                     snowPhrase.append(", ");
 
@@ -1713,16 +1716,16 @@ public class ClimateNWRDailyFormat extends ClimateNWRFormat {
                             which = true;
                         }
 
-                        String snowString = String.format(FLOAT_ONE_DECIMAL,
-                                deltaSnow);
+                        String snowString = ColumnWriter.formatFloat(
+                                deltaSnow, 1);
 
                         snowPhrase.append("This is ").append(snowString)
                                 .append(" inches ")
                                 .append(ClimateNWRFormat.aboveBelow(which))
                                 .append(SPACE);
 
-                        snowString = String.format(FLOAT_ONE_DECIMAL,
-                                yClimate.getSnowMonthMean());
+                        snowString = ColumnWriter.formatFloat(
+                                yClimate.getSnowMonthMean(), 1);
                         if (snowFlag.getSnowTotal().isNorm()) {
 
                             snowPhrase.append("the normal amount of ")
@@ -1748,8 +1751,7 @@ public class ClimateNWRDailyFormat extends ClimateNWRFormat {
                             .getSnowMonth() != ParameterFormatClimate.MISSING
                     && month) {
 
-                String snowString = String.format(FLOAT_ONE_DECIMAL,
-                        dySnowMonth);
+                String snowString = ColumnWriter.formatFloat(dySnowMonth, 1);
                 if (yesterday
                         .getPrecipMonth() == ParameterFormatClimate.TRACE) {
                     snowPhrase.append(
@@ -1774,8 +1776,7 @@ public class ClimateNWRDailyFormat extends ClimateNWRFormat {
                             which = true;
                         }
 
-                        snowString = String.format(FLOAT_ONE_DECIMAL,
-                                deltaSnow);
+                        snowString = ColumnWriter.formatFloat(deltaSnow, 1);
 
                         snowPhrase.append(", which is ").append(snowString)
                                 .append(" inches ")
@@ -1829,8 +1830,8 @@ public class ClimateNWRDailyFormat extends ClimateNWRFormat {
                         snowPhrase.append("now ");
                     }
 
-                    String snowString = String.format(FLOAT_COMMAS_ONE_DECIMAL,
-                            yesterday.getSnowSeasons().get(snowSeasonIndex));
+                    String snowString = ColumnWriter.formatGrouped(
+                            yesterday.getSnowSeasons().get(snowSeasonIndex), 1);
 
                     if (yesterday.getSnowSeasons().get(
                             snowSeasonIndex) == ParameterFormatClimate.TRACE) {
@@ -1869,8 +1870,8 @@ public class ClimateNWRDailyFormat extends ClimateNWRFormat {
                                 which = true;
                             }
 
-                            snowString = String.format(FLOAT_COMMAS_ONE_DECIMAL,
-                                    deltaSnow);
+                            snowString = ColumnWriter.formatGrouped(
+                                    deltaSnow, 1);
 
                             snowPhrase.append(", which is ").append(snowString)
                                     .append(" inches ")
@@ -1939,8 +1940,8 @@ public class ClimateNWRDailyFormat extends ClimateNWRFormat {
                     }
                 }
 
-                String snowString = String.format(FLOAT_COMMAS_ONE_DECIMAL,
-                        yesterday.getSnowYear());
+                String snowString = ColumnWriter.formatGrouped(
+                        yesterday.getSnowYear(), 1);
 
                 if (yesterday.getSnowYear() == ParameterFormatClimate.TRACE) {
                     snowPhrase.append(A_TRACE);
@@ -1973,8 +1974,7 @@ public class ClimateNWRDailyFormat extends ClimateNWRFormat {
                             which = true;
                         }
 
-                        snowString = String.format(FLOAT_COMMAS_ONE_DECIMAL,
-                                deltaSnow);
+                        snowString = ColumnWriter.formatGrouped(deltaSnow, 1);
 
                         snowPhrase.append(", which is ").append(snowString)
                                 .append(" inches ")
@@ -2033,8 +2033,8 @@ public class ClimateNWRDailyFormat extends ClimateNWRFormat {
         PrecipitationControlFlags precipFlag = currentSettings.getControl()
                 .getPrecipControl();
 
-        List<ClimateDate> precipSeasons = ClimoDatesManager.getInstance()
-                .getClimoDates().getPrecipSeasons();
+        List<ClimateDate> precipSeasons = getClimoDates()
+                .getPrecipSeasons();
 
         boolean morning = currentSettings
                 .getReportType() == PeriodType.MORN_RAD;
@@ -2075,8 +2075,8 @@ public class ClimateNWRDailyFormat extends ClimateNWRFormat {
                             .append(ClimateNWRFormat.timeFrame(morning, false));
                 }
             } else {
-                String precipString = String.format(FLOAT_TWO_DECIMALS1,
-                        yesterday.getPrecip());
+                String precipString = ColumnWriter.formatFloat(
+                        yesterday.getPrecip(), 2);
                 if (currentSettings.getReportType() == PeriodType.INTER_RAD) {
                     liquidPhrase.append(precipString)
                             .append(" inches of precipitation has fallen");
@@ -2121,8 +2121,8 @@ public class ClimateNWRDailyFormat extends ClimateNWRFormat {
             }
 
             if (precipRecord) {
-                String precipString = String.format(FLOAT_TWO_DECIMALS1,
-                        yClimate.getPrecipDayRecord());
+                String precipString = ColumnWriter.formatFloat(
+                        yClimate.getPrecipDayRecord(), 2);
 
                 if (yClimate
                         .getPrecipDayRecord() == ParameterFormatClimate.TRACE) {
@@ -2173,8 +2173,8 @@ public class ClimateNWRDailyFormat extends ClimateNWRFormat {
 
                 which = yesterday.getPrecip() != 0;
 
-                String precipString = String.format(FLOAT_TWO_DECIMALS1,
-                        yesterday.getPrecipMonth());
+                String precipString = ColumnWriter.formatFloat(
+                        yesterday.getPrecipMonth(), 2);
 
                 liquidPhrase.append(", ");
 
@@ -2237,16 +2237,16 @@ public class ClimateNWRDailyFormat extends ClimateNWRFormat {
                         which = true;
                     }
 
-                    String precipString = String.format(FLOAT_TWO_DECIMALS1,
-                            deltaPrecip);
+                    String precipString = ColumnWriter.formatFloat(
+                            deltaPrecip, 2);
 
                     liquidPhrase.append("This is ").append(precipString)
                             .append(" inches ")
                             .append(ClimateNWRFormat.aboveBelow(which)).append(SPACE);
 
                     if (precipFlag.getPrecipTotal().isNorm()) {
-                        precipString = String.format(FLOAT_TWO_DECIMALS1,
-                                yClimate.getPrecipMonthMean());
+                        precipString = ColumnWriter.formatFloat(
+                                yClimate.getPrecipMonthMean(), 2);
 
                         liquidPhrase.append("the normal amount of ")
                                 .append(precipString).append(" inches for ")
@@ -2270,8 +2270,8 @@ public class ClimateNWRDailyFormat extends ClimateNWRFormat {
         if (precipFlag.getPrecipTotal().isTotalMonth() && monthTotalPhrase
                 && yesterday
                         .getPrecipMonth() != ParameterFormatClimate.MISSING_PRECIP) {
-            String precipString = String.format(FLOAT_TWO_DECIMALS1,
-                    yesterday.getPrecipMonth());
+            String precipString = ColumnWriter.formatFloat(
+                    yesterday.getPrecipMonth(), 2);
 
             if (yesterday.getPrecipMonth() == ParameterFormatClimate.TRACE) {
                 liquidPhrase.append(
@@ -2298,8 +2298,7 @@ public class ClimateNWRDailyFormat extends ClimateNWRFormat {
                         which = true;
                     }
 
-                    precipString = String.format(FLOAT_TWO_DECIMALS1,
-                            deltaPrecip);
+                    precipString = ColumnWriter.formatFloat(deltaPrecip, 2);
 
                     liquidPhrase.append(", which is ").append(precipString)
                             .append(" inches")
@@ -2342,8 +2341,8 @@ public class ClimateNWRDailyFormat extends ClimateNWRFormat {
                     liquidPhrase.append("now ");
                 }
 
-                String precipString = String.format(FLOAT_COMMAS_TWO_DECIMALS,
-                        yesterday.getPrecipSeasons().get(precipSeasonIndex));
+                String precipString = ColumnWriter.formatGrouped(
+                        yesterday.getPrecipSeasons().get(precipSeasonIndex), 2);
 
                 if (yesterday.getPrecipSeasons().get(
                         precipSeasonIndex) == ParameterFormatClimate.TRACE) {
@@ -2387,8 +2386,8 @@ public class ClimateNWRDailyFormat extends ClimateNWRFormat {
                             which = true;
                         }
 
-                        precipString = String.format(FLOAT_COMMAS_TWO_DECIMALS,
-                                deltaPrecip);
+                        precipString = ColumnWriter.formatGrouped(
+                                deltaPrecip, 2);
 
                         liquidPhrase.append(", which is ").append(precipString)
                                 .append(" inches ")
@@ -2455,8 +2454,8 @@ public class ClimateNWRDailyFormat extends ClimateNWRFormat {
                 }
             }
 
-            String precipString = String.format(FLOAT_COMMAS_TWO_DECIMALS,
-                    yesterday.getPrecipYear());
+            String precipString = ColumnWriter.formatGrouped(
+                    yesterday.getPrecipYear(), 2);
 
             if (yesterday.getPrecipYear() == ParameterFormatClimate.TRACE) {
                 liquidPhrase.append("a trace");
@@ -2493,8 +2492,7 @@ public class ClimateNWRDailyFormat extends ClimateNWRFormat {
                         which = true;
                     }
 
-                    precipString = String.format(FLOAT_COMMAS_TWO_DECIMALS,
-                            deltaPrecip);
+                    precipString = ColumnWriter.formatGrouped(deltaPrecip, 2);
 
                     liquidPhrase.append(", which is ").append(precipString)
                             .append(" inches ")
@@ -5,6 +5,7 @@ package gov.noaa.nws.ocp.edex.climate.formatter;
 
 import java.text.DateFormatSymbols;
 import java.util.Calendar;
+import java.util.Map;
 import java.util.TimeZone;
 
 import com.raytheon.uf.common.time.util.TimeUtil;
@@ -13,7 +14,7 @@ import gov.noaa.nws.ocp.common.dataplugin.climate.ClimateDate;
 import gov.noaa.nws.ocp.common.dataplugin.climate.ClimateGlobal;
 import gov.noaa.nws.ocp.common.dataplugin.climate.ClimateTime;
 import gov.noaa.nws.ocp.common.dataplugin.climate.PeriodType;
-import gov.noaa.nws.ocp.common.dataplugin.climate.exception.ClimateQueryException;
+import gov.noaa.nws.ocp.common.dataplugin.climate.Station;
 import gov.noaa.nws.ocp.common.dataplugin.climate.parameter.ParameterFormatClimate;
 import gov.noaa.nws.ocp.common.dataplugin.climate.response.ClimateRunData;
 import gov.noaa.nws.ocp.common.dataplugin.climate.response.ClimateRunPeriodData;
@@ -39,6 +40,8 @@ import gov.noaa.nws.ocp.common.localization.climate.producttype.ClimateProductTy
  * 16 AUG 2018  DR20837    wpaintsil   Corrected updateNWRHeader() to shift the local 
  *                                     date/time (including date) to the UTC date/time. 
  *                                     It was only shifting the hour.
+ * 17 OCT 2026             agent       Take the station map from the caller.
+ * 17 OCT 2026             agent       Format numbers with ColumnWriter.
  * </pre>
  *
  * @author wpaintsil
@@ -57,15 +60,17 @@ public abstract class ClimateNWRFormat extends ClimateFormat {
     protected static final String ESCAPE_B = (char) 27 + "" + (char) 98;
 
     /**
-     * Constructor. Set the current settings and global configuration.
+     * Constructor. Set the current settings, global configuration, and
+     * stations.
      * 
      * @param currentSettings
      * @param globalConfig
-     * @throws ClimateQueryException
+     * @param stationMap
+     *            stations by inform ID.
      */
     public ClimateNWRFormat(ClimateProductType currentSettings,
-            ClimateGlobal globalConfig) throws ClimateQueryException {
-        super(currentSettings, globalConfig);
+            ClimateGlobal globalConfig, Map<Integer, Station> stationMap) {
+        super(currentSettings, globalConfig, stationMap);
     }
 
     protected static String aboveBelow(boolean which) {
@@ -190,12 +195,13 @@ public abstract class ClimateNWRFormat extends ClimateFormat {
      * @return
      */
     private static String periodicityHeader(int minutes) {
-        return String.format(TWO_DIGIT_INT, minutes / TimeUtil.MINUTES_PER_DAY)
-                + String.format(TWO_DIGIT_INT,
+        return ColumnWriter.formatZeroPadded(
+                minutes / TimeUtil.MINUTES_PER_DAY, 2)
+                + ColumnWriter.formatZeroPadded(
                         minutes / TimeUtil.MINUTES_PER_HOUR
-                                % TimeUtil.HOURS_PER_DAY)
-                + String.format(TWO_DIGIT_INT,
-                        minutes % TimeUtil.MINUTES_PER_HOUR)
+                                % TimeUtil.HOURS_PER_DAY, 2)
+                + ColumnWriter.formatZeroPadded(
+                        minutes % TimeUtil.MINUTES_PER_HOUR, 2)
                 + "00";
 
     }
@@ -317,8 +323,9 @@ public abstract class ClimateNWRFormat extends ClimateFormat {
      */
     protected static String buildNWRCelsius(double value, int numDecimals) {
         return " fahrenheit, or "
-                + String.format("%." + numDecimals + "f",
-                        ClimateUtilities.fahrenheitToCelsius(value))
+                + ColumnWriter.formatFloat(
+                        ClimateUtilities.fahrenheitToCelsius(value),
+                        numDecimals)
                 + " celsius";
     }
 
@@ -406,14 +413,14 @@ public abstract class ClimateNWRFormat extends ClimateFormat {
 
         nwrHeader.append(String.valueOf(nwrDate.getYear()).substring(2, 4));
 
-        nwrHeader.append(String.format(TWO_DIGIT_INT, nwrDate.getMon()));
+        nwrHeader.append(ColumnWriter.formatZeroPadded(nwrDate.getMon(), 2));
 
-        nwrHeader.append(String.format(TWO_DIGIT_INT, nwrDate.getDay()));
+        nwrHeader.append(ColumnWriter.formatZeroPadded(nwrDate.getDay(), 2));
 
-        nwrHeader.append(String.format(TWO_DIGIT_INT,
-                validTime.to24HourTime().getHour()));
+        nwrHeader.append(ColumnWriter.formatZeroPadded(
+                validTime.to24HourTime().getHour(), 2));
 
-        nwrHeader.append(String.format(TWO_DIGIT_INT, validTime.getMin()));
+        nwrHeader.append(ColumnWriter.formatZeroPadded(validTime.getMin(), 2));
 
         // return YYMMDDhhmm
         return nwrHeader.toString();
@@ -49,6 +49,8 @@ import gov.noaa.nws.ocp.common.localization.climate.producttype.WindControlFlags
  * May 10, 2017 30162      wpaintsil   Address FindBugs issues with String.format 
  *                                     and exceptions caused by empty lists.
  *
+ * Oct 17, 2026            agent       Take the station map from the caller.
+ * Oct 17, 2026            agent       Format numbers with ColumnWriter.
  * </pre>
  *
  * @author wpaintsil
@@ -83,15 +85,17 @@ public class ClimateNWRPeriodFormat extends ClimateNWRFormat {
     private static final String THRESHOLD_100 = "1.00";
 
     /**
-     * Constructor. Set the current settings and global configuration.
+     * Constructor. Set the current settings, global configuration, and
+     * stations.
      * 
      * @param currentSettings
      * @param globalConfig
-     * @throws ClimateQueryException
+     * @param stationMap
+     *            stations by inform ID.
      */
     public ClimateNWRPeriodFormat(ClimateProductType currentSettings,
-            ClimateGlobal globalConfig) throws ClimateQueryException {
-        super(currentSettings, globalConfig);
+            ClimateGlobal globalConfig, Map<Integer, Station> stationMap) {
+        super(currentSettings, globalConfig, stationMap);
     }
 
     /**
@@ -491,7 +495,7 @@ public class ClimateNWRPeriodFormat extends ClimateNWRFormat {
             } else {
                 heatCoolPhrase.append("There ")
                         .append(wasWere(degreeValue != 1)).append(SPACE)
-                        .append(String.format(INT_COMMAS, degreeValue));
+                        .append(ColumnWriter.formatGrouped(degreeValue));
 
             }
 
@@ -509,7 +513,7 @@ public class ClimateNWRPeriodFormat extends ClimateNWRFormat {
                 if (deltaDegDay != 0) {
 
                     heatCoolPhrase
-                            .append(String.format(INT_COMMAS,
+                            .append(ColumnWriter.formatGrouped(
                                     Math.abs(deltaDegDay)))
                             .append(SPACE).append(aboveBelow(deltaDegDay > 0))
                             .append(" the normal amount");
@@ -529,13 +533,13 @@ public class ClimateNWRPeriodFormat extends ClimateNWRFormat {
                 if (deltaDegDay != 0) {
                     if (degreeFlag.isDeparture()) {
                         heatCoolPhrase.append(" of ")
-                                .append(String.format(INT_COMMAS, normValue))
+                                .append(ColumnWriter.formatGrouped(normValue))
                                 .append(SPACE).append(dayDays(normValue != 1));
                     } else {
                         heatCoolPhrase.append(".  The normal number of ")
                                 .append(heatCool).append(" degree days")
                                 .append(periodString).append(" is ")
-                                .append(String.format(INT_COMMAS, normValue));
+                                .append(ColumnWriter.formatGrouped(normValue));
                     }
                 }
             }
@@ -638,8 +642,8 @@ public class ClimateNWRPeriodFormat extends ClimateNWRFormat {
         if (snowFlag.getSnowWaterTotal().isMeasured() && periodData
                 .getSnowWater() != ParameterFormatClimate.MISSING) {
             String amount = periodData.getSnowWater() < 0 ? A_TRACE
-                    : (String.format(FLOAT_TWO_DECIMALS1,
-                            periodData.getSnowWater()) + " inches");
+                    : (ColumnWriter.formatFloat(
+                            periodData.getSnowWater(), 2) + " inches");
             precipPhrase.append("The snow water equivalent is ").append(amount);
 
             if (snowFlag.getSnowWaterTotal().isDeparture() && hClimo
@@ -668,7 +672,7 @@ public class ClimateNWRPeriodFormat extends ClimateNWRFormat {
                                 ". The normal snow water equivalent is ");
                     }
                     precipPhrase.append(
-                            String.format(FLOAT_TWO_DECIMALS1, snowWaterNorm))
+                            ColumnWriter.formatFloat(snowWaterNorm, 2))
                             .append(" inches");
                 }
             }
@@ -684,8 +688,8 @@ public class ClimateNWRPeriodFormat extends ClimateNWRFormat {
             String amount = periodData
                     .getSnowWaterJuly1() < 0
                             ? A_TRACE
-                            : (String.format(FLOAT_TWO_DECIMALS1,
-                                    periodData.getSnowWaterJuly1())
+                            : (ColumnWriter.formatFloat(
+                                    periodData.getSnowWaterJuly1(), 2)
                                     + " inches");
             precipPhrase.append("The snow water equivalent since July 1 is ")
                     .append(amount);
@@ -714,8 +718,8 @@ public class ClimateNWRPeriodFormat extends ClimateNWRFormat {
                         precipPhrase.append(
                                 ". The normal snow water equivalent since July 1 is ");
                     }
-                    precipPhrase.append(String.format(FLOAT_TWO_DECIMALS1,
-                            snowWaterNormJuly1)).append(" inches");
+                    precipPhrase.append(ColumnWriter.formatFloat(
+                            snowWaterNormJuly1, 2)).append(" inches");
                 }
             }
 
@@ -887,8 +891,8 @@ public class ClimateNWRPeriodFormat extends ClimateNWRFormat {
                     precipPhrase.append(" which is ");
 
                     precipPhrase
-                            .append(String.format(FLOAT_ONE_DECIMAL,
-                                    Math.abs(valDelta)))
+                            .append(ColumnWriter.formatFloat(
+                                    Math.abs(valDelta), 1))
                             .append(SPACE).append(aboveBelow(valDelta > 0))
                             .append(" the normal amount");
 
@@ -906,13 +910,13 @@ public class ClimateNWRPeriodFormat extends ClimateNWRFormat {
 
                     if (snowFlag.getSnowGE100().isDeparture()) {
                         precipPhrase.append(" of ")
-                                .append(String.format(FLOAT_ONE_DECIMAL,
-                                        hClimo.getNumSnowGE1Norm()))
+                                .append(ColumnWriter.formatFloat(
+                                        hClimo.getNumSnowGE1Norm(), 1))
                                 .append(" days");
                     } else {
                         precipPhrase.append(".  The normal amount is ")
-                                .append(String.format(FLOAT_ONE_DECIMAL,
-                                        hClimo.getNumSnowGE1Norm()))
+                                .append(ColumnWriter.formatFloat(
+                                        hClimo.getNumSnowGE1Norm(), 1))
                                 .append(" days for the period");
                     }
                 }
@@ -931,8 +935,8 @@ public class ClimateNWRPeriodFormat extends ClimateNWRFormat {
             if (periodData.getNumSnowGreaterThanS1() == 0) {
                 String amount = (globalConfig
                         .getS1() == ParameterFormatClimate.TRACE) ? A_TRACE
-                                : (String.format(FLOAT_ONE_DECIMAL,
-                                        globalConfig.getS1()) + " inches");
+                                : (ColumnWriter.formatFloat(
+                                        globalConfig.getS1(), 1) + " inches");
 
                 precipPhrase
                         .append("There were no days with snowfall greater than or equal to ")
@@ -942,8 +946,8 @@ public class ClimateNWRPeriodFormat extends ClimateNWRFormat {
                 String amount = (globalConfig
                         .getS1() == ParameterFormatClimate.TRACE)
                                 ? StringUtils.capitalize(A_TRACE)
-                                : (String.format(FLOAT_ONE_DECIMAL,
-                                        globalConfig.getS1()) + " inches");
+                                : (ColumnWriter.formatFloat(
+                                        globalConfig.getS1(), 1) + " inches");
 
                 precipPhrase.append(amount).append(" or more of snow fell on ")
                         .append(periodData.getNumSnowGreaterThanS1())
@@ -961,8 +965,8 @@ public class ClimateNWRPeriodFormat extends ClimateNWRFormat {
 
             String amount = (periodData
                     .getSnowMax24H() == ParameterFormatClimate.TRACE) ? A_TRACE
-                            : (String.format(FLOAT_ONE_DECIMAL,
-                                    periodData.getSnowMax24H()) + " inches");
+                            : (ColumnWriter.formatFloat(
+                                    periodData.getSnowMax24H(), 1) + " inches");
 
             precipPhrase.append("The ").append(MAXIMUM)
                     .append(" 24 hour snowfall was ").append(amount);
@@ -1012,8 +1016,8 @@ public class ClimateNWRPeriodFormat extends ClimateNWRFormat {
                 precipPhrase.append(
                         (hClimo.getSnowMax24HRecord() == ParameterFormatClimate.TRACE)
                                 ? " a trace"
-                                : (String.format(FLOAT_ONE_DECIMAL,
-                                        hClimo.getSnowMax24HRecord())
+                                : (ColumnWriter.formatFloat(
+                                        hClimo.getSnowMax24HRecord(), 1)
                                         + " inches"));
 
                 if (snowFlag.getSnow24hr().isRecordYear()
@@ -1045,8 +1049,9 @@ public class ClimateNWRPeriodFormat extends ClimateNWRFormat {
 
             String amount = periodData
                     .getSnowMaxStorm() == ParameterFormatClimate.TRACE ? A_TRACE
-                            : (String.format(FLOAT_ONE_DECIMAL,
-                                    periodData.getSnowMaxStorm()) + " inches");
+                            : (ColumnWriter.formatFloat(
+                                    periodData.getSnowMaxStorm(), 1)
+                                            + " inches");
 
             precipPhrase.append(" The highest total storm snowfall was ")
                     .append(amount);
@@ -1123,8 +1128,8 @@ public class ClimateNWRPeriodFormat extends ClimateNWRFormat {
                 precipPhrase.append("No ");
             } else {
 
-                String snowAmount = String.format(FLOAT_COMMAS_ONE_DECIMAL,
-                        periodData.getSnowTotal());
+                String snowAmount = ColumnWriter.formatGrouped(
+                        periodData.getSnowTotal(), 1);
 
                 precipPhrase.append("A total of ").append(snowAmount)
                         .append(" inches ");
@@ -1166,8 +1171,8 @@ public class ClimateNWRPeriodFormat extends ClimateNWRFormat {
 
                     if (deltaValue != 0) {
                         precipPhrase
-                                .append(String.format(FLOAT_COMMAS_ONE_DECIMAL,
-                                        Math.abs(deltaValue)))
+                                .append(ColumnWriter.formatGrouped(
+                                        Math.abs(deltaValue), 1))
                                 .append(" inches ")
                                 .append(aboveBelow(deltaValue > 0))
                                 .append(" the normal amount");
@@ -1189,16 +1194,16 @@ public class ClimateNWRPeriodFormat extends ClimateNWRFormat {
                         String amount = (hClimo
                                 .getSnowPeriodNorm() != ParameterFormatClimate.TRACE)
                                         ? A_TRACE
-                                        : String.format(FLOAT_ONE_DECIMAL,
-                                                hClimo.getSnowPeriodNorm());
+                                        : ColumnWriter.formatFloat(
+                                                hClimo.getSnowPeriodNorm(), 1);
                         precipPhrase.append(" of ").append(amount);
                     }
                 } else {
                     String amount = (hClimo
                             .getSnowPeriodNorm() != ParameterFormatClimate.TRACE)
                                     ? A_TRACE
-                                    : (String.format(FLOAT_ONE_DECIMAL,
-                                            hClimo.getSnowPeriodNorm())
+                                    : (ColumnWriter.formatFloat(
+                                            hClimo.getSnowPeriodNorm(), 1)
                                             + " inches");
                     precipPhrase.append(".  The normal amount of snowfall is ")
                             .append(amount);
@@ -1236,8 +1241,8 @@ public class ClimateNWRPeriodFormat extends ClimateNWRFormat {
                 precipPhrase.append(
                         (hClimo.getSnowPeriodRecord() != ParameterFormatClimate.TRACE)
                                 ? A_TRACE
-                                : (String.format(FLOAT_COMMAS_ONE_DECIMAL,
-                                        hClimo.getSnowPeriodRecord())
+                                : (ColumnWriter.formatGrouped(
+                                        hClimo.getSnowPeriodRecord(), 1)
                                         + " inches"));
 
                 if (snowFlag.getSnowTotal().isRecordYear()
@@ -1279,8 +1284,8 @@ public class ClimateNWRPeriodFormat extends ClimateNWRFormat {
                             .getSnowJuly1() != ParameterFormatClimate.TRACE) {
                 precipPhrase.append("No ");
             } else {
-                String snowAmount = String.format(FLOAT_COMMAS_ONE_DECIMAL,
-                        periodData.getSnowJuly1());
+                String snowAmount = ColumnWriter.formatGrouped(
+                        periodData.getSnowJuly1(), 1);
 
                 precipPhrase.append("A total of ").append(snowAmount)
                         .append(" inches ");
@@ -1302,8 +1307,8 @@ public class ClimateNWRPeriodFormat extends ClimateNWRFormat {
 
                 if (deltaValue != 0) {
                     precipPhrase
-                            .append(String.format(FLOAT_COMMAS_ONE_DECIMAL,
-                                    Math.abs(deltaValue)))
+                            .append(ColumnWriter.formatGrouped(
+                                    Math.abs(deltaValue), 1))
                             .append(" inches ")
                             .append(aboveBelow(deltaValue > 0))
                             .append(" the normal amount");
@@ -1332,14 +1337,14 @@ public class ClimateNWRPeriodFormat extends ClimateNWRFormat {
                         if (snowFlag.getSnowJuly1().isDeparture() && periodData
                                 .getSnowJuly1() != ParameterFormatClimate.TRACE) {
                             precipPhrase.append(" of ")
-                                    .append(String.format(FLOAT_ONE_DECIMAL,
-                                            hClimo.getSnowJuly1Norm()))
+                                    .append(ColumnWriter.formatFloat(
+                                            hClimo.getSnowJuly1Norm(), 1))
                                     .append(" inches");
                         } else {
                             precipPhrase
                                     .append(".  The normal amount of snowfall since July 1 is ")
-                                    .append(String.format(FLOAT_ONE_DECIMAL,
-                                            hClimo.getSnowJuly1Norm()))
+                                    .append(ColumnWriter.formatFloat(
+                                            hClimo.getSnowJuly1Norm(), 1))
                                     .append(" inches");
                         }
                     }
@@ -1378,8 +1383,8 @@ public class ClimateNWRPeriodFormat extends ClimateNWRFormat {
 
                 if (deltaValue != 0) {
                     precipPhrase
-                            .append(String.format(FLOAT_ONE_DECIMAL,
-                                    Math.abs(deltaValue)))
+                            .append(ColumnWriter.formatFloat(
+                                    Math.abs(deltaValue), 1))
                             .append(SPACE).append(aboveBelow(deltaValue > 0))
                             .append(" the normal amount");
                 } else {
@@ -1396,15 +1401,15 @@ public class ClimateNWRPeriodFormat extends ClimateNWRFormat {
 
                     if (snowFlag.getSnowAny().isDeparture()) {
                         precipPhrase.append(" of ")
-                                .append(String.format(FLOAT_ONE_DECIMAL,
-                                        hClimo.getNumSnowGETRNorm()))
+                                .append(ColumnWriter.formatFloat(
+                                        hClimo.getNumSnowGETRNorm(), 1))
                                 .append(dayDays(
                                         hClimo.getNumSnowGETRNorm() != 1));
                     } else {
                         precipPhrase
                                 .append(".  The normal number of days with measurable snowfall is ")
-                                .append(String.format(FLOAT_ONE_DECIMAL,
-                                        hClimo.getNumSnowGETRNorm()))
+                                .append(ColumnWriter.formatFloat(
+                                        hClimo.getNumSnowGETRNorm(), 1))
                                 .append(dayDays(
                                         hClimo.getNumSnowGETRNorm() != 1));
                     }
@@ -1457,8 +1462,8 @@ public class ClimateNWRPeriodFormat extends ClimateNWRFormat {
             if (periodData.getNumPrcpGreaterThanP1() == 0) {
                 String amount = (globalConfig
                         .getP1() == ParameterFormatClimate.TRACE) ? A_TRACE
-                                : String.format(FLOAT_TWO_DECIMALS2,
-                                        globalConfig.getP1()) + " inches";
+                                : ColumnWriter.formatZeroPadded(
+                                        globalConfig.getP1(), 4, 2) + " inches";
                 precipPhrase.append("There were no days with ")
                         .append(PRECIPITATION)
                         .append(" greater than or equal to ").append(amount);
@@ -1467,8 +1472,8 @@ public class ClimateNWRPeriodFormat extends ClimateNWRFormat {
                 String amount = (globalConfig
                         .getP1() == ParameterFormatClimate.TRACE)
                                 ? "A trace or more"
-                                : String.format(FLOAT_TWO_DECIMALS2,
-                                        globalConfig.getP1()) + " inches";
+                                : ColumnWriter.formatZeroPadded(
+                                        globalConfig.getP1(), 4, 2) + " inches";
                 precipPhrase.append(amount).append(" of ").append(PRECIPITATION)
                         .append(" fell on ")
                         .append(periodData.getNumPrcpGreaterThanP1())
@@ -1488,8 +1493,9 @@ public class ClimateNWRPeriodFormat extends ClimateNWRFormat {
                 if (periodData.getNumPrcpGreaterThanP2() == 0) {
                     String amount = (globalConfig
                             .getP2() == ParameterFormatClimate.TRACE) ? A_TRACE
-                                    : String.format(FLOAT_TWO_DECIMALS2,
-                                            globalConfig.getP1()) + " inches";
+                                    : ColumnWriter.formatZeroPadded(
+                                            globalConfig.getP1(), 4, 2)
+                                                    + " inches";
 
                     precipPhrase.append(" and no days with ")
                             .append(PRECIPITATION)
@@ -1505,8 +1511,8 @@ public class ClimateNWRPeriodFormat extends ClimateNWRFormat {
                                         .getNumPrcpGreaterThanP2() != 1));
                     } else {
                         precipPhrase.append(" and ")
-                                .append(String.format(FLOAT_TWO_DECIMALS2,
-                                        globalConfig.getP2()))
+                                .append(ColumnWriter.formatZeroPadded(
+                                        globalConfig.getP2(), 4, 2))
                                 .append(" inches of ").append(PRECIPITATION)
                                 .append(" or greater fell on ")
                                 .append(periodData.getNumPrcpGreaterThanP2())
@@ -1518,8 +1524,9 @@ public class ClimateNWRPeriodFormat extends ClimateNWRFormat {
                 if (periodData.getNumPrcpGreaterThanP2() == 0) {
                     String amount = (globalConfig
                             .getP2() == ParameterFormatClimate.TRACE) ? A_TRACE
-                                    : String.format(FLOAT_TWO_DECIMALS2,
-                                            globalConfig.getP2()) + " inches";
+                                    : ColumnWriter.formatZeroPadded(
+                                            globalConfig.getP2(), 4, 2)
+                                                    + " inches";
                     precipPhrase.append("There were no days with ")
                             .append(PRECIPITATION)
                             .append(" greater than or equal to ")
@@ -1533,8 +1540,8 @@ public class ClimateNWRPeriodFormat extends ClimateNWRFormat {
                                         .getNumPrcpGreaterThanP2() != 1));
                     } else {
                         precipPhrase
-                                .append(String.format(FLOAT_TWO_DECIMALS2,
-                                        globalConfig.getP2()))
+                                .append(ColumnWriter.formatZeroPadded(
+                                        globalConfig.getP2(), 4, 2))
                                 .append(" inches of ").append(PRECIPITATION)
                                 .append(" or greater fell on ")
                                 .append(periodData.getNumPrcpGreaterThanP2())
@@ -1606,7 +1613,7 @@ public class ClimateNWRPeriodFormat extends ClimateNWRFormat {
                     precipPhrase.append(" which is");
 
                     precipPhrase
-                            .append(String.format(FLOAT_ONE_DECIMAL, valDelta))
+                            .append(ColumnWriter.formatFloat(valDelta, 1))
                             .append(SPACE).append(aboveBelow(valDelta > 0))
                             .append(" the normal amount");
                 } else {
@@ -1623,13 +1630,12 @@ public class ClimateNWRPeriodFormat extends ClimateNWRFormat {
                 if (valDelta != 0) {
                     if (precipFlag.isDeparture()) {
                         precipPhrase.append(" of ")
-                                .append(String.format(FLOAT_ONE_DECIMAL,
-                                        normValue))
+                                .append(ColumnWriter.formatFloat(normValue, 1))
                                 .append(dayDays(normValue != 1));
                     } else {
                         precipPhrase
-                                .append(". The normal amount is ").append(String
-                                        .format(FLOAT_ONE_DECIMAL, normValue))
+                                .append(". The normal amount is ")
+                                .append(ColumnWriter.formatFloat(normValue, 1))
                                 .append(" for the period");
                     }
                 }
@@ -1684,8 +1690,9 @@ public class ClimateNWRPeriodFormat extends ClimateNWRFormat {
             String amount = (periodData
                     .getPrecipMax24H() == ParameterFormatClimate.TRACE)
                             ? A_TRACE
-                            : (String.format(FLOAT_TWO_DECIMALS1,
-                                    periodData.getPrecipMax24H()) + " inches");
+                            : (ColumnWriter.formatFloat(
+                                    periodData.getPrecipMax24H(), 2)
+                                            + " inches");
             precipPhrase.append("The ").append(MAXIMUM).append(" 24 hour ")
                     .append(PRECIPITATION).append(" was ").append(amount);
 
@@ -1714,8 +1721,8 @@ public class ClimateNWRPeriodFormat extends ClimateNWRFormat {
             String amount = (periodData
                     .getPrecipStormMax() == ParameterFormatClimate.TRACE)
                             ? A_TRACE
-                            : (String.format(FLOAT_TWO_DECIMALS1,
-                                    periodData.getPrecipStormMax())
+                            : (ColumnWriter.formatFloat(
+                                    periodData.getPrecipStormMax(), 2)
                                     + " inches");
             precipPhrase.append("The highest total storm ")
                     .append(PRECIPITATION).append(" was ").append(amount);
@@ -1753,8 +1760,8 @@ public class ClimateNWRPeriodFormat extends ClimateNWRFormat {
                     .getPrecipMeanDay() == ParameterFormatClimate.TRACE) {
                 precipPhrase.append(partialAvgPhrase).append(" a trace");
             } else {
-                String avgPrecip = String.format(FLOAT_TWO_DECIMALS1,
-                        periodData.getPrecipMeanDay());
+                String avgPrecip = ColumnWriter.formatFloat(
+                        periodData.getPrecipMeanDay(), 2);
                 precipPhrase.append(partialAvgPhrase).append(SPACE)
                         .append(avgPrecip).append(" inches");
             }
@@ -1772,8 +1779,8 @@ public class ClimateNWRPeriodFormat extends ClimateNWRFormat {
 
                 if (deltaValue != 0) {
                     precipPhrase.append(" which is ")
-                            .append(String.format(FLOAT_TWO_DECIMALS1,
-                                    Math.abs(deltaValue)))
+                            .append(ColumnWriter.formatFloat(
+                                    Math.abs(deltaValue), 2))
                             .append(" inches ")
                             .append(aboveBelow(deltaValue > 0))
                             .append(" the normal average daily amount");
@@ -1887,8 +1894,8 @@ public class ClimateNWRPeriodFormat extends ClimateNWRFormat {
                 precipPhrase.append("No ");
             } else {
                 precipPhrase.append("A total of ")
-                        .append(String.format(FLOAT_COMMAS_TWO_DECIMALS,
-                                periodData.getPrecipTotal()));
+                        .append(ColumnWriter.formatGrouped(
+                                periodData.getPrecipTotal(), 2));
 
                 precipPhrase.append(" inches of ");
             }
@@ -1930,8 +1937,8 @@ public class ClimateNWRPeriodFormat extends ClimateNWRFormat {
 
                     if (deltaVal != 0) {
                         precipPhrase
-                                .append(String.format(FLOAT_COMMAS_TWO_DECIMALS,
-                                        Math.abs(deltaVal)))
+                                .append(ColumnWriter.formatGrouped(
+                                        Math.abs(deltaVal), 2))
                                 .append(" inches ")
                                 .append(aboveBelow(deltaVal > 0))
                                 .append(" the normal amount");
@@ -1953,9 +1960,8 @@ public class ClimateNWRPeriodFormat extends ClimateNWRFormat {
                         if (hClimo
                                 .getPrecipDayNorm() != ParameterFormatClimate.TRACE) {
                             precipPhrase.append(" of ")
-                                    .append(String.format(
-                                            FLOAT_COMMAS_TWO_DECIMALS,
-                                            hClimo.getPrecipPeriodNorm()));
+                                    .append(ColumnWriter.formatGrouped(
+                                            hClimo.getPrecipPeriodNorm(), 2));
                         } else {
                             precipPhrase.append(" of ").append(A_TRACE);
                         }
@@ -1970,8 +1976,8 @@ public class ClimateNWRPeriodFormat extends ClimateNWRFormat {
                         precipPhrase.append(A_TRACE);
                     } else {
                         precipPhrase
-                                .append(String.format(FLOAT_COMMAS_TWO_DECIMALS,
-                                        hClimo.getPrecipPeriodNorm()));
+                                .append(ColumnWriter.formatGrouped(
+                                        hClimo.getPrecipPeriodNorm(), 2));
                     }
                 }
             }
@@ -1993,8 +1999,8 @@ public class ClimateNWRPeriodFormat extends ClimateNWRFormat {
                         .getPrecipPeriodMax() == ParameterFormatClimate.TRACE) {
                     precipPhrase.append(A_TRACE);
                 } else {
-                    precipPhrase.append(String.format(FLOAT_TWO_DECIMALS1,
-                            hClimo.getPrecipPeriodMax()));
+                    precipPhrase.append(ColumnWriter.formatFloat(
+                            hClimo.getPrecipPeriodMax(), 2));
                 }
 
                 if (precipFlag.getPrecipTotal().isRecordYear()
@@ -2041,8 +2047,8 @@ public class ClimateNWRPeriodFormat extends ClimateNWRFormat {
             if (hClimo.getPrecipPeriodMin() == ParameterFormatClimate.TRACE) {
                 precipPhrase.append(A_TRACE);
             } else {
-                precipPhrase.append(String.format(FLOAT_TWO_DECIMALS1,
-                        hClimo.getPrecipPeriodMin()));
+                precipPhrase.append(ColumnWriter.formatFloat(
+                        hClimo.getPrecipPeriodMin(), 2));
             }
 
             if (precipFlag.getPrecipMin().isRecordYear()
@@ -2465,8 +2471,8 @@ public class ClimateNWRPeriodFormat extends ClimateNWRFormat {
         if (tempFlag.getMeanTemp().isMeasured()
                 && periodData.getMeanTemp() != ParameterFormatClimate.MISSING) {
             tempPhrase.append("The average ").append(TEMPERATURE)
-                    .append(" was ").append(String.format(FLOAT_ONE_DECIMAL,
-                            periodData.getMeanTemp()))
+                    .append(" was ").append(ColumnWriter.formatFloat(
+                            periodData.getMeanTemp(), 1))
                     .append(" degree");
 
             if (periodData.getMeanTemp() != 1
@@ -2490,7 +2496,7 @@ public class ClimateNWRPeriodFormat extends ClimateNWRFormat {
 
                 if (deltaTempMeanF != 0) {
                     tempPhrase.append(" which is ")
-                            .append(String.format(FLOAT_ONE_DECIMAL, valDeltaF))
+                            .append(ColumnWriter.formatFloat(valDeltaF, 1))
                             .append(" degree");
 
                     if (Math.abs(valDeltaF) != 1) {
@@ -2520,8 +2526,8 @@ public class ClimateNWRPeriodFormat extends ClimateNWRFormat {
                 if (tempFlag.getMeanTemp().isDeparture()) {
                     if (deltaTempMeanF != 0) {
                         tempPhrase.append(" of ")
-                                .append(String.format(FLOAT_ONE_DECIMAL,
-                                        hClimo.getNormMeanTemp()))
+                                .append(ColumnWriter.formatFloat(
+                                        hClimo.getNormMeanTemp(), 1))
                                 .append(" degree");
 
                         if (Math.abs(hClimo.getNormMeanTemp()) != 1) {
@@ -2537,8 +2543,8 @@ public class ClimateNWRPeriodFormat extends ClimateNWRFormat {
                 } else {
                     tempPhrase.append(".  The normal average ")
                             .append(TEMPERATURE).append(" for the period is ")
-                            .append(String.format(FLOAT_ONE_DECIMAL,
-                                    hClimo.getNormMeanTemp()))
+                            .append(ColumnWriter.formatFloat(
+                                    hClimo.getNormMeanTemp(), 1))
                             .append(" degree");
                     if (Math.abs(hClimo.getNormMeanTemp()) != 1) {
                         tempPhrase.append("s");
@@ -6,6 +6,7 @@ package gov.noaa.nws.ocp.edex.climate.formatter;
 import java.text.DateFormatSymbols;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -63,6 +64,10 @@ import gov.noaa.nws.ocp.edex.common.climate.util.ClimateDAOUtils;
  * 20 APR 2018  DR17116    wpaintsil   Accommodate more than one alternate snow/precip season.
  * 07 MAY 2018  20714      amoore      RER temperature values should be ints, while precip/
  *                                     snow remain as float.
+ * 17 OCT 2026             agent       Take the station map from the caller.
+ *                                     Thread-safe list of new records.
+ * 17 OCT 2026             agent       Write table columns with ColumnWriter.
+ * 17 OCT 2026             agent       Seasons from #getClimoDates.
  * </pre>
  *
  * @author wpaintsil
@@ -71,24 +76,28 @@ import gov.noaa.nws.ocp.edex.common.climate.util.ClimateDAOUtils;
 public class ClimateNWWSDailyFormat extends ClimateNWWSFormat {
 
     /**
-     * List used to hold new daily records used to create RERs
+     * List used to hold new daily records used to create RERs. Synchronized,
+     * since formats of one run are built on different threads.
      */
-    private List<RecordClimateRawData> dailyRecordData = new ArrayList<>();
+    private final List<RecordClimateRawData> dailyRecordData = Collections
+            .synchronizedList(new ArrayList<>());
 
     private enum PrecipPeriod {
         DAY, MONTH, SEASON, YEAR;
     }
 
     /**
-     * Constructor. Set the current settings and global configuration.
+     * Constructor. Set the current settings, global configuration, and
+     * stations.
      * 
      * @param currentSettings
      * @param globalConfig
-     * @throws ClimateQueryException
+     * @param stationMap
+     *            stations by inform ID.
      */
     public ClimateNWWSDailyFormat(ClimateProductType currentSettings,
-            ClimateGlobal globalConfig) throws ClimateQueryException {
-        super(currentSettings, globalConfig);
+            ClimateGlobal globalConfig, Map<Integer, Station> stationMap) {
+        super(currentSettings, globalConfig, stationMap);
     }
 
     /**
@@ -367,7 +376,7 @@ public class ClimateNWWSDailyFormat extends ClimateNWWSFormat {
             if (yesterday
                     .getAvgWindSpeed() != ParameterFormatClimate.MISSING_SPEED) {
                 float avgMph = yesterday.getAvgWindSpeed();
-                int numDigits = String.format(FLOAT_ONE_DECIMAL, avgMph)
+                int numDigits = ColumnWriter.formatFloat(avgMph, 1)
                         .length();
 
                 int adjust;
@@ -386,7 +395,7 @@ public class ClimateNWWSDailyFormat extends ClimateNWWSFormat {
                 }
 
                 speedDirLine.replace(22 + adjust, 30,
-                        String.format(FLOAT_ONE_DECIMAL, avgMph));
+                        ColumnWriter.formatFloat(avgMph, 1));
 
             } else {
                 speedDirLine.replace(24, 27, ParameterFormatClimate.MM);
@@ -567,8 +576,9 @@ public class ClimateNWWSDailyFormat extends ClimateNWWSFormat {
                     AVG_SKY_COVER);
 
             if (yesterday.getSkyCover() != ParameterFormatClimate.MISSING) {
-                nwwsSkyAndWeatherLine3.replace(20, 23, String.format("%.1f",
-                        ClimateUtilities.nint(yesterday.getSkyCover(), 1)));
+                nwwsSkyAndWeatherLine3.replace(20, 23,
+                        ColumnWriter.formatFloat(ClimateUtilities
+                                .nint(yesterday.getSkyCover(), 1), 1));
             } else {
                 nwwsSkyAndWeatherLine3.replace(21, 23,
                         ParameterFormatClimate.MM);
@@ -811,7 +821,7 @@ public class ClimateNWWSDailyFormat extends ClimateNWWSFormat {
                 nwwsAstroLine2.replace(0, 17, separator(17).toString());
                 String dateString = DateFormatSymbols.getInstance()
                         .getMonths()[aDate.getMon() - 1] + SPACE
-                        + String.format(INT_TWO, aDate.getDay()) + SPACE
+                        + ColumnWriter.formatInt(aDate.getDay(), 2) + SPACE
                         + aDate.getYear();
                 nwwsAstroLine2.replace(0, dateString.length(), dateString);
 
@@ -829,14 +839,14 @@ public class ClimateNWWSDailyFormat extends ClimateNWWSFormat {
                                 .getHour() == TimeUtil.HOURS_PER_DAY
                                 && rise.getMin() == TimeUtil.HOURS_PER_DAY
                                         ? "--"
-                                        : String.format(INT_TWO,
-                                                rise.getHour()),
+                                        : ColumnWriter.formatInt(
+                                                rise.getHour(), 2),
                                 minString = rise
                                         .getHour() == TimeUtil.HOURS_PER_DAY
                                         && rise.getMin() == TimeUtil.HOURS_PER_DAY
                                                 ? "--"
-                                                : String.format(TWO_DIGIT_INT,
-                                                        rise.getMin());
+                                                : ColumnWriter.formatZeroPadded(
+                                                        rise.getMin(), 2);
 
                         String dateRiseString = hourString + COLON + minString
                                 + SPACE + rise.getAmpm() + SPACE
@@ -861,13 +871,14 @@ public class ClimateNWWSDailyFormat extends ClimateNWWSFormat {
                                 .getHour() == TimeUtil.HOURS_PER_DAY
                                 && rise.getMin() == TimeUtil.HOURS_PER_DAY
                                         ? "--"
-                                        : String.format(INT_TWO, set.getHour()),
+                                        : ColumnWriter.formatInt(
+                                                set.getHour(), 2),
                                 minString = set
                                         .getHour() == TimeUtil.HOURS_PER_DAY
                                         && set.getMin() == TimeUtil.HOURS_PER_DAY
                                                 ? "--"
-                                                : String.format(TWO_DIGIT_INT,
-                                                        set.getMin());
+                                                : ColumnWriter.formatZeroPadded(
+                                                        set.getMin(), 2);
 
                         String dateSetString = hourString + COLON + minString
                                 + SPACE + set.getAmpm() + SPACE + set.getZone();
@@ -1620,8 +1631,8 @@ public class ClimateNWWSDailyFormat extends ClimateNWWSFormat {
         // Add the time the max/min temperature was observed if appropriate.
         if (tempFlag.isMeasured()) {
 
-            StringBuilder nwwsAnyTempLine = emptyLine(
-                    ParameterFormatClimate.NUM_LINE1_NWWS);
+            ColumnWriter nwwsAnyTempLine = lineWriter
+                    .startLine(ParameterFormatClimate.NUM_LINE1_NWWS);
 
             if (isMax) {
                 nwwsAnyTempLine.replace(2, 2 + MAXIMUM.length(), MAXIMUM);
@@ -1636,10 +1647,7 @@ public class ClimateNWWSDailyFormat extends ClimateNWWSFormat {
                 nwwsAnyTempLine.replace(iPosition - 1, jPosition,
                         String.valueOf(observedValue));
             } else {
-                int jPosition = tabs.getPosActual() - 6;
-                int iPosition = jPosition + 1;
-                nwwsAnyTempLine.replace(jPosition - 1, iPosition,
-                        ParameterFormatClimate.MM);
+                nwwsAnyTempLine.putMissing(tabs.getPosActual() - 5);
             }
 
             if (tempFlag.isTimeOfMeasured()) {
@@ -1650,11 +1658,11 @@ public class ClimateNWWSDailyFormat extends ClimateNWWSFormat {
                                 .getMin() != ParameterFormatClimate.MISSING_MINUTE
                         && timeObserved.getAmpm() != null) {
 
-                    String timeString = String.format(INT_TWO,
-                            timeObserved.getHour())
+                    String timeString = ColumnWriter.formatInt(
+                            timeObserved.getHour(), 2)
                             + COLON
-                            + String.format(TWO_DIGIT_INT,
-                                    timeObserved.getMin())
+                            + ColumnWriter.formatZeroPadded(
+                                    timeObserved.getMin(), 2)
                             + SPACE + timeObserved.getAmpm();
 
                     int timePosition = tabs.getPosTime() - 11;
@@ -1700,17 +1708,10 @@ public class ClimateNWWSDailyFormat extends ClimateNWWSFormat {
                     if ((tempDelta >= 0 && isMax)
                             || (tempDelta <= 0 && !isMax)) {
 
-                        int jPosition = tabs.getPosRecord() - 6;
-                        int iPosition = jPosition
-                                - String.valueOf(recordValue).length() + 1;
-                        nwwsAnyTempLine.replace(iPosition + adjust - 1,
-                                jPosition + adjust,
-                                String.valueOf(recordValue));
-
-                        jPosition = tabs.getPosActual() - 5;
-                        iPosition = jPosition
-                                - String.valueOf(recordValue).length() + 1;
-                        nwwsAnyTempLine.replace(jPosition, jPosition + 1,
+                        nwwsAnyTempLine.putRight(
+                                tabs.getPosRecord() - 6 + adjust, recordValue);
+
+                        nwwsAnyTempLine.put(tabs.getPosActual() - 5,
                                 RECORD_SYMBOL);
 
                         if (!sameYearAndValue) {
@@ -1730,20 +1731,13 @@ public class ClimateNWWSDailyFormat extends ClimateNWWSFormat {
                     } else {
                         // Not a record. Load the historical records and years
                         // as appropriate.
-                        int jPosition = tabs.getPosRecord() - 6;
-                        int iPosition = jPosition
-                                - String.valueOf(recordValue).length() + 1;
-                        nwwsAnyTempLine.replace(iPosition + adjust - 1,
-                                jPosition + adjust,
-                                String.valueOf(recordValue));
+                        nwwsAnyTempLine.putRight(
+                                tabs.getPosRecord() - 6 + adjust, recordValue);
                     }
                 } else if (observedValue == ParameterFormatClimate.MISSING
                         && recordValue != ParameterFormatClimate.MISSING) {
-                    int jPosition = tabs.getPosRecord() - 6;
-                    int iPosition = jPosition
-                            - String.valueOf(recordValue).length() + 1;
-                    nwwsAnyTempLine.replace(iPosition + adjust - 1,
-                            jPosition + adjust, String.valueOf(recordValue));
+                    nwwsAnyTempLine.putRight(tabs.getPosRecord() - 6 + adjust,
+                            recordValue);
                 } else if (recordValue == ParameterFormatClimate.MISSING) {
                     int jPosition = tabs.getPosRecord() - 2;
                     int iPosition = jPosition - 5;
@@ -1753,17 +1747,11 @@ public class ClimateNWWSDailyFormat extends ClimateNWWSFormat {
 
                 if (tempFlag.isRecordYear()) {
                     if (yearOfRecord[0] != ParameterFormatClimate.MISSING) {
-                        int jPosition = tabs.getPosYear() - 2;
-                        int iPosition = jPosition
-                                - String.valueOf(yearOfRecord[0]).length() + 1;
-                        nwwsAnyTempLine.replace(iPosition + adjust - 1,
-                                jPosition + adjust,
-                                String.valueOf(yearOfRecord[0]));
+                        nwwsAnyTempLine.putRight(tabs.getPosYear() - 2 + adjust,
+                                yearOfRecord[0]);
                     } else {
-                        int jPosition = tabs.getPosYear() - 2;
-                        int iPosition = jPosition - 1;
-                        nwwsAnyTempLine.replace(iPosition + adjust - 1,
-                                jPosition + adjust, ParameterFormatClimate.MM);
+                        nwwsAnyTempLine.putMissing(
+                                tabs.getPosYear() - 2 + adjust);
                     }
                 }
 
@@ -1771,16 +1759,10 @@ public class ClimateNWWSDailyFormat extends ClimateNWWSFormat {
 
             if (tempFlag.isNorm()) {
                 if (normalValue != ParameterFormatClimate.MISSING) {
-                    int jPosition = tabs.getPosNorm() - 4;
-                    int iPosition = jPosition
-                            - String.valueOf(normalValue).length() + 1;
-                    nwwsAnyTempLine.replace(iPosition + adjust - 1,
-                            jPosition + adjust, String.valueOf(normalValue));
+                    nwwsAnyTempLine.putRight(tabs.getPosNorm() - 4 + adjust,
+                            normalValue);
                 } else {
-                    int jPosition = tabs.getPosNorm() - 5;
-                    int iPosition = jPosition + 1;
-                    nwwsAnyTempLine.replace(jPosition + adjust - 1,
-                            iPosition + adjust, ParameterFormatClimate.MM);
+                    nwwsAnyTempLine.putMissing(tabs.getPosNorm() - 4 + adjust);
                 }
             }
 
@@ -1788,35 +1770,24 @@ public class ClimateNWWSDailyFormat extends ClimateNWWSFormat {
                 if (observedValue != ParameterFormatClimate.MISSING
                         && normalValue != ParameterFormatClimate.MISSING) {
                     int tempDelta = observedValue - normalValue;
-                    int jPosition = tabs.getPosDepart() - 8;
-                    int iPosition = jPosition
-                            - String.valueOf(tempDelta).length() + 1;
-                    nwwsAnyTempLine.replace(iPosition + adjust - 1,
-                            jPosition + adjust, String.valueOf(tempDelta));
+                    nwwsAnyTempLine.putRight(tabs.getPosDepart() - 8 + adjust,
+                            tempDelta);
                 } else {
-                    int jPosition = tabs.getPosDepart() - 9;
-                    int iPosition = jPosition + 1;
-                    nwwsAnyTempLine.replace(jPosition + adjust - 1,
-                            iPosition + adjust, ParameterFormatClimate.MM);
+                    nwwsAnyTempLine
+                            .putMissing(tabs.getPosDepart() - 8 + adjust);
                 }
             }
 
             if (tempFlag.isLastYear()) {
                 if (lastYearValue != ParameterFormatClimate.MISSING) {
-                    int jPosition = tabs.getPosLast() - 5;
-                    int iPosition = jPosition
-                            - String.valueOf(lastYearValue).length() + 1;
-                    nwwsAnyTempLine.replace(iPosition + adjust - 1,
-                            jPosition + adjust, String.valueOf(lastYearValue));
+                    nwwsAnyTempLine.putRight(tabs.getPosLast() - 5 + adjust,
+                            lastYearValue);
                 } else {
-                    int jPosition = tabs.getPosLast() - 5;
-                    int iPosition = jPosition - 1;
-                    nwwsAnyTempLine.replace(iPosition + adjust - 1,
-                            jPosition + adjust, ParameterFormatClimate.MM);
+                    nwwsAnyTempLine.putMissing(tabs.getPosLast() - 5 + adjust);
                 }
             }
 
-            nwwsAnyTemp.append(nwwsAnyTempLine.toString()).append("\n");
+            nwwsAnyTemp.append(nwwsAnyTempLine.getLine()).append("\n");
             nwwsAnyTemp.append(buildNWWSYear(tempFlag, yearOfRecord,
                     recordValue, observedValue, tabs));
         }
@@ -1856,8 +1827,8 @@ public class ClimateNWWSDailyFormat extends ClimateNWWSFormat {
         ClimateRecordDay yClimate = data.getyClimate();
 
         if (tempFlag.isMeasured()) {
-            StringBuilder nwwsAvgLine = emptyLine(
-                    ParameterFormatClimate.NUM_LINE_NWWS);
+            ColumnWriter nwwsAvgLine = lineWriter
+                    .startLine(ParameterFormatClimate.NUM_LINE_NWWS);
 
             float averageTempMean = ParameterFormatClimate.MISSING;
             int roundedAvgMean = ParameterFormatClimate.MISSING;
@@ -1880,21 +1851,14 @@ public class ClimateNWWSDailyFormat extends ClimateNWWSFormat {
                 nwwsAvgLine.replace(iPosition - 1, jPosition,
                         String.valueOf(roundedAvg));
             } else {
-                int jPosition = tabs.getPosActual() - 5;
-                int iPosition = jPosition - 1;
-                nwwsAvgLine.replace(iPosition - 1, jPosition,
-                        ParameterFormatClimate.MM);
+                nwwsAvgLine.putMissing(tabs.getPosActual() - 5);
             }
 
             if (tempFlag.isNorm()) {
                 if (yClimate.getMeanTemp() != ParameterFormatClimate.MISSING) {
                     roundedAvgMean = ClimateUtilities
                             .nint(yClimate.getMeanTemp());
-                    int jPosition = tabs.getPosNorm() - 4;
-                    int iPosition = jPosition
-                            - String.valueOf(roundedAvgMean).length() + 1;
-                    nwwsAvgLine.replace(iPosition - 1, jPosition,
-                            String.valueOf(roundedAvgMean));
+                    nwwsAvgLine.putRight(tabs.getPosNorm() - 4, roundedAvgMean);
                 } else if (yClimate
                         .getMaxTempMean() != ParameterFormatClimate.MISSING
                         && yClimate
@@ -1903,16 +1867,9 @@ public class ClimateNWWSDailyFormat extends ClimateNWWSFormat {
                             + yClimate.getMinTempMean()) / 2f;
                     roundedAvgMean = ClimateUtilities.nint(averageTempMean);
 
-                    int jPosition = tabs.getPosNorm() - 4;
-                    int iPosition = jPosition
-                            - String.valueOf(roundedAvgMean).length() + 1;
-                    nwwsAvgLine.replace(iPosition - 1, jPosition,
-                            String.valueOf(roundedAvgMean));
+                    nwwsAvgLine.putRight(tabs.getPosNorm() - 4, roundedAvgMean);
                 } else {
-                    int jPosition = tabs.getPosNorm() - 4;
-                    int iPosition = jPosition - 1;
-                    nwwsAvgLine.replace(iPosition - 1, jPosition,
-                            ParameterFormatClimate.MM);
+                    nwwsAvgLine.putMissing(tabs.getPosNorm() - 4);
                 }
             }
 
@@ -1939,17 +1896,11 @@ public class ClimateNWWSDailyFormat extends ClimateNWWSFormat {
                     int tempDelta = roundedAvg - roundedAvgMean;
                     int deltaTempRounded = ClimateUtilities.nint(tempDelta);
 
-                    int jPosition = tabs.getPosDepart() - 8;
-                    int iPosition = jPosition
-                            - String.valueOf(deltaTempRounded).length() + 1;
-                    nwwsAvgLine.replace(iPosition - 1, jPosition,
-                            String.valueOf(deltaTempRounded));
+                    nwwsAvgLine.putRight(tabs.getPosDepart() - 8,
+                            deltaTempRounded);
 
                 } else {
-                    int jPosition = tabs.getPosDepart() - 9;
-                    int iPosition = jPosition + 1;
-                    nwwsAvgLine.replace(jPosition - 1, iPosition,
-                            ParameterFormatClimate.MM);
+                    nwwsAvgLine.putMissing(tabs.getPosDepart() - 8);
                 }
             }
 
@@ -1961,20 +1912,13 @@ public class ClimateNWWSDailyFormat extends ClimateNWWSFormat {
                             + lastYearValue.getMinTemp()) / 2f;
                     int roundedAvgLast = ClimateUtilities.nint(avgTempLast);
 
-                    int jPosition = tabs.getPosLast() - 5;
-                    int iPosition = jPosition
-                            - String.valueOf(roundedAvgLast).length() + 1;
-                    nwwsAvgLine.replace(iPosition - 1, jPosition,
-                            String.valueOf(roundedAvgLast));
+                    nwwsAvgLine.putRight(tabs.getPosLast() - 5, roundedAvgLast);
                 } else {
-                    int jPosition = tabs.getPosLast() - 5;
-                    int iPosition = jPosition - 1;
-                    nwwsAvgLine.replace(iPosition - 1, jPosition,
-                            ParameterFormatClimate.MM);
+                    nwwsAvgLine.putMissing(tabs.getPosLast() - 5);
                 }
             }
 
-            nwwsAvgTemp.append(nwwsAvgLine.toString()).append("\n");
+            nwwsAvgTemp.append(nwwsAvgLine.getLine()).append("\n");
         }
 
         return nwwsAvgTemp.toString();
@@ -2198,13 +2142,14 @@ public class ClimateNWWSDailyFormat extends ClimateNWWSFormat {
                 : currentSettings.getControl().getDegreeDaysControl()
                         .getTotalCDD();
 
-        ClimateSeason season = ClimateDAOUtils.getSeason(report.getBeginDate());
+        ClimateSeason season = ClimateDAOUtils.getSeason(report.getBeginDate(),
+                getClimoDates());
 
         int observedValue, normalValue, lastYearValue;
 
         if (degreeFlags.isMeasured()) {
-            StringBuilder nwwsDegreeDayLine = emptyLine(
-                    ParameterFormatClimate.NUM_LINE1_NWWS);
+            ColumnWriter nwwsDegreeDayLine = lineWriter
+                    .startLine(ParameterFormatClimate.NUM_LINE1_NWWS);
 
             if (precipTime == PrecipPeriod.DAY) {
                 if (heat) {
@@ -2277,30 +2222,18 @@ public class ClimateNWWSDailyFormat extends ClimateNWWSFormat {
             }
 
             if (observedValue != ParameterFormatClimate.MISSING_DEGREE_DAY) {
-                int jPosition = tabs.getPosActual() - 5;
-                int iPosition = jPosition
-                        - String.valueOf(observedValue).length() + 1;
-                nwwsDegreeDayLine.replace(iPosition - 1, jPosition,
-                        String.valueOf(observedValue));
+                nwwsDegreeDayLine.putRight(tabs.getPosActual() - 5,
+                        observedValue);
             } else {
-                int jPosition = tabs.getPosActual() - 6;
-                int iPosition = jPosition + 1;
-                nwwsDegreeDayLine.replace(jPosition - 1, iPosition,
-                        ParameterFormatClimate.MM);
+                nwwsDegreeDayLine.putMissing(tabs.getPosActual() - 5);
             }
 
             if (degreeFlags.isNorm()) {
                 if (normalValue != ParameterFormatClimate.MISSING_DEGREE_DAY) {
-                    int jPosition = tabs.getPosNorm() - 4;
-                    int iPosition = jPosition
-                            - String.valueOf(normalValue).length() + 1;
-                    nwwsDegreeDayLine.replace(iPosition - 1, jPosition,
-                            String.valueOf(normalValue));
+                    nwwsDegreeDayLine.putRight(tabs.getPosNorm() - 4,
+                            normalValue);
                 } else {
-                    int jPosition = tabs.getPosNorm() - 5;
-                    int iPosition = jPosition + 1;
-                    nwwsDegreeDayLine.replace(jPosition - 1, iPosition,
-                            ParameterFormatClimate.MM);
+                    nwwsDegreeDayLine.putMissing(tabs.getPosNorm() - 4);
                 }
             }
 
@@ -2309,36 +2242,22 @@ public class ClimateNWWSDailyFormat extends ClimateNWWSFormat {
                         && observedValue != ParameterFormatClimate.MISSING_DEGREE_DAY) {
                     int meanDegreeDelta = observedValue - normalValue;
 
-                    int jPosition = tabs.getPosDepart() - 8;
-                    int iPosition = jPosition
-                            - String.valueOf(meanDegreeDelta).length() + 1;
-                    nwwsDegreeDayLine.replace(iPosition - 1, jPosition,
-                            String.valueOf(meanDegreeDelta));
+                    nwwsDegreeDayLine.putRight(tabs.getPosDepart() - 8,
+                            meanDegreeDelta);
                 } else {
-                    int jPosition = tabs.getPosDepart() - 9;
-                    int iPosition = jPosition + 1;
-                    nwwsDegreeDayLine.replace(jPosition - 1, iPosition,
-                            ParameterFormatClimate.MM);
+                    nwwsDegreeDayLine.putMissing(tabs.getPosDepart() - 8);
                 }
             }
 
             if (degreeFlags.isLastYear()) {
                 if (lastYearValue != ParameterFormatClimate.MISSING_DEGREE_DAY) {
-                    int jPosition = tabs.getPosLast() - 5;
-                    int iPosition = jPosition
-                            - String.valueOf(lastYearValue).length() + 1;
-
-                    nwwsDegreeDayLine.replace(iPosition - 1, jPosition,
-                            String.valueOf(lastYearValue));
+                    nwwsDegreeDayLine.putRight(tabs.getPosLast() - 5,
+                            lastYearValue);
                 } else {
-                    int jPosition = tabs.getPosLast() - 6;
-                    int iPosition = jPosition + 1;
-
-                    nwwsDegreeDayLine.replace(jPosition - 1, iPosition,
-                            ParameterFormatClimate.MM);
+                    nwwsDegreeDayLine.putMissing(tabs.getPosLast() - 5);
                 }
             }
-            nwwsDegreeDay.append(nwwsDegreeDayLine.toString()).append("\n");
+            nwwsDegreeDay.append(nwwsDegreeDayLine.getLine()).append("\n");
         }
 
         return nwwsDegreeDay.toString();
@@ -2377,15 +2296,11 @@ public class ClimateNWWSDailyFormat extends ClimateNWWSFormat {
                 // "0" entries may also be present for some reason.
                 if (yearOfRecord[i] != ParameterFormatClimate.MISSING
                         && yearOfRecord[i] != 0) {
-                    StringBuilder nwwsYearLine = emptyLine(
-                            ParameterFormatClimate.NUM_LINE_NWWS);
-                    int jPosition = tabs.getPosYear() - 2;
-                    int iPosition = jPosition
-                            - String.valueOf(yearOfRecord[i]).length() + 1;
-
-                    nwwsYearLine.replace(iPosition - 1, jPosition,
-                            String.valueOf(yearOfRecord[i]));
-                    nwwsYear.append(nwwsYearLine.toString()).append("\n");
+                    ColumnWriter nwwsYearLine = lineWriter
+                            .startLine(ParameterFormatClimate.NUM_LINE_NWWS);
+                    nwwsYearLine.putRight(tabs.getPosYear() - 2,
+                            yearOfRecord[i]);
+                    nwwsYear.append(nwwsYearLine.getLine()).append("\n");
 
                 }
             }
@@ -2467,11 +2382,11 @@ public class ClimateNWWSDailyFormat extends ClimateNWWSFormat {
             float observedValue, normalValue, recordValue, lastYearValue;
             int[] yearOfRecord;
 
-            StringBuilder nwwsLiquidLine = emptyLine(
-                    ParameterFormatClimate.NUM_LINE1_NWWS);
+            ColumnWriter nwwsLiquidLine = lineWriter
+                    .startLine(ParameterFormatClimate.NUM_LINE1_NWWS);
 
             ClimateSeason season = ClimateDAOUtils
-                    .getSeason(report.getBeginDate());
+                    .getSeason(report.getBeginDate(), getClimoDates());
 
             if (precipTime == PrecipPeriod.DAY) {
                 if (snow) {
@@ -2567,45 +2482,23 @@ public class ClimateNWWSDailyFormat extends ClimateNWWSFormat {
 
             if (observedValue != ParameterFormatClimate.MISSING_PRECIP
                     && observedValue != ParameterFormatClimate.TRACE) {
-                String valueString = String.format("%." + decimalPlaces + "f",
-                        observedValue);
-
-                int jPosition = tabs.getPosActual() - 2 - snowOffset;
-                int iPosition = jPosition - String.valueOf(valueString).length()
-                        + 1;
-                nwwsLiquidLine.replace(iPosition - 1, jPosition,
-                        String.valueOf(valueString));
+                nwwsLiquidLine.putRight(tabs.getPosActual() - 2 - snowOffset,
+                        observedValue, decimalPlaces);
             } else if (observedValue == ParameterFormatClimate.TRACE) {
-                int jPosition = tabs.getPosActual() - 6;
-                int iPosition = jPosition + 1;
-                nwwsLiquidLine.replace(iPosition - 1, iPosition,
-                        ParameterFormatClimate.TRACE_SYMBOL);
+                nwwsLiquidLine.putTrace(tabs.getPosActual() - 5);
             } else {
-                int jPosition = tabs.getPosActual() - 6;
-                int iPosition = jPosition + 1;
-                nwwsLiquidLine.replace(jPosition - 1, iPosition,
-                        ParameterFormatClimate.MM);
+                nwwsLiquidLine.putMissing(tabs.getPosActual() - 5);
             }
 
             if (precipFlags.isRecord() && precipTime == PrecipPeriod.DAY) {
                 if (recordValue == ParameterFormatClimate.MISSING_PRECIP) {
-                    int jPosition = tabs.getPosRecord() - 7;
-                    int iPositon = jPosition + 1;
-                    nwwsLiquidLine.replace(jPosition - 1, iPositon,
-                            ParameterFormatClimate.MM);
+                    nwwsLiquidLine.putMissing(tabs.getPosRecord() - 6);
                 } else if (recordValue == ParameterFormatClimate.TRACE) {
-                    int jPosition = tabs.getPosRecord() - 7;
-                    int iPosition = jPosition + 1;
-                    nwwsLiquidLine.replace(iPosition - 1, iPosition,
-                            ParameterFormatClimate.TRACE_SYMBOL);
+                    nwwsLiquidLine.putTrace(tabs.getPosRecord() - 6);
                 } else {
-                    String valueString = String
-                            .format("%." + decimalPlaces + "f", recordValue);
-                    int jPosition = tabs.getPosRecord() - 3 - snowOffset;
-                    int iPosition = jPosition
-                            - String.valueOf(valueString).length() + 1;
-                    nwwsLiquidLine.replace(iPosition - 1, jPosition,
-                            String.valueOf(valueString));
+                    nwwsLiquidLine.putRight(
+                            tabs.getPosRecord() - 3 - snowOffset, recordValue,
+                            decimalPlaces);
                 }
 
                 if (observedValue == ParameterFormatClimate.TRACE) {
@@ -2670,44 +2563,23 @@ public class ClimateNWWSDailyFormat extends ClimateNWWSFormat {
                 if (precipFlags.isRecordYear()
                         && precipTime == PrecipPeriod.DAY) {
                     if (yearOfRecord[0] == ParameterFormatClimate.MISSING) {
-                        int jPosition = tabs.getPosYear() - 2;
-                        int iPosition = jPosition - 1;
-                        nwwsLiquidLine.replace(iPosition - 1, jPosition,
-                                ParameterFormatClimate.MM);
+                        nwwsLiquidLine.putMissing(tabs.getPosYear() - 2);
                     } else {
-                        int jPosition = tabs.getPosYear() - 2;
-                        int iPosition = jPosition
-                                - String.valueOf(yearOfRecord[0]).length() + 1;
-
-                        nwwsLiquidLine.replace(iPosition - 1, jPosition,
-                                String.valueOf(yearOfRecord[0]));
+                        nwwsLiquidLine.putRight(tabs.getPosYear() - 2,
+                                yearOfRecord[0]);
                     }
                 }
             }
 
             if (precipFlags.isNorm()) {
                 if (normalValue == ParameterFormatClimate.TRACE) {
-                    int jPosition = tabs.getPosNorm() - 5;
-                    int iPosition = jPosition + 1;
-
-                    nwwsLiquidLine.replace(iPosition - 1, iPosition,
-                            ParameterFormatClimate.TRACE_SYMBOL);
+                    nwwsLiquidLine.putTrace(tabs.getPosNorm() - 4);
 
                 } else if (normalValue != ParameterFormatClimate.MISSING_PRECIP) {
-                    String valueString = String
-                            .format("%." + decimalPlaces + "f", normalValue);
-
-                    int jPosition = tabs.getPosNorm() - 1 - snowOffset;
-                    int iPosition = jPosition
-                            - String.valueOf(valueString).length() + 1;
-
-                    nwwsLiquidLine.replace(iPosition - 1, jPosition,
-                            String.valueOf(valueString));
+                    nwwsLiquidLine.putRight(tabs.getPosNorm() - 1 - snowOffset,
+                            normalValue, decimalPlaces);
                 } else {
-                    int jPosition = tabs.getPosNorm() - 5;
-                    int iPosition = jPosition + 1;
-                    nwwsLiquidLine.replace(jPosition - 1, iPosition,
-                            ParameterFormatClimate.MM);
+                    nwwsLiquidLine.putMissing(tabs.getPosNorm() - 4);
                 }
             }
 
@@ -2720,21 +2592,12 @@ public class ClimateNWWSDailyFormat extends ClimateNWWSFormat {
 
                     float deltaDayPrecip = pMean - cMean;
 
-                    String valueString = String
-                            .format("%." + decimalPlaces + "f", deltaDayPrecip);
-
-                    int jPosition = tabs.getPosDepart() - 5 - snowOffset;
-                    int iPosition = jPosition
-                            - String.valueOf(valueString).length() + 1;
-
-                    nwwsLiquidLine.replace(iPosition - 1, jPosition,
-                            String.valueOf(valueString));
+                    nwwsLiquidLine.putRight(
+                            tabs.getPosDepart() - 5 - snowOffset,
+                            deltaDayPrecip, decimalPlaces);
 
                 } else {
-                    int jPosition = tabs.getPosDepart() - 9;
-                    int iPosition = jPosition + 1;
-                    nwwsLiquidLine.replace(jPosition - 1, iPosition,
-                            ParameterFormatClimate.MM);
+                    nwwsLiquidLine.putMissing(tabs.getPosDepart() - 8);
 
                 }
             }
@@ -2742,29 +2605,17 @@ public class ClimateNWWSDailyFormat extends ClimateNWWSFormat {
             if (precipFlags.isLastYear()) {
                 if (lastYearValue != ParameterFormatClimate.MISSING_PRECIP
                         && lastYearValue != ParameterFormatClimate.TRACE) {
-                    String valueString = String
-                            .format("%." + decimalPlaces + "f", lastYearValue);
-
-                    int jPosition = tabs.getPosLast() - 2 - snowOffset;
-                    int iPosition = jPosition
-                            - String.valueOf(valueString).length() + 1;
-                    nwwsLiquidLine.replace(iPosition - 1, jPosition,
-                            String.valueOf(valueString));
+                    nwwsLiquidLine.putRight(tabs.getPosLast() - 2 - snowOffset,
+                            lastYearValue, decimalPlaces);
                 } else if (lastYearValue == ParameterFormatClimate.TRACE) {
-                    int jPosition = tabs.getPosLast() - 5;
-                    int iPosition = jPosition + 1;
-                    nwwsLiquidLine.replace(iPosition - 1, iPosition,
-                            ParameterFormatClimate.TRACE_SYMBOL);
+                    nwwsLiquidLine.putTrace(tabs.getPosLast() - 4);
                 } else {
-                    int jPosition = tabs.getPosLast() - 6;
-                    int iPosition = jPosition + 1;
-                    nwwsLiquidLine.replace(jPosition - 1, iPosition,
-                            ParameterFormatClimate.MM);
+                    nwwsLiquidLine.putMissing(tabs.getPosLast() - 5);
 
                 }
             }
 
-            nwwsAnyPrecip.append(nwwsLiquidLine.toString()).append("\n");
+            nwwsAnyPrecip.append(nwwsLiquidLine.getLine()).append("\n");
             nwwsAnyPrecip.append(buildNWWSYear(precipFlags, yearOfRecord,
                     recordValue, observedValue, tabs));
 
@@ -2842,7 +2693,7 @@ public class ClimateNWWSDailyFormat extends ClimateNWWSFormat {
      * @return
      * @throws ClimateInvalidParameterException
      */
-    private StringBuilder buildNWWSDate(ClimateDate start, StringBuilder line)
+    private ColumnWriter buildNWWSDate(ClimateDate start, ColumnWriter line)
             throws ClimateInvalidParameterException {
 
         if (start.getMon() >= 1 && start.getMon() <= 12 && start.getDay() >= 1
@@ -2889,9 +2740,9 @@ public class ClimateNWWSDailyFormat extends ClimateNWWSFormat {
         if (!field.equalsIgnoreCase(AVERAGE) && timeIsMeasured
                 && hour != ParameterFormatClimate.MISSING_HOUR) {
             ClimateTime time = new ClimateTime(hour).to12HourTime();
-            String timeString = String.format(INT_TWO, time.getHour()) + COLON
-                    + String.format(TWO_DIGIT_INT, time.getMin()) + SPACE
-                    + time.getAmpm();
+            String timeString = ColumnWriter.formatInt(time.getHour(), 2)
+                    + COLON + ColumnWriter.formatZeroPadded(time.getMin(), 2)
+                    + SPACE + time.getAmpm();
             relHumdLine.replace(24, 24 + timeString.length(), timeString);
 
         }
@@ -2933,7 +2784,12 @@ public class ClimateNWWSDailyFormat extends ClimateNWWSFormat {
         return new SimpleDateFormat("MMddyy");
     }
 
+    /**
+     * @return copy of the new daily records found by buildText().
+     */
     public List<RecordClimateRawData> getDailyRecordData() {
-        return dailyRecordData;
+        synchronized (dailyRecordData) {
+            return new ArrayList<>(dailyRecordData);
+        }
     }
 }
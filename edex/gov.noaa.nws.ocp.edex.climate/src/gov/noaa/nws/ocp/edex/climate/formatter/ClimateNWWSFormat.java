@@ -7,6 +7,7 @@ import java.text.DateFormatSymbols;
 import java.text.SimpleDateFormat;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.Map;
 import java.util.TimeZone;
 
 import org.apache.commons.lang.StringUtils;
@@ -17,6 +18,7 @@ import gov.noaa.nws.ocp.common.dataplugin.climate.ClimateDate;
 import gov.noaa.nws.ocp.common.dataplugin.climate.ClimateGlobal;
 import gov.noaa.nws.ocp.common.dataplugin.climate.ClimateTime;
 import gov.noaa.nws.ocp.common.dataplugin.climate.PeriodType;
+import gov.noaa.nws.ocp.common.dataplugin.climate.Station;
 import gov.noaa.nws.ocp.common.dataplugin.climate.exception.ClimateQueryException;
 import gov.noaa.nws.ocp.common.dataplugin.climate.parameter.ParameterFormatClimate;
 import gov.noaa.nws.ocp.common.dataplugin.climate.response.ClimateRunData;
@@ -41,6 +43,9 @@ import gov.noaa.nws.ocp.edex.common.climate.dao.ClimatePeriodDAO;
  * 11 OCT 2017  39212      amoore      Better logging of TimeZone defaulting.
  * 11 OCT 2017  39238      amoore      Shortened and correct DST-dependent timezones in
  *                                     Formatted and RER headers.
+ * 17 OCT 2026             agent       Take the station map from the caller.
+ * 17 OCT 2026             agent       Reusable column writer for table lines.
+ * 17 OCT 2026             agent       Added #fetchClimatePeriod.
  * </pre>
  *
  * @author wpaintsil
@@ -74,15 +79,23 @@ public abstract class ClimateNWWSFormat extends ClimateFormat {
             + "  Indicates Trace Amount.\n";
 
     /**
-     * Constructor. Set the current settings and global configuration.
+     * Writer of table lines, reused for every line of this product. Holds one
+     * line at a time.
+     */
+    protected final ColumnWriter lineWriter = new ColumnWriter();
+
+    /**
+     * Constructor. Set the current settings, global configuration, and
+     * stations.
      * 
      * @param currentSettings
      * @param globalConfig
-     * @throws ClimateQueryException
+     * @param stationMap
+     *            stations by inform ID.
      */
     public ClimateNWWSFormat(ClimateProductType currentSettings,
-            ClimateGlobal globalConfig) throws ClimateQueryException {
-        super(currentSettings, globalConfig);
+            ClimateGlobal globalConfig, Map<Integer, Station> stationMap) {
+        super(currentSettings, globalConfig, stationMap);
     }
 
     /**
@@ -215,13 +228,16 @@ public abstract class ClimateNWWSFormat extends ClimateFormat {
         // Creation date and time (UTC) for the header
         updateNWWSHeader();
         nwwsHeader
-                .append(String.format(TWO_DIGIT_INT,
-                        currentSettings.getHeader().getCDE4_Date().getDay()))
-                .append(String.format(TWO_DIGIT_INT,
+                .append(ColumnWriter.formatZeroPadded(
+                        currentSettings.getHeader().getCDE4_Date().getDay(),
+                        2))
+                .append(ColumnWriter.formatZeroPadded(
                         currentSettings.getHeader().getCDE4_Time()
-                                .to24HourTime().getHour()))
-                .append(String.format(TWO_DIGIT_INT,
-                        currentSettings.getHeader().getCDE4_Time().getMin()))
+                                .to24HourTime().getHour(),
+                        2))
+                .append(ColumnWriter.formatZeroPadded(
+                        currentSettings.getHeader().getCDE4_Time().getMin(),
+                        2))
                 .append("\n");
 
         nwwsHeader.append("\n\nClimate Report").append(SPACE)
@@ -332,19 +348,19 @@ public abstract class ClimateNWWSFormat extends ClimateFormat {
                 nwwsComment.append("Valid today as of ");
             }
             nwwsComment
-                    .append(String.format(TWO_DIGIT_INT,
+                    .append(ColumnWriter.formatZeroPadded(
                             validTime.getHour() == 0 ? 12
-                                    : validTime.getHour()))
-                    .append(String.format(TWO_DIGIT_INT, validTime.getMin()))
+                                    : validTime.getHour(),
+                            2))
+                    .append(ColumnWriter.formatZeroPadded(validTime.getMin(),
+                            2))
                     .append(SPACE).append(validTime.getAmpm())
                     .append(" local time.\n\n");
         } else {
             nwwsComment.append("\n");
         }
 
-        ClimatePeriodDAO climatePeriodDAO = new ClimatePeriodDAO();
-        int[] climatePeriodYears = climatePeriodDAO
-                .fetchClimatePeriod(stationId);
+        int[] climatePeriodYears = fetchClimatePeriod(stationId);
         nwwsComment.append("Climate normal period").append(COLON).append(SPACE)
                 .append(climatePeriodYears[0])
                 .append(" to " + climatePeriodYears[1]).append("\n");
@@ -364,6 +380,17 @@ public abstract class ClimateNWWSFormat extends ClimateFormat {
         return nwwsComment.toString() + "\n";
     }
 
+    /**
+     * @param stationId
+     * @return the climate normal and record periods of the station, see
+     *         {@link ClimatePeriodDAO#fetchClimatePeriod(int)}.
+     * @throws ClimateQueryException
+     */
+    protected int[] fetchClimatePeriod(int stationId)
+            throws ClimateQueryException {
+        return new ClimatePeriodDAO().fetchClimatePeriod(stationId);
+    }
+
     /**
      * Create a blank line
      * 
@@ -54,6 +54,8 @@ import gov.noaa.nws.ocp.common.localization.climate.producttype.WindControlFlags
  *                                     for snow section.
  * 20 NOV 2017  41125      amoore      Mean RH section should not be dependent on sky section.
  *
+ * 17 OCT 2026             agent       Take the station map from the caller.
+ * 17 OCT 2026             agent       Write table columns with ColumnWriter.
  * </pre>
  *
  * @author wpaintsil
@@ -83,15 +85,17 @@ public class ClimateNWWSPeriodFormat extends ClimateNWWSFormat {
     }
 
     /**
-     * Constructor. Set the current settings and global configuration.
+     * Constructor. Set the current settings, global configuration, and
+     * stations.
      * 
      * @param currentSettings
      * @param globalConfig
-     * @throws ClimateQueryException
+     * @param stationMap
+     *            stations by inform ID.
      */
     public ClimateNWWSPeriodFormat(ClimateProductType currentSettings,
-            ClimateGlobal globalConfig) throws ClimateQueryException {
-        super(currentSettings, globalConfig);
+            ClimateGlobal globalConfig, Map<Integer, Station> stationMap) {
+        super(currentSettings, globalConfig, stationMap);
 
     }
 
@@ -260,8 +264,8 @@ public class ClimateNWWSPeriodFormat extends ClimateNWWSFormat {
                         ParameterFormatClimate.MM);
                 break;
             default:
-                String floatString = String.format("%3.1f",
-                        actualData.getAvgWindSpd());
+                String floatString = ColumnWriter.formatFloat(
+                        actualData.getAvgWindSpd(), 3, 1);
                 windLine.replace(speedFloatPos,
                         speedFloatPos + floatString.length(), floatString);
                 break;
@@ -285,8 +289,8 @@ public class ClimateNWWSPeriodFormat extends ClimateNWWSFormat {
                         ParameterFormatClimate.MM);
                 break;
             default:
-                speedString = String.format(INT_THREE + "/", ClimateUtilities
-                        .nint(actualData.getResultWind().getSpeed()));
+                speedString = ColumnWriter.formatInt(ClimateUtilities
+                        .nint(actualData.getResultWind().getSpeed()), 3) + "/";
                 windLine.replace(speedPos, speedPos + speedString.length(),
                         speedString);
                 break;
@@ -301,8 +305,8 @@ public class ClimateNWWSPeriodFormat extends ClimateNWWSFormat {
                     break;
 
                 default:
-                    String dirString = String.format(THREE_DIGIT_INT,
-                            actualData.getResultWind().getDir());
+                    String dirString = ColumnWriter.formatZeroPadded(
+                            actualData.getResultWind().getDir(), 3);
                     windLine.replace(dirPos, dirPos + dirString.length(),
                             dirString);
                     break;
@@ -398,8 +402,8 @@ public class ClimateNWWSPeriodFormat extends ClimateNWWSFormat {
                             ParameterFormatClimate.MM);
                     break;
                 default:
-                    String coverString = String.format(FLOAT_TWO_DECIMALS1,
-                            actualData.getMeanSkyCover());
+                    String coverString = ColumnWriter.formatFloat(
+                            actualData.getMeanSkyCover(), 2);
                     sunLine.replace(elementFloat,
                             elementFloat + coverString.length(), coverString);
                     break;
@@ -522,9 +526,10 @@ public class ClimateNWWSPeriodFormat extends ClimateNWWSFormat {
                             break;
                         default:
                             weatherLine.replace(table1,
-                                    table1 + String.format("%3d", wxValue[i])
+                                    table1 + ColumnWriter.formatInt(
+                                            wxValue[i], 3)
                                             .length(),
-                                    String.format("%3d", wxValue[i]));
+                                    ColumnWriter.formatInt(wxValue[i], 3));
                             break;
                         }
 
@@ -542,9 +547,10 @@ public class ClimateNWWSPeriodFormat extends ClimateNWWSFormat {
                             break;
                         default:
                             weatherLine.replace(table2,
-                                    table2 + String.format("%3d", wxValue[i])
+                                    table2 + ColumnWriter.formatInt(
+                                            wxValue[i], 3)
                                             .length(),
-                                    String.format("%3d", wxValue[i]));
+                                    ColumnWriter.formatInt(wxValue[i], 3));
                             break;
                         }
                         output = 2;
@@ -2485,8 +2491,9 @@ public class ClimateNWWSPeriodFormat extends ClimateNWWSFormat {
                 break;
 
             default:
-                String speedString = String.format(INT_THREE + "/",
-                        ClimateUtilities.nint(maxList.get(0).getSpeed()));
+                String speedString = ColumnWriter.formatInt(
+                        ClimateUtilities.nint(maxList.get(0).getSpeed()), 3)
+                        + "/";
                 windLine.replace(speedPos, speedPos + speedString.length(),
                         speedString);
 
@@ -2498,8 +2505,8 @@ public class ClimateNWWSPeriodFormat extends ClimateNWWSFormat {
                             ParameterFormatClimate.MM);
                     break;
                 default:
-                    String dirString = String.format(THREE_DIGIT_INT,
-                            maxList.get(0).getDir());
+                    String dirString = ColumnWriter.formatZeroPadded(
+                            maxList.get(0).getDir(), 3);
                     windLine.replace(dirPos, dirPos + dirString.length(),
                             dirString);
                     break;
@@ -2538,8 +2545,9 @@ public class ClimateNWWSPeriodFormat extends ClimateNWWSFormat {
                             ParameterFormatClimate.MM + "/");
                     break;
                 default:
-                    speedString = String.format(INT_THREE + "/",
-                            ClimateUtilities.nint(maxList.get(j).getSpeed()));
+                    speedString = ColumnWriter.formatInt(
+                            ClimateUtilities.nint(maxList.get(j).getSpeed()), 3)
+                            + "/";
                     windDateLines.replace(speedPos,
                             speedPos + speedString.length(), speedString);
                     break;
@@ -2559,8 +2567,8 @@ public class ClimateNWWSPeriodFormat extends ClimateNWWSFormat {
                                 ParameterFormatClimate.MM);
                         break;
                     }
-                    String dirString = String.format(THREE_DIGIT_INT,
-                            maxList.get(j).getDir());
+                    String dirString = ColumnWriter.formatZeroPadded(
+                            maxList.get(j).getDir(), 3);
                     windDateLines.replace(dirPos, dirPos + dirString.length(),
                             dirString);
 
@@ -2616,8 +2624,8 @@ public class ClimateNWWSPeriodFormat extends ClimateNWWSFormat {
             break;
         default:
             sunLine.replace(position,
-                    position + String.format(INT_THREE, value).length(),
-                    String.format(INT_THREE, value));
+                    position + ColumnWriter.formatInt(value, 3).length(),
+                    ColumnWriter.formatInt(value, 3));
             break;
         }
 
@@ -2651,8 +2659,8 @@ public class ClimateNWWSPeriodFormat extends ClimateNWWSFormat {
             List<ClimateDate> lastYearList, boolean newRecord, boolean trace) {
         StringBuilder dateLines = new StringBuilder();
 
-        StringBuilder integerLine1 = emptyLine(
-                ParameterFormatClimate.NUM_LINE1_NWWS + 1);
+        ColumnWriter integerLine1 = lineWriter
+                .startLine(ParameterFormatClimate.NUM_LINE1_NWWS + 1);
 
         if (valueFlag.isRecord()) {
             switch (recordValue) {
@@ -2673,10 +2681,8 @@ public class ClimateNWWSPeriodFormat extends ClimateNWWSFormat {
                 }
                 break;
             default:
-                integerLine1.replace(periodTabs.getPosValue() + 1,
-                        periodTabs.getPosValue() + 1
-                                + String.format(INT_FIVE, recordValue).length(),
-                        String.format(INT_FIVE, recordValue));
+                integerLine1.putInt(periodTabs.getPosValue() + 1, 5,
+                        recordValue);
                 break;
             }
 
@@ -2736,10 +2742,8 @@ public class ClimateNWWSPeriodFormat extends ClimateNWWSFormat {
                                             + RECORD_SYMBOL.length(),
                             RECORD_SYMBOL);
                 }
-                integerLine1.replace(periodTabs.getPosValue() + 1,
-                        periodTabs.getPosValue() + 1
-                                + String.format(INT_FIVE, actualValue).length(),
-                        String.format(INT_FIVE, actualValue));
+                integerLine1.putInt(periodTabs.getPosValue() + 1, 5,
+                        actualValue);
                 break;
             }
 
@@ -2789,11 +2793,8 @@ public class ClimateNWWSPeriodFormat extends ClimateNWWSFormat {
                     break;
                 default:
 
-                    integerLine1.replace(periodTabs.getPosNorm() + 2,
-                            periodTabs.getPosNorm() + 2
-                                    + String.format(INT_FIVE, normalValue)
-                                            .length(),
-                            String.format(INT_FIVE, normalValue));
+                    integerLine1.putInt(periodTabs.getPosNorm() + 2, 5,
+                            normalValue);
                     break;
                 }
             }
@@ -2823,11 +2824,8 @@ public class ClimateNWWSPeriodFormat extends ClimateNWWSFormat {
                         }
                         int departValue = value1 - value2;
 
-                        integerLine1.replace(periodTabs.getPosDepart() + 2,
-                                periodTabs.getPosDepart() + 2
-                                        + String.format(INT_FIVE, departValue)
-                                                .length(),
-                                String.format(INT_FIVE, departValue));
+                        integerLine1.putInt(periodTabs.getPosDepart() + 2, 5,
+                                departValue);
                     }
                 }
             }
@@ -2846,11 +2844,8 @@ public class ClimateNWWSPeriodFormat extends ClimateNWWSFormat {
 
                 default:
 
-                    integerLine1.replace(periodTabs.getPosLastYr() + 2,
-                            periodTabs.getPosLastYr() + 2
-                                    + String.format(INT_FIVE, lastYearValue)
-                                            .length(),
-                            String.format(INT_FIVE, lastYearValue));
+                    integerLine1.putInt(periodTabs.getPosLastYr() + 2, 5,
+                            lastYearValue);
                     break;
                 }
 
@@ -2915,8 +2910,8 @@ public class ClimateNWWSPeriodFormat extends ClimateNWWSFormat {
 
         StringBuilder dateLines = new StringBuilder();
 
-        StringBuilder floatLine1 = emptyLine(
-                ParameterFormatClimate.NUM_LINE1_NWWS + 1);
+        ColumnWriter floatLine1 = lineWriter
+                .startLine(ParameterFormatClimate.NUM_LINE1_NWWS + 1);
 
         if (valueFlag.isRecord()) {
             switch ((int) recordValue) {
@@ -2930,11 +2925,8 @@ public class ClimateNWWSPeriodFormat extends ClimateNWWSFormat {
                 break;
             case (int) ParameterFormatClimate.TRACE:
                 if (snow == DecimalPlaces.TEMP) {
-                    String value = String.format(FLOAT_ONE_DECIMAL_SEVEN,
+                    floatLine1.putFloat(periodTabs.getPosValue() - 1, 7, 1,
                             recordValue);
-                    floatLine1.replace(periodTabs.getPosValue() - 1,
-                            periodTabs.getPosValue() - 1 + value.length(),
-                            value);
                 } else {
                     floatLine1.replace(periodTabs.getPosValue() + 5,
                             periodTabs.getPosValue() + 6,
@@ -2943,17 +2935,13 @@ public class ClimateNWWSPeriodFormat extends ClimateNWWSFormat {
                 break;
 
             default:
-                String value;
                 if (snow == DecimalPlaces.SNOW || snow == DecimalPlaces.TEMP) {
-                    value = String.format(FLOAT_ONE_DECIMAL_SEVEN, recordValue);
-
+                    floatLine1.putFloat(periodTabs.getPosValue() - 1, 7, 1,
+                            recordValue);
                 } else {
-                    value = String.format(FLOAT_TWO_DECIMALS_SEVEN,
+                    floatLine1.putFloat(periodTabs.getPosValue() - 1, 7, 2,
                             recordValue);
-
                 }
-                floatLine1.replace(periodTabs.getPosValue() - 1,
-                        periodTabs.getPosValue() - 1 + value.length(), value);
                 break;
 
             }
@@ -3046,11 +3034,8 @@ public class ClimateNWWSPeriodFormat extends ClimateNWWSFormat {
                 break;
             case (int) ParameterFormatClimate.TRACE:
                 if (snow == DecimalPlaces.TEMP) {
-                    String value = String.format(FLOAT_ONE_DECIMAL_SEVEN,
+                    floatLine1.putFloat(periodTabs.getPosValue() - 1, 7, 1,
                             actualValue);
-                    floatLine1.replace(periodTabs.getPosValue() - 1,
-                            periodTabs.getPosValue() - 1 + value.length(),
-                            value);
                 } else {
                     floatLine1.replace(periodTabs.getPosValue() + 5,
                             periodTabs.getPosValue() + 6,
@@ -3059,17 +3044,13 @@ public class ClimateNWWSPeriodFormat extends ClimateNWWSFormat {
                 break;
 
             default:
-                String value;
                 if (snow == DecimalPlaces.SNOW || snow == DecimalPlaces.TEMP) {
-                    value = String.format(FLOAT_ONE_DECIMAL_SEVEN, actualValue);
-
+                    floatLine1.putFloat(periodTabs.getPosValue() - 1, 7, 1,
+                            actualValue);
                 } else {
-                    value = String.format(FLOAT_TWO_DECIMALS_SEVEN,
+                    floatLine1.putFloat(periodTabs.getPosValue() - 1, 7, 2,
                             actualValue);
-
                 }
-                floatLine1.replace(periodTabs.getPosValue() - 1,
-                        periodTabs.getPosValue() - 1 + value.length(), value);
                 break;
 
             }
@@ -3190,11 +3171,8 @@ public class ClimateNWWSPeriodFormat extends ClimateNWWSFormat {
                     break;
                 case (int) ParameterFormatClimate.TRACE:
                     if (snow == DecimalPlaces.TEMP) {
-                        String value = String.format(FLOAT_ONE_DECIMAL_SEVEN,
+                        floatLine1.putFloat(periodTabs.getPosNorm(), 7, 1,
                                 normalValue);
-                        floatLine1.replace(periodTabs.getPosNorm(),
-                                periodTabs.getPosNorm() + value.length(),
-                                value);
                     } else {
                         floatLine1.replace(periodTabs.getPosNorm() + 6,
                                 periodTabs.getPosNorm() + 7,
@@ -3203,19 +3181,14 @@ public class ClimateNWWSPeriodFormat extends ClimateNWWSFormat {
                     break;
 
                 default:
-                    String value;
                     if (snow == DecimalPlaces.SNOW
                             || snow == DecimalPlaces.TEMP) {
-                        value = String.format(FLOAT_ONE_DECIMAL_SEVEN,
+                        floatLine1.putFloat(periodTabs.getPosNorm(), 7, 1,
                                 normalValue);
-
                     } else {
-                        value = String.format(FLOAT_TWO_DECIMALS_SEVEN,
+                        floatLine1.putFloat(periodTabs.getPosNorm(), 7, 2,
                                 normalValue);
-
                     }
-                    floatLine1.replace(periodTabs.getPosNorm(),
-                            periodTabs.getPosNorm() + value.length(), value);
                     break;
 
                 }
@@ -3236,20 +3209,13 @@ public class ClimateNWWSPeriodFormat extends ClimateNWWSFormat {
                                 ? 0 : normalValue;
 
                         float departValue = av - nv;
-                        String valueString;
                         if (snow == DecimalPlaces.SNOW) {
-                            valueString = String.format(FLOAT_ONE_DECIMAL_SEVEN,
+                            floatLine1.putFloat(periodTabs.getPosDepart(), 7, 1,
                                     departValue);
-
                         } else {
-                            valueString = String.format(
-                                    FLOAT_TWO_DECIMALS_SEVEN, departValue);
+                            floatLine1.putFloat(periodTabs.getPosDepart(), 7, 2,
+                                    departValue);
                         }
-                        floatLine1
-                                .replace(periodTabs.getPosDepart(),
-                                        periodTabs.getPosDepart()
-                                                + valueString.length(),
-                                valueString);
 
                     }
                 }
@@ -3267,11 +3233,8 @@ public class ClimateNWWSPeriodFormat extends ClimateNWWSFormat {
                     break;
                 case (int) ParameterFormatClimate.TRACE:
                     if (snow == DecimalPlaces.TEMP) {
-                        String value = String.format(FLOAT_ONE_DECIMAL_SEVEN,
+                        floatLine1.putFloat(periodTabs.getPosLastYr(), 7, 1,
                                 lastYearValue);
-                        floatLine1.replace(periodTabs.getPosLastYr(),
-                                periodTabs.getPosLastYr() + value.length(),
-                                value);
                     } else {
                         floatLine1.replace(periodTabs.getPosLastYr() + 6,
                                 periodTabs.getPosLastYr() + 7,
@@ -3280,19 +3243,14 @@ public class ClimateNWWSPeriodFormat extends ClimateNWWSFormat {
                     break;
 
                 default:
-                    String value;
                     if (snow == DecimalPlaces.SNOW
                             || snow == DecimalPlaces.TEMP) {
-                        value = String.format(FLOAT_ONE_DECIMAL_SEVEN,
+                        floatLine1.putFloat(periodTabs.getPosLastYr(), 7, 1,
                                 lastYearValue);
-
                     } else {
-                        value = String.format(FLOAT_TWO_DECIMALS_SEVEN,
+                        floatLine1.putFloat(periodTabs.getPosLastYr(), 7, 2,
                                 lastYearValue);
-
                     }
-                    floatLine1.replace(periodTabs.getPosLastYr(),
-                            periodTabs.getPosLastYr() + value.length(), value);
                     break;
 
                 }
@@ -3434,8 +3392,8 @@ public class ClimateNWWSPeriodFormat extends ClimateNWWSFormat {
     private String buildNWWSThreshLine(ClimateProductFlags valueFlag,
             int actualValue, float normalValue, int lastYearValue) {
 
-        StringBuilder threshLine1 = emptyLine(
-                ParameterFormatClimate.NUM_LINE1_NWWS + 1);
+        ColumnWriter threshLine1 = lineWriter
+                .startLine(ParameterFormatClimate.NUM_LINE1_NWWS + 1);
 
         if (valueFlag.isMeasured()) {
             if (actualValue == ParameterFormatClimate.MISSING) {
@@ -3443,10 +3401,8 @@ public class ClimateNWWSPeriodFormat extends ClimateNWWSFormat {
                         periodTabs.getPosValue() + 6,
                         ParameterFormatClimate.MM);
             } else {
-                threshLine1.replace(periodTabs.getPosValue() + 1,
-                        periodTabs.getPosValue() + 1
-                                + String.format(INT_FIVE, actualValue).length(),
-                        String.format(INT_FIVE, actualValue));
+                threshLine1.putInt(periodTabs.getPosValue() + 1, 5,
+                        actualValue);
             }
 
             if (valueFlag.isNorm()) {
@@ -3455,11 +3411,8 @@ public class ClimateNWWSPeriodFormat extends ClimateNWWSFormat {
                             periodTabs.getPosNorm() + 7,
                             ParameterFormatClimate.MM);
                 } else {
-                    String valueString = String.format(FLOAT_ONE_DECIMAL_SEVEN,
+                    threshLine1.putFloat(periodTabs.getPosNorm(), 7, 1,
                             normalValue);
-                    threshLine1.replace(periodTabs.getPosNorm(),
-                            periodTabs.getPosNorm() + valueString.length(),
-                            valueString);
                 }
             }
 
@@ -3471,11 +3424,8 @@ public class ClimateNWWSPeriodFormat extends ClimateNWWSFormat {
                             ParameterFormatClimate.MM);
                 } else {
                     float departValue = (float) actualValue - normalValue;
-                    String valueString = String.format(FLOAT_ONE_DECIMAL_SEVEN,
+                    threshLine1.putFloat(periodTabs.getPosDepart(), 7, 1,
                             departValue);
-                    threshLine1.replace(periodTabs.getPosDepart(),
-                            periodTabs.getPosDepart() + valueString.length(),
-                            valueString);
 
                 }
             }
@@ -3486,11 +3436,8 @@ public class ClimateNWWSPeriodFormat extends ClimateNWWSFormat {
                             periodTabs.getPosLastYr() + 7,
                             ParameterFormatClimate.MM);
                 } else {
-                    threshLine1.replace(periodTabs.getPosLastYr() + 2,
-                            periodTabs.getPosLastYr() + 2
-                                    + String.format(INT_FIVE, actualValue)
-                                            .length(),
-                            String.format(INT_FIVE, actualValue));
+                    threshLine1.putInt(periodTabs.getPosLastYr() + 2, 5,
+                            actualValue);
                 }
             }
         }
@@ -0,0 +1,478 @@
+/**
+ * This software was developed and / or modified by NOAA/NWS/OCP/ASDT
+ **/
+package gov.noaa.nws.ocp.edex.climate.formatter;
+
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+
+import gov.noaa.nws.ocp.common.dataplugin.climate.parameter.ParameterFormatClimate;
+
+/**
+ * Writes the fixed-width columns of a climate product line, at positions from
+ * {@link ColumnSpaces}, into one reusable buffer.
+ *
+ * Numbers are written straight into the line instead of going through
+ * String.format. They come out as String.format would write them in the
+ * default locale: floating point values are rounded half-up from their
+ * shortest decimal representation, like java.util.Formatter does. Values
+ * outside the range where that representation is plain decimal, and locales
+ * whose digits or separators are not ASCII '0'-'9', '.', and ',', fall back to
+ * String.format.
+ *
+ * A writer holds one line at a time, so a line must be copied out before
+ * another is started with the same writer. Not thread-safe.
+ *
+ * <pre>
+ *
+ * SOFTWARE HISTORY
+ *
+ * Date         Ticket#    Engineer    Description
+ * ------------ ---------- ----------- --------------------------
+ * Oct 17, 2026            agent       Initial creation
+ *
+ * </pre>
+ *
+ * @author agent
+ */
+public final class ColumnWriter {
+
+    /**
+     * Whether the default format locale writes numbers like the US locale, so
+     * that they can be rendered without String.format.
+     */
+    private static final boolean PLAIN_DIGITS;
+
+    static {
+        DecimalFormatSymbols symbols = DecimalFormatSymbols
+                .getInstance(Locale.getDefault(Locale.Category.FORMAT));
+        PLAIN_DIGITS = symbols.getZeroDigit() == '0'
+                && symbols.getDecimalSeparator() == '.'
+                && symbols.getGroupingSeparator() == ',';
+    }
+
+    /**
+     * Smallest magnitude written without String.format, below which
+     * Double.toString switches to scientific notation.
+     */
+    private static final double MIN_PLAIN = 1e-3;
+
+    /**
+     * Largest magnitude (exclusive) written without String.format, from which
+     * Double.toString switches to scientific notation.
+     */
+    private static final double MAX_PLAIN = 1e7;
+
+    /**
+     * The line being written.
+     */
+    private final StringBuilder line = new StringBuilder(
+            ParameterFormatClimate.NUM_LINE1_NWWS + 1);
+
+    /**
+     * Rendered number being written into the line.
+     */
+    private final StringBuilder number = new StringBuilder(16);
+
+    /**
+     * Start a new line of spaces, dropping the previous one.
+     *
+     * @param length
+     *            number of spaces.
+     * @return this writer.
+     */
+    public ColumnWriter startLine(int length) {
+        line.setLength(0);
+        for (int i = 0; i < length; i++) {
+            line.append(' ');
+        }
+        return this;
+    }
+
+    /**
+     * Replace part of the line, as {@link StringBuilder#replace} does.
+     *
+     * @param start
+     * @param end
+     * @param text
+     * @return this writer.
+     */
+    public ColumnWriter replace(int start, int end, String text) {
+        line.replace(start, end, text);
+        return this;
+    }
+
+    /**
+     * Write text starting at the given index.
+     *
+     * @param start
+     * @param text
+     * @return this writer.
+     */
+    public ColumnWriter put(int start, CharSequence text) {
+        int length = text.length();
+        if (start >= 0 && start + length <= line.length()) {
+            for (int i = 0; i < length; i++) {
+                line.setCharAt(start + i, text.charAt(i));
+            }
+        } else {
+            line.replace(start, start + length, text.toString());
+        }
+        return this;
+    }
+
+    /**
+     * Write text right-justified so that it ends before the given index.
+     *
+     * @param end
+     * @param text
+     * @return this writer.
+     */
+    public ColumnWriter putRight(int end, CharSequence text) {
+        return put(end - text.length(), text);
+    }
+
+    /**
+     * Write an integer right-justified so that it ends before the given index.
+     *
+     * @param end
+     * @param value
+     * @return this writer.
+     */
+    public ColumnWriter putRight(int end, int value) {
+        number.setLength(0);
+        appendInt(number, value, 0, false, false);
+        return putRight(end, number);
+    }
+
+    /**
+     * Write a floating point value with the given decimal places
+     * right-justified so that it ends before the given index.
+     *
+     * @param end
+     * @param value
+     * @param decimals
+     * @return this writer.
+     */
+    public ColumnWriter putRight(int end, double value, int decimals) {
+        number.setLength(0);
+        appendFloat(number, value, 0, decimals, false, false);
+        return putRight(end, number);
+    }
+
+    /**
+     * Write {@link ParameterFormatClimate#MM} so that it ends before the given
+     * index.
+     *
+     * @param end
+     * @return this writer.
+     */
+    public ColumnWriter putMissing(int end) {
+        return putRight(end, ParameterFormatClimate.MM);
+    }
+
+    /**
+     * Write {@link ParameterFormatClimate#TRACE_SYMBOL} so that it ends before
+     * the given index.
+     *
+     * @param end
+     * @return this writer.
+     */
+    public ColumnWriter putTrace(int end) {
+        return putRight(end, ParameterFormatClimate.TRACE_SYMBOL);
+    }
+
+    /**
+     * Write an integer in a field of the given width starting at the given
+     * index, as String.format("%<width>d") would.
+     *
+     * @param start
+     * @param width
+     * @param value
+     * @return this writer.
+     */
+    public ColumnWriter putInt(int start, int width, int value) {
+        number.setLength(0);
+        appendInt(number, value, width, false, false);
+        return put(start, number);
+    }
+
+    /**
+     * Write a floating point value in a field of the given width starting at
+     * the given index, as String.format("%<width>.<decimals>f") would.
+     *
+     * @param start
+     * @param width
+     * @param decimals
+     * @param value
+     * @return this writer.
+     */
+    public ColumnWriter putFloat(int start, int width, int decimals,
+            double value) {
+        number.setLength(0);
+        appendFloat(number, value, width, decimals, false, false);
+        return put(start, number);
+    }
+
+    /**
+     * @return the line being written. Changes to it change the line.
+     */
+    public StringBuilder getLine() {
+        return line;
+    }
+
+    /**
+     * @return length of the line.
+     */
+    public int length() {
+        return line.length();
+    }
+
+    @Override
+    public String toString() {
+        return line.toString();
+    }
+
+    /**
+     * @param value
+     * @param width
+     *            minimum width, padded with spaces on the left.
+     * @return String.format("%<width>d", value).
+     */
+    public static String formatInt(int value, int width) {
+        return appendInt(new StringBuilder(), value, width, false, false)
+                .toString();
+    }
+
+    /**
+     * @param value
+     * @param width
+     *            minimum width, padded with zeros after any sign.
+     * @return String.format("%0<width>d", value).
+     */
+    public static String formatZeroPadded(int value, int width) {
+        return appendInt(new StringBuilder(), value, width, true, false)
+                .toString();
+    }
+
+    /**
+     * @param value
+     * @return String.format("%,d", value).
+     */
+    public static String formatGrouped(int value) {
+        return appendInt(new StringBuilder(), value, 0, false, true)
+                .toString();
+    }
+
+    /**
+     * @param value
+     * @param decimals
+     * @return String.format("%.<decimals>f", value).
+     */
+    public static String formatFloat(double value, int decimals) {
+        return appendFloat(new StringBuilder(), value, 0, decimals, false,
+                false).toString();
+    }
+
+    /**
+     * @param value
+     * @param width
+     *            minimum width, padded with spaces on the left.
+     * @param decimals
+     * @return String.format("%<width>.<decimals>f", value).
+     */
+    public static String formatFloat(double value, int width, int decimals) {
+        return appendFloat(new StringBuilder(), value, width, decimals, false,
+                false).toString();
+    }
+
+    /**
+     * @param value
+     * @param width
+     *            minimum width, padded with zeros after any sign.
+     * @param decimals
+     * @return String.format("%0<width>.<decimals>f", value).
+     */
+    public static String formatZeroPadded(double value, int width,
+            int decimals) {
+        return appendFloat(new StringBuilder(), value, width, decimals, true,
+                false).toString();
+    }
+
+    /**
+     * @param value
+     * @param decimals
+     * @return String.format("%,.<decimals>f", value).
+     */
+    public static String formatGrouped(double value, int decimals) {
+        return appendFloat(new StringBuilder(), value, 0, decimals, false,
+                true).toString();
+    }
+
+    /**
+     * Append an integer as java.util.Formatter would.
+     *
+     * @param sb
+     * @param value
+     * @param width
+     *            minimum width, or 0.
+     * @param zeroPad
+     *            true to pad with zeros after any sign instead of spaces
+     *            before it.
+     * @param grouping
+     *            true to separate thousands.
+     * @return sb
+     */
+    private static StringBuilder appendInt(StringBuilder sb, int value,
+            int width, boolean zeroPad, boolean grouping) {
+        if (!PLAIN_DIGITS) {
+            return sb.append(String.format(
+                    pattern(width, zeroPad, grouping, -1), value));
+        }
+
+        int begin = sb.length();
+        long magnitude = value;
+        if (magnitude < 0) {
+            sb.append('-');
+            magnitude = -magnitude;
+        }
+        int digitsStart = sb.length();
+        int digitCount = 0;
+        do {
+            if (grouping && digitCount > 0 && digitCount % 3 == 0) {
+                sb.insert(digitsStart, ',');
+            }
+            sb.insert(digitsStart, (char) ('0' + magnitude % 10));
+            magnitude /= 10;
+            digitCount++;
+        } while (magnitude > 0);
+
+        return pad(sb, begin, digitsStart, width, zeroPad);
+    }
+
+    /**
+     * Append a floating point value with the given decimal places as
+     * java.util.Formatter would: the shortest decimal representation of the
+     * value as a double is rounded half-up. Floats are widened to double
+     * first, as Formatter does.
+     *
+     * @param sb
+     * @param value
+     * @param width
+     *            minimum width, or 0.
+     * @param decimals
+     * @param zeroPad
+     *            true to pad with zeros after any sign instead of spaces
+     *            before it.
+     * @param grouping
+     *            true to separate thousands.
+     * @return sb
+     */
+    private static StringBuilder appendFloat(StringBuilder sb, double value,
+            int width, int decimals, boolean zeroPad, boolean grouping) {
+        double magnitude = Math.abs(value);
+        if (!PLAIN_DIGITS || Double.isNaN(magnitude)
+                || Double.isInfinite(magnitude)
+                || (magnitude != 0 && magnitude < MIN_PLAIN)
+                || magnitude >= MAX_PLAIN) {
+            return sb.append(String.format(
+                    pattern(width, zeroPad, grouping, decimals), value));
+        }
+
+        int begin = sb.length();
+        if (Double.compare(value, 0.0) < 0) {
+            sb.append('-');
+        }
+        int digitsStart = sb.length();
+
+        // plain decimal in this range, e.g. 12.5 or 0.001
+        String shortest = Double.toString(magnitude);
+        int point = shortest.indexOf('.');
+
+        // integer digits, then exactly the requested fraction digits
+        sb.append(shortest, 0, point);
+        int fractionStart = sb.length();
+        for (int i = 0; i < decimals; i++) {
+            int index = point + 1 + i;
+            sb.append(index < shortest.length() ? shortest.charAt(index)
+                    : '0');
+        }
+
+        // round half-up on the first dropped digit
+        int dropped = point + 1 + decimals;
+        if (dropped < shortest.length() && shortest.charAt(dropped) >= '5') {
+            int i = sb.length() - 1;
+            while (i >= digitsStart && sb.charAt(i) == '9') {
+                sb.setCharAt(i, '0');
+                i--;
+            }
+            if (i >= digitsStart) {
+                sb.setCharAt(i, (char) (sb.charAt(i) + 1));
+            } else {
+                sb.insert(digitsStart, '1');
+                fractionStart++;
+            }
+        }
+
+        if (decimals > 0) {
+            sb.insert(fractionStart, '.');
+        }
+
+        if (grouping) {
+            for (int i = fractionStart - 3; i > digitsStart; i -= 3) {
+                sb.insert(i, ',');
+            }
+        }
+
+        return pad(sb, begin, digitsStart, width, zeroPad);
+    }
+
+    /**
+     * Pad a number appended at the given index to the given width.
+     *
+     * @param sb
+     * @param begin
+     *            index of the number, including any sign.
+     * @param digitsStart
+     *            index of the first digit.
+     * @param width
+     * @param zeroPad
+     * @return sb
+     */
+    private static StringBuilder pad(StringBuilder sb, int begin,
+            int digitsStart, int width, boolean zeroPad) {
+        int padding = width - (sb.length() - begin);
+        for (int i = 0; i < padding; i++) {
+            sb.insert(zeroPad ? digitsStart : begin, zeroPad ? '0' : ' ');
+        }
+        return sb;
+    }
+
+    /**
+     * @param width
+     * @param zeroPad
+     * @param grouping
+     * @param decimals
+     *            decimal places, or -1 for an integer.
+     * @return the String.format pattern of a number.
+     */
+    private static String pattern(int width, boolean zeroPad,
+            boolean grouping, int decimals) {
+        StringBuilder pattern = new StringBuilder("%");
+        if (grouping) {
+            pattern.append(',');
+        }
+        if (zeroPad) {
+            pattern.append('0');
+        }
+        if (width > 0) {
+            pattern.append(width);
+        }
+        if (decimals >= 0) {
+            pattern.append('.').append(decimals).append('f');
+        } else {
+            pattern.append('d');
+        }
+        return pattern.toString();
+    }
+}
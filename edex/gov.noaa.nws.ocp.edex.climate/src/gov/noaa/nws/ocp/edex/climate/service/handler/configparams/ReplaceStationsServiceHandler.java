@@ -6,6 +6,7 @@ package gov.noaa.nws.ocp.edex.climate.service.handler.configparams;
 import com.raytheon.uf.common.serialization.comm.IRequestHandler;
 
 import gov.noaa.nws.ocp.common.dataplugin.climate.request.configparams.ReplaceStationsServiceRequest;
+import gov.noaa.nws.ocp.edex.common.climate.dao.ClimateStationIDCache;
 import gov.noaa.nws.ocp.edex.common.climate.dao.ClimateStationsSetupDAO;
 
 /**
@@ -18,6 +19,7 @@ import gov.noaa.nws.ocp.edex.common.climate.dao.ClimateStationsSetupDAO;
  * Date         Ticket#    Engineer    Description
  * ------------ ---------- ----------- --------------------------
  * OCT 06, 2016 20369      wkwock     Initial creation
+ * 17 OCT 2026             agent      Invalidate the station ID cache.
  * 
  * </pre>
  * 
@@ -31,8 +33,13 @@ public class ReplaceStationsServiceHandler
     @Override
     public Object handleRequest(ReplaceStationsServiceRequest request)
             throws Exception {
-        return new ClimateStationsSetupDAO()
-                .replaceMasterStations(request.getStations());
+        try {
+            return new ClimateStationsSetupDAO()
+                    .replaceMasterStations(request.getStations());
+        } finally {
+            // the station list may have changed, even on failure
+            ClimateStationIDCache.invalidate();
+        }
     }
 
 }
@@ -0,0 +1,147 @@
+/**
+ * This software was developed and / or modified by NOAA/NWS/OCP/ASDT
+ **/
+package gov.noaa.nws.ocp.edex.climate.formatter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import gov.noaa.nws.ocp.common.dataplugin.climate.ClimateGlobal;
+import gov.noaa.nws.ocp.common.dataplugin.climate.ClimateProduct;
+import gov.noaa.nws.ocp.common.dataplugin.climate.DailyClimateData;
+import gov.noaa.nws.ocp.common.dataplugin.climate.PeriodType;
+import gov.noaa.nws.ocp.common.dataplugin.climate.Station;
+import gov.noaa.nws.ocp.common.dataplugin.climate.exception.ClimateException;
+import gov.noaa.nws.ocp.common.dataplugin.climate.parameter.ParameterFormatClimate;
+import gov.noaa.nws.ocp.common.dataplugin.climate.response.ClimateRunDailyData;
+import gov.noaa.nws.ocp.common.localization.climate.producttype.ClimateProductType;
+import gov.noaa.nws.ocp.edex.climate.formatter.ClimateFormatter.FormatResult;
+import gov.noaa.nws.ocp.edex.climate.formatter.ClimateProductFixtures.Variant;
+
+/**
+ * Checks that the products of a run do not depend on each other. The NWR
+ * daily format sets a trace monthly precipitation total to zero for its
+ * departure from normal, which the NWWS daily format, formatted after it from
+ * the same data as in legacy formatting, printed as zero instead of a trace.
+ * Each product of a run is now the same as when it is formatted alone.
+ *
+ * <pre>
+ *
+ * SOFTWARE HISTORY
+ *
+ * Date         Ticket#    Engineer    Description
+ * ------------ ---------- ----------- --------------------------
+ * Oct 17, 2026            agent       Initial creation
+ *
+ * </pre>
+ *
+ * @author agent
+ */
+public class ClimateFormatterTest {
+
+    private static final ClimateGlobal GLOBALS = ClimateProductFixtures
+            .globalConfig(Variant.ALL);
+
+    private static final Map<Integer, Station> STATION_MAP = ClimateProductFixtures
+            .stationMap();
+
+    private static final ClimateProductType NWR = ClimateProductFixtures
+            .productType("product_am_DEF_NWR.xml", Variant.ALL);
+
+    private static final ClimateProductType NWWS = ClimateProductFixtures
+            .productType("product_am_DEF_NWWS.xml", Variant.ALL);
+
+    /**
+     * Formatter of the fixture products.
+     */
+    private static final ClimateFormatter FORMATTER = new ClimateFormatter(
+            GLOBALS, Arrays.asList(NWR, NWWS)) {
+        @Override
+        protected ClimateFormat newFormat(ClimateProductType settings,
+                Map<Integer, Station> stationMap) {
+            return ClimateProductFixtures.newFormat(settings, GLOBALS,
+                    stationMap);
+        }
+    };
+
+    @Test
+    public void testLegacyOrderDependence() throws ClimateException {
+        String nwwsAlone = formatAlone(NWWS, reportData());
+
+        // legacy formatting: one product after the other, from the same data
+        ClimateRunDailyData shared = reportData();
+        formatAlone(NWR, shared);
+        String nwwsAfterNwr = formatAlone(NWWS, shared);
+
+        assertFalse("NWWS product does not depend on NWR product",
+                nwwsAlone.equals(nwwsAfterNwr));
+    }
+
+    @Test
+    public void testProductsIndependent() throws ClimateException {
+        String nwrAlone = formatAlone(NWR, reportData());
+        String nwwsAlone = formatAlone(NWWS, reportData());
+
+        ClimateRunDailyData reportData = reportData();
+        List<FormatResult> results = FORMATTER.formatProducts(reportData,
+                Arrays.asList(NWR, NWWS), STATION_MAP);
+        assertEquals(nwrAlone, text(results.get(0)));
+        assertEquals(nwwsAlone, text(results.get(1)));
+
+        results = FORMATTER.formatProducts(reportData,
+                Arrays.asList(NWWS, NWR), STATION_MAP);
+        assertEquals(nwwsAlone, text(results.get(0)));
+        assertEquals(nwrAlone, text(results.get(1)));
+
+        // the given data is not changed
+        assertEquals(ParameterFormatClimate.TRACE,
+                data(reportData).getPrecipMonth(), 0);
+        assertEquals(nwwsAlone, formatAlone(NWWS, reportData));
+    }
+
+    /**
+     * @return fixture data of Feb 29th, with a trace monthly precipitation
+     *         total for the first station.
+     */
+    private static ClimateRunDailyData reportData() {
+        ClimateRunDailyData reportData = (ClimateRunDailyData) ClimateProductFixtures
+                .reportData(PeriodType.MORN_NWWS);
+        DailyClimateData data = data(reportData);
+        data.setPrecip(0.5f);
+        data.setPrecipMonth(ParameterFormatClimate.TRACE);
+        return reportData;
+    }
+
+    private static DailyClimateData data(ClimateRunDailyData reportData) {
+        return reportData.getReportMap()
+                .get(NWWS.getStations().get(0).getInformId()).getData();
+    }
+
+    /**
+     * @param settings
+     * @param reportData
+     * @return masked text of the single product of the settings.
+     * @throws ClimateException
+     */
+    private static String formatAlone(ClimateProductType settings,
+            ClimateRunDailyData reportData) throws ClimateException {
+        List<ClimateProductType> settingsList = new ArrayList<>();
+        settingsList.add(settings);
+        return text(FORMATTER
+                .formatProducts(reportData, settingsList, STATION_MAP)
+                .get(0));
+    }
+
+    private static String text(FormatResult result) {
+        assertEquals(1, result.products.size());
+        ClimateProduct product = result.products.values().iterator().next();
+        return ClimateProductFixtures.maskIssuance(product.getProdText());
+    }
+}
@@ -0,0 +1,520 @@
+/**
+ * This software was developed and / or modified by NOAA/NWS/OCP/ASDT
+ **/
+package gov.noaa.nws.ocp.edex.climate.formatter;
+
+import java.io.File;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.bind.JAXB;
+
+import gov.noaa.nws.ocp.common.dataplugin.climate.ClimateDate;
+import gov.noaa.nws.ocp.common.dataplugin.climate.ClimateDates;
+import gov.noaa.nws.ocp.common.dataplugin.climate.ClimateGlobal;
+import gov.noaa.nws.ocp.common.dataplugin.climate.ClimateRecordDay;
+import gov.noaa.nws.ocp.common.dataplugin.climate.ClimateTime;
+import gov.noaa.nws.ocp.common.dataplugin.climate.ClimateWind;
+import gov.noaa.nws.ocp.common.dataplugin.climate.DailyClimateData;
+import gov.noaa.nws.ocp.common.dataplugin.climate.PeriodClimo;
+import gov.noaa.nws.ocp.common.dataplugin.climate.PeriodData;
+import gov.noaa.nws.ocp.common.dataplugin.climate.PeriodType;
+import gov.noaa.nws.ocp.common.dataplugin.climate.Station;
+import gov.noaa.nws.ocp.common.dataplugin.climate.parameter.ParameterFormatClimate;
+import gov.noaa.nws.ocp.common.dataplugin.climate.report.ClimateDailyReportData;
+import gov.noaa.nws.ocp.common.dataplugin.climate.report.ClimatePeriodReportData;
+import gov.noaa.nws.ocp.common.dataplugin.climate.response.ClimateRunDailyData;
+import gov.noaa.nws.ocp.common.dataplugin.climate.response.ClimateRunData;
+import gov.noaa.nws.ocp.common.dataplugin.climate.response.ClimateRunPeriodData;
+import gov.noaa.nws.ocp.common.localization.climate.climodates.ClimoDates;
+import gov.noaa.nws.ocp.common.localization.climate.producttype.ClimateProductControl;
+import gov.noaa.nws.ocp.common.localization.climate.producttype.ClimateProductFlags;
+import gov.noaa.nws.ocp.common.localization.climate.producttype.ClimateProductType;
+
+/**
+ * Settings and report data for the golden product tests of the NWWS and NWR
+ * formatters. Products are built from the base product types, for three
+ * stations: one with ordinary values, one with all values missing, and one
+ * with trace, negative and rounding edge values (half way values in binary
+ * and decimal, and values that round to zero). The report data is filled in
+ * by reflection, in field name order, so that every value the formatters read
+ * is set.
+ *
+ * <pre>
+ *
+ * SOFTWARE HISTORY
+ *
+ * Date         Ticket#    Engineer    Description
+ * ------------ ---------- ----------- --------------------------
+ * 17 OCT 2026             agent       Initial creation
+ * </pre>
+ *
+ * @author agent
+ */
+final class ClimateProductFixtures {
+
+    /**
+     * Base product types, by the name of their golden product.
+     */
+    static final String[] PRODUCT_FILES = { "product_am_DEF_NWWS.xml",
+            "product_im_DEF_NWWS.xml", "product_pm_DEF_NWWS.xml",
+            "product_mon_DEF_NWWS.xml", "product_sea_DEF_NWWS.xml",
+            "product_ann_DEF_NWWS.xml", "product_am_DEF_NWR.xml",
+            "product_im_DEF_NWR.xml", "product_pm_DEF_NWR.xml",
+            "product_mon_DEF_NWR.xml", "product_sea_DEF_NWR.xml",
+            "product_ann_DEF_NWR.xml" };
+
+    /**
+     * Directory of the base product types.
+     */
+    static final String PRODUCT_TYPES = System.getProperty(
+            "climate.test.productTypes",
+            "../../common/gov.noaa.nws.ocp.common.localization.climate/utility/common_static/base/climate/productTypes");
+
+    /**
+     * Climate normal and record periods, as from
+     * {@link gov.noaa.nws.ocp.edex.common.climate.dao.ClimatePeriodDAO#fetchClimatePeriod(int)}.
+     */
+    static final int[] CLIMATE_PERIOD = { 1991, 2020, 1872, 2016 };
+
+    /**
+     * Line of the NWWS header with the creation date and time, and of the NWR
+     * header with the creation, effective and expiration times.
+     */
+    private static final String ISSUANCE_MASK = "<issuance>";
+
+    private static final float[] EDGE_FLOATS = { ParameterFormatClimate.TRACE,
+            0.005f, 0.015f, 0.045f, 0.125f, 2.675f, -0.5f, -0.05f, 0f, 9.995f,
+            99.95f, 0.5f, 1.5f, -1.5f, 0.25f };
+
+    private static final int[] EDGE_INTS = { 0, -1, -9, -10, 5, 100, 105, 1,
+            -99, 32 };
+
+    private static final int[] EDGE_DIRECTIONS = { 0, 5, 355, 360, 180 };
+
+    /**
+     * Report variants.
+     */
+    enum Variant {
+        /** Product type as shipped, default global settings. */
+        BASE,
+        /** Every element and column, minus signs and lower case letters. */
+        ALL,
+        /** Every element and column, in Celsius. */
+        CELSIUS
+    }
+
+    private enum Profile {
+        ORDINARY, MISSING, EDGE
+    }
+
+    private ClimateProductFixtures() {
+    }
+
+    /**
+     * @param file
+     *            base product type file.
+     * @param variant
+     * @return product settings for the file and variant, for the fixture
+     *         stations.
+     */
+    static ClimateProductType productType(String file, Variant variant) {
+        ClimateProductType settings = JAXB
+                .unmarshal(new File(PRODUCT_TYPES, file),
+                        ClimateProductType.class);
+        settings.setStations(stations());
+
+        if (variant != Variant.BASE) {
+            ClimateProductControl control = settings.getControl();
+            enableAll(control);
+            control.setDoCelsius(variant == Variant.CELSIUS);
+        }
+        return settings;
+    }
+
+    /**
+     * @param variant
+     * @return global settings for the variant.
+     */
+    static ClimateGlobal globalConfig(Variant variant) {
+        ClimateGlobal globals = ClimateGlobal.getDefaultGlobalValues();
+        globals.setOfficeName("Omaha/Valley NE");
+        globals.setTimezone("America/Chicago");
+        globals.getValidPm().setZone("CST");
+        globals.getValidIm().setZone("CST");
+        globals.setT1(95);
+        globals.setT2(100);
+        globals.setT3(20);
+        globals.setT4(70);
+        globals.setT5(10);
+        globals.setT6(-10);
+        globals.setP1(0.25f);
+        globals.setP2(2f);
+        globals.setS1(3f);
+        if (variant == Variant.ALL) {
+            globals.setNoMinus(false);
+            globals.setNoSmallLetters(false);
+            globals.setNoAsterisk(false);
+        }
+        return globals;
+    }
+
+    /**
+     * @return the fixture stations by inform ID.
+     */
+    static Map<Integer, Station> stationMap() {
+        Map<Integer, Station> stationMap = new HashMap<>();
+        for (Station station : stations()) {
+            stationMap.put(station.getInformId(), station);
+        }
+        return stationMap;
+    }
+
+    /**
+     * @param type
+     *            report type.
+     * @return report data of the fixture stations for the report type: Feb
+     *         29th 2016 for daily reports, or the month, winter or year it
+     *         ends.
+     */
+    static ClimateRunData reportData(PeriodType type) {
+        List<Station> stations = stations();
+        switch (type) {
+        case MORN_NWWS:
+        case EVEN_NWWS:
+        case INTER_NWWS:
+        case MORN_RAD:
+        case EVEN_RAD:
+        case INTER_RAD:
+            HashMap<Integer, ClimateDailyReportData> dailyMap = new HashMap<>();
+            for (int i = 0; i < stations.size(); i++) {
+                Profile profile = Profile.values()[i];
+                ClimateDailyReportData report = new ClimateDailyReportData(
+                        stations.get(i), new ClimateTime[] {
+                                new ClimateTime(7, 4, ClimateTime.AM_STRING),
+                                new ClimateTime(6, 59, ClimateTime.AM_STRING) },
+                        new ClimateTime[] {
+                                new ClimateTime(6, 15, ClimateTime.PM_STRING),
+                                new ClimateTime(6, 16,
+                                        ClimateTime.PM_STRING) },
+                        fill(DailyClimateData.getMissingDailyClimateData(),
+                                profile, 0),
+                        fill(DailyClimateData.getMissingDailyClimateData(),
+                                profile, 7),
+                        fill(ClimateRecordDay.getMissingClimateRecordDay(),
+                                profile, 3),
+                        fill(ClimateRecordDay.getMissingClimateRecordDay(),
+                                profile, 5));
+                if (profile == Profile.MISSING) {
+                    report.setSunrise(new ClimateTime[] {
+                            ClimateTime.getMissingClimateTime(),
+                            ClimateTime.getMissingClimateTime() });
+                    report.setSunset(new ClimateTime[] {
+                            ClimateTime.getMissingClimateTime(),
+                            ClimateTime.getMissingClimateTime() });
+                }
+                dailyMap.put(stations.get(i).getInformId(), report);
+            }
+            return new ClimateRunDailyData(type, new ClimateDate(29, 2, 2016),
+                    dailyMap);
+        default:
+            HashMap<Integer, ClimatePeriodReportData> periodMap = new HashMap<>();
+            for (int i = 0; i < stations.size(); i++) {
+                Profile profile = Profile.values()[i];
+                PeriodClimo climo = fill(PeriodClimo.getMissingPeriodClimo(),
+                        profile, 3);
+                climo.setPeriodType(type);
+                periodMap.put(stations.get(i).getInformId(),
+                        new ClimatePeriodReportData(stations.get(i),
+                                fill(PeriodData.getMissingPeriodData(),
+                                        profile, 0),
+                                fill(PeriodData.getMissingPeriodData(),
+                                        profile, 7),
+                                climo));
+            }
+            ClimateDate begin;
+            if (type == PeriodType.MONTHLY_NWWS
+                    || type == PeriodType.MONTHLY_RAD) {
+                begin = new ClimateDate(1, 2, 2016);
+            } else if (type == PeriodType.SEASONAL_NWWS
+                    || type == PeriodType.SEASONAL_RAD) {
+                begin = new ClimateDate(1, 12, 2015);
+            } else {
+                begin = new ClimateDate(1, 1, 2016);
+            }
+            ClimateDate end = type == PeriodType.ANNUAL_NWWS
+                    || type == PeriodType.ANNUAL_RAD
+                            ? new ClimateDate(31, 12, 2016)
+                            : new ClimateDate(29, 2, 2016);
+            return new ClimateRunPeriodData(type, begin, end, periodMap);
+        }
+    }
+
+    /**
+     * @param settings
+     * @param globals
+     * @param stationMap
+     * @return the format for the report type of the settings, with the
+     *         default climo dates and the fixture climate periods instead of
+     *         those from localization and the database.
+     */
+    static ClimateFormat newFormat(ClimateProductType settings,
+            ClimateGlobal globals, Map<Integer, Station> stationMap) {
+        switch (settings.getReportType()) {
+        case MORN_RAD:
+        case EVEN_RAD:
+        case INTER_RAD:
+            return new ClimateNWRDailyFormat(settings, globals, stationMap) {
+                @Override
+                protected ClimoDates getClimoDates() {
+                    return ClimoDates.getDefaultClimoDates();
+                }
+            };
+        case MORN_NWWS:
+        case EVEN_NWWS:
+        case INTER_NWWS:
+            return new ClimateNWWSDailyFormat(settings, globals, stationMap) {
+                @Override
+                protected ClimoDates getClimoDates() {
+                    return ClimoDates.getDefaultClimoDates();
+                }
+
+                @Override
+                protected int[] fetchClimatePeriod(int stationId) {
+                    return CLIMATE_PERIOD.clone();
+                }
+            };
+        case MONTHLY_RAD:
+        case SEASONAL_RAD:
+        case ANNUAL_RAD:
+            return new ClimateNWRPeriodFormat(settings, globals, stationMap) {
+                @Override
+                protected ClimoDates getClimoDates() {
+                    return ClimoDates.getDefaultClimoDates();
+                }
+            };
+        default:
+            return new ClimateNWWSPeriodFormat(settings, globals, stationMap) {
+                @Override
+                protected ClimoDates getClimoDates() {
+                    return ClimoDates.getDefaultClimoDates();
+                }
+
+                @Override
+                protected int[] fetchClimatePeriod(int stationId) {
+                    return CLIMATE_PERIOD.clone();
+                }
+            };
+        }
+    }
+
+    /**
+     * @param product
+     *            product file name.
+     * @param variant
+     * @return name of the golden product.
+     */
+    static String goldenName(String product, Variant variant) {
+        return product.replace(".xml", "_" + variant.name().toLowerCase())
+                + ".txt";
+    }
+
+    /**
+     * Replace the lines with the current time, which differ between runs.
+     *
+     * @param text
+     *            product text.
+     * @return the text with the NWWS header creation time line and the NWR
+     *         header line masked.
+     */
+    static String maskIssuance(String text) {
+        String[] lines = text.split("\n", -1);
+        for (int i = 0; i < lines.length; i++) {
+            // NWWS: "OMACLINW1000TTAA00 KPIT 061400" and "800 AM CST SUN MAR
+            // 6 2016"; NWR: the first line, with creation time
+            if (i == 0 || lines[i].matches(
+                    "\\d{3,4} [AP]M \\w+ \\w{3} \\w{3} \\d{1,2} \\d{4}")) {
+                lines[i] = ISSUANCE_MASK;
+            }
+        }
+        return String.join("\n", lines);
+    }
+
+    private static List<Station> stations() {
+        List<Station> stations = new ArrayList<>();
+        stations.add(station(101, "KOMA", "Omaha Eppley"));
+        stations.add(station(102, "KLNK", "Lincoln"));
+        stations.add(station(103, "KOFK", "Norfolk"));
+        return stations;
+    }
+
+    private static Station station(int informId, String icaoId, String name) {
+        Station station = new Station();
+        station.setInformId(informId);
+        station.setIcaoId(icaoId);
+        station.setStationName(name);
+        station.setNumOffUTC((short) -6);
+        station.setStdAllYear((short) 0);
+        return station;
+    }
+
+    /**
+     * Turn on every element and column of the product.
+     */
+    private static void enableAll(Object control) {
+        for (Field field : fields(control.getClass())) {
+            try {
+                Object value = field.get(control);
+                if (field.getType() == boolean.class
+                        && !field.getName().equals("doCelsius")) {
+                    field.setBoolean(control, true);
+                } else if (value instanceof ClimateProductFlags) {
+                    // the date of last year's value is only passed for some
+                    // elements, as the product setup dialog offers it
+                    for (Field flag : fields(ClimateProductFlags.class)) {
+                        if (!flag.getName().equals("dateOfLast")) {
+                            flag.setBoolean(value, true);
+                        }
+                    }
+                } else if (value != null && value.getClass().getSimpleName()
+                        .endsWith("ControlFlags")) {
+                    enableAll(value);
+                }
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    /**
+     * Fill the numeric, time, wind, date and list fields of the bean.
+     *
+     * @param bean
+     *            bean set to missing.
+     * @param profile
+     * @param seed
+     *            offset into the generated values, so that beans of the same
+     *            type differ.
+     * @return the bean.
+     */
+    private static <T> T fill(T bean, Profile profile, int seed) {
+        if (profile == Profile.MISSING) {
+            return bean;
+        }
+        int index = seed;
+        for (Field field : fields(bean.getClass())) {
+            String name = field.getName();
+            // the NWWS daily format cannot write a possible sunshine
+            // percentage, so it stays missing
+            if (name.equals("informId") || name.equals("monthOfYear")
+                    || name.equals("percentPossSun")) {
+                continue;
+            }
+            try {
+                Class<?> type = field.getType();
+                index++;
+                if (type == int.class) {
+                    field.setInt(bean, intValue(name, profile, index));
+                } else if (type == float.class) {
+                    field.setFloat(bean, floatValue(profile, index));
+                } else if (type == double.class) {
+                    field.setDouble(bean, floatValue(profile, index));
+                } else if (type == int[].class) {
+                    int[] values = (int[]) field.get(bean);
+                    for (int i = 0; i < values.length; i++) {
+                        values[i] = name.startsWith("wx") ? (index + i) % 2
+                                : 1950 + (index * 7 + i * 13) % 66;
+                    }
+                } else if (type == ClimateTime.class) {
+                    field.set(bean, new ClimateTime(1 + index % 12,
+                            (index * 7) % 60, index % 2 == 0
+                                    ? ClimateTime.AM_STRING
+                                    : ClimateTime.PM_STRING));
+                } else if (type == ClimateWind.class) {
+                    field.set(bean,
+                            new ClimateWind(
+                                    profile == Profile.EDGE
+                                            ? EDGE_DIRECTIONS[index
+                                                    % EDGE_DIRECTIONS.length]
+                                            : (index * 40) % 360,
+                                    Math.abs(floatValue(profile, index))
+                                            * 10));
+                } else if (type == List.class) {
+                    Type element = ((ParameterizedType) field.getGenericType())
+                            .getActualTypeArguments()[0];
+                    field.set(bean, listValue(element, profile, index));
+                }
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        return bean;
+    }
+
+    private static int intValue(String name, Profile profile, int index) {
+        if (name.endsWith("Hour")) {
+            return index % 24;
+        }
+        if (profile == Profile.EDGE) {
+            return EDGE_INTS[index % EDGE_INTS.length];
+        }
+        return 10 + (index * 37) % 80;
+    }
+
+    private static float floatValue(Profile profile, int index) {
+        if (profile == Profile.EDGE) {
+            return EDGE_FLOATS[index % EDGE_FLOATS.length];
+        }
+        return ((index * 53) % 400) / 100f;
+    }
+
+    private static List<?> listValue(Type element, Profile profile,
+            int index) {
+        if (element == Float.class) {
+            List<Float> values = new ArrayList<>();
+            values.add(floatValue(profile, index));
+            return values;
+        }
+        List<ClimateDate> dates = Arrays.asList(
+                new ClimateDate(1 + index % 28, 2, 2016),
+                new ClimateDate(1 + (index * 3) % 28, 1, 1990 + index % 20));
+        if (element == ClimateDate.class) {
+            return new ArrayList<>(dates);
+        }
+        if (element == ClimateDates.class) {
+            List<ClimateDates> ranges = new ArrayList<>();
+            for (ClimateDate date : dates) {
+                ranges.add(new ClimateDates(date, new ClimateDate(
+                        date.getDay() + 1, date.getMon(), date.getYear())));
+            }
+            return ranges;
+        }
+        return new ArrayList<>();
+    }
+
+    /**
+     * @return the instance fields of the class and its superclasses, by name.
+     */
+    private static List<Field> fields(Class<?> type) {
+        List<Field> fields = new ArrayList<>();
+        for (Class<?> c = type; c != null && c != Object.class; c = c
+                .getSuperclass()) {
+            for (Field field : c.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers())) {
+                    field.setAccessible(true);
+                    fields.add(field);
+                }
+            }
+        }
+        fields.sort(Comparator.comparing(Field::getName));
+        return fields;
+    }
+}
@@ -0,0 +1,119 @@
+/**
+ * This software was developed and / or modified by NOAA/NWS/OCP/ASDT
+ **/
+package gov.noaa.nws.ocp.edex.climate.formatter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import org.junit.Test;
+
+import gov.noaa.nws.ocp.common.dataplugin.climate.ClimateGlobal;
+import gov.noaa.nws.ocp.common.dataplugin.climate.ClimateProduct;
+import gov.noaa.nws.ocp.common.dataplugin.climate.Station;
+import gov.noaa.nws.ocp.common.dataplugin.climate.exception.ClimateException;
+import gov.noaa.nws.ocp.common.localization.climate.producttype.ClimateProductType;
+import gov.noaa.nws.ocp.edex.climate.formatter.ClimateProductFixtures.Variant;
+
+/**
+ * Checks the NWWS and NWR daily and period products, byte for byte, against
+ * golden products written by the formatters before numbers and columns were
+ * written with {@link ColumnWriter}. Each base product type is formatted as
+ * shipped, with every element and column on, and in Celsius, for the stations
+ * of {@link ClimateProductFixtures}: ordinary values, all missing, and trace,
+ * negative and rounding edge values. The creation time lines of the headers
+ * are masked.
+ *
+ * The golden products are regenerated by writing {@link #format} of each
+ * product type and variant to golden/{@link ClimateProductFixtures#goldenName}
+ * with a formatter that is known to be right.
+ *
+ * <pre>
+ *
+ * SOFTWARE HISTORY
+ *
+ * Date         Ticket#    Engineer    Description
+ * ------------ ---------- ----------- --------------------------
+ * Oct 17, 2026            agent       Initial creation
+ *
+ * </pre>
+ *
+ * @author agent
+ */
+public class ClimateProductGoldenTest {
+
+    @Test
+    public void testNWWSDaily() throws Exception {
+        checkProducts("_am_DEF_NWWS", "_im_DEF_NWWS", "_pm_DEF_NWWS");
+    }
+
+    @Test
+    public void testNWWSPeriod() throws Exception {
+        checkProducts("_mon_DEF_NWWS", "_sea_DEF_NWWS", "_ann_DEF_NWWS");
+    }
+
+    @Test
+    public void testNWRDaily() throws Exception {
+        checkProducts("_am_DEF_NWR", "_im_DEF_NWR", "_pm_DEF_NWR");
+    }
+
+    @Test
+    public void testNWRPeriod() throws Exception {
+        checkProducts("_mon_DEF_NWR", "_sea_DEF_NWR", "_ann_DEF_NWR");
+    }
+
+    private static void checkProducts(String... products)
+            throws ClimateException, IOException {
+        for (String product : products) {
+            String file = "product" + product + ".xml";
+            for (Variant variant : Variant.values()) {
+                String golden = ClimateProductFixtures.goldenName(file,
+                        variant);
+                assertEquals(golden, readGolden(golden),
+                        format(file, variant));
+            }
+        }
+    }
+
+    /**
+     * @param file
+     *            base product type file.
+     * @param variant
+     * @return the masked product text of the fixture report data.
+     * @throws ClimateException
+     */
+    static String format(String file, Variant variant)
+            throws ClimateException {
+        ClimateProductType settings = ClimateProductFixtures.productType(file,
+                variant);
+        ClimateGlobal globals = ClimateProductFixtures.globalConfig(variant);
+        Map<Integer, Station> stationMap = ClimateProductFixtures.stationMap();
+
+        ClimateFormat formatter = ClimateProductFixtures.newFormat(settings,
+                globals, stationMap);
+        Map<String, ClimateProduct> products = formatter.buildText(
+                ClimateProductFixtures.reportData(settings.getReportType()));
+        assertEquals(file + " products", 1, products.size());
+        return ClimateProductFixtures.maskIssuance(
+                products.values().iterator().next().getProdText());
+    }
+
+    private static String readGolden(String name) throws IOException {
+        try (InputStream in = ClimateProductGoldenTest.class
+                .getResourceAsStream("golden/" + name)) {
+            assertNotNull(name, in);
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            for (int read; (read = in.read(buffer)) > 0;) {
+                out.write(buffer, 0, read);
+            }
+            return new String(out.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+}
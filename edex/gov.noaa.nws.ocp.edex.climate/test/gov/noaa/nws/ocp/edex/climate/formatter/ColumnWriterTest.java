@@ -0,0 +1,145 @@
+/**
+ * This software was developed and / or modified by NOAA/NWS/OCP/ASDT
+ **/
+package gov.noaa.nws.ocp.edex.climate.formatter;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import gov.noaa.nws.ocp.common.dataplugin.climate.parameter.ParameterFormatClimate;
+
+/**
+ * Checks the numbers of {@link ColumnWriter} against String.format, for the
+ * widths and decimal places the climate formatters use: climate edge values
+ * (missing, trace, half way values in binary and decimal, negative values that
+ * round to zero, carries into a new digit), then a seeded random sweep of
+ * float and double values over the plain decimal range and just outside it.
+ *
+ * <pre>
+ *
+ * SOFTWARE HISTORY
+ *
+ * Date         Ticket#    Engineer    Description
+ * ------------ ---------- ----------- --------------------------
+ * Oct 17, 2026            agent       Initial creation
+ *
+ * </pre>
+ *
+ * @author agent
+ */
+public class ColumnWriterTest {
+
+    private static final long SEED = 20161017L;
+
+    private static final int RANDOM_VALUES = 20000;
+
+    private static final int MAX_WIDTH = 9;
+
+    private static final int MAX_DECIMALS = 3;
+
+    private static final int[] EDGE_INTS = { 0, 1, -1, 9, -9, 10, -10, 99,
+            -99, 999, 1000, -1000, 99999, 123456789,
+            ParameterFormatClimate.MISSING,
+            ParameterFormatClimate.MISSING_DEGREE_DAY, Integer.MAX_VALUE,
+            Integer.MIN_VALUE };
+
+    private static final double[] EDGE_DOUBLES = { 0, -0.0, 0.5, -0.5, 1.5,
+            2.5, -2.5, 0.05, -0.05, 0.005, -0.004, 0.015, 0.045, 0.125, 2.675,
+            1.005, 9.995, -9.995, 99.95, 999.5, 0.0005, 0.001, 0.00099,
+            9999999.5, 1e7, 1.23e-5, ParameterFormatClimate.MISSING_PRECIP,
+            ParameterFormatClimate.TRACE, ParameterFormatClimate.MISSING,
+            Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY };
+
+    @Test
+    public void testEdgeInts() {
+        for (int value : EDGE_INTS) {
+            checkInt(value);
+        }
+    }
+
+    @Test
+    public void testEdgeFloats() {
+        for (double value : EDGE_DOUBLES) {
+            checkFloat(value);
+            // climate values are floats, widened by the formatters
+            checkFloat((float) value);
+        }
+    }
+
+    @Test
+    public void testRandomInts() {
+        Random random = new Random(SEED);
+        for (int i = 0; i < RANDOM_VALUES; i++) {
+            checkInt(i % 2 == 0 ? random.nextInt()
+                    : random.nextInt(20001) - 10000);
+        }
+    }
+
+    @Test
+    public void testRandomFloats() {
+        Random random = new Random(SEED);
+        for (int i = 0; i < RANDOM_VALUES; i++) {
+            // magnitudes from 1e-5 to 1e8, over the plain decimal range
+            double value = Math.pow(10, random.nextDouble() * 13 - 5);
+            if (random.nextBoolean()) {
+                value = -value;
+            }
+            switch (i % 3) {
+            case 0:
+                checkFloat(value);
+                break;
+            case 1:
+                checkFloat((float) value);
+                break;
+            default:
+                // thousandths, half way values included
+                checkFloat(Math.round(value * 1000) / 1000f);
+                break;
+            }
+        }
+    }
+
+    private static void checkInt(int value) {
+        assertEquals(String.format("%,d", value),
+                ColumnWriter.formatGrouped(value));
+        for (int width = 0; width <= MAX_WIDTH; width++) {
+            String pattern = width == 0 ? "%d" : "%" + width + "d";
+            assertEquals(pattern + " " + value, String.format(pattern, value),
+                    ColumnWriter.formatInt(value, width));
+            if (width > 0) {
+                assertEquals("%0" + width + "d " + value,
+                        String.format("%0" + width + "d", value),
+                        ColumnWriter.formatZeroPadded(value, width));
+            }
+        }
+    }
+
+    private static void checkFloat(double value) {
+        for (int decimals = 0; decimals <= MAX_DECIMALS; decimals++) {
+            assertEquals("%." + decimals + "f " + value,
+                    String.format("%." + decimals + "f", value),
+                    ColumnWriter.formatFloat(value, decimals));
+            if (!Double.isNaN(value) && !Double.isInfinite(value)) {
+                assertEquals("%,." + decimals + "f " + value,
+                        String.format("%,." + decimals + "f", value),
+                        ColumnWriter.formatGrouped(value, decimals));
+            }
+            for (int width = 1; width <= MAX_WIDTH; width++) {
+                String pattern = "%" + width + "." + decimals + "f";
+                assertEquals(pattern + " " + value,
+                        String.format(pattern, value),
+                        ColumnWriter.formatFloat(value, width, decimals));
+                if (!Double.isNaN(value) && !Double.isInfinite(value)) {
+                    pattern = "%0" + width + "." + decimals + "f";
+                    assertEquals(pattern + " " + value,
+                            String.format(pattern, value),
+                            ColumnWriter.formatZeroPadded(value, width,
+                                    decimals));
+                }
+            }
+        }
+    }
+}
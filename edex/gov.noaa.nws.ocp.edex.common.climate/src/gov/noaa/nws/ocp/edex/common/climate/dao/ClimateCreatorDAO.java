@@ -3,6 +3,9 @@
  **/
 package gov.noaa.nws.ocp.edex.common.climate.dao;
 
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.HashMap;
@@ -66,6 +69,16 @@ import gov.noaa.nws.ocp.edex.common.climate.util.MetarUtils;
  *                                     value is null.
  * 04 OCT 2017  38067      amoore      Fix PM/IM delay in data reports.
  * 13 DEC 2017  41565      wpaintsil   Corrected wrong date/time formats.
+ * 17 OCT 2026             agent       Hourly METAR lookups answered from a preloaded
+ *                                     station window, with an optional check against
+ *                                     the queries.
+ * 17 OCT 2026             agent       Filter FSS report times with ranges on the timestamp
+ *                                     columns rather than on their to_char text, where
+ *                                     the datetime strings are in the to_char format.
+ * 17 OCT 2026             agent       Zero-pad the hour of nominal datetimes, so that
+ *                                     00-09Z METAR and SPECI reports are found.
+ * 17 OCT 2026             agent       Removed the check of the hourly METAR window
+ *                                     against the queries; see MetarHourlyWindowTest.
  * </pre>
  * 
  * @author amoore
@@ -181,6 +194,30 @@ public class ClimateCreatorDAO extends ClimateDAO {
      */
     public static final int I_MISS = -9999;
 
+    /**
+     * to_char formats of the FSS report time comparisons, by precision.
+     */
+    private static final Map<String, String> TO_CHAR_FORMATS = new HashMap<>();
+
+    /**
+     * Java equivalents of {@link #TO_CHAR_FORMATS}, by precision.
+     */
+    private static final Map<String, DateTimeFormatter> TO_CHAR_FORMATTERS = new HashMap<>();
+
+    static {
+        TO_CHAR_FORMATS.put("day", "yyyy-MM-dd");
+        TO_CHAR_FORMATS.put("minute", "yyyy-MM-dd HH24:MI");
+        TO_CHAR_FORMATS.put("second", "yyyy-MM-dd HH24:MI:SS");
+        TO_CHAR_FORMATTERS.put("day", DateTimeFormatter.ofPattern("uuuu-MM-dd")
+                .withResolverStyle(ResolverStyle.STRICT));
+        TO_CHAR_FORMATTERS.put("minute",
+                DateTimeFormatter.ofPattern("uuuu-MM-dd HH:mm")
+                        .withResolverStyle(ResolverStyle.STRICT));
+        TO_CHAR_FORMATTERS.put("second",
+                DateTimeFormatter.ofPattern("uuuu-MM-dd HH:mm:ss")
+                        .withResolverStyle(ResolverStyle.STRICT));
+    }
+
     /**
      * Constructor.
      */
@@ -188,6 +225,113 @@ public class ClimateCreatorDAO extends ClimateDAO {
         super();
     }
 
+    /**
+     * @param date
+     * @param time
+     * @return nominal datetime in format "yyyy-MM-dd HH:mm", with the hour
+     *         zero-padded as in the to_char text of the report times.
+     *         {@link ClimateTime#toHourMinString()} does not pad the hour, so
+     *         a datetime built with it never matches a 00-09Z report.
+     */
+    private static String toNominalDateTime(ClimateDate date,
+            ClimateTime time) {
+        StringBuilder dateTime = new StringBuilder(16);
+        dateTime.append(date.toFullDateString()).append(' ');
+        if (time.getHour() < 10) {
+            dateTime.append('0');
+        }
+        dateTime.append(time.getHour()).append(':');
+        if (time.getMin() < 10) {
+            dateTime.append('0');
+        }
+        return dateTime.append(time.getMin()).toString();
+    }
+
+    /**
+     * Build a predicate equivalent to comparing the truncated text of a
+     * timestamp column to a datetime string parameter, such as
+     * <code>to_char(column, 'yyyy-MM-dd HH24:MI') = :param</code>, as a range
+     * on the column itself so that an index on the column can be used. The
+     * datetime strings must be in the to_char format, as when formatted from
+     * a Date.
+     * 
+     * @param column
+     *            timestamp column.
+     * @param beginParam
+     *            name of the parameter holding the first datetime string.
+     * @param endParam
+     *            name of the parameter holding the last datetime string. Same
+     *            as the begin parameter for an equality.
+     * @param unit
+     *            precision of the datetime strings ("day", "minute" or
+     *            "second").
+     * @return range predicate, with a leading space.
+     */
+    static String timeRange(String column, String beginParam,
+            String endParam, String unit) {
+        return " " + column + " >= CAST(:" + beginParam + " AS timestamp)"
+                + " AND " + column + " < CAST(:" + endParam
+                + " AS timestamp) + INTERVAL '1 " + unit + "'";
+    }
+
+    /**
+     * As {@link #timeRange(String, String, String, String)}, for datetime
+     * strings that may not be in the to_char format, such as those of
+     * callers or with an unpadded hour ("2017-01-05 5:00"). Only strings in
+     * the to_char format can be compared as a range with the same result; for
+     * any other string, the to_char text comparison is kept, so the query
+     * finds the same reports (none, for an equality) rather than failing or
+     * finding more.
+     * 
+     * @param column
+     *            timestamp column.
+     * @param beginParam
+     *            name of the parameter holding the first datetime string.
+     * @param begin
+     *            first datetime string.
+     * @param endParam
+     *            name of the parameter holding the last datetime string. Same
+     *            as the begin parameter for an equality.
+     * @param end
+     *            last datetime string.
+     * @param unit
+     *            precision of the datetime strings ("day", "minute" or
+     *            "second").
+     * @return range or text predicate, with a leading space.
+     */
+    static String timeRange(String column, String beginParam,
+            String begin, String endParam, String end, String unit) {
+        if (isToCharText(begin, unit) && isToCharText(end, unit)) {
+            return timeRange(column, beginParam, endParam, unit);
+        }
+        String text = " to_char(" + column + ", '" + TO_CHAR_FORMATS.get(unit)
+                + "')";
+        if (beginParam.equals(endParam)) {
+            return text + " = :" + beginParam;
+        }
+        return text + " BETWEEN :" + beginParam + " AND :" + endParam;
+    }
+
+    /**
+     * @param dateTime
+     *            datetime string.
+     * @param unit
+     *            precision of the datetime string.
+     * @return true if the string is exactly the to_char text of some
+     *         timestamp, at the given precision.
+     */
+    private static boolean isToCharText(String dateTime, String unit) {
+        if (dateTime == null) {
+            return false;
+        }
+        DateTimeFormatter formatter = TO_CHAR_FORMATTERS.get(unit);
+        try {
+            return dateTime.equals(formatter.format(formatter.parse(dateTime)));
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+
     /**
      * Migrated from build_daily_obs_weather.ec
      * 
@@ -239,8 +383,9 @@ public class ClimateCreatorDAO extends ClimateDAO {
 
         // start looping through hours, increment time at end of loop
         for (int i = 0; i <= numHours; i++) {
-            String nominalTime = (new ClimateDate(baseTime)).toFullDateString()
-                    + " " + baseTime.get(Calendar.HOUR_OF_DAY) + ":00:00";
+            String nominalTime = toNominalDateTime(new ClimateDate(baseTime),
+                    new ClimateTime(baseTime.get(Calendar.HOUR_OF_DAY), 0))
+                    + ":00";
             StringBuilder wxQuery = new StringBuilder(
                     "SELECT distinct boo.element_value, rep.fss_rpt_instance FROM ");
             wxQuery.append(ClimateDAOValues.BOOLEAN_VALUES_TABLE_NAME);
@@ -249,8 +394,9 @@ public class ClimateCreatorDAO extends ClimateDAO {
             wxQuery.append(" as rep, ");
             wxQuery.append(ClimateDAOValues.FSS_CATEGORY_MULTI_TABLE_NAME);
             wxQuery.append(" as cat ");
-            wxQuery.append(
-                    " WHERE to_char(nominal_dtime, 'yyyy-MM-dd HH24:MI:SS') = :nominalTime");
+            wxQuery.append(" WHERE").append(timeRange("nominal_dtime",
+                    "nominalTime", nominalTime, "nominalTime", nominalTime,
+                    "second"));
             wxQuery.append(" AND station_id = :stationID");
             wxQuery.append(" AND report_subtype = 'MTR' ");
             wxQuery.append(" AND cat.element_id = ")
@@ -260,8 +406,9 @@ public class ClimateCreatorDAO extends ClimateDAO {
             wxQuery.append(" AND origin_dtime in ");
             wxQuery.append(" (SELECT max(origin_dtime) FROM ");
             wxQuery.append(ClimateDAOValues.FSS_REPORT_TABLE_NAME);
-            wxQuery.append(
-                    " WHERE to_char(nominal_dtime, 'yyyy-MM-dd HH24:MI:SS') = :nominalTime");
+            wxQuery.append(" WHERE").append(timeRange("nominal_dtime",
+                    "nominalTime", nominalTime, "nominalTime", nominalTime,
+                    "second"));
             wxQuery.append(" AND station_id = :stationID");
             wxQuery.append(" AND report_subtype = 'MTR')");
 
@@ -289,8 +436,9 @@ public class ClimateCreatorDAO extends ClimateDAO {
                 StringBuilder noWeatherQuery = new StringBuilder(
                         "SELECT count(*) FROM ");
                 noWeatherQuery.append(ClimateDAOValues.FSS_REPORT_TABLE_NAME);
-                noWeatherQuery.append(
-                        " WHERE to_char(nominal_dtime, 'yyyy-MM-dd HH24:MI:SS') = :nominalTime");
+                noWeatherQuery.append(" WHERE").append(timeRange(
+                        "nominal_dtime", "nominalTime", nominalTime,
+                        "nominalTime", nominalTime, "second"));
                 noWeatherQuery.append(" AND station_id = :stationID");
                 noWeatherQuery.append(" AND report_subtype= 'MTR'");
 
@@ -341,8 +489,9 @@ public class ClimateCreatorDAO extends ClimateDAO {
             StringBuilder sp1Query = new StringBuilder(
                     "SELECT distinct valid_dtime FROM ");
             sp1Query.append(ClimateDAOValues.FSS_REPORT_TABLE_NAME);
-            sp1Query.append(
-                    " WHERE to_char(nominal_dtime, 'yyyy-MM-dd HH24:MI:SS') = :nominalTime");
+            sp1Query.append(" WHERE").append(timeRange("nominal_dtime",
+                    "nominalTime", nominalTime, "nominalTime", nominalTime,
+                    "second"));
             sp1Query.append(" AND station_id = :stationID");
             sp1Query.append(" AND report_subtype= 'SPECI'");
             StringBuilder sp2Query = new StringBuilder(
@@ -353,8 +502,9 @@ public class ClimateCreatorDAO extends ClimateDAO {
             sp2Query.append(" as rep, ");
             sp2Query.append(ClimateDAOValues.FSS_CATEGORY_MULTI_TABLE_NAME);
             sp2Query.append(" as cat");
-            sp2Query.append(
-                    " WHERE to_char(nominal_dtime, 'yyyy-MM-dd HH24:MI:SS') = :nominalTime");
+            sp2Query.append(" WHERE").append(timeRange("nominal_dtime",
+                    "nominalTime", nominalTime, "nominalTime", nominalTime,
+                    "second"));
             sp2Query.append(" AND station_id = :stationID");
             sp2Query.append(" AND report_subtype = 'SPECI' ");
             sp2Query.append(" AND cat.element_id = ")
@@ -365,8 +515,8 @@ public class ClimateCreatorDAO extends ClimateDAO {
             sp2Query.append(" AND origin_dtime in ");
             sp2Query.append(" (SELECT max(origin_dtime) FROM ");
             sp2Query.append(ClimateDAOValues.FSS_REPORT_TABLE_NAME);
-            sp2Query.append(
-                    " WHERE to_char(valid_dtime, 'yyyy-MM-dd') = :validDTime ");
+            sp2Query.append(" WHERE").append(timeRange("valid_dtime",
+                    "validDTime", "validDTime", "day"));
             sp2Query.append(" AND station_id = :stationID");
             sp2Query.append(" AND report_subtype = 'SPECI')");
 
@@ -950,23 +1100,22 @@ public class ClimateCreatorDAO extends ClimateDAO {
         ClimateDate currDate = new ClimateDate(window.getStart());
         ClimateTime currTime = new ClimateTime(window.getStartTime());
 
-        // origin time, correction are used only for ordering
-        StringBuilder reportQuery = new StringBuilder(
-                "SELECT fss_rpt_instance, origin_dtime, correction FROM ");
-        reportQuery.append(ClimateDAOValues.FSS_REPORT_TABLE_NAME);
-        reportQuery.append(
-                " WHERE to_char(nominal_dtime, 'yyyy-MM-dd HH24:MI') = :datetime ");
-        reportQuery.append(" AND station_id = :informId");
-        reportQuery.append(" AND report_subtype = 'MTR'");
-        reportQuery.append(" ORDER BY correction DESC, origin_dtime DESC");
-
         Map<String, Object> paramMap = new HashMap<>();
         paramMap.put("informId", informId);
 
         for (int i = 1; i <= loopPeriod; i++) {
             // time/date incremented at the end of the loop
-            String dateTimeString = currDate.toFullDateString() + " "
-                    + currTime.toHourMinString();
+            String dateTimeString = toNominalDateTime(currDate, currTime);
+            // origin time, correction are used only for ordering
+            StringBuilder reportQuery = new StringBuilder(
+                    "SELECT fss_rpt_instance, origin_dtime, correction FROM ");
+            reportQuery.append(ClimateDAOValues.FSS_REPORT_TABLE_NAME);
+            reportQuery.append(" WHERE").append(timeRange("nominal_dtime",
+                    "datetime", dateTimeString, "datetime", dateTimeString,
+                    "minute"));
+            reportQuery.append(" AND station_id = :informId");
+            reportQuery.append(" AND report_subtype = 'MTR'");
+            reportQuery.append(" ORDER BY correction DESC, origin_dtime DESC");
             paramMap.put("datetime", dateTimeString);
             try {
                 Object[] reportResults = getDao()
@@ -1303,6 +1452,32 @@ public class ClimateCreatorDAO extends ClimateDAO {
      */
     public FSSReportResult getMetarCategSingle(int informId, int elementID,
             String dateTime) throws ClimateQueryException {
+        return getMetarCategSingle(null, informId, elementID, dateTime);
+    }
+
+    /**
+     * Overload - answer from the given preloaded window if it covers the
+     * station and time, otherwise query.
+     * 
+     * @param hourly
+     *            preloaded METAR window, or null to query.
+     * @param informId
+     * @param elementID
+     *            ID key of element to look for
+     * @param dateTime
+     *            date time string in format "yyyy-MM-dd hh24:mm".
+     * @return the value and data quality descriptor for the given element, or
+     *         the missing value (9999) and an empty descriptor if no records
+     *         were found.
+     * @throws ClimateQueryException
+     */
+    public FSSReportResult getMetarCategSingle(MetarHourlyWindow hourly,
+            int informId, int elementID, String dateTime)
+            throws ClimateQueryException {
+        if (hourly != null && hourly.covers(informId, dateTime)) {
+            return hourly.getCategSingle(elementID, dateTime);
+        }
+
         /*
          * Legacy documentation:
          * 
@@ -1327,8 +1502,8 @@ public class ClimateCreatorDAO extends ClimateDAO {
         query.append(ClimateDAOValues.FSS_CATEGORY_SINGLE_TABLE_NAME);
         query.append(" WHERE element_id = :elementID");
         query.append(") AS x USING (fss_rpt_instance) ");
-        query.append(
-                " WHERE to_char(f.nominal_dtime, 'yyyy-MM-dd HH24:MI') = :dateTime");
+        query.append(" WHERE").append(timeRange("f.nominal_dtime",
+                "dateTime", dateTime, "dateTime", dateTime, "minute"));
         query.append(" AND f.station_id = :informId");
         query.append(" AND f.report_subtype = 'MTR' ");
         query.append(" ORDER BY f.valid_dtime DESC, f.correction DESC, ");
@@ -1498,8 +1673,8 @@ public class ClimateCreatorDAO extends ClimateDAO {
         query.append(ClimateDAOValues.FSS_CATEGORY_SINGLE_TABLE_NAME);
         query.append(" WHERE element_id = :elementID");
         query.append(") AS x USING (fss_rpt_instance) ");
-        query.append(
-                " WHERE to_char(f.valid_dtime, 'yyyy-MM-dd HH24:MI') = :dateTime");
+        query.append(" WHERE").append(timeRange("f.valid_dtime",
+                "dateTime", dateTime, "dateTime", dateTime, "minute"));
         query.append(" AND f.station_id = :informId");
         query.append(" AND f.report_subtype = 'SPECI' ");
         query.append(" ORDER BY f.correction DESC, f.origin_dtime DESC");
@@ -1660,8 +1835,8 @@ public class ClimateCreatorDAO extends ClimateDAO {
         query.append(ClimateDAOValues.FSS_CONTIN_REAL_TABLE_NAME);
         query.append(" WHERE element_id = :elementID");
         query.append(") AS x USING (fss_rpt_instance) ");
-        query.append(
-                " WHERE to_char(f.valid_dtime, 'yyyy-MM-dd HH24:MI') = :dateTime");
+        query.append(" WHERE").append(timeRange("f.valid_dtime",
+                "dateTime", dateTime, "dateTime", dateTime, "minute"));
         query.append(" AND f.station_id = :informId");
         query.append(" AND f.report_subtype = 'SPECI' ");
         query.append(" ORDER BY f.correction DESC, f.origin_dtime DESC");
@@ -1789,6 +1964,32 @@ public class ClimateCreatorDAO extends ClimateDAO {
      */
     public FSSReportResult getMetarConreal(int informId, int elementID,
             String dateTime) throws ClimateQueryException {
+        return getMetarConreal(null, informId, elementID, dateTime);
+    }
+
+    /**
+     * Overload - answer from the given preloaded window if it covers the
+     * station and time, otherwise query.
+     * 
+     * @param hourly
+     *            preloaded METAR window, or null to query.
+     * @param informId
+     * @param elementID
+     *            ID key of element to look for
+     * @param dateTime
+     *            date time string in format "yyyy-MM-dd hh24:mm".
+     * @return the value and data quality descriptor for the given element, or
+     *         the missing value (9999) and an empty descriptor if no records
+     *         were found.
+     * @throws ClimateQueryException
+     */
+    public FSSReportResult getMetarConreal(MetarHourlyWindow hourly,
+            int informId, int elementID, String dateTime)
+            throws ClimateQueryException {
+        if (hourly != null && hourly.covers(informId, dateTime)) {
+            return hourly.getConreal(elementID, dateTime);
+        }
+
         /*
          * Legacy documentation:
          * 
@@ -1823,8 +2024,8 @@ public class ClimateCreatorDAO extends ClimateDAO {
         query.append(ClimateDAOValues.FSS_CONTIN_REAL_TABLE_NAME);
         query.append(" WHERE element_id = :elementID");
         query.append(") AS x USING (fss_rpt_instance) ");
-        query.append(
-                "WHERE to_char(f.nominal_dtime, 'yyyy-MM-dd HH24:MI') = :dateTime");
+        query.append(" WHERE").append(timeRange("f.nominal_dtime",
+                "dateTime", dateTime, "dateTime", dateTime, "minute"));
         query.append(" AND f.station_id = :informId");
         query.append(" AND f.report_subtype = 'MTR' ");
         query.append(" ORDER BY f.valid_dtime ASC, f.correction DESC, ");
@@ -1904,6 +2105,7 @@ public class ClimateCreatorDAO extends ClimateDAO {
      * ------------ ---------- ----------- --------------------------
      * 11 OCT 2016  21378      amoore      Initial creation
      * 03 NOV 2016  21378      amoore      More generic naming.
+     * 17 OCT 2026             agent       Package-private constructors.
      * 
      * </pre>
      * 
@@ -1925,7 +2127,7 @@ public class ClimateCreatorDAO extends ClimateDAO {
         /**
          * Empty constructor. Assign missing values.
          */
-        private FSSReportResult() {
+        FSSReportResult() {
             value = ParameterFormatClimate.MISSING;
             dqd = "";
         }
@@ -1933,7 +2135,7 @@ public class ClimateCreatorDAO extends ClimateDAO {
         /**
          * Constructor.
          */
-        private FSSReportResult(double iValue, String iDqd) {
+        FSSReportResult(double iValue, String iDqd) {
             value = iValue;
             dqd = iDqd;
         }
@@ -2098,19 +2300,19 @@ public class ClimateCreatorDAO extends ClimateDAO {
     public void getAllSpeciWinds(ClimateDates window, int informId,
             ClimateWind wind, ClimateTime windTime, boolean windOrGust)
                     throws ClimateQueryException {
-        String beginDateTimeString = window.getStart().toFullDateString() + " "
-                + window.getStartTime().toHourMinString();
-        String endDateTimeString = window.getEnd().toFullDateString() + " "
-                + window.getEndTime().toHourMinString();
+        String beginDateTimeString = toNominalDateTime(window.getStart(),
+                window.getStartTime());
+        String endDateTimeString = toNominalDateTime(window.getEnd(),
+                window.getEndTime());
 
         StringBuilder query = new StringBuilder(
                 "SELECT DISTINCT valid_dtime FROM ");
         query.append(ClimateDAOValues.FSS_REPORT_TABLE_NAME);
         query.append(" WHERE station_id = :informId");
         query.append(" AND report_subtype = 'SPECI' ");
-        query.append(
-                " AND to_char(nominal_dtime, 'yyyy-MM-dd HH24:MI') BETWEEN :beginDateTimeString");
-        query.append(" AND :endDateTimeString");
+        query.append(" AND").append(timeRange("nominal_dtime",
+                "beginDateTimeString", beginDateTimeString,
+                "endDateTimeString", endDateTimeString, "minute"));
 
         Map<String, Object> paramMap = new HashMap<>();
         paramMap.put("informId", informId);
@@ -2250,6 +2452,23 @@ public class ClimateCreatorDAO extends ClimateDAO {
         }
     }
 
+    /**
+     * Load the METAR reports of the given station over the given creator
+     * window, with their element values, so that the hourly METAR lookups of
+     * the window can be answered without a query per hour and element.
+     * 
+     * @param informId
+     *            station ID.
+     * @param window
+     *            creator window (UTC).
+     * @return preloaded METAR window.
+     * @throws ClimateQueryException
+     */
+    public MetarHourlyWindow getMetarHourlyWindow(int informId,
+            ClimateDates window) throws ClimateQueryException {
+        return MetarHourlyWindow.load(this, informId, window);
+    }
+
     /**
      * Migrated from get_hourly_winds.c.
      * 
@@ -2278,8 +2497,23 @@ public class ClimateCreatorDAO extends ClimateDAO {
 
     public void getHourlyWinds(ClimateDate date, ClimateTime time, int informId,
             ClimateWind aWind) {
-        String dateTimeString = date.toFullDateString() + " "
-                + time.toHourMinString();
+        getHourlyWinds(null, date, time, informId, aWind);
+    }
+
+    /**
+     * Overload - use the given preloaded METAR window where it covers the
+     * station and time.
+     * 
+     * @param hourly
+     *            preloaded METAR window, or null to query.
+     * @param date
+     * @param time
+     * @param informId
+     * @param aWind
+     */
+    public void getHourlyWinds(MetarHourlyWindow hourly, ClimateDate date,
+            ClimateTime time, int informId, ClimateWind aWind) {
+        String dateTimeString = toNominalDateTime(date, time);
 
         /*
          * Legacy documentation:
@@ -2290,7 +2524,7 @@ public class ClimateCreatorDAO extends ClimateDAO {
          * attempt.
          */
         try {
-            float windSpeed = (float) getMetarConreal(informId,
+            float windSpeed = (float) getMetarConreal(hourly, informId,
                     MetarUtils.METAR_WIND_SPEED, dateTimeString).getValue();
 
             /*
@@ -2308,7 +2542,7 @@ public class ClimateCreatorDAO extends ClimateDAO {
 
                 /* We look for direction only if we have a good speed value. */
                 try {
-                    int direction = (int) getMetarCategSingle(informId,
+                    int direction = (int) getMetarCategSingle(hourly, informId,
                             MetarUtils.METAR_WIND_DIRECTION, dateTimeString)
                                     .getValue();
 
@@ -2369,8 +2603,23 @@ public class ClimateCreatorDAO extends ClimateDAO {
 
     public void getAllHourlyGusts(ClimateDate date, ClimateTime time,
             int informId, ClimateWind aGust) {
-        String dateTimeString = date.toFullDateString() + " "
-                + time.toHourMinString();
+        getAllHourlyGusts(null, date, time, informId, aGust);
+    }
+
+    /**
+     * Overload - use the given preloaded METAR window where it covers the
+     * station and time.
+     * 
+     * @param hourly
+     *            preloaded METAR window, or null to query.
+     * @param date
+     * @param time
+     * @param informId
+     * @param aGust
+     */
+    public void getAllHourlyGusts(MetarHourlyWindow hourly, ClimateDate date,
+            ClimateTime time, int informId, ClimateWind aGust) {
+        String dateTimeString = toNominalDateTime(date, time);
 
         /*
          * Legacy documentation:
@@ -2383,7 +2632,7 @@ public class ClimateCreatorDAO extends ClimateDAO {
          * the data is legitimate.
          */
         try {
-            float gustSpeed = (float) getMetarConreal(informId,
+            float gustSpeed = (float) getMetarConreal(hourly, informId,
                     MetarUtils.METAR_MAX_WIND_GUST, dateTimeString).getValue();
 
             /*
@@ -2405,7 +2654,7 @@ public class ClimateCreatorDAO extends ClimateDAO {
                  * direction
                  */
                 try {
-                    int direction = (int) getMetarCategSingle(informId,
+                    int direction = (int) getMetarCategSingle(hourly, informId,
                             MetarUtils.METAR_WIND_DIRECTION, dateTimeString)
                                     .getValue();
 
@@ -2463,8 +2712,25 @@ public class ClimateCreatorDAO extends ClimateDAO {
 
     public void getHourlyPeakWinds(ClimateDate date, ClimateTime time,
             int informId, ClimateWind peakWind, ClimateTime peakWindTime) {
-        String dateTimeString = date.toFullDateString() + " "
-                + time.toHourMinString();
+        getHourlyPeakWinds(null, date, time, informId, peakWind, peakWindTime);
+    }
+
+    /**
+     * Overload - use the given preloaded METAR window where it covers the
+     * station and time.
+     * 
+     * @param hourly
+     *            preloaded METAR window, or null to query.
+     * @param date
+     * @param time
+     * @param informId
+     * @param peakWind
+     * @param peakWindTime
+     */
+    public void getHourlyPeakWinds(MetarHourlyWindow hourly, ClimateDate date,
+            ClimateTime time, int informId, ClimateWind peakWind,
+            ClimateTime peakWindTime) {
+        String dateTimeString = toNominalDateTime(date, time);
 
         /*
          * Legacy documentation:
@@ -2482,7 +2748,7 @@ public class ClimateCreatorDAO extends ClimateDAO {
          * retrieval attempt.
          */
         try {
-            float windSpeed = (float) getMetarConreal(informId,
+            float windSpeed = (float) getMetarConreal(hourly, informId,
                     MetarUtils.METAR_PEAK_WIND_SPEED, dateTimeString)
                             .getValue();
 
@@ -2506,7 +2772,7 @@ public class ClimateCreatorDAO extends ClimateDAO {
                  * legitimate.
                  */
                 try {
-                    int direction = (int) getMetarCategSingle(informId,
+                    int direction = (int) getMetarCategSingle(hourly, informId,
                             MetarUtils.METAR_PEAK_WIND_DIR, dateTimeString)
                                     .getValue();
 
@@ -2529,7 +2795,7 @@ public class ClimateCreatorDAO extends ClimateDAO {
                     try {
                         // time stored in HHmm format as integer (not actual
                         // time datatype)
-                        int metarTime = (int) getMetarConreal(informId,
+                        int metarTime = (int) getMetarConreal(hourly, informId,
                                 MetarUtils.METAR_PEAK_WIND_TIME, dateTimeString)
                                         .getValue();
 
@@ -2617,10 +2883,9 @@ public class ClimateCreatorDAO extends ClimateDAO {
         StringBuilder query = new StringBuilder(
                 "SELECT fss_rpt_instance, origin_dtime, correction FROM ");
         query.append(ClimateDAOValues.FSS_REPORT_TABLE_NAME);
-        query.append(
-                " WHERE to_char(valid_dtime, 'yyyy-MM-dd HH24:MI') >= :lowerTimeString");
-        query.append(
-                " AND to_char(valid_dtime, 'yyyy-MM-dd HH24:MI') <= :upperTimeString");
+        query.append(" WHERE").append(timeRange("valid_dtime",
+                "lowerTimeString", lowerTimeString, "upperTimeString",
+                upperTimeString, "minute"));
         query.append(" AND station_id = :informId");
         query.append(" AND report_type = 'SCD' ");
         query.append(" ORDER BY correction DESC, origin_dtime DESC");
@@ -2782,8 +3047,9 @@ public class ClimateCreatorDAO extends ClimateDAO {
         StringBuilder query = new StringBuilder(
                 "SELECT correction, origin_dtime FROM ");
         query.append(ClimateDAOValues.FSS_REPORT_TABLE_NAME);
-        query.append(
-                " WHERE to_char(nominal_dtime, 'yyyy-MM-dd HH24:MI') = :nominalTimeString");
+        query.append(" WHERE").append(timeRange("nominal_dtime",
+                "nominalTimeString", nominalTimeString, "nominalTimeString",
+                nominalTimeString, "minute"));
         query.append(" AND station_id = :informId");
         query.append(" AND report_subtype = 'MTR' ");
         query.append(" ORDER BY correction DESC, origin_dtime DESC");
@@ -2882,8 +3148,8 @@ public class ClimateCreatorDAO extends ClimateDAO {
             query.append(ClimateDAOValues.FSS_REPORT_TABLE_NAME);
             query.append(" WHERE station_id = :informId");
             query.append(" AND report_subtype = 'MTR' ");
-            query.append(
-                    " AND to_char(nominal_dtime, 'yyyy-MM-dd HH24:MI') = :nominalTimeString");
+            query.append(" AND").append(timeRange("nominal_dtime",
+                    "nominalTimeString", "nominalTimeString", "minute"));
 
             paramMap.put("nominalTimeString", nominalTimeString);
 
@@ -3018,8 +3284,8 @@ public class ClimateCreatorDAO extends ClimateDAO {
             query.append(ClimateDAOValues.FSS_REPORT_TABLE_NAME);
             query.append(" WHERE station_id = :informId");
             query.append(" AND report_subtype = 'MTR' ");
-            query.append(
-                    " AND to_char(nominal_dtime, 'yyyy-MM-dd HH24:MI') = :nominalTimeString");
+            query.append(" AND").append(timeRange("nominal_dtime",
+                    "nominalTimeString", "nominalTimeString", "minute"));
 
             paramMap.put("nominalTimeString", nominalTimeString);
 
@@ -3138,9 +3404,9 @@ public class ClimateCreatorDAO extends ClimateDAO {
         query.append(ClimateDAOValues.FSS_REPORT_TABLE_NAME);
         query.append(" WHERE station_id = :informId");
         query.append(" AND report_subtype = 'SPECI' ");
-        query.append(
-                " AND to_char(nominal_dtime, 'yyyy-MM-dd HH24:MI') BETWEEN :beginTimeString")
-                .append(" AND :endTimeString");
+        query.append(" AND").append(timeRange("nominal_dtime",
+                "beginTimeString", beginTimeString, "endTimeString",
+                endTimeString, "minute"));
 
         Map<String, Object> paramMap = new HashMap<>();
         paramMap.put("informId", informId);
@@ -3266,9 +3532,9 @@ public class ClimateCreatorDAO extends ClimateDAO {
         query.append(ClimateDAOValues.FSS_REPORT_TABLE_NAME);
         query.append(" WHERE station_id = :informId");
         query.append(" AND report_subtype = 'SPECI' ");
-        query.append(
-                " AND to_char(nominal_dtime, 'yyyy-MM-dd HH24:MI') BETWEEN :beginTimeString")
-                .append(" AND :endTimeString");
+        query.append(" AND").append(timeRange("nominal_dtime",
+                "beginTimeString", beginTimeString, "endTimeString",
+                endTimeString, "minute"));
 
         Map<String, Object> paramMap = new HashMap<>();
         paramMap.put("informId", informId);
@@ -3477,8 +3743,8 @@ public class ClimateCreatorDAO extends ClimateDAO {
         query.append(ClimateDAOValues.FSS_CONTIN_REAL_TABLE_NAME);
         query.append(" WHERE element_id = ").append(MetarUtils.METAR_TEMP);
         query.append(" ) AS c USING (fss_rpt_instance)");
-        query.append(
-                " WHERE to_char(a.valid_dtime, 'yyyy-MM-dd HH24:MI') = :validTime");
+        query.append(" WHERE").append(timeRange("a.valid_dtime",
+                "validTime", validTime, "validTime", validTime, "minute"));
         query.append(" AND a.station_id = :informId");
         query.append(" AND a.report_subtype = 'MTR' ");
         query.append(" ORDER BY a.correction DESC, a.origin_dtime DESC");
@@ -56,6 +56,8 @@ import gov.noaa.nws.ocp.edex.common.climate.dataaccess.ClimateDataAccessConfigur
  *                                     a special case.
  * 24 OCT 2017  39817      amoore      Clean up 24-hour precip calculations while investigating validity of
  *                                     calculations. Handle trace better in hourly precip count.
+ * 17 OCT 2026             agent       Window-aware element methods answered from preloaded daily
+ *                                     data.
  * </pre>
  * 
  * @author amoore
@@ -740,6 +742,212 @@ public class ClimateDAO {
                 periodColumn, buildType, ParameterFormatClimate.MISSING, false);
     }
 
+    /**
+     * See
+     * {@link #buildElement(ClimateDate, ClimateDate, int, PeriodType, String, String, BuildElementType, Number, boolean)}
+     *
+     * If the given daily window covers the request, compute the value from the
+     * window rather than querying.
+     *
+     * @param window
+     *            preloaded daily data. May be null.
+     * @param beginDate
+     * @param endDate
+     * @param stationID
+     * @param iType
+     *            period type. If non-zero, 5 will be used.
+     * @param dailyColumn
+     *            daily column to use, if period type is 0.
+     * @param periodColumn
+     *            period column to use, if period type is non-zero.
+     * @param buildType
+     * @param missingValue
+     * @param precipOrSnow
+     *            true if the element being searched for is precip or snow
+     *            (needs trace-related computation).
+     * @return
+     */
+    final Number buildElement(DailyClimateWindow window,
+            ClimateDate beginDate, ClimateDate endDate, int stationID,
+            PeriodType iType, String dailyColumn, String periodColumn,
+            ClimateDAO.BuildElementType buildType, Number missingValue,
+            boolean precipOrSnow) {
+        if ((window != null)
+                && window.covers(stationID, iType, beginDate, endDate)) {
+            return window.buildElement(beginDate, endDate, dailyColumn,
+                    buildType, missingValue, precipOrSnow);
+        }
+        return buildElement(beginDate, endDate, stationID, iType, dailyColumn,
+                periodColumn, buildType, missingValue, precipOrSnow);
+    }
+
+    /**
+     * See
+     * {@link #buildElement(DailyClimateWindow, ClimateDate, ClimateDate, int, PeriodType, String, String, BuildElementType, Number, boolean)}
+     *
+     * Assume not precip or snow.
+     *
+     * @param window
+     *            preloaded daily data. May be null.
+     * @param beginDate
+     * @param endDate
+     * @param stationID
+     * @param iType
+     *            period type. If non-zero, 5 will be used.
+     * @param dailyColumn
+     *            daily column to use, if period type is 0.
+     * @param periodColumn
+     *            period column to use, if period type is non-zero.
+     * @param buildType
+     * @param missingValue
+     * @return
+     */
+    final Number buildElement(DailyClimateWindow window,
+            ClimateDate beginDate, ClimateDate endDate, int stationID,
+            PeriodType iType, String dailyColumn, String periodColumn,
+            ClimateDAO.BuildElementType buildType, Number missingValue) {
+        return buildElement(window, beginDate, endDate, stationID, iType,
+                dailyColumn, periodColumn, buildType, missingValue, false);
+    }
+
+    /**
+     * See
+     * {@link #buildElement(DailyClimateWindow, ClimateDate, ClimateDate, int, PeriodType, String, String, BuildElementType, Number, boolean)}
+     *
+     * Assume not precip or snow and standard missing value.
+     *
+     * @param window
+     *            preloaded daily data. May be null.
+     * @param beginDate
+     * @param endDate
+     * @param stationID
+     * @param iType
+     *            period type. If non-zero, 5 will be used.
+     * @param dailyColumn
+     *            daily column to use, if period type is 0.
+     * @param periodColumn
+     *            period column to use, if period type is non-zero.
+     * @param buildType
+     * @return
+     */
+    final Number buildElement(DailyClimateWindow window,
+            ClimateDate beginDate, ClimateDate endDate, int stationID,
+            PeriodType iType, String dailyColumn, String periodColumn,
+            ClimateDAO.BuildElementType buildType) {
+        return buildElement(window, beginDate, endDate, stationID, iType,
+                dailyColumn, periodColumn, buildType,
+                ParameterFormatClimate.MISSING, false);
+    }
+
+    /**
+     * See
+     * {@link #daysPastThresh(ClimateDate, ClimateDate, int, PeriodType, String, String, Number, Number, boolean, boolean)}
+     *
+     * If the given daily window covers the request, count from the window
+     * rather than querying.
+     *
+     * @param window
+     *            preloaded daily data. May be null.
+     * @param beginDate
+     * @param endDate
+     * @param stationID
+     * @param iType
+     *            period type. If non-zero, 5 will be used.
+     * @param dailyColumn
+     *            daily column to use, if period type is 0.
+     * @param periodColumn
+     *            period column to use, if period type is non-zero.
+     * @param missing
+     *            missing value.
+     * @param threshold
+     * @param greaterOrLess
+     *            true if test for >=, false to test for <=.
+     * @param precipOrSnow
+     *            true if the element being searched for is precip or snow
+     *            (needs trace-related computation).
+     * @return count of instances with the specified value, dates, type, and
+     *         station.
+     */
+    final int daysPastThresh(DailyClimateWindow window, ClimateDate beginDate,
+            ClimateDate endDate, int stationID, PeriodType iType,
+            String dailyColumn, String periodColumn, Number missing,
+            Number threshold, boolean greaterOrLess, boolean precipOrSnow) {
+        if ((window != null)
+                && window.covers(stationID, iType, beginDate, endDate)) {
+            return window.daysPastThresh(beginDate, endDate, dailyColumn,
+                    threshold, greaterOrLess, precipOrSnow);
+        }
+        return daysPastThresh(beginDate, endDate, stationID, iType, dailyColumn,
+                periodColumn, missing, threshold, greaterOrLess, precipOrSnow);
+    }
+
+    /**
+     * See
+     * {@link #daysPastThresh(DailyClimateWindow, ClimateDate, ClimateDate, int, PeriodType, String, String, Number, Number, boolean, boolean)}
+     *
+     * Assume not precip or snow, and standard missing value.
+     *
+     * @param window
+     *            preloaded daily data. May be null.
+     * @param beginDate
+     * @param endDate
+     * @param stationID
+     * @param iType
+     *            period type. If non-zero, 5 will be used.
+     * @param dailyColumn
+     *            daily column to use, if period type is 0.
+     * @param periodColumn
+     *            period column to use, if period type is non-zero.
+     * @param threshold
+     * @param greaterOrLess
+     *            true if test for >=, false to test for <=.
+     * @return count of instances with the specified value, dates, type, and
+     *         station.
+     */
+    final int daysPastThresh(DailyClimateWindow window, ClimateDate beginDate,
+            ClimateDate endDate, int stationID, PeriodType iType,
+            String dailyColumn, String periodColumn, Number threshold,
+            boolean greaterOrLess) {
+        return daysPastThresh(window, beginDate, endDate, stationID, iType,
+                dailyColumn, periodColumn, ParameterFormatClimate.MISSING,
+                threshold, greaterOrLess, false);
+    }
+
+    /**
+     * See
+     * {@link #buildElementEquality(ClimateDate, ClimateDate, int, PeriodType, String, String, Number)}
+     *
+     * If the given daily window covers the request, count from the window
+     * rather than querying.
+     *
+     * @param window
+     *            preloaded daily data. May be null.
+     * @param beginDate
+     * @param endDate
+     * @param stationID
+     * @param iType
+     *            period type. If non-zero, 5 will be used.
+     * @param dailyColumn
+     *            daily column to use, if period type is 0.
+     * @param periodColumn
+     *            period column to use, if period type is non-zero.
+     * @param equalValue
+     * @return count of instances with the specified value, dates, type, and
+     *         station.
+     */
+    final int buildElementEquality(DailyClimateWindow window,
+            ClimateDate beginDate, ClimateDate endDate, int stationID,
+            PeriodType iType, String dailyColumn, String periodColumn,
+            Number equalValue) {
+        if ((window != null)
+                && window.covers(stationID, iType, beginDate, endDate)) {
+            return window.buildElementEquality(beginDate, endDate,
+                    dailyColumn, equalValue);
+        }
+        return buildElementEquality(beginDate, endDate, stationID, iType,
+                dailyColumn, periodColumn, equalValue);
+    }
+
     /**
      * Calculate the max precip value given an array of the values.
      * 
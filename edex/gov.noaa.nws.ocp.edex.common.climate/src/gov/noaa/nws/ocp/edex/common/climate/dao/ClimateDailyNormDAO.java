@@ -63,6 +63,8 @@ import gov.noaa.nws.ocp.common.dataplugin.climate.util.ClimateUtilities;
  * 07 JUL 2017  33104      amoore      Split Daily and Period norms into different classes.
  * 08 SEP 2017  37809      amoore      For queries, cast to Number rather than specific number type.
  * 12 OCT 2017  39364      amoore      Wrong inequality for min temp record breaking check.
+ * 17 OCT 2026             agent       Add getHistoricalNormsForMonth, for F6 reports.
+ * 17 OCT 2026             agent       Serve historical normals from ClimateNormsStore.
  * </pre>
  * 
  * @author amoore
@@ -114,16 +116,22 @@ public class ClimateDailyNormDAO extends ClimateDAO {
                 .getMissingClimateRecordDay();
         yClimate.setInformId(stationId);
 
-        StringBuilder query = new StringBuilder(
-                "SELECT mean_temp, max_temp_mean, min_temp_mean,");
-        query.append(" max_temp_record, min_temp_record, max_temp_rec_yr1,");
-        query.append(" max_temp_rec_yr2, max_temp_rec_yr3, min_temp_rec_yr1,");
-        query.append(" min_temp_rec_yr2, min_temp_rec_yr3, precip_mean,");
-        query.append(
-                " precip_day_max, precip_day_max_yr1, precip_day_max_yr2,");
-        query.append(" precip_day_max_yr3, snow_mean, snow_day_max,");
-        query.append(" snow_day_max_yr1, snow_day_max_yr2, snow_day_max_yr3,");
-        query.append(" snow_ground_mean, heat_day_mean, cool_day_mean FROM ");
+        ClimateNormsStore store = ClimateNormsStore.get(this, stationId);
+        if (store != null) {
+            Object[] row = store
+                    .getDayRow(ClimateNormsStore.getDaySlot(iDate));
+            if (row != null) {
+                setHistoricalNorms(row, yClimate);
+            } else {
+                logger.warn("No historical normals data for date: ["
+                        + iDate.toMonthDayDateString() + "] and station ID: ["
+                        + stationId + "]");
+            }
+            return yClimate;
+        }
+
+        StringBuilder query = getHistoricalNormsColumns();
+        query.append(" FROM ");
         query.append(ClimateDAOValues.DAY_CLIMATE_NORM_TABLE_NAME);
         query.append(" WHERE station_id = :stationId")
                 .append(" AND day_of_year = ");
@@ -140,109 +148,7 @@ public class ClimateDailyNormDAO extends ClimateDAO {
                 Object result = results[0];
                 if (result instanceof Object[]) {
                     try {
-                        Object[] oa = (Object[]) result;
-
-                        // any values could be null
-                        float ecMeanTemp = oa[0] != null
-                                ? ((Number) oa[0]).floatValue()
-                                : ParameterFormatClimate.MISSING;
-                        short ecMaxTempMean = oa[1] != null
-                                ? ((Number) oa[1]).shortValue()
-                                : ParameterFormatClimate.MISSING;
-                        short ecMinTempMean = oa[2] != null
-                                ? ((Number) oa[2]).shortValue()
-                                : ParameterFormatClimate.MISSING;
-                        short ecMaxTempRecord = oa[3] != null
-                                ? ((Number) oa[3]).shortValue()
-                                : ParameterFormatClimate.MISSING;
-                        short ecMinTempRecord = oa[4] != null
-                                ? ((Number) oa[4]).shortValue()
-                                : ParameterFormatClimate.MISSING;
-                        short ecMaxTempRecordYear1 = oa[5] != null
-                                ? ((Number) oa[5]).shortValue()
-                                : ParameterFormatClimate.MISSING;
-                        short ecMaxTempRecordYear2 = oa[6] != null
-                                ? ((Number) oa[6]).shortValue()
-                                : ParameterFormatClimate.MISSING;
-                        short ecMaxTempRecordYear3 = oa[7] != null
-                                ? ((Number) oa[7]).shortValue()
-                                : ParameterFormatClimate.MISSING;
-                        short ecMinTempRecordYear1 = oa[8] != null
-                                ? ((Number) oa[8]).shortValue()
-                                : ParameterFormatClimate.MISSING;
-                        short ecMinTempRecordYear2 = oa[9] != null
-                                ? ((Number) oa[9]).shortValue()
-                                : ParameterFormatClimate.MISSING;
-                        short ecMinTempRecordYear3 = oa[10] != null
-                                ? ((Number) oa[10]).shortValue()
-                                : ParameterFormatClimate.MISSING;
-                        float ecPrecipMean = oa[11] != null
-                                ? ((Number) oa[11]).floatValue()
-                                : ParameterFormatClimate.MISSING;
-                        float ecPrecipDayRecord = oa[12] != null
-                                ? ((Number) oa[12]).floatValue()
-                                : ParameterFormatClimate.MISSING;
-                        short ecPrecipDayRecordYear1 = oa[13] != null
-                                ? ((Number) oa[13]).shortValue()
-                                : ParameterFormatClimate.MISSING;
-                        short ecPrecipDayRecordYear2 = oa[14] != null
-                                ? ((Number) oa[14]).shortValue()
-                                : ParameterFormatClimate.MISSING;
-                        short ecPrecipDayRecordYear3 = oa[15] != null
-                                ? ((Number) oa[15]).shortValue()
-                                : ParameterFormatClimate.MISSING;
-                        float ecSnowDayMean = oa[16] != null
-                                ? ((Number) oa[16]).floatValue()
-                                : ParameterFormatClimate.MISSING;
-                        float ecSnowDayRecord = oa[17] != null
-                                ? ((Number) oa[17]).floatValue()
-                                : ParameterFormatClimate.MISSING;
-                        short ecSnowDayRecordYear1 = oa[18] != null
-                                ? ((Number) oa[18]).shortValue()
-                                : ParameterFormatClimate.MISSING;
-                        short ecSnowDayRecordYear2 = oa[19] != null
-                                ? ((Number) oa[19]).shortValue()
-                                : ParameterFormatClimate.MISSING;
-                        short ecSnowDayRecordYear3 = oa[20] != null
-                                ? ((Number) oa[20]).shortValue()
-                                : ParameterFormatClimate.MISSING;
-                        /* unused */
-                        @SuppressWarnings("unused")
-                        float ecSnowGroundMean = oa[21] != null
-                                ? ((Number) oa[21]).floatValue()
-                                : ParameterFormatClimate.MISSING;
-                        int ecNumHeatMean = oa[22] != null
-                                ? ((Number) oa[22]).intValue()
-                                : ParameterFormatClimate.MISSING;
-                        int ecNumCoolMean = oa[23] != null
-                                ? ((Number) oa[23]).intValue()
-                                : ParameterFormatClimate.MISSING;
-
-                        yClimate.setMaxTempYear(new int[] {
-                                ecMaxTempRecordYear1, ecMaxTempRecordYear2,
-                                ecMaxTempRecordYear3 });
-                        yClimate.setMinTempYear(new int[] {
-                                ecMinTempRecordYear1, ecMinTempRecordYear2,
-                                ecMinTempRecordYear3 });
-                        yClimate.setPrecipDayRecordYear(new int[] {
-                                ecPrecipDayRecordYear1, ecPrecipDayRecordYear2,
-                                ecPrecipDayRecordYear3 });
-                        yClimate.setSnowDayRecordYear(new int[] {
-                                ecSnowDayRecordYear1, ecSnowDayRecordYear2,
-                                ecSnowDayRecordYear3 });
-
-                        yClimate.setMeanTemp(ecMeanTemp);
-                        yClimate.setMaxTempMean(ecMaxTempMean);
-                        yClimate.setMinTempMean(ecMinTempMean);
-                        yClimate.setMaxTempRecord(ecMaxTempRecord);
-                        yClimate.setMinTempRecord(ecMinTempRecord);
-                        yClimate.setPrecipMean(ecPrecipMean);
-                        yClimate.setPrecipDayRecord(ecPrecipDayRecord);
-                        yClimate.setSnowDayMean(ecSnowDayMean);
-                        yClimate.setSnowDayRecord(ecSnowDayRecord);
-                        yClimate.setNumHeatMean(ecNumHeatMean);
-                        yClimate.setNumCoolMean(ecNumCoolMean);
-
+                        setHistoricalNorms((Object[]) result, yClimate);
                     } catch (Exception e) {
                         // if casting failed
                         throw new ClimateQueryException(
@@ -276,6 +182,214 @@ public class ClimateDailyNormDAO extends ClimateDAO {
         return yClimate;
     }
 
+    /**
+     * Fill out historical normals from a row of the
+     * {@link #getHistoricalNorms(ClimateDate, int)} query.
+     * 
+     * @param oa
+     *            row, in the column order of
+     *            {@link #getHistoricalNormsColumns()}. Extra trailing columns
+     *            are ignored.
+     * @param yClimate
+     *            normals to fill out.
+     */
+    private static void setHistoricalNorms(Object[] oa,
+            ClimateRecordDay yClimate) {
+        // any values could be null
+        float ecMeanTemp = oa[0] != null
+                ? ((Number) oa[0]).floatValue()
+                : ParameterFormatClimate.MISSING;
+        short ecMaxTempMean = oa[1] != null
+                ? ((Number) oa[1]).shortValue()
+                : ParameterFormatClimate.MISSING;
+        short ecMinTempMean = oa[2] != null
+                ? ((Number) oa[2]).shortValue()
+                : ParameterFormatClimate.MISSING;
+        short ecMaxTempRecord = oa[3] != null
+                ? ((Number) oa[3]).shortValue()
+                : ParameterFormatClimate.MISSING;
+        short ecMinTempRecord = oa[4] != null
+                ? ((Number) oa[4]).shortValue()
+                : ParameterFormatClimate.MISSING;
+        short ecMaxTempRecordYear1 = oa[5] != null
+                ? ((Number) oa[5]).shortValue()
+                : ParameterFormatClimate.MISSING;
+        short ecMaxTempRecordYear2 = oa[6] != null
+                ? ((Number) oa[6]).shortValue()
+                : ParameterFormatClimate.MISSING;
+        short ecMaxTempRecordYear3 = oa[7] != null
+                ? ((Number) oa[7]).shortValue()
+                : ParameterFormatClimate.MISSING;
+        short ecMinTempRecordYear1 = oa[8] != null
+                ? ((Number) oa[8]).shortValue()
+                : ParameterFormatClimate.MISSING;
+        short ecMinTempRecordYear2 = oa[9] != null
+                ? ((Number) oa[9]).shortValue()
+                : ParameterFormatClimate.MISSING;
+        short ecMinTempRecordYear3 = oa[10] != null
+                ? ((Number) oa[10]).shortValue()
+                : ParameterFormatClimate.MISSING;
+        float ecPrecipMean = oa[11] != null
+                ? ((Number) oa[11]).floatValue()
+                : ParameterFormatClimate.MISSING;
+        float ecPrecipDayRecord = oa[12] != null
+                ? ((Number) oa[12]).floatValue()
+                : ParameterFormatClimate.MISSING;
+        short ecPrecipDayRecordYear1 = oa[13] != null
+                ? ((Number) oa[13]).shortValue()
+                : ParameterFormatClimate.MISSING;
+        short ecPrecipDayRecordYear2 = oa[14] != null
+                ? ((Number) oa[14]).shortValue()
+                : ParameterFormatClimate.MISSING;
+        short ecPrecipDayRecordYear3 = oa[15] != null
+                ? ((Number) oa[15]).shortValue()
+                : ParameterFormatClimate.MISSING;
+        float ecSnowDayMean = oa[16] != null
+                ? ((Number) oa[16]).floatValue()
+                : ParameterFormatClimate.MISSING;
+        float ecSnowDayRecord = oa[17] != null
+                ? ((Number) oa[17]).floatValue()
+                : ParameterFormatClimate.MISSING;
+        short ecSnowDayRecordYear1 = oa[18] != null
+                ? ((Number) oa[18]).shortValue()
+                : ParameterFormatClimate.MISSING;
+        short ecSnowDayRecordYear2 = oa[19] != null
+                ? ((Number) oa[19]).shortValue()
+                : ParameterFormatClimate.MISSING;
+        short ecSnowDayRecordYear3 = oa[20] != null
+                ? ((Number) oa[20]).shortValue()
+                : ParameterFormatClimate.MISSING;
+        /* unused */
+        @SuppressWarnings("unused")
+        float ecSnowGroundMean = oa[21] != null
+                ? ((Number) oa[21]).floatValue()
+                : ParameterFormatClimate.MISSING;
+        int ecNumHeatMean = oa[22] != null
+                ? ((Number) oa[22]).intValue()
+                : ParameterFormatClimate.MISSING;
+        int ecNumCoolMean = oa[23] != null
+                ? ((Number) oa[23]).intValue()
+                : ParameterFormatClimate.MISSING;
+
+        yClimate.setMaxTempYear(new int[] {
+                ecMaxTempRecordYear1, ecMaxTempRecordYear2,
+                ecMaxTempRecordYear3 });
+        yClimate.setMinTempYear(new int[] {
+                ecMinTempRecordYear1, ecMinTempRecordYear2,
+                ecMinTempRecordYear3 });
+        yClimate.setPrecipDayRecordYear(new int[] {
+                ecPrecipDayRecordYear1, ecPrecipDayRecordYear2,
+                ecPrecipDayRecordYear3 });
+        yClimate.setSnowDayRecordYear(new int[] {
+                ecSnowDayRecordYear1, ecSnowDayRecordYear2,
+                ecSnowDayRecordYear3 });
+
+        yClimate.setMeanTemp(ecMeanTemp);
+        yClimate.setMaxTempMean(ecMaxTempMean);
+        yClimate.setMinTempMean(ecMinTempMean);
+        yClimate.setMaxTempRecord(ecMaxTempRecord);
+        yClimate.setMinTempRecord(ecMinTempRecord);
+        yClimate.setPrecipMean(ecPrecipMean);
+        yClimate.setPrecipDayRecord(ecPrecipDayRecord);
+        yClimate.setSnowDayMean(ecSnowDayMean);
+        yClimate.setSnowDayRecord(ecSnowDayRecord);
+        yClimate.setNumHeatMean(ecNumHeatMean);
+        yClimate.setNumCoolMean(ecNumCoolMean);
+    }
+
+    /**
+     * Historical normals for every day of the month of the given date, up to
+     * and including the given date, in one query rather than one
+     * {@link #getHistoricalNorms(ClimateDate, int)} per day.
+     * 
+     * @param iDate
+     *            last date to query for.
+     * @param stationId
+     *            ID to query for.
+     * @return normals by day of month. Days with no normals are not included.
+     * @throws ClimateQueryException
+     *             on error getting data.
+     */
+    public Map<Integer, ClimateRecordDay> getHistoricalNormsForMonth(
+            ClimateDate iDate, int stationId) throws ClimateQueryException {
+        ClimateNormsStore store = ClimateNormsStore.get(this, stationId);
+        if (store != null) {
+            Map<Integer, ClimateRecordDay> monthNorms = new HashMap<>();
+            for (int day = 1; day <= iDate.getDay(); day++) {
+                Object[] row = store.getDayRow(
+                        ClimateNormsStore.getDaySlot(iDate.getMon(), day));
+                if (row != null) {
+                    ClimateRecordDay yClimate = ClimateRecordDay
+                            .getMissingClimateRecordDay();
+                    yClimate.setInformId(stationId);
+                    setHistoricalNorms(row, yClimate);
+                    monthNorms.put(day, yClimate);
+                }
+            }
+            return monthNorms;
+        }
+
+        StringBuilder query = getHistoricalNormsColumns();
+        // day last, so the other columns are as setHistoricalNorms expects
+        query.append(", day_of_year FROM ");
+        query.append(ClimateDAOValues.DAY_CLIMATE_NORM_TABLE_NAME);
+        query.append(" WHERE station_id = :stationId");
+        query.append(" AND day_of_year >= :beginDay");
+        query.append(" AND day_of_year <= :endDay");
+
+        Map<String, Object> paramMap = new HashMap<>();
+        paramMap.put("stationId", stationId);
+        paramMap.put("beginDay",
+                ClimateDate.createMonthDayDateString(iDate.getMon(), 1));
+        paramMap.put("endDay", iDate.toMonthDayDateString());
+
+        Map<Integer, ClimateRecordDay> monthNorms = new HashMap<>();
+        try {
+            Object[] results = getDao().executeSQLQuery(query.toString(),
+                    paramMap);
+            if (results == null) {
+                return monthNorms;
+            }
+            for (Object result : results) {
+                if (!(result instanceof Object[])) {
+                    throw new ClimateQueryException(
+                            "Unexpected return type from query, expected Object[], got "
+                                    + (result == null ? null
+                                            : result.getClass().getName()));
+                }
+                Object[] oa = (Object[]) result;
+
+                ClimateRecordDay yClimate = ClimateRecordDay
+                        .getMissingClimateRecordDay();
+                yClimate.setInformId(stationId);
+                setHistoricalNorms(oa, yClimate);
+
+                // day_of_year is "MM-dd"
+                String dayOfYear = (String) oa[oa.length - 1];
+                monthNorms.put(Integer.parseInt(
+                        dayOfYear.substring(dayOfYear.indexOf('-') + 1)),
+                        yClimate);
+            }
+        } catch (Exception e) {
+            throw new ClimateQueryException(
+                    "Error querying the climate database with: [" + query
+                            + "] and map: [" + paramMap + "]",
+                    e);
+        }
+
+        return monthNorms;
+    }
+
+    /**
+     * @return select clause of the historical normals query, in the column
+     *         order expected by
+     *         {@link #setHistoricalNorms(Object[], ClimateRecordDay)}.
+     */
+    private static StringBuilder getHistoricalNormsColumns() {
+        return new StringBuilder("SELECT ")
+                .append(String.join(", ", ClimateNormsStore.DAY_COLUMNS));
+    }
+
     /**
      * Fetch a row from day_climate_norm
      * 
@@ -519,6 +633,7 @@ public class ClimateDailyNormDAO extends ClimateDAO {
         int numRow = 0;
         try {
             numRow = getDao().executeSQLUpdate(sql.toString(), paramMap);
+            ClimateNormsStore.invalidate(stationId);
         } catch (Exception e) {
             throw new ClimateQueryException(
                     "Failed to delete record station ID=" + stationId
@@ -612,6 +727,7 @@ public class ClimateDailyNormDAO extends ClimateDAO {
 
         try {
             int numRow = getDao().executeSQLUpdate(sql.toString(), paramMap);
+            ClimateNormsStore.invalidate((int) record.getStationId());
             isInserted = (numRow == 1);
         } catch (Exception e) {
             throw new ClimateQueryException(
@@ -702,6 +818,7 @@ public class ClimateDailyNormDAO extends ClimateDAO {
 
         try {
             int numRow = getDao().executeSQLUpdate(sql.toString(), paramMap);
+            ClimateNormsStore.invalidate((int) record.getStationId());
             isUpdated = (numRow == 1);
         } catch (Exception e) {
             throw new ClimateQueryException(
@@ -868,6 +985,7 @@ public class ClimateDailyNormDAO extends ClimateDAO {
 
         try {
             int numRow = getDao().executeSQLUpdate(sql.toString(), paramMap);
+            ClimateNormsStore.invalidate((int) record.getStationId());
             return (numRow == 1);
         } catch (Exception e) {
             throw new ClimateQueryException(
@@ -0,0 +1,587 @@
+/**
+ * This software was developed and / or modified by NOAA/NWS/OCP/ASDT
+ **/
+package gov.noaa.nws.ocp.edex.common.climate.dao;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.raytheon.uf.common.status.IUFStatusHandler;
+import com.raytheon.uf.common.status.UFStatus;
+import com.raytheon.uf.common.time.util.TimeUtil;
+
+import gov.noaa.nws.ocp.common.dataplugin.climate.ClimateDate;
+import gov.noaa.nws.ocp.common.dataplugin.climate.exception.ClimateQueryException;
+
+/**
+ * In-memory daily (day_climate_norm) and monthly (mon_climate_norm, period
+ * type 5) normals of a station, with prefix sums over day of year and month of
+ * year. Answers the SUM and COUNT aggregates of the historical sum methods of
+ * {@link ClimatePeriodNormDAO} and the lookups of
+ * {@link ClimateDailyNormDAO#getHistoricalNorms(ClimateDate, int)} without a
+ * query each, following SQL semantics: null values never match a condition,
+ * the sum over no matching rows is null, and values are summed as real (float)
+ * in the order the rows are stored, by day or month of year.
+ *
+ * Days of year are slots 0 to 365 in "MM-dd" order, Feb 29th included, so that
+ * slot ranges match day_of_year string ranges.
+ *
+ * A station's normals are dropped whenever they are written in this JVM, and
+ * reloaded after {@link #REFRESH_INTERVAL} regardless, to pick up changes made
+ * from another JVM.
+ *
+ * <pre>
+ *
+ * SOFTWARE HISTORY
+ *
+ * Date         Ticket#    Engineer    Description
+ * ------------ ---------- ----------- --------------------------
+ * 17 OCT 2026             agent       Initial creation
+ * 17 OCT 2026             agent       Sum in float, as SUM does on real columns.
+ * </pre>
+ *
+ * @author agent
+ */
+public final class ClimateNormsStore {
+
+    private static final IUFStatusHandler logger = UFStatus
+            .getHandler(ClimateNormsStore.class);
+
+    /**
+     * Time after which a station's normals are reloaded from the database.
+     */
+    private static final long REFRESH_INTERVAL = 10
+            * TimeUtil.MILLIS_PER_MINUTE;
+
+    /**
+     * Daily normals columns, in the order expected by
+     * {@link ClimateDailyNormDAO#getHistoricalNorms(ClimateDate, int)}.
+     */
+    static final String[] DAY_COLUMNS = { "mean_temp", "max_temp_mean",
+            "min_temp_mean", "max_temp_record", "min_temp_record",
+            "max_temp_rec_yr1", "max_temp_rec_yr2", "max_temp_rec_yr3",
+            "min_temp_rec_yr1", "min_temp_rec_yr2", "min_temp_rec_yr3",
+            "precip_mean", "precip_day_max", "precip_day_max_yr1",
+            "precip_day_max_yr2", "precip_day_max_yr3", "snow_mean",
+            "snow_day_max", "snow_day_max_yr1", "snow_day_max_yr2",
+            "snow_day_max_yr3", "snow_ground_mean", "heat_day_mean",
+            "cool_day_mean" };
+
+    /**
+     * Monthly normals columns summed over months.
+     */
+    static final String[] MONTH_COLUMNS = { "cool_pd_mean", "heat_pd_mean",
+            "snow_pd_mean", "precip_pd_mean", "num_max_ge_90f",
+            "num_max_le_32f", "num_min_le_32f", "num_min_le_0f",
+            "num_prcp_ge_01", "num_prcp_ge_10", "num_prcp_ge_50",
+            "num_prcp_ge_100", "num_snow_ge_tr", "num_snow_ge_1",
+            "snow_water_pd_norm" };
+
+    /**
+     * Slot of Feb 29th.
+     */
+    static final int LEAP_DAY = 59;
+
+    /**
+     * Day of year slots, Feb 29th included.
+     */
+    private static final int DAYS_PER_YEAR = 366;
+
+    /**
+     * Slot of the first day of each month.
+     */
+    private static final int[] MONTH_FIRST_DAY = { 0, 31, 60, 91, 121, 152,
+            182, 213, 244, 274, 305, 335 };
+
+    /**
+     * Maximum days per month, Feb 29th included.
+     */
+    private static final int[] MAX_DAYS_PER_MONTH = { 31, 29, 31, 30, 31, 30,
+            31, 31, 30, 31, 30, 31 };
+
+    /**
+     * Normals by station ID.
+     */
+    private static final Map<Integer, ClimateNormsStore> STORES = new ConcurrentHashMap<>();
+
+    /**
+     * Time the normals were loaded.
+     */
+    private final long loadTime = TimeUtil.currentTimeMillis();
+
+    private final Series days = new Series(DAY_COLUMNS, DAYS_PER_YEAR);
+
+    private final Series months = new Series(MONTH_COLUMNS, 12);
+
+    /**
+     * Values of one table by column and slot, with prefix sums built as
+     * needed.
+     */
+    private static final class Series {
+        private final Map<String, Integer> columnIndices = new HashMap<>();
+
+        /**
+         * Rows by slot, null if none.
+         */
+        private final Object[][] rows;
+
+        /**
+         * Values by column and slot, NaN if null or no row.
+         */
+        private final float[][] values;
+
+        /**
+         * Prefix sums by condition.
+         */
+        private final Map<String, RangeSums> sums = new ConcurrentHashMap<>();
+
+        private Series(String[] columns, int slots) {
+            for (int i = 0; i < columns.length; i++) {
+                columnIndices.put(columns[i], i);
+            }
+            rows = new Object[slots][];
+            values = new float[columns.length][slots];
+            for (float[] columnValues : values) {
+                Arrays.fill(columnValues, Float.NaN);
+            }
+        }
+
+        private void setRow(int slot, Object[] row) {
+            rows[slot] = row;
+            for (int i = 0; i < values.length; i++) {
+                values[i][slot] = row[i] == null ? Float.NaN
+                        : ((Number) row[i]).floatValue();
+            }
+        }
+
+        private int getColumnIndex(String column) {
+            Integer index = columnIndices.get(column);
+            if (index == null) {
+                throw new IllegalArgumentException(
+                        "Column not loaded: [" + column + "]");
+            }
+            return index;
+        }
+
+        /**
+         * @param column
+         *            column to sum.
+         * @param filterColumns
+         *            columns that must be non-null and, if equal is false, not
+         *            any of the given values.
+         * @param equal
+         *            if true, the column must instead be equal to the first
+         *            given value.
+         * @param skipLeapDay
+         *            true to leave out Feb 29th.
+         * @param filterValues
+         * @return values and prefix counts of the rows meeting the
+         *         condition.
+         */
+        private RangeSums getSums(String column, String[] filterColumns,
+                boolean equal, boolean skipLeapDay, float[] filterValues) {
+            String key = column + '|' + String.join(",", filterColumns) + '|'
+                    + equal + '|' + skipLeapDay + '|'
+                    + Arrays.toString(filterValues);
+            return sums.computeIfAbsent(key, k -> {
+                float[] columnValues = values[getColumnIndex(column)];
+                float[][] filters = new float[filterColumns.length][];
+                for (int i = 0; i < filterColumns.length; i++) {
+                    filters[i] = values[getColumnIndex(filterColumns[i])];
+                }
+
+                boolean[] matches = new boolean[rows.length];
+                for (int slot = 0; slot < rows.length; slot++) {
+                    matches[slot] = rows[slot] != null
+                            && !(skipLeapDay && slot == LEAP_DAY)
+                            && matches(filters, slot, equal, filterValues);
+                }
+                return new RangeSums(columnValues, matches);
+            });
+        }
+
+        private static boolean matches(float[][] filters, int slot,
+                boolean equal, float[] filterValues) {
+            for (float[] filter : filters) {
+                float value = filter[slot];
+                if (Float.isNaN(value)) {
+                    return false;
+                }
+                if (equal) {
+                    if (value != filterValues[0]) {
+                        return false;
+                    }
+                } else {
+                    for (float filterValue : filterValues) {
+                        if (value == filterValue) {
+                            return false;
+                        }
+                    }
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Values and prefix counts of the rows meeting a condition, by slot.
+     * Sums are added up slot by slot in float rather than from prefix sums,
+     * so that they round as SUM does on real columns.
+     */
+    private static final class RangeSums {
+        /**
+         * Values of the matching rows, 0 for the others.
+         */
+        private final float[] values;
+
+        private final int[] counts;
+
+        private RangeSums(float[] columnValues, boolean[] matches) {
+            values = new float[columnValues.length];
+            counts = new int[columnValues.length + 1];
+            for (int slot = 0; slot < columnValues.length; slot++) {
+                values[slot] = matches[slot] ? columnValues[slot] : 0;
+                counts[slot + 1] = counts[slot] + (matches[slot] ? 1 : 0);
+            }
+        }
+
+        /**
+         * @param sum
+         *            sum so far.
+         * @param begin
+         * @param end
+         * @return the sum so far plus the values from begin to end.
+         */
+        private float sum(float sum, int begin, int end) {
+            begin = Math.max(begin, 0);
+            end = Math.min(end, values.length - 1);
+            for (int slot = begin; slot <= end; slot++) {
+                sum += values[slot];
+            }
+            return sum;
+        }
+
+        private int count(int begin, int end) {
+            begin = Math.max(begin, 0);
+            end = Math.min(end, counts.length - 2);
+            return begin > end ? 0 : counts[end + 1] - counts[begin];
+        }
+    }
+
+    /**
+     * Slots from begin to end, inclusive. If wrapping (the range spans the end
+     * of the year), slots from begin to the last slot, and from the first slot
+     * to end.
+     */
+    static final class Range {
+        private final Series series;
+
+        private final int begin;
+
+        private final int end;
+
+        private final boolean wrap;
+
+        private final boolean skipLeapDay;
+
+        private Range(Series series, int begin, int end, boolean wrap,
+                boolean skipLeapDay) {
+            this.series = series;
+            this.begin = begin;
+            this.end = end;
+            this.wrap = wrap;
+            this.skipLeapDay = skipLeapDay;
+        }
+
+        /**
+         * @param column
+         * @param excluded
+         * @return sum of the column where not null and not any of the excluded
+         *         values, or null if there are no such rows.
+         */
+        Float sum(String column, float... excluded) {
+            return sum(column, new String[] { column }, excluded);
+        }
+
+        /**
+         * @param column
+         * @param filterColumns
+         * @param excluded
+         * @return sum of the column where all filter columns are not null and
+         *         not any of the excluded values, or null if there are no such
+         *         rows.
+         */
+        Float sum(String column, String[] filterColumns, float... excluded) {
+            RangeSums rangeSums = series.getSums(column, filterColumns, false,
+                    skipLeapDay, excluded);
+            return count(rangeSums) == 0 ? null : sum(rangeSums);
+        }
+
+        /**
+         * @param column
+         * @param excluded
+         * @return number of rows where the column is not null and not any of
+         *         the excluded values.
+         */
+        int count(String column, float... excluded) {
+            return count(new String[] { column }, excluded);
+        }
+
+        /**
+         * @param filterColumns
+         * @param excluded
+         * @return number of rows where all filter columns are not null and not
+         *         any of the excluded values.
+         */
+        int count(String[] filterColumns, float... excluded) {
+            return count(series.getSums(filterColumns[0], filterColumns, false,
+                    skipLeapDay, excluded));
+        }
+
+        /**
+         * @param column
+         * @param value
+         * @return number of rows where the column is equal to the value.
+         */
+        int countEqual(String column, float value) {
+            return count(series.getSums(column, new String[] { column }, true,
+                    skipLeapDay, new float[] { value }));
+        }
+
+        /**
+         * Sum in slot order, as the rows are stored: when wrapping, the slots
+         * up to end come first.
+         */
+        private float sum(RangeSums rangeSums) {
+            if (!wrap) {
+                return rangeSums.sum(0, begin, end);
+            } else if (begin <= end + 1) {
+                return rangeSums.sum(0, 0, Integer.MAX_VALUE);
+            }
+            return rangeSums.sum(rangeSums.sum(0, 0, end), begin,
+                    Integer.MAX_VALUE);
+        }
+
+        private int count(RangeSums rangeSums) {
+            if (!wrap) {
+                return rangeSums.count(begin, end);
+            } else if (begin <= end + 1) {
+                return rangeSums.count(0, Integer.MAX_VALUE);
+            }
+            return rangeSums.count(begin, Integer.MAX_VALUE)
+                    + rangeSums.count(0, end);
+        }
+    }
+
+    private ClimateNormsStore() {
+    }
+
+    /**
+     * @param dao
+     *            DAO to load with.
+     * @param stationId
+     * @return the normals of the station, loading them if needed, or null if
+     *         they could not be loaded, in which case normals should be
+     *         queried instead.
+     */
+    static ClimateNormsStore get(ClimateDAO dao, int stationId) {
+        ClimateNormsStore store = STORES.get(stationId);
+        if (isStale(store)) {
+            synchronized (ClimateNormsStore.class) {
+                store = STORES.get(stationId);
+                if (isStale(store)) {
+                    try {
+                        store = load(dao, stationId);
+                    } catch (ClimateQueryException e) {
+                        logger.error(
+                                "Could not load normals for station ID: ["
+                                        + stationId
+                                        + "]. Normals will be queried instead.",
+                                e);
+                        return null;
+                    }
+                    STORES.put(stationId, store);
+                }
+            }
+        }
+        return store;
+    }
+
+    /**
+     * Drop the normals of the station, so that they are reloaded on next use.
+     * Call when the station's normals change.
+     *
+     * @param stationId
+     */
+    public static synchronized void invalidate(int stationId) {
+        STORES.remove(stationId);
+    }
+
+    /**
+     * @param date
+     * @return slot of the month and day of the date, or -1 if not a valid day
+     *         of year.
+     */
+    static int getDaySlot(ClimateDate date) {
+        return getDaySlot(date.getMon(), date.getDay());
+    }
+
+    /**
+     * @param month
+     * @param day
+     * @return slot of the month and day, or -1 if not a valid day of year.
+     */
+    static int getDaySlot(int month, int day) {
+        if (month < 1 || month > 12 || day < 1
+                || day > MAX_DAYS_PER_MONTH[month - 1]) {
+            return -1;
+        }
+        return MONTH_FIRST_DAY[month - 1] + day - 1;
+    }
+
+    /**
+     * @param begin
+     *            first slot.
+     * @param end
+     *            last slot.
+     * @param wrap
+     *            true if the range spans the end of the year.
+     * @param skipLeapDay
+     *            true to leave out Feb 29th.
+     * @return daily normals of the range.
+     */
+    Range days(int begin, int end, boolean wrap, boolean skipLeapDay) {
+        return new Range(days, begin, end, wrap, skipLeapDay);
+    }
+
+    /**
+     * @param beginMonth
+     *            first month, 1 to 12.
+     * @param endMonth
+     *            last month, 1 to 12.
+     * @param wrap
+     *            true if the range spans the end of the year.
+     * @return monthly normals of the range.
+     */
+    Range months(int beginMonth, int endMonth, boolean wrap) {
+        return new Range(months, beginMonth - 1, endMonth - 1, wrap, false);
+    }
+
+    /**
+     * @param column
+     * @return true if the monthly normals column is loaded.
+     */
+    static boolean hasMonthColumn(String column) {
+        return Arrays.asList(MONTH_COLUMNS).contains(column);
+    }
+
+    /**
+     * @param slot
+     * @return daily normals row of the slot, in the order of
+     *         {@link #DAY_COLUMNS} followed by day_of_year, or null if none.
+     */
+    Object[] getDayRow(int slot) {
+        return slot < 0 || slot >= DAYS_PER_YEAR ? null : days.rows[slot];
+    }
+
+    private static boolean isStale(ClimateNormsStore store) {
+        return (store == null) || (TimeUtil.currentTimeMillis()
+                - store.loadTime > REFRESH_INTERVAL);
+    }
+
+    /**
+     * @param dao
+     * @param stationId
+     * @return normals of the station from the database.
+     * @throws ClimateQueryException
+     *             on query or casting error.
+     */
+    private static ClimateNormsStore load(ClimateDAO dao, int stationId)
+            throws ClimateQueryException {
+        ClimateNormsStore store = new ClimateNormsStore();
+
+        // day and month last, so the other columns line up with the series
+        StringBuilder dayQuery = new StringBuilder("SELECT ");
+        dayQuery.append(String.join(", ", DAY_COLUMNS));
+        dayQuery.append(", day_of_year FROM ");
+        dayQuery.append(ClimateDAOValues.DAY_CLIMATE_NORM_TABLE_NAME);
+        dayQuery.append(" WHERE station_id = :stationId");
+
+        Object[][] dayRows = query(dao, dayQuery.toString(), stationId);
+
+        StringBuilder monthQuery = new StringBuilder("SELECT ");
+        monthQuery.append(String.join(", ", MONTH_COLUMNS));
+        monthQuery.append(", month_of_year FROM ");
+        monthQuery.append(ClimateDAOValues.MONTH_CLIMATE_NORM_TABLE_NAME);
+        monthQuery.append(" WHERE station_id = :stationId");
+        monthQuery.append(" AND period_type = 5");
+
+        Object[][] monthRows = query(dao, monthQuery.toString(), stationId);
+
+        try {
+            for (Object[] row : dayRows) {
+                // day_of_year is "MM-dd"
+                String dayOfYear = (String) row[row.length - 1];
+                int dash = dayOfYear == null ? -1 : dayOfYear.indexOf('-');
+                int slot = dash < 0 ? -1
+                        : getDaySlot(
+                                Integer.parseInt(dayOfYear.substring(0, dash)),
+                                Integer.parseInt(
+                                        dayOfYear.substring(dash + 1)));
+                if (slot >= 0) {
+                    store.days.setRow(slot, row);
+                }
+            }
+
+            for (Object[] row : monthRows) {
+                int month = ((Number) row[row.length - 1]).intValue();
+                if (month >= 1 && month <= 12) {
+                    store.months.setRow(month - 1, row);
+                }
+            }
+        } catch (Exception e) {
+            // if casting or parsing failed
+            throw new ClimateQueryException(
+                    "Unexpected return column type loading normals for station ID: ["
+                            + stationId + "]",
+                    e);
+        }
+
+        return store;
+    }
+
+    private static Object[][] query(ClimateDAO dao, String query,
+            int stationId) throws ClimateQueryException {
+        Map<String, Object> queryParams = new HashMap<>();
+        queryParams.put("stationId", stationId);
+
+        try {
+            Object[] results = dao.getDao().executeSQLQuery(query,
+                    queryParams);
+            if (results == null) {
+                return new Object[0][];
+            }
+            Object[][] rows = new Object[results.length][];
+            for (int i = 0; i < results.length; i++) {
+                if (!(results[i] instanceof Object[])) {
+                    throw new ClimateQueryException(
+                            "Unexpected return type from query, expected Object[], got "
+                                    + (results[i] == null ? null
+                                            : results[i].getClass()
+                                                    .getName()));
+                }
+                rows[i] = (Object[]) results[i];
+            }
+            return rows;
+        } catch (ClimateQueryException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ClimateQueryException(
+                    "An error was encountered retrieving normals with query: ["
+                            + query + "] and map [" + queryParams + "]",
+                    e);
+        }
+    }
+}
@@ -85,6 +85,8 @@ import gov.noaa.nws.ocp.common.dataplugin.climate.util.QCValues;
  * 15 NOV 2017  40988      amoore      Fix error introduced by 40624 changes. Explicitly order max/min
  *                                     queries.
  * 21 NOV 2017  41180      amoore      CLS and CLA should not deal with MSM values.
+ * 17 OCT 2026             agent       Build monthly period daily aggregates from a single daily
+ *                                     window query.
  * </pre>
  * 
  * @author amoore
@@ -138,6 +140,33 @@ public class ClimatePeriodDAO extends ClimateDAO {
             ClimateDate endDate, PeriodData periodData,
             ClimateGlobal globalValues, PeriodType itype)
             throws ClimateQueryException, ClimateInvalidParameterException {
+        return buildPeriodObsClimo(beginDate, endDate, periodData,
+                globalValues, itype, true);
+    }
+
+    /**
+     * See
+     * {@link #buildPeriodObsClimo(ClimateDate, ClimateDate, PeriodData, ClimateGlobal, PeriodType)}.
+     * 
+     * @param beginDate
+     * @param endDate
+     * @param periodData
+     *            data to fill out, which has at least inform ID (station ID)
+     *            filled in.
+     * @param globalValues
+     * @param itype
+     * @param preloadDaily
+     *            true to answer monthly/other daily aggregates from a
+     *            {@link DailyClimateWindow}, false to query the daily table
+     *            once per element.
+     * @return
+     * @throws ClimateQueryException
+     * @throws ClimateInvalidParameterException
+     */
+    PeriodData buildPeriodObsClimo(ClimateDate beginDate, ClimateDate endDate,
+            PeriodData periodData, ClimateGlobal globalValues,
+            PeriodType itype, boolean preloadDaily)
+            throws ClimateQueryException, ClimateInvalidParameterException {
         // interval of days (add 1 to account for first day)
         int numDays = (int) TimeUnit.DAYS
                 .convert(
@@ -149,23 +178,47 @@ public class ClimatePeriodDAO extends ClimateDAO {
 
         int stationID = periodData.getInformId();
 
+        ClimateDate july1Date = getJuly1Date(beginDate, endDate, itype);
+        ClimateDate jan1Date = getJan1Date(beginDate, endDate, itype);
+
+        /*
+         * Monthly/other periods are built from the daily table. Rather than
+         * querying the daily table once per element, load the station's daily
+         * rows once, from the earliest date any element needs through the end
+         * date, and compute the daily aggregates from memory. Seasonal and
+         * annual periods still query the period table.
+         */
+        DailyClimateWindow window = null;
+        if (preloadDaily && PeriodType.OTHER.equals(itype)) {
+            ClimateDate windowBegin = beginDate;
+            if (july1Date.before(windowBegin)) {
+                windowBegin = july1Date;
+            }
+            if (jan1Date.before(windowBegin)) {
+                windowBegin = jan1Date;
+            }
+            window = DailyClimateWindow.load(this, stationID, windowBegin,
+                    endDate);
+        }
+
         // temperature section
 
         // get max temp
         periodData.setMaxTemp(
-                getMaxMaxTemp(beginDate, endDate, stationID, itype));
+                getMaxMaxTemp(beginDate, endDate, stationID, itype, window));
 
         /* dates with max temp */
         if (periodData.getMaxTemp() != ParameterFormatClimate.MISSING) {
             periodData.setDayMaxTempList(getMaxTempOccurrences(beginDate,
-                    endDate, stationID, periodData.getMaxTemp(), itype));
+                    endDate, stationID, periodData.getMaxTemp(), itype,
+                    window));
         }
 
         /* average max temp */
         if (PeriodType.OTHER.equals(itype)) {
             // monthly or other period type; average using the max temp column
             periodData.setMaxTempMean(
-                    avgMaxTemp(beginDate, endDate, itype, stationID));
+                    avgMaxTemp(beginDate, endDate, itype, stationID, window));
         } else {
             // seasonal or annual; average using existing averages
             periodData.setMaxTempMean(
@@ -175,35 +228,38 @@ public class ClimatePeriodDAO extends ClimateDAO {
         /* number of days for max temp thresholds */
         if (PeriodType.OTHER.equals(itype)) {
             periodData.setNumMaxGreaterThan90F(sumReportMaxTempGreater90F(
-                    beginDate, endDate, itype, stationID));
+                    beginDate, endDate, itype, stationID, window));
 
             periodData.setNumMaxLessThan32F(sumReportMaxTempLess32F(beginDate,
-                    endDate, itype, stationID));
+                    endDate, itype, stationID, window));
 
             periodData.setNumMaxGreaterThanT1F(sumReportMaxTempGreaterT1F(
-                    beginDate, endDate, itype, stationID, globalValues));
+                    beginDate, endDate, itype, stationID, globalValues,
+                    window));
 
             periodData.setNumMaxGreaterThanT2F(sumReportMaxTempGreaterT2F(
-                    beginDate, endDate, itype, stationID, globalValues));
+                    beginDate, endDate, itype, stationID, globalValues,
+                    window));
 
             periodData.setNumMaxLessThanT3F(sumReportMaxTempLessT3F(beginDate,
-                    endDate, itype, stationID, globalValues));
+                    endDate, itype, stationID, globalValues, window));
         }
         // get min temp
         periodData.setMinTemp(
-                getMinMinTemp(beginDate, endDate, stationID, itype));
+                getMinMinTemp(beginDate, endDate, stationID, itype, window));
 
         /* dates with min temp */
         if (periodData.getMinTemp() != ParameterFormatClimate.MISSING) {
             periodData.setDayMinTempList(getMinTempOccurrences(beginDate,
-                    endDate, stationID, periodData.getMinTemp(), itype));
+                    endDate, stationID, periodData.getMinTemp(), itype,
+                    window));
         }
 
         /* average min temp */
         if (PeriodType.OTHER.equals(itype)) {
             // monthly or other period type; average using the min temp column
             periodData.setMinTempMean(
-                    avgMinTemp(beginDate, endDate, itype, stationID));
+                    avgMinTemp(beginDate, endDate, itype, stationID, window));
         } else {
             // seasonal or annual; average using existing averages
             periodData.setMinTempMean(
@@ -213,19 +269,20 @@ public class ClimatePeriodDAO extends ClimateDAO {
         /* number of days for min temp thresholds */
         if (PeriodType.OTHER.equals(itype)) {
             periodData.setNumMinLessThan32F(sumReportMinTempLess32F(beginDate,
-                    endDate, itype, stationID));
+                    endDate, itype, stationID, window));
 
             periodData.setNumMinLessThan0F(sumReportMinTempLess0F(beginDate,
-                    endDate, itype, stationID));
+                    endDate, itype, stationID, window));
 
             periodData.setNumMinGreaterThanT4F(sumReportMinTempGreaterT4F(
-                    beginDate, endDate, itype, stationID, globalValues));
+                    beginDate, endDate, itype, stationID, globalValues,
+                    window));
 
             periodData.setNumMinLessThanT5F(sumReportMinTempLessT5F(beginDate,
-                    beginDate, itype, stationID, globalValues));
+                    beginDate, itype, stationID, globalValues, window));
 
             periodData.setNumMinLessThanT6F(sumReportMinTempLessT6F(beginDate,
-                    endDate, itype, stationID, globalValues));
+                    endDate, itype, stationID, globalValues, window));
         }
 
         /*
@@ -244,12 +301,13 @@ public class ClimatePeriodDAO extends ClimateDAO {
 
         // cumulative precipitation section
         periodData.setPrecipTotal(
-                getSumTotalPrecip(beginDate, endDate, stationID, itype));
+                getSumTotalPrecip(beginDate, endDate, stationID, itype,
+                        window));
 
         // average precipitation for month (only for period type 0 (monthly))
         if (PeriodType.OTHER.equals(itype)) {
             float averagePrecip = getAvgTotalPrecip(beginDate, endDate,
-                    stationID, itype);
+                    stationID, itype, window);
 
             if (averagePrecip != ParameterFormatClimate.MISSING_PRECIP) {
                 periodData.setPrecipMeanDay(averagePrecip);
@@ -261,22 +319,24 @@ public class ClimatePeriodDAO extends ClimateDAO {
         // threshold precipitation
         if (PeriodType.OTHER.equals(itype)) {
             periodData.setNumPrcpGreaterThan01(sumReportPrecipGreater01(
-                    beginDate, endDate, itype, stationID));
+                    beginDate, endDate, itype, stationID, window));
 
             periodData.setNumPrcpGreaterThan10(sumReportPrecipGreater10(
-                    beginDate, endDate, itype, stationID));
+                    beginDate, endDate, itype, stationID, window));
 
             periodData.setNumPrcpGreaterThan50(sumReportPrecipGreater50(
-                    beginDate, endDate, itype, stationID));
+                    beginDate, endDate, itype, stationID, window));
 
             periodData.setNumPrcpGreaterThan100(sumReportPrecipGreater100(
-                    beginDate, endDate, itype, stationID));
+                    beginDate, endDate, itype, stationID, window));
 
             periodData.setNumPrcpGreaterThanP1(sumReportPrecipGreaterP1(
-                    beginDate, endDate, itype, stationID, globalValues));
+                    beginDate, endDate, itype, stationID, globalValues,
+                    window));
 
             periodData.setNumPrcpGreaterThanP2(sumReportPrecipGreaterP2(
-                    beginDate, endDate, itype, stationID, globalValues));
+                    beginDate, endDate, itype, stationID, globalValues,
+                    window));
         }
 
         /*
@@ -290,12 +350,13 @@ public class ClimatePeriodDAO extends ClimateDAO {
          */
         if (PeriodType.OTHER.equals(itype)) {
             periodData.setPrecipMax24H(
-                    getMaxTotalPrecip(beginDate, endDate, stationID, itype));
+                    getMaxTotalPrecip(beginDate, endDate, stationID, itype,
+                            window));
 
             if (periodData.getPrecipMax24H() == 0) {
                 /* check for trace amounts */
                 int traceReports = getNumTotalPrecipTrace(beginDate, endDate,
-                        stationID, itype);
+                        stationID, itype, window);
                 if ((traceReports == 0)
                         || (traceReports == ParameterFormatClimate.MISSING)) {
                     // no reports with trace precipitation
@@ -434,7 +495,7 @@ public class ClimatePeriodDAO extends ClimateDAO {
 
         // cumulative snowfall
         periodData.setSnowTotal(
-                getSumTotalSnow(beginDate, endDate, stationID, itype));
+                getSumTotalSnow(beginDate, endDate, stationID, itype, window));
 
         /*
          * snow - water equivalent
@@ -460,44 +521,8 @@ public class ClimatePeriodDAO extends ClimateDAO {
             periodData.setSnowWater(ParameterFormatClimate.MISSING_SNOW);
         }
 
-        /*
-         * snow since July 1 - need to find out which month it is and then
-         * decrease the year by 1 if necessary
-         */
-        ClimateDate july1Date = new ClimateDate(1, 7, beginDate.getYear());
-        switch (itype) {
-        case OTHER:
-        case MONTHLY_NWWS:
-        case MONTHLY_RAD:
-            // monthly, or other, and begin month is before July, decrease
-            // year
-            // by 1
-            if (beginDate.getMon() < 7) {
-                july1Date.setYear(july1Date.getYear() - 1);
-            }
-            break;
-        case SEASONAL_NWWS:
-        case SEASONAL_RAD:
-            // seasonal and begin month is before June and end month is before
-            // July
-            if ((beginDate.getMon() < 6) && (endDate.getMon() < 7)) {
-                july1Date.setYear(july1Date.getYear() - 1);
-            }
-            break;
-        case ANNUAL_NWWS:
-        case ANNUAL_RAD:
-            // annual, and end month is before July
-            if (endDate.getMon() < 7) {
-                july1Date.setYear(july1Date.getYear() - 1);
-            }
-            break;
-        default:
-            throw new ClimateInvalidParameterException(
-                    "Unhandled period type [" + itype + "]");
-        }
-
         periodData.setSnowJuly1(
-                getSumTotalSnow(july1Date, endDate, stationID, itype));
+                getSumTotalSnow(july1Date, endDate, stationID, itype, window));
 
         /*
          * Legacy documentation:
@@ -513,13 +538,13 @@ public class ClimatePeriodDAO extends ClimateDAO {
         // get days of different snow amounts
         if (PeriodType.OTHER.equals(itype)) {
             periodData.setNumSnowGreaterThanTR(sumReportSnowGreaterTR(beginDate,
-                    endDate, itype, stationID));
+                    endDate, itype, stationID, window));
 
             periodData.setNumSnowGreaterThan1(sumReportSnowGreater1(beginDate,
-                    endDate, itype, stationID));
+                    endDate, itype, stationID, window));
 
             periodData.setNumSnowGreaterThanS1(sumReportSnowGreaterS1(beginDate,
-                    endDate, itype, stationID, globalValues));
+                    endDate, itype, stationID, globalValues, window));
         }
 
         // 24 hour snow
@@ -536,7 +561,7 @@ public class ClimatePeriodDAO extends ClimateDAO {
             if (periodData.getSnowMax24H() == 0) {
                 /* check for trace amounts */
                 int traceReports = getNumTotalSnowTrace(beginDate, endDate,
-                        stationID, itype);
+                        stationID, itype, window);
 
                 if ((traceReports == 0)
                         || (traceReports == ParameterFormatClimate.MISSING)) {
@@ -592,11 +617,12 @@ public class ClimatePeriodDAO extends ClimateDAO {
 
         // snow depth information
         periodData.setSnowGroundMean(
-                getAvgMeanSnowOnGround(beginDate, endDate, stationID, itype));
+                getAvgMeanSnowOnGround(beginDate, endDate, stationID, itype,
+                        window));
 
         // max snow on ground
         periodData.setSnowGroundMax(
-                getMaxSnowGround(beginDate, endDate, stationID, itype));
+                getMaxSnowGround(beginDate, endDate, stationID, itype, window));
 
         if ((periodData
                 .getSnowGroundMax() != ParameterFormatClimate.MISSING_SNOW_VALUE)
@@ -612,54 +638,28 @@ public class ClimatePeriodDAO extends ClimateDAO {
         // heating degree days
         // sum regular heating degrees
         periodData.setNumHeatTotal(
-                getSumHeatDegreeDays(beginDate, endDate, stationID, itype));
+                getSumHeatDegreeDays(beginDate, endDate, stationID, itype,
+                        window));
 
         // sum July 1st heating degrees
         periodData.setNumHeat1July(
-                getSumHeatDegreeDays(july1Date, endDate, stationID, itype));
+                getSumHeatDegreeDays(july1Date, endDate, stationID, itype,
+                        window));
 
         // cooling degree days
         // sum regular cooling degrees
         periodData.setNumCoolTotal(
-                getSumCoolDegreeDays(beginDate, endDate, stationID, itype));
+                getSumCoolDegreeDays(beginDate, endDate, stationID, itype,
+                        window));
 
         // sum January 1st cooling degrees
-        ClimateDate jan1Date = ClimateDate.getMissingClimateDate();
-        switch (itype) {
-        case OTHER:
-        case MONTHLY_NWWS:
-        case MONTHLY_RAD:
-            // monthly, or other; use the begin date year
-            jan1Date = new ClimateDate(1, 1, beginDate.getYear());
-            break;
-        case SEASONAL_NWWS:
-        case SEASONAL_RAD:
-            // seasonal, use end date year
-            jan1Date = new ClimateDate(1, 1, endDate.getYear());
-            break;
-        case ANNUAL_NWWS:
-        case ANNUAL_RAD:
-            // annual
-            if (beginDate.getMon() > endDate.getMon()) {
-                // begin date is later month than end date, use end date year
-                jan1Date = new ClimateDate(1, 1, endDate.getYear());
-            } else {
-                // begin date is same or earlier month than end date, use begin
-                // date year
-                jan1Date = new ClimateDate(1, 1, beginDate.getYear());
-            }
-            break;
-        default:
-            throw new ClimateInvalidParameterException(
-                    "Unhandled period type [" + itype + "]");
-        }
-
         periodData.setNumCool1Jan(
-                getSumCoolDegreeDays(jan1Date, endDate, stationID, itype));
+                getSumCoolDegreeDays(jan1Date, endDate, stationID, itype,
+                        window));
 
         // maximum wind
         float maxWindSpeed = getMaxWindSpeed(beginDate, endDate, stationID,
-                itype);
+                itype, window);
 
         if (maxWindSpeed != ParameterFormatClimate.MISSING_SPEED) {
             // dates and directions of max winds, combining with given speed to
@@ -671,7 +671,7 @@ public class ClimatePeriodDAO extends ClimateDAO {
 
         // maximum gust
         float maxGustSpeed = getMaxGustSpeed(beginDate, endDate, stationID,
-                itype);
+                itype, window);
 
         if (maxGustSpeed != ParameterFormatClimate.MISSING_SPEED) {
             // dates and directions of max gusts, combining with given speed to
@@ -683,11 +683,12 @@ public class ClimatePeriodDAO extends ClimateDAO {
 
         // percent sun
         periodData.setPossSun(
-                getAvgPossSun(beginDate, endDate, stationID, itype));
+                getAvgPossSun(beginDate, endDate, stationID, itype, window));
 
         // mean sky cover
         periodData.setMeanSkyCover(
-                getAvgMeanSkyCover(beginDate, endDate, stationID, itype));
+                getAvgMeanSkyCover(beginDate, endDate, stationID, itype,
+                        window));
 
         // number cloudy days
         if (PeriodType.OTHER.equals(itype)) {
@@ -709,68 +710,80 @@ public class ClimatePeriodDAO extends ClimateDAO {
              * average. Thresholds below reflect our assumptions.
              */
             periodData.setNumMostlyCloudyDays(
-                    getNumMostlyCloudy(beginDate, endDate, stationID));
+                    getNumMostlyCloudy(beginDate, endDate, stationID, window));
 
             periodData.setNumPartlyCloudyDays(
-                    getNumPartlyCloudy(beginDate, endDate, stationID));
+                    getNumPartlyCloudy(beginDate, endDate, stationID, window));
 
             periodData
-                    .setNumFairDays(getNumFair(beginDate, endDate, stationID));
+                    .setNumFairDays(getNumFair(beginDate, endDate, stationID,
+                            window));
         }
 
         // summing weather elements
         periodData.setNumThunderStorms(
-                getSumNumThunderStorms(beginDate, endDate, stationID, itype));
+                getSumNumThunderStorms(beginDate, endDate, stationID, itype,
+                        window));
 
         periodData.setNumMixedPrecip(
-                getSumNumMixedPrecip(beginDate, endDate, stationID, itype));
+                getSumNumMixedPrecip(beginDate, endDate, stationID, itype,
+                        window));
 
         periodData.setNumHeavyRain(
-                getSumNumHeavyRain(beginDate, endDate, stationID, itype));
+                getSumNumHeavyRain(beginDate, endDate, stationID, itype,
+                        window));
 
         periodData.setNumRain(
-                getSumNumRain(beginDate, endDate, stationID, itype));
+                getSumNumRain(beginDate, endDate, stationID, itype, window));
 
         periodData.setNumLightRain(
-                getSumNumLightRain(beginDate, endDate, stationID, itype));
+                getSumNumLightRain(beginDate, endDate, stationID, itype,
+                        window));
 
         periodData.setNumFreezingRain(
-                getSumNumFreezingRain(beginDate, endDate, stationID, itype));
+                getSumNumFreezingRain(beginDate, endDate, stationID, itype,
+                        window));
 
         periodData.setNumLightFreezingRain(getSumNumLightFreezingRain(beginDate,
-                endDate, stationID, itype));
+                endDate, stationID, itype, window));
 
         periodData.setNumHail(
-                getSumNumHail(beginDate, endDate, stationID, itype));
+                getSumNumHail(beginDate, endDate, stationID, itype, window));
 
         periodData.setNumHeavySnow(
-                getSumNumHeavySnow(beginDate, endDate, stationID, itype));
+                getSumNumHeavySnow(beginDate, endDate, stationID, itype,
+                        window));
 
         periodData.setNumSnow(
-                getSumNumSnow(beginDate, endDate, stationID, itype));
+                getSumNumSnow(beginDate, endDate, stationID, itype, window));
 
         periodData.setNumLightSnow(
-                getSumNumLightSnow(beginDate, endDate, stationID, itype));
+                getSumNumLightSnow(beginDate, endDate, stationID, itype,
+                        window));
 
         periodData.setNumIcePellets(
-                getSumNumIcePellets(beginDate, endDate, stationID, itype));
+                getSumNumIcePellets(beginDate, endDate, stationID, itype,
+                        window));
 
         periodData
-                .setNumFog(getSumNumFog(beginDate, endDate, stationID, itype));
+                .setNumFog(getSumNumFog(beginDate, endDate, stationID, itype,
+                        window));
 
         periodData.setNumFogQuarterSM(
-                getSumNumHeavyFog(beginDate, endDate, stationID, itype));
+                getSumNumHeavyFog(beginDate, endDate, stationID, itype,
+                        window));
 
         periodData.setNumHaze(
-                getSumNumHaze(beginDate, endDate, stationID, itype));
+                getSumNumHaze(beginDate, endDate, stationID, itype, window));
 
         // average humidity
         periodData
-                .setMeanRh(getAvgMeanRh(beginDate, endDate, stationID, itype));
+                .setMeanRh(getAvgMeanRh(beginDate, endDate, stationID, itype,
+                        window));
 
         // average wind speed
         periodData.setAvgWindSpd(
-                getAvgWindSpeed(beginDate, endDate, stationID, itype));
+                getAvgWindSpeed(beginDate, endDate, stationID, itype, window));
 
         /*
          * early/late freeze dates logic moved to caller due to functionality
@@ -780,6 +793,103 @@ public class ClimatePeriodDAO extends ClimateDAO {
         return periodData;
     }
 
+    /**
+     * Get the July 1st date to start sums since July 1st from. If the period
+     * starts before July, this is July 1st of the previous year.
+     * 
+     * @param beginDate
+     * @param endDate
+     * @param itype
+     * @return July 1st date for the period.
+     * @throws ClimateInvalidParameterException
+     */
+    private static ClimateDate getJuly1Date(ClimateDate beginDate,
+            ClimateDate endDate, PeriodType itype)
+            throws ClimateInvalidParameterException {
+        /*
+         * snow since July 1 - need to find out which month it is and then
+         * decrease the year by 1 if necessary
+         */
+        ClimateDate july1Date = new ClimateDate(1, 7, beginDate.getYear());
+        switch (itype) {
+        case OTHER:
+        case MONTHLY_NWWS:
+        case MONTHLY_RAD:
+            // monthly, or other, and begin month is before July, decrease
+            // year
+            // by 1
+            if (beginDate.getMon() < 7) {
+                july1Date.setYear(july1Date.getYear() - 1);
+            }
+            break;
+        case SEASONAL_NWWS:
+        case SEASONAL_RAD:
+            // seasonal and begin month is before June and end month is before
+            // July
+            if ((beginDate.getMon() < 6) && (endDate.getMon() < 7)) {
+                july1Date.setYear(july1Date.getYear() - 1);
+            }
+            break;
+        case ANNUAL_NWWS:
+        case ANNUAL_RAD:
+            // annual, and end month is before July
+            if (endDate.getMon() < 7) {
+                july1Date.setYear(july1Date.getYear() - 1);
+            }
+            break;
+        default:
+            throw new ClimateInvalidParameterException(
+                    "Unhandled period type [" + itype + "]");
+        }
+
+        return july1Date;
+    }
+
+    /**
+     * Get the January 1st date to start sums since January 1st from.
+     * 
+     * @param beginDate
+     * @param endDate
+     * @param itype
+     * @return January 1st date for the period.
+     * @throws ClimateInvalidParameterException
+     */
+    private static ClimateDate getJan1Date(ClimateDate beginDate,
+            ClimateDate endDate, PeriodType itype)
+            throws ClimateInvalidParameterException {
+        ClimateDate jan1Date = ClimateDate.getMissingClimateDate();
+        switch (itype) {
+        case OTHER:
+        case MONTHLY_NWWS:
+        case MONTHLY_RAD:
+            // monthly, or other; use the begin date year
+            jan1Date = new ClimateDate(1, 1, beginDate.getYear());
+            break;
+        case SEASONAL_NWWS:
+        case SEASONAL_RAD:
+            // seasonal, use end date year
+            jan1Date = new ClimateDate(1, 1, endDate.getYear());
+            break;
+        case ANNUAL_NWWS:
+        case ANNUAL_RAD:
+            // annual
+            if (beginDate.getMon() > endDate.getMon()) {
+                // begin date is later month than end date, use end date year
+                jan1Date = new ClimateDate(1, 1, endDate.getYear());
+            } else {
+                // begin date is same or earlier month than end date, use begin
+                // date year
+                jan1Date = new ClimateDate(1, 1, beginDate.getYear());
+            }
+            break;
+        default:
+            throw new ClimateInvalidParameterException(
+                    "Unhandled period type [" + itype + "]");
+        }
+
+        return jan1Date;
+    }
+
     /**
      * Overload - Station id and ClimateDates parameters
      * 
@@ -1053,11 +1163,13 @@ public class ClimatePeriodDAO extends ClimateDAO {
      * @param stationID
      * @param iType
      *            if type other than 0, filter by type 5.
+     * @param window
+     *            preloaded daily data, or null to query.
      * @return average of average wind speeds, or the missing value.
      */
     private float getAvgWindSpeed(ClimateDate beginDate, ClimateDate endDate,
-            int stationID, PeriodType iType) {
-        return buildElement(beginDate, endDate, stationID, iType,
+            int stationID, PeriodType iType, DailyClimateWindow window) {
+        return buildElement(window, beginDate, endDate, stationID, iType,
                 "avg_wind_speed", "avg_wind_spd",
                 ClimateDAO.BuildElementType.AVG,
                 ParameterFormatClimate.MISSING_SPEED).floatValue();
@@ -1075,10 +1187,12 @@ public class ClimatePeriodDAO extends ClimateDAO {
      * @param stationID
      * @param iType
      *            if type other than 0, filter by type 5.
+     * @param window
+     *            preloaded daily data, or null to query.
      * @return average of mean humidity, rounded, or the missing value.
      */
     private int getAvgMeanRh(ClimateDate beginDate, ClimateDate endDate,
-            int stationID, PeriodType iType) {
+            int stationID, PeriodType iType, DailyClimateWindow window) {
         /*
          * Legacy used to take the average of the max RH from daily_climate, the
          * average of the min RH from daily_climate, and then average those.
@@ -1087,13 +1201,14 @@ public class ClimatePeriodDAO extends ClimateDAO {
          * same thing again and calling that the minimum, and then averaging
          * those values.
          */
-        float maxRhMean = buildElement(beginDate, endDate, stationID, iType,
-                "max_rh", "mean_rh", ClimateDAO.BuildElementType.AVG,
+        float maxRhMean = buildElement(window, beginDate, endDate, stationID,
+                iType, "max_rh", "mean_rh", ClimateDAO.BuildElementType.AVG,
                 (float) ParameterFormatClimate.MISSING).floatValue();
 
         if (maxRhMean != (float) ParameterFormatClimate.MISSING) {
-            float minRhMean = buildElement(beginDate, endDate, stationID, iType,
-                    "min_rh", "mean_rh", ClimateDAO.BuildElementType.AVG,
+            float minRhMean = buildElement(window, beginDate, endDate,
+                    stationID, iType, "min_rh", "mean_rh",
+                    ClimateDAO.BuildElementType.AVG,
                     (float) ParameterFormatClimate.MISSING).floatValue();
 
             if (minRhMean != (float) ParameterFormatClimate.MISSING) {
@@ -1115,12 +1230,14 @@ public class ClimatePeriodDAO extends ClimateDAO {
      * @param stationID
      * @param iType
      *            if type other than 0, filter by type 5.
+     * @param window
+     *            preloaded daily data, or null to query.
      * @return sum of haze, or the missing value.
      */
     private int getSumNumHaze(ClimateDate beginDate, ClimateDate endDate,
-            int stationID, PeriodType iType) {
-        return buildElement(beginDate, endDate, stationID, iType, "wx_15",
-                "num_h", ClimateDAO.BuildElementType.SUM).intValue();
+            int stationID, PeriodType iType, DailyClimateWindow window) {
+        return buildElement(window, beginDate, endDate, stationID, iType,
+                "wx_15", "num_h", ClimateDAO.BuildElementType.SUM).intValue();
     }
 
     /**
@@ -1134,12 +1251,15 @@ public class ClimatePeriodDAO extends ClimateDAO {
      * @param stationID
      * @param iType
      *            if type other than 0, filter by type 5.
+     * @param window
+     *            preloaded daily data, or null to query.
      * @return sum of heavy fog, or the missing value.
      */
     private int getSumNumHeavyFog(ClimateDate beginDate, ClimateDate endDate,
-            int stationID, PeriodType iType) {
-        return buildElement(beginDate, endDate, stationID, iType, "wx_14",
-                "num_fquarter", ClimateDAO.BuildElementType.SUM).intValue();
+            int stationID, PeriodType iType, DailyClimateWindow window) {
+        return buildElement(window, beginDate, endDate, stationID, iType,
+                "wx_14", "num_fquarter",
+                ClimateDAO.BuildElementType.SUM).intValue();
     }
 
     /**
@@ -1153,12 +1273,14 @@ public class ClimatePeriodDAO extends ClimateDAO {
      * @param stationID
      * @param iType
      *            if type other than 0, filter by type 5.
+     * @param window
+     *            preloaded daily data, or null to query.
      * @return sum of fog, or the missing value.
      */
     private int getSumNumFog(ClimateDate beginDate, ClimateDate endDate,
-            int stationID, PeriodType iType) {
-        return buildElement(beginDate, endDate, stationID, iType, "wx_13",
-                "num_f", ClimateDAO.BuildElementType.SUM).intValue();
+            int stationID, PeriodType iType, DailyClimateWindow window) {
+        return buildElement(window, beginDate, endDate, stationID, iType,
+                "wx_13", "num_f", ClimateDAO.BuildElementType.SUM).intValue();
     }
 
     /**
@@ -1172,12 +1294,14 @@ public class ClimatePeriodDAO extends ClimateDAO {
      * @param stationID
      * @param iType
      *            if type other than 0, filter by type 5.
+     * @param window
+     *            preloaded daily data, or null to query.
      * @return sum of ice pellets, or the missing value.
      */
     private int getSumNumIcePellets(ClimateDate beginDate, ClimateDate endDate,
-            int stationID, PeriodType iType) {
-        return buildElement(beginDate, endDate, stationID, iType, "wx_12",
-                "num_ip", ClimateDAO.BuildElementType.SUM).intValue();
+            int stationID, PeriodType iType, DailyClimateWindow window) {
+        return buildElement(window, beginDate, endDate, stationID, iType,
+                "wx_12", "num_ip", ClimateDAO.BuildElementType.SUM).intValue();
     }
 
     /**
@@ -1191,12 +1315,14 @@ public class ClimatePeriodDAO extends ClimateDAO {
      * @param stationID
      * @param iType
      *            if type other than 0, filter by type 5.
+     * @param window
+     *            preloaded daily data, or null to query.
      * @return sum of light snow, or the missing value.
      */
     private int getSumNumLightSnow(ClimateDate beginDate, ClimateDate endDate,
-            int stationID, PeriodType iType) {
-        return buildElement(beginDate, endDate, stationID, iType, "wx_11",
-                "num_s", ClimateDAO.BuildElementType.SUM).intValue();
+            int stationID, PeriodType iType, DailyClimateWindow window) {
+        return buildElement(window, beginDate, endDate, stationID, iType,
+                "wx_11", "num_s", ClimateDAO.BuildElementType.SUM).intValue();
     }
 
     /**
@@ -1210,12 +1336,14 @@ public class ClimatePeriodDAO extends ClimateDAO {
      * @param stationID
      * @param iType
      *            if type other than 0, filter by type 5.
+     * @param window
+     *            preloaded daily data, or null to query.
      * @return sum of snow, or the missing value.
      */
     private int getSumNumSnow(ClimateDate beginDate, ClimateDate endDate,
-            int stationID, PeriodType iType) {
-        return buildElement(beginDate, endDate, stationID, iType, "wx_10",
-                "num_ss", ClimateDAO.BuildElementType.SUM).intValue();
+            int stationID, PeriodType iType, DailyClimateWindow window) {
+        return buildElement(window, beginDate, endDate, stationID, iType,
+                "wx_10", "num_ss", ClimateDAO.BuildElementType.SUM).intValue();
     }
 
     /**
@@ -1229,12 +1357,14 @@ public class ClimatePeriodDAO extends ClimateDAO {
      * @param stationID
      * @param iType
      *            if type other than 0, filter by type 5.
+     * @param window
+     *            preloaded daily data, or null to query.
      * @return sum of heavy snow, or the missing value.
      */
     private int getSumNumHeavySnow(ClimateDate beginDate, ClimateDate endDate,
-            int stationID, PeriodType iType) {
-        return buildElement(beginDate, endDate, stationID, iType, "wx_9",
-                "num_sss", ClimateDAO.BuildElementType.SUM).intValue();
+            int stationID, PeriodType iType, DailyClimateWindow window) {
+        return buildElement(window, beginDate, endDate, stationID, iType,
+                "wx_9", "num_sss", ClimateDAO.BuildElementType.SUM).intValue();
     }
 
     /**
@@ -1248,12 +1378,14 @@ public class ClimatePeriodDAO extends ClimateDAO {
      * @param stationID
      * @param iType
      *            if type other than 0, filter by type 5.
+     * @param window
+     *            preloaded daily data, or null to query.
      * @return sum of hail, or the missing value.
      */
     private int getSumNumHail(ClimateDate beginDate, ClimateDate endDate,
-            int stationID, PeriodType iType) {
-        return buildElement(beginDate, endDate, stationID, iType, "wx_8",
-                "num_a", ClimateDAO.BuildElementType.SUM).intValue();
+            int stationID, PeriodType iType, DailyClimateWindow window) {
+        return buildElement(window, beginDate, endDate, stationID, iType,
+                "wx_8", "num_a", ClimateDAO.BuildElementType.SUM).intValue();
     }
 
     /**
@@ -1268,12 +1400,15 @@ public class ClimatePeriodDAO extends ClimateDAO {
      * @param stationID
      * @param iType
      *            if type other than 0, filter by type 5.
+     * @param window
+     *            preloaded daily data, or null to query.
      * @return sum of light freezing rain, or the missing value.
      */
     private int getSumNumLightFreezingRain(ClimateDate beginDate,
-            ClimateDate endDate, int stationID, PeriodType iType) {
-        return buildElement(beginDate, endDate, stationID, iType, "wx_7",
-                "num_zr", ClimateDAO.BuildElementType.SUM).intValue();
+            ClimateDate endDate, int stationID, PeriodType iType,
+            DailyClimateWindow window) {
+        return buildElement(window, beginDate, endDate, stationID, iType,
+                "wx_7", "num_zr", ClimateDAO.BuildElementType.SUM).intValue();
     }
 
     /**
@@ -1288,12 +1423,15 @@ public class ClimatePeriodDAO extends ClimateDAO {
      * @param stationID
      * @param iType
      *            if type other than 0, filter by type 5.
+     * @param window
+     *            preloaded daily data, or null to query.
      * @return sum of freezing rain, or the missing value.
      */
     private int getSumNumFreezingRain(ClimateDate beginDate,
-            ClimateDate endDate, int stationID, PeriodType iType) {
-        return buildElement(beginDate, endDate, stationID, iType, "wx_6",
-                "num_zrr", ClimateDAO.BuildElementType.SUM).intValue();
+            ClimateDate endDate, int stationID, PeriodType iType,
+            DailyClimateWindow window) {
+        return buildElement(window, beginDate, endDate, stationID, iType,
+                "wx_6", "num_zrr", ClimateDAO.BuildElementType.SUM).intValue();
     }
 
     /**
@@ -1307,12 +1445,14 @@ public class ClimatePeriodDAO extends ClimateDAO {
      * @param stationID
      * @param iType
      *            if type other than 0, filter by type 5.
+     * @param window
+     *            preloaded daily data, or null to query.
      * @return sum of light rain, or the missing value.
      */
     private int getSumNumLightRain(ClimateDate beginDate, ClimateDate endDate,
-            int stationID, PeriodType iType) {
-        return buildElement(beginDate, endDate, stationID, iType, "wx_5",
-                "num_r", ClimateDAO.BuildElementType.SUM).intValue();
+            int stationID, PeriodType iType, DailyClimateWindow window) {
+        return buildElement(window, beginDate, endDate, stationID, iType,
+                "wx_5", "num_r", ClimateDAO.BuildElementType.SUM).intValue();
     }
 
     /**
@@ -1326,12 +1466,14 @@ public class ClimatePeriodDAO extends ClimateDAO {
      * @param stationID
      * @param iType
      *            if type other than 0, filter by type 5.
+     * @param window
+     *            preloaded daily data, or null to query.
      * @return sum of rain, or the missing value.
      */
     private int getSumNumRain(ClimateDate beginDate, ClimateDate endDate,
-            int stationID, PeriodType iType) {
-        return buildElement(beginDate, endDate, stationID, iType, "wx_4",
-                "num_rr", ClimateDAO.BuildElementType.SUM).intValue();
+            int stationID, PeriodType iType, DailyClimateWindow window) {
+        return buildElement(window, beginDate, endDate, stationID, iType,
+                "wx_4", "num_rr", ClimateDAO.BuildElementType.SUM).intValue();
     }
 
     /**
@@ -1345,12 +1487,14 @@ public class ClimatePeriodDAO extends ClimateDAO {
      * @param stationID
      * @param iType
      *            if type other than 0, filter by type 5.
+     * @param window
+     *            preloaded daily data, or null to query.
      * @return sum of heavy rain, or the missing value.
      */
     private int getSumNumHeavyRain(ClimateDate beginDate, ClimateDate endDate,
-            int stationID, PeriodType iType) {
-        return buildElement(beginDate, endDate, stationID, iType, "wx_3",
-                "num_rrr", ClimateDAO.BuildElementType.SUM).intValue();
+            int stationID, PeriodType iType, DailyClimateWindow window) {
+        return buildElement(window, beginDate, endDate, stationID, iType,
+                "wx_3", "num_rrr", ClimateDAO.BuildElementType.SUM).intValue();
     }
 
     /**
@@ -1365,12 +1509,14 @@ public class ClimatePeriodDAO extends ClimateDAO {
      * @param stationID
      * @param iType
      *            if type other than 0, filter by type 5.
+     * @param window
+     *            preloaded daily data, or null to query.
      * @return sum of mixed precip, or the missing value.
      */
     private int getSumNumMixedPrecip(ClimateDate beginDate, ClimateDate endDate,
-            int stationID, PeriodType iType) {
-        return buildElement(beginDate, endDate, stationID, iType, "wx_2",
-                "num_p", ClimateDAO.BuildElementType.SUM).intValue();
+            int stationID, PeriodType iType, DailyClimateWindow window) {
+        return buildElement(window, beginDate, endDate, stationID, iType,
+                "wx_2", "num_p", ClimateDAO.BuildElementType.SUM).intValue();
     }
 
     /**
@@ -1385,12 +1531,15 @@ public class ClimatePeriodDAO extends ClimateDAO {
      * @param stationID
      * @param iType
      *            if type other than 0, filter by type 5.
+     * @param window
+     *            preloaded daily data, or null to query.
      * @return sum of thunderstorms, or the missing value.
      */
     private int getSumNumThunderStorms(ClimateDate beginDate,
-            ClimateDate endDate, int stationID, PeriodType iType) {
-        return buildElement(beginDate, endDate, stationID, iType, "wx_1",
-                "num_t", ClimateDAO.BuildElementType.SUM).intValue();
+            ClimateDate endDate, int stationID, PeriodType iType,
+            DailyClimateWindow window) {
+        return buildElement(window, beginDate, endDate, stationID, iType,
+                "wx_1", "num_t", ClimateDAO.BuildElementType.SUM).intValue();
     }
 
     /**
@@ -1405,10 +1554,18 @@ public class ClimatePeriodDAO extends ClimateDAO {
      * @param beginDate
      * @param endDate
      * @param stationID
+     * @param window
+     *            preloaded daily data, or null to query.
      * @return number of reports with fair sky, or the missing value.
      */
     private int getNumFair(ClimateDate beginDate, ClimateDate endDate,
-            int stationID) {
+            int stationID, DailyClimateWindow window) {
+        if (window != null && window.covers(stationID, PeriodType.OTHER,
+                beginDate, endDate)) {
+            return window.countWithin(beginDate, endDate, "avg_sky_cover", 0,
+                    0.35);
+        }
+
         StringBuilder query = new StringBuilder("SELECT COUNT(*) FROM ");
         query.append(ClimateDAOValues.DAILY_CLIMATE_TABLE_NAME);
         query.append(" WHERE date >= :beginDate");
@@ -1437,10 +1594,18 @@ public class ClimatePeriodDAO extends ClimateDAO {
      * @param beginDate
      * @param endDate
      * @param stationID
+     * @param window
+     *            preloaded daily data, or null to query.
      * @return number of reports with partly cloudy sky, or the missing value.
      */
     private int getNumPartlyCloudy(ClimateDate beginDate, ClimateDate endDate,
-            int stationID) {
+            int stationID, DailyClimateWindow window) {
+        if (window != null && window.covers(stationID, PeriodType.OTHER,
+                beginDate, endDate)) {
+            return window.countWithin(beginDate, endDate, "avg_sky_cover", 0.35,
+                    0.75);
+        }
+
         StringBuilder query = new StringBuilder("SELECT COUNT(*) FROM ");
         query.append(ClimateDAOValues.DAILY_CLIMATE_TABLE_NAME);
         query.append(" WHERE date >= :beginDate");
@@ -1469,10 +1634,18 @@ public class ClimatePeriodDAO extends ClimateDAO {
      * @param beginDate
      * @param endDate
      * @param stationID
+     * @param window
+     *            preloaded daily data, or null to query.
      * @return number of reports with mostly cloudy sky, or the missing value.
      */
     private int getNumMostlyCloudy(ClimateDate beginDate, ClimateDate endDate,
-            int stationID) {
+            int stationID, DailyClimateWindow window) {
+        if (window != null && window.covers(stationID, PeriodType.OTHER,
+                beginDate, endDate)) {
+            return window.countWithin(beginDate, endDate, "avg_sky_cover", 0.75,
+                    Double.POSITIVE_INFINITY);
+        }
+
         StringBuilder query = new StringBuilder("SELECT COUNT(*) FROM ");
         query.append(ClimateDAOValues.DAILY_CLIMATE_TABLE_NAME);
         query.append(" WHERE date >= :beginDate");
@@ -1503,12 +1676,14 @@ public class ClimatePeriodDAO extends ClimateDAO {
      * @param stationID
      * @param iType
      *            if type other than 0, filter by type 5.
+     * @param window
+     *            preloaded daily data, or null to query.
      * @return Missing value if nothing could be found or the average of mean
      *         sky cover).
      */
     private float getAvgMeanSkyCover(ClimateDate beginDate, ClimateDate endDate,
-            int stationID, PeriodType iType) {
-        return buildElement(beginDate, endDate, stationID, iType,
+            int stationID, PeriodType iType, DailyClimateWindow window) {
+        return buildElement(window, beginDate, endDate, stationID, iType,
                 "avg_sky_cover", "mean_sky_cover",
                 ClimateDAO.BuildElementType.AVG,
                 (float) ParameterFormatClimate.MISSING).floatValue();
@@ -1527,13 +1702,16 @@ public class ClimatePeriodDAO extends ClimateDAO {
      * @param stationID
      * @param iType
      *            if type other than 0, filter by type 5.
+     * @param window
+     *            preloaded daily data, or null to query.
      * @return Missing value if nothing could be found or the average of
      *         possible sun (rounded).
      */
     private int getAvgPossSun(ClimateDate beginDate, ClimateDate endDate,
-            int stationID, PeriodType iType) {
-        float possSun = buildElement(beginDate, endDate, stationID, iType,
-                "percent_pos_sun", "poss_sun", ClimateDAO.BuildElementType.AVG,
+            int stationID, PeriodType iType, DailyClimateWindow window) {
+        float possSun = buildElement(window, beginDate, endDate, stationID,
+                iType, "percent_pos_sun", "poss_sun",
+                ClimateDAO.BuildElementType.AVG,
                 (float) ParameterFormatClimate.MISSING).floatValue();
 
         if (possSun == ParameterFormatClimate.MISSING) {
@@ -1745,12 +1923,15 @@ public class ClimatePeriodDAO extends ClimateDAO {
      * @param stationID
      * @param iType
      *            if type other than 0, filter by type 5.
+     * @param window
+     *            preloaded daily data, or null to query.
      * @return max gust speed, or the missing value.
      */
     private float getMaxGustSpeed(ClimateDate beginDate, ClimateDate endDate,
-            int stationID, PeriodType iType) {
-        return ((Number) buildElement(beginDate, endDate, stationID, iType,
-                "max_gust_spd", "max_gust_spd", ClimateDAO.BuildElementType.MAX,
+            int stationID, PeriodType iType, DailyClimateWindow window) {
+        return ((Number) buildElement(window, beginDate, endDate, stationID,
+                iType, "max_gust_spd", "max_gust_spd",
+                ClimateDAO.BuildElementType.MAX,
                 ParameterFormatClimate.MISSING_SPEED)).floatValue();
     }
 
@@ -1956,12 +2137,14 @@ public class ClimatePeriodDAO extends ClimateDAO {
      * @param stationID
      * @param iType
      *            if type other than 0, filter by type 5.
+     * @param window
+     *            preloaded daily data, or null to query.
      * @return max wind speed, or the missing value.
      */
     private float getMaxWindSpeed(ClimateDate beginDate, ClimateDate endDate,
-            int stationID, PeriodType iType) {
-        float value = ((Number) buildElement(beginDate, endDate, stationID,
-                iType, "max_wind_spd", "max_wind_spd",
+            int stationID, PeriodType iType, DailyClimateWindow window) {
+        float value = ((Number) buildElement(window, beginDate, endDate,
+                stationID, iType, "max_wind_spd", "max_wind_spd",
                 ClimateDAO.BuildElementType.MAX,
                 ParameterFormatClimate.MISSING_SPEED)).floatValue();
         return value;
@@ -1979,12 +2162,14 @@ public class ClimatePeriodDAO extends ClimateDAO {
      * @param stationID
      * @param iType
      *            if type other than 0, filter by type 5.
+     * @param window
+     *            preloaded daily data, or null to query.
      * @return sum of cooling degree days, or the missing value.
      */
     private int getSumCoolDegreeDays(ClimateDate beginDate, ClimateDate endDate,
-            int stationID, PeriodType iType) {
-        return buildElement(beginDate, endDate, stationID, iType, "cool",
-                "num_cool_total", ClimateDAO.BuildElementType.SUM,
+            int stationID, PeriodType iType, DailyClimateWindow window) {
+        return buildElement(window, beginDate, endDate, stationID, iType,
+                "cool", "num_cool_total", ClimateDAO.BuildElementType.SUM,
                 ParameterFormatClimate.MISSING_DEGREE_DAY).intValue();
     }
 
@@ -2000,12 +2185,14 @@ public class ClimatePeriodDAO extends ClimateDAO {
      * @param stationID
      * @param iType
      *            if type other than 0, filter by type 5.
+     * @param window
+     *            preloaded daily data, or null to query.
      * @return sum of heating degree days, or the missing value.
      */
     private int getSumHeatDegreeDays(ClimateDate beginDate, ClimateDate endDate,
-            int stationID, PeriodType iType) {
-        return buildElement(beginDate, endDate, stationID, iType, "heat",
-                "num_heat_total", ClimateDAO.BuildElementType.SUM,
+            int stationID, PeriodType iType, DailyClimateWindow window) {
+        return buildElement(window, beginDate, endDate, stationID, iType,
+                "heat", "num_heat_total", ClimateDAO.BuildElementType.SUM,
                 ParameterFormatClimate.MISSING_DEGREE_DAY).intValue();
     }
 
@@ -2124,13 +2311,16 @@ public class ClimatePeriodDAO extends ClimateDAO {
      * @param stationID
      * @param iType
      *            if type other than 0, filter by type 5.
+     * @param window
+     *            preloaded daily data, or null to query.
      * @return max snow on ground, or the missing value.
      */
     private int getMaxSnowGround(ClimateDate beginDate, ClimateDate endDate,
-            int stationID, PeriodType iType) {
-        return buildElement(beginDate, endDate, stationID, iType, "snow_ground",
-                "snow_ground_max", ClimateDAO.BuildElementType.MAX,
-                ParameterFormatClimate.MISSING_SNOW_VALUE, true).intValue();
+            int stationID, PeriodType iType, DailyClimateWindow window) {
+        return ((Number) buildElement(window, beginDate, endDate, stationID,
+                iType, "snow_ground", "snow_ground_max",
+                ClimateDAO.BuildElementType.MAX,
+                ParameterFormatClimate.MISSING_SNOW_VALUE, true)).intValue();
     }
 
     /**
@@ -2147,11 +2337,14 @@ public class ClimatePeriodDAO extends ClimateDAO {
      * @param stationID
      * @param iType
      *            if type other than 0, filter by type 5.
+     * @param window
+     *            preloaded daily data, or null to query.
      * @return Missing value if nothing could be found, the average of mean snow
      *         on ground, or trace if the average is less than 0.
      */
     private float getAvgMeanSnowOnGround(ClimateDate beginDate,
-            ClimateDate endDate, int stationID, PeriodType iType) {
+            ClimateDate endDate, int stationID, PeriodType iType,
+            DailyClimateWindow window) {
         float meanSnowOnGround;
 
         if (PeriodType.OTHER.equals(iType)) {
@@ -2159,8 +2352,8 @@ public class ClimatePeriodDAO extends ClimateDAO {
              * period 0- sum snow ground, divide by days past trace. Return
              * rounded number, or trace if rounded number < 0.
              */
-            float snowGroundSum = buildElement(beginDate, endDate, stationID,
-                    iType, "snow_ground", "snow_ground_mean",
+            float snowGroundSum = buildElement(window, beginDate, endDate,
+                    stationID, iType, "snow_ground", "snow_ground_mean",
                     ClimateDAO.BuildElementType.SUM,
                     ParameterFormatClimate.MISSING_SNOW, true).floatValue();
 
@@ -2169,18 +2362,18 @@ public class ClimatePeriodDAO extends ClimateDAO {
             } else if (snowGroundSum == ParameterFormatClimate.MISSING_SNOW) {
                 meanSnowOnGround = ParameterFormatClimate.MISSING_SNOW;
             } else {
-                meanSnowOnGround = snowGroundSum / daysPastThresh(beginDate,
-                        endDate, stationID, iType, "snow_ground",
+                meanSnowOnGround = snowGroundSum / daysPastThresh(window,
+                        beginDate, endDate, stationID, iType, "snow_ground",
                         "snow_ground_mean", ParameterFormatClimate.MISSING_SNOW,
-                        ParameterFormatClimate.TRACE, true);
+                        ParameterFormatClimate.TRACE, true, false);
             }
         } else {
             /*
              * period non-0- avg snow ground mean. Return rounded number, or
              * trace if rounded number < 0.
              */
-            meanSnowOnGround = buildElement(beginDate, endDate, stationID,
-                    iType, "snow_ground", "snow_ground_mean",
+            meanSnowOnGround = buildElement(window, beginDate, endDate,
+                    stationID, iType, "snow_ground", "snow_ground_mean",
                     ClimateDAO.BuildElementType.AVG,
                     ParameterFormatClimate.MISSING_SNOW, true).floatValue();
         }
@@ -2506,12 +2699,14 @@ public class ClimatePeriodDAO extends ClimateDAO {
      * @param stationID
      * @param iType
      *            if type other than 0, filter by type 5.
+     * @param window
+     *            preloaded daily data, or null to query.
      * @return number of reports with trace total snow, or the missing value.
      */
     private int getNumTotalSnowTrace(ClimateDate beginDate, ClimateDate endDate,
-            int stationID, PeriodType iType) {
-        return buildElementEquality(beginDate, endDate, stationID, iType,
-                "snow", "snow_total", ParameterFormatClimate.TRACE);
+            int stationID, PeriodType iType, DailyClimateWindow window) {
+        return buildElementEquality(window, beginDate, endDate, stationID,
+                iType, "snow", "snow_total", ParameterFormatClimate.TRACE);
     }
 
     /**
@@ -2558,12 +2753,14 @@ public class ClimatePeriodDAO extends ClimateDAO {
      * @param stationID
      * @param iType
      *            if type other than 0, filter by type 5.
+     * @param window
+     *            preloaded daily data, or null to query.
      * @return sum of total snow, or the missing value.
      */
     private float getSumTotalSnow(ClimateDate beginDate, ClimateDate endDate,
-            int stationID, PeriodType iType) {
-        return buildElement(beginDate, endDate, stationID, iType, "snow",
-                "snow_total", ClimateDAO.BuildElementType.SUM,
+            int stationID, PeriodType iType, DailyClimateWindow window) {
+        return buildElement(window, beginDate, endDate, stationID, iType,
+                "snow", "snow_total", ClimateDAO.BuildElementType.SUM,
                 ParameterFormatClimate.MISSING_SNOW, true).floatValue();
     }
 
@@ -2924,12 +3121,15 @@ public class ClimatePeriodDAO extends ClimateDAO {
      * @param stationID
      * @param iType
      *            if type other than 0, filter by type 5.
+     * @param window
+     *            preloaded daily data, or null to query.
      * @return number of reports with trace total precip, or the missing value.
      */
     private int getNumTotalPrecipTrace(ClimateDate beginDate,
-            ClimateDate endDate, int stationID, PeriodType iType) {
-        return buildElementEquality(beginDate, endDate, stationID, iType,
-                "precip", "precip_total", ParameterFormatClimate.TRACE);
+            ClimateDate endDate, int stationID, PeriodType iType,
+            DailyClimateWindow window) {
+        return buildElementEquality(window, beginDate, endDate, stationID,
+                iType, "precip", "precip_total", ParameterFormatClimate.TRACE);
     }
 
     /**
@@ -2986,13 +3186,16 @@ public class ClimatePeriodDAO extends ClimateDAO {
      * @param stationID
      * @param iType
      *            if type other than 0, filter by type 5.
+     * @param window
+     *            preloaded daily data, or null to query.
      * @return max of total precip, or the missing value.
      */
     private float getMaxTotalPrecip(ClimateDate beginDate, ClimateDate endDate,
-            int stationID, PeriodType iType) {
-        return buildElement(beginDate, endDate, stationID, iType, "precip",
-                "precip_total", ClimateDAO.BuildElementType.MAX,
-                ParameterFormatClimate.MISSING_PRECIP, true).floatValue();
+            int stationID, PeriodType iType, DailyClimateWindow window) {
+        return ((Number) buildElement(window, beginDate, endDate, stationID,
+                iType, "precip", "precip_total",
+                ClimateDAO.BuildElementType.MAX,
+                ParameterFormatClimate.MISSING_PRECIP, true)).floatValue();
     }
 
     /**
@@ -3007,12 +3210,14 @@ public class ClimatePeriodDAO extends ClimateDAO {
      * @param stationID
      * @param iType
      *            if type other than 0, filter by type 5.
+     * @param window
+     *            preloaded daily data, or null to query.
      * @return average of total precip, or the missing value.
      */
     private float getAvgTotalPrecip(ClimateDate beginDate, ClimateDate endDate,
-            int stationID, PeriodType iType) {
-        return buildElement(beginDate, endDate, stationID, iType, "precip",
-                "precip_total", ClimateDAO.BuildElementType.AVG,
+            int stationID, PeriodType iType, DailyClimateWindow window) {
+        return buildElement(window, beginDate, endDate, stationID, iType,
+                "precip", "precip_total", ClimateDAO.BuildElementType.AVG,
                 ParameterFormatClimate.MISSING_PRECIP, true).floatValue();
     }
 
@@ -3028,12 +3233,14 @@ public class ClimatePeriodDAO extends ClimateDAO {
      * @param stationID
      * @param iType
      *            if type other than 0, filter by type 5.
+     * @param window
+     *            preloaded daily data, or null to query.
      * @return sum of total precip, or the missing value.
      */
     private float getSumTotalPrecip(ClimateDate beginDate, ClimateDate endDate,
-            int stationID, PeriodType iType) {
-        return buildElement(beginDate, endDate, stationID, iType, "precip",
-                "precip_total", ClimateDAO.BuildElementType.SUM,
+            int stationID, PeriodType iType, DailyClimateWindow window) {
+        return buildElement(window, beginDate, endDate, stationID, iType,
+                "precip", "precip_total", ClimateDAO.BuildElementType.SUM,
                 ParameterFormatClimate.MISSING_PRECIP, true).floatValue();
     }
 
@@ -3048,12 +3255,20 @@ public class ClimatePeriodDAO extends ClimateDAO {
      * @param minTemp
      * @param iType
      *            if type other than 0, filter by type 5.
+     * @param window
+     *            preloaded daily data, or null to query.
      * @return
      * @throws ClimateQueryException
      */
     private List<ClimateDate> getMinTempOccurrences(ClimateDate beginDate,
-            ClimateDate endDate, int stationID, int minTemp, PeriodType iType)
-            throws ClimateQueryException {
+            ClimateDate endDate, int stationID, int minTemp, PeriodType iType,
+            DailyClimateWindow window) throws ClimateQueryException {
+        if (window != null
+                && window.covers(stationID, iType, beginDate, endDate)) {
+            return window.getOccurrences(beginDate, endDate, "min_temp",
+                    minTemp, false);
+        }
+
         List<ClimateDate> dates = new ArrayList<>();
 
         int expectedResultSize;
@@ -3153,8 +3368,26 @@ public class ClimatePeriodDAO extends ClimateDAO {
      */
     public int getMinMinTemp(ClimateDate beginDate, ClimateDate endDate,
             int stationID, PeriodType iType) {
-        return buildElement(beginDate, endDate, stationID, iType, "min_temp",
-                "min_temp", ClimateDAO.BuildElementType.MIN).intValue();
+        return getMinMinTemp(beginDate, endDate, stationID, iType, null);
+    }
+
+    /**
+     * Overload - with preloaded daily data.
+     * 
+     * @param beginDate
+     * @param endDate
+     * @param stationID
+     * @param iType
+     *            if type other than 0, filter by type 5.
+     * @param window
+     *            preloaded daily data, or null to query.
+     * @return minimum min temp, or the missing value.
+     */
+    private int getMinMinTemp(ClimateDate beginDate, ClimateDate endDate,
+            int stationID, PeriodType iType, DailyClimateWindow window) {
+        return buildElement(window, beginDate, endDate, stationID, iType,
+                "min_temp", "min_temp", ClimateDAO.BuildElementType.MIN)
+                .intValue();
     }
 
     /**
@@ -3168,12 +3401,20 @@ public class ClimatePeriodDAO extends ClimateDAO {
      * @param maxTemp
      * @param iType
      *            if type other than 0, filter by type 5.
+     * @param window
+     *            preloaded daily data, or null to query.
      * @return
      * @throws ClimateQueryException
      */
     private List<ClimateDate> getMaxTempOccurrences(ClimateDate beginDate,
-            ClimateDate endDate, int stationID, int maxTemp, PeriodType iType)
-            throws ClimateQueryException {
+            ClimateDate endDate, int stationID, int maxTemp, PeriodType iType,
+            DailyClimateWindow window) throws ClimateQueryException {
+        if (window != null
+                && window.covers(stationID, iType, beginDate, endDate)) {
+            return window.getOccurrences(beginDate, endDate, "max_temp",
+                    maxTemp, true);
+        }
+
         List<ClimateDate> dates = new ArrayList<>();
 
         int expectedResultSize;
@@ -3273,8 +3514,26 @@ public class ClimatePeriodDAO extends ClimateDAO {
      */
     public int getMaxMaxTemp(ClimateDate beginDate, ClimateDate endDate,
             int stationID, PeriodType iType) {
-        return buildElement(beginDate, endDate, stationID, iType, "max_temp",
-                "max_temp", ClimateDAO.BuildElementType.MAX).intValue();
+        return getMaxMaxTemp(beginDate, endDate, stationID, iType, null);
+    }
+
+    /**
+     * Overload - with preloaded daily data.
+     * 
+     * @param beginDate
+     * @param endDate
+     * @param stationID
+     * @param iType
+     *            if type other than 0, filter by type 5.
+     * @param window
+     *            preloaded daily data, or null to query.
+     * @return maximum max temp, or the missing value.
+     */
+    private int getMaxMaxTemp(ClimateDate beginDate, ClimateDate endDate,
+            int stationID, PeriodType iType, DailyClimateWindow window) {
+        return ((Number) buildElement(window, beginDate, endDate, stationID,
+                iType, "max_temp", "max_temp",
+                ClimateDAO.BuildElementType.MAX)).intValue();
     }
 
     /********************************************************************************
@@ -3454,11 +3713,13 @@ public class ClimatePeriodDAO extends ClimateDAO {
      *            period type. if type other than 0, filter by type 5.
      * @param informID
      *            station ID
+     * @param window
+     *            preloaded daily data, or null to query.
      * @return average value, or missing value
      */
     private float avgMinTemp(ClimateDate beginDate, ClimateDate endDate,
-            PeriodType iPeriodType, int informID) {
-        return buildElement(beginDate, endDate, informID, iPeriodType,
+            PeriodType iPeriodType, int informID, DailyClimateWindow window) {
+        return buildElement(window, beginDate, endDate, informID, iPeriodType,
                 "min_temp", "min_temp", ClimateDAO.BuildElementType.AVG)
                         .floatValue();
     }
@@ -3494,11 +3755,13 @@ public class ClimatePeriodDAO extends ClimateDAO {
      *            period type. if type other than 0, filter by type 5.
      * @param informID
      *            station ID
+     * @param window
+     *            preloaded daily data, or null to query.
      * @return average value, or missing value
      */
     private float avgMaxTemp(ClimateDate beginDate, ClimateDate endDate,
-            PeriodType iPeriodType, int informID) {
-        return buildElement(beginDate, endDate, informID, iPeriodType,
+            PeriodType iPeriodType, int informID, DailyClimateWindow window) {
+        return buildElement(window, beginDate, endDate, informID, iPeriodType,
                 "max_temp", "max_temp", ClimateDAO.BuildElementType.AVG)
                         .floatValue();
     }
@@ -3620,11 +3883,13 @@ public class ClimatePeriodDAO extends ClimateDAO {
      *            station ID
      * @param global
      *            global values
+     * @param window
+     *            preloaded daily data, or null to query.
      * @return sum value, or missing value
      */
     private int sumReportSnowGreaterS1(ClimateDate beginDate,
             ClimateDate endDate, PeriodType iPeriodType, int informID,
-            ClimateGlobal global) {
+            ClimateGlobal global, DailyClimateWindow window) {
         if (global == null) {
             return ParameterFormatClimate.MISSING;
         }
@@ -3636,17 +3901,17 @@ public class ClimatePeriodDAO extends ClimateDAO {
         }
 
         if (s1 < -0.05) {
-            return daysPastThresh(beginDate, endDate, informID, iPeriodType,
-                    "snow", "snow_total", ParameterFormatClimate.MISSING_SNOW,
-                    0.05, true, true)
-                    + daysPastThresh(beginDate, endDate, informID, iPeriodType,
-                            "snow", "snow_total",
+            return daysPastThresh(window, beginDate, endDate, informID,
+                    iPeriodType, "snow", "snow_total",
+                    ParameterFormatClimate.MISSING_SNOW, 0.05, true, true)
+                    + daysPastThresh(window, beginDate, endDate, informID,
+                            iPeriodType, "snow", "snow_total",
                             ParameterFormatClimate.MISSING_SNOW, -0.05, false,
                             true);
         } else {
-            return daysPastThresh(beginDate, endDate, informID, iPeriodType,
-                    "snow", "snow_total", ParameterFormatClimate.MISSING_SNOW,
-                    s1, true, true);
+            return daysPastThresh(window, beginDate, endDate, informID,
+                    iPeriodType, "snow", "snow_total",
+                    ParameterFormatClimate.MISSING_SNOW, s1, true, true);
         }
     }
 
@@ -3700,13 +3965,16 @@ public class ClimatePeriodDAO extends ClimateDAO {
      *            period type. if type other than 0, filter by type 5.
      * @param informID
      *            station ID
+     * @param window
+     *            preloaded daily data, or null to query.
      * @return sum value, or missing value
      */
     private int sumReportSnowGreater1(ClimateDate beginDate,
-            ClimateDate endDate, PeriodType iPeriodType, int informID) {
-        return daysPastThresh(beginDate, endDate, informID, iPeriodType, "snow",
-                "snow_total", ParameterFormatClimate.MISSING_SNOW, 1, true,
-                true);
+            ClimateDate endDate, PeriodType iPeriodType, int informID,
+            DailyClimateWindow window) {
+        return daysPastThresh(window, beginDate, endDate, informID, iPeriodType,
+                "snow", "snow_total", ParameterFormatClimate.MISSING_SNOW, 1,
+                true, true);
     }
 
     /**
@@ -3759,15 +4027,18 @@ public class ClimatePeriodDAO extends ClimateDAO {
      *            period type. if type other than 0, filter by type 5.
      * @param informID
      *            station ID
+     * @param window
+     *            preloaded daily data, or null to query.
      * @return sum value, or missing value
      */
     private int sumReportSnowGreaterTR(ClimateDate beginDate,
-            ClimateDate endDate, PeriodType iPeriodType, int informID) {
-        return daysPastThresh(beginDate, endDate, informID, iPeriodType, "snow",
-                "snow_total", ParameterFormatClimate.MISSING_SNOW,
+            ClimateDate endDate, PeriodType iPeriodType, int informID,
+            DailyClimateWindow window) {
+        return daysPastThresh(window, beginDate, endDate, informID, iPeriodType,
+                "snow", "snow_total", ParameterFormatClimate.MISSING_SNOW,
                 ParameterFormatClimate.TRACE, false, true)
-                + daysPastThresh(beginDate, endDate, informID, iPeriodType,
-                        "snow", "snow_total",
+                + daysPastThresh(window, beginDate, endDate, informID,
+                        iPeriodType, "snow", "snow_total",
                         ParameterFormatClimate.MISSING_SNOW, 0.001, true, true);
     }
 
@@ -3858,11 +4129,13 @@ public class ClimatePeriodDAO extends ClimateDAO {
      *            station ID
      * @param global
      *            global values.
+     * @param window
+     *            preloaded daily data, or null to query.
      * @return sum value, or missing value
      */
     private int sumReportPrecipGreaterP2(ClimateDate beginDate,
             ClimateDate endDate, PeriodType iPeriodType, int informID,
-            ClimateGlobal global) {
+            ClimateGlobal global, DailyClimateWindow window) {
         if (global == null) {
             return ParameterFormatClimate.MISSING;
         }
@@ -3870,7 +4143,7 @@ public class ClimatePeriodDAO extends ClimateDAO {
         float p2 = global.getP2();
 
         return sumReportPrecipGreater(beginDate, endDate, iPeriodType, informID,
-                p2);
+                p2, window);
     }
 
     /**
@@ -3925,11 +4198,13 @@ public class ClimatePeriodDAO extends ClimateDAO {
      *            station ID
      * @param global
      *            global values.
+     * @param window
+     *            preloaded daily data, or null to query.
      * @return sum value, or missing value
      */
     private int sumReportPrecipGreaterP1(ClimateDate beginDate,
             ClimateDate endDate, PeriodType iPeriodType, int informID,
-            ClimateGlobal global) {
+            ClimateGlobal global, DailyClimateWindow window) {
         if (global == null) {
             return ParameterFormatClimate.MISSING;
         }
@@ -3937,7 +4212,7 @@ public class ClimatePeriodDAO extends ClimateDAO {
         float p1 = global.getP1();
 
         return sumReportPrecipGreater(beginDate, endDate, iPeriodType, informID,
-                p1);
+                p1, window);
     }
 
     /**
@@ -3953,11 +4228,13 @@ public class ClimatePeriodDAO extends ClimateDAO {
      * @param informID
      * @param p
      *            custom inches value.
+     * @param window
+     *            preloaded daily data, or null to query.
      * @return
      */
     private int sumReportPrecipGreater(ClimateDate beginDate,
             ClimateDate endDate, PeriodType iPeriodType, int informID,
-            float p) {
+            float p, DailyClimateWindow window) {
         if (p == ParameterFormatClimate.MISSING_PRECIP) {
             return ParameterFormatClimate.MISSING;
         }
@@ -3965,16 +4242,16 @@ public class ClimatePeriodDAO extends ClimateDAO {
         // Trace values represent a special case, because value is stored in
         // database as -1.
         if (p < -0.005) {
-            return daysPastThresh(beginDate, endDate, informID, iPeriodType,
-                    "precip", "precip_total",
+            return daysPastThresh(window, beginDate, endDate, informID,
+                    iPeriodType, "precip", "precip_total",
                     ParameterFormatClimate.MISSING_PRECIP, 0.005, true, true)
-                    + daysPastThresh(beginDate, endDate, informID, iPeriodType,
-                            "precip", "precip_total",
+                    + daysPastThresh(window, beginDate, endDate, informID,
+                            iPeriodType, "precip", "precip_total",
                             ParameterFormatClimate.MISSING_PRECIP, -0.005,
                             false, true);
         } else {
-            return daysPastThresh(beginDate, endDate, informID, iPeriodType,
-                    "precip", "precip_total",
+            return daysPastThresh(window, beginDate, endDate, informID,
+                    iPeriodType, "precip", "precip_total",
                     ParameterFormatClimate.MISSING_PRECIP, p, true, true);
         }
     }
@@ -4029,12 +4306,15 @@ public class ClimatePeriodDAO extends ClimateDAO {
      *            period type. if type other than 0, filter by type 5.
      * @param informID
      *            station ID
+     * @param window
+     *            preloaded daily data, or null to query.
      * @return sum value, or missing value
      */
     private int sumReportPrecipGreater100(ClimateDate beginDate,
-            ClimateDate endDate, PeriodType iPeriodType, int informID) {
+            ClimateDate endDate, PeriodType iPeriodType, int informID,
+            DailyClimateWindow window) {
         return sumReportPrecipGreater(beginDate, endDate, iPeriodType, informID,
-                1);
+                1, window);
     }
 
     /**
@@ -4087,12 +4367,15 @@ public class ClimatePeriodDAO extends ClimateDAO {
      *            period type. if type other than 0, filter by type 5.
      * @param informID
      *            station ID
+     * @param window
+     *            preloaded daily data, or null to query.
      * @return sum value, or missing value
      */
     private int sumReportPrecipGreater50(ClimateDate beginDate,
-            ClimateDate endDate, PeriodType iPeriodType, int informID) {
+            ClimateDate endDate, PeriodType iPeriodType, int informID,
+            DailyClimateWindow window) {
         return sumReportPrecipGreater(beginDate, endDate, iPeriodType, informID,
-                0.5f);
+                0.5f, window);
     }
 
     /**
@@ -4145,12 +4428,15 @@ public class ClimatePeriodDAO extends ClimateDAO {
      *            period type. if type other than 0, filter by type 5.
      * @param informID
      *            station ID
+     * @param window
+     *            preloaded daily data, or null to query.
      * @return sum value, or missing value
      */
     private int sumReportPrecipGreater10(ClimateDate beginDate,
-            ClimateDate endDate, PeriodType iPeriodType, int informID) {
+            ClimateDate endDate, PeriodType iPeriodType, int informID,
+            DailyClimateWindow window) {
         return sumReportPrecipGreater(beginDate, endDate, iPeriodType, informID,
-                0.1f);
+                0.1f, window);
     }
 
     /**
@@ -4203,12 +4489,15 @@ public class ClimatePeriodDAO extends ClimateDAO {
      *            period type. if type other than 0, filter by type 5.
      * @param informID
      *            station ID
+     * @param window
+     *            preloaded daily data, or null to query.
      * @return sum value, or missing value
      */
     private int sumReportPrecipGreater01(ClimateDate beginDate,
-            ClimateDate endDate, PeriodType iPeriodType, int informID) {
+            ClimateDate endDate, PeriodType iPeriodType, int informID,
+            DailyClimateWindow window) {
         return sumReportPrecipGreater(beginDate, endDate, iPeriodType, informID,
-                0.01f);
+                0.01f, window);
     }
 
     /**
@@ -4263,11 +4552,13 @@ public class ClimatePeriodDAO extends ClimateDAO {
      *            station ID
      * @param global
      *            global values
+     * @param window
+     *            preloaded daily data, or null to query.
      * @return sum value, or missing value
      */
     private int sumReportMinTempLessT6F(ClimateDate beginDate,
             ClimateDate endDate, PeriodType iPeriodType, int informID,
-            ClimateGlobal global) {
+            ClimateGlobal global, DailyClimateWindow window) {
         if (global == null) {
             return ParameterFormatClimate.MISSING;
         }
@@ -4278,7 +4569,7 @@ public class ClimatePeriodDAO extends ClimateDAO {
             return ParameterFormatClimate.MISSING;
         }
 
-        return daysPastThresh(beginDate, endDate, informID, iPeriodType,
+        return daysPastThresh(window, beginDate, endDate, informID, iPeriodType,
                 "min_temp", "min_temp", t6, false);
     }
 
@@ -4334,11 +4625,13 @@ public class ClimatePeriodDAO extends ClimateDAO {
      *            station ID
      * @param global
      *            global values
+     * @param window
+     *            preloaded daily data, or null to query.
      * @return sum value, or missing value
      */
     private int sumReportMinTempLessT5F(ClimateDate beginDate,
             ClimateDate endDate, PeriodType iPeriodType, int informID,
-            ClimateGlobal global) {
+            ClimateGlobal global, DailyClimateWindow window) {
         if (global == null) {
             return ParameterFormatClimate.MISSING;
         }
@@ -4349,7 +4642,7 @@ public class ClimatePeriodDAO extends ClimateDAO {
             return ParameterFormatClimate.MISSING;
         }
 
-        return daysPastThresh(beginDate, endDate, informID, iPeriodType,
+        return daysPastThresh(window, beginDate, endDate, informID, iPeriodType,
                 "min_temp", "min_temp", t5, false);
     }
 
@@ -4405,11 +4698,13 @@ public class ClimatePeriodDAO extends ClimateDAO {
      *            station ID
      * @param global
      *            global values
+     * @param window
+     *            preloaded daily data, or null to query.
      * @return sum value, or missing value
      */
     private int sumReportMinTempGreaterT4F(ClimateDate beginDate,
             ClimateDate endDate, PeriodType iPeriodType, int informID,
-            ClimateGlobal global) {
+            ClimateGlobal global, DailyClimateWindow window) {
         if (global == null) {
             return ParameterFormatClimate.MISSING;
         }
@@ -4420,7 +4715,7 @@ public class ClimatePeriodDAO extends ClimateDAO {
             return ParameterFormatClimate.MISSING;
         }
 
-        return daysPastThresh(beginDate, endDate, informID, iPeriodType,
+        return daysPastThresh(window, beginDate, endDate, informID, iPeriodType,
                 "min_temp", "min_temp", t4, true);
     }
 
@@ -4474,11 +4769,14 @@ public class ClimatePeriodDAO extends ClimateDAO {
      *            period type. if type other than 0, filter by type 5.
      * @param informID
      *            station ID
+     * @param window
+     *            preloaded daily data, or null to query.
      * @return sum value, or missing value
      */
     private int sumReportMinTempLess0F(ClimateDate beginDate,
-            ClimateDate endDate, PeriodType iPeriodType, int informID) {
-        return daysPastThresh(beginDate, endDate, informID, iPeriodType,
+            ClimateDate endDate, PeriodType iPeriodType, int informID,
+            DailyClimateWindow window) {
+        return daysPastThresh(window, beginDate, endDate, informID, iPeriodType,
                 "min_temp", "min_temp", 0, false);
     }
 
@@ -4532,11 +4830,14 @@ public class ClimatePeriodDAO extends ClimateDAO {
      *            period type. if type other than 0, filter by type 5.
      * @param informID
      *            station ID
+     * @param window
+     *            preloaded daily data, or null to query.
      * @return sum value, or missing value
      */
     private int sumReportMinTempLess32F(ClimateDate beginDate,
-            ClimateDate endDate, PeriodType iPeriodType, int informID) {
-        return daysPastThresh(beginDate, endDate, informID, iPeriodType,
+            ClimateDate endDate, PeriodType iPeriodType, int informID,
+            DailyClimateWindow window) {
+        return daysPastThresh(window, beginDate, endDate, informID, iPeriodType,
                 "min_temp", "min_temp", 32, false);
     }
 
@@ -4592,11 +4893,13 @@ public class ClimatePeriodDAO extends ClimateDAO {
      *            station ID
      * @param global
      *            global values.
+     * @param window
+     *            preloaded daily data, or null to query.
      * @return sum value, or missing value
      */
     private int sumReportMaxTempLessT3F(ClimateDate beginDate,
             ClimateDate endDate, PeriodType iPeriodType, int informID,
-            ClimateGlobal global) {
+            ClimateGlobal global, DailyClimateWindow window) {
         if (global == null) {
             return ParameterFormatClimate.MISSING;
         }
@@ -4607,7 +4910,7 @@ public class ClimatePeriodDAO extends ClimateDAO {
             return ParameterFormatClimate.MISSING;
         }
 
-        return daysPastThresh(beginDate, endDate, informID, iPeriodType,
+        return daysPastThresh(window, beginDate, endDate, informID, iPeriodType,
                 "max_temp", "max_temp", t3, false);
     }
 
@@ -4663,11 +4966,13 @@ public class ClimatePeriodDAO extends ClimateDAO {
      *            station ID
      * @param global
      *            global values.
+     * @param window
+     *            preloaded daily data, or null to query.
      * @return sum value, or missing value
      */
     private int sumReportMaxTempGreaterT2F(ClimateDate beginDate,
             ClimateDate endDate, PeriodType iPeriodType, int informID,
-            ClimateGlobal global) {
+            ClimateGlobal global, DailyClimateWindow window) {
         if (global == null) {
             return ParameterFormatClimate.MISSING;
         }
@@ -4678,7 +4983,7 @@ public class ClimatePeriodDAO extends ClimateDAO {
             return ParameterFormatClimate.MISSING;
         }
 
-        return daysPastThresh(beginDate, endDate, informID, iPeriodType,
+        return daysPastThresh(window, beginDate, endDate, informID, iPeriodType,
                 "max_temp", "max_temp", t2, true);
     }
 
@@ -4734,11 +5039,13 @@ public class ClimatePeriodDAO extends ClimateDAO {
      *            station ID
      * @param global
      *            global values.
+     * @param window
+     *            preloaded daily data, or null to query.
      * @return sum value, or missing value
      */
     private int sumReportMaxTempGreaterT1F(ClimateDate beginDate,
             ClimateDate endDate, PeriodType iPeriodType, int informID,
-            ClimateGlobal global) {
+            ClimateGlobal global, DailyClimateWindow window) {
         if (global == null) {
             return ParameterFormatClimate.MISSING;
         }
@@ -4749,7 +5056,7 @@ public class ClimatePeriodDAO extends ClimateDAO {
             return ParameterFormatClimate.MISSING;
         }
 
-        return daysPastThresh(beginDate, endDate, informID, iPeriodType,
+        return daysPastThresh(window, beginDate, endDate, informID, iPeriodType,
                 "max_temp", "max_temp", t1, true);
     }
 
@@ -4803,11 +5110,14 @@ public class ClimatePeriodDAO extends ClimateDAO {
      *            period type. if type other than 0, filter by type 5.
      * @param informID
      *            station ID
+     * @param window
+     *            preloaded daily data, or null to query.
      * @return sum value, or missing value
      */
     private int sumReportMaxTempLess32F(ClimateDate beginDate,
-            ClimateDate endDate, PeriodType iPeriodType, int informID) {
-        return daysPastThresh(beginDate, endDate, informID, iPeriodType,
+            ClimateDate endDate, PeriodType iPeriodType, int informID,
+            DailyClimateWindow window) {
+        return daysPastThresh(window, beginDate, endDate, informID, iPeriodType,
                 "max_temp", "max_temp", 32, false);
     }
 
@@ -4861,11 +5171,14 @@ public class ClimatePeriodDAO extends ClimateDAO {
      *            period type. if type other than 0, filter by type 5.
      * @param informID
      *            station ID
+     * @param window
+     *            preloaded daily data, or null to query.
      * @return sum value, or missing value
      */
     private int sumReportMaxTempGreater90F(ClimateDate beginDate,
-            ClimateDate endDate, PeriodType iPeriodType, int informID) {
-        return daysPastThresh(beginDate, endDate, informID, iPeriodType,
+            ClimateDate endDate, PeriodType iPeriodType, int informID,
+            DailyClimateWindow window) {
+        return daysPastThresh(window, beginDate, endDate, informID, iPeriodType,
                 "max_temp", "max_temp", 90, true);
     }
 
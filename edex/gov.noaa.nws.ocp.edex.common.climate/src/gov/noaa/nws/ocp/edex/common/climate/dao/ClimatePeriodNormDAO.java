@@ -36,6 +36,9 @@ import gov.noaa.nws.ocp.common.dataplugin.climate.util.ClimateUtilities;
  *                                     reduce duplicate code.
  * 08 SEP 2017  37809      amoore      For queries, cast to Number rather than specific number type.
  * 15 SEP 2017  38014      amoore      Address index out of bounds error.
+ * 17 OCT 2026             agent       Sum historical normals from ClimateNormsStore.
+ * 17 OCT 2026             agent       Sum normals in float; query methods package
+ *                                     private for ClimateNormsStoreTest.
  * </pre>
  * 
  * @author amoore
@@ -1180,6 +1183,37 @@ public class ClimatePeriodNormDAO extends ClimateDAO {
     
     public float monthlySums(int beginDate, int endDate, int numMos,
             int stationId, String colName) {
+        ClimateNormsStore store = ClimateNormsStore.hasMonthColumn(colName)
+                ? ClimateNormsStore.get(this, stationId) : null;
+        if (store == null) {
+            return queryMonthlySums(beginDate, endDate, numMos, stationId,
+                    colName);
+        }
+
+        ClimateNormsStore.Range months = store.months(beginDate, endDate,
+                endDate < beginDate);
+        if (months.count(colName, ParameterFormatClimate.MISSING,
+                ParameterFormatClimate.TRACE) != numMos) {
+            return ParameterFormatClimate.MISSING;
+        }
+        Float sum = months.sum(colName, ParameterFormatClimate.MISSING,
+                ParameterFormatClimate.TRACE);
+        return sum == null ? ParameterFormatClimate.MISSING : sum.intValue();
+    }
+
+    /**
+     * {@link #monthlySums(int, int, int, int, String)} with queries, for
+     * columns not in the normals store or if it could not be loaded.
+     * 
+     * @param beginDate
+     * @param endDate
+     * @param numMos
+     * @param stationId
+     * @param colName
+     * @return
+     */
+    float queryMonthlySums(int beginDate, int endDate, int numMos,
+            int stationId, String colName) {
         StringBuilder ecStmt;
         /* Build statements */
         if (endDate < beginDate) {
@@ -1299,6 +1333,25 @@ public class ClimatePeriodNormDAO extends ClimateDAO {
     
     public int sumHisCool(ClimateDate beginDate, ClimateDate endDate,
             int stationId) {
+        ClimateNormsStore store = getNormsStore(beginDate, endDate,
+                stationId);
+        if (store == null) {
+            return querySumHisCool(beginDate, endDate, stationId);
+        }
+        return sumHisDegreeDays(store, beginDate, endDate, true);
+    }
+
+    /**
+     * {@link #sumHisCool(ClimateDate, ClimateDate, int)} with queries, if the
+     * normals store could not be loaded. Reference for the store logic.
+     * 
+     * @param beginDate
+     * @param endDate
+     * @param stationId
+     * @return
+     */
+    int querySumHisCool(ClimateDate beginDate, ClimateDate endDate,
+            int stationId) {
         int tempSum = 0;
 
         /* Converting the input date structure to a character string */
@@ -1824,6 +1877,25 @@ public class ClimatePeriodNormDAO extends ClimateDAO {
     
     public int sumHisHeat(ClimateDate beginDate, ClimateDate endDate,
             int stationId) {
+        ClimateNormsStore store = getNormsStore(beginDate, endDate,
+                stationId);
+        if (store == null) {
+            return querySumHisHeat(beginDate, endDate, stationId);
+        }
+        return sumHisDegreeDays(store, beginDate, endDate, false);
+    }
+
+    /**
+     * {@link #sumHisHeat(ClimateDate, ClimateDate, int)} with queries, if the
+     * normals store could not be loaded. Reference for the store logic.
+     * 
+     * @param beginDate
+     * @param endDate
+     * @param stationId
+     * @return
+     */
+    int querySumHisHeat(ClimateDate beginDate, ClimateDate endDate,
+            int stationId) {
         int tempSum = 0;
 
         /* Converting the inputed date structure to a character string */
@@ -2334,6 +2406,26 @@ public class ClimatePeriodNormDAO extends ClimateDAO {
     
     public float sumHisSnow(ClimateDate beginDate, ClimateDate endDate,
             int stationId) {
+        ClimateNormsStore store = getNormsStore(beginDate, endDate,
+                stationId);
+        if (store == null) {
+            return querySumHisSnow(beginDate, endDate, stationId);
+        }
+        return sumHisAmount(store, beginDate, endDate, "snow_mean", "snow_pd_mean",
+                ParameterFormatClimate.MISSING_SNOW);
+    }
+
+    /**
+     * {@link #sumHisSnow(ClimateDate, ClimateDate, int)} with queries, if the
+     * normals store could not be loaded. Reference for the store logic.
+     * 
+     * @param beginDate
+     * @param endDate
+     * @param stationId
+     * @return
+     */
+    float querySumHisSnow(ClimateDate beginDate, ClimateDate endDate,
+            int stationId) {
         float tempSum = 0.f;
         float sumSnow = ParameterFormatClimate.MISSING_SNOW;
 
@@ -2936,6 +3028,26 @@ public class ClimatePeriodNormDAO extends ClimateDAO {
     
     public float sumHisPrecip(ClimateDate beginDate, ClimateDate endDate,
             int stationId) {
+        ClimateNormsStore store = getNormsStore(beginDate, endDate,
+                stationId);
+        if (store == null) {
+            return querySumHisPrecip(beginDate, endDate, stationId);
+        }
+        return sumHisAmount(store, beginDate, endDate, "precip_mean", "precip_pd_mean",
+                ParameterFormatClimate.MISSING_PRECIP);
+    }
+
+    /**
+     * {@link #sumHisPrecip(ClimateDate, ClimateDate, int)} with queries, if the
+     * normals store could not be loaded. Reference for the store logic.
+     * 
+     * @param beginDate
+     * @param endDate
+     * @param stationId
+     * @return
+     */
+    float querySumHisPrecip(ClimateDate beginDate, ClimateDate endDate,
+            int stationId) {
         float tempSum = 0.f;
         float sumPrecip = ParameterFormatClimate.MISSING_PRECIP;
 
@@ -3535,6 +3647,277 @@ public class ClimatePeriodNormDAO extends ClimateDAO {
         return sumPrecip;
     }
 
+    /**
+     * @param beginDate
+     * @param endDate
+     * @param stationId
+     * @return the normals store of the station, or null if the dates are not
+     *         valid days of year or the store could not be loaded, in which
+     *         case normals should be queried instead.
+     */
+    private ClimateNormsStore getNormsStore(ClimateDate beginDate,
+            ClimateDate endDate, int stationId) {
+        if ((ClimateNormsStore.getDaySlot(beginDate) < 0)
+                || (ClimateNormsStore.getDaySlot(endDate) < 0)) {
+            return null;
+        }
+        return ClimateNormsStore.get(this, stationId);
+    }
+
+    /**
+     * Sum of cooling or heating degree day normals from the normals store,
+     * following {@link #querySumHisCool(ClimateDate, ClimateDate, int)} and
+     * {@link #querySumHisHeat(ClimateDate, ClimateDate, int)}.
+     * 
+     * @param store
+     * @param beginDate
+     * @param endDate
+     * @param cooling
+     *            true for cooling, false for heating degree days.
+     * @return
+     */
+    private static int sumHisDegreeDays(ClimateNormsStore store,
+            ClimateDate beginDate, ClimateDate endDate, boolean cooling) {
+        String dayColumn = cooling ? "cool_day_mean" : "heat_day_mean";
+        String monthColumn = cooling ? "cool_pd_mean" : "heat_pd_mean";
+        int missing = ParameterFormatClimate.MISSING_DEGREE_DAY;
+
+        boolean wrap = endDate.getMon() < beginDate.getMon();
+        int beginDay = ClimateNormsStore.getDaySlot(beginDate);
+        int endDay = ClimateNormsStore.getDaySlot(endDate);
+        int monthBeginDay = ClimateNormsStore.getDaySlot(endDate.getMon(), 1);
+
+        /*
+         * The begin date of the sum must be the first of the month to take
+         * advantage of the monthly norms, otherwise, skip directly to using the
+         * daily norms only.
+         */
+        int tempSum = 0;
+        boolean dailiesOnly = false;
+        int numMos = 0;
+        if (beginDate.getDay() == 1) {
+            if (wrap) {
+                numMos = ((12 - beginDate.getMon()) + 1)
+                        + (endDate.getMon() - 1);
+            } else {
+                numMos = endDate.getMon() - beginDate.getMon();
+            }
+        } else {
+            dailiesOnly = true;
+        }
+
+        if (!dailiesOnly) {
+            /* Sum the monthly norms of the full months before the last one */
+            if (numMos != 0) {
+                ClimateNormsStore.Range fullMonths = store.months(
+                        beginDate.getMon(), endDate.getMon() - 1, wrap);
+                if (fullMonths.count(monthColumn, missing) == numMos) {
+                    tempSum = fullMonths.sum(monthColumn, missing).intValue();
+                } else {
+                    dailiesOnly = true;
+                }
+            }
+
+            /*
+             * Add the monthly norm of the last month if the span covers all of
+             * it, or else its daily norms.
+             */
+            Float lastMonth;
+            if (endDate.getDay() >= MAX_DAYS_PER_MONTH[endDate.getMon() - 1]) {
+                lastMonth = store.months(endDate.getMon(), endDate.getMon(),
+                        false).sum(monthColumn, missing);
+            } else {
+                lastMonth = store.days(monthBeginDay, endDay, false, false)
+                        .sum(dayColumn, missing);
+            }
+            if (lastMonth != null) {
+                tempSum += lastMonth.intValue();
+            } else {
+                dailiesOnly = true;
+            }
+        }
+
+        int sum = dailiesOnly ? missing : tempSum;
+
+        if (dailiesOnly) {
+            ClimateNormsStore.Range days = store.days(beginDay, endDay, wrap,
+                    true);
+            if (days.count(dayColumn, missing) != 0) {
+                Float daySum = days.sum(dayColumn, missing);
+                if (daySum != null) {
+                    sum = daySum.intValue();
+                }
+            } else {
+                /*
+                 * No daily degree day norms, so calculate the degree days from
+                 * the daily normal max and min temperatures
+                 */
+                String[] temps = { "max_temp_mean", "min_temp_mean" };
+                int ecCountTemp = days.count(temps,
+                        ParameterFormatClimate.MISSING);
+                if (ecCountTemp == 0) {
+                    return missing;
+                }
+                float sumMax = days.sum("max_temp_mean", temps,
+                        ParameterFormatClimate.MISSING).intValue();
+                float sumMin = days.sum("min_temp_mean", temps,
+                        ParameterFormatClimate.MISSING).intValue();
+
+                float sumTemp65 = ecCountTemp * 65.f;
+                float avgTemp = (sumMax + sumMin) / 2.f;
+                int iavg = (int) avgTemp;
+                if ((avgTemp - iavg) >= 0.5) {
+                    iavg = iavg + 1;
+                }
+
+                if (cooling) {
+                    sum = iavg > sumTemp65 ? (int) (iavg - sumTemp65) : 0;
+                } else {
+                    sum = sumTemp65 > iavg ? (int) (sumTemp65 - iavg) : 0;
+                }
+            }
+        }
+
+        /*
+         * During leap years, add the Feb 29th normal when the span ends on it.
+         * As with the queries, cooling adds it to daily sums only, and heating
+         * to monthly sums as well.
+         */
+        if ((dailiesOnly || !cooling)
+                && (beginDate.isLeapYear() || endDate.isLeapYear())
+                && (endDate.getMon() == 2) && (endDate.getDay() == 29)
+                && (sum != missing)) {
+            Float leapDay = store.days(ClimateNormsStore.LEAP_DAY,
+                    ClimateNormsStore.LEAP_DAY, false, false)
+                    .sum(dayColumn, missing);
+            if (leapDay != null) {
+                sum += leapDay.intValue();
+            }
+        }
+
+        return sum;
+    }
+
+    /**
+     * Sum of snowfall or precipitation normals from the normals store,
+     * following {@link #querySumHisSnow(ClimateDate, ClimateDate, int)} and
+     * {@link #querySumHisPrecip(ClimateDate, ClimateDate, int)}.
+     * 
+     * @param store
+     * @param beginDate
+     * @param endDate
+     * @param dayColumn
+     *            daily normals column.
+     * @param monthColumn
+     *            monthly normals column.
+     * @param missing
+     *            missing value of the columns.
+     * @return
+     */
+    private static float sumHisAmount(ClimateNormsStore store,
+            ClimateDate beginDate, ClimateDate endDate, String dayColumn,
+            String monthColumn, float missing) {
+        float trace = ParameterFormatClimate.TRACE;
+
+        boolean wrap = endDate.getMon() < beginDate.getMon();
+        int beginDay = ClimateNormsStore.getDaySlot(beginDate);
+        int endDay = ClimateNormsStore.getDaySlot(endDate);
+        int monthBeginDay = ClimateNormsStore.getDaySlot(endDate.getMon(), 1);
+
+        /*
+         * 0 to use monthly norms for full months, 1 to use daily norms only,
+         * and 2 if the span is within one month.
+         */
+        int dailiesOnly = 0;
+        int numMos = 0;
+        if (beginDate.getDay() == 1) {
+            if (wrap) {
+                numMos = ((12 - beginDate.getMon()) + 1)
+                        + (endDate.getMon() - 1);
+            } else {
+                numMos = endDate.getMon() - beginDate.getMon();
+            }
+        } else {
+            dailiesOnly = 1;
+        }
+
+        if (numMos == 0) {
+            dailiesOnly = 2;
+        }
+
+        float tempSum = 0.f;
+        ClimateNormsStore.Range fullMonths = store.months(beginDate.getMon(),
+                endDate.getMon() - 1, wrap);
+        if ((dailiesOnly == 0)
+                && (fullMonths.countEqual(monthColumn, missing) > 0)) {
+            dailiesOnly = 1;
+        }
+
+        if (dailiesOnly == 0) {
+            /* A sum of 0 with trace months is a trace */
+            Float monthSum = fullMonths.sum(monthColumn, trace);
+            if (monthSum == null) {
+                tempSum = trace;
+            } else if (ClimateUtilities.floatingEquals(monthSum.floatValue(),
+                    0)) {
+                tempSum = fullMonths.countEqual(monthColumn, trace) > 0
+                        ? trace : 0.f;
+            } else {
+                tempSum = monthSum.floatValue();
+            }
+        }
+
+        if (dailiesOnly != 1) {
+            float lastMonth;
+            if (endDate.getDay() >= MAX_DAYS_PER_MONTH[endDate.getMon() - 1]) {
+                /* The span covers all of the last month */
+                Float monthValue = store
+                        .months(endDate.getMon(), endDate.getMon(), false)
+                        .sum(monthColumn);
+                if (monthValue == null) {
+                    return missing;
+                }
+                lastMonth = monthValue.floatValue();
+                if ((dailiesOnly == 2) && ClimateUtilities
+                        .floatingEquals(lastMonth, missing)) {
+                    return missing;
+                }
+            } else {
+                Float daySum = store.days(monthBeginDay, endDay, false, true)
+                        .sum(dayColumn, missing, trace);
+                lastMonth = daySum == null ? 0 : daySum.floatValue();
+                if (ClimateUtilities.floatingEquals(lastMonth, 0)
+                        && (store.days(monthBeginDay, endDay, false, false)
+                                .countEqual(dayColumn, trace) > 0)) {
+                    lastMonth = trace;
+                }
+            }
+
+            if (ClimateUtilities.floatingEquals(tempSum, trace)
+                    && (lastMonth > 0.0f)) {
+                tempSum = lastMonth;
+            } else if (ClimateUtilities.floatingEquals(lastMonth, trace)
+                    && ClimateUtilities.floatingEquals(tempSum, 0.0f)) {
+                tempSum = trace;
+            } else if (lastMonth > trace) {
+                tempSum += lastMonth;
+            }
+            return tempSum;
+        }
+
+        /* Daily norms only. A sum of 0 with trace days is a trace */
+        Float daySum = store.days(beginDay, endDay, wrap, true).sum(dayColumn,
+                missing, trace);
+        boolean traceDays = store.days(beginDay, endDay, wrap, false)
+                .countEqual(dayColumn, trace) > 0;
+        if (daySum == null) {
+            return traceDays ? trace : missing;
+        } else if (ClimateUtilities.floatingEquals(daySum.floatValue(), 0)) {
+            return traceDays ? trace : 0.f;
+        }
+        return daySum.floatValue();
+    }
+
      /**
      * Migrated from check_period_records.ec.
      * 
@@ -0,0 +1,159 @@
+/**
+ * This software was developed and / or modified by NOAA/NWS/OCP/ASDT
+ **/
+package gov.noaa.nws.ocp.edex.common.climate.dao;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.raytheon.uf.common.status.IUFStatusHandler;
+import com.raytheon.uf.common.status.UFStatus;
+import com.raytheon.uf.common.time.util.TimeUtil;
+
+import gov.noaa.nws.ocp.common.dataplugin.climate.Station;
+import gov.noaa.nws.ocp.common.dataplugin.climate.exception.ClimateQueryException;
+
+/**
+ * In-memory map of station code (ICAO) to station ID (inform ID) for the
+ * stations in cli_sta_setup, loaded from
+ * {@link ClimateStationsSetupDAO#getMasterStations()}. Lets the METAR ingest
+ * path reject reports from non-Climate stations without a query per report.
+ *
+ * The map is dropped whenever the station list is replaced in this JVM, and
+ * reloaded after {@link #REFRESH_INTERVAL} regardless, to pick up changes made
+ * from another JVM. If a load fails, no load is tried again for
+ * {@link #RETRY_INTERVAL}, and the previous map is used if there is one.
+ *
+ * <pre>
+ *
+ * SOFTWARE HISTORY
+ *
+ * Date         Ticket#    Engineer    Description
+ * ------------ ---------- ----------- --------------------------
+ * 17 OCT 2026             agent       Initial creation
+ * 17 OCT 2026             agent       Wait before retrying a failed load
+ * </pre>
+ *
+ * @author agent
+ */
+public final class ClimateStationIDCache {
+
+    private static final IUFStatusHandler logger = UFStatus
+            .getHandler(ClimateStationIDCache.class);
+
+    /**
+     * Time after which the map is reloaded from the database.
+     */
+    private static final long REFRESH_INTERVAL = 10
+            * TimeUtil.MILLIS_PER_MINUTE;
+
+    /**
+     * Time after a failed load before the map is loaded again.
+     */
+    private static final long RETRY_INTERVAL = TimeUtil.MILLIS_PER_MINUTE;
+
+    /**
+     * Station IDs by station code. Null if not loaded.
+     */
+    private static volatile Map<String, Integer> stationIDs;
+
+    /**
+     * Time the map was loaded.
+     */
+    private static volatile long loadTime;
+
+    /**
+     * Time of the last failed load, 0 if the last load succeeded.
+     */
+    private static volatile long failTime;
+
+    private ClimateStationIDCache() {
+    }
+
+    /**
+     * @param stationCode
+     * @return the station ID (inform ID) associated with the given station
+     *         code, or null if the station is not a Climate station.
+     * @throws ClimateQueryException
+     */
+    public static Integer getStationID(String stationCode)
+            throws ClimateQueryException {
+        return getStationIDs().get(stationCode);
+    }
+
+    /**
+     * Drop the map, so that it is reloaded on next use. Call when the station
+     * list changes.
+     */
+    public static synchronized void invalidate() {
+        stationIDs = null;
+        failTime = 0;
+    }
+
+    /**
+     * @return the current map, loading it if needed.
+     * @throws ClimateQueryException
+     *             if there is no map and it cannot be loaded, or a load failed
+     *             less than {@link #RETRY_INTERVAL} ago.
+     */
+    private static Map<String, Integer> getStationIDs()
+            throws ClimateQueryException {
+        Map<String, Integer> current = stationIDs;
+        if (needsLoad(current)) {
+            synchronized (ClimateStationIDCache.class) {
+                current = stationIDs;
+                if (needsLoad(current)) {
+                    if (current == null && TimeUtil.currentTimeMillis()
+                            - failTime <= RETRY_INTERVAL) {
+                        throw new ClimateQueryException(
+                                "The Climate station list failed to load less than "
+                                        + RETRY_INTERVAL
+                                                / TimeUtil.MILLIS_PER_SECOND
+                                        + " s ago.");
+                    }
+                    try {
+                        Map<String, Integer> loaded = new HashMap<>();
+                        for (Station station : new ClimateStationsSetupDAO()
+                                .getMasterStations()) {
+                            loaded.put(station.getIcaoId(),
+                                    station.getInformId());
+                        }
+                        current = Collections.unmodifiableMap(loaded);
+                        loadTime = TimeUtil.currentTimeMillis();
+                        failTime = 0;
+                        stationIDs = current;
+                    } catch (ClimateQueryException e) {
+                        failTime = TimeUtil.currentTimeMillis();
+                        logger.warn("Error loading the Climate station list. "
+                                + (current == null
+                                        ? "Station codes will be queried directly"
+                                        : "The previously loaded list will be used")
+                                + " for the next "
+                                + RETRY_INTERVAL / TimeUtil.MILLIS_PER_SECOND
+                                + " s.", e);
+                        if (current == null) {
+                            throw e;
+                        }
+                    }
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * @param current
+     *            the current map
+     * @return true if the map is missing or expired, and no load failed in the
+     *         last {@link #RETRY_INTERVAL} while there is a map to use instead.
+     */
+    private static boolean needsLoad(Map<String, Integer> current) {
+        if (current == null) {
+            return true;
+        }
+        long now = TimeUtil.currentTimeMillis();
+        return now - loadTime > REFRESH_INTERVAL
+                && now - failTime > RETRY_INTERVAL;
+    }
+}
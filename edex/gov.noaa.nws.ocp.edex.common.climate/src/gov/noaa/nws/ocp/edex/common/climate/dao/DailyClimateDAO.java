@@ -93,6 +93,7 @@ import gov.noaa.nws.ocp.edex.common.climate.util.ClimateDAOUtils;
  * 24 OCT 2017  39817      amoore      Clean up 24-hour precip calculations while investigating validity of
  *                                     calculations. Handle trace better in hourly precip count.
  * 02 MAY 2018  DR17116    wpaintsil   update yClimate for snow/precip norms.
+ * 17 OCT 2026             agent       Add getLastYearForMonth, for F6 reports.
  * </pre>
  * 
  * @author amoore
@@ -215,297 +216,369 @@ public class DailyClimateDAO extends ClimateDAO {
             if ((results != null) && (results.length >= 1)) {
                 Object result = results[0];
                 if (result instanceof Object[]) {
-                    Object[] oa = (Object[]) result;
-                    // all data from the query is allowed to be null
-                    int index = 0;
+                    setLastYearData((Object[]) result, data);
 
-                    // max temp
-                    Object maxTempObj = oa[index++];
-                    if (maxTempObj != null) {
-                        data.setMaxTemp(((Number) maxTempObj).intValue());
-                    }
-                    // max temp time
-                    data.setMaxTempTime(new ClimateTime((String) oa[index++]));
-
-                    // max temp data method
-                    Object maxTempMethObj = oa[index++];
-                    if (maxTempMethObj != null) {
-                        data.getDataMethods().setMaxTempQc(
-                                ((Number) maxTempMethObj).intValue());
-                    }
+                    // The query was successful - set the exists flag to
+                    // true.
+                    queryData.setData(data);
+                } else {
+                    throw new ClimateQueryException(
+                            "Unexpected return type from query, expected Object[], got "
+                                    + result.getClass().getName());
+                }
+            } else {
+                logger.warn("No data available for station ID [" + stationId
+                        + "] on date [" + date.toFullDateString()
+                        + "] using query [" + query + "] and map: [" + paramMap
+                        + "]");
+            }
+        } catch (ClimateQueryException e) {
+            throw new ClimateQueryException("Error with query: [" + query
+                    + "] and map: [" + paramMap + "]", e);
+        }
 
-                    // min temp
-                    Object minTempObj = oa[index++];
-                    if (minTempObj != null) {
-                        data.setMinTemp(((Number) minTempObj).intValue());
-                    }
+        return queryData;
+    }
 
-                    // min temp time
-                    data.setMinTempTime(new ClimateTime((String) oa[index++]));
+    /**
+     * Fill out daily data from a row of the {@link #getLastYear} query.
+     * 
+     * @param oa
+     *            row, in the column order of {@link #getLastYearColumns()}.
+     *            Extra trailing columns are ignored.
+     * @param data
+     *            daily data to fill out.
+     */
+    private static void setLastYearData(Object[] oa, DailyClimateData data) {
+        // all data from the query is allowed to be null
+        int index = 0;
+
+        // max temp
+        Object maxTempObj = oa[index++];
+        if (maxTempObj != null) {
+            data.setMaxTemp(((Number) maxTempObj).intValue());
+        }
+        // max temp time
+        data.setMaxTempTime(new ClimateTime((String) oa[index++]));
+
+        // max temp data method
+        Object maxTempMethObj = oa[index++];
+        if (maxTempMethObj != null) {
+            data.getDataMethods().setMaxTempQc(
+                    ((Number) maxTempMethObj).intValue());
+        }
 
-                    // min temp data method
-                    Object minTempMethObj = oa[index++];
-                    if (minTempMethObj != null) {
-                        data.getDataMethods().setMinTempQc(
-                                ((Number) minTempMethObj).intValue());
-                    }
+        // min temp
+        Object minTempObj = oa[index++];
+        if (minTempObj != null) {
+            data.setMinTemp(((Number) minTempObj).intValue());
+        }
 
-                    // precip
-                    Object precipObj = oa[index++];
-                    if (precipObj != null) {
-                        data.setPrecip(((Number) precipObj).floatValue());
-                    }
+        // min temp time
+        data.setMinTempTime(new ClimateTime((String) oa[index++]));
 
-                    // precip data method
-                    Object precipMethObj = oa[index++];
-                    if (precipMethObj != null) {
-                        data.getDataMethods().setPrecipQc(
-                                ((Number) precipMethObj).intValue());
-                    }
+        // min temp data method
+        Object minTempMethObj = oa[index++];
+        if (minTempMethObj != null) {
+            data.getDataMethods().setMinTempQc(
+                    ((Number) minTempMethObj).intValue());
+        }
 
-                    // snow day
-                    Object snowDayObj = oa[index++];
-                    if (snowDayObj != null) {
-                        data.setSnowDay(((Number) snowDayObj).floatValue());
-                    }
+        // precip
+        Object precipObj = oa[index++];
+        if (precipObj != null) {
+            data.setPrecip(((Number) precipObj).floatValue());
+        }
 
-                    // snow day data method
-                    Object snowMethObj = oa[index++];
-                    if (snowMethObj != null) {
-                        data.getDataMethods()
-                                .setSnowQc(((Number) snowMethObj).intValue());
-                    }
+        // precip data method
+        Object precipMethObj = oa[index++];
+        if (precipMethObj != null) {
+            data.getDataMethods().setPrecipQc(
+                    ((Number) precipMethObj).intValue());
+        }
 
-                    // snow ground
-                    Object snowGroundObj = oa[index++];
-                    if (snowGroundObj != null) {
-                        data.setSnowGround(
-                                ((Number) snowGroundObj).floatValue());
-                    }
+        // snow day
+        Object snowDayObj = oa[index++];
+        if (snowDayObj != null) {
+            data.setSnowDay(((Number) snowDayObj).floatValue());
+        }
 
-                    // snow ground data method
-                    Object snowGroundDepthMethObj = oa[index++];
-                    if (snowGroundDepthMethObj != null) {
-                        data.getDataMethods().setDepthQc(
-                                ((Number) snowGroundDepthMethObj).intValue());
-                    }
+        // snow day data method
+        Object snowMethObj = oa[index++];
+        if (snowMethObj != null) {
+            data.getDataMethods()
+                    .setSnowQc(((Number) snowMethObj).intValue());
+        }
 
-                    // heating days
-                    Object numHeatObj = oa[index++];
-                    if (numHeatObj != null) {
-                        data.setNumHeat(((Number) numHeatObj).intValue());
-                    }
+        // snow ground
+        Object snowGroundObj = oa[index++];
+        if (snowGroundObj != null) {
+            data.setSnowGround(
+                    ((Number) snowGroundObj).floatValue());
+        }
 
-                    // cooling days
-                    Object numCoolObj = oa[index++];
-                    if (numCoolObj != null) {
-                        data.setNumCool(((Number) numCoolObj).intValue());
-                    }
+        // snow ground data method
+        Object snowGroundDepthMethObj = oa[index++];
+        if (snowGroundDepthMethObj != null) {
+            data.getDataMethods().setDepthQc(
+                    ((Number) snowGroundDepthMethObj).intValue());
+        }
 
-                    // max wind direction and speed
-                    Object maxWindDirObj = oa[index++];
-                    Object maxWindSpdObj = oa[index++];
-                    ClimateWind maxWind = ClimateWind.getMissingClimateWind();
-                    if (maxWindDirObj != null) {
-                        maxWind.setDir(((Number) maxWindDirObj).intValue());
-                    }
-                    if (maxWindSpdObj != null) {
-                        maxWind.setSpeed(((Number) maxWindSpdObj).floatValue());
-                    }
-                    data.setMaxWind(maxWind);
-
-                    // max wind times
-                    data.setMaxWindTime(new ClimateTime((String) oa[index++]));
-                    Object maxWindMethObj = oa[index++];
-                    if (maxWindMethObj != null) {
-                        data.getDataMethods().setMaxWindQc(
-                                ((Number) maxWindMethObj).intValue());
-                    }
+        // heating days
+        Object numHeatObj = oa[index++];
+        if (numHeatObj != null) {
+            data.setNumHeat(((Number) numHeatObj).intValue());
+        }
 
-                    // max gust direction and speed
-                    Object maxGustDirObj = oa[index++];
-                    Object maxGustSpdObj = oa[index++];
-                    ClimateWind maxGust = ClimateWind.getMissingClimateWind();
-                    if (maxGustDirObj != null) {
-                        maxGust.setDir(((Number) maxGustDirObj).intValue());
-                    }
-                    if (maxGustSpdObj != null) {
-                        maxGust.setSpeed(((Number) maxGustSpdObj).floatValue());
-                    }
-                    data.setMaxGust(maxGust);
-
-                    // max gust times
-                    data.setMaxGustTime(new ClimateTime((String) oa[index++]));
-                    Object maxGustMethObj = oa[index++];
-                    if (maxGustMethObj != null) {
-                        data.getDataMethods().setMaxGustQc(
-                                ((Number) maxGustMethObj).intValue());
-                    }
+        // cooling days
+        Object numCoolObj = oa[index++];
+        if (numCoolObj != null) {
+            data.setNumCool(((Number) numCoolObj).intValue());
+        }
 
-                    // resultant wind direction and speed
-                    Object resultWindDirObj = oa[index++];
-                    Object resultWindSpdObj = oa[index++];
-                    ClimateWind resultWind = ClimateWind
-                            .getMissingClimateWind();
-                    if (resultWindDirObj != null) {
-                        resultWind
-                                .setDir(((Number) resultWindDirObj).intValue());
-                    }
-                    if (resultWindSpdObj != null) {
-                        resultWind.setSpeed(
-                                ((Number) resultWindSpdObj).intValue());
-                    }
-                    data.setResultWind(resultWind);
+        // max wind direction and speed
+        Object maxWindDirObj = oa[index++];
+        Object maxWindSpdObj = oa[index++];
+        ClimateWind maxWind = ClimateWind.getMissingClimateWind();
+        if (maxWindDirObj != null) {
+            maxWind.setDir(((Number) maxWindDirObj).intValue());
+        }
+        if (maxWindSpdObj != null) {
+            maxWind.setSpeed(((Number) maxWindSpdObj).floatValue());
+        }
+        data.setMaxWind(maxWind);
+
+        // max wind times
+        data.setMaxWindTime(new ClimateTime((String) oa[index++]));
+        Object maxWindMethObj = oa[index++];
+        if (maxWindMethObj != null) {
+            data.getDataMethods().setMaxWindQc(
+                    ((Number) maxWindMethObj).intValue());
+        }
 
-                    // result x and y
-                    Object resultXObj = oa[index++];
-                    if (resultXObj != null) {
-                        data.setResultX(((Number) resultXObj).doubleValue());
-                    }
-                    Object resultYObj = oa[index++];
-                    if (resultYObj != null) {
-                        data.setResultY(((Number) resultYObj).doubleValue());
-                    }
+        // max gust direction and speed
+        Object maxGustDirObj = oa[index++];
+        Object maxGustSpdObj = oa[index++];
+        ClimateWind maxGust = ClimateWind.getMissingClimateWind();
+        if (maxGustDirObj != null) {
+            maxGust.setDir(((Number) maxGustDirObj).intValue());
+        }
+        if (maxGustSpdObj != null) {
+            maxGust.setSpeed(((Number) maxGustSpdObj).floatValue());
+        }
+        data.setMaxGust(maxGust);
+
+        // max gust times
+        data.setMaxGustTime(new ClimateTime((String) oa[index++]));
+        Object maxGustMethObj = oa[index++];
+        if (maxGustMethObj != null) {
+            data.getDataMethods().setMaxGustQc(
+                    ((Number) maxGustMethObj).intValue());
+        }
 
-                    // number of wind observations
-                    Object numWndObsObj = oa[index++];
-                    if (numWndObsObj != null) {
-                        data.setNumWndObs(((Number) numWndObsObj).intValue());
-                    }
+        // resultant wind direction and speed
+        Object resultWindDirObj = oa[index++];
+        Object resultWindSpdObj = oa[index++];
+        ClimateWind resultWind = ClimateWind
+                .getMissingClimateWind();
+        if (resultWindDirObj != null) {
+            resultWind
+                    .setDir(((Number) resultWindDirObj).intValue());
+        }
+        if (resultWindSpdObj != null) {
+            resultWind.setSpeed(
+                    ((Number) resultWindSpdObj).intValue());
+        }
+        data.setResultWind(resultWind);
 
-                    // average wind speed
-                    Object avgWindSpeedObj = oa[index++];
-                    if (avgWindSpeedObj != null) {
-                        data.setAvgWindSpeed(
-                                ((Number) avgWindSpeedObj).floatValue());
-                    }
+        // result x and y
+        Object resultXObj = oa[index++];
+        if (resultXObj != null) {
+            data.setResultX(((Number) resultXObj).doubleValue());
+        }
+        Object resultYObj = oa[index++];
+        if (resultYObj != null) {
+            data.setResultY(((Number) resultYObj).doubleValue());
+        }
 
-                    // average wind data method
-                    Object avgWindMethObj = oa[index++];
-                    if (avgWindMethObj != null) {
-                        data.getDataMethods().setAvgWindQc(
-                                ((Number) avgWindMethObj).intValue());
-                    }
+        // number of wind observations
+        Object numWndObsObj = oa[index++];
+        if (numWndObsObj != null) {
+            data.setNumWndObs(((Number) numWndObsObj).intValue());
+        }
 
-                    // minutes of sun
-                    Object minSunObj = oa[index++];
-                    if (minSunObj != null) {
-                        data.setMinutesSun(((Number) minSunObj).intValue());
-                    }
+        // average wind speed
+        Object avgWindSpeedObj = oa[index++];
+        if (avgWindSpeedObj != null) {
+            data.setAvgWindSpeed(
+                    ((Number) avgWindSpeedObj).floatValue());
+        }
 
-                    // minutes of sun data method
-                    Object minSunMethObj = oa[index++];
-                    if (minSunMethObj != null) {
-                        data.getDataMethods().setMinSunQc(
-                                ((Number) minSunMethObj).intValue());
-                    }
+        // average wind data method
+        Object avgWindMethObj = oa[index++];
+        if (avgWindMethObj != null) {
+            data.getDataMethods().setAvgWindQc(
+                    ((Number) avgWindMethObj).intValue());
+        }
 
-                    // percent possible sun
-                    Object possSunObj = oa[index++];
-                    if (possSunObj != null) {
-                        data.setMinutesSun(((Number) possSunObj).intValue());
-                    }
+        // minutes of sun
+        Object minSunObj = oa[index++];
+        if (minSunObj != null) {
+            data.setMinutesSun(((Number) minSunObj).intValue());
+        }
 
-                    // percent possible sun data method
-                    Object possSunMethObj = oa[index++];
-                    if (possSunMethObj != null) {
-                        data.getDataMethods().setPossSunQc(
-                                ((Number) possSunMethObj).intValue());
-                    }
+        // minutes of sun data method
+        Object minSunMethObj = oa[index++];
+        if (minSunMethObj != null) {
+            data.getDataMethods().setMinSunQc(
+                    ((Number) minSunMethObj).intValue());
+        }
 
-                    // average sky cover
-                    Object skyCoverObj = oa[index++];
-                    if (skyCoverObj != null) {
-                        data.setSkyCover(((Number) skyCoverObj).floatValue());
-                    }
+        // percent possible sun
+        Object possSunObj = oa[index++];
+        if (possSunObj != null) {
+            data.setMinutesSun(((Number) possSunObj).intValue());
+        }
 
-                    // average sky cover data method
-                    Object skyCoverMethObj = oa[index++];
-                    if (skyCoverMethObj != null) {
-                        data.getDataMethods().setSkyCoverQc(
-                                ((Number) skyCoverMethObj).intValue());
-                    }
+        // percent possible sun data method
+        Object possSunMethObj = oa[index++];
+        if (possSunMethObj != null) {
+            data.getDataMethods().setPossSunQc(
+                    ((Number) possSunMethObj).intValue());
+        }
 
-                    // mix relative humidity
-                    Object maxRhObj = oa[index++];
-                    if (maxRhObj != null) {
-                        data.setMaxRelHumid(((Number) maxRhObj).intValue());
-                    }
+        // average sky cover
+        Object skyCoverObj = oa[index++];
+        if (skyCoverObj != null) {
+            data.setSkyCover(((Number) skyCoverObj).floatValue());
+        }
 
-                    // time of max relative humidity
-                    Object maxRhTimeObj = oa[index++];
-                    if (maxRhTimeObj != null) {
-                        data.setMaxRelHumidHour(
-                                ((Number) maxRhTimeObj).intValue());
-                    }
+        // average sky cover data method
+        Object skyCoverMethObj = oa[index++];
+        if (skyCoverMethObj != null) {
+            data.getDataMethods().setSkyCoverQc(
+                    ((Number) skyCoverMethObj).intValue());
+        }
 
-                    // min relative humidity
-                    Object minRhObj = oa[index++];
-                    if (minRhObj != null) {
-                        data.setMinRelHumid(((Number) minRhObj).intValue());
-                    }
+        // mix relative humidity
+        Object maxRhObj = oa[index++];
+        if (maxRhObj != null) {
+            data.setMaxRelHumid(((Number) maxRhObj).intValue());
+        }
 
-                    // time of min relative humidity
-                    Object minRhTimeObj = oa[index++];
-                    if (minRhTimeObj != null) {
-                        data.setMinRelHumidHour(
-                                ((Number) minRhTimeObj).intValue());
-                    }
+        // time of max relative humidity
+        Object maxRhTimeObj = oa[index++];
+        if (maxRhTimeObj != null) {
+            data.setMaxRelHumidHour(
+                    ((Number) maxRhTimeObj).intValue());
+        }
 
-                    // max pressure
-                    Object maxSlpObj = oa[index++];
-                    if (maxSlpObj != null) {
-                        data.setMaxSlp(((Number) maxSlpObj).floatValue());
-                    }
+        // min relative humidity
+        Object minRhObj = oa[index++];
+        if (minRhObj != null) {
+            data.setMinRelHumid(((Number) minRhObj).intValue());
+        }
 
-                    // min pressure
-                    Object minSlpObj = oa[index++];
-                    if (minSlpObj != null) {
-                        data.setMinSlp(((Number) minSlpObj).floatValue());
-                    }
+        // time of min relative humidity
+        Object minRhTimeObj = oa[index++];
+        if (minRhTimeObj != null) {
+            data.setMinRelHumidHour(
+                    ((Number) minRhTimeObj).intValue());
+        }
 
-                    // weather data method
-                    Object weatherMethObj = oa[index++];
-                    if (weatherMethObj != null) {
-                        data.getDataMethods().setWeatherQc(
-                                ((Number) weatherMethObj).shortValue());
-                    }
+        // max pressure
+        Object maxSlpObj = oa[index++];
+        if (maxSlpObj != null) {
+            data.setMaxSlp(((Number) maxSlpObj).floatValue());
+        }
 
-                    // number of wx observations
-                    Object numberObsWxObj = oa[index++];
-                    if (numberObsWxObj != null) {
-                        data.setNumWx(((Number) numberObsWxObj).intValue());
-                    }
+        // min pressure
+        Object minSlpObj = oa[index++];
+        if (minSlpObj != null) {
+            data.setMinSlp(((Number) minSlpObj).floatValue());
+        }
 
-                    for (int i = 0; i < DailyClimateData.TOTAL_WX_TYPES; i++) {
-                        Object wxObj = oa[index++];
-                        if (wxObj != null) {
-                            data.setWxType(i, ((Number) wxObj).intValue());
-                        }
-                    }
+        // weather data method
+        Object weatherMethObj = oa[index++];
+        if (weatherMethObj != null) {
+            data.getDataMethods().setWeatherQc(
+                    ((Number) weatherMethObj).shortValue());
+        }
 
-                    data.setDataMethods(data.getDataMethods());
+        // number of wx observations
+        Object numberObsWxObj = oa[index++];
+        if (numberObsWxObj != null) {
+            data.setNumWx(((Number) numberObsWxObj).intValue());
+        }
 
-                    // The query was successful - set the exists flag to
-                    // true.
-                    queryData.setData(data);
-                } else {
+        for (int i = 0; i < DailyClimateData.TOTAL_WX_TYPES; i++) {
+            Object wxObj = oa[index++];
+            if (wxObj != null) {
+                data.setWxType(i, ((Number) wxObj).intValue());
+            }
+        }
+
+        data.setDataMethods(data.getDataMethods());
+    }
+
+    /**
+     * Daily data for every day of the month of the given date, up to and
+     * including the given date, in one query rather than one
+     * {@link #getLastYear(ClimateDate, int)} per day.
+     * 
+     * @param date
+     *            last date to get data for.
+     * @param stationId
+     *            station ID (inform ID) to get data for.
+     * @return daily data by day of month. Days with no data are not included.
+     * @throws ClimateQueryException
+     */
+    public Map<Integer, DailyClimateData> getLastYearForMonth(ClimateDate date,
+            int stationId) throws ClimateQueryException {
+        StringBuilder queryBuilder = getLastYearColumns();
+        // date last, so the other columns are as setLastYearData expects
+        queryBuilder.append(", date FROM ");
+        queryBuilder.append(ClimateDAOValues.DAILY_CLIMATE_TABLE_NAME);
+        queryBuilder.append(" WHERE station_id = :stationId");
+        queryBuilder.append(" AND date >= :beginDate AND date <= :endDate");
+        String query = queryBuilder.toString();
+
+        Map<String, Object> paramMap = new HashMap<>();
+        paramMap.put("stationId", stationId);
+        paramMap.put("beginDate", new ClimateDate(1, date.getMon(),
+                date.getYear()).getCalendarFromClimateDate());
+        paramMap.put("endDate", date.getCalendarFromClimateDate());
+
+        Map<Integer, DailyClimateData> monthData = new HashMap<>();
+        try {
+            Object[] results = getDao().executeSQLQuery(query, paramMap);
+            if (results == null) {
+                return monthData;
+            }
+            for (Object result : results) {
+                if (!(result instanceof Object[])) {
                     throw new ClimateQueryException(
                             "Unexpected return type from query, expected Object[], got "
-                                    + result.getClass().getName());
+                                    + (result == null ? null
+                                            : result.getClass().getName()));
                 }
-            } else {
-                logger.warn("No data available for station ID [" + stationId
-                        + "] on date [" + date.toFullDateString()
-                        + "] using query [" + query + "] and map: [" + paramMap
-                        + "]");
+                Object[] oa = (Object[]) result;
+
+                DailyClimateData data = DailyClimateData
+                        .getMissingDailyClimateData();
+                data.setInformId(stationId);
+                setLastYearData(oa, data);
+
+                monthData.put(
+                        new ClimateDate((Date) oa[oa.length - 1]).getDay(),
+                        data);
             }
         } catch (ClimateQueryException e) {
             throw new ClimateQueryException("Error with query: [" + query
                     + "] and map: [" + paramMap + "]", e);
         }
 
-        return queryData;
+        return monthData;
     }
 
     /**
@@ -537,6 +610,23 @@ public class DailyClimateDAO extends ClimateDAO {
      */
     private static String getLastYearQueryString(ClimateDate date,
             int stationId, Map<String, Object> paramMap) {
+        StringBuilder query = getLastYearColumns();
+        query.append(" FROM ");
+        query.append(ClimateDAOValues.DAILY_CLIMATE_TABLE_NAME);
+        query.append(" WHERE station_id = :stationId");
+        query.append(" AND date = :date");
+
+        paramMap.put("stationId", stationId);
+        paramMap.put("date", date.getCalendarFromClimateDate());
+
+        return query.toString();
+    }
+
+    /**
+     * @return select clause of the daily data query, in the column order
+     *         expected by {@link #setLastYearData(Object[], DailyClimateData)}.
+     */
+    private static StringBuilder getLastYearColumns() {
         StringBuilder query = new StringBuilder(
                 "SELECT max_temp, to_char(max_temp_time, 'HH24:MI') as max_temp_time, ");
         query.append(" max_temp_meth, min_temp, ");
@@ -558,15 +648,9 @@ public class DailyClimateDAO extends ClimateDAO {
                 " max_rh_hour, min_rh, min_rh_hour, max_slp, min_slp, wx_meth, number_obs_wx,");
         query.append(
                 " wx_1, wx_2, wx_3, wx_4, wx_5, wx_6, wx_7, wx_8, wx_9, wx_10, wx_11, wx_12,");
-        query.append(" wx_13, wx_14, wx_15, wx_16, wx_17, wx_18 FROM ");
-        query.append(ClimateDAOValues.DAILY_CLIMATE_TABLE_NAME);
-        query.append(" WHERE station_id = :stationId");
-        query.append(" AND date = :date");
+        query.append(" wx_13, wx_14, wx_15, wx_16, wx_17, wx_18");
 
-        paramMap.put("stationId", stationId);
-        paramMap.put("date", date.getCalendarFromClimateDate());
-
-        return query.toString();
+        return query;
     }
 
     /**
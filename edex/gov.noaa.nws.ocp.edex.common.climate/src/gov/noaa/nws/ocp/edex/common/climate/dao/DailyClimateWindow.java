@@ -0,0 +1,539 @@
+/**
+ * This software was developed and / or modified by NOAA/NWS/OCP/ASDT
+ **/
+package gov.noaa.nws.ocp.edex.common.climate.dao;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import gov.noaa.nws.ocp.common.dataplugin.climate.ClimateDate;
+import gov.noaa.nws.ocp.common.dataplugin.climate.PeriodType;
+import gov.noaa.nws.ocp.common.dataplugin.climate.exception.ClimateQueryException;
+import gov.noaa.nws.ocp.common.dataplugin.climate.parameter.ParameterFormatClimate;
+import gov.noaa.nws.ocp.common.dataplugin.climate.util.ClimateUtilities;
+
+/**
+ * In-memory copy of the daily_climate rows of one station over a date window.
+ * Used by period building to compute every daily aggregate in Java from a
+ * single query, rather than issuing one aggregate query per element. Each
+ * aggregate mirrors the SQL semantics of the equivalent method in
+ * {@link ClimateDAO} (NULL and missing value exclusion, float versus integer
+ * column arithmetic, trace handling) so both paths give the same results.
+ *
+ * <pre>
+ *
+ * SOFTWARE HISTORY
+ *
+ * Date         Ticket#    Engineer    Description
+ * ------------ ---------- ----------- --------------------------
+ * 17 OCT 2026             agent       Initial creation
+ * </pre>
+ *
+ * @author agent
+ */
+final class DailyClimateWindow {
+
+    /**
+     * Daily columns aggregated by period building.
+     */
+    private static final String[] COLUMNS = { "max_temp", "min_temp",
+            "precip", "snow", "snow_ground", "heat", "cool", "avg_sky_cover",
+            "percent_pos_sun", "avg_wind_speed", "max_wind_spd",
+            "max_gust_spd", "max_rh", "min_rh", "wx_1", "wx_2", "wx_3", "wx_4",
+            "wx_5", "wx_6", "wx_7", "wx_8", "wx_9", "wx_10", "wx_11", "wx_12",
+            "wx_13", "wx_14", "wx_15" };
+
+    /**
+     * Column name to column index.
+     */
+    private static final Map<String, Integer> COLUMN_INDICES = new HashMap<>();
+
+    static {
+        for (int i = 0; i < COLUMNS.length; i++) {
+            COLUMN_INDICES.put(COLUMNS[i], i);
+        }
+    }
+
+    /** Station of the window. */
+    private final int stationID;
+
+    /** First date of the window, as yyyymmdd. */
+    private final int beginKey;
+
+    /** Last date of the window, as yyyymmdd. */
+    private final int endKey;
+
+    /** Dates of the rows, in ascending order. */
+    private final ClimateDate[] dates;
+
+    /** Dates of the rows as yyyymmdd, in ascending order. */
+    private final int[] dateKeys;
+
+    /**
+     * Column-major values. Null DB values are stored as NaN.
+     */
+    private final double[][] values;
+
+    /**
+     * True for columns the DB returned as floating point (real) values, which
+     * affects summation precision.
+     */
+    private final boolean[] floating;
+
+    /**
+     * Number type the DB returned for each column, or null if the column has
+     * no values in the window. MAX and MIN are returned as this type, as they
+     * are by the query.
+     */
+    private final Class<?>[] types;
+
+    /**
+     * Constructor.
+     *
+     * @param stationID
+     *            station ID.
+     * @param beginDate
+     *            first date of the window.
+     * @param endDate
+     *            last date of the window.
+     * @param rows
+     *            result of the window query, ordered by date.
+     */
+    private DailyClimateWindow(int stationID, ClimateDate beginDate,
+            ClimateDate endDate, List<Object[]> rows) {
+        this.stationID = stationID;
+        this.beginKey = toKey(beginDate);
+        this.endKey = toKey(endDate);
+
+        int numRows = rows.size();
+        dates = new ClimateDate[numRows];
+        dateKeys = new int[numRows];
+        values = new double[COLUMNS.length][numRows];
+        floating = new boolean[COLUMNS.length];
+        types = new Class<?>[COLUMNS.length];
+
+        for (int row = 0; row < numRows; row++) {
+            Object[] oa = rows.get(row);
+            dates[row] = new ClimateDate(oa[0]);
+            dateKeys[row] = toKey(dates[row]);
+            for (int col = 0; col < COLUMNS.length; col++) {
+                Object value = oa[col + 1];
+                if (value instanceof Number) {
+                    values[col][row] = ((Number) value).doubleValue();
+                    types[col] = value.getClass();
+                    if ((value instanceof Float) || (value instanceof Double)) {
+                        floating[col] = true;
+                    }
+                } else {
+                    values[col][row] = Double.NaN;
+                }
+            }
+        }
+    }
+
+    /**
+     * Load the daily climate window of the given station with a single query.
+     *
+     * @param dao
+     *            DAO to query with.
+     * @param stationID
+     *            station ID.
+     * @param beginDate
+     *            first date of the window.
+     * @param endDate
+     *            last date of the window.
+     * @return the window.
+     * @throws ClimateQueryException
+     *             on query or casting error.
+     */
+    static DailyClimateWindow load(ClimateDAO dao, int stationID,
+            ClimateDate beginDate, ClimateDate endDate)
+            throws ClimateQueryException {
+        StringBuilder query = new StringBuilder("SELECT date");
+        for (String column : COLUMNS) {
+            query.append(", ").append(column);
+        }
+        query.append(" FROM ");
+        query.append(ClimateDAOValues.DAILY_CLIMATE_TABLE_NAME);
+        query.append(" WHERE station_id = :stationID");
+        query.append(" AND date >= :beginDate");
+        query.append(" AND date <= :endDate");
+        query.append(" ORDER BY date ASC");
+
+        Map<String, Object> queryParams = new HashMap<>();
+        queryParams.put("stationID", stationID);
+        queryParams.put("beginDate", beginDate.getCalendarFromClimateDate());
+        queryParams.put("endDate", endDate.getCalendarFromClimateDate());
+
+        List<Object[]> rows = new ArrayList<>();
+        try {
+            Object[] results = dao.getDao().executeSQLQuery(query.toString(),
+                    queryParams);
+            if (results != null) {
+                for (Object result : results) {
+                    if (result instanceof Object[]) {
+                        rows.add((Object[]) result);
+                    } else {
+                        throw new ClimateQueryException(
+                                "Unexpected return type from query, expected Object[], got "
+                                        + result.getClass().getName());
+                    }
+                }
+            }
+        } catch (ClimateQueryException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ClimateQueryException(
+                    "An error was encountered retrieving daily climate data with query: ["
+                            + query + "] and map [" + queryParams + "]",
+                    e);
+        }
+
+        return new DailyClimateWindow(stationID, beginDate, endDate, rows);
+    }
+
+    /**
+     * @param iStationID
+     * @param iType
+     * @param beginDate
+     * @param endDate
+     * @return true if a daily table aggregate for the given station, period
+     *         type, and dates can be answered from this window.
+     */
+    boolean covers(int iStationID, PeriodType iType, ClimateDate beginDate,
+            ClimateDate endDate) {
+        return PeriodType.OTHER.equals(iType) && (iStationID == stationID)
+                && (toKey(beginDate) >= beginKey)
+                && (toKey(endDate) <= endKey);
+    }
+
+    /**
+     * In-memory equivalent of the daily table branch of
+     * {@link ClimateDAO#buildElement(ClimateDate, ClimateDate, int, PeriodType, String, String, ClimateDAO.BuildElementType, Number, boolean)}
+     * .
+     *
+     * @param beginDate
+     * @param endDate
+     * @param column
+     *            daily column.
+     * @param buildType
+     * @param missingValue
+     * @param precipOrSnow
+     *            true if the element is precip or snow (needs trace-related
+     *            computation).
+     * @return aggregate value, or the missing value.
+     */
+    Number buildElement(ClimateDate beginDate, ClimateDate endDate,
+            String column, ClimateDAO.BuildElementType buildType,
+            Number missingValue, boolean precipOrSnow) {
+        int col = getColumnIndex(column);
+        int begin = toKey(beginDate);
+        int end = toKey(endDate);
+        double missing = missingValue.doubleValue();
+
+        Number oResult = aggregate(col, begin, end, buildType, missingValue,
+                false);
+
+        if ((ClimateDAO.BuildElementType.SUM.equals(buildType)) && precipOrSnow
+                && (!ClimateUtilities.floatingEquals(oResult.doubleValue(),
+                        missing))) {
+            // if precip or snow, do not allow trace
+            Number noTraceResult = aggregate(col, begin, end, buildType,
+                    missingValue, true);
+
+            if (ClimateUtilities.floatingEquals(noTraceResult.doubleValue(),
+                    missing)) {
+                // only trace values
+                oResult = ParameterFormatClimate.TRACE;
+            } else {
+                oResult = noTraceResult;
+            }
+        }
+
+        if (oResult.doubleValue() == 0
+                && ClimateDAO.BuildElementType.MAX.equals(buildType)
+                && column.contains("snow_ground")
+                && count(col, begin, end, ParameterFormatClimate.TRACE) > 0) {
+            // MAX(snow_ground) is 0 but there are trace days in the period
+            oResult = ParameterFormatClimate.TRACE;
+        }
+
+        return oResult;
+    }
+
+    /**
+     * In-memory equivalent of the daily table branch of
+     * {@link ClimateDAO#daysPastThresh(ClimateDate, ClimateDate, int, PeriodType, String, String, Number, Number, boolean, boolean)}
+     * . Like the SQL, values equal to the threshold are not counted.
+     *
+     * @param beginDate
+     * @param endDate
+     * @param column
+     *            daily column.
+     * @param threshold
+     * @param greaterOrLess
+     *            true if test for >=, false to test for <=.
+     * @param precipOrSnow
+     *            true if the element is precip or snow (exclude trace).
+     * @return count of matching days.
+     */
+    int daysPastThresh(ClimateDate beginDate, ClimateDate endDate,
+            String column, Number threshold, boolean greaterOrLess,
+            boolean precipOrSnow) {
+        int col = getColumnIndex(column);
+        int begin = toKey(beginDate);
+        int end = toKey(endDate);
+        double thresh = threshold.doubleValue();
+
+        int count = 0;
+        for (int row = firstRow(begin); row < dateKeys.length
+                && dateKeys[row] <= end; row++) {
+            double value = values[col][row];
+            if (Double.isNaN(value) || value == thresh) {
+                continue;
+            }
+            if (greaterOrLess ? value < thresh : value > thresh) {
+                continue;
+            }
+            if (precipOrSnow && value == ParameterFormatClimate.TRACE) {
+                continue;
+            }
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * In-memory equivalent of the daily table branch of
+     * {@link ClimateDAO#buildElementEquality(ClimateDate, ClimateDate, int, PeriodType, String, String, Number)}
+     * .
+     *
+     * @param beginDate
+     * @param endDate
+     * @param column
+     *            daily column.
+     * @param equalValue
+     * @return count of days with the given value.
+     */
+    int buildElementEquality(ClimateDate beginDate, ClimateDate endDate,
+            String column, Number equalValue) {
+        return count(getColumnIndex(column), toKey(beginDate),
+                toKey(endDate), equalValue.doubleValue());
+    }
+
+    /**
+     * Count days with a non-missing value in the range [lower, upper).
+     *
+     * @param beginDate
+     * @param endDate
+     * @param column
+     *            daily column.
+     * @param lower
+     *            inclusive lower bound.
+     * @param upper
+     *            exclusive upper bound.
+     * @return count of days in range.
+     */
+    int countWithin(ClimateDate beginDate, ClimateDate endDate, String column,
+            double lower, double upper) {
+        int col = getColumnIndex(column);
+        int end = toKey(endDate);
+
+        int count = 0;
+        for (int row = firstRow(toKey(beginDate)); row < dateKeys.length
+                && dateKeys[row] <= end; row++) {
+            double value = values[col][row];
+            if (value >= lower && value < upper
+                    && value != ParameterFormatClimate.MISSING) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Get the dates where the given integer column is at or past the given
+     * extreme, ordered by value (most extreme first) and then by date.
+     *
+     * @param beginDate
+     * @param endDate
+     * @param column
+     *            daily column.
+     * @param extreme
+     *            extreme value.
+     * @param greaterOrLess
+     *            true for a maximum (>=), false for a minimum (<=).
+     * @return dates of occurrence.
+     */
+    List<ClimateDate> getOccurrences(ClimateDate beginDate,
+            ClimateDate endDate, String column, int extreme,
+            boolean greaterOrLess) {
+        final int col = getColumnIndex(column);
+        int end = toKey(endDate);
+
+        List<Integer> matches = new ArrayList<>();
+        for (int row = firstRow(toKey(beginDate)); row < dateKeys.length
+                && dateKeys[row] <= end; row++) {
+            double value = values[col][row];
+            if (Double.isNaN(value) || value == ParameterFormatClimate.MISSING
+                    || dates[row].isMissing()) {
+                continue;
+            }
+            if (greaterOrLess ? value >= extreme : value <= extreme) {
+                matches.add(row);
+            }
+        }
+
+        Comparator<Integer> byValue = Comparator
+                .comparingDouble(row -> values[col][row]);
+        matches.sort(greaterOrLess ? byValue.reversed() : byValue);
+
+        List<ClimateDate> occurrences = new ArrayList<>(matches.size());
+        for (int row : matches) {
+            occurrences.add(new ClimateDate(dates[row]));
+        }
+        return occurrences;
+    }
+
+    /**
+     * Run a MAX/MIN/SUM/AVG/COUNT aggregate over the given column, excluding
+     * null and missing values.
+     *
+     * @param col
+     * @param begin
+     * @param end
+     * @param buildType
+     * @param missingValue
+     *            returned if there are no values to aggregate.
+     * @param excludeTrace
+     * @return the aggregate.
+     */
+    private Number aggregate(int col, int begin, int end,
+            ClimateDAO.BuildElementType buildType, Number missingValue,
+            boolean excludeTrace) {
+        double missing = missingValue.doubleValue();
+
+        int count = 0;
+        double max = Double.NEGATIVE_INFINITY;
+        double min = Double.POSITIVE_INFINITY;
+        // SQL sums real columns in single precision
+        float floatSum = 0;
+        double doubleSum = 0;
+
+        for (int row = firstRow(begin); row < dateKeys.length
+                && dateKeys[row] <= end; row++) {
+            double value = values[col][row];
+            if (Double.isNaN(value) || value == missing) {
+                continue;
+            }
+            if (excludeTrace && value == ParameterFormatClimate.TRACE) {
+                continue;
+            }
+            count++;
+            max = Math.max(max, value);
+            min = Math.min(min, value);
+            floatSum += (float) value;
+            doubleSum += value;
+        }
+
+        if (ClimateDAO.BuildElementType.COUNT.equals(buildType)) {
+            return count;
+        } else if (count == 0) {
+            return missingValue;
+        }
+
+        switch (buildType) {
+        case MAX:
+            return toColumnType(col, max);
+        case MIN:
+            return toColumnType(col, min);
+        case SUM:
+            return floating[col] ? floatSum : doubleSum;
+        case AVG:
+            return doubleSum / count;
+        default:
+            return missingValue;
+        }
+    }
+
+    /**
+     * @param col
+     * @param value
+     * @return the given value of the column, as the Number type the DB
+     *         returned for the column.
+     */
+    private Number toColumnType(int col, double value) {
+        Class<?> type = types[col];
+        if (Integer.class.equals(type)) {
+            return (int) value;
+        } else if (Short.class.equals(type)) {
+            return (short) value;
+        } else if (Long.class.equals(type)) {
+            return (long) value;
+        } else if (Float.class.equals(type)) {
+            return (float) value;
+        }
+        return value;
+    }
+
+    /**
+     * @param col
+     * @param begin
+     * @param end
+     * @param equalValue
+     * @return count of days where the column equals the given value.
+     */
+    private int count(int col, int begin, int end, double equalValue) {
+        int count = 0;
+        for (int row = firstRow(begin); row < dateKeys.length
+                && dateKeys[row] <= end; row++) {
+            if (values[col][row] == equalValue) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @param begin
+     *            yyyymmdd.
+     * @return index of the first row on or after the given date.
+     */
+    private int firstRow(int begin) {
+        int index = Arrays.binarySearch(dateKeys, begin);
+        if (index < 0) {
+            return -(index + 1);
+        }
+        // back up to the first of any duplicate dates
+        while (index > 0 && dateKeys[index - 1] == begin) {
+            index--;
+        }
+        return index;
+    }
+
+    /**
+     * @param column
+     * @return index of the given column.
+     */
+    private static int getColumnIndex(String column) {
+        Integer index = COLUMN_INDICES.get(column);
+        if (index == null) {
+            throw new IllegalArgumentException(
+                    "Column [" + column + "] is not loaded by the window.");
+        }
+        return index;
+    }
+
+    /**
+     * @param date
+     * @return the date as yyyymmdd.
+     */
+    private static int toKey(ClimateDate date) {
+        return (date.getYear() * 10000) + (date.getMon() * 100)
+                + date.getDay();
+    }
+}
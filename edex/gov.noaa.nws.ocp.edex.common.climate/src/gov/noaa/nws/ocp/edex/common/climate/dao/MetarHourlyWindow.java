@@ -0,0 +1,411 @@
+/**
+ * This software was developed and / or modified by NOAA/NWS/OCP/ASDT
+ **/
+package gov.noaa.nws.ocp.edex.common.climate.dao;
+
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeSet;
+
+import gov.noaa.nws.ocp.common.dataplugin.climate.ClimateDate;
+import gov.noaa.nws.ocp.common.dataplugin.climate.ClimateDates;
+import gov.noaa.nws.ocp.common.dataplugin.climate.exception.ClimateQueryException;
+import gov.noaa.nws.ocp.edex.common.climate.dao.ClimateCreatorDAO.FSSReportResult;
+
+/**
+ * In-memory copy of the METAR (MTR) reports of one station over a daily
+ * creator window, with their fss_contin_real and fss_categ_single element
+ * values. Used by the Climate Creator to answer its hourly METAR lookups from
+ * two queries per station, rather than one joined query per hour per element.
+ * Report selection for each nominal time mirrors
+ * {@link ClimateCreatorDAO#getMetarConreal(int, int, String)} (earliest valid
+ * time, then latest correction, then latest receipt) and
+ * {@link ClimateCreatorDAO#getMetarCategSingle(int, int, String)} (latest
+ * valid time, then latest correction, then latest receipt).
+ *
+ * <pre>
+ *
+ * SOFTWARE HISTORY
+ *
+ * Date         Ticket#    Engineer    Description
+ * ------------ ---------- ----------- --------------------------
+ * 17 OCT 2026             agent       Initial creation
+ * 17 OCT 2026             agent       Zero-pad the hour of looked up datetimes.
+ * 17 OCT 2026             agent       Leave unpadded hours to the queries.
+ * </pre>
+ *
+ * @author agent
+ */
+public final class MetarHourlyWindow {
+
+    /**
+     * Hours loaded before the start and after the end of the creator window,
+     * to cover 3- and 6-hour precip and 24-hour temperature groups reported
+     * just outside of it.
+     */
+    private static final int MARGIN_HOURS = 6;
+
+    /** Station of the window. */
+    private final int informId;
+
+    /** First nominal datetime of the window, as yyyy-MM-dd HH:mm. */
+    private final String beginDateTime;
+
+    /** Last nominal datetime of the window, as yyyy-MM-dd HH:mm. */
+    private final String endDateTime;
+
+    /** fss_contin_real values of the earliest valid report of each hour. */
+    private final HourlyGrid continReal;
+
+    /** fss_categ_single values of the latest valid report of each hour. */
+    private final HourlyGrid categSingle;
+
+    /**
+     * Constructor.
+     *
+     * @param informId
+     * @param beginDateTime
+     * @param endDateTime
+     * @param continReal
+     * @param categSingle
+     */
+    private MetarHourlyWindow(int informId, String beginDateTime,
+            String endDateTime, HourlyGrid continReal,
+            HourlyGrid categSingle) {
+        this.informId = informId;
+        this.beginDateTime = beginDateTime;
+        this.endDateTime = endDateTime;
+        this.continReal = continReal;
+        this.categSingle = categSingle;
+    }
+
+    /**
+     * Load the METAR window of the given station.
+     *
+     * @param dao
+     *            DAO to query with.
+     * @param informId
+     *            station ID.
+     * @param window
+     *            creator window (UTC).
+     * @return the loaded window.
+     * @throws ClimateQueryException
+     *             on query or casting error.
+     */
+    static MetarHourlyWindow load(ClimateDAO dao, int informId,
+            ClimateDates window) throws ClimateQueryException {
+        Calendar beginCal = window.getStart().getCalendarFromClimateDate();
+        beginCal.set(Calendar.HOUR_OF_DAY, window.getStartTime().getHour());
+        beginCal.set(Calendar.MINUTE, window.getStartTime().getMin());
+        beginCal.add(Calendar.HOUR_OF_DAY, -MARGIN_HOURS);
+
+        Calendar endCal = window.getEnd().getCalendarFromClimateDate();
+        endCal.set(Calendar.HOUR_OF_DAY, window.getEndTime().getHour());
+        endCal.set(Calendar.MINUTE, window.getEndTime().getMin());
+        endCal.add(Calendar.HOUR_OF_DAY, MARGIN_HOURS);
+
+        String beginDateTime = ClimateDate.getFullDateTimeFormat()
+                .format(beginCal.getTime());
+        String endDateTime = ClimateDate.getFullDateTimeFormat()
+                .format(endCal.getTime());
+
+        // end is exclusive, a minute past the last nominal time formatted
+        endCal.add(Calendar.MINUTE, 1);
+        String endExclusiveDateTime = ClimateDate.getFullDateTimeFormat()
+                .format(endCal.getTime());
+
+        HourlyGrid continReal = HourlyGrid.load(dao,
+                ClimateDAOValues.FSS_CONTIN_REAL_TABLE_NAME, informId,
+                beginDateTime, endExclusiveDateTime, true);
+        HourlyGrid categSingle = HourlyGrid.load(dao,
+                ClimateDAOValues.FSS_CATEGORY_SINGLE_TABLE_NAME, informId,
+                beginDateTime, endExclusiveDateTime, false);
+
+        return new MetarHourlyWindow(informId, beginDateTime, endDateTime,
+                continReal, categSingle);
+    }
+
+    /**
+     * @param iInformId
+     * @param dateTime
+     *            nominal datetime in format "yyyy-MM-dd HH:mm".
+     * @return true if a METAR lookup for the given station and nominal time
+     *         can be answered from this window.
+     */
+    boolean covers(int iInformId, String dateTime) {
+        return (iInformId == informId) && isNominalDateTime(dateTime)
+                && (beginDateTime.compareTo(dateTime) <= 0)
+                && (endDateTime.compareTo(dateTime) >= 0);
+    }
+
+    /**
+     * @param elementID
+     * @param dateTime
+     *            nominal datetime in format "yyyy-MM-dd HH:mm".
+     * @return the fss_contin_real value and data quality descriptor of the
+     *         earliest valid METAR for the nominal time, or the missing value.
+     */
+    FSSReportResult getConreal(int elementID, String dateTime) {
+        return continReal.get(elementID, dateTime);
+    }
+
+    /**
+     * @param elementID
+     * @param dateTime
+     *            nominal datetime in format "yyyy-MM-dd HH:mm".
+     * @return the fss_categ_single value and data quality descriptor of the
+     *         latest valid METAR for the nominal time, or the missing value.
+     */
+    FSSReportResult getCategSingle(int elementID, String dateTime) {
+        return categSingle.get(elementID, dateTime);
+    }
+
+    /**
+     * @param dateTime
+     *            nominal datetime.
+     * @return true if the datetime is in format "yyyy-MM-dd HH:mm", as the
+     *         window is keyed. Any other string, such as one with an unpadded
+     *         hour, is left to the single-hour query, which compares it with
+     *         the to_char text of the report times.
+     */
+    private static boolean isNominalDateTime(String dateTime) {
+        return (dateTime != null) && (dateTime.length() == 16)
+                && (dateTime.charAt(13) == ':');
+    }
+
+    /**
+     * Element values of the selected report of each nominal hour, indexed by
+     * hour and element.
+     */
+    private static final class HourlyGrid {
+
+        /** Nominal datetime to hour index. */
+        private final Map<String, Integer> hourIndices;
+
+        /** Sorted element IDs; the position is the element index. */
+        private final int[] elementIds;
+
+        /** Values by hour and element. Null DB values are stored as NaN. */
+        private final double[][] values;
+
+        /** Data quality descriptors by hour and element. */
+        private final String[][] dqds;
+
+        /**
+         * Constructor.
+         *
+         * @param hourIndices
+         * @param elementIds
+         * @param values
+         * @param dqds
+         */
+        private HourlyGrid(Map<String, Integer> hourIndices, int[] elementIds,
+                double[][] values, String[][] dqds) {
+            this.hourIndices = hourIndices;
+            this.elementIds = elementIds;
+            this.values = values;
+            this.dqds = dqds;
+        }
+
+        /**
+         * Load all MTR reports of the station in the given nominal time range
+         * joined with their element values from the given table, then keep
+         * the values of the selected report of each nominal time.
+         *
+         * @param dao
+         * @param tableName
+         *            element value table.
+         * @param informId
+         * @param beginDateTime
+         *            inclusive lower bound on nominal time.
+         * @param endExclusiveDateTime
+         *            exclusive upper bound on nominal time.
+         * @param earliestValid
+         *            true to select the earliest valid time of each nominal
+         *            time, false to select the latest.
+         * @return the grid.
+         * @throws ClimateQueryException
+         */
+        private static HourlyGrid load(ClimateDAO dao, String tableName,
+                int informId, String beginDateTime,
+                String endExclusiveDateTime, boolean earliestValid)
+                throws ClimateQueryException {
+            StringBuilder query = new StringBuilder(
+                    "SELECT to_char(f.nominal_dtime, 'yyyy-MM-dd HH24:MI'), ");
+            query.append(" f.fss_rpt_instance, f.valid_dtime, ");
+            query.append(" f.origin_dtime, f.correction, ");
+            query.append(" x.element_id, x.element_value, x.dqd FROM ");
+            query.append(ClimateDAOValues.FSS_REPORT_TABLE_NAME);
+            query.append(" AS f LEFT OUTER JOIN ");
+            query.append(tableName);
+            query.append(" AS x USING (fss_rpt_instance) ");
+            query.append(" WHERE f.station_id = :informId");
+            query.append(" AND f.report_subtype = 'MTR' ");
+            query.append(" AND f.nominal_dtime >= ");
+            query.append("CAST(:beginDateTime AS timestamp)");
+            query.append(" AND f.nominal_dtime < ");
+            query.append("CAST(:endDateTime AS timestamp)");
+
+            Map<String, Object> paramMap = new HashMap<>();
+            paramMap.put("informId", informId);
+            paramMap.put("beginDateTime", beginDateTime);
+            paramMap.put("endDateTime", endExclusiveDateTime);
+
+            Object[] results;
+            try {
+                results = dao.getDao().executeSQLQuery(query.toString(),
+                        paramMap);
+            } catch (Exception e) {
+                throw new ClimateQueryException(
+                        "An error was encountered retrieving METAR reports with query: ["
+                                + query + "] and map: [" + paramMap + "]",
+                        e);
+            }
+
+            if (results == null) {
+                results = new Object[0];
+            }
+
+            /*
+             * Select the report for each nominal time, in the order of the
+             * single-hour query.
+             */
+            Map<String, Object[]> selected = new HashMap<>();
+            for (Object result : results) {
+                if (!(result instanceof Object[])) {
+                    throw new ClimateQueryException(
+                            "Unexpected return type from query, expected Object[], got "
+                                    + result.getClass().getName());
+                }
+                Object[] oa = (Object[]) result;
+                Object[] current = selected.get(oa[0]);
+                if ((current == null)
+                        || isBefore(oa, current, earliestValid)) {
+                    selected.put((String) oa[0], oa);
+                }
+            }
+
+            /*
+             * Collect the element values of the selected reports.
+             */
+            TreeSet<Integer> elementSet = new TreeSet<>();
+            for (Object result : results) {
+                Object[] oa = (Object[]) result;
+                if ((oa[5] != null) && isSelected(oa, selected)) {
+                    elementSet.add(((Number) oa[5]).intValue());
+                }
+            }
+            int[] elementIds = new int[elementSet.size()];
+            int e = 0;
+            for (Integer elementId : elementSet) {
+                elementIds[e++] = elementId;
+            }
+
+            Map<String, Integer> hourIndices = new HashMap<>();
+            for (String nominal : new TreeSet<>(selected.keySet())) {
+                hourIndices.put(nominal, hourIndices.size());
+            }
+
+            int numHours = hourIndices.size();
+            double[][] values = new double[numHours][elementIds.length];
+            String[][] dqds = new String[numHours][elementIds.length];
+            for (double[] hourValues : values) {
+                Arrays.fill(hourValues, Double.NaN);
+            }
+
+            for (Object result : results) {
+                Object[] oa = (Object[]) result;
+                if ((oa[5] != null) && isSelected(oa, selected)) {
+                    int hour = hourIndices.get(oa[0]);
+                    int element = Arrays.binarySearch(elementIds,
+                            ((Number) oa[5]).intValue());
+                    if (oa[6] != null) {
+                        values[hour][element] = ((Number) oa[6])
+                                .doubleValue();
+                    }
+                    dqds[hour][element] = (oa[7] != null) ? (String) oa[7]
+                            : "";
+                }
+            }
+
+            return new HourlyGrid(hourIndices, elementIds, values, dqds);
+        }
+
+        /**
+         * @param elementID
+         * @param dateTime
+         * @return the value and data quality descriptor of the given element
+         *         for the selected report of the given nominal time, or the
+         *         missing value.
+         */
+        private FSSReportResult get(int elementID, String dateTime) {
+            Integer hour = hourIndices.get(dateTime);
+            if (hour == null) {
+                return new FSSReportResult();
+            }
+            int element = Arrays.binarySearch(elementIds, elementID);
+            if ((element < 0) || Double.isNaN(values[hour][element])) {
+                return new FSSReportResult();
+            }
+            return new FSSReportResult(values[hour][element],
+                    dqds[hour][element]);
+        }
+
+        /**
+         * @param oa
+         * @param selected
+         * @return true if the row belongs to the selected report of its
+         *         nominal time.
+         */
+        private static boolean isSelected(Object[] oa,
+                Map<String, Object[]> selected) {
+            return ((Number) selected.get(oa[0])[1])
+                    .longValue() == ((Number) oa[1]).longValue();
+        }
+
+        /**
+         * Order of the single-hour query: valid time (ascending for earliest
+         * valid, else descending), then correction descending, then origin
+         * time descending. Descending order puts nulls first, as Postgres
+         * does.
+         *
+         * @param row
+         * @param other
+         * @param earliestValid
+         * @return true if the row sorts before the other row.
+         */
+        private static boolean isBefore(Object[] row, Object[] other,
+                boolean earliestValid) {
+            int compare = Long.compare(((Date) row[2]).getTime(),
+                    ((Date) other[2]).getTime());
+            if (!earliestValid) {
+                compare = -compare;
+            }
+            if (compare == 0) {
+                compare = compareDescending(row[4], other[4]);
+            }
+            if (compare == 0) {
+                compare = compareDescending(row[3], other[3]);
+            }
+            return compare < 0;
+        }
+
+        /**
+         * @param a
+         * @param b
+         * @return descending comparison of the given values, nulls first.
+         */
+        @SuppressWarnings("unchecked")
+        private static int compareDescending(Object a, Object b) {
+            if (a == null) {
+                return (b == null) ? 0 : -1;
+            } else if (b == null) {
+                return 1;
+            }
+            return ((Comparable<Object>) b).compareTo(a);
+        }
+    }
+}
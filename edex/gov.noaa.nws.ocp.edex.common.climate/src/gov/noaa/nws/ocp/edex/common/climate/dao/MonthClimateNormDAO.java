@@ -37,6 +37,7 @@ import gov.noaa.nws.ocp.common.dataplugin.climate.parameter.ParameterFormatClima
  * 25 APR 2017  33104      amoore      Logging clean up.
  * 02 MAY 2017  33104      amoore      More query map replacements. Use abstract maps.
  * 08 SEP 2017  37809      amoore      For queries, cast to Number rather than specific number type.
+ * 17 OCT 2026             agent       Invalidate ClimateNormsStore on writes.
  * </pre>
  * 
  * @author wkwock
@@ -573,6 +574,7 @@ public class MonthClimateNormDAO extends ClimateDAO {
 
         try {
             int numRow = getDao().executeSQLUpdate(sql.toString(), queryParams);
+            ClimateNormsStore.invalidate(record.getInformId());
             return (numRow == 1);
         } catch (Exception e) {
             throw new ClimateQueryException("Failed to update table "
@@ -878,6 +880,7 @@ public class MonthClimateNormDAO extends ClimateDAO {
 
         try {
             int numRow = getDao().executeSQLUpdate(sql.toString(), queryParams);
+            ClimateNormsStore.invalidate(record.getInformId());
             return (numRow == 1);
         } catch (Exception e) {
             throw new ClimateQueryException("Failed to update table "
@@ -912,6 +915,7 @@ public class MonthClimateNormDAO extends ClimateDAO {
         boolean isDeleted = false;
         try {
             int numRow = getDao().executeSQLUpdate(sql.toString(), queryParams);
+            ClimateNormsStore.invalidate(stationId);
             isDeleted = (numRow == 1);
         } catch (Exception e) {
             throw new ClimateQueryException("Failed to delete a row. Query: ["
@@ -1274,6 +1278,7 @@ public class MonthClimateNormDAO extends ClimateDAO {
         boolean isInserted = false;
         try {
             int numRow = getDao().executeSQLUpdate(sql.toString(), queryParams);
+            ClimateNormsStore.invalidate(record.getInformId());
             isInserted = (numRow == 1);
         } catch (Exception e) {
             throw new ClimateQueryException("Failed to insert into table "
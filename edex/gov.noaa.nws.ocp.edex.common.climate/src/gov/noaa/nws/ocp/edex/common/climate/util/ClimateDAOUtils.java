@@ -44,6 +44,7 @@ import gov.noaa.nws.ocp.edex.common.climate.dao.DailyClimateDAO;
  * 20 JUN 2017  35179      amoore      Fix issue with improper summing dates for season/year data.
  * 01 MAR 2018  44624      amoore      Clean up #setSeason with modern logic.
  * 02 MAY 2018  DR17116    wpaintsil   Accommodate multiple alternate precip/snow seasons.
+ * 17 OCT 2026             agent       Overload #getSeason with the climo dates to use.
  * </pre>
  * 
  * @author xzhang
@@ -1024,6 +1025,22 @@ public final class ClimateDAOUtils {
      */
     public static ClimateSeason getSeason(ClimateDate aDate)
             throws ClimateQueryException {
+        // Retrieve the climo_dates information from localization instead of the
+        // database table.
+        return getSeason(aDate,
+                ClimoDatesManager.getInstance().getClimoDates());
+    }
+
+    /**
+     * As {@link #getSeason(ClimateDate)}, with the given climo dates.
+     * 
+     * @param aDate
+     * @param localClimoDates
+     *            seasonal and yearly dates for snow and precipitation.
+     * @throws ClimateQueryException
+     */
+    public static ClimateSeason getSeason(ClimateDate aDate,
+            ClimoDates localClimoDates) throws ClimateQueryException {
         ClimateSeason season = new ClimateSeason();
 
         ClimateDate firstDay = new ClimateDate(1, 1, aDate.getYear());
@@ -1036,11 +1053,6 @@ public final class ClimateDAOUtils {
          * precipitation from the data base. If they aren't in the data base,
          * then set them here.
          */
-        // Retrieve the climo_dates information from localization instead of the
-        // database table.
-        ClimoDates localClimoDates = ClimoDatesManager.getInstance()
-                .getClimoDates();
-
         List<ClimateDate> precipSeasons = localClimoDates.getPrecipSeasons();
         ClimateDate precipYear = localClimoDates.getPrecipYear();
         List<ClimateDate> snowSeasons = localClimoDates.getSnowSeasons();
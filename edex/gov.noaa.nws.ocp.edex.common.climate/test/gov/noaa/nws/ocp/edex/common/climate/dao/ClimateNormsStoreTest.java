@@ -0,0 +1,333 @@
+/**
+ * This software was developed and / or modified by NOAA/NWS/OCP/ASDT
+ **/
+package gov.noaa.nws.ocp.edex.common.climate.dao;
+
+import static org.junit.Assert.assertEquals;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import gov.noaa.nws.ocp.common.dataplugin.climate.ClimateDate;
+import gov.noaa.nws.ocp.common.dataplugin.climate.parameter.ParameterFormatClimate;
+
+/**
+ * Checks that the historical sums of {@link ClimatePeriodNormDAO} from the
+ * {@link ClimateNormsStore} equal those of the original queries, over normals
+ * of four stations in a scratch schema of a local PostgreSQL database (see
+ * {@link ClimateTestDatabase}):
+ * <ol>
+ * <li>complete normals, with fractional values so float rounding shows</li>
+ * <li>precipitation and snow normals that are trace or zero</li>
+ * <li>missing and null values on some days, and in some months, one of which
+ * has no row at all</li>
+ * <li>daily normals only</li>
+ * </ol>
+ * Periods are taken in a leap and a common year, from and to the first,
+ * middle and last days of the months, Feb 29th included, and wrapping around
+ * the end of the year.
+ *
+ * <pre>
+ *
+ * SOFTWARE HISTORY
+ *
+ * Date         Ticket#    Engineer    Description
+ * ------------ ---------- ----------- --------------------------
+ * 17 OCT 2026             agent       Initial creation
+ * </pre>
+ *
+ * @author agent
+ */
+public class ClimateNormsStoreTest {
+
+    private static final String SCHEMA = "climate_norms_test";
+
+    private static final int COMPLETE = 9001;
+
+    private static final int TRACE = 9002;
+
+    private static final int MISSING = 9003;
+
+    private static final int DAILY_ONLY = 9004;
+
+    private static final int[] STATIONS = { COMPLETE, TRACE, MISSING,
+            DAILY_ONLY };
+
+    private static final int[] DAYS_PER_MONTH = { 31, 29, 31, 30, 31, 30, 31,
+            31, 30, 31, 30, 31 };
+
+    private static final int[] MONTHS = { 1, 2, 3, 6, 11, 12 };
+
+    private static final int[] YEARS = { 2016, 2017 };
+
+    private static Connection connection;
+
+    private static ClimatePeriodNormDAO dao;
+
+    @BeforeClass
+    public static void createNormals() throws SQLException {
+        connection = ClimateTestDatabase.open(SCHEMA);
+
+        StringBuilder dayTable = new StringBuilder("CREATE TABLE ")
+                .append(ClimateDAOValues.DAY_CLIMATE_NORM_TABLE_NAME)
+                .append(" (station_id integer, day_of_year varchar(5)");
+        for (String column : ClimateNormsStore.DAY_COLUMNS) {
+            dayTable.append(", ").append(column).append(" real");
+        }
+        StringBuilder monthTable = new StringBuilder("CREATE TABLE ")
+                .append(ClimateDAOValues.MONTH_CLIMATE_NORM_TABLE_NAME)
+                .append(" (station_id integer, month_of_year integer,")
+                .append(" period_type integer");
+        for (String column : ClimateNormsStore.MONTH_COLUMNS) {
+            monthTable.append(", ").append(column).append(" real");
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(dayTable.append(")").toString());
+            statement.execute(monthTable.append(")").toString());
+        }
+
+        // rows in day and month of year order, as the store sums them
+        for (int station : STATIONS) {
+            insertDays(station);
+            if (station != DAILY_ONLY) {
+                insertMonths(station);
+            }
+            ClimateNormsStore.invalidate(station);
+        }
+
+        dao = new ClimatePeriodNormDAO();
+    }
+
+    @AfterClass
+    public static void dropNormals() throws SQLException {
+        for (int station : STATIONS) {
+            ClimateNormsStore.invalidate(station);
+        }
+        ClimateTestDatabase.close(connection);
+    }
+
+    @Test
+    public void testDegreeDays() {
+        for (int station : STATIONS) {
+            for (ClimateDate[] period : periods()) {
+                String message = describe(station, period);
+                assertEquals("cool " + message,
+                        dao.querySumHisCool(period[0], period[1], station),
+                        dao.sumHisCool(period[0], period[1], station));
+                assertEquals("heat " + message,
+                        dao.querySumHisHeat(period[0], period[1], station),
+                        dao.sumHisHeat(period[0], period[1], station));
+            }
+        }
+    }
+
+    @Test
+    public void testPrecipAndSnow() {
+        for (int station : STATIONS) {
+            for (ClimateDate[] period : periods()) {
+                String message = describe(station, period);
+                assertEquals("precip " + message,
+                        dao.querySumHisPrecip(period[0], period[1], station),
+                        dao.sumHisPrecip(period[0], period[1], station), 0);
+                assertEquals("snow " + message,
+                        dao.querySumHisSnow(period[0], period[1], station),
+                        dao.sumHisSnow(period[0], period[1], station), 0);
+            }
+        }
+    }
+
+    @Test
+    public void testMonthlySums() {
+        for (int station : STATIONS) {
+            for (String column : ClimateNormsStore.MONTH_COLUMNS) {
+                for (int begin = 1; begin <= 12; begin++) {
+                    for (int end = 1; end <= 12; end++) {
+                        int months = end < begin ? 13 - begin + end
+                                : end - begin + 1;
+                        // also a count that never matches
+                        for (int numMos : new int[] { months, months - 1 }) {
+                            String message = column + " station " + station
+                                    + " months " + begin + "-" + end + " of "
+                                    + numMos;
+                            assertEquals(message,
+                                    dao.queryMonthlySums(begin, end, numMos,
+                                            station, column),
+                                    dao.monthlySums(begin, end, numMos,
+                                            station, column),
+                                    0);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * @return periods from and to the first, 15th and last days of some
+     *         months, and Feb 29th, of a leap and a common year; begin and end
+     *         in the same year, so an end month before the begin month wraps.
+     */
+    private static List<ClimateDate[]> periods() {
+        List<ClimateDate[]> periods = new ArrayList<>();
+        for (int year : YEARS) {
+            List<ClimateDate> dates = new ArrayList<>();
+            for (int month : MONTHS) {
+                int last = (month == 2) && !ClimateDate.isLeapYear(year) ? 28
+                        : DAYS_PER_MONTH[month - 1];
+                dates.add(new ClimateDate(1, month, year));
+                dates.add(new ClimateDate(15, month, year));
+                dates.add(new ClimateDate(last, month, year));
+                if (month == 2 && last == 29) {
+                    dates.add(new ClimateDate(28, month, year));
+                }
+            }
+            for (ClimateDate begin : dates) {
+                for (ClimateDate end : dates) {
+                    if ((end.getMon() != begin.getMon())
+                            || (end.getDay() >= begin.getDay())) {
+                        periods.add(new ClimateDate[] { begin, end });
+                    }
+                }
+            }
+        }
+        return periods;
+    }
+
+    private static String describe(int station, ClimateDate[] period) {
+        return "station " + station + " from "
+                + period[0].toFullDateString() + " to "
+                + period[1].toFullDateString();
+    }
+
+    private static void insertDays(int station) throws SQLException {
+        String[] columns = ClimateNormsStore.DAY_COLUMNS;
+        StringBuilder insert = new StringBuilder("INSERT INTO ")
+                .append(ClimateDAOValues.DAY_CLIMATE_NORM_TABLE_NAME)
+                .append(" (station_id, day_of_year, ")
+                .append(String.join(", ", columns)).append(") VALUES (?, ?");
+        for (int i = 0; i < columns.length; i++) {
+            insert.append(", ?");
+        }
+        insert.append(")");
+
+        try (PreparedStatement statement = connection
+                .prepareStatement(insert.toString())) {
+            for (int month = 1; month <= 12; month++) {
+                for (int day = 1; day <= DAYS_PER_MONTH[month - 1]; day++) {
+                    int slot = ClimateNormsStore.getDaySlot(month, day);
+                    statement.setInt(1, station);
+                    statement.setString(2,
+                            String.format("%02d-%02d", month, day));
+                    for (int i = 0; i < columns.length; i++) {
+                        setValue(statement, 3 + i,
+                                value(station, columns[i], slot, false));
+                    }
+                    statement.addBatch();
+                }
+            }
+            statement.executeBatch();
+        }
+    }
+
+    private static void insertMonths(int station) throws SQLException {
+        String[] columns = ClimateNormsStore.MONTH_COLUMNS;
+        StringBuilder insert = new StringBuilder("INSERT INTO ")
+                .append(ClimateDAOValues.MONTH_CLIMATE_NORM_TABLE_NAME)
+                .append(" (station_id, month_of_year, period_type, ")
+                .append(String.join(", ", columns))
+                .append(") VALUES (?, ?, 5");
+        for (int i = 0; i < columns.length; i++) {
+            insert.append(", ?");
+        }
+        insert.append(")");
+
+        try (PreparedStatement statement = connection
+                .prepareStatement(insert.toString())) {
+            for (int month = 1; month <= 12; month++) {
+                if ((station == MISSING) && (month == 6)) {
+                    continue;
+                }
+                statement.setInt(1, station);
+                statement.setInt(2, month);
+                for (int i = 0; i < columns.length; i++) {
+                    setValue(statement, 3 + i,
+                            value(station, columns[i], month, true));
+                }
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+    }
+
+    private static void setValue(PreparedStatement statement, int index,
+            Float value) throws SQLException {
+        if (value == null) {
+            statement.setNull(index, Types.REAL);
+        } else {
+            statement.setFloat(index, value);
+        }
+    }
+
+    /**
+     * @param station
+     * @param column
+     * @param index
+     *            day slot, or month of year.
+     * @param monthly
+     *            true for monthly normals.
+     * @return fixture value of the column, null for SQL null.
+     */
+    private static Float value(int station, String column, int index,
+            boolean monthly) {
+        boolean degreeDays = column.startsWith("cool_")
+                || column.startsWith("heat_");
+        boolean precipOrSnow = column.startsWith("precip_")
+                || column.startsWith("snow_");
+        // fractional and varying, so that summing order matters
+        float value = ((index * 37 + column.length() * 11) % 97) / 7f
+                + (monthly ? 30 : 0);
+
+        switch (station) {
+        case TRACE:
+            if (precipOrSnow) {
+                if (monthly) {
+                    return index % 2 == 0 ? ParameterFormatClimate.TRACE : 0f;
+                }
+                return index % 3 == 0 ? ParameterFormatClimate.TRACE : 0f;
+            }
+            return value;
+        case MISSING:
+            if (monthly) {
+                if ((index == 4) && degreeDays) {
+                    return (float) ParameterFormatClimate.MISSING_DEGREE_DAY;
+                } else if ((index == 3) && precipOrSnow) {
+                    return ParameterFormatClimate.MISSING_PRECIP;
+                } else if (index == 9) {
+                    return null;
+                }
+                return value;
+            }
+            if (index % 45 == 0) {
+                return null;
+            } else if ((index % 40 == 0) && degreeDays) {
+                return (float) ParameterFormatClimate.MISSING_DEGREE_DAY;
+            } else if ((index % 50 == 0) && precipOrSnow) {
+                return ParameterFormatClimate.MISSING_PRECIP;
+            } else if ((index % 29 == 0) && precipOrSnow) {
+                return ParameterFormatClimate.TRACE;
+            }
+            return value;
+        default:
+            return value;
+        }
+    }
+}
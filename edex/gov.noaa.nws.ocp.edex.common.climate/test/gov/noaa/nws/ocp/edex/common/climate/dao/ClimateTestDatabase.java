@@ -0,0 +1,120 @@
+/**
+ * This software was developed and / or modified by NOAA/NWS/OCP/ASDT
+ **/
+package gov.noaa.nws.ocp.edex.common.climate.dao;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Properties;
+
+import org.hibernate.SessionFactory;
+import org.junit.Assume;
+import org.springframework.context.support.StaticApplicationContext;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.hibernate4.HibernateTransactionManager;
+import org.springframework.orm.hibernate4.LocalSessionFactoryBuilder;
+
+import com.raytheon.uf.edex.core.EDEXUtil;
+
+import gov.noaa.nws.ocp.edex.common.climate.dataaccess.ClimateDataAccessConfiguration;
+
+/**
+ * Local PostgreSQL stand-in for the climate database, for tests that run the
+ * climate DAOs. The database is given by the system properties
+ * climate.test.db.url, climate.test.db.user and climate.test.db.password;
+ * tests using it are skipped when no database is given. Tables are created by
+ * each test in a scratch schema, which the DAOs' session factory uses as its
+ * search path.
+ *
+ * <pre>
+ *
+ * SOFTWARE HISTORY
+ *
+ * Date         Ticket#    Engineer    Description
+ * ------------ ---------- ----------- --------------------------
+ * 17 OCT 2026             agent       Initial creation
+ * </pre>
+ *
+ * @author agent
+ */
+final class ClimateTestDatabase {
+
+    private static DriverManagerDataSource dataSource;
+
+    private static String schema;
+
+    private ClimateTestDatabase() {
+    }
+
+    /**
+     * Skip the calling test unless a database is given. Otherwise create the
+     * scratch schema, dropping any left from an earlier run, and register a
+     * session factory and transaction manager on it, under the names the
+     * climate DAOs look up, as climate-db-common.xml does.
+     *
+     * @param scratchSchema
+     *            schema to create the test tables in.
+     * @return connection with the scratch schema as search path, for creating
+     *         fixtures.
+     * @throws SQLException
+     */
+    static synchronized Connection open(String scratchSchema)
+            throws SQLException {
+        String url = System.getProperty("climate.test.db.url");
+        Assume.assumeNotNull(url);
+
+        schema = scratchSchema;
+        Properties properties = new Properties();
+        properties.setProperty("currentSchema", schema);
+        dataSource = new DriverManagerDataSource(url,
+                System.getProperty("climate.test.db.user", "awips"),
+                System.getProperty("climate.test.db.password", ""));
+        dataSource.setConnectionProperties(properties);
+
+        Connection connection = dataSource.getConnection();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP SCHEMA IF EXISTS " + schema + " CASCADE");
+            statement.execute("CREATE SCHEMA " + schema);
+            statement.execute("SET search_path TO " + schema);
+        }
+
+        SessionFactory sessionFactory = new LocalSessionFactoryBuilder(
+                dataSource)
+                        .setProperty("hibernate.dialect",
+                                "org.hibernate.dialect.PostgreSQLDialect")
+                        .buildSessionFactory();
+        String database = ClimateDataAccessConfiguration.getClimateDBName();
+        StaticApplicationContext context = new StaticApplicationContext();
+        for (String prefix : new String[] { "", "admin_" }) {
+            context.getBeanFactory().registerSingleton(
+                    prefix + database + "SessionFactory", sessionFactory);
+            context.getBeanFactory().registerSingleton(
+                    prefix + database + "TxManager",
+                    new HibernateTransactionManager(sessionFactory));
+        }
+        context.refresh();
+        new EDEXUtil().setApplicationContext(context);
+
+        return connection;
+    }
+
+    /**
+     * Drop the scratch schema and close the fixture connection.
+     *
+     * @param connection
+     *            connection returned by {@link #open(String)}, or null if the
+     *            test was skipped.
+     * @throws SQLException
+     */
+    static synchronized void close(Connection connection) throws SQLException {
+        if (connection == null) {
+            return;
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP SCHEMA " + schema + " CASCADE");
+        } finally {
+            connection.close();
+        }
+    }
+}
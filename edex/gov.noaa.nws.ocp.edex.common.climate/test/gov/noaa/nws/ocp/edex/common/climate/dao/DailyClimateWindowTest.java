@@ -0,0 +1,311 @@
+/**
+ * This software was developed and / or modified by NOAA/NWS/OCP/ASDT
+ **/
+package gov.noaa.nws.ocp.edex.common.climate.dao;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Calendar;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import gov.noaa.nws.ocp.common.dataplugin.climate.ClimateDate;
+import gov.noaa.nws.ocp.common.dataplugin.climate.ClimateGlobal;
+import gov.noaa.nws.ocp.common.dataplugin.climate.PeriodData;
+import gov.noaa.nws.ocp.common.dataplugin.climate.PeriodDataMethod;
+import gov.noaa.nws.ocp.common.dataplugin.climate.PeriodType;
+import gov.noaa.nws.ocp.common.dataplugin.climate.exception.ClimateInvalidParameterException;
+import gov.noaa.nws.ocp.common.dataplugin.climate.exception.ClimateQueryException;
+import gov.noaa.nws.ocp.common.dataplugin.climate.parameter.ParameterFormatClimate;
+
+/**
+ * Checks that the period data built by
+ * {@link ClimatePeriodDAO#buildPeriodObsClimo(ClimateDate, ClimateDate, PeriodData, ClimateGlobal, PeriodType)}
+ * from a {@link DailyClimateWindow} equals, field for field, the period data
+ * built with one daily table query per element. The daily rows are built in a
+ * scratch schema of a local PostgreSQL database (see
+ * {@link ClimateTestDatabase}) for two years of two stations, and include:
+ * <ol>
+ * <li>days with no row</li>
+ * <li>null and missing values in every column</li>
+ * <li>trace precip, snow and snow on ground, and a summer of only zero and
+ * trace snow on ground</li>
+ * <li>values on the temperature, precip and snow thresholds</li>
+ * <li>ties for the temperature extremes</li>
+ * </ol>
+ * The period, seasonal and ASOS tables queried by both builds are left empty.
+ *
+ * <pre>
+ *
+ * SOFTWARE HISTORY
+ *
+ * Date         Ticket#    Engineer    Description
+ * ------------ ---------- ----------- --------------------------
+ * 17 OCT 2026             agent       Initial creation
+ * </pre>
+ *
+ * @author agent
+ */
+public class DailyClimateWindowTest {
+
+    private static final String SCHEMA = "daily_window_test";
+
+    private static final int STATION = 7;
+
+    private static final int OTHER_STATION = 8;
+
+    /** Station with no daily rows. */
+    private static final int EMPTY_STATION = 9;
+
+    private static final int NUM_WX_COLUMNS = 15;
+
+    private static Connection connection;
+
+    private static ClimatePeriodDAO dao;
+
+    @BeforeClass
+    public static void createDailyClimate() throws SQLException {
+        connection = ClimateTestDatabase.open(SCHEMA);
+
+        try (Statement statement = connection.createStatement()) {
+            StringBuilder daily = new StringBuilder("CREATE TABLE ");
+            daily.append(ClimateDAOValues.DAILY_CLIMATE_TABLE_NAME);
+            daily.append(" (station_id integer, date date,");
+            daily.append(" max_temp integer, min_temp integer,");
+            daily.append(" precip real, snow real, snow_ground real,");
+            daily.append(" heat integer, cool integer, avg_sky_cover real,");
+            daily.append(" percent_pos_sun integer, avg_wind_speed real,");
+            daily.append(" max_wind_spd real, max_wind_dir integer,");
+            daily.append(" max_gust_spd real, max_gust_dir integer,");
+            daily.append(" max_rh integer, min_rh integer");
+            for (int i = 1; i <= NUM_WX_COLUMNS; i++) {
+                daily.append(", wx_").append(i).append(" integer");
+            }
+            daily.append(")");
+            statement.execute(daily.toString());
+
+            StringBuilder seasonal = new StringBuilder("CREATE TABLE ");
+            seasonal.append(
+                    ClimateDAOValues.CLIMATE_MONTHLY_SEASON_ANNUAL_TABLE_NAME);
+            seasonal.append(" (inform_id integer, period_type integer,");
+            seasonal.append(" period_start date, period_end date,");
+            seasonal.append(" snow_total real, snow_ground_max real,");
+            seasonal.append(" max_wind_spd real, max_gust_spd real");
+            for (int i = 1; i <= 3; i++) {
+                seasonal.append(", snow_ground_date").append(i).append(" date");
+                seasonal.append(", max_wind_dir").append(i).append(" integer");
+                seasonal.append(", max_wind_date").append(i).append(" date");
+                seasonal.append(", max_gust_dir").append(i).append(" integer");
+                seasonal.append(", max_gust_date").append(i).append(" date");
+            }
+            seasonal.append(")");
+            statement.execute(seasonal.toString());
+
+            StringBuilder asos = new StringBuilder("CREATE TABLE ");
+            asos.append(ClimateDAOValues.CLI_ASOS_DAILY_TABLE_NAME);
+            asos.append(" (station_code varchar(4), day_of_year varchar(5),");
+            asos.append(" year integer");
+            for (int i = 1; i <= 24; i++) {
+                asos.append(String.format(", pcp_hr_amt_%02d real", i));
+            }
+            asos.append(")");
+            statement.execute(asos.toString());
+
+            statement.execute("CREATE TABLE "
+                    + ClimateDAOValues.STATION_LOCATION_TABLE_NAME
+                    + " (station_id integer, station_code varchar(4))");
+            statement.execute("INSERT INTO "
+                    + ClimateDAOValues.STATION_LOCATION_TABLE_NAME
+                    + " VALUES (" + STATION + ", 'KOMA'), (" + OTHER_STATION
+                    + ", 'KLNK'), (" + EMPTY_STATION + ", 'KGRI')");
+
+            /*
+             * m varies the values by day and station. Each column has its own
+             * days of null and missing values.
+             */
+            StringBuilder rows = new StringBuilder("INSERT INTO ");
+            rows.append(ClimateDAOValues.DAILY_CLIMATE_TABLE_NAME);
+            rows.append(" SELECT s, d,");
+            rows.append(" CASE WHEN m % 37 = 0 THEN NULL");
+            rows.append(" WHEN m % 41 = 0 THEN 9999");
+            rows.append(" ELSE 20 + (m * 37) % 80 END,");
+            rows.append(" CASE WHEN m % 43 = 0 THEN NULL");
+            rows.append(" WHEN m % 47 = 0 THEN 9999");
+            rows.append(" ELSE -10 + (m * 53) % 70 END,");
+            rows.append(" CASE WHEN m % 31 = 0 THEN NULL");
+            rows.append(" WHEN m % 23 = 0 THEN 9999");
+            rows.append(" WHEN m % 5 = 0 THEN -1 WHEN m % 3 = 0 THEN 0");
+            rows.append(" ELSE ((m * 17) % 150) / 100.0 END,");
+            rows.append(" CASE WHEN m % 29 = 0 THEN NULL");
+            rows.append(" WHEN m % 19 = 0 THEN 9999");
+            rows.append(" WHEN m % 7 = 0 THEN -1 WHEN m % 2 = 0 THEN 0");
+            rows.append(" ELSE ((m * 13) % 60) / 10.0 END,");
+            rows.append(" CASE WHEN m % 53 = 0 THEN NULL");
+            rows.append(" WHEN m % 11 = 0 THEN 9999");
+            rows.append(" WHEN EXTRACT(MONTH FROM d) BETWEEN 6 AND 8");
+            rows.append(" THEN CASE WHEN m % 4 = 0 THEN -1 ELSE 0 END");
+            rows.append(" WHEN m % 4 = 0 THEN -1 WHEN m % 3 = 0 THEN 0");
+            rows.append(" ELSE (m * 11) % 12 END,");
+            rows.append(" CASE WHEN m % 59 = 0 THEN NULL");
+            rows.append(" WHEN m % 61 = 0 THEN -9999");
+            rows.append(" WHEN m % 67 = 0 THEN 9999 ELSE (m * 7) % 30 END,");
+            rows.append(" CASE WHEN m % 71 = 0 THEN NULL");
+            rows.append(" WHEN m % 73 = 0 THEN -9999");
+            rows.append(" WHEN m % 79 = 0 THEN 9999 ELSE (m * 3) % 15 END,");
+            rows.append(" CASE WHEN m % 83 = 0 THEN NULL");
+            rows.append(" WHEN m % 89 = 0 THEN 9999");
+            rows.append(" ELSE ((m * 19) % 11) / 10.0 END,");
+            rows.append(" CASE WHEN m % 97 = 0 THEN NULL");
+            rows.append(" WHEN m % 101 = 0 THEN 9999");
+            rows.append(" ELSE (m * 41) % 101 END,");
+            rows.append(" CASE WHEN m % 103 = 0 THEN NULL");
+            rows.append(" WHEN m % 107 = 0 THEN 9999");
+            rows.append(" ELSE ((m * 3) % 200) / 10.0 END,");
+            rows.append(" CASE WHEN m % 109 = 0 THEN NULL");
+            rows.append(" WHEN m % 13 = 0 THEN 9999");
+            rows.append(" ELSE (m * 29) % 40 + 0.5 END,");
+            rows.append(" (m * 10) % 360,");
+            rows.append(" CASE WHEN m % 113 = 0 THEN NULL");
+            rows.append(" WHEN m % 17 = 0 THEN 9999");
+            rows.append(" ELSE (m * 31) % 55 + 0.25 END,");
+            rows.append(" (m * 20) % 360,");
+            rows.append(" CASE WHEN m % 127 = 0 THEN NULL");
+            rows.append(" WHEN m % 131 = 0 THEN 9999");
+            rows.append(" ELSE 50 + (m * 7) % 50 END,");
+            rows.append(" CASE WHEN m % 137 = 0 THEN NULL");
+            rows.append(" WHEN m % 139 = 0 THEN 9999");
+            rows.append(" ELSE 10 + (m * 11) % 40 END");
+            for (int i = 1; i <= NUM_WX_COLUMNS; i++) {
+                rows.append(", CASE WHEN (m + ").append(i)
+                        .append(") % 149 = 0 THEN NULL");
+                rows.append(" WHEN (m + ").append(i)
+                        .append(") % 151 = 0 THEN 9999");
+                rows.append(" WHEN (m + ").append(i).append(") % ")
+                        .append(i + 2).append(" = 0 THEN 1 ELSE 0 END");
+            }
+            rows.append(" FROM (SELECT s, DATE '2016-01-01' + n AS d,");
+            rows.append(" n + s * 3 AS m");
+            rows.append(" FROM generate_series(0, 730) n, (VALUES (")
+                    .append(STATION).append("), (").append(OTHER_STATION)
+                    .append(")) AS st(s)");
+            // days with no row
+            rows.append(" WHERE n % 17 <> 3) AS r");
+            // scanned in date order, as by the window
+            rows.append(" ORDER BY s, d");
+            statement.execute(rows.toString());
+        }
+
+        dao = new ClimatePeriodDAO();
+    }
+
+    @AfterClass
+    public static void dropDailyClimate() throws SQLException {
+        ClimateTestDatabase.close(connection);
+    }
+
+    @Test
+    public void testMonths() throws ClimateQueryException,
+            ClimateInvalidParameterException, IllegalAccessException {
+        for (int month = 1; month <= 12; month++) {
+            ClimateDate begin = new ClimateDate(1, month, 2017);
+            ClimateDate end = new ClimateDate(
+                    begin.getCalendarFromClimateDate()
+                            .getActualMaximum(Calendar.DAY_OF_MONTH),
+                    month, 2017);
+            assertPeriodsEqual(STATION, begin, end);
+        }
+    }
+
+    @Test
+    public void testOtherPeriods() throws ClimateQueryException,
+            ClimateInvalidParameterException, IllegalAccessException {
+        // across months
+        assertPeriodsEqual(STATION, new ClimateDate(10, 1, 2017),
+                new ClimateDate(20, 2, 2017));
+        // across July 1
+        assertPeriodsEqual(STATION, new ClimateDate(15, 6, 2017),
+                new ClimateDate(14, 7, 2017));
+        // single day
+        assertPeriodsEqual(STATION, new ClimateDate(3, 3, 2017),
+                new ClimateDate(3, 3, 2017));
+        assertPeriodsEqual(OTHER_STATION, new ClimateDate(1, 11, 2016),
+                new ClimateDate(30, 11, 2016));
+        assertPeriodsEqual(EMPTY_STATION, new ClimateDate(1, 2, 2017),
+                new ClimateDate(28, 2, 2017));
+    }
+
+    @Test
+    public void testMaxTypes() throws ClimateQueryException {
+        ClimateDate begin = new ClimateDate(1, 1, 2017);
+        ClimateDate end = new ClimateDate(31, 1, 2017);
+        DailyClimateWindow window = DailyClimateWindow.load(dao, STATION,
+                begin, end);
+
+        for (String column : new String[] { "max_temp", "precip",
+                "max_wind_spd" }) {
+            Number query = dao.buildElement(begin, end, STATION,
+                    PeriodType.OTHER, column, column,
+                    ClimateDAO.BuildElementType.MAX);
+            Number windowed = dao.buildElement(window, begin, end, STATION,
+                    PeriodType.OTHER, column, column,
+                    ClimateDAO.BuildElementType.MAX);
+            assertNotEquals(column, ParameterFormatClimate.MISSING,
+                    query.intValue());
+            assertEquals(column, query, windowed);
+        }
+    }
+
+    /**
+     * Build the period with and without the daily window and check that
+     * every field is equal.
+     */
+    private static void assertPeriodsEqual(int stationID, ClimateDate begin,
+            ClimateDate end) throws ClimateQueryException,
+            ClimateInvalidParameterException, IllegalAccessException {
+        ClimateGlobal globals = ClimateGlobal.getDefaultGlobalValues();
+
+        PeriodData queried = PeriodData.getMissingPeriodData();
+        queried.setInformId(stationID);
+        dao.buildPeriodObsClimo(begin, end, queried, globals,
+                PeriodType.OTHER, false);
+
+        PeriodData windowed = PeriodData.getMissingPeriodData();
+        windowed.setInformId(stationID);
+        dao.buildPeriodObsClimo(begin, end, windowed, globals,
+                PeriodType.OTHER, true);
+
+        assertFieldsEqual(
+                "station " + stationID + " from " + begin.toFullDateString()
+                        + " to " + end.toFullDateString(),
+                PeriodData.class, queried, windowed);
+    }
+
+    /**
+     * Check that every field of the given objects is equal, comparing the
+     * fields of the data methods, which have no equals method, in turn.
+     */
+    private static void assertFieldsEqual(String message, Class<?> type,
+            Object expected, Object actual) throws IllegalAccessException {
+        for (Field field : type.getDeclaredFields()) {
+            if (Modifier.isStatic(field.getModifiers())) {
+                continue;
+            }
+            field.setAccessible(true);
+            if (PeriodDataMethod.class.equals(field.getType())) {
+                assertFieldsEqual(message, PeriodDataMethod.class,
+                        field.get(expected), field.get(actual));
+            } else {
+                assertEquals(field.getName() + " of " + message,
+                        field.get(expected), field.get(actual));
+            }
+        }
+    }
+}
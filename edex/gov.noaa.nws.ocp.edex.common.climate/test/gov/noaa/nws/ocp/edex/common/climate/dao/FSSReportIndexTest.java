@@ -0,0 +1,310 @@
+/**
+ * This software was developed and / or modified by NOAA/NWS/OCP/ASDT
+ **/
+package gov.noaa.nws.ocp.edex.common.climate.dao;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.AfterClass;
+import org.junit.Assume;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Checks that the FSS report lookups of {@link ClimateCreatorDAO} are planned
+ * as index scans once the indexes of
+ * deltaScripts/climate/createFssReportIndexes.sh exist. The tables are built
+ * in a scratch schema of a local PostgreSQL database, given by the system
+ * properties climate.test.db.url, climate.test.db.user and
+ * climate.test.db.password, and filled with a month of hourly METARs for 50
+ * stations. The test is skipped when no database is given.
+ *
+ * <pre>
+ *
+ * SOFTWARE HISTORY
+ *
+ * Date         Ticket#    Engineer    Description
+ * ------------ ---------- ----------- --------------------------
+ * 17 OCT 2026             agent       Initial creation
+ * </pre>
+ *
+ * @author agent
+ */
+public class FSSReportIndexTest {
+
+    private static final String SCHEMA = "fss_index_test";
+
+    private static final String DELTA_SCRIPT = System.getProperty(
+            "climate.test.deltaScript",
+            "../../deltaScripts/climate/createFssReportIndexes.sh");
+
+    /** Index definitions in the delta script, as "name ON table (columns)". */
+    private static final Pattern INDEX_DEFINITION = Pattern
+            .compile("\"(\\w+ ON \\w+ \\([^)]*\\))\"");
+
+    private static final Pattern PARAMETER = Pattern.compile(":(\\w+)");
+
+    private static Connection connection;
+
+    @BeforeClass
+    public static void createTables() throws SQLException, IOException {
+        String url = System.getProperty("climate.test.db.url");
+        Assume.assumeNotNull(url);
+        connection = DriverManager.getConnection(url,
+                System.getProperty("climate.test.db.user", "awips"),
+                System.getProperty("climate.test.db.password", ""));
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+            statement.execute("CREATE SCHEMA " + SCHEMA);
+            statement.execute("SET search_path TO " + SCHEMA);
+
+            statement.execute("CREATE TABLE fss_report ("
+                    + "fss_rpt_instance integer PRIMARY KEY,"
+                    + " station_id integer, report_type varchar(6),"
+                    + " report_subtype varchar(6), origin_dtime timestamp,"
+                    + " nominal_dtime timestamp, valid_dtime timestamp,"
+                    + " correction char(1))");
+            statement.execute("CREATE TABLE fss_contin_real ("
+                    + "fss_rpt_instance integer, element_id integer,"
+                    + " element_value real, dqd char(1))");
+            statement.execute("CREATE TABLE fss_categ_single ("
+                    + "fss_rpt_instance integer, element_id integer,"
+                    + " element_value integer, dqd char(1))");
+            statement.execute("CREATE TABLE fss_categ_multi ("
+                    + "fss_rpt_instance integer, element_id integer,"
+                    + " element_value integer, dqd char(1))");
+            statement.execute("CREATE TABLE boolean_values ("
+                    + "element_id integer, element_value integer,"
+                    + " value_name varchar(20))");
+
+            // a month of hourly METARs and a SPECI every 6 hours, 50 stations
+            statement.execute("INSERT INTO fss_report"
+                    + " SELECT g, g % 50, 'METAR',"
+                    + " CASE WHEN g % 300 < 50 THEN 'SPECI' ELSE 'MTR' END,"
+                    + " t, t, t, NULL FROM (SELECT g, TIMESTAMP '2017-01-01'"
+                    + " + (g / 50) * INTERVAL '1 hour' AS t"
+                    + " FROM generate_series(0, 50 * 24 * 31 - 1) g) AS r");
+            for (String table : new String[] { "fss_contin_real",
+                    "fss_categ_single", "fss_categ_multi" }) {
+                statement.execute("INSERT INTO " + table
+                        + " SELECT fss_rpt_instance, e, e, ' '"
+                        + " FROM fss_report, generate_series(1, 10) e");
+            }
+            statement.execute("INSERT INTO boolean_values"
+                    + " SELECT 1, v, 'wx' || v FROM generate_series(1, 10) v");
+
+            List<String> indexes = readIndexDefinitions();
+            assertEquals("Indexes in " + DELTA_SCRIPT, 4, indexes.size());
+            for (String index : indexes) {
+                statement.execute("CREATE INDEX " + index);
+            }
+            for (String table : new String[] { "fss_report",
+                    "fss_contin_real", "fss_categ_single", "fss_categ_multi",
+                    "boolean_values" }) {
+                statement.execute("ANALYZE " + table);
+            }
+        }
+    }
+
+    @AfterClass
+    public static void dropTables() throws SQLException {
+        if (connection != null) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("DROP SCHEMA " + SCHEMA + " CASCADE");
+            } finally {
+                connection.close();
+            }
+        }
+    }
+
+    /**
+     * Shape of getMetarConreal and getMetarCategSingle.
+     */
+    @Test
+    public void metarElementLookupsUseIndexes() throws SQLException {
+        for (String table : new String[] {
+                ClimateDAOValues.FSS_CONTIN_REAL_TABLE_NAME,
+                ClimateDAOValues.FSS_CATEGORY_SINGLE_TABLE_NAME }) {
+            String query = "SELECT f.fss_rpt_instance, x.element_value, x.dqd"
+                    + " FROM " + ClimateDAOValues.FSS_REPORT_TABLE_NAME
+                    + " AS f LEFT OUTER JOIN (SELECT * FROM " + table
+                    + " WHERE element_id = :elementID"
+                    + ") AS x USING (fss_rpt_instance) WHERE"
+                    + ClimateCreatorDAO.timeRange("f.nominal_dtime",
+                            "dateTime", "2017-01-15 05:00", "dateTime",
+                            "2017-01-15 05:00", "minute")
+                    + " AND f.station_id = :informId"
+                    + " AND f.report_subtype = 'MTR'"
+                    + " ORDER BY f.valid_dtime ASC, f.correction DESC,"
+                    + " f.origin_dtime DESC";
+            Map<String, Object> params = new HashMap<>();
+            params.put("elementID", 3);
+            params.put("dateTime", "2017-01-15 05:00");
+            params.put("informId", 7);
+
+            String plan = explain(query, params);
+            assertReportIndexScan(plan);
+            assertTrue(plan, plan.contains(table + "_instance_element_idx"));
+        }
+    }
+
+    /**
+     * Shape of getSkyCover, with a zero-padded hour.
+     */
+    @Test
+    public void skyCoverLookupUsesIndex() throws SQLException {
+        String query = "SELECT fss_rpt_instance, origin_dtime, correction FROM "
+                + ClimateDAOValues.FSS_REPORT_TABLE_NAME + " WHERE"
+                + ClimateCreatorDAO.timeRange("nominal_dtime", "datetime",
+                        "2017-01-15 05:00", "datetime", "2017-01-15 05:00",
+                        "minute")
+                + " AND station_id = :informId"
+                + " AND report_subtype = 'MTR'"
+                + " ORDER BY correction DESC, origin_dtime DESC";
+        Map<String, Object> params = new HashMap<>();
+        params.put("datetime", "2017-01-15 05:00");
+        params.put("informId", 7);
+
+        assertReportIndexScan(explain(query, params));
+    }
+
+    /**
+     * Shape of getAllSpeciWinds, over a creator window.
+     */
+    @Test
+    public void speciWindowLookupUsesIndex() throws SQLException {
+        String query = "SELECT DISTINCT valid_dtime FROM "
+                + ClimateDAOValues.FSS_REPORT_TABLE_NAME
+                + " WHERE station_id = :informId"
+                + " AND report_subtype = 'SPECI' AND"
+                + ClimateCreatorDAO.timeRange("nominal_dtime",
+                        "beginDateTimeString", "2017-01-15 07:00",
+                        "endDateTimeString", "2017-01-16 06:59", "minute");
+        Map<String, Object> params = new HashMap<>();
+        params.put("beginDateTimeString", "2017-01-15 07:00");
+        params.put("endDateTimeString", "2017-01-16 06:59");
+        params.put("informId", 7);
+
+        assertReportIndexScan(explain(query, params));
+    }
+
+    /**
+     * Shape of the scheduled weather query of buildDailyObsWeather.
+     */
+    @Test
+    public void weatherLookupUsesIndexes() throws SQLException {
+        String nominal = ClimateCreatorDAO.timeRange("nominal_dtime",
+                "nominalTime", "2017-01-15 05:00:00", "nominalTime",
+                "2017-01-15 05:00:00", "second");
+        String query = "SELECT distinct boo.element_value, rep.fss_rpt_instance"
+                + " FROM boolean_values as boo, "
+                + ClimateDAOValues.FSS_REPORT_TABLE_NAME + " as rep, "
+                + ClimateDAOValues.FSS_CATEGORY_MULTI_TABLE_NAME + " as cat"
+                + " WHERE" + nominal + " AND station_id = :stationID"
+                + " AND report_subtype = 'MTR' AND cat.element_id = 3"
+                + " AND rep.fss_rpt_instance = cat.fss_rpt_instance"
+                + " AND cat.element_value = boo.element_value"
+                + " AND origin_dtime in (SELECT max(origin_dtime) FROM "
+                + ClimateDAOValues.FSS_REPORT_TABLE_NAME + " WHERE" + nominal
+                + " AND station_id = :stationID AND report_subtype = 'MTR')";
+        Map<String, Object> params = new HashMap<>();
+        params.put("nominalTime", "2017-01-15 05:00:00");
+        params.put("stationID", 7);
+
+        String plan = explain(query, params);
+        assertReportIndexScan(plan);
+        assertTrue(plan, plan.contains("fss_categ_multi_instance_element_idx"));
+    }
+
+    /**
+     * A datetime not in the to_char format keeps the text comparison, so it
+     * still finds no report rather than failing the query.
+     */
+    @Test
+    public void unpaddedLookupFindsNoReport() throws SQLException {
+        String query = "SELECT count(*) FROM "
+                + ClimateDAOValues.FSS_REPORT_TABLE_NAME + " WHERE"
+                + ClimateCreatorDAO.timeRange("nominal_dtime", "datetime",
+                        "2017-01-15 5:00", "datetime", "2017-01-15 5:00",
+                        "minute")
+                + " AND station_id = 7 AND report_subtype = 'MTR'";
+        Map<String, Object> params = new HashMap<>();
+        params.put("datetime", "2017-01-15 5:00");
+
+        try (Statement statement = connection.createStatement();
+                ResultSet rs = statement
+                        .executeQuery(substitute(query, params))) {
+            assertTrue(rs.next());
+            assertEquals(0, rs.getInt(1));
+        }
+    }
+
+    private static void assertReportIndexScan(String plan) {
+        assertTrue(plan,
+                plan.contains("fss_report_station_subtype_nominal_idx"));
+        assertFalse(plan, plan.contains("Seq Scan on fss_report"));
+    }
+
+    private static String explain(String query, Map<String, Object> params)
+            throws SQLException {
+        StringBuilder plan = new StringBuilder();
+        try (Statement statement = connection.createStatement();
+                ResultSet rs = statement
+                        .executeQuery("EXPLAIN " + substitute(query, params))) {
+            while (rs.next()) {
+                plan.append(rs.getString(1)).append('\n');
+            }
+        }
+        return plan.toString();
+    }
+
+    /**
+     * @return the query with its named parameters replaced by literals, as
+     *         the climate DAO binds them.
+     */
+    private static String substitute(String query,
+            Map<String, Object> params) {
+        Matcher matcher = PARAMETER.matcher(query);
+        StringBuffer sql = new StringBuffer();
+        while (matcher.find()) {
+            Object value = params.get(matcher.group(1));
+            String literal = (value instanceof String)
+                    ? "'" + ((String) value).replace("'", "''") + "'"
+                    : String.valueOf(value);
+            matcher.appendReplacement(sql, Matcher.quoteReplacement(literal));
+        }
+        matcher.appendTail(sql);
+        return sql.toString();
+    }
+
+    private static List<String> readIndexDefinitions() throws IOException {
+        String script = new String(
+                Files.readAllBytes(Paths.get(DELTA_SCRIPT)),
+                StandardCharsets.UTF_8);
+        List<String> indexes = new ArrayList<>();
+        Matcher matcher = INDEX_DEFINITION.matcher(script);
+        while (matcher.find()) {
+            indexes.add(matcher.group(1));
+        }
+        return indexes;
+    }
+}
@@ -0,0 +1,243 @@
+/**
+ * This software was developed and / or modified by NOAA/NWS/OCP/ASDT
+ **/
+package gov.noaa.nws.ocp.edex.common.climate.dao;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.TimeZone;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import gov.noaa.nws.ocp.common.dataplugin.climate.ClimateDate;
+import gov.noaa.nws.ocp.common.dataplugin.climate.ClimateDates;
+import gov.noaa.nws.ocp.common.dataplugin.climate.ClimateTime;
+import gov.noaa.nws.ocp.common.dataplugin.climate.exception.ClimateQueryException;
+import gov.noaa.nws.ocp.common.dataplugin.climate.parameter.ParameterFormatClimate;
+import gov.noaa.nws.ocp.edex.common.climate.dao.ClimateCreatorDAO.FSSReportResult;
+
+/**
+ * Checks that the hourly METAR lookups of {@link ClimateCreatorDAO} answered
+ * from a {@link MetarHourlyWindow} equal those of the single-hour queries, for
+ * every element and nominal hour of a creator window and its margins. The
+ * reports are built in a scratch schema of a local PostgreSQL database (see
+ * {@link ClimateTestDatabase}), and include hours with:
+ * <ol>
+ * <li>no report</li>
+ * <li>several valid times, so the earliest and latest valid reports
+ * differ</li>
+ * <li>corrections, and repeated receipts of the same report</li>
+ * <li>SPECIs and reports of another station, which are not selected</li>
+ * <li>missing element rows and null element values</li>
+ * </ol>
+ * The window spans 00-09Z hours on both days.
+ *
+ * <pre>
+ *
+ * SOFTWARE HISTORY
+ *
+ * Date         Ticket#    Engineer    Description
+ * ------------ ---------- ----------- --------------------------
+ * 17 OCT 2026             agent       Initial creation
+ * </pre>
+ *
+ * @author agent
+ */
+public class MetarHourlyWindowTest {
+
+    private static final String SCHEMA = "metar_window_test";
+
+    private static final int STATION = 7;
+
+    private static final int OTHER_STATION = 8;
+
+    /** Element IDs looked up, including one that no report has. */
+    private static final int[] ELEMENTS = { 1, 2, 3, 4, 5, 6 };
+
+    /** First nominal hour of the reports, before the window margin. */
+    private static final String FIRST_HOUR = "2017-01-14 18:00";
+
+    /** Number of hourly nominal times with reports. */
+    private static final int HOURS = 48;
+
+    private static Connection connection;
+
+    private static ClimateCreatorDAO dao;
+
+    private static MetarHourlyWindow window;
+
+    @BeforeClass
+    public static void createReports()
+            throws SQLException, ClimateQueryException {
+        connection = ClimateTestDatabase.open(SCHEMA);
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE "
+                    + ClimateDAOValues.FSS_REPORT_TABLE_NAME + " ("
+                    + "fss_rpt_instance integer PRIMARY KEY,"
+                    + " station_id integer, report_type varchar(6),"
+                    + " report_subtype varchar(6), origin_dtime timestamp,"
+                    + " nominal_dtime timestamp, valid_dtime timestamp,"
+                    + " correction varchar(1))");
+            statement.execute("CREATE TABLE "
+                    + ClimateDAOValues.FSS_CONTIN_REAL_TABLE_NAME + " ("
+                    + "fss_rpt_instance integer, element_id integer,"
+                    + " element_value real, dqd varchar(1))");
+            statement.execute("CREATE TABLE "
+                    + ClimateDAOValues.FSS_CATEGORY_SINGLE_TABLE_NAME + " ("
+                    + "fss_rpt_instance integer, element_id integer,"
+                    + " element_value integer, dqd varchar(1))");
+
+            String hours = " FROM (SELECT h, TIMESTAMP '" + FIRST_HOUR
+                    + "' + h * INTERVAL '1 hour' AS t"
+                    + " FROM generate_series(0, " + (HOURS - 1)
+                    + ") h) AS r";
+            String report = "INSERT INTO "
+                    + ClimateDAOValues.FSS_REPORT_TABLE_NAME + " SELECT ";
+
+            // original report of each hour but every 11th
+            statement.execute(report + "h * 10 + 1, " + STATION
+                    + ", 'METAR', 'MTR', t - INTERVAL '5 minutes', t,"
+                    + " t - INTERVAL '7 minutes', NULL" + hours
+                    + " WHERE h % 11 <> 5");
+            // a later valid time every 3rd hour
+            statement.execute(report + "h * 10 + 2, " + STATION
+                    + ", 'METAR', 'MTR', t, t, t - INTERVAL '2 minutes', NULL"
+                    + hours + " WHERE h % 3 = 0");
+            // corrections every 4th hour, a second one every 8th
+            statement.execute(report + "h * 10 + 3, " + STATION
+                    + ", 'METAR', 'MTR', t + INTERVAL '10 minutes', t,"
+                    + " t - INTERVAL '7 minutes', 'A'" + hours
+                    + " WHERE h % 4 = 1");
+            statement.execute(report + "h * 10 + 4, " + STATION
+                    + ", 'METAR', 'MTR', t + INTERVAL '20 minutes', t,"
+                    + " t - INTERVAL '2 minutes', 'B'" + hours
+                    + " WHERE h % 8 = 1");
+            // the original received again every 5th hour
+            statement.execute(report + "h * 10 + 5, " + STATION
+                    + ", 'METAR', 'MTR', t + INTERVAL '15 minutes', t,"
+                    + " t - INTERVAL '7 minutes', NULL" + hours
+                    + " WHERE h % 5 = 2 AND h % 11 <> 5");
+            // SPECIs, with earlier valid times, every other hour
+            statement.execute(report + "h * 10 + 6, " + STATION
+                    + ", 'METAR', 'SPECI', t - INTERVAL '18 minutes', t,"
+                    + " t - INTERVAL '20 minutes', NULL" + hours
+                    + " WHERE h % 2 = 0");
+            // another station, with earlier valid times, every hour
+            statement.execute(report + "h * 10 + 7, " + OTHER_STATION
+                    + ", 'METAR', 'MTR', t - INTERVAL '9 minutes', t,"
+                    + " t - INTERVAL '10 minutes', NULL" + hours);
+
+            // element values distinct per report, some rows missing or null
+            String values = " FROM " + ClimateDAOValues.FSS_REPORT_TABLE_NAME
+                    + ", generate_series(1, 5) e"
+                    + " WHERE (fss_rpt_instance + e) % 7 <> 0";
+            statement.execute("INSERT INTO "
+                    + ClimateDAOValues.FSS_CONTIN_REAL_TABLE_NAME
+                    + " SELECT fss_rpt_instance, e,"
+                    + " CASE WHEN (fss_rpt_instance + e) % 9 = 0 THEN NULL"
+                    + " ELSE fss_rpt_instance * 10 + e + 0.25 END,"
+                    + " CASE WHEN e % 2 = 0 THEN 'V' ELSE ' ' END" + values);
+            statement.execute("INSERT INTO "
+                    + ClimateDAOValues.FSS_CATEGORY_SINGLE_TABLE_NAME
+                    + " SELECT fss_rpt_instance, e,"
+                    + " CASE WHEN (fss_rpt_instance + e) % 9 = 0 THEN NULL"
+                    + " ELSE fss_rpt_instance * 10 + e END,"
+                    + " CASE WHEN e % 3 = 0 THEN NULL ELSE 'S' END" + values);
+        }
+
+        dao = new ClimateCreatorDAO();
+        // 07Z to 06:59Z, as a creator window of a UTC-7 station
+        window = dao.getMetarHourlyWindow(STATION,
+                new ClimateDates(new ClimateDate(15, 1, 2017),
+                        new ClimateDate(16, 1, 2017), new ClimateTime(7, 0),
+                        new ClimateTime(6, 59)));
+    }
+
+    @AfterClass
+    public static void dropReports() throws SQLException {
+        ClimateTestDatabase.close(connection);
+    }
+
+    @Test
+    public void testCoversWindowAndMargins() {
+        assertTrue(window.covers(STATION, "2017-01-15 01:00"));
+        assertTrue(window.covers(STATION, "2017-01-16 12:59"));
+        assertFalse(window.covers(STATION, "2017-01-15 00:59"));
+        assertFalse(window.covers(STATION, "2017-01-16 13:00"));
+        assertFalse(window.covers(OTHER_STATION, "2017-01-15 12:00"));
+        // left to the query, which compares it with the to_char text
+        assertFalse(window.covers(STATION, "2017-01-16 5:00"));
+    }
+
+    @Test
+    public void testConreal() throws ClimateQueryException {
+        int found = 0;
+        for (String dateTime : nominalHours()) {
+            for (int element : ELEMENTS) {
+                FSSReportResult query = dao.getMetarConreal(null, STATION,
+                        element, dateTime);
+                FSSReportResult windowed = dao.getMetarConreal(window,
+                        STATION, element, dateTime);
+                assertResult(dateTime, element, query, windowed);
+                if (query.getValue() != ParameterFormatClimate.MISSING) {
+                    found++;
+                }
+            }
+        }
+        assertTrue("Values found " + found, found > 100);
+    }
+
+    @Test
+    public void testCategSingle() throws ClimateQueryException {
+        int found = 0;
+        for (String dateTime : nominalHours()) {
+            for (int element : ELEMENTS) {
+                FSSReportResult query = dao.getMetarCategSingle(null, STATION,
+                        element, dateTime);
+                FSSReportResult windowed = dao.getMetarCategSingle(window,
+                        STATION, element, dateTime);
+                assertResult(dateTime, element, query, windowed);
+                if (query.getValue() != ParameterFormatClimate.MISSING) {
+                    found++;
+                }
+            }
+        }
+        assertTrue("Values found " + found, found > 100);
+    }
+
+    private static void assertResult(String dateTime, int element,
+            FSSReportResult query, FSSReportResult windowed) {
+        String message = "element " + element + " at " + dateTime;
+        assertEquals("value " + message, query.getValue(),
+                windowed.getValue(), 0);
+        assertEquals("dqd " + message, query.getDqd(), windowed.getDqd());
+    }
+
+    /**
+     * @return the zero-padded nominal hours of the reports, and an hour on
+     *         either side.
+     */
+    private static List<String> nominalHours() {
+        Calendar cal = Calendar.getInstance();
+        cal.setTimeZone(TimeZone.getTimeZone("UTC"));
+        cal.clear();
+        cal.set(2017, Calendar.JANUARY, 14, 17, 0);
+        List<String> hours = new ArrayList<>();
+        for (int h = -1; h <= HOURS; h++) {
+            hours.add(String.format("%1$tY-%1$tm-%1$td %1$tH:%1$tM", cal));
+            cal.add(Calendar.HOUR_OF_DAY, 1);
+        }
+        return hours;
+    }
+}
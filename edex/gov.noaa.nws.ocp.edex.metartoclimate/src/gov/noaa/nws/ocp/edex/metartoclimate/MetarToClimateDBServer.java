@@ -3,6 +3,9 @@
  **/
 package gov.noaa.nws.ocp.edex.metartoclimate;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import com.raytheon.edex.esb.Headers;
 import com.raytheon.uf.common.dataplugin.PluginDataObject;
 import com.raytheon.uf.common.dataplugin.obs.metar.MetarRecord;
@@ -13,10 +16,11 @@ import com.raytheon.uf.common.wmo.WMOHeader;
 import gov.noaa.nws.ocp.common.dataplugin.climate.exception.ClimateException;
 import gov.noaa.nws.ocp.common.dataplugin.climate.exception.ClimateMetarDecodingException;
 import gov.noaa.nws.ocp.common.dataplugin.climate.exception.ClimateQueryException;
-import gov.noaa.nws.ocp.edex.common.climate.dao.ClimateDAOValues;
+import gov.noaa.nws.ocp.edex.common.climate.dao.ClimateStationIDCache;
 import gov.noaa.nws.ocp.edex.metartoclimate.dao.ClimateFSSInsertionDAO;
 import gov.noaa.nws.ocp.edex.metartoclimate.dao.ClimateReport;
 import gov.noaa.nws.ocp.edex.metartoclimate.dao.ClimateReportDAO;
+import gov.noaa.nws.ocp.edex.metartoclimate.dao.FSSInsertBatch;
 import gov.noaa.nws.ocp.edex.metartoclimate.dao.MetarDecoder;
 import gov.noaa.nws.ocp.edex.metartoclimate.dao.MetarDecoderUtil;
 import gov.noaa.nws.ocp.edex.metartoclimate.dao.data.DecodedMetar;
@@ -42,6 +46,11 @@ import gov.noaa.nws.ocp.edex.metartoclimate.dao.data.SurfaceObs;
  *                                     Reorganize related methods for METAR decoding and storing.
  *                                     Throw exception on failure.
  * 02 NOV 2017  37755      amoore      Log on truncating a report. Take DAOs in constructor.
+ * 17 OCT 2026             agent       Decode all reports first, then write FSS data in
+ *                                     batches with one transaction each. Log rows/sec.
+ * 17 OCT 2026             agent       Check the station against the station ID cache
+ *                                     before storing the rpt row.
+ * 17 OCT 2026             agent       FSS rows/sec logged by ClimateFSSInsertionDAO.
  * </pre>
  *
  * @author pwang
@@ -52,6 +61,30 @@ public class MetarToClimateDBServer {
     private static final transient IUFStatusHandler logger = UFStatus
             .getHandler(MetarToClimateDBServer.class);
 
+    /**
+     * Maximum number of reports written to the FSS tables in one batch. Keeps
+     * the batch statements well under the database limit on bind parameters.
+     */
+    private static final int MAX_FSS_BATCH_REPORTS = 50;
+
+    /**
+     * A decoded report, waiting for its FSS batch to be written.
+     */
+    private static final class DecodedReport {
+        private final String report;
+
+        private final SurfaceObs surfaceObs;
+
+        private final int stationID;
+
+        private DecodedReport(String report, SurfaceObs surfaceObs,
+                int stationID) {
+            this.report = report;
+            this.surfaceObs = surfaceObs;
+            this.stationID = stationID;
+        }
+    }
+
     /**
      * Report DAO.
      */
@@ -80,10 +113,15 @@ public class MetarToClimateDBServer {
      * @param objects
      */
     public void process(PluginDataObject[] objects, Headers headers) {
+        List<DecodedReport> decodedReports = new ArrayList<>(objects.length);
         for (PluginDataObject report : objects) {
             if (report instanceof MetarRecord) {
                 try {
-                    writeObs((MetarRecord) report, headers);
+                    DecodedReport decodedReport = decodeObs(
+                            (MetarRecord) report, headers);
+                    if (decodedReport != null) {
+                        decodedReports.add(decodedReport);
+                    }
                 } catch (Exception e) {
                     logger.error(
                             "Error processing METAR to Climate for report: ["
@@ -92,15 +130,118 @@ public class MetarToClimateDBServer {
                 }
             }
         }
+
+        for (int i = 0; i < decodedReports.size(); i += MAX_FSS_BATCH_REPORTS) {
+            writeFSSBatch(decodedReports.subList(i, Math
+                    .min(decodedReports.size(), i + MAX_FSS_BATCH_REPORTS)));
+        }
+    }
+
+    /**
+     * Write the FSS data of the given reports as one batch. If the batch fails,
+     * write the reports one at a time so that one bad report does not keep the
+     * others out of the FSS tables.
+     * 
+     * @param decodedReports
+     */
+    private void writeFSSBatch(List<DecodedReport> decodedReports) {
+        /*
+         * Get values of report instance serial.
+         */
+        int[] fssReportInstances;
+        try {
+            fssReportInstances = fssInsertionDAO
+                    .allocateReportInstances(decodedReports.size());
+        } catch (ClimateQueryException e) {
+            logger.error("Could not get valid fss_rpt_instance values for ["
+                    + decodedReports.size()
+                    + "] reports. FSS data will not be stored for them.", e);
+            return;
+        }
+
+        FSSInsertBatch batch = new FSSInsertBatch();
+        for (int i = 0; i < decodedReports.size(); i++) {
+            DecodedReport decodedReport = decodedReports.get(i);
+            logger.debug("Current FSS report instance for report: ["
+                    + decodedReport.report + "] is: [" + fssReportInstances[i]
+                    + "].");
+            try {
+                fssInsertionDAO.addFSSData(batch, decodedReport.surfaceObs,
+                        decodedReport.stationID, fssReportInstances[i]);
+            } catch (Exception e) {
+                logger.error("Error writing FSS data using report: ["
+                        + decodedReport.report + "].", e);
+            }
+        }
+
+        try {
+            fssInsertionDAO.writeBatch(batch);
+        } catch (ClimateQueryException e) {
+            logger.warn("Error writing FSS batch of [" + batch.getReportCount()
+                    + "] reports. Writing each report separately.", e);
+
+            for (int i = 0; i < decodedReports.size(); i++) {
+                DecodedReport decodedReport = decodedReports.get(i);
+                try {
+                    fssInsertionDAO.storeFSSData(decodedReport.surfaceObs,
+                            decodedReport.stationID, fssReportInstances[i]);
+                } catch (Exception e1) {
+                    logger.error("Error writing FSS data using report: ["
+                            + decodedReport.report + "].", e1);
+                }
+            }
+        }
     }
 
     /**
+     * If the report is from a Climate station, store it to the rpt table and
+     * decode it for the FSS tables.
+     * 
      * @param report
      * @param headers
+     * @return the decoded report, or null if it is not from a Climate station
+     *         or has no FSS data to store.
      * @throws ClimateException
      */
-    private void writeObs(MetarRecord report, Headers headers)
+    private DecodedReport decodeObs(MetarRecord report, Headers headers)
             throws ClimateException {
+        /*
+         * In Legacy, station ID would not be searched for until after
+         * decoding. However, storing and decoding take up processing time that
+         * would be wasted if the METAR is not for a location that the system
+         * has information on (stations in the cli_sta_setup table). So save
+         * time and do the station check first, from the station ID cache.
+         */
+        // get station ID
+        int stationID;
+        try {
+            Integer cachedStationID = ClimateStationIDCache
+                    .getStationID(report.getStationId());
+            if (cachedStationID == null) {
+                logger.debug("Surface observation location ID (station code): ["
+                        + report.getStationId()
+                        + "] is not a Climate station. This report will be ignored.");
+                return null;
+            }
+            stationID = cachedStationID;
+        } catch (ClimateQueryException e) {
+            // the cache logs load failures, at most once per retry interval
+            logger.debug("Climate station ID cache is not available: "
+                    + e.getMessage() + " Querying for station code: ["
+                    + report.getStationId() + "] directly.");
+            try {
+                stationID = reportDAO
+                        .getStationIDByCode(report.getStationId());
+            } catch (ClimateQueryException e1) {
+                logger.warn(
+                        "Error getting Climate Station ID from surface observation location ID (station code): ["
+                                + report.getStationId()
+                                + "]. Ensure that all applicable stations are in the Climate stations table. This report will be ignored. "
+                                + e1.getMessage());
+                return null;
+            }
+        }
+
         ClimateReport rpt = new ClimateReport();
 
         // Get the report data. This contains both the
@@ -128,7 +269,7 @@ public class MetarToClimateDBServer {
             rpt.setReport(obsData);
         } else {
             // wmo_dd is a not_null field, so if we can't find it, exit now.
-            return;
+            return null;
         }
         rpt.setDate(report.getTimeObs());
         // We don't have the origin time available,
@@ -151,26 +292,6 @@ public class MetarToClimateDBServer {
 
         // decode for FSS tables
         try {
-            /*
-             * In Legacy, station ID would not be searched for until after
-             * decoding. However, decoding does take up processing time that
-             * would be wasted if the METAR is not for a location that the
-             * system has information on (stations in the cli_sta_setup table).
-             * So save time and do the station check first.
-             */
-            // get station ID
-            int stationID;
-            try {
-                stationID = reportDAO.getStationIDByCode(rpt.getIcao_loc_id());
-            } catch (ClimateQueryException e) {
-                logger.warn(
-                        "Error getting Climate Station ID from surface observation location ID (station code): ["
-                                + rpt.getIcao_loc_id()
-                                + "]. Ensure that all applicable stations are in the Climate stations table. This report will be ignored: ["
-                                + rpt.getReport() + "]. " + e.getMessage());
-                return;
-            }
-
             /*
              * In Legacy, get_METARs.c would call db_report.ecpp to get a list
              * of reports. However, we already have our report right here, and
@@ -195,25 +316,8 @@ public class MetarToClimateDBServer {
              */
             MetarDecoderUtil.checkMetarQuality(surfaceObs);
 
-            /*
-             * Get value of report instance serial.
-             */
-            String fssReportInstanceQuery = "SELECT NEXTVAL('"
-                    + ClimateDAOValues.FSS_REPORT_FSS_RPT_INSTANCE_SEQ + "')";
-            int fssReportInstance = ((Number) reportDAO.queryForOneValue(
-                    fssReportInstanceQuery, Integer.MIN_VALUE)).intValue();
-
-            if (fssReportInstance == Integer.MIN_VALUE) {
-                throw new ClimateQueryException(
-                        "Could not get valid fss_rpt_instance using: ["
-                                + fssReportInstanceQuery + "].");
-            }
-            logger.debug("Current FSS report instance for report: ["
-                    + report.getReport() + "] is: [" + fssReportInstance
-                    + "].");
-
-            fssInsertionDAO.storeFSSData(surfaceObs, stationID,
-                    fssReportInstance);
+            return new DecodedReport(report.getReport(), surfaceObs,
+                    stationID);
         } catch (ArrayIndexOutOfBoundsException e) {
             throw new ClimateException(
                     "Invalid indexing on decoding METAR report: [" + report
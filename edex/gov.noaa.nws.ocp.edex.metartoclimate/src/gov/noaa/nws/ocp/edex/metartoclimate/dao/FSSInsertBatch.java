@@ -0,0 +1,359 @@
+/**
+ * This software was developed and / or modified by NOAA/NWS/OCP/ASDT
+ **/
+package gov.noaa.nws.ocp.edex.metartoclimate.dao;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import gov.noaa.nws.ocp.edex.common.climate.dao.ClimateDAOValues;
+
+/**
+ * Fixed Surface Station rows of one or more decoded METAR reports, collected
+ * in memory by {@link ClimateFSSInsertionDAO} so that they can be written with
+ * one multi-row statement per FSS table, all in a single transaction.
+ *
+ * Rows are keyed the same way the per-row writers used to look them up before
+ * choosing between INSERT and UPDATE, so a later row for the same key replaces
+ * the earlier one, as the UPDATE did.
+ *
+ * The rows of each report are staged in a batch of their own, then appended
+ * to the batch being written once the whole report is built, so a report that
+ * fails partway leaves no rows behind.
+ *
+ * <pre>
+ *
+ * SOFTWARE HISTORY
+ *
+ * Date         Ticket#    Engineer    Description
+ * ------------ ---------- ----------- --------------------------
+ * 17 OCT 2026             agent       Initial creation
+ * 17 OCT 2026             agent       Write the weather element count and source
+ *                                     status with the fss_report rows. Append
+ *                                     reports only once they are built.
+ * </pre>
+ *
+ * @author agent
+ */
+public final class FSSInsertBatch {
+
+    /**
+     * SQL that is written into a statement as-is rather than bound as a
+     * parameter. Used for the Legacy time literals of the weather period
+     * table.
+     */
+    static final class Literal {
+        private final String sql;
+
+        Literal(String sql) {
+            this.sql = sql;
+        }
+    }
+
+    /**
+     * Rows of one FSS table, in insertion order, keyed by their leading
+     * columns.
+     */
+    private static final class TableRows {
+        private final String tableName;
+
+        private final int keyLength;
+
+        private final Map<List<Object>, Object[]> rows = new LinkedHashMap<>();
+
+        private TableRows(String tableName, int keyLength) {
+            this.tableName = tableName;
+            this.keyLength = keyLength;
+        }
+
+        private void put(Object... values) {
+            rows.put(Arrays.asList(Arrays.copyOf(values, keyLength)), values);
+        }
+
+        private void putAll(TableRows other) {
+            rows.putAll(other.rows);
+        }
+
+        /**
+         * Append a multi-row INSERT for these rows, if there are any.
+         *
+         * @param sql
+         * @param params
+         * @param prefix
+         *            prefix of the parameter names of this table.
+         */
+        private void appendInsert(StringBuilder sql, Map<String, Object> params,
+                String prefix) {
+            if (rows.isEmpty()) {
+                return;
+            }
+
+            sql.append("INSERT INTO ").append(tableName).append(" VALUES");
+            int rowNum = 0;
+            for (Object[] values : rows.values()) {
+                sql.append(rowNum == 0 ? "(" : ",(");
+                for (int i = 0; i < values.length; i++) {
+                    if (i > 0) {
+                        sql.append(",");
+                    }
+                    appendValue(sql, params,
+                            prefix + rowNum + "_" + i, values[i]);
+                }
+                sql.append(")");
+                rowNum++;
+            }
+            sql.append(";");
+        }
+    }
+
+    /** fss_report rows. */
+    private final TableRows reports = new TableRows(
+            ClimateDAOValues.FSS_REPORT_TABLE_NAME, 1);
+
+    /** fss_cloud_layer rows. */
+    private final TableRows cloudLayers = new TableRows(
+            ClimateDAOValues.FSS_CLOUD_LAYER_TABLE_NAME, 3);
+
+    /** fss_categ_single rows. */
+    private final TableRows categorySingles = new TableRows(
+            ClimateDAOValues.FSS_CATEGORY_SINGLE_TABLE_NAME, 2);
+
+    /** fss_categ_multi rows. */
+    private final TableRows categoryMultis = new TableRows(
+            ClimateDAOValues.FSS_CATEGORY_MULTI_TABLE_NAME, 3);
+
+    /** fss_wx_period rows. */
+    private final TableRows weatherPeriods = new TableRows(
+            ClimateDAOValues.FSS_WX_PERIOD_TABLE_NAME, 4);
+
+    /** fss_contin_real rows. */
+    private final TableRows continuousReals = new TableRows(
+            ClimateDAOValues.FSS_CONTIN_REAL_TABLE_NAME, 2);
+
+    /**
+     * @return number of reports in the batch.
+     */
+    public int getReportCount() {
+        return reports.rows.size();
+    }
+
+    /**
+     * @return number of rows the batch will insert, over all FSS tables.
+     */
+    public int getRowCount() {
+        return reports.rows.size() + cloudLayers.rows.size()
+                + categorySingles.rows.size() + categoryMultis.rows.size()
+                + weatherPeriods.rows.size() + continuousReals.rows.size();
+    }
+
+    /**
+     * @return true if there is nothing to write.
+     */
+    public boolean isEmpty() {
+        return reports.rows.isEmpty();
+    }
+
+    /**
+     * Append the rows of the given report batch to this one.
+     *
+     * @param reportBatch
+     *            rows of a fully built report.
+     */
+    void append(FSSInsertBatch reportBatch) {
+        reports.putAll(reportBatch.reports);
+        cloudLayers.putAll(reportBatch.cloudLayers);
+        categorySingles.putAll(reportBatch.categorySingles);
+        categoryMultis.putAll(reportBatch.categoryMultis);
+        weatherPeriods.putAll(reportBatch.weatherPeriods);
+        continuousReals.putAll(reportBatch.continuousReals);
+    }
+
+    /**
+     * @param values
+     *            fss_report column values, in table order, the first being
+     *            the report instance. Null values are written as NULL.
+     * @param wxElementCount
+     *            value of the wx_ele_count column.
+     * @param sourceStatus
+     *            value of the source_status column.
+     */
+    void addReport(Object[] values, int wxElementCount, int sourceStatus) {
+        Object[] row = Arrays.copyOf(values, values.length + 2);
+        row[values.length] = wxElementCount;
+        row[values.length + 1] = sourceStatus;
+        reports.put(row);
+    }
+
+    /**
+     * @param reportInstance
+     * @param elementID
+     * @param layerNumber
+     * @param elementValue
+     * @param dqd
+     */
+    void addCloudLayer(int reportInstance, int elementID, int layerNumber,
+            int elementValue, String dqd) {
+        cloudLayers.put(reportInstance, elementID, layerNumber, elementValue,
+                dqd);
+    }
+
+    /**
+     * @param reportInstance
+     * @param elementID
+     * @param elementValue
+     * @param dqd
+     */
+    void addCategorySingle(int reportInstance, int elementID,
+            int elementValue, String dqd) {
+        categorySingles.put(reportInstance, elementID, elementValue, dqd);
+    }
+
+    /**
+     * @param reportInstance
+     * @param elementID
+     * @param weatherElementNumber
+     * @param elementValue
+     * @param dqd
+     */
+    void addCategoryMulti(int reportInstance, int elementID,
+            int weatherElementNumber, int elementValue, String dqd) {
+        categoryMultis.put(reportInstance, elementID, weatherElementNumber,
+                elementValue, dqd);
+    }
+
+    /**
+     * @param reportInstance
+     * @param elementID
+     * @param dqd
+     * @return highest weather element number of the fss_categ_multi rows of
+     *         the report with the given element ID and DQD, or 0 if there are
+     *         none.
+     */
+    int getMaxWeatherElementNumber(int reportInstance, int elementID,
+            String dqd) {
+        int max = 0;
+        for (Object[] values : categoryMultis.rows.values()) {
+            if (((Integer) values[0]).intValue() == reportInstance
+                    && ((Integer) values[1]).intValue() == elementID
+                    && dqd.equals(values[4])) {
+                max = Math.max(max, ((Integer) values[2]).intValue());
+            }
+        }
+        return max;
+    }
+
+    /**
+     * @param reportInstance
+     * @param elementID
+     * @param elementValue
+     * @param weatherElementNumber
+     * @param beginTime
+     *            begin time literal, or NULL.
+     * @param endTime
+     *            end time literal, or NULL.
+     */
+    void addWeatherPeriod(int reportInstance, int elementID,
+            int elementValue, int weatherElementNumber, String beginTime,
+            String endTime) {
+        weatherPeriods.put(reportInstance, elementID, elementValue,
+                weatherElementNumber, new Literal(beginTime),
+                new Literal(endTime));
+    }
+
+    /**
+     * @param reportInstance
+     * @param elementID
+     * @param value
+     * @param dqd
+     */
+    void addContinuousReal(int reportInstance, int elementID, float value,
+            String dqd) {
+        continuousReals.put(reportInstance, elementID, value, dqd);
+    }
+
+    /**
+     * Build the statements that write the whole batch: the fss_report rows
+     * first, then the element rows.
+     *
+     * @param params
+     *            filled with the statement parameters.
+     * @return the statements, separated by semicolons.
+     */
+    String buildStatements(Map<String, Object> params) {
+        StringBuilder sql = new StringBuilder();
+
+        appendReportInsert(sql, params);
+        cloudLayers.appendInsert(sql, params, "cl");
+        categorySingles.appendInsert(sql, params, "cs");
+        categoryMultis.appendInsert(sql, params, "cm");
+        weatherPeriods.appendInsert(sql, params, "wp");
+        continuousReals.appendInsert(sql, params, "cr");
+
+        return sql.toString();
+    }
+
+    /**
+     * Append a multi-row INSERT for the fss_report rows, if there are any.
+     * The legacy column values are given in table order, as a row of the
+     * table type, and the weather element count and source status are set
+     * on it by column name, so each report is written by its INSERT alone.
+     *
+     * @param sql
+     * @param params
+     */
+    private void appendReportInsert(StringBuilder sql,
+            Map<String, Object> params) {
+        if (reports.rows.isEmpty()) {
+            return;
+        }
+
+        sql.append("INSERT INTO ")
+                .append(ClimateDAOValues.FSS_REPORT_TABLE_NAME)
+                .append(" SELECT p.* FROM (VALUES");
+        int rowNum = 0;
+        for (Object[] values : reports.rows.values()) {
+            int columns = values.length - 2;
+            sql.append(rowNum == 0 ? "(" : ",(").append("CAST(ROW(");
+            for (int i = 0; i < columns; i++) {
+                if (i > 0) {
+                    sql.append(",");
+                }
+                appendValue(sql, params, "r" + rowNum + "_" + i, values[i]);
+            }
+            sql.append(") AS ").append(ClimateDAOValues.FSS_REPORT_TABLE_NAME)
+                    .append("),");
+            appendValue(sql, params, "r" + rowNum + "_wx", values[columns]);
+            sql.append(",");
+            appendValue(sql, params, "r" + rowNum + "_ss",
+                    values[columns + 1]);
+            sql.append(")");
+            rowNum++;
+        }
+        sql.append(") AS v(r, wx_ele_count, source_status),")
+                .append(" jsonb_populate_record(v.r, jsonb_build_object(")
+                .append("'wx_ele_count', v.wx_ele_count,")
+                .append(" 'source_status', v.source_status)) AS p;");
+    }
+
+    /**
+     * Append one value, as NULL, a literal, or a named parameter.
+     *
+     * @param sql
+     * @param params
+     * @param name
+     * @param value
+     */
+    private static void appendValue(StringBuilder sql,
+            Map<String, Object> params, String name, Object value) {
+        if (value == null) {
+            sql.append("NULL");
+        } else if (value instanceof Literal) {
+            sql.append(((Literal) value).sql);
+        } else {
+            sql.append(":").append(name);
+            params.put(name, value);
+        }
+    }
+}
@@ -3,10 +3,7 @@
  **/
 package gov.noaa.nws.ocp.edex.metartoclimate.dao;
 
-import java.util.ArrayList;
 import java.util.Calendar;
-import java.util.List;
-import java.util.regex.Pattern;
 
 import com.raytheon.uf.common.status.IUFStatusHandler;
 import com.raytheon.uf.common.status.UFStatus;
@@ -93,6 +90,9 @@ import gov.noaa.nws.ocp.edex.metartoclimate.dao.data.RunwayVisRange;
  *                                     Additionally implement fix for DR 18585 against legacy, where the intensity
  *                                     character for a weather block should apply to all elements therein, not just
  *                                     the first element.
+ * 17 OCT 2026             agent       Use precompiled patterns from MetarDecoderUtil.
+ * 17 OCT 2026             agent       Decode from MetarTokenizer words. Decode main body
+ *                                     groups with a state machine.
  * </pre>
  * 
  * @author amoore
@@ -105,6 +105,23 @@ public final class MetarDecoder {
     private static final IUFStatusHandler logger = UFStatus
             .getHandler(MetarDecoder.class);
 
+    /**
+     * Tokenizer of the report being decoded. A tokenizer keeps its buffers and
+     * matchers from one report to the next, so each thread has its own.
+     */
+    private static final ThreadLocal<MetarTokenizer> tokenizers = ThreadLocal
+            .withInitial(MetarTokenizer::new);
+
+    /**
+     * Groups of the main body of a METAR report, in the order they are
+     * decoded.
+     */
+    private enum MainBodyGroup {
+        CODENAME, STATION_ID, NIL_OR_TIME, AUTO_OR_COR, WIND, CAVOK,
+        VARIABLE_WIND_DIRECTION, VISIBILITY, RVRS, PRESENT_WEATHER,
+        SKY_CONDITIONS, TEMP_AND_DEW, ALTIMETER, REMARKS, DONE
+    }
+
     /**
      * Decode a METAR report and assign values to the given metar object from
      * parsing the given report's data. Based on hmPED_decodeMetar.c.
@@ -123,189 +140,244 @@ public final class MetarDecoder {
     public static void decodeMetar(DecodedMetar decodedMetar,
             ClimateReport report) throws ArrayIndexOutOfBoundsException,
             NumberFormatException, ClimateMetarDecodingException {
-        String filteredReportText = MetarDecoderUtil
-                .stripControlAndPunctuation(report.getReport());
-
         /*
          * Legacy split just by space, but instead we should split by all
-         * consecutive whitespaces.
+         * consecutive whitespaces. Control characters, including all
+         * whitespace but the space, are filtered out first.
          */
-        String[] reportArray = filteredReportText.split("\\s+");
+        MetarTokenizer tokens = tokenizers.get();
+        tokens.reset(report.getReport());
 
         int reportIndex = 0;
-        /*
-         * Type of report. METAR (hourly, scheduled) or SPECI (special,
-         * unscheduled).
-         */
-        reportIndex = parseCodename(decodedMetar, reportArray, reportIndex);
-
-        /*
-         * Station ID. Must be 4 characters and alphanumeric.
-         */
-        reportIndex = parseStationID(decodedMetar, reportArray, reportIndex);
-
-        /*
-         * Check for nil or time.
-         */
-        String nilOrTime = "";
-        if (reportIndex < reportArray.length) {
-            nilOrTime = reportArray[reportIndex++];
-        } else {
-            decodedMetar.getCmnData().setDecodeStatus(
-                    MetarDecoderUtil.DECODING_ERROR_METAR_STATUS);
-            logger.warn("Unexpected end of METAR report after station ID.");
-        }
-        /*
-         * From hmPED_decodeMetar.c and hmPED_nil.c.
-         */
-        if (nilOrTime.equalsIgnoreCase("NIL")) {
-            decodedMetar.getCmnData().setNil(true);
-            logger.info("Found NIL METAR report: [" + report.getReport()
-                    + "]. Will not decode further.");
-        } else if (nilOrTime.matches(MetarDecoderUtil.DATETIME_REGEX)) {
-            // not NIL, so must be time
-            /*
-             * From hmPED_TimeUTC.c.
-             */
-            // get month and year from report reception
-            Calendar originCal = report.getOrigin();
-            decodedMetar.getCmnData()
-                    .setObMon(originCal.get(Calendar.MONTH) + 1);
-            decodedMetar.getCmnData().setObYear(originCal.get(Calendar.YEAR));
-            decodedMetar.getCmnData()
-                    .setObDay(Integer.parseInt(nilOrTime.substring(0, 2)));
-            decodedMetar.getCmnData()
-                    .setObHour(Integer.parseInt(nilOrTime.substring(2, 4)));
-            decodedMetar.getCmnData()
-                    .setObMinute(Integer.parseInt(nilOrTime.substring(4, 6)));
-
-            /*
-             * Check for AUTO or COR. Optional field.
-             */
-            reportIndex = parseAutoOrCor(decodedMetar, reportArray,
-                    reportIndex);
-
-            /*
-             * Regular wind data. Expected but not mandatory field.
-             */
-            reportIndex = parseWindData(decodedMetar, report, reportArray,
-                    reportIndex);
-
-            /*
-             * CAVOK indicator.
-             */
-            // do not increment index right away, as this is an optional field
-            /*
-             * From hmPED_decodeMetar.c and hmPED_cavok.c.
-             */
-            String cavok = "";
-            if (reportIndex < reportArray.length) {
-                cavok = reportArray[reportIndex];
-            } else {
-                decodedMetar.getCmnData().setDecodeStatus(
-                        MetarDecoderUtil.DECODING_ERROR_METAR_STATUS);
-                logger.warn("Unexpected end of METAR report after Wind Data.");
-            }
-
-            if (cavok.equalsIgnoreCase("CAVOK")) {
-                decodedMetar.getCmnData().setCavok(true);
-                logger.info("Found CAVOK flag in METAR report: ["
-                        + report.getReport()
-                        + "]. Will not search for wind, visibility, or sky conditions in main METAR body.");
-                reportIndex++;
-            } else {
+        MainBodyGroup group = MainBodyGroup.CODENAME;
+        while (group != MainBodyGroup.DONE) {
+            switch (group) {
+            case CODENAME:
+                /*
+                 * Type of report. METAR (hourly, scheduled) or SPECI (special,
+                 * unscheduled).
+                 */
+                reportIndex = parseCodename(decodedMetar, tokens, reportIndex);
+                group = MainBodyGroup.STATION_ID;
+                break;
+            case STATION_ID:
+                /*
+                 * Station ID. Must be 4 characters and alphanumeric.
+                 */
+                reportIndex = parseStationID(decodedMetar, tokens,
+                        reportIndex);
+                group = MainBodyGroup.NIL_OR_TIME;
+                break;
+            case NIL_OR_TIME:
                 /*
-                 * if no CAVOK flag, continue to rest of expected flags;
-                 * otherwise skip to temperature
+                 * Check for nil or time.
                  */
+                if (reportIndex < tokens.size()) {
+                    group = parseNilOrTime(decodedMetar, report,
+                            tokens.word(reportIndex++));
+                } else {
+                    decodedMetar.getCmnData().setDecodeStatus(
+                            MetarDecoderUtil.DECODING_ERROR_METAR_STATUS);
+                    logger.warn(
+                            "Unexpected end of METAR report after station ID.");
+                    group = parseNilOrTime(decodedMetar, report, "");
+                }
+                break;
+            case AUTO_OR_COR:
+                /*
+                 * Check for AUTO or COR. Optional field.
+                 */
+                reportIndex = parseAutoOrCor(decodedMetar, tokens,
+                        reportIndex);
+                group = MainBodyGroup.WIND;
+                break;
+            case WIND:
+                /*
+                 * Regular wind data. Expected but not mandatory field.
+                 */
+                reportIndex = parseWindData(decodedMetar, report, tokens,
+                        reportIndex);
+                group = MainBodyGroup.CAVOK;
+                break;
+            case CAVOK:
+                /*
+                 * CAVOK indicator. From hmPED_decodeMetar.c and hmPED_cavok.c.
+                 */
+                // do not increment index right away, as this is an optional
+                // field
+                if (reportIndex >= tokens.size()) {
+                    decodedMetar.getCmnData().setDecodeStatus(
+                            MetarDecoderUtil.DECODING_ERROR_METAR_STATUS);
+                    logger.warn(
+                            "Unexpected end of METAR report after Wind Data.");
+                    group = MainBodyGroup.VARIABLE_WIND_DIRECTION;
+                } else if (tokens.equalsIgnoreCase(reportIndex, "CAVOK")) {
+                    decodedMetar.getCmnData().setCavok(true);
+                    logger.info("Found CAVOK flag in METAR report: ["
+                            + report.getReport()
+                            + "]. Will not search for wind, visibility, or sky conditions in main METAR body.");
+                    reportIndex++;
+                    // skip to temperature
+                    group = MainBodyGroup.TEMP_AND_DEW;
+                } else {
+                    /*
+                     * if no CAVOK flag, continue to rest of expected flags
+                     */
+                    group = MainBodyGroup.VARIABLE_WIND_DIRECTION;
+                }
+                break;
+            case VARIABLE_WIND_DIRECTION:
                 /*
                  * variable wind direction. Optional field.
                  */
-                reportIndex = parseVariableWindDirection(decodedMetar,
-                        reportArray, reportIndex);
-
+                reportIndex = parseVariableWindDirection(decodedMetar, tokens,
+                        reportIndex);
+                group = MainBodyGroup.VISIBILITY;
+                break;
+            case VISIBILITY:
                 /*
                  * visibility. Expected but not mandatory field.
                  */
-                reportIndex = parseVisibility(decodedMetar, report, reportArray,
+                reportIndex = parseVisibility(decodedMetar, report, tokens,
                         reportIndex);
-
+                group = MainBodyGroup.RVRS;
+                break;
+            case RVRS:
                 /*
                  * Runway visual range. Optional fields.
                  */
-                reportIndex = parseRVRs(decodedMetar, reportArray, reportIndex);
-
+                reportIndex = parseRVRs(decodedMetar, tokens, reportIndex);
+                group = MainBodyGroup.PRESENT_WEATHER;
+                break;
+            case PRESENT_WEATHER:
                 /*
                  * Weather. Optional fields.
                  */
-                reportIndex = parsePresentWeather(decodedMetar, reportArray,
+                reportIndex = parsePresentWeather(decodedMetar, tokens,
                         reportIndex);
-
+                group = MainBodyGroup.SKY_CONDITIONS;
+                break;
+            case SKY_CONDITIONS:
                 /*
                  * Sky condition/clouds. Optional fields.
                  */
-                reportIndex = parseSkyConditions(decodedMetar, reportArray,
+                reportIndex = parseSkyConditions(decodedMetar, tokens,
+                        reportIndex);
+                group = MainBodyGroup.TEMP_AND_DEW;
+                break;
+            case TEMP_AND_DEW:
+                /*
+                 * Temperature and dew. Expected but not mandatory field.
+                 */
+                reportIndex = parseTempAndDew(decodedMetar, report, tokens,
+                        reportIndex);
+                group = MainBodyGroup.ALTIMETER;
+                break;
+            case ALTIMETER:
+                /*
+                 * Altimeter. Expected but not mandatory field.
+                 */
+                reportIndex = parseAltimeter(decodedMetar, report, tokens,
                         reportIndex);
+                /*
+                 * Task 29190: METAR guides suggest that Recent Weather and
+                 * Wind Shear could follow Altimeter as optional groups, but
+                 * Legacy does not implement this
+                 */
+                group = MainBodyGroup.REMARKS;
+                break;
+            case REMARKS:
+                parseRemarks(decodedMetar, report, tokens, reportIndex);
+                logger.info("Finished decoding METAR report: ["
+                        + report.getReport() + "] for Climate.");
+                group = MainBodyGroup.DONE;
+                break;
+            default:
+                throw new IllegalStateException(
+                        "Unexpected METAR main body group: [" + group + "]");
             }
+        }
+    }
 
-            /*
-             * Temperature and dew. Expected but not mandatory field.
-             */
-            reportIndex = parseTempAndDew(decodedMetar, report, reportArray,
-                    reportIndex);
-
-            /*
-             * Altimeter. Expected but not mandatory field.
-             */
-            reportIndex = parseAltimeter(decodedMetar, report, reportArray,
-                    reportIndex);
-
-            /*
-             * Task 29190: METAR guides suggest that Recent Weather and Wind
-             * Shear could follow Altimeter as optional groups, but Legacy does
-             * not implement this
-             */
-            /*
-             * Remarks. Optional group, so need to make sure we do not go beyond
-             * the bounds of the report text. Also log all words from this point
-             * to the remarks section as invalid.
-             */
-            int remarksIndex = Integer.MAX_VALUE;
-            List<String> skippedWords = new ArrayList<>();
-            for (int i = reportIndex; i < reportArray.length; i++) {
-                if (reportArray[i]
-                        .equalsIgnoreCase(MetarDecoderUtil.REMARKS_ABBR)) {
-                    remarksIndex = i;
-                    break;
-                } else {
-                    skippedWords.add(reportArray[i]);
-                }
-            }
+    /**
+     * Check for NIL report or the observation time. From hmPED_decodeMetar.c,
+     * hmPED_nil.c and hmPED_TimeUTC.c.
+     * 
+     * @param decodedMetar
+     * @param report
+     * @param nilOrTime
+     *            word after the station ID, or empty at the end of the report.
+     * @return the group to decode next; done for a NIL report.
+     * @throws ClimateMetarDecodingException
+     *             if the word is neither NIL nor a valid datetime.
+     */
+    private static MainBodyGroup parseNilOrTime(DecodedMetar decodedMetar,
+            ClimateReport report, String nilOrTime)
+            throws ClimateMetarDecodingException {
+        if (nilOrTime.equalsIgnoreCase("NIL")) {
+            decodedMetar.getCmnData().setNil(true);
+            logger.info("Found NIL METAR report: [" + report.getReport()
+                    + "]. Will not decode further.");
+            return MainBodyGroup.DONE;
+        } else if (MetarDecoderUtil.DATETIME_PATTERN.matcher(nilOrTime)
+                .matches()) {
+            // not NIL, so must be time
+            // get month and year from report reception
+            Calendar originCal = report.getOrigin();
+            decodedMetar.getCmnData()
+                    .setObMon(originCal.get(Calendar.MONTH) + 1);
+            decodedMetar.getCmnData().setObYear(originCal.get(Calendar.YEAR));
+            decodedMetar.getCmnData()
+                    .setObDay(Integer.parseInt(nilOrTime.substring(0, 2)));
+            decodedMetar.getCmnData()
+                    .setObHour(Integer.parseInt(nilOrTime.substring(2, 4)));
+            decodedMetar.getCmnData()
+                    .setObMinute(Integer.parseInt(nilOrTime.substring(4, 6)));
+            return MainBodyGroup.AUTO_OR_COR;
+        } else {
+            throw new ClimateMetarDecodingException("The string: [" + nilOrTime
+                    + "] is neither NIL nor a valid datetime string.");
+        }
+    }
 
-            if (!skippedWords.isEmpty()) {
-                StringBuilder message = new StringBuilder(
-                        "End of METAR report: [" + report.getReport()
-                                + "] contains non-remarks portions after main fields which will not be decoded: [");
-                for (String skippedWord : skippedWords) {
-                    message.append(" ").append(skippedWord);
-                }
-                message.append("]");
-                logger.warn(message.toString());
-            }
+    /**
+     * Decode the remarks section, if the report has one. Remarks are optional,
+     * so all words from the given index to the remarks section are logged as
+     * invalid.
+     * 
+     * @param decodedMetar
+     * @param report
+     * @param tokens
+     * @param reportIndex
+     *            index of the first word after the main body.
+     * @throws ClimateMetarDecodingException
+     */
+    private static void parseRemarks(DecodedMetar decodedMetar,
+            ClimateReport report, MetarTokenizer tokens, int reportIndex)
+            throws ClimateMetarDecodingException {
+        int remarksIndex = reportIndex;
+        while (remarksIndex < tokens.size() && !tokens.equalsIgnoreCase(
+                remarksIndex, MetarDecoderUtil.REMARKS_ABBR)) {
+            remarksIndex++;
+        }
 
-            if (remarksIndex != Integer.MAX_VALUE) {
-                MetarRemarksDecoder.decodeMetarRemarks(decodedMetar,
-                        reportArray, remarksIndex + 1);
-            } else {
-                logger.info("METAR report: [" + report.getReport()
-                        + "] does not contain a remarks section.");
+        if (remarksIndex > reportIndex) {
+            StringBuilder message = new StringBuilder(
+                    "End of METAR report: [" + report.getReport()
+                            + "] contains non-remarks portions after main fields which will not be decoded: [");
+            for (int i = reportIndex; i < remarksIndex; i++) {
+                message.append(" ").append(tokens.word(i));
             }
+            message.append("]");
+            logger.warn(message.toString());
+        }
 
-            logger.info("Finished decoding METAR report: [" + report.getReport()
-                    + "] for Climate.");
+        if (remarksIndex < tokens.size()) {
+            MetarRemarksDecoder.decodeMetarRemarks(decodedMetar, tokens,
+                    remarksIndex + 1);
         } else {
-            throw new ClimateMetarDecodingException("The string: [" + nilOrTime
-                    + "] is neither NIL nor a valid datetime string.");
+            logger.info("METAR report: [" + report.getReport()
+                    + "] does not contain a remarks section.");
         }
     }
 
@@ -323,20 +395,20 @@ public final class MetarDecoder {
      * 
      * @param decodedMetar
      * @param report
-     * @param reportArray
+     * @param tokens
      * @param reportIndex
      * @return report index to start parsing at.
      */
 
     private static int parseAltimeter(DecodedMetar decodedMetar,
-            ClimateReport report, String[] reportArray, int reportIndex) {
-        if (reportIndex < reportArray.length) {
+            ClimateReport report, MetarTokenizer tokens, int reportIndex) {
+        if (reportIndex < tokens.size()) {
             /*
              * Legacy allowed for international 'Q' prefix but did not actually
              * convert the value from mb to Hg.
              */
-            String altimeter = reportArray[reportIndex++];
-            if (altimeter.matches(MetarDecoderUtil.ALTIMETER_REGEX)) {
+            String altimeter = tokens.word(reportIndex++);
+            if (tokens.matches(MetarDecoderUtil.ALTIMETER_PATTERN, altimeter)) {
 
                 float multiplier;
                 if (altimeter
@@ -391,16 +463,16 @@ public final class MetarDecoder {
      * 
      * @param decodedMetar
      * @param report
-     * @param reportArray
+     * @param tokens
      * @param reportIndex
      * @return the report index to start parsing from.
      */
 
     private static int parseTempAndDew(DecodedMetar decodedMetar,
-            ClimateReport report, String[] reportArray, int reportIndex) {
-        if (reportIndex < reportArray.length) {
-            String tempAndDew = reportArray[reportIndex++];
-            if (Pattern.compile(MetarDecoderUtil.STARTING_TEMP_AND_DEW_REGEX)
+            ClimateReport report, MetarTokenizer tokens, int reportIndex) {
+        if (reportIndex < tokens.size()) {
+            String tempAndDew = tokens.word(reportIndex++);
+            if (MetarDecoderUtil.STARTING_TEMP_AND_DEW_PATTERN
                     .matcher(tempAndDew).find()) {
                 /*
                  * Legacy allowed for only the temperature portion to be good
@@ -418,7 +490,8 @@ public final class MetarDecoder {
                             .setTemp(Integer.parseInt(tempAndDewSplitArray[0]));
                 }
 
-                if (tempAndDew.matches(MetarDecoderUtil.TEMP_AND_DEW_REGEX)) {
+                if (tokens.matches(
+                        MetarDecoderUtil.TEMP_AND_DEW_PATTERN, tempAndDew)) {
 
                     // dewpoint
                     if (tempAndDewSplitArray[1].startsWith("M")) {
@@ -479,18 +552,18 @@ public final class MetarDecoder {
      * </pre>
      * 
      * @param decodedMetar
-     * @param reportArray
+     * @param tokens
      * @param reportIndex
      * @return new report index to start parsing from.
      */
 
     private static int parseSkyConditions(DecodedMetar decodedMetar,
-            String[] reportArray, int reportIndex) {
+            MetarTokenizer tokens, int reportIndex) {
         for (int ccIndex = 0; ccIndex < DecodedMetar.NUM_CLOUD_CONDITIONS; ccIndex++) {
-            if (reportIndex < reportArray.length) {
+            if (reportIndex < tokens.size()) {
                 // do not increment index right away, as this is an optional
                 // field
-                String currCC = reportArray[reportIndex];
+                String currCC = tokens.word(reportIndex);
                 if (currCC.startsWith(MetarDecoderUtil.OVERCAST_CLOUDS_STRING)
                         || currCC.startsWith(
                                 MetarDecoderUtil.SCATTERED_CLOUDS_STRING)
@@ -571,12 +644,12 @@ public final class MetarDecoder {
                          */
                         int heightDigits;
                         if (currCCWithoutType.length() >= 4
-                                && currCCWithoutType.substring(0, 4).matches(
-                                        MetarDecoderUtil.NUM_ONLY_REGEX)) {
+                                && MetarDecoderUtil.isNumeric(
+                                        currCCWithoutType.substring(0, 4))) {
                             // 4 digits
                             heightDigits = 4;
-                        } else if (currCCWithoutType.substring(0, 3)
-                                .matches(MetarDecoderUtil.NUM_ONLY_REGEX)) {
+                        } else if (MetarDecoderUtil
+                                .isNumeric(currCCWithoutType.substring(0, 3))) {
                             // 3 digits
                             heightDigits = 3;
                         } else {
@@ -648,13 +721,13 @@ public final class MetarDecoder {
      * </pre>
      * 
      * @param decodedMetar
-     * @param reportArray
+     * @param tokens
      * @param reportIndex
      * @return new index to start parsing from.
      */
 
     private static int parsePresentWeather(DecodedMetar decodedMetar,
-            String[] reportArray, int reportIndex) {
+            MetarTokenizer tokens, int reportIndex) {
         /*
          * keep filling out weather until encountering an invalid weather, or
          * out of space
@@ -664,10 +737,10 @@ public final class MetarDecoder {
         int wxIndex = 0;
         while (!foundInvalid
                 && wxIndex < decodedMetar.getCmnData().getWxObstruct().length) {
-            if (reportIndex < reportArray.length) {
+            if (reportIndex < tokens.size()) {
                 // do not increment index right away, as this is an optional
                 // field
-                final String fullWx = reportArray[reportIndex];
+                final String fullWx = tokens.word(reportIndex);
                 String remainingWx = fullWx;
                 String intensity;
                 if (fullWx.startsWith("+") || fullWx.startsWith("-")) {
@@ -773,13 +846,13 @@ public final class MetarDecoder {
      * </pre>
      * 
      * @param decodedMetar
-     * @param reportArray
+     * @param tokens
      * @param reportIndex
      * @return
      */
 
     private static int parseRVRs(DecodedMetar decodedMetar,
-            String[] reportArray, int reportIndex) {
+            MetarTokenizer tokens, int reportIndex) {
         /*
          * Legacy allowed for improperly formatted RVR followed by properly
          * formatted ones; this is not a documented standard but will be done
@@ -789,15 +862,16 @@ public final class MetarDecoder {
          */
         // check first one
         for (int rvrIndex = 0; rvrIndex < DecodedMetar.NUM_RVR; rvrIndex++) {
-            if (reportIndex < reportArray.length) {
+            if (reportIndex < tokens.size()) {
                 // do not increment index right away, as this is an optional
                 // field
-                String runwayVisualRange = reportArray[reportIndex];
+                String runwayVisualRange = tokens.word(reportIndex);
                 // do basic check first
                 if (runwayVisualRange
                         .startsWith(MetarDecoderUtil.RUNWAY_VISUAL_RANGE_PREFIX)
                         && runwayVisualRange.length() >= 7) {
-                    if (runwayVisualRange.matches(MetarDecoderUtil.RVR_REGEX)) {
+                    if (tokens.matches(
+                            MetarDecoderUtil.RVR_PATTERN, runwayVisualRange)) {
                         String[] currSplitRvrArray = runwayVisualRange
                                 .split(MetarDecoderUtil.SLASH_DIVIDER);
 
@@ -881,7 +955,7 @@ public final class MetarDecoder {
                         // not a valid RVR by pattern
                         logger.warn("Invalid RVR: [" + runwayVisualRange
                                 + "]. Does not match pattern: ["
-                                + MetarDecoderUtil.RVR_REGEX + "].");
+                                + MetarDecoderUtil.RVR_PATTERN + "].");
                         rvrIndex--;
                     }
                     // move to next report portion, which may or may not be an
@@ -919,13 +993,13 @@ public final class MetarDecoder {
      * 
      * @param decodedMetar
      * @param report
-     * @param reportArray
+     * @param tokens
      * @param reportIndex
      * @return new report index to start parsing from.
      */
     private static int parseVisibility(DecodedMetar decodedMetar,
-            ClimateReport report, String[] reportArray, int reportIndex) {
-        if (reportIndex < reportArray.length) {
+            ClimateReport report, MetarTokenizer tokens, int reportIndex) {
+        if (reportIndex < tokens.size()) {
             /*
              * legacy also allowed units to be split away by a space, though
              * this is not a documented standard for METAR
@@ -940,7 +1014,7 @@ public final class MetarDecoder {
             /*
              * do not increment index right away, as this is an optional field
              */
-            String visibility = reportArray[reportIndex];
+            String visibility = tokens.word(reportIndex);
             if (visibility.equalsIgnoreCase(
                     MetarDecoderUtil.VISIBILITY_LESS_QUARTER_SM)) {
                 /* CHECK FOR VISIBILITY MEASURED <1/4SM */
@@ -955,8 +1029,9 @@ public final class MetarDecoder {
                 logger.debug("Visibility flag is: [" + visibility + "].");
                 reportIndex++;
                 return reportIndex;
-            } else if (visibility.matches(
-                    MetarDecoderUtil.SINGLE_OR_DOUBLE_DIGIT_VISIB_REGEX)) {
+            } else if (tokens.matches(
+                    MetarDecoderUtil.SINGLE_OR_DOUBLE_DIGIT_VISIB_PATTERN,
+                    visibility)) {
                 // simple visibility, single or double digit and units
                 // conversion to SM
                 float multiplier = 1;
@@ -965,8 +1040,7 @@ public final class MetarDecoder {
                 }
 
                 float value;
-                if (visibility.substring(0, 2)
-                        .matches(MetarDecoderUtil.NUM_ONLY_REGEX)) {
+                if (MetarDecoderUtil.isNumeric(visibility.substring(0, 2))) {
                     value = Float.parseFloat(visibility.substring(0, 2));
                 } else {
                     value = Float.parseFloat(visibility.substring(0, 1));
@@ -976,17 +1050,19 @@ public final class MetarDecoder {
                         .setPrevailingVisibilitySM(multiplier * value);
                 reportIndex++;
                 return reportIndex;
-            } else if (visibility
-                    .matches(MetarDecoderUtil.BAD_FRACTIONAL_VISIB_REGEX)
-                    || visibility.matches(
-                            MetarDecoderUtil.UNITLESS_BAD_FRACTIONAL_VISIB_REGEX)) {
+            } else if (tokens.matches(
+                    MetarDecoderUtil.BAD_FRACTIONAL_VISIB_PATTERN, visibility)
+                    || tokens.matches(
+                            MetarDecoderUtil.UNITLESS_BAD_FRACTIONAL_VISIB_PATTERN,
+                            visibility)) {
                 logger.warn("Improperly formatted mixed fraction visibility: ["
                         + visibility + "].");
 
                 // conversion to SM
                 float multiplier;
-                if (visibility
-                        .matches(MetarDecoderUtil.BAD_FRACTIONAL_VISIB_REGEX)) {
+                if (tokens.matches(
+                        MetarDecoderUtil.BAD_FRACTIONAL_VISIB_PATTERN,
+                        visibility)) {
                     if (visibility.endsWith(MetarDecoderUtil.KILOMETERS_ABBR)) {
                         multiplier = MetarDecoderUtil.KM_TO_SM;
                     } else {
@@ -995,8 +1071,8 @@ public final class MetarDecoder {
                 } else {
                     // check next word for units
                     reportIndex++;
-                    if (reportIndex < reportArray.length) {
-                        String units = reportArray[reportIndex];
+                    if (reportIndex < tokens.size()) {
+                        String units = tokens.word(reportIndex);
 
                         if (units.equalsIgnoreCase(
                                 MetarDecoderUtil.KILOMETERS_ABBR)) {
@@ -1028,8 +1104,7 @@ public final class MetarDecoder {
                  * numerator digit.
                  */
                 int wholeNumberPortion;
-                if (visibility.substring(0, 3)
-                        .matches(MetarDecoderUtil.NUM_ONLY_REGEX)) {
+                if (MetarDecoderUtil.isNumeric(visibility.substring(0, 3))) {
                     wholeNumberPortion = 2;
                 } else {
                     wholeNumberPortion = 1;
@@ -1050,7 +1125,7 @@ public final class MetarDecoder {
                         multiplier * visibilityValue);
                 reportIndex++;
                 return reportIndex;
-            } else if (visibility.matches(MetarDecoderUtil.NUM_ONLY_REGEX)) {
+            } else if (MetarDecoderUtil.isNumeric(visibility)) {
                 /*
                  * the whole number has been split from the fraction and units.
                  */
@@ -1058,8 +1133,8 @@ public final class MetarDecoder {
                     float currVisib = Float.parseFloat(visibility);
                     // advance to fractional portion
                     reportIndex++;
-                    if (reportIndex < reportArray.length) {
-                        visibility = reportArray[reportIndex];
+                    if (reportIndex < tokens.size()) {
+                        visibility = tokens.word(reportIndex);
 
                         if (visibility.equalsIgnoreCase(
                                 MetarDecoderUtil.KILOMETERS_ABBR)
@@ -1078,10 +1153,12 @@ public final class MetarDecoder {
 
                             reportIndex++;
                             return reportIndex;
-                        } else if (visibility.matches(
-                                MetarDecoderUtil.FRACTIONAL_VISIB_REGEX)
-                                || visibility.matches(
-                                        MetarDecoderUtil.UNITLESS_FRACTIONAL_VISIB_REGEX)) {
+                        } else if (tokens.matches(
+                                MetarDecoderUtil.FRACTIONAL_VISIB_PATTERN,
+                                visibility)
+                                || tokens.matches(
+                                        MetarDecoderUtil.UNITLESS_FRACTIONAL_VISIB_PATTERN,
+                                        visibility)) {
                             /*
                              * must be fractional visib remaining, or visibility
                              * is not present
@@ -1092,8 +1169,8 @@ public final class MetarDecoder {
                             float denominator;
                             // denominator may be 1 or 2 digits
                             if (visibility.length() >= 4
-                                    && visibility.substring(2, 4).matches(
-                                            MetarDecoderUtil.NUM_ONLY_REGEX)) {
+                                    && MetarDecoderUtil.isNumeric(
+                                            visibility.substring(2, 4))) {
                                 // 2 digits
                                 denominator = Float
                                         .parseFloat(visibility.substring(2, 4));
@@ -1106,8 +1183,9 @@ public final class MetarDecoder {
 
                             // conversion to SM
                             float multiplier;
-                            if (visibility.matches(
-                                    MetarDecoderUtil.FRACTIONAL_VISIB_REGEX)) {
+                            if (tokens.matches(
+                                    MetarDecoderUtil.FRACTIONAL_VISIB_PATTERN,
+                                    visibility)) {
                                 if (visibility.endsWith(
                                         MetarDecoderUtil.KILOMETERS_ABBR)) {
                                     multiplier = MetarDecoderUtil.KM_TO_SM;
@@ -1117,8 +1195,8 @@ public final class MetarDecoder {
                             } else {
                                 // check next word for units
                                 reportIndex++;
-                                if (reportIndex < reportArray.length) {
-                                    String units = reportArray[reportIndex];
+                                if (reportIndex < tokens.size()) {
+                                    String units = tokens.word(reportIndex);
 
                                     if (units.equalsIgnoreCase(
                                             MetarDecoderUtil.KILOMETERS_ABBR)) {
@@ -1196,16 +1274,18 @@ public final class MetarDecoder {
                     reportIndex++;
                     return reportIndex;
                 }
-            } else if (visibility
-                    .matches(MetarDecoderUtil.FRACTIONAL_VISIB_REGEX)
-                    || visibility.matches(
-                            MetarDecoderUtil.UNITLESS_FRACTIONAL_VISIB_REGEX)) {
+            } else if (tokens.matches(
+                    MetarDecoderUtil.FRACTIONAL_VISIB_PATTERN, visibility)
+                    || tokens.matches(
+                            MetarDecoderUtil.UNITLESS_FRACTIONAL_VISIB_PATTERN,
+                            visibility)) {
                 // get numerator
                 float numerator = Float.parseFloat(visibility.substring(0, 1));
                 float denominator;
                 // denominator may be 1 or 2 digits
-                if (visibility.length() >= 4 && visibility.substring(2, 4)
-                        .matches(MetarDecoderUtil.NUM_ONLY_REGEX)) {
+                if (visibility.length() >= 4
+                        && MetarDecoderUtil
+                                .isNumeric(visibility.substring(2, 4))) {
                     // 2 digits
                     denominator = Float.parseFloat(visibility.substring(2, 4));
                 } else {
@@ -1215,8 +1295,9 @@ public final class MetarDecoder {
 
                 // conversion to SM
                 float multiplier;
-                if (visibility
-                        .matches(MetarDecoderUtil.FRACTIONAL_VISIB_REGEX)) {
+                if (tokens.matches(
+                        MetarDecoderUtil.FRACTIONAL_VISIB_PATTERN,
+                        visibility)) {
                     if (visibility.endsWith(MetarDecoderUtil.KILOMETERS_ABBR)) {
                         multiplier = MetarDecoderUtil.KM_TO_SM;
                     } else {
@@ -1225,8 +1306,8 @@ public final class MetarDecoder {
                 } else {
                     // check next word for units
                     reportIndex++;
-                    if (reportIndex < reportArray.length) {
-                        String units = reportArray[reportIndex];
+                    if (reportIndex < tokens.size()) {
+                        String units = tokens.word(reportIndex);
 
                         if (units.equalsIgnoreCase(
                                 MetarDecoderUtil.KILOMETERS_ABBR)) {
@@ -1273,18 +1354,19 @@ public final class MetarDecoder {
      * Parse variable wind direction from METAR. From hmPED_MinMaxWinDir.c.
      * 
      * @param decodedMetar
-     * @param reportArray
+     * @param tokens
      * @param reportIndex
      * @return new report index to start parsing from.
      */
     private static int parseVariableWindDirection(DecodedMetar decodedMetar,
-            String[] reportArray, int reportIndex) {
-        if (reportIndex < reportArray.length) {
+            MetarTokenizer tokens, int reportIndex) {
+        if (reportIndex < tokens.size()) {
             // do not increment index right away, as this is an optional
             // field
-            String variableWindDirection = reportArray[reportIndex];
-            if (variableWindDirection
-                    .matches(MetarDecoderUtil.VAR_WIND_DIR_REGEX)) {
+            String variableWindDirection = tokens.word(reportIndex);
+            if (tokens.matches(
+                    MetarDecoderUtil.VAR_WIND_DIR_PATTERN,
+                    variableWindDirection)) {
                 decodedMetar.setMinWnDir(Integer
                         .parseInt(variableWindDirection.substring(0, 3)));
                 decodedMetar.setMaxWnDir(
@@ -1315,21 +1397,22 @@ public final class MetarDecoder {
      * 
      * @param decodedMetar
      * @param report
-     * @param reportArray
+     * @param tokens
      * @param reportIndex
      * @return new report index to start parsing from.
      */
 
     private static int parseWindData(DecodedMetar decodedMetar,
-            ClimateReport report, String[] reportArray, int reportIndex) {
-        if (reportIndex < reportArray.length) {
-            String regularWind = reportArray[reportIndex++];
+            ClimateReport report, MetarTokenizer tokens, int reportIndex) {
+        if (reportIndex < tokens.size()) {
+            String regularWind = tokens.word(reportIndex++);
             // direction
             if (regularWind.startsWith("VRB")) {
                 // variable direction
                 decodedMetar.getCmnData().getWinData().setWindVrb(true);
-            } else if (regularWind.length() >= 3 && regularWind.substring(0, 3)
-                    .matches(MetarDecoderUtil.NUM_ONLY_REGEX)) {
+            } else if (regularWind.length() >= 3
+                    && MetarDecoderUtil
+                            .isNumeric(regularWind.substring(0, 3))) {
                 // 3-digit direction
                 decodedMetar.getCmnData().getWinData().setWindDir(
                         Integer.parseInt(regularWind.substring(0, 3)));
@@ -1345,15 +1428,16 @@ public final class MetarDecoder {
             String windWithoutDirection = regularWind.substring(3);
             // speed, 2 or 3 digits
             String windWithoutSpeed;
-            if (windWithoutDirection.length() >= 3 && windWithoutDirection
-                    .substring(0, 3).matches(MetarDecoderUtil.NUM_ONLY_REGEX)) {
+            if (windWithoutDirection.length() >= 3
+                    && MetarDecoderUtil
+                            .isNumeric(windWithoutDirection.substring(0, 3))) {
                 // 3 digit speed
                 decodedMetar.getCmnData().getWinData().setWindSpeed(
                         Integer.parseInt(windWithoutDirection.substring(0, 3)));
                 windWithoutSpeed = windWithoutDirection.substring(3);
             } else if (windWithoutDirection.length() >= 2
-                    && windWithoutDirection.substring(0, 2)
-                            .matches(MetarDecoderUtil.NUM_ONLY_REGEX)) {
+                    && MetarDecoderUtil
+                            .isNumeric(windWithoutDirection.substring(0, 2))) {
                 // 2 digit speed
                 decodedMetar.getCmnData().getWinData().setWindSpeed(
                         Integer.parseInt(windWithoutDirection.substring(0, 2)));
@@ -1374,15 +1458,15 @@ public final class MetarDecoder {
                 windWithoutSpeed = windWithoutSpeed.substring(1);
                 // gust speed, 2 or 3 digits
                 if (windWithoutSpeed.length() >= 3
-                        && windWithoutSpeed.substring(0, 3)
-                                .matches(MetarDecoderUtil.NUM_ONLY_REGEX)) {
+                        && MetarDecoderUtil
+                                .isNumeric(windWithoutSpeed.substring(0, 3))) {
                     // 3 digit speed
                     decodedMetar.getCmnData().getWinData().setWindGust(
                             Integer.parseInt(windWithoutSpeed.substring(0, 3)));
                     windWithoutSpeed = windWithoutSpeed.substring(3);
                 } else if (windWithoutSpeed.length() >= 2
-                        && windWithoutSpeed.substring(0, 2)
-                                .matches(MetarDecoderUtil.NUM_ONLY_REGEX)) {
+                        && MetarDecoderUtil
+                                .isNumeric(windWithoutSpeed.substring(0, 2))) {
                     // 2 digit speed
                     decodedMetar.getCmnData().getWinData().setWindGust(
                             Integer.parseInt(windWithoutSpeed.substring(0, 2)));
@@ -1429,15 +1513,15 @@ public final class MetarDecoder {
      * hmPED_AUTO.c, and hmPED_COR.c.
      * 
      * @param decodedMetar
-     * @param reportArray
+     * @param tokens
      * @param reportIndex
      * @return new report index to start parsing from.
      */
     private static int parseAutoOrCor(DecodedMetar decodedMetar,
-            String[] reportArray, int reportIndex) {
-        if (reportIndex < reportArray.length) {
+            MetarTokenizer tokens, int reportIndex) {
+        if (reportIndex < tokens.size()) {
             // do not increment index right away, as this is an optional field
-            String autoOrCor = reportArray[reportIndex];
+            String autoOrCor = tokens.word(reportIndex);
             if (autoOrCor.equalsIgnoreCase("COR")) {
                 decodedMetar.setCor(true);
                 logger.debug("METAR report is a correction.");
@@ -1471,17 +1555,17 @@ public final class MetarDecoder {
      * </pre>
      * 
      * @param decodedMetar
-     * @param reportArray
+     * @param tokens
      * @param reportIndex
      * @return report index to parse next.
      * @throws ClimateMetarDecodingException
      */
 
     private static int parseStationID(DecodedMetar decodedMetar,
-            String[] reportArray, int reportIndex)
+            MetarTokenizer tokens, int reportIndex)
             throws ClimateMetarDecodingException {
-        String stationID = reportArray[reportIndex++];
-        if (stationID.matches(MetarDecoderUtil.STATION_ID_REGEX)) {
+        String stationID = tokens.word(reportIndex++);
+        if (tokens.matches(MetarDecoderUtil.STATION_ID_PATTERN, stationID)) {
             decodedMetar.getCmnData().setStationID(stationID);
             logger.debug("Got station ID for METAR: [" + stationID + "]");
         } else {
@@ -1492,7 +1576,7 @@ public final class MetarDecoder {
     }
 
     /**
-     * Decode the codename (report type) from the reportArray. From
+     * Decode the codename (report type) from the report words. From
      * hmPED_CodeName.c.
      * 
      * <pre>
@@ -1508,14 +1592,14 @@ public final class MetarDecoder {
      * </pre>
      * 
      * @param decodedMetar
-     * @param reportArray
+     * @param tokens
      * @param reportIndex
      * @return index for the rest of parsing to use.
      */
 
     private static int parseCodename(DecodedMetar decodedMetar,
-            String[] reportArray, int reportIndex) {
-        String reportType = reportArray[reportIndex++];
+            MetarTokenizer tokens, int reportIndex) {
+        String reportType = tokens.word(reportIndex++);
         decodedMetar.setReportTypeCodeName(reportType);
         if (!(reportType.equalsIgnoreCase("METAR")
                 || reportType.equalsIgnoreCase("SPECI"))) {
@@ -6,6 +6,7 @@ package gov.noaa.nws.ocp.edex.metartoclimate.dao;
 import java.util.Arrays;
 import java.util.Calendar;
 import java.util.List;
+import java.util.regex.Pattern;
 
 import com.raytheon.uf.common.status.IUFStatusHandler;
 import com.raytheon.uf.common.status.UFStatus;
@@ -32,6 +33,8 @@ import gov.noaa.nws.ocp.edex.metartoclimate.dao.data.SurfaceObs;
  * ------------ ---------- ----------- --------------------------
  * 07 SEP 2017  37754      amoore      Initial creation.
  * 27 OCT 2017  40123      amoore      Simply time nominalization logic.
+ * 17 OCT 2026             agent       Precompile decoding regexes. Add isNumeric.
+ * 17 OCT 2026             agent       Add isStrippedCharacter for MetarTokenizer.
  * </pre>
  * 
  * @author amoore
@@ -400,15 +403,18 @@ public final class MetarDecoderUtil {
      * 
      * UPE1250SNB05E35B43
      */
-    protected static final String RECENT_WX_REGEX = "^((\\+|-)?[A-Z]{2,6}?((B|E)([0-9]{2,4}))+)+$";
+    protected static final Pattern RECENT_WX_PATTERN = Pattern
+            .compile("^((\\+|-)?[A-Z]{2,6}?((B|E)([0-9]{2,4}))+)+$");
     /**
      * Recent weather individual event regex.
      */
-    protected static final String SINGLE_RECENT_WX_REGEX = "((\\+|-)?[A-Z]{2,6}?((B|E)([0-9]{2,4}))+)";
+    protected static final Pattern SINGLE_RECENT_WX_PATTERN = Pattern
+            .compile("((\\+|-)?[A-Z]{2,6}?((B|E)([0-9]{2,4}))+)");
     /**
      * Recent weather individual time regex.
      */
-    protected static final String SINGLE_RECENT_WX_TIME_REGEX = "(B|E)([0-9]{2,4})";
+    protected static final Pattern SINGLE_RECENT_WX_TIME_PATTERN = Pattern
+            .compile("(B|E)([0-9]{2,4})");
     /**
      * All valid relative location symbols, from hmPED_validloc.c.
      */
@@ -465,75 +471,96 @@ public final class MetarDecoderUtil {
     /**
      * Station ID regex. 4 alphanumeric characters.
      */
-    protected static final String STATION_ID_REGEX = "^[a-zA-Z0-9]{4}$";
+    protected static final Pattern STATION_ID_PATTERN = Pattern
+            .compile("^[a-zA-Z0-9]{4}$");
     /**
      * Any alphanumeric pattern regex.
      */
-    protected static final String ALPHANUMERIC_REGEX = "^[0-9a-zA-Z]+$";
+    protected static final Pattern ALPHANUMERIC_PATTERN = Pattern
+            .compile("^[0-9a-zA-Z]+$");
     /**
      * Datetime regex. 6 numbers followed by Z.
      */
-    protected static final String DATETIME_REGEX = "^[0-9]{6}Z$";
+    protected static final Pattern DATETIME_PATTERN = Pattern
+            .compile("^[0-9]{6}Z$");
     /**
      * Numeric-only regex.
      */
-    protected static final String NUM_ONLY_REGEX = "^[0-9]+$";
+    protected static final Pattern NUM_ONLY_PATTERN = Pattern
+            .compile("^[0-9]+$");
+    /**
+     * Whitespace regex, for splitting a report into words.
+     */
+    protected static final Pattern WHITESPACE_PATTERN = Pattern.compile("\\s+");
     /**
      * Variable wind direction regex.
      */
-    protected static final String VAR_WIND_DIR_REGEX = "^[0-9]{3}V[0-9]{3}$";
+    protected static final Pattern VAR_WIND_DIR_PATTERN = Pattern
+            .compile("^[0-9]{3}V[0-9]{3}$");
     /**
      * Ceiling height (CIG) variability regex.
      */
-    protected static final String CIG_VAR_REGEX = "^[0-9]{3}V[0-9]{3}$";
+    protected static final Pattern CIG_VAR_PATTERN = Pattern
+            .compile("^[0-9]{3}V[0-9]{3}$");
     /**
      * Obscuration sky cover regex.
      */
-    protected static final String OBSCUR_SKY_COVER_REGEX = "^(FEW|SCT|BKN|OVC)[0-9]{3}$";
+    protected static final Pattern OBSCUR_SKY_COVER_PATTERN = Pattern
+            .compile("^(FEW|SCT|BKN|OVC)[0-9]{3}$");
     /**
      * Basic single or double digit visibility regex.
      */
-    protected static final String SINGLE_OR_DOUBLE_DIGIT_VISIB_REGEX = "^[0-9]{1,2}(SM|KM)$";
+    protected static final Pattern SINGLE_OR_DOUBLE_DIGIT_VISIB_PATTERN = Pattern
+            .compile("^[0-9]{1,2}(SM|KM)$");
     /**
      * Improperly formatted fractional visibility regex, where the whole number
      * was not separated from the fraction.
      */
-    protected static final String BAD_FRACTIONAL_VISIB_REGEX = "^[0-9]{2,3}\\/[0-9]{1,2}(SM|KM)$";
+    protected static final Pattern BAD_FRACTIONAL_VISIB_PATTERN = Pattern
+            .compile("^[0-9]{2,3}\\/[0-9]{1,2}(SM|KM)$");
     /**
      * Unitless improperly formatted fractional visibility regex, where the
      * whole number was not separated from the fraction.
      */
-    protected static final String UNITLESS_BAD_FRACTIONAL_VISIB_REGEX = "^[0-9]{2,3}\\/[0-9]{1,2}$";
+    protected static final Pattern UNITLESS_BAD_FRACTIONAL_VISIB_PATTERN = Pattern
+            .compile("^[0-9]{2,3}\\/[0-9]{1,2}$");
     /**
      * Fractional visibility regex.
      */
-    protected static final String FRACTIONAL_VISIB_REGEX = "^[0-9]\\/[0-9]{1,2}(SM|KM)$";
+    protected static final Pattern FRACTIONAL_VISIB_PATTERN = Pattern
+            .compile("^[0-9]\\/[0-9]{1,2}(SM|KM)$");
     /**
      * Unitless fractional visibility regex.
      */
-    protected static final String UNITLESS_FRACTIONAL_VISIB_REGEX = "^[0-9]\\/[0-9]{1,2}$";
+    protected static final Pattern UNITLESS_FRACTIONAL_VISIB_PATTERN = Pattern
+            .compile("^[0-9]\\/[0-9]{1,2}$");
     /**
      * Improperly formatted temp and dew regex, where some invalid parts may
      * have taken the place of the dew values. The first part of the temp/dew
      * regex only.
      */
-    protected static final String STARTING_TEMP_AND_DEW_REGEX = "^M?[0-9]{2,3}\\/";
+    protected static final Pattern STARTING_TEMP_AND_DEW_PATTERN = Pattern
+            .compile("^M?[0-9]{2,3}\\/");
     /**
      * Temperature and dewpoint regex.
      */
-    protected static final String TEMP_AND_DEW_REGEX = "^M?[0-9]{2,3}\\/M?[0-9]{2,3}$";
+    protected static final Pattern TEMP_AND_DEW_PATTERN = Pattern
+            .compile("^M?[0-9]{2,3}\\/M?[0-9]{2,3}$");
     /**
      * Altimeter regex.
      */
-    protected static final String ALTIMETER_REGEX = "^(A|Q)[0-9]{4}$";
+    protected static final Pattern ALTIMETER_PATTERN = Pattern
+            .compile("^(A|Q)[0-9]{4}$");
     /**
      * Peak wind regex.
      */
-    protected static final String PEAK_WIND_REGEX = "^[0-9]{3}[0-9]{2,3}\\/[0-9]{2}([0-9]{2})?$";
+    protected static final Pattern PEAK_WIND_PATTERN = Pattern
+            .compile("^[0-9]{3}[0-9]{2,3}\\/[0-9]{2}([0-9]{2})?$");
     /**
      * Fraction regex.
      */
-    protected static final String FRACTION_REGEX = "^[0-9]+\\/[0-9]+$";
+    protected static final Pattern FRACTION_PATTERN = Pattern
+            .compile("^[0-9]+\\/[0-9]+$");
     /**
      * Synoptic cloud types prefix.
      */
@@ -541,7 +568,8 @@ public final class MetarDecoderUtil {
     /**
      * Synoptic cloud types regex.
      */
-    protected static final String SYNOP_CLOUD_TYPES_REGEX = "^8\\/([0-9]|\\/){3}$";
+    protected static final Pattern SYNOP_CLOUD_TYPES_PATTERN = Pattern
+            .compile("^8\\/([0-9]|\\/){3}$");
     /**
      * Sunshine duration prefix.
      */
@@ -549,15 +577,18 @@ public final class MetarDecoderUtil {
     /**
      * Sunshine duration regex.
      */
-    protected static final String SUNSHINE_REGEX = "^98([0-9]{3}|\\/{3})$";
+    protected static final Pattern SUNSHINE_PATTERN = Pattern
+            .compile("^98([0-9]{3}|\\/{3})$");
     /**
      * 6-hourly max temp regex.
      */
-    protected static final String MAX_TEMP_6_HOUR_REGEX = "^1(0|1)[0-9]{3}$";
+    protected static final Pattern MAX_TEMP_6_HOUR_PATTERN = Pattern
+            .compile("^1(0|1)[0-9]{3}$");
     /**
      * 6-hourly min temp regex.
      */
-    protected static final String MIN_TEMP_6_HOUR_REGEX = "^2(0|1)[0-9]{3}$";
+    protected static final Pattern MIN_TEMP_6_HOUR_PATTERN = Pattern
+            .compile("^2(0|1)[0-9]{3}$");
     /**
      * 24-hour max and min temp prefix.
      */
@@ -569,7 +600,8 @@ public final class MetarDecoderUtil {
     /**
      * 3-hourly pressure tendency regex.
      */
-    protected static final String PRESS_TEND_3_HOUR_REGEX = "^5[0-8][0-9]{3}$";
+    protected static final Pattern PRESS_TEND_3_HOUR_PATTERN = Pattern
+            .compile("^5[0-8][0-9]{3}$");
     /**
      * Runway visual range regex.
      * 
@@ -581,11 +613,13 @@ public final class MetarDecoderUtil {
      * 
      * R07/4500VP6000FT
      */
-    protected static final String RVR_REGEX = "^R[0-9]{2}(R|L|C)?\\/(((M|P)?[0-9]{3,4})(V(M|P)?[0-9]{3,4})?)(FT)?(\\/(U|D|N))?$";
+    protected static final Pattern RVR_PATTERN = Pattern
+            .compile("^R[0-9]{2}(R|L|C)?\\/(((M|P)?[0-9]{3,4})(V(M|P)?[0-9]{3,4})?)(FT)?(\\/(U|D|N))?$");
     /**
      * Core variable visibility regex.
      */
-    protected static final String CORE_VARIABLE_VISIBILITY_REGEX = "^[0-9]+(\\/[0-9]+)?V[0-9]+(\\/[0-9]+)?$";
+    protected static final Pattern CORE_VARIABLE_VISIBILITY_PATTERN = Pattern
+            .compile("^[0-9]+(\\/[0-9]+)?V[0-9]+(\\/[0-9]+)?$");
     /**
      * Overcast clouds string.
      */
@@ -981,8 +1015,7 @@ public final class MetarDecoderUtil {
         for (int i = 0; i < report.length(); i++) {
             char c = report.charAt(i);
 
-            if ((!isControlCharacter(c)) && ((!isPunctuationCharacter(c))
-                    || (c == '/') || (c == '$') || (c == '+') || (c == '-'))) {
+            if (!isStrippedCharacter(c)) {
                 filteredReportText.append(c);
             }
         }
@@ -990,6 +1023,16 @@ public final class MetarDecoderUtil {
         return filteredReportText.toString();
     }
 
+    /**
+     * @param c
+     * @return true if the given character is removed from report text by
+     *         {@link #stripControlAndPunctuation(String)}.
+     */
+    protected static boolean isStrippedCharacter(char c) {
+        return isControlCharacter(c) || (isPunctuationCharacter(c)
+                && (c != '/') && (c != '$') && (c != '+') && (c != '-'));
+    }
+
     /**
      * Based off C++ #iscntrl method as used by hmHMU_stripcntl.c. Based off
      * table in http://en.cppreference.com/w/cpp/string/byte/iscntrl.
@@ -1026,6 +1069,29 @@ public final class MetarDecoderUtil {
         return false;
     }
 
+    /**
+     * Same result as matching {@link #NUM_ONLY_PATTERN}, without the regex
+     * engine. Most numeric checks in decoding are on short substrings, where
+     * the matcher cost dominates.
+     * 
+     * @param word
+     * @return true if the given word is non-empty and all digits.
+     */
+    protected static boolean isNumeric(String word) {
+        if (word.isEmpty()) {
+            return false;
+        }
+
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            if ((c < '0') || (c > '9')) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
     /**
      * @param direction
      * @return true if the given word is a valid direction, or valid combination
@@ -5,7 +5,6 @@ package gov.noaa.nws.ocp.edex.metartoclimate.dao;
 
 import java.util.Arrays;
 import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import com.raytheon.uf.common.status.IUFStatusHandler;
 import com.raytheon.uf.common.status.UFStatus;
@@ -48,6 +47,9 @@ import gov.noaa.nws.ocp.edex.metartoclimate.dao.data.SignificantCloud;
  * Date         Ticket#    Engineer    Description
  * ------------ ---------- ----------- --------------------------
  * 07 SEP 2017  37754      amoore      Initial creation.
+ * 17 OCT 2026             agent       Use precompiled patterns from MetarDecoderUtil.
+ * 17 OCT 2026             agent       Decode from MetarTokenizer words. Dispatch groups
+ *                                     by their first character.
  * </pre>
  * 
  * @author amoore
@@ -67,10 +69,10 @@ public final class MetarRemarksDecoder {
      * 
      * @param decodedMetar
      *            metar to fill out.
-     * @param reportArray
-     *            report array to look at.
+     * @param tokens
+     *            report words to look at.
      * @param startIndex
-     *            starting index of report array to look at.
+     *            starting index of report words to look at.
      * @throws ArrayIndexOutOfBoundsException
      *             on invalid array indexing.
      * @throws NumberFormatException
@@ -79,7 +81,7 @@ public final class MetarRemarksDecoder {
      *             on invalid format.
      */
     protected static void decodeMetarRemarks(DecodedMetar decodedMetar,
-            String[] reportArray, int startIndex)
+            MetarTokenizer tokens, int startIndex)
                     throws ArrayIndexOutOfBoundsException,
                     NumberFormatException, ClimateMetarDecodingException {
         logger.debug("Decoding METAR remarks section.");
@@ -88,398 +90,591 @@ public final class MetarRemarksDecoder {
          * move to next portion. If any invalid portions are found, log return
          * failure.
          */
-        for (int reportIndex = startIndex; reportIndex < reportArray.length; reportIndex++) {
-            // current report section
-            String currReportSection = reportArray[reportIndex];
+        for (int reportIndex = startIndex; reportIndex < tokens
+                .size(); reportIndex++) {
+            reportIndex = decodeRemarksGroup(decodedMetar, tokens,
+                    reportIndex);
+        }
+    }
 
-            // check for simple flags first
-            if (currReportSection
-                    .equalsIgnoreCase(MetarDecoderUtil.FIRST_INDICATOR)) {
+    /**
+     * Decode the remarks group starting at the given word. The groups that
+     * could start with the first character of the word are checked in the same
+     * order as they always have been: simple flags first, as some flags share
+     * prefix characters with more complex sections, then recent weather, then
+     * the remaining groups. A word that is no group is logged and skipped.
+     * 
+     * @param decodedMetar
+     * @param tokens
+     * @param reportIndex
+     *            index of the word starting the group.
+     * @return index of the last word of the group.
+     * @throws ClimateMetarDecodingException
+     */
+    private static int decodeRemarksGroup(DecodedMetar decodedMetar,
+            MetarTokenizer tokens, int reportIndex)
+                    throws ClimateMetarDecodingException {
+        char key = groupKey(tokens.firstChar(reportIndex));
+
+        // flags and groups starting with a keyword
+        switch (key) {
+        case 'A':
+            if (tokens.equalsIgnoreCase(reportIndex,
+                    MetarDecoderUtil.AURORA_BOREALIS_INDICATOR)) {
+                /*
+                 * Aurora borealis section. From hmPED_AURBO.c.
+                 */
+                decodedMetar.setAuroraBorealis(true);
+                return reportIndex;
+            } else if (tokens.equalsIgnoreCase(reportIndex,
+                    MetarDecoderUtil.A01_INDICATOR_STRING)
+                    || tokens.equalsIgnoreCase(reportIndex,
+                            MetarDecoderUtil.A02_INDICATOR_STRING)
+                    || tokens.equalsIgnoreCase(reportIndex,
+                            MetarDecoderUtil.A01_INDICATOR_STRING_NUM)
+                    || tokens.equalsIgnoreCase(reportIndex,
+                            MetarDecoderUtil.A02_INDICATOR_STRING_NUM)) {
+                /*
+                 * auto indicator section. From hmPED_A0indicator.c.
+                 */
+                decodedMetar.setAutoIndicator(tokens.word(reportIndex));
+                return reportIndex;
+            }
+            break;
+        case 'C':
+            if (tokens.equalsIgnoreCase(reportIndex,
+                    MetarDecoderUtil.CONSTANT_LIGHTNING_STRING)) {
+                /*
+                 * Lightning section.
+                 */
+                return parseLightningFrequency(decodedMetar, tokens,
+                        reportIndex, tokens.word(reportIndex));
+            }
+            break;
+        case 'D':
+            if (tokens.startsWith(reportIndex,
+                    MetarDecoderUtil.DISPATCH_VISUAL_RANGE_STRING)) {
+                /*
+                 * Dispatch visual range section
+                 */
+                parseDispatchVisualRange(decodedMetar,
+                        tokens.word(reportIndex));
+                return reportIndex;
+            }
+            break;
+        case 'F':
+            if (tokens.equalsIgnoreCase(reportIndex,
+                    MetarDecoderUtil.FIRST_INDICATOR)) {
                 /*
                  * FIRST section. From hmPED_FIRST.c.
                  */
                 decodedMetar.setFirst(true);
-                // end FIRST section
-            } else if (currReportSection
-                    .equalsIgnoreCase(MetarDecoderUtil.LAST_INDICATOR)) {
+                return reportIndex;
+            } else if (tokens.equalsIgnoreCase(reportIndex,
+                    MetarDecoderUtil.NO_FREEZING_RAIN_INDICATOR)) {
                 /*
-                 * LAST section. From hmPED_LAST.c.
+                 * No freezing rain data section. From hmPED_FZRANO.c.
                  */
-                decodedMetar.setLast(true);
-                // end LAST section
-            } else if (currReportSection.equalsIgnoreCase(
-                    MetarDecoderUtil.NO_PEAK_WIND_INDICATOR)) {
+                decodedMetar.setNoFreezingRain(true);
+                return reportIndex;
+            } else if (tokens.equalsIgnoreCase(reportIndex,
+                    MetarDecoderUtil.FUNNEL_STRING)) {
                 /*
-                 * No peak wind section. From hmPED_PWINO.c.
+                 * Tornadic activity. From hmPED_TornadicActiv.c.
                  */
-                decodedMetar.setNoPeakWind(true);
-                // end no peak wind
-            } else if (currReportSection.equalsIgnoreCase(
-                    MetarDecoderUtil.NO_LIGHTNING_INDICATOR)) {
+                return parseTornadicActivity(decodedMetar, tokens,
+                        reportIndex, tokens.word(reportIndex));
+            } else if (tokens.equalsIgnoreCase(reportIndex,
+                    MetarDecoderUtil.FREQUENT_LIGHTNING_STRING)) {
                 /*
-                 * No lightning data section. From hmPED_TSNO.c.
+                 * Lightning section.
                  */
-                decodedMetar.setNoThunderStorms(true);
-                // end no lightning data
-            } else if (currReportSection.equalsIgnoreCase(
-                    MetarDecoderUtil.NO_RUNWAY_VISUAL_RANGE_INDICATOR)) {
+                return parseLightningFrequency(decodedMetar, tokens,
+                        reportIndex, tokens.word(reportIndex));
+            }
+            break;
+        case 'L':
+            if (tokens.equalsIgnoreCase(reportIndex,
+                    MetarDecoderUtil.LAST_INDICATOR)) {
                 /*
-                 * No runway visual range section. From hmPED_RVRNO.c.
+                 * LAST section. From hmPED_LAST.c.
                  */
-                decodedMetar.setNoRunwayVisualRange(true);
-                // end no runway visual range section
-            } else if (currReportSection
-                    .equalsIgnoreCase(MetarDecoderUtil.NO_RAIN_INDICATOR)) {
+                decodedMetar.setLast(true);
+                return reportIndex;
+            } else if (tokens.equalsIgnoreCase(reportIndex,
+                    MetarDecoderUtil.LIGHTNING_TYPE_PREFIX)) {
                 /*
-                 * No rain data section. From hmPED_PNO.c.
+                 * Legacy decoder does not allow "LTG" to begin the section,
+                 * though this does seem allowed in reports.
                  */
-                decodedMetar.setNoRain(true);
-                // end no rain data
-            } else if (currReportSection.equalsIgnoreCase(
-                    MetarDecoderUtil.NO_FREEZING_RAIN_INDICATOR)) {
                 /*
-                 * No freezing rain data section. From hmPED_FZRANO.c.
+                 * Lightning section.
                  */
-                decodedMetar.setNoFreezingRain(true);
-                // end no freezing rain data
-            } else if (currReportSection.equalsIgnoreCase(
+                return parseLightningFrequency(decodedMetar, tokens,
+                        reportIndex, tokens.word(reportIndex));
+            }
+            break;
+        case 'N':
+            if (tokens.equalsIgnoreCase(reportIndex,
                     MetarDecoderUtil.NO_SPECIAL_REPORT_INDICATOR)) {
                 /*
                  * No special report section. From hmPED_NOSPECI.c.
                  */
                 decodedMetar.setNoSpeci(true);
-                // end no special report
-            } else if (currReportSection.equalsIgnoreCase(
-                    MetarDecoderUtil.AURORA_BOREALIS_INDICATOR)) {
+                return reportIndex;
+            }
+            break;
+        case 'O':
+            if (tokens.equalsIgnoreCase(reportIndex,
+                    MetarDecoderUtil.OCCASIONAL_LIGHTNING_STRING)) {
                 /*
-                 * Aurora borealis section. From hmPED_AURBO.c.
+                 * Lightning section.
                  */
-                decodedMetar.setAuroraBorealis(true);
-                // end aurora borealis section
-            } else if (currReportSection.equalsIgnoreCase(
+                return parseLightningFrequency(decodedMetar, tokens,
+                        reportIndex, tokens.word(reportIndex));
+            }
+            break;
+        case 'P':
+            if (tokens.equalsIgnoreCase(reportIndex,
+                    MetarDecoderUtil.NO_PEAK_WIND_INDICATOR)) {
+                /*
+                 * No peak wind section. From hmPED_PWINO.c.
+                 */
+                decodedMetar.setNoPeakWind(true);
+                return reportIndex;
+            } else if (tokens.equalsIgnoreCase(reportIndex,
+                    MetarDecoderUtil.NO_RAIN_INDICATOR)) {
+                /*
+                 * No rain data section. From hmPED_PNO.c.
+                 */
+                decodedMetar.setNoRain(true);
+                return reportIndex;
+            } else if (tokens.equalsIgnoreCase(reportIndex,
                     MetarDecoderUtil.PRESSURE_FALLING_RAPIDLY_INDICATOR)) {
                 /*
                  * Pressure falling rapidly section. From hmPED_PRESFR.c.
                  */
                 decodedMetar.setPressureFallingRapidly(true);
-                // end pressure falling rapidly
-            } else if (currReportSection.equalsIgnoreCase(
+                return reportIndex;
+            } else if (tokens.equalsIgnoreCase(reportIndex,
                     MetarDecoderUtil.PRESSURE_RISING_RAPIDLY_INDICATOR)) {
                 /*
                  * Pressure rising rapidly section. From hmPED_PRESRR.c.
                  */
                 decodedMetar.setPressureRisingRapidly(true);
-                // end pressure rising rapidly
-            } else if (currReportSection
-                    .equals(MetarDecoderUtil.MAINTENANCE_INDICATOR)) {
+                return reportIndex;
+            } else if (tokens.equalsIgnoreCase(reportIndex,
+                    MetarDecoderUtil.PEAKWIND_PREFIX)) {
                 /*
-                 * Maintenance section. From hmPED_DollarSign.c.
+                 * peak wind section
                  */
-                decodedMetar.setMaintenance(true);
-                // end maintenance section
-            } else if (currReportSection
-                    .equalsIgnoreCase(MetarDecoderUtil.TORNADO_STRING)
-                    || currReportSection.equalsIgnoreCase(
-                            MetarDecoderUtil.WATERSPOUT_STRING)
-                    || currReportSection
-                            .equalsIgnoreCase(MetarDecoderUtil.FUNNEL_STRING)) {
+                return parsePeakWind(decodedMetar, tokens, reportIndex);
+            }
+            break;
+        case 'R':
+            if (tokens.equalsIgnoreCase(reportIndex,
+                    MetarDecoderUtil.NO_RUNWAY_VISUAL_RANGE_INDICATOR)) {
                 /*
-                 * Tornadic activity. From hmPED_TornadicActiv.c.
+                 * No runway visual range section. From hmPED_RVRNO.c.
                  */
-                reportIndex = parseTornadicActivity(decodedMetar, reportArray,
-                        reportIndex, currReportSection);
-                // end of tornadic section
-            } else if (currReportSection
-                    .equalsIgnoreCase(MetarDecoderUtil.A01_INDICATOR_STRING)
-                    || currReportSection.equalsIgnoreCase(
-                            MetarDecoderUtil.A02_INDICATOR_STRING)
-                    || currReportSection.equalsIgnoreCase(
-                            MetarDecoderUtil.A01_INDICATOR_STRING_NUM)
-                    || currReportSection.equalsIgnoreCase(
-                            MetarDecoderUtil.A02_INDICATOR_STRING_NUM)) {
+                decodedMetar.setNoRunwayVisualRange(true);
+                return reportIndex;
+            }
+            break;
+        case 'S':
+            if (tokens.equalsIgnoreCase(reportIndex,
+                    MetarDecoderUtil.SURFACE_VISIBILITY_PREFIX)) {
                 /*
-                 * auto indicator section. From hmPED_A0indicator.c.
+                 * Surface visibility section
                  */
-                decodedMetar.setAutoIndicator(currReportSection);
-                // end of auto indicator section
-            } else if (currReportSection
-                    .equalsIgnoreCase(MetarDecoderUtil.PEAKWIND_PREFIX)) {
+                return parseSurfaceVisibility(decodedMetar, tokens,
+                        reportIndex, tokens.word(reportIndex));
+            }
+            break;
+        case 'T':
+            if (tokens.equalsIgnoreCase(reportIndex,
+                    MetarDecoderUtil.NO_LIGHTNING_INDICATOR)) {
                 /*
-                 * peak wind section
+                 * No lightning data section. From hmPED_TSNO.c.
                  */
-                reportIndex = parsePeakWind(decodedMetar, reportArray,
-                        reportIndex);
-                // end of peak wind section
-            } else if (currReportSection
-                    .equalsIgnoreCase(MetarDecoderUtil.WIND_SHIFT_STRING)) {
+                decodedMetar.setNoThunderStorms(true);
+                return reportIndex;
+            } else if (tokens.equalsIgnoreCase(reportIndex,
+                    MetarDecoderUtil.TORNADO_STRING)) {
                 /*
-                 * Wind shift section. From hmPED_WindShift.c.
+                 * Tornadic activity. From hmPED_TornadicActiv.c.
                  */
-                reportIndex = parseWindShift(decodedMetar, reportArray,
-                        reportIndex);
-
-                // end of wind shift section
-            } else if (currReportSection
-                    .equalsIgnoreCase(MetarDecoderUtil.TOWER_PREFIX)) {
+                return parseTornadicActivity(decodedMetar, tokens,
+                        reportIndex, tokens.word(reportIndex));
+            } else if (tokens.equalsIgnoreCase(reportIndex,
+                    MetarDecoderUtil.TOWER_PREFIX)) {
                 /*
                  * Tower visibility section
                  */
-                reportIndex = parseTowerVisibility(decodedMetar, reportArray,
+                return parseTowerVisibility(decodedMetar, tokens,
                         reportIndex);
-                // end tower visibility section
-            } else if (currReportSection.equalsIgnoreCase(
-                    MetarDecoderUtil.SURFACE_VISIBILITY_PREFIX)) {
-                /*
-                 * Surface visibility section
-                 */
-                reportIndex = parseSurfaceVisibility(decodedMetar, reportArray,
-                        reportIndex, currReportSection);
-                // end surface visibility section
-            } else if (currReportSection
-                    .equalsIgnoreCase(MetarDecoderUtil.VISIBILITY_PREFIX)) {
+            }
+            break;
+        case 'V':
+            if (tokens.equalsIgnoreCase(reportIndex,
+                    MetarDecoderUtil.VISIBILITY_PREFIX)) {
                 /*
                  * Variable or second site or sector visibility.
                  */
-                reportIndex = parseOtherVisibility(decodedMetar, reportArray,
+                return parseOtherVisibility(decodedMetar, tokens,
                         reportIndex);
-                // end variable or second site or sector visibility
-            } else if (currReportSection.startsWith(
-                    MetarDecoderUtil.DISPATCH_VISUAL_RANGE_STRING)) {
+            }
+            break;
+        case 'W':
+            if (tokens.equalsIgnoreCase(reportIndex,
+                    MetarDecoderUtil.WATERSPOUT_STRING)) {
                 /*
-                 * Dispatch visual range section
+                 * Tornadic activity. From hmPED_TornadicActiv.c.
                  */
-                parseDispatchVisualRange(decodedMetar, currReportSection);
-                // end DVR
-            } else if (currReportSection.equalsIgnoreCase(
-                    MetarDecoderUtil.OCCASIONAL_LIGHTNING_STRING)
-                    || currReportSection.equalsIgnoreCase(
-                            MetarDecoderUtil.FREQUENT_LIGHTNING_STRING)
-                    || currReportSection.equalsIgnoreCase(
-                            MetarDecoderUtil.CONSTANT_LIGHTNING_STRING)
-                    || currReportSection.equalsIgnoreCase(
-                            MetarDecoderUtil.LIGHTNING_TYPE_PREFIX)) {
+                return parseTornadicActivity(decodedMetar, tokens,
+                        reportIndex, tokens.word(reportIndex));
+            } else if (tokens.equalsIgnoreCase(reportIndex,
+                    MetarDecoderUtil.WIND_SHIFT_STRING)) {
                 /*
-                 * Legacy decoder does not allow "LTG" to begin the section,
-                 * though this does seem allowed in reports.
+                 * Wind shift section. From hmPED_WindShift.c.
                  */
+                return parseWindShift(decodedMetar, tokens, reportIndex);
+            }
+            break;
+        case '$':
+            if (tokens.equals(reportIndex,
+                    MetarDecoderUtil.MAINTENANCE_INDICATOR)) {
                 /*
-                 * Lightning section.
+                 * Maintenance section. From hmPED_DollarSign.c.
                  */
-                reportIndex = parseLightningFrequency(decodedMetar, reportArray,
-                        reportIndex, currReportSection);
-                // end lightning section
-            } else if (currReportSection
-                    .matches(MetarDecoderUtil.RECENT_WX_REGEX)) {
+                decodedMetar.setMaintenance(true);
+                return reportIndex;
+            }
+            break;
+        default:
+            break;
+        }
+
+        if (tokens.matches(reportIndex, MetarDecoderUtil.RECENT_WX_PATTERN)) {
+            /*
+             * Recent weather string section. One long string with coded
+             * weather + either start or end time. Can be written in any order
+             * as long as each weather event is succeeded by a time. Weather
+             * events of a duplicate type have priority in filling out missing
+             * time data of a previous instance; if the other instances of the
+             * event already have the duplicate's time type (beginning or end)
+             * filled out, create a new event.
+             */
+            parseRecentWeather(decodedMetar, tokens.word(reportIndex));
+            return reportIndex;
+        }
+
+        // weather, cloud and coded groups
+        switch (key) {
+        case 'A':
+            if (isSignificantCloudType(tokens, reportIndex)) {
+                return parseSignificantClouds(decodedMetar, tokens,
+                        reportIndex, tokens.word(reportIndex));
+            }
+            break;
+        case 'B':
+            if (isObscuration(tokens, reportIndex)) {
+                return parseObscuration(decodedMetar, tokens, reportIndex,
+                        tokens.word(reportIndex));
+            } else if (tokens.startsWith(reportIndex,
+                    MetarDecoderUtil.BROKEN_CLOUDS_STRING)) {
+                return parseVariableSky(decodedMetar, tokens, reportIndex,
+                        tokens.word(reportIndex));
+            }
+            break;
+        case 'C':
+            if (tokens.equalsIgnoreCase(reportIndex,
+                    MetarDecoderUtil.CEILING_HEIGHT_ABBR)) {
                 /*
-                 * Recent weather string section. One long string with coded
-                 * weather + either start or end time. Can be written in any
-                 * order as long as each weather event is succeeded by a time.
-                 * Weather events of a duplicate type have priority in filling
-                 * out missing time data of a previous instance; if the other
-                 * instances of the event already have the duplicate's time type
-                 * (beginning or end) filled out, create a new event.
+                 * CIG or CIG second site section
                  */
-                parseRecentWeather(decodedMetar, currReportSection);
-                // end recent weather string
-            } else if (currReportSection
-                    .equalsIgnoreCase(MetarDecoderUtil.THUNDERSTORM_PREFIX)) {
+                return parseCeilingHeight(decodedMetar, tokens, reportIndex);
+            } else if (isSignificantCloudType(tokens, reportIndex)) {
+                return parseSignificantClouds(decodedMetar, tokens,
+                        reportIndex, tokens.word(reportIndex));
+            } else if (tokens.equalsIgnoreCase(reportIndex,
+                    MetarDecoderUtil.NO_SECONDARY_CEILING_HEIGHT_INDICATOR)) {
                 /*
-                 * Thunderstorm location section
+                 * No secondary ceiling height data section
                  */
-                reportIndex = parseThunderStorm(decodedMetar, reportArray,
+                return parseNoSecondaryCeilingHeight(decodedMetar, tokens,
                         reportIndex);
-                // end thunderstorm location
-            } else if (currReportSection
-                    .equalsIgnoreCase(MetarDecoderUtil.HAIL_ABBR)) {
+            }
+            break;
+        case 'D':
+        case 'H':
+        case 'I':
+        case 'M':
+        case 'N':
+        case 'U':
+            if (isObscuration(tokens, reportIndex)) {
+                return parseObscuration(decodedMetar, tokens, reportIndex,
+                        tokens.word(reportIndex));
+            }
+            break;
+        case 'F':
+            if (isObscuration(tokens, reportIndex)) {
+                return parseObscuration(decodedMetar, tokens, reportIndex,
+                        tokens.word(reportIndex));
+            } else if (tokens.startsWith(reportIndex,
+                    MetarDecoderUtil.FEW_CLOUDS_STRING)) {
+                return parseVariableSky(decodedMetar, tokens, reportIndex,
+                        tokens.word(reportIndex));
+            }
+            break;
+        case 'G':
+            if (tokens.equalsIgnoreCase(reportIndex,
+                    MetarDecoderUtil.HAIL_ABBR)) {
                 /*
                  * Hail section
                  */
-                reportIndex = parseHail(decodedMetar, reportArray, reportIndex);
-                // end hail
-            } else if (currReportSection
-                    .equalsIgnoreCase(MetarDecoderUtil.VIRGA_STRING)) {
-                /*
-                 * VIRGA section
-                 */
-                reportIndex = parseVIRGA(decodedMetar, reportArray,
-                        reportIndex);
-                // end VIRGA
-            } else if (currReportSection
-                    .equalsIgnoreCase(MetarDecoderUtil.CEILING_HEIGHT_ABBR)) {
-                /*
-                 * CIG or CIG second site section
-                 */
-                reportIndex = parseCeilingHeight(decodedMetar, reportArray,
-                        reportIndex);
-                // end CIG or CIG second site section
-            } else if (MetarDecoderUtil.VALID_WX_SYMBOLS
-                    .contains(currReportSection)) {
-                /*
-                 * Obscurations section
-                 */
-                reportIndex = parseObscuration(decodedMetar, reportArray,
-                        reportIndex, currReportSection);
-                // end obscurations section
-            } else if (currReportSection
-                    .startsWith(MetarDecoderUtil.OVERCAST_CLOUDS_STRING)
-                    || currReportSection.startsWith(
-                            MetarDecoderUtil.SCATTERED_CLOUDS_STRING)
-                    || currReportSection
-                            .startsWith(MetarDecoderUtil.FEW_CLOUDS_STRING)
-                    || currReportSection.startsWith(
-                            MetarDecoderUtil.BROKEN_CLOUDS_STRING)) {
-                /*
-                 * Variable sky section
-                 */
-                reportIndex = parseVariableSky(decodedMetar, reportArray,
-                        reportIndex, currReportSection);
-                // end variable sky
-            } else if (MetarDecoderUtil.VALID_SIG_TYPES
-                    .contains(currReportSection)) {
+                return parseHail(decodedMetar, tokens, reportIndex);
+            } else if (isObscuration(tokens, reportIndex)) {
+                return parseObscuration(decodedMetar, tokens, reportIndex,
+                        tokens.word(reportIndex));
+            }
+            break;
+        case 'O':
+            if (tokens.startsWith(reportIndex,
+                    MetarDecoderUtil.OVERCAST_CLOUDS_STRING)) {
+                return parseVariableSky(decodedMetar, tokens, reportIndex,
+                        tokens.word(reportIndex));
+            }
+            break;
+        case 'P':
+            if (isObscuration(tokens, reportIndex)) {
+                return parseObscuration(decodedMetar, tokens, reportIndex,
+                        tokens.word(reportIndex));
+            } else if (tokens.startsWith(reportIndex,
+                    MetarDecoderUtil.HOURLY_PRECIP_PREFIX)) {
                 /*
-                 * Significant cloud types section
+                 * Hourly precip section
                  */
-                reportIndex = parseSignificantClouds(decodedMetar, reportArray,
-                        reportIndex, currReportSection);
-                // end significant cloud types
-            } else if (currReportSection
-                    .startsWith(MetarDecoderUtil.SEA_LEVEL_PRESSURE_PREFIX)) {
+                parseHourlyPrecip(decodedMetar, tokens.word(reportIndex));
+                return reportIndex;
+            }
+            break;
+        case 'R':
+            if (isObscuration(tokens, reportIndex)) {
+                return parseObscuration(decodedMetar, tokens, reportIndex,
+                        tokens.word(reportIndex));
+            } else if (isSignificantCloudType(tokens, reportIndex)) {
+                return parseSignificantClouds(decodedMetar, tokens,
+                        reportIndex, tokens.word(reportIndex));
+            }
+            break;
+        case 'S':
+            if (isObscuration(tokens, reportIndex)) {
+                return parseObscuration(decodedMetar, tokens, reportIndex,
+                        tokens.word(reportIndex));
+            } else if (tokens.startsWith(reportIndex,
+                    MetarDecoderUtil.SCATTERED_CLOUDS_STRING)) {
+                return parseVariableSky(decodedMetar, tokens, reportIndex,
+                        tokens.word(reportIndex));
+            } else if (isSignificantCloudType(tokens, reportIndex)) {
+                return parseSignificantClouds(decodedMetar, tokens,
+                        reportIndex, tokens.word(reportIndex));
+            } else if (tokens.startsWith(reportIndex,
+                    MetarDecoderUtil.SEA_LEVEL_PRESSURE_PREFIX)) {
                 /*
                  * Sea level pressure section
                  */
-                reportIndex = parseSLP(decodedMetar, reportArray, reportIndex,
-                        currReportSection);
-                // end sea level pressure
-            } else if (currReportSection.equalsIgnoreCase(
+                return parseSLP(decodedMetar, tokens, reportIndex,
+                        tokens.word(reportIndex));
+            } else if (tokens.equalsIgnoreCase(reportIndex,
                     MetarDecoderUtil.SNOW_INCREASING_RAPIDLY_ABBR)) {
                 /*
                  * Snow increasing rapidly section
                  */
-                reportIndex = parseSnowIncrease(decodedMetar, reportArray,
-                        reportIndex);
-                // end snow increasing rapidly
-            } else if (currReportSection
-                    .startsWith(MetarDecoderUtil.HOURLY_PRECIP_PREFIX)) {
-                /*
-                 * Hourly precip section
-                 */
-                parseHourlyPrecip(decodedMetar, currReportSection);
-                // end hourly precip
-            } else if (currReportSection
-                    .startsWith(MetarDecoderUtil.PRECIP_6_OR_3_HOURLY_PREFIX)) {
-                /*
-                 * 3- or 6-hour precip section
-                 */
-                parse3or6HourlyPrecip(decodedMetar, currReportSection);
-                // end 3- or 6-hour precip
-            } else if (currReportSection
-                    .startsWith(MetarDecoderUtil.PRECIP_24_HOUR_PREFIX)) {
-                /*
-                 * 24-hour precip section
-                 */
-                parse24HourPrecip(decodedMetar, currReportSection);
-                // end 24-hour precip
-            } else if (currReportSection
-                    .startsWith(MetarDecoderUtil.SNOW_DEPTH_PREFIX)) {
-                /*
-                 * Snow depth on ground section.
-                 */
-                parseSnowDepth(decodedMetar, currReportSection);
-                // end snow depth on ground
-            } else if (currReportSection
-                    .startsWith(MetarDecoderUtil.WATER_EQUIV_PREFIX)) {
+                return parseSnowIncrease(decodedMetar, tokens, reportIndex);
+            }
+            break;
+        case 'T':
+            if (tokens.equalsIgnoreCase(reportIndex,
+                    MetarDecoderUtil.THUNDERSTORM_PREFIX)) {
                 /*
-                 * Water equivalent of snow section
+                 * Thunderstorm location section
                  */
-                parseWaterEquivalent(decodedMetar, currReportSection);
-                // end water equivalent of snow
-            } else if (currReportSection
-                    .startsWith(MetarDecoderUtil.SYNOP_CLOUD_TYPES_PREFIX)) {
+                return parseThunderStorm(decodedMetar, tokens, reportIndex);
+            } else if (isObscuration(tokens, reportIndex)) {
+                return parseObscuration(decodedMetar, tokens, reportIndex,
+                        tokens.word(reportIndex));
+            } else if (isSignificantCloudType(tokens, reportIndex)) {
+                return parseSignificantClouds(decodedMetar, tokens,
+                        reportIndex, tokens.word(reportIndex));
+            } else if (tokens.startsWith(reportIndex,
+                    MetarDecoderUtil.TEMP_AND_DEW_PREFIX)
+                    && tokens.matches(reportIndex,
+                            MetarDecoderUtil.ALPHANUMERIC_PATTERN)) {
                 /*
-                 * Synoptic cloud types section.
+                 * Temperature and dew point section
                  */
-                parseSynopClouds(decodedMetar, currReportSection);
-                // end synoptic cloud types
-            } else if (currReportSection
-                    .startsWith(MetarDecoderUtil.SUNSHINE_PREFIX)) {
+                return parseTempAndDew(decodedMetar, reportIndex,
+                        tokens.word(reportIndex));
+            }
+            break;
+        case 'V':
+            if (tokens.equalsIgnoreCase(reportIndex,
+                    MetarDecoderUtil.VIRGA_STRING)) {
                 /*
-                 * Sunshine duration section.
+                 * VIRGA section
                  */
-                parseSunshineDuration(decodedMetar, currReportSection);
-                // end sunshine duration
-            } else if (currReportSection
-                    .startsWith(MetarDecoderUtil.TEMP_AND_DEW_PREFIX)
-                    && currReportSection
-                            .matches(MetarDecoderUtil.ALPHANUMERIC_REGEX)) {
+                return parseVIRGA(decodedMetar, tokens, reportIndex);
+            } else if (isObscuration(tokens, reportIndex)) {
+                return parseObscuration(decodedMetar, tokens, reportIndex,
+                        tokens.word(reportIndex));
+            } else if (tokens.equalsIgnoreCase(reportIndex,
+                    MetarDecoderUtil.NO_SECONDARY_VISUALS_INDICATOR)) {
                 /*
-                 * Temperature and dew point section
+                 * No secondary visibility section
                  */
-                reportIndex = parseTempAndDew(decodedMetar, reportIndex,
-                        currReportSection);
-                // end temperature and dew point
-            } else if (currReportSection
-                    .matches(MetarDecoderUtil.MAX_TEMP_6_HOUR_REGEX)) {
+                return parseNoSecondaryVisuals(decodedMetar, tokens,
+                        reportIndex);
+            }
+            break;
+        case '1':
+            if (tokens.matches(reportIndex,
+                    MetarDecoderUtil.MAX_TEMP_6_HOUR_PATTERN)) {
                 /*
                  * 6-hourly max temp section. From hmPED_MaxTemp.c.
                  */
+                String currReportSection = tokens.word(reportIndex);
                 decodedMetar.setMaxTemp(
                         Float.parseFloat(currReportSection.substring(2)) / 10);
                 if (currReportSection.substring(1, 2).equals("1")) {
                     decodedMetar.setMaxTemp(decodedMetar.getMaxTemp() * -1);
                 }
-                // end 6-hourly max temp
-            } else if (currReportSection
-                    .matches(MetarDecoderUtil.MIN_TEMP_6_HOUR_REGEX)) {
+                return reportIndex;
+            }
+            break;
+        case '2':
+            if (tokens.matches(reportIndex,
+                    MetarDecoderUtil.MIN_TEMP_6_HOUR_PATTERN)) {
                 /*
                  * 6-hourly min temp section. From hmPED_MinTemp.c.
                  */
+                String currReportSection = tokens.word(reportIndex);
                 decodedMetar.setMinTemp(
                         Float.parseFloat(currReportSection.substring(2)) / 10);
                 if (currReportSection.substring(1, 2).equals("1")) {
                     decodedMetar.setMinTemp(decodedMetar.getMinTemp() * -1);
                 }
-                // end 6-hourly min temp
-            } else if (currReportSection
-                    .startsWith(MetarDecoderUtil.MAX_MIN_TEMPS_24_HOUR_PREFIX)
-                    && currReportSection.length() > 5) {
+                return reportIndex;
+            }
+            break;
+        case '4':
+            if (tokens.startsWith(reportIndex,
+                    MetarDecoderUtil.SNOW_DEPTH_PREFIX)) {
                 /*
-                 * 24-hour max and min temp section
+                 * Snow depth on ground section.
                  */
-                parse24HourMaxMinTemps(decodedMetar, currReportSection);
-                // end 24-hour max and min temp
-            } else if (currReportSection
-                    .startsWith(MetarDecoderUtil.PRESS_TEND_3_HOUR_PREFIX)) {
+                parseSnowDepth(decodedMetar, tokens.word(reportIndex));
+                return reportIndex;
+            } else if (tokens.length(reportIndex) > 5) {
                 /*
-                 * 3-hourly pressure tendency section
+                 * 24-hour max and min temp section
                  */
-                parse3HourPressureTendency(decodedMetar, currReportSection);
-                // end 3-hourly pressure tendency
-            } else if (currReportSection.equalsIgnoreCase(
-                    MetarDecoderUtil.NO_SECONDARY_VISUALS_INDICATOR)) {
+                parse24HourMaxMinTemps(decodedMetar, tokens.word(reportIndex));
+                return reportIndex;
+            }
+            break;
+        case '5':
+            /*
+             * 3-hourly pressure tendency section
+             */
+            parse3HourPressureTendency(decodedMetar, tokens.word(reportIndex));
+            return reportIndex;
+        case '6':
+            /*
+             * 3- or 6-hour precip section
+             */
+            parse3or6HourlyPrecip(decodedMetar, tokens.word(reportIndex));
+            return reportIndex;
+        case '7':
+            /*
+             * 24-hour precip section
+             */
+            parse24HourPrecip(decodedMetar, tokens.word(reportIndex));
+            return reportIndex;
+        case '8':
+            if (tokens.startsWith(reportIndex,
+                    MetarDecoderUtil.SYNOP_CLOUD_TYPES_PREFIX)) {
                 /*
-                 * No secondary visibility section
+                 * Synoptic cloud types section.
                  */
-                reportIndex = parseNoSecondaryVisuals(decodedMetar, reportArray,
-                        reportIndex);
-                // end no secondary visibility
-            } else if (currReportSection.equalsIgnoreCase(
-                    MetarDecoderUtil.NO_SECONDARY_CEILING_HEIGHT_INDICATOR)) {
+                parseSynopClouds(decodedMetar, tokens.word(reportIndex));
+                return reportIndex;
+            }
+            break;
+        case '9':
+            if (tokens.startsWith(reportIndex,
+                    MetarDecoderUtil.WATER_EQUIV_PREFIX)) {
                 /*
-                 * No secondary ceiling height data section
+                 * Water equivalent of snow section
                  */
-                reportIndex = parseNoSecondaryCeilingHeight(decodedMetar,
-                        reportArray, reportIndex);
-                // end no secondary ceiling height data
-            } else {
+                parseWaterEquivalent(decodedMetar, tokens.word(reportIndex));
+                return reportIndex;
+            } else if (tokens.startsWith(reportIndex,
+                    MetarDecoderUtil.SUNSHINE_PREFIX)) {
                 /*
-                 * Unexpected word in remarks section.
+                 * Sunshine duration section.
                  */
-                decodedMetar.getCmnData().setDecodeStatus(
-                        MetarDecoderUtil.DECODING_ERROR_METAR_STATUS);
-                logger.error("Unexpected word: [" + currReportSection
-                        + "] in METAR remarks. This word will be skipped.");
+                parseSunshineDuration(decodedMetar, tokens.word(reportIndex));
+                return reportIndex;
             }
+            break;
+        default:
+            break;
         }
+
+        /*
+         * Unexpected word in remarks section.
+         */
+        decodedMetar.getCmnData()
+                .setDecodeStatus(MetarDecoderUtil.DECODING_ERROR_METAR_STATUS);
+        logger.error("Unexpected word: [" + tokens.word(reportIndex)
+                + "] in METAR remarks. This word will be skipped.");
+        return reportIndex;
+    }
+
+    /**
+     * @param c
+     *            first character of a word.
+     * @return the upper case ASCII letter that the given character equals
+     *         ignoring case, as by {@link String#equalsIgnoreCase(String)}, or
+     *         the character itself.
+     */
+    private static char groupKey(char c) {
+        return Character.toUpperCase(
+                Character.toLowerCase(Character.toUpperCase(c)));
+    }
+
+    /**
+     * @param tokens
+     * @param reportIndex
+     * @return true if the word at the given index is an obscuration.
+     */
+    private static boolean isObscuration(MetarTokenizer tokens,
+            int reportIndex) {
+        return MetarDecoderUtil.VALID_WX_SYMBOLS
+                .contains(tokens.word(reportIndex));
+    }
+
+    /**
+     * @param tokens
+     * @param reportIndex
+     * @return true if the word at the given index is a significant cloud
+     *         type.
+     */
+    private static boolean isSignificantCloudType(MetarTokenizer tokens,
+            int reportIndex) {
+        return MetarDecoderUtil.VALID_SIG_TYPES
+                .contains(tokens.word(reportIndex));
     }
 
     /**
@@ -501,17 +696,17 @@ public final class MetarRemarksDecoder {
      * </pre>
      * 
      * @param decodedMetar
-     * @param reportArray
+     * @param tokens
      * @param reportIndex
      * @return report index to start parsing at.
      */
 
     private static int parseNoSecondaryCeilingHeight(DecodedMetar decodedMetar,
-            String[] reportArray, int reportIndex) {
+            MetarTokenizer tokens, int reportIndex) {
         // check next word
         reportIndex++;
-        if (reportIndex < reportArray.length) {
-            String currReportSection = reportArray[reportIndex];
+        if (reportIndex < tokens.size()) {
+            String currReportSection = tokens.word(reportIndex);
 
             /*
              * Task 29239: legacy wants "RY" but documentation suggests "RWY" is
@@ -561,17 +756,17 @@ public final class MetarRemarksDecoder {
      * </pre>
      * 
      * @param decodedMetar
-     * @param reportArray
+     * @param tokens
      * @param reportIndex
      * @return report index to start parsing at.
      */
 
     private static int parseNoSecondaryVisuals(DecodedMetar decodedMetar,
-            String[] reportArray, int reportIndex) {
+            MetarTokenizer tokens, int reportIndex) {
         // check next word
         reportIndex++;
-        if (reportIndex < reportArray.length) {
-            String currReportSection = reportArray[reportIndex];
+        if (reportIndex < tokens.size()) {
+            String currReportSection = tokens.word(reportIndex);
 
             /*
              * Task 29239: legacy wants "RY" but documentation suggests "RWY" is
@@ -624,8 +819,8 @@ public final class MetarRemarksDecoder {
      */
     private static void parse3HourPressureTendency(DecodedMetar decodedMetar,
             String currReportSection) {
-        if (currReportSection
-                .matches(MetarDecoderUtil.PRESS_TEND_3_HOUR_REGEX)) {
+        if (MetarDecoderUtil.PRESS_TEND_3_HOUR_PATTERN
+                .matcher(currReportSection).matches()) {
             decodedMetar.setCharPressureTendency(
                     Integer.parseInt(currReportSection.substring(1, 2)));
             decodedMetar.setPressure3HourTendency(
@@ -635,7 +830,7 @@ public final class MetarRemarksDecoder {
                     MetarDecoderUtil.DECODING_ERROR_METAR_STATUS);
             logger.error("Unexpected 3-hour pressure tendency: ["
                     + currReportSection + "] does not match pattern: ["
-                    + MetarDecoderUtil.PRESS_TEND_3_HOUR_REGEX + "].");
+                    + MetarDecoderUtil.PRESS_TEND_3_HOUR_PATTERN + "].");
         }
     }
 
@@ -661,8 +856,7 @@ public final class MetarRemarksDecoder {
 
     private static void parse24HourMaxMinTemps(DecodedMetar decodedMetar,
             String currReportSection) {
-        if (currReportSection.substring(1, 5)
-                .matches(MetarDecoderUtil.NUM_ONLY_REGEX)
+        if (MetarDecoderUtil.isNumeric(currReportSection.substring(1, 5))
                 && (currReportSection.substring(1, 2).equals("0")
                         || currReportSection.substring(1, 2).equals("1"))) {
             decodedMetar.setMax24Temp(
@@ -677,8 +871,7 @@ public final class MetarRemarksDecoder {
                     + currReportSection + "] has invalid max temp.");
         }
 
-        if (currReportSection.substring(5)
-                .matches(MetarDecoderUtil.NUM_ONLY_REGEX)
+        if (MetarDecoderUtil.isNumeric(currReportSection.substring(5))
                 && (currReportSection.substring(5, 6).equals("0")
                         || currReportSection.substring(5, 6).equals("1"))) {
             decodedMetar.setMin24Temp(
@@ -801,9 +994,9 @@ public final class MetarRemarksDecoder {
 
     private static void parseSunshineDuration(DecodedMetar decodedMetar,
             String currReportSection) {
-        if (currReportSection.matches(MetarDecoderUtil.SUNSHINE_REGEX)) {
-            if (currReportSection.substring(2)
-                    .matches(MetarDecoderUtil.NUM_ONLY_REGEX)) {
+        if (MetarDecoderUtil.SUNSHINE_PATTERN
+                .matcher(currReportSection).matches()) {
+            if (MetarDecoderUtil.isNumeric(currReportSection.substring(2))) {
                 /* Store the sushine duration value. */
                 decodedMetar.setSunshineDur(
                         Integer.parseInt(currReportSection.substring(2)));
@@ -818,7 +1011,7 @@ public final class MetarRemarksDecoder {
                     MetarDecoderUtil.DECODING_ERROR_METAR_STATUS);
             logger.error("Unexpected sunshine duration: [" + currReportSection
                     + "] does not match pattern: ["
-                    + MetarDecoderUtil.SUNSHINE_REGEX + "].");
+                    + MetarDecoderUtil.SUNSHINE_PATTERN + "].");
         }
     }
 
@@ -844,8 +1037,8 @@ public final class MetarRemarksDecoder {
 
     private static void parseSynopClouds(DecodedMetar decodedMetar,
             String currReportSection) {
-        if (currReportSection
-                .matches(MetarDecoderUtil.SYNOP_CLOUD_TYPES_REGEX)) {
+        if (MetarDecoderUtil.SYNOP_CLOUD_TYPES_PATTERN
+                .matcher(currReportSection).matches()) {
             decodedMetar.setSynopticCloudType(currReportSection);
             decodedMetar.setCloudLow(currReportSection.substring(2, 3));
             decodedMetar.setCloudMedium(currReportSection.substring(3, 4));
@@ -855,7 +1048,7 @@ public final class MetarRemarksDecoder {
                     MetarDecoderUtil.DECODING_ERROR_METAR_STATUS);
             logger.error("Unexpected synoptic clouds: [" + currReportSection
                     + "] does not match pattern: ["
-                    + MetarDecoderUtil.SYNOP_CLOUD_TYPES_REGEX + "].");
+                    + MetarDecoderUtil.SYNOP_CLOUD_TYPES_PATTERN + "].");
         }
     }
 
@@ -884,7 +1077,7 @@ public final class MetarRemarksDecoder {
         String waterEquivString = currReportSection
                 .substring(MetarDecoderUtil.WATER_EQUIV_PREFIX.length());
 
-        if (waterEquivString.matches(MetarDecoderUtil.NUM_ONLY_REGEX)) {
+        if (MetarDecoderUtil.isNumeric(waterEquivString)) {
             decodedMetar.setWaterEquivSnow(
                     Float.parseFloat(waterEquivString) / 10f);
         } else {
@@ -919,7 +1112,7 @@ public final class MetarRemarksDecoder {
         String snowDepthString = currReportSection
                 .substring(MetarDecoderUtil.SNOW_DEPTH_PREFIX.length());
 
-        if (snowDepthString.matches(MetarDecoderUtil.NUM_ONLY_REGEX)) {
+        if (MetarDecoderUtil.isNumeric(snowDepthString)) {
             decodedMetar.setSnowDepth(Integer.parseInt(snowDepthString));
         } else {
             decodedMetar.getCmnData().setDecodeStatus(
@@ -958,7 +1151,7 @@ public final class MetarRemarksDecoder {
          */
         if (precipValueString.equals(MetarDecoderUtil.MISSING_VALUE_SLASHES)) {
             decodedMetar.setPrecip24Amt((float) Integer.MAX_VALUE);
-        } else if (precipValueString.matches(MetarDecoderUtil.NUM_ONLY_REGEX)
+        } else if (MetarDecoderUtil.isNumeric(precipValueString)
                 && precipValueString.length() == 4) {
             decodedMetar
                     .setPrecip24Amt(Float.parseFloat(precipValueString) / 100);
@@ -1000,7 +1193,7 @@ public final class MetarRemarksDecoder {
          */
         if (precipValueString.equals(MetarDecoderUtil.MISSING_VALUE_SLASHES)) {
             decodedMetar.setPrecipAmt((float) Integer.MAX_VALUE);
-        } else if (precipValueString.matches(MetarDecoderUtil.NUM_ONLY_REGEX)
+        } else if (MetarDecoderUtil.isNumeric(precipValueString)
                 && precipValueString.length() == 4) {
             decodedMetar
                     .setPrecipAmt(Float.parseFloat(precipValueString) / 100);
@@ -1037,7 +1230,7 @@ public final class MetarRemarksDecoder {
         String precipValueString = currReportSection
                 .substring(MetarDecoderUtil.HOURLY_PRECIP_PREFIX.length());
 
-        if (precipValueString.matches(MetarDecoderUtil.NUM_ONLY_REGEX)
+        if (MetarDecoderUtil.isNumeric(precipValueString)
                 && precipValueString.length() == 4) {
             decodedMetar.setHourlyPrecip(
                     Float.parseFloat(precipValueString) * 0.01f);
@@ -1066,23 +1259,24 @@ public final class MetarRemarksDecoder {
      * </pre>
      * 
      * @param decodedMetar
-     * @param reportArray
+     * @param tokens
      * @param reportIndex
      * @return report index to start parsing at.
      */
 
     private static int parseSnowIncrease(DecodedMetar decodedMetar,
-            String[] reportArray, int reportIndex) {
+            MetarTokenizer tokens, int reportIndex) {
         /*
          * Task 29191: legacy expects snow data to be the next word, but
          * documentation states it is appended directly to the end of SNINCR
          */
         // check next word
         reportIndex++;
-        if (reportIndex < reportArray.length) {
-            String currReportSection = reportArray[reportIndex];
+        if (reportIndex < tokens.size()) {
+            String currReportSection = tokens.word(reportIndex);
 
-            if (currReportSection.matches(MetarDecoderUtil.FRACTION_REGEX)) {
+            if (tokens.matches(
+                    MetarDecoderUtil.FRACTION_PATTERN, currReportSection)) {
                 String[] fractionSplit = currReportSection
                         .split(MetarDecoderUtil.SLASH_DIVIDER);
 
@@ -1095,7 +1289,7 @@ public final class MetarRemarksDecoder {
                         MetarDecoderUtil.DECODING_ERROR_METAR_STATUS);
                 logger.error(
                         "Expected snow values after 'SNINCR' in METAR remarks to match pattern: ["
-                                + MetarDecoderUtil.FRACTION_REGEX
+                                + MetarDecoderUtil.FRACTION_PATTERN
                                 + "], but got: [" + currReportSection + "].");
                 reportIndex--;
                 return reportIndex;
@@ -1127,14 +1321,14 @@ public final class MetarRemarksDecoder {
      * </pre>
      * 
      * @param decodedMetar
-     * @param reportArray
+     * @param tokens
      * @param reportIndex
      * @param currReportSection
      * @return report index to start parsing from.
      */
 
-    private static int parseSLP(DecodedMetar decodedMetar, String[] reportArray,
-            int reportIndex, String currReportSection) {
+    private static int parseSLP(DecodedMetar decodedMetar,
+            MetarTokenizer tokens, int reportIndex, String currReportSection) {
         if (currReportSection.equalsIgnoreCase(
                 MetarDecoderUtil.NO_SEA_LEVEL_PRESSURE_INDICATOR)) {
             /* check to see if there is no sea level pressure report. */
@@ -1153,8 +1347,8 @@ public final class MetarRemarksDecoder {
                 // pressure is next word
                 // check next word
                 reportIndex++;
-                if (reportIndex < reportArray.length) {
-                    currReportSection = reportArray[reportIndex];
+                if (reportIndex < tokens.size()) {
+                    currReportSection = tokens.word(reportIndex);
                 } else {
                     decodedMetar.getCmnData().setDecodeStatus(
                             MetarDecoderUtil.DECODING_ERROR_METAR_STATUS);
@@ -1163,8 +1357,7 @@ public final class MetarRemarksDecoder {
                     return reportIndex;
                 }
 
-                if (currReportSection
-                        .matches(MetarDecoderUtil.NUM_ONLY_REGEX)) {
+                if (MetarDecoderUtil.isNumeric(currReportSection)) {
                     pressure = Integer.parseInt(currReportSection);
                 } else {
                     decodedMetar.getCmnData().setDecodeStatus(
@@ -1205,22 +1398,22 @@ public final class MetarRemarksDecoder {
      * </pre>
      * 
      * @param decodedMetar
-     * @param reportArray
+     * @param tokens
      * @param reportIndex
      * @param currReportSection
      * @return report index to start parsing at.
      */
 
     private static int parseSignificantClouds(DecodedMetar decodedMetar,
-            String[] reportArray, int reportIndex, String currReportSection) {
+            MetarTokenizer tokens, int reportIndex, String currReportSection) {
         String sigCloudType = "";
         /* check for rotor type */
         if (currReportSection
                 .equalsIgnoreCase(MetarDecoderUtil.ROTOR_CLD_PREFIX)) {
             // check next word
             reportIndex++;
-            if (reportIndex < reportArray.length) {
-                currReportSection = reportArray[reportIndex];
+            if (reportIndex < tokens.size()) {
+                currReportSection = tokens.word(reportIndex);
 
                 if (!currReportSection
                         .equalsIgnoreCase(MetarDecoderUtil.ROTOR_CLD_SUFFIX)) {
@@ -1234,8 +1427,8 @@ public final class MetarRemarksDecoder {
 
                     // check next word
                     reportIndex++;
-                    if (reportIndex < reportArray.length) {
-                        currReportSection = reportArray[reportIndex];
+                    if (reportIndex < tokens.size()) {
+                        currReportSection = tokens.word(reportIndex);
                     } else {
                         decodedMetar.getCmnData().setDecodeStatus(
                                 MetarDecoderUtil.DECODING_ERROR_METAR_STATUS);
@@ -1256,8 +1449,8 @@ public final class MetarRemarksDecoder {
 
             // check next word
             reportIndex++;
-            if (reportIndex < reportArray.length) {
-                currReportSection = reportArray[reportIndex];
+            if (reportIndex < tokens.size()) {
+                currReportSection = tokens.word(reportIndex);
             } else {
                 decodedMetar.getCmnData().setDecodeStatus(
                         MetarDecoderUtil.DECODING_ERROR_METAR_STATUS);
@@ -1276,8 +1469,8 @@ public final class MetarRemarksDecoder {
             if (currReportSection.startsWith("V")) {
                 // check next word
                 reportIndex++;
-                if (reportIndex < reportArray.length) {
-                    currReportSection = reportArray[reportIndex];
+                if (reportIndex < tokens.size()) {
+                    currReportSection = tokens.word(reportIndex);
                 } else {
                     decodedMetar.getCmnData().setDecodeStatus(
                             MetarDecoderUtil.DECODING_ERROR_METAR_STATUS);
@@ -1296,8 +1489,8 @@ public final class MetarRemarksDecoder {
 
                 // check next word
                 reportIndex++;
-                if (reportIndex < reportArray.length) {
-                    currReportSection = reportArray[reportIndex];
+                if (reportIndex < tokens.size()) {
+                    currReportSection = tokens.word(reportIndex);
                 } else {
                     decodedMetar.getCmnData().setDecodeStatus(
                             MetarDecoderUtil.DECODING_ERROR_METAR_STATUS);
@@ -1313,8 +1506,8 @@ public final class MetarRemarksDecoder {
         if (MetarDecoderUtil.validDissipation(currReportSection)) {
             // check next word
             reportIndex++;
-            if (reportIndex < reportArray.length) {
-                currReportSection = reportArray[reportIndex];
+            if (reportIndex < tokens.size()) {
+                currReportSection = tokens.word(reportIndex);
             } else {
                 decodedMetar.getCmnData().setDecodeStatus(
                         MetarDecoderUtil.DECODING_ERROR_METAR_STATUS);
@@ -1337,8 +1530,8 @@ public final class MetarRemarksDecoder {
             boolean validDir = true;
             while (validDir) {
                 reportIndex++;
-                if (reportIndex < reportArray.length) {
-                    currReportSection = reportArray[reportIndex];
+                if (reportIndex < tokens.size()) {
+                    currReportSection = tokens.word(reportIndex);
 
                     if ("AND".equalsIgnoreCase(currReportSection)
                             || MetarDecoderUtil.validDir(currReportSection)) {
@@ -1369,15 +1562,15 @@ public final class MetarRemarksDecoder {
         String movement = "";
         // check next word
         reportIndex++;
-        if (reportIndex < reportArray.length) {
-            currReportSection = reportArray[reportIndex];
+        if (reportIndex < tokens.size()) {
+            currReportSection = tokens.word(reportIndex);
 
             if (MetarDecoderUtil.VALID_MOV_SYMBOLS
                     .contains(currReportSection)) {
                 // check next word
                 reportIndex++;
-                if (reportIndex < reportArray.length) {
-                    currReportSection = reportArray[reportIndex];
+                if (reportIndex < tokens.size()) {
+                    currReportSection = tokens.word(reportIndex);
 
                     if (MetarDecoderUtil.validDir(currReportSection)) {
                         movement = currReportSection;
@@ -1454,20 +1647,20 @@ public final class MetarRemarksDecoder {
      * </pre>
      * 
      * @param decodedMetar
-     * @param reportArray
+     * @param tokens
      * @param reportIndex
      * @param currReportSection
      * @return report index to start parsing from.
      */
 
     private static int parseVariableSky(DecodedMetar decodedMetar,
-            String[] reportArray, int reportIndex, String currReportSection) {
+            MetarTokenizer tokens, int reportIndex, String currReportSection) {
         String firstSky = currReportSection;
 
         // check next word
         reportIndex++;
-        if (reportIndex < reportArray.length) {
-            currReportSection = reportArray[reportIndex];
+        if (reportIndex < tokens.size()) {
+            currReportSection = tokens.word(reportIndex);
         } else {
             decodedMetar.getCmnData().setDecodeStatus(
                     MetarDecoderUtil.DECODING_ERROR_METAR_STATUS);
@@ -1488,8 +1681,8 @@ public final class MetarRemarksDecoder {
 
         // check next word
         reportIndex++;
-        if (reportIndex < reportArray.length) {
-            currReportSection = reportArray[reportIndex];
+        if (reportIndex < tokens.size()) {
+            currReportSection = tokens.word(reportIndex);
         } else {
             decodedMetar.getCmnData().setDecodeStatus(
                     MetarDecoderUtil.DECODING_ERROR_METAR_STATUS);
@@ -1544,20 +1737,20 @@ public final class MetarRemarksDecoder {
      * </pre>
      * 
      * @param decodedMetar
-     * @param reportArray
+     * @param tokens
      * @param reportIndex
      * @param currReportSection
      * @return report index to start parsing from.
      */
 
     private static int parseObscuration(DecodedMetar decodedMetar,
-            String[] reportArray, int reportIndex, String currReportSection) {
+            MetarTokenizer tokens, int reportIndex, String currReportSection) {
         decodedMetar.setObscuration(currReportSection);
 
         // check next word
         reportIndex++;
-        if (reportIndex < reportArray.length) {
-            currReportSection = reportArray[reportIndex];
+        if (reportIndex < tokens.size()) {
+            currReportSection = tokens.word(reportIndex);
         } else {
             decodedMetar.getCmnData().setDecodeStatus(
                     MetarDecoderUtil.DECODING_ERROR_METAR_STATUS);
@@ -1566,8 +1759,8 @@ public final class MetarRemarksDecoder {
             return reportIndex;
         }
 
-        if (currReportSection
-                .matches(MetarDecoderUtil.OBSCUR_SKY_COVER_REGEX)) {
+        if (tokens.matches(
+                MetarDecoderUtil.OBSCUR_SKY_COVER_PATTERN, currReportSection)) {
             decodedMetar.setObscurationSkyCondition(
                     currReportSection.substring(0, 3));
             // in hundreds of feet
@@ -1579,7 +1772,7 @@ public final class MetarRemarksDecoder {
             logger.error(
                     "Expected sky cover amount after obscuration in METAR remarks, but ["
                             + currReportSection + "] does not match pattern: ["
-                            + MetarDecoderUtil.OBSCUR_SKY_COVER_REGEX + "].");
+                            + MetarDecoderUtil.OBSCUR_SKY_COVER_PATTERN + "].");
             reportIndex--;
             return reportIndex;
         }
@@ -1593,19 +1786,20 @@ public final class MetarRemarksDecoder {
      * hmPED_VariableCIG.c, and hmPED_CIG2ndSite.c.
      * 
      * @param decodedMetar
-     * @param reportArray
+     * @param tokens
      * @param reportIndex
      * @return report index to start parsing from.
      */
     private static int parseCeilingHeight(DecodedMetar decodedMetar,
-            String[] reportArray, int reportIndex) {
+            MetarTokenizer tokens, int reportIndex) {
         // check next word
         reportIndex++;
-        if (reportIndex < reportArray.length) {
-            String currReportSection = reportArray[reportIndex];
+        if (reportIndex < tokens.size()) {
+            String currReportSection = tokens.word(reportIndex);
 
             /* Retrieve the min and max ceiling values. */
-            if (currReportSection.matches(MetarDecoderUtil.CIG_VAR_REGEX)) {
+            if (tokens.matches(
+                    MetarDecoderUtil.CIG_VAR_PATTERN, currReportSection)) {
                 /*
                  * CIG section
                  */
@@ -1614,12 +1808,11 @@ public final class MetarRemarksDecoder {
                 // end CIG section
             } else if (currReportSection
                     .equalsIgnoreCase(MetarDecoderUtil.FOG_RGD_INDICATOR)
-                    || currReportSection
-                            .matches(MetarDecoderUtil.NUM_ONLY_REGEX)) {
+                    || MetarDecoderUtil.isNumeric(currReportSection)) {
                 /*
                  * CIG second site section
                  */
-                return parseSecondSiteCeilingHeight(decodedMetar, reportArray,
+                return parseSecondSiteCeilingHeight(decodedMetar, tokens,
                         reportIndex, currReportSection);
                 // end CIG second site
             } else {
@@ -1629,8 +1822,8 @@ public final class MetarRemarksDecoder {
                         "Expected min/max ceiling values, or single ceiling value or 'RGD' after CIG in METAR remarks, but ["
                                 + currReportSection
                                 + "] does not match expected patterns: ["
-                                + MetarDecoderUtil.CIG_VAR_REGEX + "] or ["
-                                + MetarDecoderUtil.NUM_ONLY_REGEX + "].");
+                                + MetarDecoderUtil.CIG_VAR_PATTERN + "] or ["
+                                + MetarDecoderUtil.NUM_ONLY_PATTERN + "].");
                 reportIndex--;
                 return reportIndex;
             }
@@ -1662,14 +1855,14 @@ public final class MetarRemarksDecoder {
      * </pre>
      * 
      * @param decodedMetar
-     * @param reportArray
+     * @param tokens
      * @param reportIndex
      * @param currReportSection
      * @return report index to start parsing from.
      */
 
     private static int parseSecondSiteCeilingHeight(DecodedMetar decodedMetar,
-            String[] reportArray, int reportIndex, String currReportSection) {
+            MetarTokenizer tokens, int reportIndex, String currReportSection) {
         if (currReportSection
                 .equalsIgnoreCase(MetarDecoderUtil.FOG_RGD_INDICATOR)) {
             // fog, no other values
@@ -1685,8 +1878,8 @@ public final class MetarRemarksDecoder {
 
             // check next word
             reportIndex++;
-            if (reportIndex < reportArray.length) {
-                currReportSection = reportArray[reportIndex];
+            if (reportIndex < tokens.size()) {
+                currReportSection = tokens.word(reportIndex);
 
                 /*
                  * Task 29239: legacy looks for "RY", but documentation suggests
@@ -1725,7 +1918,8 @@ public final class MetarRemarksDecoder {
     /**
      * Parse variable ceiling height from METAR remarks. Assume previous word
      * was {@link MetarDecoderUtil#CEILING_HEIGHT_ABBR} and the current one
-     * matches {@link MetarDecoderUtil#CIG_VAR_REGEX}. From hmPED_VariableCIG.c.
+     * matches {@link MetarDecoderUtil#CIG_VAR_PATTERN}. From
+     * hmPED_VariableCIG.c.
      * 
      * <pre>
      * FUNCTION NAME
@@ -1767,21 +1961,21 @@ public final class MetarRemarksDecoder {
      * </pre>
      * 
      * @param decodedMetar
-     * @param reportArray
+     * @param tokens
      * @param reportIndex
      * @return report index to parse from.
      */
 
     private static int parseVIRGA(DecodedMetar decodedMetar,
-            String[] reportArray, int reportIndex) {
+            MetarTokenizer tokens, int reportIndex) {
         String currReportSection;
         decodedMetar.setVirga(true);
 
         // direction is optional
         // check next word
         reportIndex++;
-        if (reportIndex < reportArray.length) {
-            currReportSection = reportArray[reportIndex];
+        if (reportIndex < tokens.size()) {
+            currReportSection = tokens.word(reportIndex);
 
             if (MetarDecoderUtil.validDir(currReportSection)) {
                 decodedMetar.setVirgaDirection(currReportSection);
@@ -1815,18 +2009,18 @@ public final class MetarRemarksDecoder {
      * </pre>
      * 
      * @param decodedMetar
-     * @param reportArray
+     * @param tokens
      * @param reportIndex
      * @param currReportSection
      * @return report index to start parsing from.
      */
 
     private static int parseHail(DecodedMetar decodedMetar,
-            String[] reportArray, int reportIndex) {
+            MetarTokenizer tokens, int reportIndex) {
         // check next word
         reportIndex++;
-        if (reportIndex < reportArray.length) {
-            String currReportSection = reportArray[reportIndex];
+        if (reportIndex < tokens.size()) {
+            String currReportSection = tokens.word(reportIndex);
 
             /* check to see if hail size if less the 1/4 */
             int slashIndex;
@@ -1837,8 +2031,8 @@ public final class MetarRemarksDecoder {
                     decodedMetar.setHailSize(
                             MetarDecoderUtil.HAIL_MINIMUM_SIZE_VALUE);
                     decodedMetar.setHail(true);
-                } else if (currReportSection
-                        .matches(MetarDecoderUtil.FRACTION_REGEX)) {
+                } else if (tokens.matches(
+                        MetarDecoderUtil.FRACTION_PATTERN, currReportSection)) {
                     /* check for a fraction for hail diameter */
                     decodedMetar
                             .setHailSize(Float
@@ -1866,11 +2060,12 @@ public final class MetarRemarksDecoder {
                  */
                 // check next word
                 reportIndex++;
-                if (reportIndex < reportArray.length) {
-                    currReportSection = reportArray[reportIndex];
+                if (reportIndex < tokens.size()) {
+                    currReportSection = tokens.word(reportIndex);
 
-                    if (currReportSection
-                            .matches(MetarDecoderUtil.FRACTION_REGEX)) {
+                    if (tokens.matches(
+                            MetarDecoderUtil.FRACTION_PATTERN,
+                            currReportSection)) {
                         String[] fractionSplit = currReportSection
                                 .split(MetarDecoderUtil.SLASH_DIVIDER);
                         decodedMetar.setHailSize(decodedMetar.getHailSize()
@@ -1916,17 +2111,17 @@ public final class MetarRemarksDecoder {
      * </pre>
      * 
      * @param decodedMetar
-     * @param reportArray
+     * @param tokens
      * @param reportIndex
      * @return report index to start parsing at.
      */
 
     private static int parseThunderStorm(DecodedMetar decodedMetar,
-            String[] reportArray, int reportIndex) {
+            MetarTokenizer tokens, int reportIndex) {
         // check next word
         reportIndex++;
-        if (reportIndex < reportArray.length) {
-            String currReportSection = reportArray[reportIndex];
+        if (reportIndex < tokens.size()) {
+            String currReportSection = tokens.word(reportIndex);
 
             /*
              * check to see where it is located in reference to the station;
@@ -1938,8 +2133,8 @@ public final class MetarRemarksDecoder {
                     /* check to see if near station */
                     // check next word
                     reportIndex++;
-                    if (reportIndex < reportArray.length) {
-                        currReportSection = reportArray[reportIndex];
+                    if (reportIndex < tokens.size()) {
+                        currReportSection = tokens.word(reportIndex);
                     } else {
                         decodedMetar.getCmnData().setDecodeStatus(
                                 MetarDecoderUtil.DECODING_ERROR_METAR_STATUS);
@@ -1953,8 +2148,8 @@ public final class MetarRemarksDecoder {
 
                         // check next word
                         reportIndex++;
-                        if (reportIndex < reportArray.length) {
-                            currReportSection = reportArray[reportIndex];
+                        if (reportIndex < tokens.size()) {
+                            currReportSection = tokens.word(reportIndex);
                         } else {
                             decodedMetar.getCmnData().setDecodeStatus(
                                     MetarDecoderUtil.DECODING_ERROR_METAR_STATUS);
@@ -1971,8 +2166,8 @@ public final class MetarRemarksDecoder {
 
                     // check next word
                     reportIndex++;
-                    if (reportIndex < reportArray.length) {
-                        currReportSection = reportArray[reportIndex];
+                    if (reportIndex < tokens.size()) {
+                        currReportSection = tokens.word(reportIndex);
                     } else {
                         decodedMetar.getCmnData().setDecodeStatus(
                                 MetarDecoderUtil.DECODING_ERROR_METAR_STATUS);
@@ -1995,8 +2190,8 @@ public final class MetarRemarksDecoder {
                 boolean validDir = true;
                 while (validDir) {
                     reportIndex++;
-                    if (reportIndex < reportArray.length) {
-                        currReportSection = reportArray[reportIndex];
+                    if (reportIndex < tokens.size()) {
+                        currReportSection = tokens.word(reportIndex);
 
                         if ("AND".equalsIgnoreCase(currReportSection)
                                 || MetarDecoderUtil
@@ -2030,8 +2225,8 @@ public final class MetarRemarksDecoder {
                     .contains(currReportSection)) {
                 // check next word
                 reportIndex++;
-                if (reportIndex < reportArray.length) {
-                    currReportSection = reportArray[reportIndex];
+                if (reportIndex < tokens.size()) {
+                    currReportSection = tokens.word(reportIndex);
 
                     if (MetarDecoderUtil.validDir(currReportSection)) {
                         decodedMetar.setThunderStormMovement(currReportSection);
@@ -2074,7 +2269,7 @@ public final class MetarRemarksDecoder {
 
     /**
      * Parse recent weather from METAR remarks. Assumed that the current word
-     * matches regex {@link MetarDecoderUtil#RECENT_WX_REGEX}. From
+     * matches regex {@link MetarDecoderUtil#RECENT_WX_PATTERN}. From
      * hmPED_RecentWX.c.
      * 
      * <pre>
@@ -2111,8 +2306,7 @@ public final class MetarRemarksDecoder {
             String currReportSection) {
         // parse all matches for each individual weather event
 
-        Matcher weatherGroupMatcher = Pattern
-                .compile(MetarDecoderUtil.SINGLE_RECENT_WX_REGEX)
+        Matcher weatherGroupMatcher = MetarDecoderUtil.SINGLE_RECENT_WX_PATTERN
                 .matcher(currReportSection);
         while (weatherGroupMatcher.find()) {
             // single weather event ww..w(B|E)(hh)mm or
@@ -2127,8 +2321,7 @@ public final class MetarRemarksDecoder {
              * time, and either E or B could be first. Additionally, multiple
              * time pairs or singlets could follow a single recent weather.
              */
-            Matcher weatherTimeMatcher = Pattern
-                    .compile(MetarDecoderUtil.SINGLE_RECENT_WX_TIME_REGEX)
+            Matcher weatherTimeMatcher = MetarDecoderUtil.SINGLE_RECENT_WX_TIME_PATTERN
                     .matcher(weatherEventString);
 
             /*
@@ -2141,7 +2334,7 @@ public final class MetarRemarksDecoder {
                 decodedMetar.getCmnData().setDecodeStatus(
                         MetarDecoderUtil.DECODING_ERROR_METAR_STATUS);
                 logger.error("Could not find a first time using regex: ["
-                        + MetarDecoderUtil.SINGLE_RECENT_WX_TIME_REGEX
+                        + MetarDecoderUtil.SINGLE_RECENT_WX_TIME_PATTERN
                         + "] for event: [" + weatherEventString
                         + "] from recent weather group: [" + currReportSection
                         + "].");
@@ -2313,14 +2506,14 @@ public final class MetarRemarksDecoder {
      * </pre>
      * 
      * @param decodedMetar
-     * @param reportArray
+     * @param tokens
      * @param reportIndex
      * @param currReportSection
      * @return report index to start parsing from.
      */
 
     private static int parseLightningFrequency(DecodedMetar decodedMetar,
-            String[] reportArray, int reportIndex, String currReportSection) {
+            MetarTokenizer tokens, int reportIndex, String currReportSection) {
         if (currReportSection.equalsIgnoreCase(
                 MetarDecoderUtil.OCCASIONAL_LIGHTNING_STRING)) {
             decodedMetar.setOccasionalLightning(true);
@@ -2351,8 +2544,8 @@ public final class MetarRemarksDecoder {
             return reportIndex;
         }
 
-        if (reportIndex < reportArray.length) {
-            currReportSection = reportArray[reportIndex];
+        if (reportIndex < tokens.size()) {
+            currReportSection = tokens.word(reportIndex);
         } else {
             decodedMetar.getCmnData().setDecodeStatus(
                     MetarDecoderUtil.DECODING_ERROR_METAR_STATUS);
@@ -2397,8 +2590,8 @@ public final class MetarRemarksDecoder {
 
         // check next word
         reportIndex++;
-        if (reportIndex < reportArray.length) {
-            currReportSection = reportArray[reportIndex];
+        if (reportIndex < tokens.size()) {
+            currReportSection = tokens.word(reportIndex);
         } else {
             decodedMetar.getCmnData().setDecodeStatus(
                     MetarDecoderUtil.DECODING_ERROR_METAR_STATUS);
@@ -2416,8 +2609,8 @@ public final class MetarRemarksDecoder {
         } else if (currReportSection.equalsIgnoreCase("VCY")) {
             // check next word
             reportIndex++;
-            if (reportIndex < reportArray.length) {
-                currReportSection = reportArray[reportIndex];
+            if (reportIndex < tokens.size()) {
+                currReportSection = tokens.word(reportIndex);
 
                 if (currReportSection.equalsIgnoreCase("STN")) {
                     decodedMetar.setVcyStnLtg(true);
@@ -2444,8 +2637,8 @@ public final class MetarRemarksDecoder {
 
         // check next word
         reportIndex++;
-        if (reportIndex < reportArray.length) {
-            currReportSection = reportArray[reportIndex];
+        if (reportIndex < tokens.size()) {
+            currReportSection = tokens.word(reportIndex);
         } else {
             decodedMetar.getCmnData().setDecodeStatus(
                     MetarDecoderUtil.DECODING_ERROR_METAR_STATUS);
@@ -2553,23 +2746,23 @@ public final class MetarRemarksDecoder {
      * hmPED_Vsby2ndSite.c.
      * 
      * @param decodedMetar
-     * @param reportArray
+     * @param tokens
      * @param reportIndex
      * @return report index to start parsing from.
      */
 
     private static int parseOtherVisibility(DecodedMetar decodedMetar,
-            String[] reportArray, int reportIndex) {
+            MetarTokenizer tokens, int reportIndex) {
         // check next word
         reportIndex++;
-        if (reportIndex < reportArray.length) {
-            String currReportSection = reportArray[reportIndex];
+        if (reportIndex < tokens.size()) {
+            String currReportSection = tokens.word(reportIndex);
 
             // check ahead to another word
             int nextIndex = reportIndex + 1;
             String nextWord = "";
-            if (nextIndex < reportArray.length) {
-                nextWord = reportArray[nextIndex];
+            if (nextIndex < tokens.size()) {
+                nextWord = tokens.word(nextIndex);
             }
 
             if (MetarDecoderUtil.validDir(currReportSection)) {
@@ -2577,27 +2770,27 @@ public final class MetarRemarksDecoder {
                 /*
                  * Sector visibility
                  */
-                return parseSectorVisibility(decodedMetar, reportArray,
+                return parseSectorVisibility(decodedMetar, tokens,
                         reportIndex, currReportSection);
                 // end sector visibility
-            } else if (currReportSection
-                    .matches(MetarDecoderUtil.CORE_VARIABLE_VISIBILITY_REGEX)
-                    || (currReportSection
-                            .matches(MetarDecoderUtil.NUM_ONLY_REGEX)
-                            && nextWord.matches(
-                                    MetarDecoderUtil.CORE_VARIABLE_VISIBILITY_REGEX))) {
-                return parseVariableVisibility(decodedMetar, reportArray,
+            } else if (tokens.matches(
+                    MetarDecoderUtil.CORE_VARIABLE_VISIBILITY_PATTERN,
+                    currReportSection)
+                    || (MetarDecoderUtil.isNumeric(currReportSection)
+                            && tokens.matches(
+                                    MetarDecoderUtil.CORE_VARIABLE_VISIBILITY_PATTERN,
+                                    nextWord))) {
+                return parseVariableVisibility(decodedMetar, tokens,
                         reportIndex, currReportSection);
                 // end variable visibility
-            } else if ((currReportSection
-                    .matches(MetarDecoderUtil.FRACTION_REGEX)
+            } else if ((tokens.matches(
+                    MetarDecoderUtil.FRACTION_PATTERN, currReportSection)
                     && (nextWord.startsWith(MetarDecoderUtil.RUNWAY_RY_STRING)
                             || nextWord.startsWith(
                                     MetarDecoderUtil.RUNWAY_RWY_STRING)))
-                    || (currReportSection
-                            .matches(MetarDecoderUtil.NUM_ONLY_REGEX)
-                            && (nextWord
-                                    .matches(MetarDecoderUtil.FRACTION_REGEX)
+                    || (MetarDecoderUtil.isNumeric(currReportSection)
+                            && (tokens.matches(
+                                    MetarDecoderUtil.FRACTION_PATTERN, nextWord)
                                     || (nextWord.startsWith(
                                             MetarDecoderUtil.RUNWAY_RY_STRING)
                                             || nextWord.startsWith(
@@ -2606,7 +2799,7 @@ public final class MetarRemarksDecoder {
                  * Task 29239: legacy expects "RY" prefix, but documentation
                  * expects "RWY"
                  */
-                return parseSecondSiteVisibility(decodedMetar, reportArray,
+                return parseSecondSiteVisibility(decodedMetar, tokens,
                         reportIndex, currReportSection);
                 // end second site visibility
             } else {
@@ -2646,14 +2839,14 @@ public final class MetarRemarksDecoder {
      * </pre>
      * 
      * @param decodedMetar
-     * @param reportArray
+     * @param tokens
      * @param reportIndex
      * @param currReportSection
      * @return report index to start parsing from.
      */
 
     private static int parseSecondSiteVisibility(DecodedMetar decodedMetar,
-            String[] reportArray, int reportIndex, String currReportSection) {
+            MetarTokenizer tokens, int reportIndex, String currReportSection) {
         /*
          * The value is a number and the next is the location or a fraction, or
          * the value is a fraction and the next is the location
@@ -2663,13 +2856,13 @@ public final class MetarRemarksDecoder {
          */
         // could start with whole number
         float secondSiteVisibility = 0f;
-        if (currReportSection.matches(MetarDecoderUtil.NUM_ONLY_REGEX)) {
+        if (MetarDecoderUtil.isNumeric(currReportSection)) {
             secondSiteVisibility = Float.parseFloat(currReportSection);
 
             // check next word
             reportIndex++;
-            if (reportIndex < reportArray.length) {
-                currReportSection = reportArray[reportIndex];
+            if (reportIndex < tokens.size()) {
+                currReportSection = tokens.word(reportIndex);
             } else {
                 decodedMetar.getCmnData().setDecodeStatus(
                         MetarDecoderUtil.DECODING_ERROR_METAR_STATUS);
@@ -2680,7 +2873,8 @@ public final class MetarRemarksDecoder {
         }
 
         // fractional part
-        if (currReportSection.matches(MetarDecoderUtil.FRACTION_REGEX)) {
+        if (tokens.matches(
+                MetarDecoderUtil.FRACTION_PATTERN, currReportSection)) {
             String[] fractionSplit = currReportSection
                     .split(MetarDecoderUtil.SLASH_DIVIDER);
 
@@ -2690,8 +2884,8 @@ public final class MetarRemarksDecoder {
 
             // check next word
             reportIndex++;
-            if (reportIndex < reportArray.length) {
-                currReportSection = reportArray[reportIndex];
+            if (reportIndex < tokens.size()) {
+                currReportSection = tokens.word(reportIndex);
             } else {
                 decodedMetar.getCmnData().setDecodeStatus(
                         MetarDecoderUtil.DECODING_ERROR_METAR_STATUS);
@@ -2710,8 +2904,8 @@ public final class MetarRemarksDecoder {
         if (currReportSection.startsWith(MetarDecoderUtil.RUNWAY_RY_STRING)
                 || currReportSection
                         .startsWith(MetarDecoderUtil.RUNWAY_RWY_STRING)) {
-            if (currReportSection
-                    .matches(MetarDecoderUtil.ALPHANUMERIC_REGEX)) {
+            if (tokens.matches(
+                    MetarDecoderUtil.ALPHANUMERIC_PATTERN, currReportSection)) {
                 decodedMetar.setVsby2ndSiteLoc(currReportSection);
             } else {
                 decodedMetar.getCmnData().setDecodeStatus(
@@ -2753,14 +2947,14 @@ public final class MetarRemarksDecoder {
      * </pre>
      * 
      * @param decodedMetar
-     * @param reportArray
+     * @param tokens
      * @param reportIndex
      * @param currReportSection
      * @return report index to start parsing from.
      */
 
     private static int parseVariableVisibility(DecodedMetar decodedMetar,
-            String[] reportArray, int reportIndex, String currReportSection) {
+            MetarTokenizer tokens, int reportIndex, String currReportSection) {
         /*
          * Format xVy where x and/or y can be in format "A" or "B/C" or "A B/C"
          */
@@ -2775,7 +2969,7 @@ public final class MetarRemarksDecoder {
          * first value may be whole number or fractional minimum visibility, or
          * the core visibility pattern
          */
-        if (currReportSection.matches(MetarDecoderUtil.NUM_ONLY_REGEX)) {
+        if (MetarDecoderUtil.isNumeric(currReportSection)) {
             decodedMetar.setMinVsby(Float.parseFloat(currReportSection));
 
             /*
@@ -2783,8 +2977,8 @@ public final class MetarRemarksDecoder {
              * calling this method should exist and is valid, but check anyway
              */
             reportIndex++;
-            if (reportIndex < reportArray.length) {
-                currReportSection = reportArray[reportIndex];
+            if (reportIndex < tokens.size()) {
+                currReportSection = tokens.word(reportIndex);
             } else {
                 logger.error(
                         "Could not get core variable visibility word. Unexpected end of the report.");
@@ -2803,10 +2997,11 @@ public final class MetarRemarksDecoder {
                 .split(MetarDecoderUtil.VARIABLE_DATA_FLAG);
         // finish min visibility
         String coreMinVisibility = coreVisibilityArray[0];
-        if (coreMinVisibility.matches(MetarDecoderUtil.NUM_ONLY_REGEX)) {
+        if (MetarDecoderUtil.isNumeric(coreMinVisibility)) {
             // whole number
             decodedMetar.setMinVsby(Float.parseFloat(coreMinVisibility));
-        } else if (coreMinVisibility.matches(MetarDecoderUtil.FRACTION_REGEX)) {
+        } else if (tokens.matches(
+                MetarDecoderUtil.FRACTION_PATTERN, coreMinVisibility)) {
             // fraction
             String[] minVisSplit = coreMinVisibility
                     .split(MetarDecoderUtil.SLASH_DIVIDER);
@@ -2827,7 +3022,8 @@ public final class MetarRemarksDecoder {
 
         // start max visibility
         String coreMaxVisibility = coreVisibilityArray[1];
-        if (coreMaxVisibility.matches(MetarDecoderUtil.FRACTION_REGEX)) {
+        if (tokens.matches(
+                MetarDecoderUtil.FRACTION_PATTERN, coreMaxVisibility)) {
             // fractional
             String[] maxVisSplit = coreMaxVisibility
                     .split(MetarDecoderUtil.SLASH_DIVIDER);
@@ -2840,11 +3036,11 @@ public final class MetarRemarksDecoder {
             // get fraction, which is optional
             // check next word
             reportIndex++;
-            if (reportIndex < reportArray.length) {
-                currReportSection = reportArray[reportIndex];
+            if (reportIndex < tokens.size()) {
+                currReportSection = tokens.word(reportIndex);
 
-                if (currReportSection
-                        .matches(MetarDecoderUtil.FRACTION_REGEX)) {
+                if (tokens.matches(
+                        MetarDecoderUtil.FRACTION_PATTERN, currReportSection)) {
                     String[] maxVisSplit = currReportSection
                             .split(MetarDecoderUtil.SLASH_DIVIDER);
                     decodedMetar.setMaxVsby(decodedMetar.getMaxVsby()
@@ -2883,14 +3079,14 @@ public final class MetarRemarksDecoder {
      * </pre>
      * 
      * @param decodedMetar
-     * @param reportArray
+     * @param tokens
      * @param reportIndex
      * @param currReportSection
      * @return report index to start parsing from.
      */
 
     private static int parseSectorVisibility(DecodedMetar decodedMetar,
-            String[] reportArray, int reportIndex, String currReportSection) {
+            MetarTokenizer tokens, int reportIndex, String currReportSection) {
         // copy only first two characters of direction
         if (currReportSection.length() == 1) {
             decodedMetar.setSectorVsbyDir(currReportSection);
@@ -2900,8 +3096,8 @@ public final class MetarRemarksDecoder {
 
         // check next word
         reportIndex++;
-        if (reportIndex < reportArray.length) {
-            currReportSection = reportArray[reportIndex];
+        if (reportIndex < tokens.size()) {
+            currReportSection = tokens.word(reportIndex);
         } else {
             decodedMetar.getCmnData().setDecodeStatus(
                     MetarDecoderUtil.DECODING_ERROR_METAR_STATUS);
@@ -2914,17 +3110,17 @@ public final class MetarRemarksDecoder {
          * visibility is either a fraction, a whole number and then a fraction,
          * or just a whole number
          */
-        if (currReportSection.matches(MetarDecoderUtil.NUM_ONLY_REGEX)) {
+        if (MetarDecoderUtil.isNumeric(currReportSection)) {
             // whole number, which may be followed by a fraction
             decodedMetar.setSectorVsby(Float.parseFloat(currReportSection));
 
             // check next word, optional fraction
             reportIndex++;
-            if (reportIndex < reportArray.length) {
-                currReportSection = reportArray[reportIndex];
+            if (reportIndex < tokens.size()) {
+                currReportSection = tokens.word(reportIndex);
 
-                if (currReportSection
-                        .matches(MetarDecoderUtil.FRACTION_REGEX)) {
+                if (tokens.matches(
+                        MetarDecoderUtil.FRACTION_PATTERN, currReportSection)) {
                     String[] fractionSplit = currReportSection
                             .split(MetarDecoderUtil.SLASH_DIVIDER);
                     decodedMetar.setSectorVsby(decodedMetar.getSectorVsby()
@@ -2940,7 +3136,8 @@ public final class MetarRemarksDecoder {
                         "Only whole number present for sector visibility. End of remarks.");
                 return reportIndex;
             }
-        } else if (currReportSection.matches(MetarDecoderUtil.FRACTION_REGEX)) {
+        } else if (tokens.matches(
+                MetarDecoderUtil.FRACTION_PATTERN, currReportSection)) {
             // fraction
             String[] fractionSplit = currReportSection
                     .split(MetarDecoderUtil.SLASH_DIVIDER);
@@ -2977,19 +3174,19 @@ public final class MetarRemarksDecoder {
      * </pre>
      * 
      * @param decodedMetar
-     * @param reportArray
+     * @param tokens
      * @param reportIndex
      * @param currReportSection
      * @return report index to start parsing from.
      */
 
     private static int parseSurfaceVisibility(DecodedMetar decodedMetar,
-            String[] reportArray, int reportIndex, String currReportSection) {
+            MetarTokenizer tokens, int reportIndex, String currReportSection) {
         // ensure next word is VIS
         // check next word
         reportIndex++;
-        if (reportIndex < reportArray.length) {
-            currReportSection = reportArray[reportIndex];
+        if (reportIndex < tokens.size()) {
+            currReportSection = tokens.word(reportIndex);
         } else {
             decodedMetar.getCmnData().setDecodeStatus(
                     MetarDecoderUtil.DECODING_ERROR_METAR_STATUS);
@@ -3011,8 +3208,8 @@ public final class MetarRemarksDecoder {
         // visibility data
         // check next word
         reportIndex++;
-        if (reportIndex < reportArray.length) {
-            currReportSection = reportArray[reportIndex];
+        if (reportIndex < tokens.size()) {
+            currReportSection = tokens.word(reportIndex);
         } else {
             decodedMetar.getCmnData().setDecodeStatus(
                     MetarDecoderUtil.DECODING_ERROR_METAR_STATUS);
@@ -3022,18 +3219,18 @@ public final class MetarRemarksDecoder {
         }
 
         // expect either a lone digits or a fraction
-        if (currReportSection.matches(MetarDecoderUtil.NUM_ONLY_REGEX)) {
+        if (MetarDecoderUtil.isNumeric(currReportSection)) {
             // lone digits
             decodedMetar.setSfcVsby(Float.parseFloat(currReportSection));
 
             // optionally followed by fractional section
             // check next word
             reportIndex++;
-            if (reportIndex < reportArray.length) {
-                currReportSection = reportArray[reportIndex];
+            if (reportIndex < tokens.size()) {
+                currReportSection = tokens.word(reportIndex);
 
-                if (currReportSection
-                        .matches(MetarDecoderUtil.FRACTION_REGEX)) {
+                if (tokens.matches(
+                        MetarDecoderUtil.FRACTION_PATTERN, currReportSection)) {
                     String[] fractionArray = currReportSection
                             .split(MetarDecoderUtil.SLASH_DIVIDER);
                     decodedMetar.setSfcVsby(decodedMetar.getSfcVsby()
@@ -3049,7 +3246,8 @@ public final class MetarRemarksDecoder {
                         "No fractional part after whole number present in METAR remarks after SFC VIS prefix. End of remarks.");
                 return reportIndex;
             }
-        } else if (currReportSection.matches(MetarDecoderUtil.FRACTION_REGEX)) {
+        } else if (tokens.matches(
+                MetarDecoderUtil.FRACTION_PATTERN, currReportSection)) {
             // fraction
             String[] fractionArray = currReportSection
                     .split(MetarDecoderUtil.SLASH_DIVIDER);
@@ -3084,18 +3282,18 @@ public final class MetarRemarksDecoder {
      * </pre>
      * 
      * @param decodedMetar
-     * @param reportArray
+     * @param tokens
      * @param reportIndex
      * @return report index to start parsing from.
      */
 
     private static int parseTowerVisibility(DecodedMetar decodedMetar,
-            String[] reportArray, int reportIndex) {
+            MetarTokenizer tokens, int reportIndex) {
         // ensure next word is VIS
         // check next word
         reportIndex++;
-        if (reportIndex < reportArray.length) {
-            String currReportSection = reportArray[reportIndex];
+        if (reportIndex < tokens.size()) {
+            String currReportSection = tokens.word(reportIndex);
 
             if (!currReportSection
                     .equalsIgnoreCase(MetarDecoderUtil.VISIBILITY_PREFIX)) {
@@ -3110,8 +3308,8 @@ public final class MetarRemarksDecoder {
             // visibility data
             // check next word
             reportIndex++;
-            if (reportIndex < reportArray.length) {
-                currReportSection = reportArray[reportIndex];
+            if (reportIndex < tokens.size()) {
+                currReportSection = tokens.word(reportIndex);
             } else {
                 decodedMetar.getCmnData().setDecodeStatus(
                         MetarDecoderUtil.DECODING_ERROR_METAR_STATUS);
@@ -3121,18 +3319,19 @@ public final class MetarRemarksDecoder {
             }
 
             // expect either a lone digits or a fraction
-            if (currReportSection.matches(MetarDecoderUtil.NUM_ONLY_REGEX)) {
+            if (MetarDecoderUtil.isNumeric(currReportSection)) {
                 // lone digits
                 decodedMetar.setTwrVsby(Float.parseFloat(currReportSection));
 
                 // optionally followed by fractional section
                 // check next word
                 reportIndex++;
-                if (reportIndex < reportArray.length) {
-                    currReportSection = reportArray[reportIndex];
+                if (reportIndex < tokens.size()) {
+                    currReportSection = tokens.word(reportIndex);
 
-                    if (currReportSection
-                            .matches(MetarDecoderUtil.FRACTION_REGEX)) {
+                    if (tokens.matches(
+                            MetarDecoderUtil.FRACTION_PATTERN,
+                            currReportSection)) {
                         String[] fractionArray = currReportSection
                                 .split(MetarDecoderUtil.SLASH_DIVIDER);
                         decodedMetar.setTwrVsby(decodedMetar.getTwrVsby()
@@ -3149,8 +3348,8 @@ public final class MetarRemarksDecoder {
                     return reportIndex;
                 }
 
-            } else if (currReportSection
-                    .matches(MetarDecoderUtil.FRACTION_REGEX)) {
+            } else if (tokens.matches(
+                    MetarDecoderUtil.FRACTION_PATTERN, currReportSection)) {
                 // fraction
                 String[] fractionArray = currReportSection
                         .split(MetarDecoderUtil.SLASH_DIVIDER);
@@ -3192,19 +3391,19 @@ public final class MetarRemarksDecoder {
      * </pre>
      * 
      * @param decodedMetar
-     * @param reportArray
+     * @param tokens
      * @param reportIndex
      * @return report index to start parsing from.
      */
 
     private static int parseWindShift(DecodedMetar decodedMetar,
-            String[] reportArray, int reportIndex) {
+            MetarTokenizer tokens, int reportIndex) {
         // check next word
         reportIndex++;
-        if (reportIndex < reportArray.length) {
-            String currReportSection = reportArray[reportIndex];
+        if (reportIndex < tokens.size()) {
+            String currReportSection = tokens.word(reportIndex);
 
-            if (!currReportSection.matches(MetarDecoderUtil.NUM_ONLY_REGEX)) {
+            if (!MetarDecoderUtil.isNumeric(currReportSection)) {
                 decodedMetar.getCmnData().setDecodeStatus(
                         MetarDecoderUtil.DECODING_ERROR_METAR_STATUS);
                 logger.error(
@@ -3230,8 +3429,8 @@ public final class MetarRemarksDecoder {
                 // optional FROPA (frontal passage) flag
                 // check next word
                 reportIndex++;
-                if (reportIndex < reportArray.length) {
-                    currReportSection = reportArray[reportIndex];
+                if (reportIndex < tokens.size()) {
+                    currReportSection = tokens.word(reportIndex);
 
                     if (currReportSection.equalsIgnoreCase("FROPA")) {
                         decodedMetar.setwShftFroPa(true);
@@ -3272,18 +3471,18 @@ public final class MetarRemarksDecoder {
      * </pre>
      * 
      * @param decodedMetar
-     * @param reportArray
+     * @param tokens
      * @param reportIndex
      * @return report index to start parsing from.
      */
 
     private static int parsePeakWind(DecodedMetar decodedMetar,
-            String[] reportArray, int reportIndex) {
+            MetarTokenizer tokens, int reportIndex) {
         // ensure next work is WND
         // check next word
         reportIndex++;
-        if (reportIndex < reportArray.length) {
-            String currReportSection = reportArray[reportIndex];
+        if (reportIndex < tokens.size()) {
+            String currReportSection = tokens.word(reportIndex);
 
             if (!currReportSection
                     .equalsIgnoreCase(MetarDecoderUtil.PEAK_WIND_SUFFIX)) {
@@ -3296,8 +3495,8 @@ public final class MetarRemarksDecoder {
                 // get peak wind information
                 // check next word
                 reportIndex++;
-                if (reportIndex < reportArray.length) {
-                    currReportSection = reportArray[reportIndex];
+                if (reportIndex < tokens.size()) {
+                    currReportSection = tokens.word(reportIndex);
                 } else {
                     decodedMetar.getCmnData().setDecodeStatus(
                             MetarDecoderUtil.DECODING_ERROR_METAR_STATUS);
@@ -3308,12 +3507,13 @@ public final class MetarRemarksDecoder {
                 }
             }
 
-            if (!currReportSection.matches(MetarDecoderUtil.PEAK_WIND_REGEX)) {
+            if (!tokens.matches(
+                    MetarDecoderUtil.PEAK_WIND_PATTERN, currReportSection)) {
                 decodedMetar.getCmnData().setDecodeStatus(
                         MetarDecoderUtil.DECODING_ERROR_METAR_STATUS);
                 logger.error("Peak wind section: [" + currReportSection
                         + "] does not match regex: ["
-                        + MetarDecoderUtil.PEAK_WIND_REGEX + "].");
+                        + MetarDecoderUtil.PEAK_WIND_PATTERN + "].");
                 reportIndex--;
                 return reportIndex;
             }
@@ -3372,20 +3572,20 @@ public final class MetarRemarksDecoder {
      * </pre>
      * 
      * @param decodedMetar
-     * @param reportArray
+     * @param tokens
      * @param reportIndex
      * @param currReportSection
      * @return report index to start parsing from.
      */
 
     private static int parseTornadicActivity(DecodedMetar decodedMetar,
-            String[] reportArray, int reportIndex, String currReportSection) {
+            MetarTokenizer tokens, int reportIndex, String currReportSection) {
         if (currReportSection
                 .equalsIgnoreCase(MetarDecoderUtil.FUNNEL_STRING)) {
             // check next word
             reportIndex++;
-            if (reportIndex < reportArray.length) {
-                currReportSection = reportArray[reportIndex];
+            if (reportIndex < tokens.size()) {
+                currReportSection = tokens.word(reportIndex);
             } else {
                 logger.error(
                         "Invalid tornadic activity. No information after the word 'FUNNEL'.");
@@ -3417,8 +3617,8 @@ public final class MetarRemarksDecoder {
         // need timing, location, and movement data
         // check next word
         reportIndex++;
-        if (reportIndex < reportArray.length) {
-            currReportSection = reportArray[reportIndex];
+        if (reportIndex < tokens.size()) {
+            currReportSection = tokens.word(reportIndex);
         } else {
             logger.error(
                     "Invalid tornadic activity. No information after tornadic type.");
@@ -3438,8 +3638,8 @@ public final class MetarRemarksDecoder {
                 // (hour and minutes)
                 int beginTimeDigits = 2;
                 if ((currReportSection.length() >= 5)
-                        && (currReportSection.substring(1, 5)
-                                .matches(MetarDecoderUtil.NUM_ONLY_REGEX))) {
+                        && (MetarDecoderUtil.isNumeric(
+                                currReportSection.substring(1, 5)))) {
                     // four digit time
                     decodedMetar.setbTornadicHour(Integer
                             .parseInt(currReportSection.substring(1, 3)));
@@ -3447,8 +3647,8 @@ public final class MetarRemarksDecoder {
                             .parseInt(currReportSection.substring(3, 5)));
                     beginTimeDigits = 4;
                 } else if (currReportSection.length() >= 3
-                        && currReportSection.substring(1, 3)
-                                .matches(MetarDecoderUtil.NUM_ONLY_REGEX)) {
+                        && MetarDecoderUtil
+                                .isNumeric(currReportSection.substring(1, 3))) {
                     // two digit time
                     decodedMetar.setbTornadicMinute(Integer
                             .parseInt(currReportSection.substring(1, 3)));
@@ -3471,16 +3671,16 @@ public final class MetarRemarksDecoder {
                 // time is either 2 digits (minutes only) or 4 digits
                 // (hour and minutes)
                 if ((currReportSection.length() >= 5)
-                        && (currReportSection.substring(1, 5)
-                                .matches(MetarDecoderUtil.NUM_ONLY_REGEX))) {
+                        && (MetarDecoderUtil.isNumeric(
+                                currReportSection.substring(1, 5)))) {
                     // four digit time
                     decodedMetar.seteTornadicHour(Integer
                             .parseInt(currReportSection.substring(1, 3)));
                     decodedMetar.seteTornadicMinute(Integer
                             .parseInt(currReportSection.substring(3, 5)));
                 } else if (currReportSection.length() >= 3
-                        && currReportSection.substring(1, 3)
-                                .matches(MetarDecoderUtil.NUM_ONLY_REGEX)) {
+                        && MetarDecoderUtil
+                                .isNumeric(currReportSection.substring(1, 3))) {
                     // two digit time
                     decodedMetar.seteTornadicMinute(Integer
                             .parseInt(currReportSection.substring(1, 3)));
@@ -3494,8 +3694,8 @@ public final class MetarRemarksDecoder {
 
             // check next word
             reportIndex++;
-            if (reportIndex < reportArray.length) {
-                currReportSection = reportArray[reportIndex];
+            if (reportIndex < tokens.size()) {
+                currReportSection = tokens.word(reportIndex);
             } else {
                 logger.error(
                         "Completed remarks decoding after of decoding tornadic time information, but expected location data.");
@@ -3511,16 +3711,16 @@ public final class MetarRemarksDecoder {
                     .startsWith(MetarDecoderUtil.VARIABLE_DATA_FLAG)) {
                 // check next word, which is optional
                 reportIndex++;
-                if (reportIndex < reportArray.length) {
-                    currReportSection = reportArray[reportIndex];
+                if (reportIndex < tokens.size()) {
+                    currReportSection = tokens.word(reportIndex);
 
                     if (currReportSection.equalsIgnoreCase("STN")) {
                         decodedMetar.setTornadicLoc("VC STN");
 
                         // check next word
                         reportIndex++;
-                        if (reportIndex < reportArray.length) {
-                            currReportSection = reportArray[reportIndex];
+                        if (reportIndex < tokens.size()) {
+                            currReportSection = tokens.word(reportIndex);
                         } else {
                             decodedMetar.getCmnData().setDecodeStatus(
                                     MetarDecoderUtil.DECODING_ERROR_METAR_STATUS);
@@ -3544,8 +3744,8 @@ public final class MetarRemarksDecoder {
                 decodedMetar.setTornadicLoc("DTSN ");
                 // check next word
                 reportIndex++;
-                if (reportIndex < reportArray.length) {
-                    currReportSection = reportArray[reportIndex];
+                if (reportIndex < tokens.size()) {
+                    currReportSection = tokens.word(reportIndex);
                 } else {
                     decodedMetar.getCmnData().setDecodeStatus(
                             MetarDecoderUtil.DECODING_ERROR_METAR_STATUS);
@@ -3554,14 +3754,14 @@ public final class MetarRemarksDecoder {
                     return reportIndex;
                 }
             }
-        } else if (currReportSection.matches(MetarDecoderUtil.NUM_ONLY_REGEX)) {
+        } else if (MetarDecoderUtil.isNumeric(currReportSection)) {
             /* Check for a numerical location as well */
             decodedMetar.setTornadicLocNum(Integer.parseInt(currReportSection));
 
             // check next word
             reportIndex++;
-            if (reportIndex < reportArray.length) {
-                currReportSection = reportArray[reportIndex];
+            if (reportIndex < tokens.size()) {
+                currReportSection = tokens.word(reportIndex);
             } else {
                 decodedMetar.getCmnData().setDecodeStatus(
                         MetarDecoderUtil.DECODING_ERROR_METAR_STATUS);
@@ -3582,8 +3782,8 @@ public final class MetarRemarksDecoder {
 
             // check next word
             reportIndex++;
-            if (reportIndex < reportArray.length) {
-                currReportSection = reportArray[reportIndex];
+            if (reportIndex < tokens.size()) {
+                currReportSection = tokens.word(reportIndex);
             } else {
                 decodedMetar.getCmnData().setDecodeStatus(
                         MetarDecoderUtil.DECODING_ERROR_METAR_STATUS);
@@ -3603,8 +3803,8 @@ public final class MetarRemarksDecoder {
             // next word has actual movement string
             // check next word
             reportIndex++;
-            if (reportIndex < reportArray.length) {
-                currReportSection = reportArray[reportIndex];
+            if (reportIndex < tokens.size()) {
+                currReportSection = tokens.word(reportIndex);
             } else {
                 decodedMetar.getCmnData().setDecodeStatus(
                         MetarDecoderUtil.DECODING_ERROR_METAR_STATUS);
@@ -0,0 +1,311 @@
+/**
+ * This software was developed and / or modified by NOAA/NWS/OCP/ASDT
+ **/
+package gov.noaa.nws.ocp.edex.metartoclimate.dao;
+
+import java.util.Arrays;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Words of a METAR report, kept as offsets into one filtered char[] of the
+ * report text. Control and punctuation characters are filtered out as by
+ * {@link MetarDecoderUtil#stripControlAndPunctuation(String)}, and the text is
+ * split on spaces with the same words as splitting it on
+ * {@link MetarDecoderUtil#WHITESPACE_PATTERN}: a report starting with a space
+ * has an empty first word, and a report of only spaces has no words.
+ *
+ * Words can be compared and matched in place. A word is only copied into a
+ * String when {@link #word(int)} is called, and that String is kept for later
+ * calls. Matchers are kept per pattern and reused, so one tokenizer should be
+ * reset and reused for each report decoded on a thread, and is not thread
+ * safe.
+ *
+ * Indexing a word that is not in the report throws
+ * {@link ArrayIndexOutOfBoundsException}, as indexing the split word array
+ * did.
+ *
+ * <pre>
+ *
+ * SOFTWARE HISTORY
+ *
+ * Date         Ticket#    Engineer    Description
+ * ------------ ---------- ----------- --------------------------
+ * 17 OCT 2026             agent       Initial creation.
+ * </pre>
+ *
+ * @author agent
+ */
+final class MetarTokenizer {
+
+    /**
+     * Words of the text matched by a reusable matcher of one pattern.
+     */
+    private final class WordMatcher implements CharSequence {
+
+        private final Matcher matcher;
+
+        private int start;
+
+        private int end;
+
+        private WordMatcher(Pattern pattern) {
+            matcher = pattern.matcher(this);
+        }
+
+        private boolean matches(int index) {
+            checkIndex(index);
+            start = starts[index];
+            end = ends[index];
+            return matcher.reset(this).matches();
+        }
+
+        private boolean matches(CharSequence sequence) {
+            return matcher.reset(sequence).matches();
+        }
+
+        @Override
+        public int length() {
+            return end - start;
+        }
+
+        @Override
+        public char charAt(int index) {
+            return text[start + index];
+        }
+
+        @Override
+        public CharSequence subSequence(int from, int to) {
+            return new String(text, start + from, to - from);
+        }
+
+        @Override
+        public String toString() {
+            return new String(text, start, end - start);
+        }
+    }
+
+    /**
+     * Filtered report text.
+     */
+    private char[] text = new char[128];
+
+    /**
+     * Start offset of each word.
+     */
+    private int[] starts = new int[32];
+
+    /**
+     * End offset of each word.
+     */
+    private int[] ends = new int[32];
+
+    /**
+     * Words already copied into Strings.
+     */
+    private String[] words = new String[32];
+
+    /**
+     * Number of words.
+     */
+    private int size;
+
+    private Pattern[] patterns = new Pattern[16];
+
+    private WordMatcher[] matchers = new WordMatcher[16];
+
+    private int matcherCount;
+
+    /**
+     * Tokenize the given report, replacing the previous one.
+     *
+     * @param report
+     *            report text.
+     */
+    void reset(String report) {
+        int length = 0;
+        int spaces = 0;
+        if (text.length < report.length()) {
+            text = new char[report.length()];
+        }
+        for (int i = 0; i < report.length(); i++) {
+            char c = report.charAt(i);
+            if (!MetarDecoderUtil.isStrippedCharacter(c)) {
+                if (c == ' ') {
+                    spaces++;
+                }
+                text[length++] = c;
+            }
+        }
+
+        if (starts.length <= spaces) {
+            starts = new int[spaces + 1];
+            ends = new int[spaces + 1];
+            words = new String[spaces + 1];
+        } else {
+            Arrays.fill(words, 0, size, null);
+        }
+
+        size = 0;
+        int wordStart = 0;
+        for (int i = 0; i < length; i++) {
+            if (text[i] == ' ') {
+                starts[size] = wordStart;
+                ends[size++] = i;
+                while (i + 1 < length && text[i + 1] == ' ') {
+                    i++;
+                }
+                wordStart = i + 1;
+            }
+        }
+        starts[size] = wordStart;
+        ends[size++] = length;
+
+        if (spaces > 0) {
+            // trailing empty words are dropped, as by a split
+            while (size > 0 && starts[size - 1] == ends[size - 1]) {
+                size--;
+            }
+        }
+    }
+
+    /**
+     * @return number of words in the report.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * @param index
+     * @return the word at the given index.
+     */
+    String word(int index) {
+        checkIndex(index);
+        String word = words[index];
+        if (word == null) {
+            word = new String(text, starts[index], ends[index] - starts[index]);
+            words[index] = word;
+        }
+        return word;
+    }
+
+    /**
+     * @param index
+     * @return length of the word at the given index.
+     */
+    int length(int index) {
+        checkIndex(index);
+        return ends[index] - starts[index];
+    }
+
+    /**
+     * @param index
+     * @return first character of the word at the given index, or 0 if the
+     *         word is empty.
+     */
+    char firstChar(int index) {
+        checkIndex(index);
+        return starts[index] < ends[index] ? text[starts[index]] : 0;
+    }
+
+    /**
+     * @param index
+     * @param other
+     * @return true if the word at the given index equals the given string, as
+     *         by {@link String#equals(Object)}.
+     */
+    boolean equals(int index, String other) {
+        return length(index) == other.length() && startsWith(index, other);
+    }
+
+    /**
+     * @param index
+     * @param other
+     * @return true if the word at the given index equals the given string
+     *         ignoring case, as by {@link String#equalsIgnoreCase(String)}.
+     */
+    boolean equalsIgnoreCase(int index, String other) {
+        if (length(index) != other.length()) {
+            return false;
+        }
+        int start = starts[index];
+        for (int i = 0; i < other.length(); i++) {
+            char c1 = text[start + i];
+            char c2 = other.charAt(i);
+            if (c1 == c2) {
+                continue;
+            }
+            char u1 = Character.toUpperCase(c1);
+            char u2 = Character.toUpperCase(c2);
+            if (u1 == u2 || Character.toLowerCase(u1) == Character
+                    .toLowerCase(u2)) {
+                continue;
+            }
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * @param index
+     * @param prefix
+     * @return true if the word at the given index starts with the given
+     *         prefix, as by {@link String#startsWith(String)}.
+     */
+    boolean startsWith(int index, String prefix) {
+        if (length(index) < prefix.length()) {
+            return false;
+        }
+        int start = starts[index];
+        for (int i = 0; i < prefix.length(); i++) {
+            if (text[start + i] != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param index
+     * @param pattern
+     * @return true if the whole word at the given index matches the given
+     *         pattern.
+     */
+    boolean matches(int index, Pattern pattern) {
+        return getMatcher(pattern).matches(index);
+    }
+
+    /**
+     * Match the given text with the reusable matcher of the given pattern.
+     *
+     * @param pattern
+     * @param sequence
+     * @return true if the whole of the given text matches the given pattern.
+     */
+    boolean matches(Pattern pattern, CharSequence sequence) {
+        return getMatcher(pattern).matches(sequence);
+    }
+
+    private WordMatcher getMatcher(Pattern pattern) {
+        for (int i = 0; i < matcherCount; i++) {
+            if (patterns[i] == pattern) {
+                return matchers[i];
+            }
+        }
+        if (matcherCount == patterns.length) {
+            patterns = Arrays.copyOf(patterns, matcherCount * 2);
+            matchers = Arrays.copyOf(matchers, matcherCount * 2);
+        }
+        WordMatcher matcher = new WordMatcher(pattern);
+        patterns[matcherCount] = pattern;
+        matchers[matcherCount++] = matcher;
+        return matcher;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new ArrayIndexOutOfBoundsException(index);
+        }
+    }
+}
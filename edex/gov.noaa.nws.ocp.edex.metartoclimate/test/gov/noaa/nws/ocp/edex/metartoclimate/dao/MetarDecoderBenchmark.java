@@ -0,0 +1,138 @@
+/**
+ * This software was developed and / or modified by NOAA/NWS/OCP/ASDT
+ **/
+package gov.noaa.nws.ocp.edex.metartoclimate.dao;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.TimeZone;
+
+import com.sun.management.ThreadMXBean;
+
+import gov.noaa.nws.ocp.common.dataplugin.climate.exception.ClimateMetarDecodingException;
+import gov.noaa.nws.ocp.edex.metartoclimate.dao.data.DecodedMetar;
+
+/**
+ * Micro-benchmark of
+ * {@link MetarDecoder#decodeMetar(DecodedMetar, ClimateReport)} over a corpus
+ * of METAR and SPECI reports, one per line: by default metar-corpus.txt next
+ * to this class, which holds US reports with remarks of every group the
+ * remarks decoder knows, and a few international, NIL, truncated and
+ * malformed reports. Reports that do not decode are counted as
+ * they are by the ingest, which logs and skips them.
+ *
+ * Prints decodes per second and bytes allocated per decode on the decoding
+ * thread, which includes the decoded METAR of each report. Logging is left as
+ * configured, and log messages built by the decoder are part of the cost, so
+ * run with logging at the ingest's level.
+ *
+ * Run with: java MetarDecoderBenchmark [corpus file] [iterations]
+ *
+ * <pre>
+ *
+ * SOFTWARE HISTORY
+ *
+ * Date         Ticket#    Engineer    Description
+ * ------------ ---------- ----------- --------------------------
+ * 17 OCT 2026             agent       Initial creation.
+ * </pre>
+ *
+ * @author agent
+ */
+public class MetarDecoderBenchmark {
+
+    private static final String CORPUS = "metar-corpus.txt";
+
+    private static final int WARMUP_ITERATIONS = 200;
+
+    private static final int PASSES = 3;
+
+    public static void main(String[] args) throws IOException {
+        List<String> lines = args.length > 0 && !args[0].isEmpty()
+                ? Files.readAllLines(Paths.get(args[0]),
+                        StandardCharsets.UTF_8)
+                : readCorpus();
+        int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 2000;
+
+        List<ClimateReport> reports = new ArrayList<>();
+        Calendar origin = Calendar.getInstance(TimeZone.getTimeZone("GMT"));
+        origin.clear();
+        origin.set(2017, Calendar.MARCH, 15, 19, 0);
+        for (String line : lines) {
+            if (!line.trim().isEmpty()) {
+                ClimateReport report = new ClimateReport();
+                report.setReport(line);
+                report.setOrigin(origin);
+                reports.add(report);
+            }
+        }
+
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory
+                .getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        int failed = decodeAll(reports);
+        System.out.printf("%d reports, %d not decoded%n", reports.size(),
+                failed);
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            decodeAll(reports);
+        }
+
+        long decodes = (long) reports.size() * iterations;
+        for (int pass = 0; pass < PASSES; pass++) {
+            long bytes = threads.getThreadAllocatedBytes(threadId);
+            long start = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                decodeAll(reports);
+            }
+            long nanos = System.nanoTime() - start;
+            bytes = threads.getThreadAllocatedBytes(threadId) - bytes;
+
+            System.out.printf(
+                    "pass %d: %.0f decodes/sec, %.0f bytes allocated/decode%n",
+                    pass + 1, decodes * 1e9 / nanos, (double) bytes / decodes);
+        }
+    }
+
+    /**
+     * @param reports
+     * @return number of reports that were not decoded.
+     */
+    private static int decodeAll(List<ClimateReport> reports) {
+        int failed = 0;
+        for (ClimateReport report : reports) {
+            DecodedMetar decodedMetar = DecodedMetar
+                    .getInitializedDecodedMetar();
+            try {
+                MetarDecoder.decodeMetar(decodedMetar, report);
+            } catch (ClimateMetarDecodingException | RuntimeException e) {
+                failed++;
+            }
+        }
+        return failed;
+    }
+
+    private static List<String> readCorpus() throws IOException {
+        List<String> lines = new ArrayList<>();
+        try (InputStream in = MetarDecoderBenchmark.class
+                .getResourceAsStream(CORPUS);
+                BufferedReader reader = new BufferedReader(
+                        new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lines.add(line);
+            }
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,115 @@
+/**
+ * This software was developed and / or modified by NOAA/NWS/OCP/ASDT
+ **/
+package gov.noaa.nws.ocp.edex.metartoclimate.dao;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+
+/**
+ * Checks that {@link MetarTokenizer} gives the words of splitting the
+ * filtered report text on {@link MetarDecoderUtil#WHITESPACE_PATTERN}, and
+ * that its comparisons agree with those of the String methods on each word.
+ *
+ * <pre>
+ *
+ * SOFTWARE HISTORY
+ *
+ * Date         Ticket#    Engineer    Description
+ * ------------ ---------- ----------- --------------------------
+ * 17 OCT 2026             agent       Initial creation.
+ * </pre>
+ *
+ * @author agent
+ */
+public class MetarTokenizerTest {
+
+    private static final String[] REPORTS = { "", " ", "   ", "\t\r\n",
+            "METAR", " METAR KOMA", "METAR KOMA ", "METAR  KOMA   151852Z  ",
+            "METAR\tKOMA\r\n151852Z", "METAR KOMA 151852Z RMK AO2 $=",
+            "SPECI K!OMA 15,1852Z 33014G24KT 1 1/2SM -SN +TSRA R10L/P6000FT",
+            "METAR \u0001KOMA\u007f 151852Z", "metar koma rmk ao2 slp\u00ff",
+            "METAR KOMA 151852Z RMK \u017fFC VIS 1/2 \u212aT \u0130S",
+            "  ; , . " };
+
+    private static final String[] PROBES = { "", "METAR", "KOMA", "RMK",
+            "AO2", "SFC", "KT", "TS", "$", "1/2SM", "-SN", "+TSRA", "R",
+            "R10L/P6000FT", "koma", "IS" };
+
+    private static final Pattern[] PATTERNS = {
+            MetarDecoderUtil.STATION_ID_PATTERN,
+            MetarDecoderUtil.DATETIME_PATTERN,
+            MetarDecoderUtil.RVR_PATTERN,
+            MetarDecoderUtil.RECENT_WX_PATTERN,
+            MetarDecoderUtil.FRACTION_PATTERN };
+
+    @Test
+    public void testWordsAsSplit() {
+        MetarTokenizer tokens = new MetarTokenizer();
+        for (String report : REPORTS) {
+            tokens.reset(report);
+            String[] expected = MetarDecoderUtil.WHITESPACE_PATTERN.split(
+                    MetarDecoderUtil.stripControlAndPunctuation(report));
+            String[] actual = new String[tokens.size()];
+            for (int i = 0; i < actual.length; i++) {
+                actual[i] = tokens.word(i);
+                assertEquals(actual[i].length(), tokens.length(i));
+            }
+            assertArrayEquals("[" + report + "]", expected, actual);
+        }
+    }
+
+    @Test
+    public void testComparisonsAsString() {
+        MetarTokenizer tokens = new MetarTokenizer();
+        for (String report : REPORTS) {
+            tokens.reset(report);
+            for (int i = 0; i < tokens.size(); i++) {
+                String word = tokens.word(i);
+                for (String probe : PROBES) {
+                    String message = "[" + word + "] [" + probe + "]";
+                    assertEquals(message, word.equals(probe),
+                            tokens.equals(i, probe));
+                    assertEquals(message, word.equalsIgnoreCase(probe),
+                            tokens.equalsIgnoreCase(i, probe));
+                    assertEquals(message, word.startsWith(probe),
+                            tokens.startsWith(i, probe));
+                }
+                for (Pattern pattern : PATTERNS) {
+                    assertEquals(word + " " + pattern,
+                            pattern.matcher(word).matches(),
+                            tokens.matches(i, pattern));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testReuseForShorterReport() {
+        MetarTokenizer tokens = new MetarTokenizer();
+        tokens.reset("METAR KOMA 151852Z 33014G24KT 10SM FEW045 M02/M12 A3021");
+        assertEquals("FEW045", tokens.word(5));
+        tokens.reset("SPECI KDSM");
+        assertEquals(2, tokens.size());
+        assertEquals("SPECI", tokens.word(0));
+        assertEquals("KDSM", tokens.word(1));
+    }
+
+    @Test(expected = ArrayIndexOutOfBoundsException.class)
+    public void testWordPastEnd() {
+        MetarTokenizer tokens = new MetarTokenizer();
+        tokens.reset("METAR KOMA");
+        tokens.word(2);
+    }
+
+    @Test(expected = ArrayIndexOutOfBoundsException.class)
+    public void testNoWords() {
+        MetarTokenizer tokens = new MetarTokenizer();
+        tokens.reset("   ");
+        tokens.equalsIgnoreCase(0, "METAR");
+    }
+}
@@ -3,9 +3,20 @@
  **/
 package gov.noaa.nws.ocp.edex.plugin.climate.asos;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import com.raytheon.uf.common.status.IUFStatusHandler;
+import com.raytheon.uf.common.status.UFStatus.Priority;
+
 import gov.noaa.nws.ocp.common.dataplugin.climate.asos.ClimateASOSMessageRecord;
+import gov.noaa.nws.ocp.common.dataplugin.climate.parameter.ParameterFormatClimate;
 
 /**
  * Abstract class of ASOS message parser
@@ -20,6 +31,7 @@ import gov.noaa.nws.ocp.common.dataplugin.climate.asos.ClimateASOSMessageRecord;
  * 05 MAY 2017  33104      amoore      Minor clean up.
  * 07 SEP 2017  37725      amoore      Fix time representations in SQL (needs :).
  * 03 NOV 2017  36736      amoore      Make several parts and logic static.
+ * 17 OCT 2026             agent       Bind named groups to setters once.
  * </pre>
  *
  * @author pwang
@@ -37,6 +49,202 @@ public abstract class ASOSMessageParser {
     protected static final Pattern GROUP_NAME_PATTERN = Pattern
             .compile("\\(\\?<([a-zA-Z][a-zA-Z0-9]*)>");
 
+    /**
+     * Assigns the value captured by one named group to a record.
+     *
+     * @param <T>
+     *            record type.
+     */
+    @FunctionalInterface
+    protected interface GroupSetter<T extends ClimateASOSMessageRecord> {
+        /**
+         * @param record
+         * @param value
+         *            non-null captured value.
+         */
+        void set(T record, String value);
+    }
+
+    /**
+     * Named group of a message pattern, with its group index and the setter
+     * for its value.
+     *
+     * @param <T>
+     *            record type.
+     */
+    protected static final class GroupBinding<T extends ClimateASOSMessageRecord> {
+        private final String name;
+
+        private final int index;
+
+        private final GroupSetter<T> setter;
+
+        private GroupBinding(String name, int index, GroupSetter<T> setter) {
+            this.name = name;
+            this.index = index;
+            this.setter = setter;
+        }
+    }
+
+    /**
+     * Bind each named group of the pattern to its setter, by group index, so
+     * that parsing a message needs no lookups by name.
+     *
+     * @param pattern
+     *            compiled message pattern.
+     * @param setters
+     *            setter for each named group of the pattern.
+     * @return the bindings, in order of the groups in the pattern.
+     * @throws IllegalStateException
+     *             if a named group has no setter or a setter has no group.
+     */
+    protected static <T extends ClimateASOSMessageRecord> List<GroupBinding<T>> bindGroups(
+            Pattern pattern, Map<String, GroupSetter<T>> setters) {
+        Map<String, Integer> indices = getNamedGroupIndices(pattern);
+
+        List<GroupBinding<T>> bindings = new ArrayList<>(indices.size());
+        for (Map.Entry<String, Integer> group : indices.entrySet()) {
+            GroupSetter<T> setter = setters.get(group.getKey());
+            if (setter == null) {
+                throw new IllegalStateException("No setter for ASOS group: ["
+                        + group.getKey() + "]");
+            }
+            bindings.add(new GroupBinding<>(group.getKey(), group.getValue(),
+                    setter));
+        }
+
+        if (bindings.size() != setters.size()) {
+            List<String> unused = new ArrayList<>(setters.keySet());
+            unused.removeAll(indices.keySet());
+            throw new IllegalStateException("No ASOS group for setters: ["
+                    + Arrays.toString(unused.toArray()) + "]");
+        }
+
+        return Collections.unmodifiableList(bindings);
+    }
+
+    /**
+     * Java 8 has no API for the index of a named group, so count the capturing
+     * groups of the regex. Group indices are assigned by the position of the
+     * opening parenthesis, counting both unnamed and named capturing groups.
+     *
+     * @param pattern
+     * @return index of each named group, in order of the groups in the
+     *         pattern.
+     * @throws IllegalStateException
+     *             if the count does not agree with the compiled pattern.
+     */
+    private static Map<String, Integer> getNamedGroupIndices(Pattern pattern) {
+        String regex = pattern.pattern();
+        Map<String, Integer> indices = new LinkedHashMap<>();
+        int groupCount = 0;
+        boolean inClass = false;
+
+        for (int i = 0; i < regex.length(); i++) {
+            char c = regex.charAt(i);
+            if (c == '\\') {
+                // skip escaped character
+                i++;
+            } else if (inClass) {
+                inClass = c != ']';
+            } else if (c == '[') {
+                inClass = true;
+            } else if (c == '(') {
+                if (i + 1 < regex.length() && regex.charAt(i + 1) == '?') {
+                    /*
+                     * Named group is (?<name>, while (?<= and (?<! are
+                     * look-behinds and (?: and others do not capture.
+                     */
+                    Matcher nameMatcher = GROUP_NAME_PATTERN.matcher(regex)
+                            .region(i, regex.length());
+                    if (nameMatcher.lookingAt()) {
+                        groupCount++;
+                        indices.put(nameMatcher.group(1), groupCount);
+                    }
+                } else {
+                    groupCount++;
+                }
+            }
+        }
+
+        if (groupCount != pattern.matcher("").groupCount()) {
+            throw new IllegalStateException("Counted [" + groupCount
+                    + "] groups in pattern with ["
+                    + pattern.matcher("").groupCount() + "] groups: ["
+                    + regex + "]");
+        }
+
+        return indices;
+    }
+
+    /**
+     * Assign the values captured by a matched message to the record. Groups
+     * without a value keep the record default.
+     *
+     * @param matcher
+     *            matcher that matched the message, or null if the message did
+     *            not match.
+     * @param record
+     *            record with default values.
+     * @param bindings
+     * @param message
+     *            the message, for logging.
+     * @param logger
+     */
+    protected static <T extends ClimateASOSMessageRecord> void assignGroups(
+            Matcher matcher, T record, List<GroupBinding<T>> bindings,
+            String message, IUFStatusHandler logger) {
+        boolean debug = logger.isPriorityEnabled(Priority.DEBUG);
+        List<String> missingGroups = new ArrayList<>();
+
+        for (GroupBinding<T> binding : bindings) {
+            String value = matcher == null ? null
+                    : matcher.group(binding.index);
+
+            if (value == null) {
+                missingGroups.add(binding.name);
+                // no need to set missing values since default
+                // constructor took care of that
+                continue;
+            } else if (debug) {
+                logger.debug("Raw value for ASOS group name: [" + binding.name
+                        + "] is: [" + value + "]");
+            }
+
+            try {
+                binding.setter.set(record, value);
+            } catch (NumberFormatException e) {
+                logger.error("Error parsing number for group: [" + binding.name
+                        + "] with value: [" + value + "] in ASOS message: ["
+                        + message + "]", e);
+            } catch (RuntimeException e) {
+                logger.error("Unexpected exception for group: [" + binding.name
+                        + "] with value: [" + value + "] in ASOS message: ["
+                        + message + "]", e);
+            }
+        }
+
+        if (!missingGroups.isEmpty()) {
+            logger.warn("No values given for ASOS group names: ["
+                    + Arrays.toString(missingGroups.toArray())
+                    + "] in ASOS message: [" + message + "]");
+        }
+    }
+
+    /**
+     * @param value
+     *            captured value, possibly the trace symbol.
+     * @param divisor
+     *            units of the reported value, such as 100 for hundredths.
+     * @return the value in whole units, or -1 for trace.
+     */
+    protected static float parseTraceable(String value, float divisor) {
+        if (value.equals(ParameterFormatClimate.TRACE_SYMBOL)) {
+            return -1;
+        }
+        return Float.parseFloat(value) / divisor;
+    }
+
     /**
      * parse must be implemented
      * 
@@ -16,6 +16,8 @@ import com.raytheon.edex.esb.Headers;
 import com.raytheon.edex.exception.DecoderException;
 import com.raytheon.uf.common.status.IUFStatusHandler;
 import com.raytheon.uf.common.status.UFStatus;
+import com.raytheon.uf.common.time.util.ITimer;
+import com.raytheon.uf.common.time.util.TimeUtil;
 import com.raytheon.uf.common.wmo.WMOHeader;
 
 import gov.noaa.nws.ocp.common.dataplugin.climate.asos.ClimateASOSMessageRecord;
@@ -39,6 +41,8 @@ import gov.noaa.nws.ocp.edex.plugin.climate.asos.dao.ClimateASOSMessageDAO;
  * 07 SEP 2017  37754      amoore    Exceptions instead of boolean returns.
  * 31 OCT 2017  40231      amoore    Clean up of MSM/DSM parsing and records. Better
  *                                   logging. Get rid of serialization tags.
+ * 17 OCT 2026             agent     Hold no per-file state. Parse messages as
+ *                                   they are read. Store records in batches.
  * </pre>
  *
  * @author pwang
@@ -62,38 +66,48 @@ public class ClimateASOSMessageDecoder {
 
     private static final Pattern MSG_END_PATTERN = Pattern.compile(MSG_END);
 
-    private ClimateASOSMessageDAO dao;
+    /**
+     * Maximum number of records stored in one batch.
+     */
+    private static final int MAX_BATCH_RECORDS = 100;
 
-    private ClimateIngestConfigurationManager cicm;
+    private final ClimateASOSMessageDAO dao;
 
-    /** The WMO header */
-    private WMOHeader header;
+    private final ClimateIngestConfigurationManager cicm;
 
     /**
      * Constructor.
      */
     public ClimateASOSMessageDecoder() {
+        ClimateASOSMessageDAO newDao = null;
+        ClimateIngestConfigurationManager newCicm = null;
         try {
-            dao = new ClimateASOSMessageDAO();
-            cicm = ClimateIngestConfigurationManager.getInstance();
+            newDao = new ClimateASOSMessageDAO();
+            newCicm = ClimateIngestConfigurationManager.getInstance();
 
             logger.debug("Successfully constructed ASOS decoder.");
         } catch (Exception e) {
             logger.error("ClimateASOSMessageDecoder creation failed", e);
         }
+        dao = newDao;
+        cicm = newCicm;
     }
 
     /**
-     * @param inputData
+     * Decode the DSM and MSM messages of the file and store them. Messages are
+     * parsed as they are read and stored in batches. The decoder holds no
+     * state between calls, so files can be decoded concurrently.
+     * 
+     * @param ingestFile
      * @param headers
-     * @return
      * @throws DecoderException
      */
     public void decode(File ingestFile, Headers headers)
             throws DecoderException {
 
         String oneline = "";
-        List<String> messageList = new ArrayList<String>();
+        List<ClimateASOSMessageRecord> records = new ArrayList<>();
+        int stored = 0;
 
         ClimateIngestFilterXML theFilter = null;
         ArrayList<ClimateIngestFilterXML> filters = cicm.getIngestFilters();
@@ -104,10 +118,15 @@ public class ClimateASOSMessageDecoder {
             theFilter = filters.get(0);
         }
 
+        ITimer timer = TimeUtil.getTimer();
+        timer.start();
+
         try (BufferedReader br = new BufferedReader(
                 new FileReader(ingestFile))) {
             logger.debug("Decoding ASOS file: [" + ingestFile.getName() + "]");
 
+            // The WMO header
+            WMOHeader header = null;
             StringBuilder sb = null;
             while ((oneline = br.readLine()) != null) {
                 // Trim spaces of the line
@@ -131,7 +150,7 @@ public class ClimateASOSMessageDecoder {
                         // no need continue
                         logger.info("DSM / MSM data from the site: ["
                                 + header.getCccc() + "] will not be decoded!");
-                        return;
+                        break;
                     }
 
                 } else if (MSG_BEGIN_PATTERN.matcher(line).lookingAt()) {
@@ -145,7 +164,8 @@ public class ClimateASOSMessageDecoder {
                         // MSM from the station is not ingested
                         logger.info("DSM / MSM data from the station: ["
                                 + station.trim() + "] under site: ["
-                                + header.getCccc() + "] will not be decoded!");
+                                + (header == null ? null : header.getCccc())
+                                + "] will not be decoded!");
                         sb = null;
                     }
 
@@ -154,11 +174,19 @@ public class ClimateASOSMessageDecoder {
                     line = line.substring(0, line.indexOf("="));
                     if (sb != null) {
                         sb.append(line);
-                        // add to message list
-                        messageList.add(sb.toString());
                         logger.debug(
                                 "New ASOS message: [" + sb.toString() + "]");
 
+                        ClimateASOSMessageRecord record = parseMessage(
+                                sb.toString(), ingestFile);
+                        if (record != null) {
+                            records.add(record);
+                            if (records.size() >= MAX_BATCH_RECORDS) {
+                                stored += storeRecords(records);
+                                records.clear();
+                            }
+                        }
+
                         // restart message builder
                         sb = null;
                     }
@@ -178,41 +206,76 @@ public class ClimateASOSMessageDecoder {
         } catch (IOException e) {
             throw new DecoderException(
                     "I/O exception for reading " + ingestFile, e);
+        } finally {
+            // Persist what was parsed before any error
+            stored += storeRecords(records);
         }
 
-        // Parsing each message
-        List<ClimateASOSMessageRecord> records = new ArrayList<ClimateASOSMessageRecord>();
+        timer.stop();
+        logger.info("Stored [" + stored + "] ASOS records from file: ["
+                + ingestFile.getName() + "] in [" + timer.getElapsedTime()
+                + "] ms.");
+    }
 
-        for (String message : messageList) {
-            logger.debug("Decoding ASOS message: [" + message + "]");
+    /**
+     * @param message
+     * @param ingestFile
+     *            file of the message, for logging.
+     * @return the parsed record, or null if the parser returned none.
+     * @throws DecoderException
+     *             if there is no parser for the message.
+     */
+    private static ClimateASOSMessageRecord parseMessage(String message,
+            File ingestFile) throws DecoderException {
+        logger.debug("Decoding ASOS message: [" + message + "]");
 
-            ASOSMessageParser parser = ASOSMessageParserFactory
-                    .getASOSMessageParser(message);
-            if (null == parser) {
-                throw new DecoderException(
-                        "No ASOS mesage parser for the message: [" + message
-                                + "] from file: [" + ingestFile.getName()
-                                + "]");
-            }
+        ASOSMessageParser parser = ASOSMessageParserFactory
+                .getASOSMessageParser(message);
+        if (null == parser) {
+            throw new DecoderException(
+                    "No ASOS mesage parser for the message: [" + message
+                            + "] from file: [" + ingestFile.getName() + "]");
+        }
 
-            ClimateASOSMessageRecord record = parser.parse(message);
+        ClimateASOSMessageRecord record = parser.parse(message);
 
-            if (record == null) {
-                logger.error("The ASOS parser returned no records for file: ["
-                        + ingestFile.getName() + "].");
-            } else {
-                records.add(record);
-            }
+        if (record == null) {
+            logger.error("The ASOS parser returned no records for file: ["
+                    + ingestFile.getName() + "].");
+        }
+        return record;
+    }
+
+    /**
+     * Persist the records to the database as one batch. If the batch fails,
+     * or does not update one row per record, store the records one at a time
+     * so that one bad record does not keep the others out.
+     * 
+     * @param records
+     * @return number of records stored.
+     */
+    private int storeRecords(List<ClimateASOSMessageRecord> records) {
+        if (records.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            return dao.storeToTable(records);
+        } catch (Exception e) {
+            logger.warn("Error storing batch of [" + records.size()
+                    + "] ASOS records. Storing each record separately.", e);
         }
 
-        // Persist to the database
+        int stored = 0;
         for (ClimateASOSMessageRecord record : records) {
             try {
                 dao.storeToTable(record);
+                stored++;
             } catch (Exception e) {
                 logger.error("Error storing ASOS record: [" + record.toString()
                         + "]", e);
             }
         }
+        return stored;
     }
 }
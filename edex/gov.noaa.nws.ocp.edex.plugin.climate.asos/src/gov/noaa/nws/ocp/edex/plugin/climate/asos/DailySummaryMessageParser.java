@@ -3,13 +3,9 @@
  **/
 package gov.noaa.nws.ocp.edex.plugin.climate.asos;
 
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -47,6 +43,8 @@ import gov.noaa.nws.ocp.common.dataplugin.climate.parameter.ParameterFormatClima
  * 31 OCT 2017  40231      amoore      Clean up of MSM/DSM parsing and records. Better
  *                                     logging. Get rid of serialization tags.
  * 03 NOV 2017  36736      amoore      Make several parts and logic static.
+ * 17 OCT 2026             agent       Compile pattern once. Bind groups to
+ *                                     setters once instead of by name.
  * </pre>
  *
  * @author pwang
@@ -182,18 +180,140 @@ public class DailySummaryMessageParser extends ASOSMessageParser {
             + "(?:/(?<remarks>((?:ET|Epr|EP|EW|ES|ESw|ESd|EC)\\s?){1,8}))?";
 
     /**
-     * Set of named groups.
+     * Compiled DSM pattern.
      */
-    private static final Set<String> NAMED_GROUPS = new HashSet<>();
+    private static final Pattern DSM_PATTERN = Pattern.compile(DSMRAW_REGEX);
 
     /**
-     * Build name set for named groups.
+     * Number of hourly precip groups.
+     */
+    private static final int NUM_HOURLY_PRECIP = 24;
+
+    /**
+     * Number of weather symbol groups.
+     */
+    private static final int NUM_WX_SYMBOLS = 5;
+
+    /**
+     * Setters of the named groups, bound to their group indices.
+     */
+    private static final List<GroupBinding<DailySummaryRecord>> GROUP_BINDINGS;
+
+    /**
+     * Build setter for each named group.
      */
     static {
-        Matcher m = GROUP_NAME_PATTERN.matcher(DSMRAW_REGEX);
-        while (m.find()) {
-            NAMED_GROUPS.add(m.group(1));
+        Map<String, GroupSetter<DailySummaryRecord>> setters = new HashMap<>();
+
+        setters.put("stationCode", DailySummaryRecord::setStationCode);
+        // the only boolean field
+        setters.put("correction", (dsm, value) -> dsm.setCorrection(true));
+        setters.put("messageValidTime", (dsm, value) -> dsm
+                .setMessageValidTime(Short.parseShort(value)));
+        setters.put("day",
+                (dsm, value) -> dsm.setDay(Short.parseShort(value)));
+        setters.put("month",
+                (dsm, value) -> dsm.setMonth(Short.parseShort(value)));
+        setters.put("maxT",
+                (dsm, value) -> dsm.setMaxT(Short.parseShort(value)));
+        setters.put("maxTTime",
+                (dsm, value) -> dsm.setMaxTTime(adjustTimeString(value)));
+        setters.put("minT",
+                (dsm, value) -> dsm.setMinT(Short.parseShort(value)));
+        setters.put("minTTime",
+                (dsm, value) -> dsm.setMinTTime(adjustTimeString(value)));
+        setters.put("maxTDaytime",
+                (dsm, value) -> dsm.setMaxTDaytime(Short.parseShort(value)));
+        setters.put("minTNight",
+                (dsm, value) -> dsm.setMinTNight(Short.parseShort(value)));
+        setters.put("minSeaLevelPressure", (dsm, value) -> {
+            /*
+             * maps to SLPmm, reported to the nearest 0.01 inches of Hg, based
+             * on legacy C++, should be in range of 25.00 to 34.00
+             */
+            float val = Float.parseFloat(value);
+            dsm.setMinSeaLevelPressure(
+                    (val / 100.0f) + (val < 500 ? 30.0f : 20.0f));
+        });
+        setters.put("minSeaLevelPressureTime", (dsm, value) -> dsm
+                .setMinSeaLevelPressureTime(adjustTimeString(value)));
+
+        // all precipitation are in hundredths, so divide by 100 here
+        setters.put("totalPrecip",
+                (dsm, value) -> dsm.setTotalPrecip(parseTraceable(value, 100)));
+        for (int i = 0; i < NUM_HOURLY_PRECIP; i++) {
+            // per review comments, hourly precip is an array
+            final int index = i;
+            setters.put("hourlyPrecip" + (i + 1), (dsm, value) -> {
+                dsm.getHourlyPrecip()[index] = parseTraceable(value, 100);
+            });
         }
+
+        /*
+         * maps to FaFaFa, reported in tenths of miles per hour (mph)
+         */
+        setters.put("windSpeed2MinAvg", (dsm, value) -> dsm
+                .setWindSpeed2MinAvg(Float.parseFloat(value) / 10));
+        /*
+         * maps to dd, Direction of the 2-minute fastest wind speed, reported
+         * in tens of degrees
+         */
+        setters.put("windDirection2MinFastest",
+                (dsm, value) -> dsm.setWindDirection2MinFastest(
+                        (short) (Short.parseShort(value) * 10)));
+        setters.put("windSpeed2MinFastest", (dsm, value) -> dsm
+                .setWindSpeed2MinFastest(Short.parseShort(value)));
+        setters.put("windSpeed2MinFastestTime", (dsm, value) -> dsm
+                .setWindSpeed2MinFastestTime(adjustTimeString(value)));
+        /*
+         * maps to DD, Direction of the day's peak wind, reported in tens of
+         * degrees
+         */
+        setters.put("peakWindDirection", (dsm, value) -> dsm
+                .setPeakWindDirection((short) (Short.parseShort(value) * 10)));
+        setters.put("peakWindSpeed",
+                (dsm, value) -> dsm.setPeakWindSpeed(Short.parseShort(value)));
+        setters.put("peakWindTime",
+                (dsm, value) -> dsm.setPeakWindTime(adjustTimeString(value)));
+
+        for (int i = 0; i < NUM_WX_SYMBOLS; i++) {
+            // per review comments, wx symbols is an array
+            final int index = i;
+            setters.put("wxSymbol" + (i + 1), (dsm, value) -> {
+                // wxSymbol 'X' need to be converted to '10'
+                dsm.getWxSymbol()[index] = value.equals("X") ? 10
+                        : Short.parseShort(value);
+            });
+        }
+
+        setters.put("sunshineMinutes", (dsm, value) -> dsm
+                .setSunshineMinutes(Short.parseShort(value)));
+        setters.put("sunshinePercent", (dsm, value) -> dsm
+                .setSunshinePercent(Short.parseShort(value)));
+        /*
+         * maps to SwSwSw, reported in tenths of an inch (when available or
+         * augmented)
+         */
+        setters.put("snowAmount",
+                (dsm, value) -> dsm.setSnowAmount(parseTraceable(value, 10)));
+        setters.put("depthOfSnow", (dsm, value) -> dsm.setDepthOfSnow(
+                value.equals(ParameterFormatClimate.TRACE_SYMBOL) ? -1
+                        : Short.parseShort(value)));
+        /*
+         * maps to CsCs, Average daily sky cover from sunrise to sunset, in
+         * tenths of sky cover
+         */
+        setters.put("skyCoverDaytime", (dsm, value) -> dsm
+                .setSkyCoverDaytime(Float.parseFloat(value) / 10));
+        /*
+         * maps to CmCm, Average daily sky cover, midnight to midnight LST, in
+         * tenths of sky cover
+         */
+        setters.put("skyCoverWholeDay", (dsm, value) -> dsm
+                .setSkyCoverWholeDay(Float.parseFloat(value) / 10));
+        setters.put("remarks", DailySummaryRecord::setRemarks);
+
+        GROUP_BINDINGS = bindGroups(DSM_PATTERN, setters);
     }
 
     /**
@@ -204,212 +324,19 @@ public class DailySummaryMessageParser extends ASOSMessageParser {
 
     @Override
     public DailySummaryRecord parse(String message) {
-        Pattern dsmPattern = Pattern.compile(DSMRAW_REGEX);
-        final Matcher matcher = dsmPattern.matcher(message);
-
-        Map<String, String> namedAsosMap = new HashMap<>();
+        Matcher matcher = DSM_PATTERN.matcher(message);
 
-        if (matcher.matches()) {
-            /*
-             * ASOS message matches the DMS pattern. Assign values.
-             */
-            for (String groupName : NAMED_GROUPS) {
-                if (matcher.group(groupName) != null) {
-                    namedAsosMap.put(groupName, matcher.group(groupName));
-                }
-            }
-        } else {
+        if (!matcher.matches()) {
             logger.error("Message: [" + message
                     + "] does not match expected pattern: [" + DSMRAW_REGEX
                     + "]");
+            matcher = null;
         }
 
         // constructor sets default values
         DailySummaryRecord dsm = new DailySummaryRecord(message);
 
-        List<String> missingGroups = new ArrayList<>();
-
-        // station code
-        for (String groupName : NAMED_GROUPS) {
-            // get value from message
-            String value = namedAsosMap.get(groupName);
-
-            if (value == null) {
-                missingGroups.add(groupName);
-                // no need to set missing values since default
-                // constructor took care of that
-                continue;
-            } else {
-                logger.debug("Raw value for ASOS group name: [" + groupName
-                        + "] is: [" + value + "]");
-            }
-
-            try {
-                if (groupName.equalsIgnoreCase("stationCode")) {
-                    dsm.setStationCode(value);
-                } else if (groupName.equalsIgnoreCase("correction")) {
-                    // the only boolean field
-                    dsm.setCorrection(true);
-                } else if (groupName.equalsIgnoreCase("messageValidTime")) {
-                    dsm.setMessageValidTime(Short.parseShort(value));
-                } else if (groupName.equalsIgnoreCase("day")) {
-                    dsm.setDay(Short.parseShort(value));
-                } else if (groupName.equalsIgnoreCase("month")) {
-                    dsm.setMonth(Short.parseShort(value));
-                } else if (groupName.equalsIgnoreCase("maxT")) {
-                    dsm.setMaxT(Short.parseShort(value));
-                } else if (groupName.equalsIgnoreCase("maxTTime")) {
-                    dsm.setMaxTTime(adjustTimeString(value));
-                } else if (groupName.equalsIgnoreCase("minT")) {
-                    dsm.setMinT(Short.parseShort(value));
-                } else if (groupName.equalsIgnoreCase("minTTime")) {
-                    dsm.setMinTTime(adjustTimeString(value));
-                } else if (groupName.equalsIgnoreCase("maxTDaytime")) {
-                    dsm.setMaxTDaytime(Short.parseShort(value));
-                } else if (groupName.equalsIgnoreCase("minTNight")) {
-                    dsm.setMinTNight(Short.parseShort(value));
-                } else if (groupName.equalsIgnoreCase("minSeaLevelPressure")) {
-                    /*
-                     * maps to SLPmm, reported to the nearest 0.01 inches of Hg,
-                     * based on legacy C++, should be in range of 25.00 to 34.00
-                     */
-                    float val = Float.parseFloat(value);
-                    dsm.setMinSeaLevelPressure(
-                            (val / 100.0f) + (val < 500 ? 30.0f : 20.0f));
-                } else if (groupName
-                        .equalsIgnoreCase("minSeaLevelPressureTime")) {
-                    dsm.setMinSeaLevelPressureTime(adjustTimeString(value));
-                } else if (groupName.toLowerCase().contains("precip")) {
-                    /*
-                     * all precipitation are in hundredths, so divide by 100
-                     * here
-                     */
-                    float val;
-                    if (value.equals(ParameterFormatClimate.TRACE_SYMBOL)) {
-                        val = -1;
-                    } else {
-                        val = Float.parseFloat(value) / 100;
-                    }
-
-                    if (groupName.equalsIgnoreCase("totalPrecip")) {
-                        dsm.setTotalPrecip(val);
-                    } else if (groupName.startsWith("hourlyPrecip")) {
-                        // per review comments, hourly precip is an array
-                        int index = Integer.parseInt(
-                                groupName.replace("hourlyPrecip", "")) - 1;
-
-                        dsm.getHourlyPrecip()[index] = val;
-                    } else {
-                        logger.error("Unhandled DSM precip group: [" + groupName
-                                + "] with value: [" + val + "]");
-                    }
-                } else if (groupName.equalsIgnoreCase("windSpeed2MinAvg")) {
-                    /*
-                     * maps to FaFaFa, reported in tenths of miles per hour
-                     * (mph)
-                     */
-                    dsm.setWindSpeed2MinAvg(Float.parseFloat(value) / 10);
-                } else if (groupName
-                        .equalsIgnoreCase("windDirection2MinFastest")) {
-                    /*
-                     * maps to dd, Direction of the 2-minute fastest wind speed,
-                     * reported in tens of degrees
-                     */
-                    dsm.setWindDirection2MinFastest(
-                            (short) (Short.parseShort(value) * 10));
-                } else if (groupName.equalsIgnoreCase("windSpeed2MinFastest")) {
-                    dsm.setWindSpeed2MinFastest(Short.parseShort(value));
-                } else if (groupName
-                        .equalsIgnoreCase("windSpeed2MinFastestTime")) {
-                    dsm.setWindSpeed2MinFastestTime(adjustTimeString(value));
-                } else if (groupName.equalsIgnoreCase("peakWindDirection")) {
-                    /*
-                     * maps to DD, Direction of the day's peak wind, reported in
-                     * tens of degrees
-                     */
-                    dsm.setPeakWindDirection(
-                            (short) (Short.parseShort(value) * 10));
-                } else if (groupName.equalsIgnoreCase("peakWindSpeed")) {
-                    dsm.setPeakWindSpeed(Short.parseShort(value));
-                } else if (groupName.equalsIgnoreCase("peakWindTime")) {
-                    dsm.setPeakWindTime(adjustTimeString(value));
-                } else if (groupName.startsWith("wxSymbol")) {
-                    /*
-                     * wxSymbol 'X' need to be converted to '10'
-                     */
-                    short val;
-                    if (value.equals("X")) {
-                        val = 10;
-                    } else {
-                        val = Short.parseShort(value);
-                    }
-
-                    // per review comments, wx symbols is an array
-                    int index = Integer
-                            .parseInt(groupName.replace("wxSymbol", "")) - 1;
-
-                    dsm.getWxSymbol()[index] = val;
-                } else if (groupName.equalsIgnoreCase("sunshineMinutes")) {
-                    dsm.setSunshineMinutes(Short.parseShort(value));
-                } else if (groupName.equalsIgnoreCase("sunshinePercent")) {
-                    dsm.setSunshinePercent(Short.parseShort(value));
-                } else if (groupName.equalsIgnoreCase("snowAmount")) {
-                    /*
-                     * maps to SwSwSw, reported in tenths of an inch (when
-                     * available or augmented)
-                     */
-                    float val;
-                    if (value.equals(ParameterFormatClimate.TRACE_SYMBOL)) {
-                        val = -1;
-                    } else {
-                        val = Float.parseFloat(value) / 10;
-                    }
-
-                    dsm.setSnowAmount(val);
-                } else if (groupName.equalsIgnoreCase("depthOfSnow")) {
-                    short val;
-                    if (value.equals(ParameterFormatClimate.TRACE_SYMBOL)) {
-                        val = -1;
-                    } else {
-                        val = Short.parseShort(value);
-                    }
-
-                    dsm.setDepthOfSnow(val);
-                } else if (groupName.equalsIgnoreCase("skyCoverDaytime")) {
-                    /*
-                     * maps to CsCs, Average daily sky cover from sunrise to
-                     * sunset, in tenths of sky cover
-                     */
-                    dsm.setSkyCoverDaytime(Float.parseFloat(value) / 10);
-                } else if (groupName.equalsIgnoreCase("skyCoverWholeDay")) {
-                    /*
-                     * maps to CmCm, Average daily sky cover, midnight to
-                     * midnight LST, in tenths of sky cover
-                     */
-                    dsm.setSkyCoverWholeDay(Float.parseFloat(value) / 10);
-                } else if (groupName.equalsIgnoreCase("remarks")) {
-                    dsm.setRemarks(value);
-                } else {
-                    logger.error("Unhandled DSM group: [" + groupName
-                            + "] with value: [" + value + "] in ASOS message: ["
-                            + message + "]");
-                }
-            } catch (NumberFormatException e) {
-                logger.error("Error parsing number for group: [" + groupName
-                        + "] with value: [" + value + "] in ASOS message: ["
-                        + message + "]", e);
-            } catch (RuntimeException e) {
-                logger.error("Unexpected exception for group: [" + groupName
-                        + "] with value: [" + value + "] in ASOS message: ["
-                        + message + "]", e);
-            }
-        }
-
-        if (!missingGroups.isEmpty()) {
-            logger.warn("No values given for ASOS group names: ["
-                    + Arrays.toString(missingGroups.toArray())
-                    + "] in ASOS message: [" + message + "]");
-        }
+        assignGroups(matcher, dsm, GROUP_BINDINGS, message, logger);
 
         return dsm;
     }
@@ -3,13 +3,10 @@
  **/
 package gov.noaa.nws.ocp.edex.plugin.climate.asos;
 
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.function.BiConsumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -18,7 +15,6 @@ import com.raytheon.uf.common.status.UFStatus;
 
 import gov.noaa.nws.ocp.common.dataplugin.climate.asos.ClimateASOSMessageRecord;
 import gov.noaa.nws.ocp.common.dataplugin.climate.asos.MonthlySummaryRecord;
-import gov.noaa.nws.ocp.common.dataplugin.climate.parameter.ParameterFormatClimate;
 
 /**
  * MSM Message Parser
@@ -46,6 +42,8 @@ import gov.noaa.nws.ocp.common.dataplugin.climate.parameter.ParameterFormatClima
  * 31 OCT 2017  40231      amoore      Clean up of MSM/DSM parsing and records. Better
  *                                     logging. Get rid of serialization tags.
  * 03 NOV 2017  36736      amoore      Make several parts and logic static.
+ * 17 OCT 2026             agent       Compile pattern once. Bind groups to
+ *                                     setters once instead of by name.
  * </pre>
  *
  * @author pwang
@@ -164,18 +162,193 @@ public class MonthlySummaryMessageParser extends ASOSMessageParser {
             + "(?:/\\s?(?<remarks>((?:ET|Epr|EPR|EP|ES|ESw|ESd|EC)\\s?){1,8}))?";
 
     /**
-     * Set of named groups.
+     * Compiled MSM pattern.
      */
-    private static final Set<String> NAMED_GROUPS = new HashSet<>();
+    private static final Pattern MSM_PATTERN = Pattern.compile(MSMRAW_REGEX);
 
     /**
-     * Build name set for named groups.
+     * Number of max and min temperature date groups.
+     */
+    private static final int NUM_TEMP_DATES = 3;
+
+    /**
+     * Setters of the named groups, bound to their group indices.
+     */
+    private static final List<GroupBinding<MonthlySummaryRecord>> GROUP_BINDINGS;
+
+    /**
+     * Build setter for each named group.
      */
     static {
-        Matcher m = GROUP_NAME_PATTERN.matcher(MSMRAW_REGEX);
-        while (m.find()) {
-            NAMED_GROUPS.add(m.group(1));
+        Map<String, GroupSetter<MonthlySummaryRecord>> setters = new HashMap<>();
+
+        setters.put("stationCode", MonthlySummaryRecord::setStationCode);
+        setters.put("correction", (msm, value) -> msm.setCorrection(true));
+        setters.put("month",
+                (msm, value) -> msm.setMonth(Short.parseShort(value)));
+        setters.put("maxT",
+                (msm, value) -> msm.setMaxT(Short.parseShort(value)));
+        setters.put("minT",
+                (msm, value) -> msm.setMinT(Short.parseShort(value)));
+        for (int i = 0; i < NUM_TEMP_DATES; i++) {
+            final int index = i;
+            setters.put("maxTDate" + (i + 1), (msm, value) -> {
+                msm.getMaxTDates()[index] = Short.parseShort(value);
+            });
+            setters.put("minTDate" + (i + 1), (msm, value) -> {
+                msm.getMinTDates()[index] = Short.parseShort(value);
+            });
         }
+
+        /*
+         * Average daily maximum, daily minimum, and monthly temperatures,
+         * reported to the nearest 0.1 degree Fahrenheit
+         */
+        setters.put("avgDailyMaxT", (msm, value) -> msm
+                .setAvgDailyMaxT(Float.parseFloat(value) / 10));
+        setters.put("avgDailyMinT", (msm, value) -> msm
+                .setAvgDailyMinT(Float.parseFloat(value) / 10));
+        setters.put("avgMonthlyT", (msm, value) -> msm
+                .setAvgMonthlyT(Float.parseFloat(value) / 10));
+        setters.put("daysMaxTBelow32", (msm, value) -> msm
+                .setDaysMaxTBelow32(Short.parseShort(value)));
+        setters.put("daysMaxTAbove90", (msm, value) -> msm
+                .setDaysMaxTAbove90(Short.parseShort(value)));
+        setters.put("daysMinTBelow32", (msm, value) -> msm
+                .setDaysMinTBelow32(Short.parseShort(value)));
+        setters.put("daysMinTBelow0", (msm, value) -> msm
+                .setDaysMinTBelow0(Short.parseShort(value)));
+        setters.put("totalHeatingDegreeDays", (msm, value) -> msm
+                .setTotalHeatingDegreeDays(Short.parseShort(value)));
+        setters.put("totalCoolingDegreeDays", (msm, value) -> msm
+                .setTotalCoolingDegreeDays(Short.parseShort(value)));
+
+        /*
+         * Monthly mean station pressure, reported to the nearest 0.005 inch of
+         * Hg
+         */
+        setters.put("meanStationPressure", (msm, value) -> msm
+                .setMeanStationPressure(Float.parseFloat(value) / 1000));
+        /*
+         * Monthly mean, max, and min sea-level pressure, reported to the
+         * nearest 0.01 inch of Hg
+         */
+        setters.put("meanSeaLevelPressure", (msm, value) -> msm
+                .setMeanSeaLevelPressure(parseSeaLevelPressure(value)));
+        setters.put("maxSeaLevelPressure", (msm, value) -> msm
+                .setMaxSeaLevelPressure(parseSeaLevelPressure(value)));
+        setters.put("maxSeaLevelPressureDate",
+                MonthlySummaryRecord::setMaxSeaLevelPressureDate);
+        setters.put("maxSeaLevelPressureTime",
+                MonthlySummaryRecord::setMaxSeaLevelPressureTime);
+        setters.put("multiMaxSLP", MonthlySummaryRecord::setMultiMaxSLP);
+        setters.put("minSeaLevelPressure", (msm, value) -> msm
+                .setMinSeaLevelPressure(parseSeaLevelPressure(value)));
+        setters.put("minSeaLevelPressureDate",
+                MonthlySummaryRecord::setMinSeaLevelPressureDate);
+        setters.put("minSeaLevelPressureTime",
+                MonthlySummaryRecord::setMinSeaLevelPressureTime);
+        setters.put("multiMinSLP", MonthlySummaryRecord::setMultiMinSLP);
+
+        // all precipitation are in hundredths, so divide by 100 here
+        setters.put("totalPrecip",
+                (msm, value) -> msm.setTotalPrecip(parseTraceable(value, 100)));
+        setters.put("daysPrecipAbove01", (msm, value) -> msm
+                .setDaysPrecipAbove01(Short.parseShort(value)));
+        setters.put("daysPrecipAbove10", (msm, value) -> msm
+                .setDaysPrecipAbove10(Short.parseShort(value)));
+        setters.put("daysPrecipAbove50", (msm, value) -> msm
+                .setDaysPrecipAbove50(Short.parseShort(value)));
+        setters.put("daysPrecipAbove100", (msm, value) -> msm
+                .setDaysPrecipAbove100(Short.parseShort(value)));
+        setters.put("max24HourPrecip", (msm, value) -> msm
+                .setMax24HourPrecip(parseTraceable(value, 100)));
+        setters.put("max24HourPrecipStartDate", (msm, value) -> msm
+                .setMax24HourPrecipStartDate(Short.parseShort(value)));
+        setters.put("max24HourPrecipEndDate", (msm, value) -> msm
+                .setMax24HourPrecipEndDate(Short.parseShort(value)));
+        setters.put("multiMax24HourPrecip",
+                (msm, value) -> msm.setMultiMax24HourPrecip(true));
+        // max precip for periods of 5 to 180 minutes
+        bindPrecipPeriod(setters, "precip5min",
+                MonthlySummaryRecord::setPrecip5min,
+                MonthlySummaryRecord::setPrecip5minDate,
+                MonthlySummaryRecord::setPrecip5minTime);
+        bindPrecipPeriod(setters, "precip10min",
+                MonthlySummaryRecord::setPrecip10min,
+                MonthlySummaryRecord::setPrecip10minDate,
+                MonthlySummaryRecord::setPrecip10minTime);
+        bindPrecipPeriod(setters, "precip15min",
+                MonthlySummaryRecord::setPrecip15min,
+                MonthlySummaryRecord::setPrecip15minDate,
+                MonthlySummaryRecord::setPrecip15minTime);
+        bindPrecipPeriod(setters, "precip20min",
+                MonthlySummaryRecord::setPrecip20min,
+                MonthlySummaryRecord::setPrecip20minDate,
+                MonthlySummaryRecord::setPrecip20minTime);
+        bindPrecipPeriod(setters, "precip30min",
+                MonthlySummaryRecord::setPrecip30min,
+                MonthlySummaryRecord::setPrecip30minDate,
+                MonthlySummaryRecord::setPrecip30minTime);
+        bindPrecipPeriod(setters, "precip45min",
+                MonthlySummaryRecord::setPrecip45min,
+                MonthlySummaryRecord::setPrecip45minDate,
+                MonthlySummaryRecord::setPrecip45minTime);
+        bindPrecipPeriod(setters, "precip60min",
+                MonthlySummaryRecord::setPrecip60min,
+                MonthlySummaryRecord::setPrecip60minDate,
+                MonthlySummaryRecord::setPrecip60minTime);
+        bindPrecipPeriod(setters, "precip80min",
+                MonthlySummaryRecord::setPrecip80min,
+                MonthlySummaryRecord::setPrecip80minDate,
+                MonthlySummaryRecord::setPrecip80minTime);
+        bindPrecipPeriod(setters, "precip100min",
+                MonthlySummaryRecord::setPrecip100min,
+                MonthlySummaryRecord::setPrecip100minDate,
+                MonthlySummaryRecord::setPrecip100minTime);
+        bindPrecipPeriod(setters, "precip120min",
+                MonthlySummaryRecord::setPrecip120min,
+                MonthlySummaryRecord::setPrecip120minDate,
+                MonthlySummaryRecord::setPrecip120minTime);
+        bindPrecipPeriod(setters, "precip150min",
+                MonthlySummaryRecord::setPrecip150min,
+                MonthlySummaryRecord::setPrecip150minDate,
+                MonthlySummaryRecord::setPrecip150minTime);
+        bindPrecipPeriod(setters, "precip180min",
+                MonthlySummaryRecord::setPrecip180min,
+                MonthlySummaryRecord::setPrecip180minDate,
+                MonthlySummaryRecord::setPrecip180minTime);
+
+        /*
+         * Hours of sunshine, reported to the nearest 0.1 hour
+         */
+        setters.put("sunshineHours", (msm, value) -> msm
+                .setSunshineHours(Float.parseFloat(value) / 10));
+        setters.put("sunshinePercent", (msm, value) -> msm
+                .setSunshinePercent(Short.parseShort(value)));
+        setters.put("max24HourSnow", (msm, value) -> msm
+                .setMax24HourSnow(Float.parseFloat(value)));
+        setters.put("max24HourSnowStartDate", (msm, value) -> msm
+                .setMax24HourSnowStartDate(Short.parseShort(value)));
+        setters.put("max24HourSnowEndDate", (msm, value) -> msm
+                .setMax24HourSnowEndDate(Short.parseShort(value)));
+        setters.put("multiMax24HourSnow",
+                (msm, value) -> msm.setMultiMax24HourSnow(true));
+        setters.put("maxSnowDepth", (msm, value) -> msm
+                .setMaxSnowDepth(Short.parseShort(value)));
+        setters.put("maxSnowDepthDate", (msm, value) -> msm
+                .setMaxSnowDepthDate(Short.parseShort(value)));
+        setters.put("multiMaxSnowDepth",
+                (msm, value) -> msm.setMultiMaxSnowDepth(true));
+        setters.put("clearDays",
+                (msm, value) -> msm.setClearDays(Short.parseShort(value)));
+        setters.put("partlyCloudyDays", (msm, value) -> msm
+                .setPartlyCloudyDays(Short.parseShort(value)));
+        setters.put("cloudyDays",
+                (msm, value) -> msm.setCloudyDays(Short.parseShort(value)));
+        setters.put("remarks", MonthlySummaryRecord::setRemarks);
+
+        GROUP_BINDINGS = bindGroups(MSM_PATTERN, setters);
     }
 
     /**
@@ -184,345 +357,56 @@ public class MonthlySummaryMessageParser extends ASOSMessageParser {
     public MonthlySummaryMessageParser() {
     }
 
+    /**
+     * Add the setters of the amount, date, and time groups of one max precip
+     * for period.
+     *
+     * @param setters
+     * @param groupName
+     *            name of the amount group, which prefixes the date and time
+     *            group names.
+     * @param amount
+     * @param date
+     * @param time
+     */
+    private static void bindPrecipPeriod(
+            Map<String, GroupSetter<MonthlySummaryRecord>> setters,
+            String groupName, BiConsumer<MonthlySummaryRecord, Float> amount,
+            GroupSetter<MonthlySummaryRecord> date,
+            GroupSetter<MonthlySummaryRecord> time) {
+        // amounts are in hundredths, so divide by 100 here
+        setters.put(groupName, (msm, value) -> amount.accept(msm,
+                parseTraceable(value, 100)));
+        setters.put(groupName + "Date", date);
+        setters.put(groupName + "Time", time);
+    }
+
+    /**
+     * @param value
+     *            sea-level pressure reported to the nearest 0.01 inch of Hg,
+     *            without the leading digits.
+     * @return the pressure in inches of Hg.
+     */
+    private static float parseSeaLevelPressure(String value) {
+        float val = Float.parseFloat(value);
+        return (val < 500 ? 30.0f : 20.0f) + val / 100.0f;
+    }
+
     @Override
     public ClimateASOSMessageRecord parse(String message) {
-        Pattern msmPattern = Pattern.compile(MSMRAW_REGEX);
-        final Matcher matcher = msmPattern.matcher(message);
+        Matcher matcher = MSM_PATTERN.matcher(message);
 
-        Map<String, String> namedAsosMap = new HashMap<>();
-
-        if (matcher.matches()) {
-            // ASOS message match the DMS pattern
-            for (String groupName : NAMED_GROUPS) {
-                if (matcher.group(groupName) != null)
-                    namedAsosMap.put(groupName, matcher.group(groupName));
-            }
-        } else {
+        if (!matcher.matches()) {
             logger.error("Message: [" + message
                     + "] does not match expected pattern: [" + MSMRAW_REGEX
                     + "]");
+            matcher = null;
         }
 
         // sets values to default
         MonthlySummaryRecord msm = new MonthlySummaryRecord(message);
 
-        List<String> missingGroups = new ArrayList<>();
-
-        for (String groupName : NAMED_GROUPS) {
-            String value = namedAsosMap.get(groupName);
-
-            if (value == null) {
-                missingGroups.add(groupName);
-                // no need to set missing values since default
-                // constructor took care of that
-                continue;
-            } else {
-                logger.debug("Raw value for ASOS group name: [" + groupName
-                        + "] is: [" + value + "]");
-            }
-            try {
-                if (groupName.equalsIgnoreCase("stationCode")) {
-                    msm.setStationCode(value);
-                } else if (groupName.equalsIgnoreCase("correction")) {
-                    msm.setCorrection(true);
-                } else if (groupName.equalsIgnoreCase("month")) {
-                    msm.setMonth(Short.parseShort(value));
-                } else if (groupName.equalsIgnoreCase("maxT")) {
-                    msm.setMaxT(Short.parseShort(value));
-                } else if (groupName.startsWith("maxTDate")) {
-                    int index = Integer
-                            .parseInt(groupName.replace("maxTDate", "")) - 1;
-
-                    msm.getMaxTDates()[index] = Short.parseShort(value);
-                } else if (groupName.equalsIgnoreCase("minT")) {
-                    msm.setMinT(Short.parseShort(value));
-                } else if (groupName.startsWith("minTDate")) {
-                    int index = Integer
-                            .parseInt(groupName.replace("minTDate", "")) - 1;
-
-                    msm.getMinTDates()[index] = Short.parseShort(value);
-                } else if (groupName.equalsIgnoreCase("avgDailyMaxT")) {
-                    /*
-                     * Average daily maximum temperature, reported to the
-                     * nearest 0.1 degree Fahrenheit
-                     */
-                    msm.setAvgDailyMaxT(Float.parseFloat(value) / 10);
-                } else if (groupName.equalsIgnoreCase("avgDailyMinT")) {
-                    /*
-                     * Average daily minimum temperature, reported to the
-                     * nearest 0.1 degree Fahrenheit
-                     */
-                    msm.setAvgDailyMinT(Float.parseFloat(value) / 10);
-                } else if (groupName.equalsIgnoreCase("avgMonthlyT")) {
-                    /*
-                     * Average monthly temperature, reported to the nearest 0.1
-                     * degree Fahrenheit
-                     */
-                    msm.setAvgMonthlyT(Float.parseFloat(value) / 10);
-                } else if (groupName.equalsIgnoreCase("daysMaxTBelow32")) {
-                    msm.setDaysMaxTBelow32(Short.parseShort(value));
-                } else if (groupName.equalsIgnoreCase("daysMaxTAbove90")) {
-                    msm.setDaysMaxTAbove90(Short.parseShort(value));
-                } else if (groupName.equalsIgnoreCase("daysMinTBelow32")) {
-                    msm.setDaysMinTBelow32(Short.parseShort(value));
-                } else if (groupName.equalsIgnoreCase("daysMinTBelow0")) {
-                    msm.setDaysMinTBelow0(Short.parseShort(value));
-                } else if (groupName
-                        .equalsIgnoreCase("totalHeatingDegreeDays")) {
-                    msm.setTotalHeatingDegreeDays(Short.parseShort(value));
-                } else if (groupName
-                        .equalsIgnoreCase("totalCoolingDegreeDays")) {
-                    msm.setTotalCoolingDegreeDays(Short.parseShort(value));
-                } else if (groupName.equalsIgnoreCase("meanStationPressure")) {
-                    /*
-                     * Monthly mean station pressure, reported to the nearest
-                     * 0.005 inch of Hg
-                     */
-                    msm.setMeanStationPressure(Float.parseFloat(value) / 1000);
-                } else if (groupName.equalsIgnoreCase("meanSeaLevelPressure")) {
-                    /*
-                     * Monthly mean sea-level pressure, reported to the nearest
-                     * 0.01 inch of Hg
-                     */
-                    float val = Float.parseFloat(value);
-                    msm.setMeanSeaLevelPressure(
-                            (val < 500 ? 30.0f : 20.0f) + val / 100.0f);
-                } else if (groupName.equalsIgnoreCase("maxSeaLevelPressure")) {
-                    /*
-                     * Monthly max sea-level pressure, reported to the nearest
-                     * 0.01 inch of Hg
-                     */
-                    float val = Float.parseFloat(value);
-                    msm.setMaxSeaLevelPressure(
-                            (val < 500 ? 30.0f : 20.0f) + val / 100.0f);
-                } else if (groupName
-                        .equalsIgnoreCase("maxSeaLevelPressureDate")) {
-                    msm.setMaxSeaLevelPressureDate(value);
-                } else if (groupName
-                        .equalsIgnoreCase("maxSeaLevelPressureTime")) {
-                    msm.setMaxSeaLevelPressureTime(value);
-                } else if (groupName.equalsIgnoreCase("multiMaxSLP")) {
-                    msm.setMultiMaxSLP(value);
-                } else if (groupName.equalsIgnoreCase("minSeaLevelPressure")) {
-                    /*
-                     * Monthly min sea-level pressure, reported to the nearest
-                     * 0.01 inch of Hg
-                     */
-                    float val = Float.parseFloat(value);
-                    msm.setMinSeaLevelPressure(
-                            (val < 500 ? 30.0f : 20.0f) + val / 100.0f);
-                } else if (groupName
-                        .equalsIgnoreCase("minSeaLevelPressureDate")) {
-                    msm.setMinSeaLevelPressureDate(value);
-                } else if (groupName
-                        .equalsIgnoreCase("minSeaLevelPressureTime")) {
-                    msm.setMinSeaLevelPressureTime(value);
-                } else if (groupName.equalsIgnoreCase("multiMinSLP")) {
-                    msm.setMultiMinSLP(value);
-                } else if (groupName.toLowerCase().endsWith("precip")) {
-                    if (groupName.equalsIgnoreCase("multiMax24HourPrecip")) {
-                        msm.setMultiMax24HourPrecip(true);
-                    } else {
-                        float val;
-                        if (value.equals(ParameterFormatClimate.TRACE_SYMBOL)) {
-                            val = -1;
-                        } else {
-                            val = Float.parseFloat(value) / 100;
-                        }
-
-                        if (groupName.equalsIgnoreCase("totalPrecip")) {
-                            msm.setTotalPrecip(val);
-                        } else if (groupName
-                                .equalsIgnoreCase("max24HourPrecip")) {
-                            msm.setMax24HourPrecip(val);
-                        } else {
-                            logger.error(
-                                    "Unhandled MSM precip group: [" + groupName
-                                            + "] with value: [" + val + "]");
-                        }
-                    }
-                } else if (groupName.equalsIgnoreCase("daysPrecipAbove01")) {
-                    msm.setDaysPrecipAbove01(Short.parseShort(value));
-                } else if (groupName.equalsIgnoreCase("daysPrecipAbove10")) {
-                    msm.setDaysPrecipAbove10(Short.parseShort(value));
-                } else if (groupName.equalsIgnoreCase("daysPrecipAbove50")) {
-                    msm.setDaysPrecipAbove50(Short.parseShort(value));
-                } else if (groupName.equalsIgnoreCase("daysPrecipAbove100")) {
-                    msm.setDaysPrecipAbove100(Short.parseShort(value));
-                } else if (groupName
-                        .equalsIgnoreCase("max24HourPrecipStartDate")) {
-                    msm.setMax24HourPrecipStartDate(Short.parseShort(value));
-                } else if (groupName
-                        .equalsIgnoreCase("max24HourPrecipEndDate")) {
-                    msm.setMax24HourPrecipEndDate(Short.parseShort(value));
-                } else if (groupName.startsWith("precip")) {
-                    if (groupName.endsWith("min")) {
-                        float val;
-                        if (value.equals(ParameterFormatClimate.TRACE_SYMBOL)) {
-                            val = -1;
-                        } else {
-                            val = Float.parseFloat(value) / 100;
-                        }
-
-                        if (groupName.equalsIgnoreCase("precip5min")) {
-                            msm.setPrecip5min(val);
-                        } else if (groupName.equalsIgnoreCase("precip10min")) {
-                            msm.setPrecip10min(val);
-                        } else if (groupName.equalsIgnoreCase("precip15min")) {
-                            msm.setPrecip15min(val);
-                        } else if (groupName.equalsIgnoreCase("precip20min")) {
-                            msm.setPrecip20min(val);
-                        } else if (groupName.equalsIgnoreCase("precip30min")) {
-                            msm.setPrecip30min(val);
-                        } else if (groupName.equalsIgnoreCase("precip45min")) {
-                            msm.setPrecip45min(val);
-                        } else if (groupName.equalsIgnoreCase("precip60min")) {
-                            msm.setPrecip60min(val);
-                        } else if (groupName.equalsIgnoreCase("precip80min")) {
-                            msm.setPrecip80min(val);
-                        } else if (groupName.equalsIgnoreCase("precip100min")) {
-                            msm.setPrecip100min(val);
-                        } else if (groupName.equalsIgnoreCase("precip120min")) {
-                            msm.setPrecip120min(val);
-                        } else if (groupName.equalsIgnoreCase("precip150min")) {
-                            msm.setPrecip150min(val);
-                        } else if (groupName.equalsIgnoreCase("precip180min")) {
-                            msm.setPrecip180min(val);
-                        } else {
-                            logger.error("Unhandled MSM precip duration: ["
-                                    + groupName + "] with value: [" + val
-                                    + "]");
-                        }
-                    } else {
-                        if (groupName.equalsIgnoreCase("precip5minDate")) {
-                            msm.setPrecip5minDate(value);
-                        } else if (groupName
-                                .equalsIgnoreCase("precip5minTime")) {
-                            msm.setPrecip5minTime(value);
-                        } else if (groupName
-                                .equalsIgnoreCase("precip10minDate")) {
-                            msm.setPrecip10minDate(value);
-                        } else if (groupName
-                                .equalsIgnoreCase("precip10minTime")) {
-                            msm.setPrecip10minTime(value);
-                        } else if (groupName
-                                .equalsIgnoreCase("precip15minDate")) {
-                            msm.setPrecip15minDate(value);
-                        } else if (groupName
-                                .equalsIgnoreCase("precip15minTime")) {
-                            msm.setPrecip15minTime(value);
-                        } else if (groupName
-                                .equalsIgnoreCase("precip20minDate")) {
-                            msm.setPrecip20minDate(value);
-                        } else if (groupName
-                                .equalsIgnoreCase("precip20minTime")) {
-                            msm.setPrecip20minTime(value);
-                        } else if (groupName
-                                .equalsIgnoreCase("precip30minDate")) {
-                            msm.setPrecip30minDate(value);
-                        } else if (groupName
-                                .equalsIgnoreCase("precip30minTime")) {
-                            msm.setPrecip30minTime(value);
-                        } else if (groupName
-                                .equalsIgnoreCase("precip45minDate")) {
-                            msm.setPrecip45minDate(value);
-                        } else if (groupName
-                                .equalsIgnoreCase("precip45minTime")) {
-                            msm.setPrecip45minTime(value);
-                        } else if (groupName
-                                .equalsIgnoreCase("precip60minDate")) {
-                            msm.setPrecip60minDate(value);
-                        } else if (groupName
-                                .equalsIgnoreCase("precip60minTime")) {
-                            msm.setPrecip60minTime(value);
-                        } else if (groupName
-                                .equalsIgnoreCase("precip80minDate")) {
-                            msm.setPrecip80minDate(value);
-                        } else if (groupName
-                                .equalsIgnoreCase("precip80minTime")) {
-                            msm.setPrecip80minTime(value);
-                        } else if (groupName
-                                .equalsIgnoreCase("precip100minDate")) {
-                            msm.setPrecip100minDate(value);
-                        } else if (groupName
-                                .equalsIgnoreCase("precip100minTime")) {
-                            msm.setPrecip100minTime(value);
-                        } else if (groupName
-                                .equalsIgnoreCase("precip120minDate")) {
-                            msm.setPrecip120minDate(value);
-                        } else if (groupName
-                                .equalsIgnoreCase("precip120minTime")) {
-                            msm.setPrecip120minTime(value);
-                        } else if (groupName
-                                .equalsIgnoreCase("precip150minDate")) {
-                            msm.setPrecip150minDate(value);
-                        } else if (groupName
-                                .equalsIgnoreCase("precip150minTime")) {
-                            msm.setPrecip150minTime(value);
-                        } else if (groupName
-                                .equalsIgnoreCase("precip180minDate")) {
-                            msm.setPrecip180minDate(value);
-                        } else if (groupName
-                                .equalsIgnoreCase("precip180minTime")) {
-                            msm.setPrecip180minTime(value);
-                        } else {
-                            logger.error("Unhandled precip duration group: ["
-                                    + groupName + "] with value: [" + value
-                                    + "]");
-                        }
-                    }
-                } else if (groupName.equalsIgnoreCase("sunshineHours")) {
-                    /*
-                     * Hours of sunshine, reported to the nearest 0.1 hour
-                     */
-                    msm.setSunshineHours(Float.parseFloat(value) / 10);
-                } else if (groupName.equalsIgnoreCase("sunshinePercent")) {
-                    msm.setSunshinePercent(Short.parseShort(value));
-                } else if (groupName.equalsIgnoreCase("max24HourSnow")) {
-                    msm.setMax24HourSnow(Float.parseFloat(value));
-                } else if (groupName
-                        .equalsIgnoreCase("max24HourSnowStartDate")) {
-                    msm.setMax24HourSnowStartDate(Short.parseShort(value));
-                } else if (groupName.equalsIgnoreCase("max24HourSnowEndDate")) {
-                    msm.setMax24HourSnowEndDate(Short.parseShort(value));
-                } else if (groupName.equalsIgnoreCase("multiMax24HourSnow")) {
-                    msm.setMultiMax24HourSnow(true);
-                } else if (groupName.equalsIgnoreCase("maxSnowDepth")) {
-                    msm.setMaxSnowDepth(Short.parseShort(value));
-                } else if (groupName.equalsIgnoreCase("maxSnowDepthDate")) {
-                    msm.setMaxSnowDepthDate(Short.parseShort(value));
-                } else if (groupName.equalsIgnoreCase("multiMaxSnowDepth")) {
-                    msm.setMultiMaxSnowDepth(true);
-                } else if (groupName.equalsIgnoreCase("clearDays")) {
-                    msm.setClearDays(Short.parseShort(value));
-                } else if (groupName.equalsIgnoreCase("partlyCloudyDays")) {
-                    msm.setPartlyCloudyDays(Short.parseShort(value));
-                } else if (groupName.equalsIgnoreCase("cloudyDays")) {
-                    msm.setCloudyDays(Short.parseShort(value));
-                } else if (groupName.equalsIgnoreCase("remarks")) {
-                    msm.setRemarks(value);
-                } else {
-                    logger.error("Unhandled MSM group: [" + groupName
-                            + "] with value: [" + value + "] in ASOS message: ["
-                            + message + "]");
-                }
-
-            } catch (NumberFormatException e) {
-                logger.error("Failed to parse number for group: [" + groupName
-                        + "] with value: [" + value + "] in ASOS message: ["
-                        + message + "]", e);
-            } catch (RuntimeException e) {
-                logger.error("Unexpected exception for group: [" + groupName
-                        + "] with value: [" + value + "] in ASOS message: ["
-                        + message + "]", e);
-            }
-        }
-
-        if (!missingGroups.isEmpty()) {
-            logger.warn("No values for ASOS group names: ["
-                    + Arrays.toString(missingGroups.toArray())
-                    + "] in ASOS message: [" + message + "]");
-        }
+        assignGroups(matcher, msm, GROUP_BINDINGS, message, logger);
 
         return msm;
     }
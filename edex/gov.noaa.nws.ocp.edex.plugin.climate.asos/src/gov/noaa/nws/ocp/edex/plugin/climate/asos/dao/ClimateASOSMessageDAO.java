@@ -4,7 +4,12 @@
 package gov.noaa.nws.ocp.edex.plugin.climate.asos.dao;
 
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import gov.noaa.nws.ocp.common.dataplugin.climate.asos.ClimateASOSMessageRecord;
 import gov.noaa.nws.ocp.common.dataplugin.climate.exception.ClimateInvalidParameterException;
@@ -25,6 +30,7 @@ import gov.noaa.nws.ocp.edex.common.climate.dao.ClimateDAO;
  * 08 MAY 2017  33104      amoore      Extend common Climate functionality.
  * 07 SEP 2017  37754      amoore      Exceptions instead of boolean returns.
  * 03 NOV 2017  36736      amoore      Get rid of unneeded synchronization.
+ * 17 OCT 2026             agent       Store records in batches.
  * </pre>
  *
  * @author pwang
@@ -33,6 +39,13 @@ import gov.noaa.nws.ocp.edex.common.climate.dao.ClimateDAO;
 
 public class ClimateASOSMessageDAO extends ClimateDAO {
 
+    /**
+     * Named parameter in a record query. Parameter names start with a letter,
+     * which keeps time literals such as '12:30' and casts out.
+     */
+    private static final Pattern PARAMETER_PATTERN = Pattern
+            .compile("(?<![:\\w]):([A-Za-z_]\\w*)");
+
     /**
      * Constructor.
      * 
@@ -113,4 +126,149 @@ public class ClimateASOSMessageDAO extends ClimateDAO {
         }
     }
 
+    /**
+     * Save DSM / MSM records to db tables as one batch: one query to find
+     * which records already exist, then one multi-statement update that
+     * inserts or updates each record, in a single transaction. Either all
+     * records are stored or none are.
+     * 
+     * @param records
+     * @return number of records stored. Records without station or date
+     *         information are skipped.
+     * @throws ClimateQueryException
+     *             on query error, or if the update did not change one row per
+     *             stored record. Storing each record with
+     *             {@link #storeToTable(ClimateASOSMessageRecord)} is then safe,
+     *             as it updates rows the batch already stored.
+     */
+    public int storeToTable(List<ClimateASOSMessageRecord> records)
+            throws ClimateQueryException {
+        if (records.isEmpty()) {
+            return 0;
+        }
+
+        /*
+         * Find existing records with one query, one row per record.
+         */
+        Map<String, Object> queryExistingParams = new HashMap<>();
+        StringBuilder queryExisting = new StringBuilder(
+                "SELECT idx, cnt FROM (VALUES");
+        String[] existingKeys = new String[records.size()];
+        for (int i = 0; i < records.size(); i++) {
+            Map<String, Object> recordParams = new HashMap<>();
+            String recordQuery = records.get(i)
+                    .queryExistingRecordSQL(recordParams);
+            // same query and values means same station and date
+            existingKeys[i] = recordQuery + recordParams;
+
+            queryExisting.append(i == 0 ? "(" : ",(").append(i).append(",(")
+                    .append(prefixParameters(recordQuery, recordParams,
+                            "e" + i + "_", queryExistingParams))
+                    .append("))");
+        }
+        queryExisting.append(") AS existing(idx, cnt)");
+
+        boolean[] exists = new boolean[records.size()];
+        try {
+            Object[] results = getDao().executeSQLQuery(
+                    queryExisting.toString(), queryExistingParams);
+            if ((results == null) || (results.length != records.size())) {
+                throw new ClimateQueryException("Expected [" + records.size()
+                        + "] rows from ASOS query, but got ["
+                        + (results == null ? 0 : results.length) + "].");
+            }
+
+            for (Object result : results) {
+                Object[] row = (Object[]) result;
+                exists[((Number) row[0]).intValue()] = ((Number) row[1])
+                        .longValue() > 0;
+            }
+        } catch (ClimateQueryException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ClimateQueryException("Error with ASOS query: ["
+                    + queryExisting + "] and map: [" + queryExistingParams
+                    + "]", e);
+        }
+
+        /*
+         * Insert or update each record. A record repeated in the batch, such
+         * as a correction, updates the row inserted by the earlier one.
+         */
+        Map<String, Object> queryUpdateParams = new HashMap<>();
+        StringBuilder updateQueries = new StringBuilder();
+        Set<String> batchKeys = new HashSet<>();
+        int stored = 0;
+        for (int i = 0; i < records.size(); i++) {
+            ClimateASOSMessageRecord record = records.get(i);
+            Map<String, Object> recordParams = new HashMap<>();
+            String updateQuery;
+            if (exists[i] || !batchKeys.add(existingKeys[i])) {
+                updateQuery = record.toUpdateSQL(recordParams);
+            } else {
+                updateQuery = record.toInsertSQL(recordParams);
+            }
+
+            if (updateQuery == null || updateQuery.isEmpty()) {
+                logger.warn("No update query applicable for ASOS message: ["
+                        + record.getStationCode()
+                        + "], as either station or date information may be "
+                        + "missing.");
+                continue;
+            }
+
+            updateQueries.append(prefixParameters(updateQuery, recordParams,
+                    "r" + i + "_", queryUpdateParams)).append(";");
+            stored++;
+        }
+
+        if (stored > 0) {
+            int changes;
+            try {
+                changes = getDao().executeSQLUpdate(updateQueries.toString(),
+                        queryUpdateParams);
+            } catch (Exception e) {
+                throw new ClimateQueryException("Error with query: ["
+                        + updateQueries + "] and map: [" + queryUpdateParams
+                        + "]", e);
+            }
+
+            if (changes != stored) {
+                throw new ClimateQueryException(
+                        "ASOS batch expected to update [" + stored
+                                + "] rows, but updated: [" + changes
+                                + "] rows.");
+            }
+        }
+
+        return stored;
+    }
+
+    /**
+     * Prefix the named parameters of a record query, so that queries of
+     * several records can share one parameter map.
+     * 
+     * @param query
+     * @param params
+     *            parameters of the query.
+     * @param prefix
+     * @param target
+     *            map to put the prefixed parameters in.
+     * @return the query with prefixed parameter names.
+     */
+    private static String prefixParameters(String query,
+            Map<String, Object> params, String prefix,
+            Map<String, Object> target) {
+        StringBuffer sb = new StringBuffer();
+        Matcher matcher = PARAMETER_PATTERN.matcher(query);
+        while (matcher.find()) {
+            String name = matcher.group(1);
+            if (params.containsKey(name)) {
+                target.put(prefix + name, params.get(name));
+                matcher.appendReplacement(sb, ":" + prefix + name);
+            }
+        }
+        matcher.appendTail(sb);
+        return sb.toString();
+    }
 }
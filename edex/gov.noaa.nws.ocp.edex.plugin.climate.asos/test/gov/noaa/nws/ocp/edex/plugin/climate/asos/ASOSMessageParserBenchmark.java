@@ -0,0 +1,302 @@
+/**
+ * This software was developed and / or modified by NOAA/NWS/OCP/ASDT
+ **/
+package gov.noaa.nws.ocp.edex.plugin.climate.asos;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import com.sun.management.ThreadMXBean;
+
+import gov.noaa.nws.ocp.common.dataplugin.climate.asos.ClimateASOSMessageRecord;
+
+/**
+ * Micro-benchmark of DSM and MSM parsing over a day of synthetic national
+ * traffic. Each station sends three intermediate DSMs during the day and a
+ * full DSM after midnight. It also sends the MSM of the previous month, as
+ * stations do on the first days of a month. Messages are written in the
+ * formats of the example products in {@link DailySummaryMessageParser} and
+ * {@link MonthlySummaryMessageParser}, as the decoder joins their lines, with
+ * random values including missing, trace and negative values. Each message is
+ * parsed as the decoder parses it: the factory picks the parser, and the
+ * parser builds the record.
+ *
+ * Prints messages per second and bytes allocated per message on the parsing
+ * thread. Messages that do not match their pattern are counted first; there
+ * should be none. Logging is left as configured, and the parsers warn of the
+ * groups each message leaves out, so run with logging at the ingest's level.
+ *
+ * Run with: java ASOSMessageParserBenchmark [stations] [iterations]
+ *
+ * <pre>
+ *
+ * SOFTWARE HISTORY
+ *
+ * Date         Ticket#    Engineer    Description
+ * ------------ ---------- ----------- --------------------------
+ * 17 OCT 2026             agent       Initial creation
+ * </pre>
+ *
+ * @author agent
+ */
+public class ASOSMessageParserBenchmark {
+
+    private static final long SEED = 20171031L;
+
+    private static final int WARMUP_ITERATIONS = 20;
+
+    private static final int PASSES = 3;
+
+    /** Valid times of the intermediate DSMs. */
+    private static final int[] INTERMEDIATE_TIMES = { 700, 1200, 1700 };
+
+    private static final String[] DSM_REMARKS = { "ET", "EP", "EW", "ET EP",
+            "ET EP EW", "EC" };
+
+    private static final String[] MSM_REMARKS = { "ET", "EP", "EPR EP",
+            "ET EPR EP", "ES" };
+
+    public static void main(String[] args) {
+        int stations = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 50;
+
+        List<String> messages = createMessages(stations);
+
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory
+                .getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        int unmatched = parseAll(messages);
+        System.out.printf("%d messages, %d not matched%n", messages.size(),
+                unmatched);
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            parseAll(messages);
+        }
+
+        long parses = (long) messages.size() * iterations;
+        for (int pass = 0; pass < PASSES; pass++) {
+            long bytes = threads.getThreadAllocatedBytes(threadId);
+            long start = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                parseAll(messages);
+            }
+            long nanos = System.nanoTime() - start;
+            bytes = threads.getThreadAllocatedBytes(threadId) - bytes;
+
+            System.out.printf(
+                    "pass %d: %.0f messages/sec, %.0f bytes allocated/message%n",
+                    pass + 1, parses * 1e9 / nanos, (double) bytes / parses);
+        }
+    }
+
+    /**
+     * @param messages
+     * @return number of messages that did not match their pattern, which are
+     *         left without a station code.
+     */
+    private static int parseAll(List<String> messages) {
+        int unmatched = 0;
+        for (String message : messages) {
+            ClimateASOSMessageRecord record = ASOSMessageParserFactory
+                    .getASOSMessageParser(message).parse(message);
+            if (record.getStationCode().isEmpty()) {
+                unmatched++;
+            }
+        }
+        return unmatched;
+    }
+
+    /**
+     * @param stations
+     * @return a day of messages of the given number of stations.
+     */
+    private static List<String> createMessages(int stations) {
+        Random random = new Random(SEED);
+        List<String> messages = new ArrayList<>(stations * 5);
+        for (int i = 0; i < stations; i++) {
+            String station = stationCode(i);
+            for (int time : INTERMEDIATE_TIMES) {
+                messages.add(createDSM(random, station, time));
+            }
+            messages.add(createDSM(random, station, -1));
+            messages.add(createMSM(random, station));
+        }
+        return messages;
+    }
+
+    /**
+     * @param index
+     * @return station code of the given index: KAAA, KAAB, ...
+     */
+    private static String stationCode(int index) {
+        char[] code = { 'K', 'A', 'A', 'A' };
+        for (int i = 3; i > 0; i--) {
+            code[i] = (char) ('A' + index % 26);
+            index /= 26;
+        }
+        return new String(code);
+    }
+
+    /**
+     * @param random
+     * @param station
+     * @param time
+     *            valid time of an intermediate DSM, or -1 for a full DSM.
+     * @return the DSM.
+     */
+    private static String createDSM(Random random, String station,
+            int time) {
+        StringBuilder sb = new StringBuilder(station).append(" DS ");
+        if (time >= 0) {
+            sb.append(String.format("%04d ", time));
+        } else if (random.nextInt(50) == 0) {
+            sb.append("COR ");
+        }
+        int minT = random.nextInt(90) - 20;
+        int maxT = minT + 5 + random.nextInt(30);
+        sb.append(String.format("31/10 %s%04d/ %s%04d// %d/ %d//",
+                temperature(maxT), hourMinute(random),
+                temperature(minT), hourMinute(random), maxT - 1,
+                minT + 1));
+        if (random.nextInt(20) == 0) {
+            sb.append("M");
+        } else {
+            sb.append(String.format("%03d%04d", random.nextInt(1000),
+                    hourMinute(random)));
+        }
+
+        // total precip, then hourly precip, missing after an intermediate
+        sb.append('/').append(precip(random));
+        int lastHour = time >= 0 ? time / 100 : 24;
+        for (int hour = 1; hour <= 24; hour++) {
+            sb.append('/').append(hour > lastHour ? "-" : precip(random));
+        }
+
+        sb.append(String.format("/%d/%02d%02d%04d/%02d%02d%04d",
+                random.nextInt(200), 1 + random.nextInt(36),
+                10 + random.nextInt(40), hourMinute(random),
+                1 + random.nextInt(36), 15 + random.nextInt(60),
+                hourMinute(random)));
+
+        if (time < 0) {
+            // weather symbols, sunshine, snow, snow depth and sky cover
+            sb.append('/');
+            int symbols = random.nextInt(4);
+            if (symbols == 0) {
+                sb.append('N');
+            }
+            for (int i = 0; i < symbols; i++) {
+                sb.append("123456789X".charAt(random.nextInt(10)));
+            }
+            if (random.nextInt(3) == 0) {
+                sb.append("/NN");
+            } else {
+                sb.append(String.format("/%d%02d", 100 + random.nextInt(800),
+                        10 + random.nextInt(90)));
+            }
+            sb.append('/').append(snow(random));
+            sb.append('/').append(snow(random));
+            sb.append(String.format("/%02d%02d", random.nextInt(11),
+                    random.nextInt(11)));
+            sb.append('/').append(
+                    DSM_REMARKS[random.nextInt(DSM_REMARKS.length)]);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * @param random
+     * @param station
+     * @return the MSM of October.
+     */
+    private static String createMSM(Random random, String station) {
+        StringBuilder sb = new StringBuilder(station).append(" MS 10 ");
+        int minT = random.nextInt(60) - 20;
+        int maxT = minT + 20 + random.nextInt(40);
+        sb.append(String.format("%s-%02d/ %s-%02d%02d", temperature(maxT),
+                1 + random.nextInt(31), temperature(minT),
+                1 + random.nextInt(15), 16 + random.nextInt(15)));
+        sb.append(String.format("/%d/%d/%d/%02d%02d%02d%02d/%d/%d",
+                maxT * 10 - 150, minT * 10 + 150, (maxT + minT) * 5,
+                random.nextInt(10), random.nextInt(10), random.nextInt(10),
+                random.nextInt(5), random.nextInt(900),
+                random.nextInt(100)));
+        sb.append(String.format("/%d/%03d/%03d%02d%04d%s/%03d%02d%04d%s",
+                28000 + random.nextInt(2000), random.nextInt(1000),
+                random.nextInt(1000), 1 + random.nextInt(31),
+                hourMinute(random), random.nextBoolean() ? "+" : "",
+                random.nextInt(1000), 1 + random.nextInt(31),
+                hourMinute(random), random.nextBoolean() ? "+" : ""));
+        if (random.nextInt(10) == 0) {
+            // no precip
+            sb.append("/0/00000000/00");
+            for (int i = 0; i < 12; i++) {
+                sb.append("/00");
+            }
+        } else {
+            int days = 1 + random.nextInt(20);
+            sb.append(String.format("/%d/%02d%02d%02d%02d/%d%02d%02d",
+                    10 + random.nextInt(900), days, days / 2, days / 4,
+                    days / 8, 100 + random.nextInt(900),
+                    1 + random.nextInt(15), 16 + random.nextInt(15)));
+            for (int i = 0; i < 12; i++) {
+                if (random.nextInt(8) == 0) {
+                    sb.append("/T");
+                } else {
+                    sb.append(String.format("/%02d%02d%04d",
+                            1 + random.nextInt(99), 1 + random.nextInt(31),
+                            hourMinute(random)));
+                }
+            }
+        }
+        sb.append("/NN/N/N/NNN/").append(
+                MSM_REMARKS[random.nextInt(MSM_REMARKS.length)]);
+        return sb.toString();
+    }
+
+    /**
+     * @param temp
+     * @return 2-3 digit temperature, with sign if negative.
+     */
+    private static String temperature(int temp) {
+        return temp < 0 ? String.format("-%02d", -temp)
+                : String.format("%02d", temp);
+    }
+
+    private static int hourMinute(Random random) {
+        return random.nextInt(24) * 100 + random.nextInt(60);
+    }
+
+    /**
+     * @param random
+     * @return precip in hundredths, trace, or missing.
+     */
+    private static String precip(Random random) {
+        int choice = random.nextInt(20);
+        if (choice == 0) {
+            return "M";
+        } else if (choice < 4) {
+            return "T";
+        } else if (choice < 14) {
+            return "00";
+        }
+        return String.format("%02d", random.nextInt(150));
+    }
+
+    /**
+     * @param random
+     * @return snow in tenths, trace, or missing.
+     */
+    private static String snow(Random random) {
+        int choice = random.nextInt(10);
+        if (choice == 0) {
+            return "M";
+        } else if (choice == 1) {
+            return "T";
+        }
+        return String.valueOf(random.nextInt(choice < 6 ? 1 : 120));
+    }
+}
@@ -3,12 +3,15 @@
  **/
 package gov.noaa.nws.ocp.edex.psh.dao;
 
+import java.util.Map;
+
 import com.raytheon.uf.common.dataplugin.PluginException;
 import com.raytheon.uf.common.dataplugin.persist.IPersistable;
 import com.raytheon.uf.common.datastorage.IDataStore;
 import com.raytheon.uf.common.datastorage.StorageProperties;
 import com.raytheon.uf.common.datastorage.records.AbstractStorageRecord;
-import com.raytheon.uf.common.datastorage.records.StringDataRecord;
+import com.raytheon.uf.common.datastorage.records.ByteDataRecord;
+import com.raytheon.uf.common.datastorage.records.IntegerDataRecord;
 import com.raytheon.uf.edex.database.plugin.PluginDao;
 
 import gov.noaa.nws.ocp.common.dataplugin.psh.StormDataRecord;
@@ -25,6 +28,8 @@ import gov.noaa.nws.ocp.common.dataplugin.psh.StormDataRecord;
  * Aug 12, 2017            pwang     Initial creation
  * Jan 25, 2018 #45125     wpaintsil Use path keys xml file instead 
  *                                   of overriding persistToHDF5().
+ * Oct 17, 2026            agent     Store the datasets of the header and
+ *                                   each saved category with their versions.
  *
  * </pre>
  *
@@ -41,19 +46,37 @@ public class PshDataDAO extends PluginDao {
     protected IDataStore populateDataStore(IDataStore dataStore,
             IPersistable obj) throws Exception {
 
-        AbstractStorageRecord storageRecord = null;
         StormDataRecord record = (StormDataRecord) obj;
 
-        storageRecord = new StringDataRecord(StormDataRecord.STORMDATA_XML,
-                record.getDataURI(), new String[] { record.getStormDataXML() });
+        for (Map.Entry<String, byte[]> stormData : record.getStormData()
+                .entrySet()) {
+            addDataRecord(dataStore, record, new ByteDataRecord(
+                    stormData.getKey(), record.getDataURI(),
+                    stormData.getValue()));
+        }
+
+        if (record.getVersions() != null) {
+            addDataRecord(dataStore, record,
+                    new IntegerDataRecord(StormDataRecord.STORMDATA_VERSIONS,
+                            record.getDataURI(), record.getVersions()));
+        }
 
-        StorageProperties props = new StorageProperties();
+        return dataStore;
+    }
 
-        storageRecord.setProperties(props);
+    /**
+     * Add a dataset of a record to the data store.
+     * 
+     * @param dataStore
+     * @param record
+     * @param storageRecord
+     * @throws Exception
+     */
+    private void addDataRecord(IDataStore dataStore, StormDataRecord record,
+            AbstractStorageRecord storageRecord) throws Exception {
+        storageRecord.setProperties(new StorageProperties());
         storageRecord.setCorrelationObject(record);
         dataStore.addDataRecord(storageRecord);
-
-        return dataStore;
     }
 
 }
@@ -0,0 +1,197 @@
+/**
+ * This software was developed and / or modified by NOAA/NWS/OCP/ASDT
+ **/
+package gov.noaa.nws.ocp.edex.psh.dao;
+
+import java.io.FileNotFoundException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.raytheon.uf.common.dataplugin.annotations.DataURI;
+import com.raytheon.uf.common.datastorage.IDataStore;
+import com.raytheon.uf.common.datastorage.Request;
+import com.raytheon.uf.common.datastorage.StorageException;
+import com.raytheon.uf.common.datastorage.records.ByteDataRecord;
+import com.raytheon.uf.common.datastorage.records.IDataRecord;
+import com.raytheon.uf.common.datastorage.records.IntegerDataRecord;
+import com.raytheon.uf.common.serialization.DynamicSerializationManager;
+import com.raytheon.uf.common.serialization.DynamicSerializationManager.SerializationType;
+import com.raytheon.uf.common.serialization.SerializationException;
+
+import gov.noaa.nws.ocp.common.dataplugin.psh.PshData;
+import gov.noaa.nws.ocp.common.dataplugin.psh.PshDataCategory;
+import gov.noaa.nws.ocp.common.dataplugin.psh.StormData;
+import gov.noaa.nws.ocp.common.dataplugin.psh.StormDataRecord;
+
+/**
+ * PshDataStorage
+ *
+ * Reads and writes PshData in HDF5 as one Thrift encoded dataset for the
+ * header and one for each category of storm data, with a dataset of the
+ * version of each category. A category can then be saved or retrieved
+ * without the others.
+ *
+ * <pre>
+ *
+ * SOFTWARE HISTORY
+ *
+ * Date         Ticket#    Engineer    Description
+ * ------------ ---------- ----------- --------------------------
+ * Oct 17, 2026            agent       Initial creation
+ * Oct 17, 2026            agent       Only a missing versions dataset means the
+ *                                     data is not stored by category.
+ *
+ * </pre>
+ *
+ * @author agent
+ * @version 1.0
+ */
+public final class PshDataStorage {
+
+    private PshDataStorage() {
+    }
+
+    /**
+     * Retrieve the versions of the stored categories.
+     *
+     * @param dataStore
+     * @param record
+     * @return the version of each category, indexed by category code, or null
+     *         if the data is not stored by category.
+     * @throws StorageException
+     *             if the stored data cannot be read.
+     */
+    public static int[] retrieveVersions(IDataStore dataStore,
+            StormDataRecord record) throws StorageException {
+        String[] datasets;
+        try {
+            datasets = dataStore.getDatasets(record.getDataURI());
+        } catch (FileNotFoundException e) {
+            // no data
+            return null;
+        }
+
+        if (!Arrays.asList(datasets)
+                .contains(StormDataRecord.STORMDATA_VERSIONS)) {
+            // data stored as one XML document
+            return null;
+        }
+
+        int[] versions = ((IntegerDataRecord) dataStore.retrieve(
+                record.getDataURI(), StormDataRecord.STORMDATA_VERSIONS,
+                Request.ALL)).getIntData();
+
+        int size = 0;
+        for (PshDataCategory category : PshData.STORM_DATA_CATEGORIES) {
+            size = Math.max(size, category.getCode() + 1);
+        }
+
+        return versions.length < size ? Arrays.copyOf(versions, size)
+                : versions;
+    }
+
+    /**
+     * Retrieve the header and the given categories of stored data.
+     *
+     * @param dataStore
+     * @param record
+     * @param categories
+     *            categories to retrieve
+     * @param versions
+     *            versions of the stored categories
+     * @return the data. Categories not retrieved are empty.
+     * @throws Exception
+     */
+    public static PshData retrieve(IDataStore dataStore,
+            StormDataRecord record, List<PshDataCategory> categories,
+            int[] versions) throws Exception {
+        String[] datasets = new String[categories.size() + 1];
+        datasets[0] = record.getDataURI() + DataURI.SEPARATOR
+                + StormDataRecord.STORMDATA_HEADER;
+        for (int i = 0; i < categories.size(); i++) {
+            datasets[i + 1] = record.getDataURI() + DataURI.SEPARATOR
+                    + StormDataRecord.getStormDataName(categories.get(i));
+        }
+
+        Map<String, byte[]> stormData = new HashMap<>();
+        for (IDataRecord dataRecord : dataStore.retrieveDatasets(datasets,
+                Request.ALL)) {
+            stormData.put(dataRecord.getName(),
+                    ((ByteDataRecord) dataRecord).getByteData());
+        }
+
+        PshData pdata = (PshData) decode(
+                stormData.get(StormDataRecord.STORMDATA_HEADER));
+        for (PshDataCategory category : categories) {
+            byte[] data = stormData
+                    .get(StormDataRecord.getStormDataName(category));
+            if (data != null) {
+                StormData categoryData = (StormData) decode(data);
+                categoryData.setVersion(versions[category.getCode()]);
+                pdata.setStormData(category, categoryData);
+            }
+        }
+
+        return pdata;
+    }
+
+    /**
+     * Set the datasets of the header and the given categories of data on a
+     * record to store.
+     *
+     * @param record
+     * @param pdata
+     * @param categories
+     *            categories to store
+     * @param versions
+     *            versions of all categories after storing
+     * @throws SerializationException
+     */
+    public static void setStormData(StormDataRecord record, PshData pdata,
+            List<PshDataCategory> categories, int[] versions)
+            throws SerializationException {
+        Map<String, byte[]> stormData = record.getStormData();
+        stormData.clear();
+
+        stormData.put(StormDataRecord.STORMDATA_HEADER,
+                encode(getHeader(pdata)));
+        for (PshDataCategory category : categories) {
+            stormData.put(StormDataRecord.getStormDataName(category),
+                    encode(pdata.getStormData(category)));
+        }
+
+        record.setVersions(versions);
+    }
+
+    /**
+     * @param pdata
+     * @return a copy of the storm information of the data, without storm data.
+     */
+    private static PshData getHeader(PshData pdata) {
+        PshData header = new PshData();
+        header.setBasinName(pdata.getBasinName());
+        header.setYear(pdata.getYear());
+        header.setStormName(pdata.getStormName());
+        header.setForecaster(pdata.getForecaster());
+        header.setStormType(pdata.getStormType());
+        header.setStormNumber(pdata.getStormNumber());
+        header.setStatus(pdata.getStatus());
+        header.setRoute(pdata.getRoute());
+        header.setIncludedCounties(pdata.getIncludedCounties());
+        header.setUpdateInfo(pdata.getUpdateInfo());
+        return header;
+    }
+
+    private static byte[] encode(Object obj) throws SerializationException {
+        return DynamicSerializationManager.getManager(SerializationType.Thrift)
+                .serialize(obj);
+    }
+
+    private static Object decode(byte[] data) throws SerializationException {
+        return DynamicSerializationManager.getManager(SerializationType.Thrift)
+                .deserialize(data);
+    }
+
+}
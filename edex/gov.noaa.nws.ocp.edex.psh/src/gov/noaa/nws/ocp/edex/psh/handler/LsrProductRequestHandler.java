@@ -1,16 +1,23 @@
 package gov.noaa.nws.ocp.edex.psh.handler;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import com.raytheon.uf.common.serialization.comm.IRequestHandler;
 
+import gov.noaa.nws.ocp.common.dataplugin.psh.PshDataCategory;
 import gov.noaa.nws.ocp.common.dataplugin.psh.PshLSRProduct;
+import gov.noaa.nws.ocp.common.dataplugin.psh.PshLSRReport;
 import gov.noaa.nws.ocp.common.dataplugin.psh.request.LsrProductRequest;
+import gov.noaa.nws.ocp.edex.psh.parser.PshLSRParser;
 import gov.noaa.nws.ocp.edex.psh.textdb.dao.PshTextDB;
 
 /**
  * MetarStormDataRetrieveHandler
- * 
+ *
  * <pre>
  *
  * SOFTWARE HISTORY
@@ -18,6 +25,9 @@ import gov.noaa.nws.ocp.edex.psh.textdb.dao.PshTextDB;
  * Date         Ticket#    Engineer    Description
  * ------------ ---------- ----------- --------------------------
  * Aug 04, 2017            wpaintsil   Initial creation
+ * Oct 17, 2026            agent       Return the products relevant to a tab
+ *                                     with their reports, parsed once per
+ *                                     product and cached.
  *
  * </pre>
  *
@@ -27,13 +37,116 @@ import gov.noaa.nws.ocp.edex.psh.textdb.dao.PshTextDB;
 public class LsrProductRequestHandler
         implements IRequestHandler<LsrProductRequest> {
 
+    /**
+     * Number of parsed products to keep. An LSR header has a few dozen
+     * products in the textdb, so this holds the products of several offices.
+     */
+    private static final int PARSED_PRODUCTS_SIZE = Integer
+            .getInteger("psh.lsr.parsedProducts", 256);
+
+    private final PshLSRParser parser = new PshLSRParser();
+
+    /**
+     * Reports by tab of recently requested products.
+     */
+    private final Map<ParsedKey, Map<PshDataCategory, List<PshLSRReport>>> parsedProducts = Collections
+            .synchronizedMap(new ParsedProducts());
+
     @Override
     public List<PshLSRProduct> handleRequest(LsrProductRequest request)
             throws Exception {
 
-        return PshTextDB.retrieveLSRProducts(request.getLsrHeader(),
-                request.isOperational());
+        List<PshLSRProduct> products = PshTextDB.retrieveLSRProducts(
+                request.getLsrHeader(), request.isOperational());
+
+        PshDataCategory category = request.getCategory();
+        if (category == null) {
+            return products;
+        }
+
+        List<PshLSRProduct> relevantProducts = new ArrayList<>();
+        for (PshLSRProduct product : products) {
+            if (PshLSRParser.isRelevant(product.getLsrText(), category)) {
+                product.setReports(getReports(product.getLsrText(),
+                        request.isMixedCase()).get(category));
+                relevantProducts.add(product);
+            }
+        }
+        return relevantProducts;
+    }
+
+    /**
+     * Get the reports of a product, parsing it if it has not been parsed
+     * recently.
+     *
+     * @param lsrText
+     * @param mixedCase
+     * @return reports by tab
+     */
+    private Map<PshDataCategory, List<PshLSRReport>> getReports(String lsrText,
+            boolean mixedCase) {
+        ParsedKey key = new ParsedKey(lsrText, mixedCase);
+        Map<PshDataCategory, List<PshLSRReport>> reports = parsedProducts
+                .get(key);
+        if (reports == null) {
+            reports = parser.parse(lsrText, mixedCase);
+            parsedProducts.put(key, reports);
+        }
+        return reports;
+    }
+
+    /**
+     * Parsed products, least recently used first, up to
+     * {@link #PARSED_PRODUCTS_SIZE}.
+     */
+    private static final class ParsedProducts extends
+            LinkedHashMap<ParsedKey, Map<PshDataCategory, List<PshLSRReport>>> {
+
+        private static final long serialVersionUID = 1L;
+
+        private ParsedProducts() {
+            super(16, 0.75f, true);
+        }
+
+        @Override
+        protected boolean removeEldestEntry(
+                Map.Entry<ParsedKey, Map<PshDataCategory, List<PshLSRReport>>> eldest) {
+            return size() > PARSED_PRODUCTS_SIZE;
+        }
+    }
+
+    /**
+     * Key of a parsed product: its text, and whether remarks were written in
+     * mixed case.
+     */
+    private static final class ParsedKey {
+
+        private final String lsrText;
+
+        private final boolean mixedCase;
+
+        private ParsedKey(String lsrText, boolean mixedCase) {
+            this.lsrText = lsrText;
+            this.mixedCase = mixedCase;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * lsrText.hashCode() + (mixedCase ? 1 : 0);
+        }
 
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof ParsedKey)) {
+                return false;
+            }
+            ParsedKey other = (ParsedKey) obj;
+            return mixedCase == other.mixedCase
+                    && lsrText.equals(other.lsrText);
+        }
     }
 
 }
@@ -0,0 +1,59 @@
+package gov.noaa.nws.ocp.edex.psh.handler;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.raytheon.uf.common.serialization.comm.IRequestHandler;
+
+import gov.noaa.nws.ocp.common.dataplugin.psh.MetarDataEntry;
+import gov.noaa.nws.ocp.common.dataplugin.psh.request.MetarStormDataBatchRetrieveRequest;
+import gov.noaa.nws.ocp.common.dataplugin.psh.request.MetarStormDataRetrieveRequest;
+
+/**
+ * MetarStormDataBatchRetrieveHandler
+ *
+ * Retrieves the METAR storm data of several stations in one round trip,
+ * sharing the parsed products of {@link MetarStormDataRetrieveHandler}.
+ *
+ * <pre>
+ *
+ * SOFTWARE HISTORY
+ *
+ * Date         Ticket#    Engineer    Description
+ * ------------ ---------- ----------- --------------------------
+ * Oct 17, 2026            agent       Initial creation
+ *
+ * </pre>
+ *
+ * @author agent
+ * @version 1.0
+ */
+public class MetarStormDataBatchRetrieveHandler
+        implements IRequestHandler<MetarStormDataBatchRetrieveRequest> {
+
+    private final MetarStormDataRetrieveHandler retrieveHandler;
+
+    /**
+     * Constructor
+     *
+     * @param retrieveHandler
+     *            handler of single station requests
+     */
+    public MetarStormDataBatchRetrieveHandler(
+            MetarStormDataRetrieveHandler retrieveHandler) {
+        this.retrieveHandler = retrieveHandler;
+    }
+
+    @Override
+    public List<MetarDataEntry> handleRequest(
+            MetarStormDataBatchRetrieveRequest request) throws Exception {
+        List<MetarDataEntry> entries = new ArrayList<>(
+                request.getRequests().size());
+        for (MetarStormDataRetrieveRequest stationRequest : request
+                .getRequests()) {
+            entries.add(retrieveHandler.handleRequest(stationRequest));
+        }
+        return entries;
+    }
+
+}
@@ -1,18 +1,27 @@
 package gov.noaa.nws.ocp.edex.psh.handler;
 
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import com.raytheon.uf.common.dataplugin.text.db.StdTextProduct;
 import com.raytheon.uf.common.serialization.comm.IRequestHandler;
 
 import gov.noaa.nws.ocp.common.dataplugin.psh.MetarDataEntry;
 import gov.noaa.nws.ocp.common.dataplugin.psh.request.MetarStormDataRetrieveRequest;
+import gov.noaa.nws.ocp.edex.psh.parser.MetarProduct;
 import gov.noaa.nws.ocp.edex.psh.parser.MetarStormDataParser;
 import gov.noaa.nws.ocp.edex.psh.textdb.dao.PshTextDB;
 
 /**
  * MetarStormDataRetrieveHandler
- * 
+ *
  * <pre>
  *
  * SOFTWARE HISTORY
@@ -20,6 +29,9 @@ import gov.noaa.nws.ocp.edex.psh.textdb.dao.PshTextDB;
  * Date         Ticket#    Engineer    Description
  * ------------ ---------- ----------- --------------------------
  * Jul 14, 2017            pwang     Initial creation
+ * Oct 17, 2026            agent       Keep the parsed products of each station
+ *                                     by insert time, so a refresh only parses
+ *                                     products not seen before.
  *
  * </pre>
  *
@@ -29,6 +41,20 @@ import gov.noaa.nws.ocp.edex.psh.textdb.dao.PshTextDB;
 public class MetarStormDataRetrieveHandler
         implements IRequestHandler<MetarStormDataRetrieveRequest> {
 
+    /**
+     * Number of stations to keep parsed products for.
+     */
+    private static final int PARSED_STATIONS_SIZE = Integer
+            .getInteger("psh.metar.parsedStations", 512);
+
+    private final MetarStormDataParser parser = new MetarStormDataParser();
+
+    /**
+     * Parsed products by insert time, of recently requested stations.
+     */
+    private final Map<String, Map<Long, MetarProduct>> parsedStations = Collections
+            .synchronizedMap(new ParsedStations());
+
     @Override
     public MetarDataEntry handleRequest(MetarStormDataRetrieveRequest request)
             throws Exception {
@@ -36,9 +62,79 @@ public class MetarStormDataRetrieveHandler
         List<StdTextProduct> mtrSet = PshTextDB.retrieveMetarProduct(
                 request.getNode(), request.getStation(), null, true);
 
-        return new MetarStormDataParser().parse(mtrSet, request.getStation(),
-                request.getLat(), request.getLon(), request.getPeriod());
+        return parser.summarize(
+                getProducts(request.getNode() + request.getStation(), mtrSet),
+                request.getStation(), request.getLat(), request.getLon(),
+                request.getPeriod());
+
+    }
+
+    /**
+     * Get the parsed products of a station, parsing only the products that
+     * were not parsed by an earlier request. Products no longer in the textdb
+     * are dropped.
+     *
+     * @param key
+     *            node and station
+     * @param mtrSet
+     *            products of the station from the textdb
+     * @return parsed products, in the order of the textdb products
+     */
+    private List<MetarProduct> getProducts(String key,
+            List<StdTextProduct> mtrSet) {
+        Map<Long, MetarProduct> parsedProducts;
+        synchronized (parsedStations) {
+            parsedProducts = parsedStations.get(key);
+            if (parsedProducts == null) {
+                parsedProducts = new HashMap<>();
+                parsedStations.put(key, parsedProducts);
+            }
+        }
+
+        List<MetarProduct> products = new ArrayList<>(mtrSet.size());
+        Set<Long> insertTimes = new HashSet<>();
+
+        synchronized (parsedProducts) {
+            for (StdTextProduct stp : mtrSet) {
+                Calendar insertTime = stp.getInsertTime();
+                if (insertTime == null) {
+                    products.add(parser.parseProduct(stp.getProduct()));
+                    continue;
+                }
+
+                Long time = insertTime.getTimeInMillis();
+                MetarProduct product = parsedProducts.get(time);
+                if (product == null) {
+                    product = parser.parseProduct(stp.getProduct());
+                    parsedProducts.put(time, product);
+                }
+                products.add(product);
+                insertTimes.add(time);
+            }
+            parsedProducts.keySet().retainAll(insertTimes);
+        }
+
+        return products;
+    }
+
+    /**
+     * Parsed products by station, least recently used first, up to
+     * {@link #PARSED_STATIONS_SIZE}.
+     */
+    private static final class ParsedStations
+            extends LinkedHashMap<String, Map<Long, MetarProduct>> {
+
+        private static final long serialVersionUID = 1L;
+
+        private ParsedStations() {
+            super(16, 0.75f, true);
+        }
 
+        @Override
+        protected boolean removeEldestEntry(
+                Map.Entry<String, Map<Long, MetarProduct>> eldest) {
+            return size() > PARSED_STATIONS_SIZE;
+        }
     }
 
 }
@@ -3,6 +3,8 @@
  **/
 package gov.noaa.nws.ocp.edex.psh.handler;
 
+import java.util.List;
+
 import com.raytheon.uf.common.datastorage.IDataStore;
 import com.raytheon.uf.common.datastorage.Request;
 import com.raytheon.uf.common.datastorage.records.IDataRecord;
@@ -13,8 +15,10 @@ import com.raytheon.uf.edex.database.plugin.PluginDao;
 import com.raytheon.uf.edex.database.plugin.PluginFactory;
 
 import gov.noaa.nws.ocp.common.dataplugin.psh.PshData;
+import gov.noaa.nws.ocp.common.dataplugin.psh.PshDataCategory;
 import gov.noaa.nws.ocp.common.dataplugin.psh.StormDataRecord;
 import gov.noaa.nws.ocp.common.dataplugin.psh.request.RetrievePSHDataRequest;
+import gov.noaa.nws.ocp.edex.psh.dao.PshDataStorage;
 import gov.noaa.nws.ocp.edex.psh.util.PshEdexUtil;
 
 /**
@@ -29,6 +33,8 @@ import gov.noaa.nws.ocp.edex.psh.util.PshEdexUtil;
  * Aug 04, 2017            pwang       Initial creation
  * Mar 06, 2018 #47069     wpaintsil   Revise handler for the removal 
  *                                     of the dataURI column.
+ * Oct 17, 2026            agent       Retrieve only the requested categories
+ *                                     of data stored by category.
  *
  * </pre>
  *
@@ -58,6 +64,18 @@ public class RetrievePSHDataHandler
 
             IDataStore dataStore = dao.getDataStore(record);
 
+            int[] versions = PshDataStorage.retrieveVersions(dataStore,
+                    record);
+            if (versions != null) {
+                List<PshDataCategory> categories = request.getCategories();
+                if (categories == null) {
+                    categories = PshData.STORM_DATA_CATEGORIES;
+                }
+                return PshDataStorage.retrieve(dataStore, record, categories,
+                        versions);
+            }
+
+            // Data saved before it was stored by category
             records = dataStore.retrieve(record.getDataURI(),
                     StormDataRecord.STORMDATA_XML, Request.ALL);
 
@@ -4,6 +4,8 @@
 package gov.noaa.nws.ocp.edex.psh.handler;
 
 import java.util.Calendar;
+import java.util.Collections;
+import java.util.List;
 
 import com.raytheon.uf.common.datastorage.StorageStatus;
 import com.raytheon.uf.common.serialization.SingleTypeJAXBManager;
@@ -15,9 +17,11 @@ import com.raytheon.uf.edex.database.plugin.PluginDao;
 import com.raytheon.uf.edex.database.plugin.PluginFactory;
 
 import gov.noaa.nws.ocp.common.dataplugin.psh.PshData;
+import gov.noaa.nws.ocp.common.dataplugin.psh.PshDataCategory;
 import gov.noaa.nws.ocp.common.dataplugin.psh.StormDataRecord;
 import gov.noaa.nws.ocp.common.dataplugin.psh.request.SavePSHDataRequest;
 import gov.noaa.nws.ocp.common.localization.psh.PshConfigurationManager;
+import gov.noaa.nws.ocp.edex.psh.dao.PshDataStorage;
 import gov.noaa.nws.ocp.edex.psh.util.PshEdexUtil;
 
 /**
@@ -34,6 +38,9 @@ import gov.noaa.nws.ocp.edex.psh.util.PshEdexUtil;
  * Dec 11, 2017 #41998     jwu         Move export to PshEdexUtil
  * Mar 06, 2018 #47069     wpaintsil   Revise handler for the removal 
  *                                     of the dataURI column.
+ * Oct 17, 2026            agent       Save only the requested category, with
+ *                                     the header, after checking its version,
+ *                                     or only the header.
  *
  * </pre>
  *
@@ -54,6 +61,20 @@ public class SavePSHDataHandler implements IRequestHandler<SavePSHDataRequest> {
     private static final IUFStatusHandler logger = UFStatus
             .getHandler(PshConfigurationManager.class);
 
+    /**
+     * Locks of the storms being saved, picked by the hash of the data URI.
+     */
+    private final Object[] locks = new Object[64];
+
+    /**
+     * Constructor
+     */
+    public SavePSHDataHandler() {
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new Object();
+        }
+    }
+
     @Override
     public Object handleRequest(SavePSHDataRequest request) throws Exception {
 
@@ -66,46 +87,115 @@ public class SavePSHDataHandler implements IRequestHandler<SavePSHDataRequest> {
                 pdata.getBasinName(), pdata.getYear(), pdata.getStormName());
         rec.setForecaster(pdata.getForecaster());
 
-        String xmlString = "";
-        try {
-            xmlString = jaxb.marshalToXml(pdata);
-        } catch (Exception e1) {
-            throw new Exception(
-                    "SavePshDataHandler - Failed to marshal PshObject to XML "
-                            + rec.getDataURI(),
-                    e1);
-        }
+        synchronized (getLock(rec.getDataURI())) {
 
-        rec.setStormDataXML(xmlString);
+            int[] versions = PshDataStorage
+                    .retrieveVersions(dao.getDataStore(rec), rec);
 
-        // Current date time
-        Calendar now = TimeUtil.newCalendar();
-        rec.setInsertTime(now);
+            List<PshDataCategory> savedCategories = PshData.STORM_DATA_CATEGORIES;
+            if (request.isHeaderOnly()) {
+                savedCategories = Collections.emptyList();
+            } else if (request.getCategory() != null) {
+                savedCategories = Collections
+                        .singletonList(request.getCategory());
+            }
 
-        rec.setOverwriteAllowed(true);
+            /*
+             * Check that the saved categories were not changed by someone
+             * else since they were retrieved.
+             */
+            if (versions != null && !request.isOverwrite()) {
+                for (PshDataCategory category : savedCategories) {
+                    if (pdata.getStormData(category)
+                            .getVersion() != versions[category.getCode()]) {
+                        logger.warn("SavePshDataHandler - "
+                                + category.getName() + " data of "
+                                + rec.getDataURI()
+                                + " was changed since it was retrieved.");
+                        return false;
+                    }
+                }
+            }
 
-        StormDataRecord[] records = new StormDataRecord[1];
-        records[0] = rec;
-        try {
-            StorageStatus status = dao.persistToHDF5(records);
+            /*
+             * Store all categories when the data is not stored by category
+             * yet, but only update the versions of the saved ones.
+             */
+            List<PshDataCategory> storedCategories = savedCategories;
+            if (versions == null) {
+                versions = new int[PshData.STORM_DATA_CATEGORIES.size()];
+                storedCategories = PshData.STORM_DATA_CATEGORIES;
+            }
 
-            if (status.getExceptions().length > 0) {
-                logger.warn(status.getExceptions().toString());
+            for (PshDataCategory category : savedCategories) {
+                versions[category.getCode()]++;
+            }
+            for (PshDataCategory category : storedCategories) {
+                pdata.getStormData(category)
+                        .setVersion(versions[category.getCode()]);
+            }
+
+            try {
+                PshDataStorage.setStormData(rec, pdata, storedCategories,
+                        versions);
+            } catch (Exception e1) {
+                throw new Exception(
+                        "SavePshDataHandler - Failed to serialize PshObject "
+                                + rec.getDataURI(),
+                        e1);
+            }
 
-                return false;
-            } else {
-                dao.persistToDatabase(records);
+            // Current date time
+            Calendar now = TimeUtil.newCalendar();
+            rec.setInsertTime(now);
+
+            rec.setOverwriteAllowed(true);
+
+            StormDataRecord[] records = new StormDataRecord[1];
+            records[0] = rec;
+            try {
+                StorageStatus status = dao.persistToHDF5(records);
+
+                if (status.getExceptions().length > 0) {
+                    logger.warn(status.getExceptions().toString());
+
+                    return false;
+                } else {
+                    dao.persistToDatabase(records);
+                }
+            } catch (Exception e) {
+                throw new Exception(
+                        "SavePshDataHandler - Failed to store "
+                                + rec.getDataURI(),
+                        e);
             }
-        } catch (Exception e) {
-            throw new Exception(
-                    "SavePshDataHandler - Failed to store " + rec.getDataURI(),
-                    e);
         }
 
         // Export if desired.
-        PshEdexUtil.exportProduct(xmlString, pdata, PshEdexUtil.PSH_XML_FILE);
+        if (PshEdexUtil.isExportConfigured()) {
+            String xmlString = "";
+            try {
+                xmlString = jaxb.marshalToXml(pdata);
+            } catch (Exception e1) {
+                throw new Exception(
+                        "SavePshDataHandler - Failed to marshal PshObject to XML "
+                                + rec.getDataURI(),
+                        e1);
+            }
+
+            PshEdexUtil.exportProduct(xmlString, pdata,
+                    PshEdexUtil.PSH_XML_FILE);
+        }
 
         return true;
     }
 
+    /**
+     * @param dataURI
+     * @return the lock of a storm.
+     */
+    private Object getLock(String dataURI) {
+        return locks[(dataURI.hashCode() & Integer.MAX_VALUE) % locks.length];
+    }
+
 }
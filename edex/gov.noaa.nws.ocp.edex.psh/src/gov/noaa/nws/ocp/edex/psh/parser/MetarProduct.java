@@ -0,0 +1,73 @@
+/**
+ * This software was developed and / or modified by NOAA/NWS/OCP/ASDT
+ */
+package gov.noaa.nws.ocp.edex.psh.parser;
+
+/**
+ * MetarProduct
+ *
+ * A METAR/SPECI text product parsed by {@link MetarStormDataParser}: the
+ * observation line with its continuation lines, and the day and time of the
+ * first observation in the product. Not modified once parsed, so it can be
+ * shared between requests.
+ *
+ * <pre>
+ *
+ * SOFTWARE HISTORY
+ *
+ * Date         Ticket#    Engineer    Description
+ * ------------ ---------- ----------- --------------------------
+ * Oct 17, 2026            agent       Initial creation
+ *
+ * </pre>
+ *
+ * @author agent
+ * @version 1.0
+ */
+public class MetarProduct {
+
+    private final int startDay;
+
+    private final int startTime;
+
+    private final MetarTextLine line;
+
+    /**
+     * Constructor.
+     *
+     * @param startDay
+     *            day of the first observation in the product.
+     * @param startTime
+     *            hhmm of the first observation in the product.
+     * @param line
+     *            observation line, null if the product has no METAR/SPECI
+     *            line.
+     */
+    public MetarProduct(int startDay, int startTime, MetarTextLine line) {
+        this.startDay = startDay;
+        this.startTime = startTime;
+        this.line = line;
+    }
+
+    /**
+     * @return the day of the first observation in the product.
+     */
+    public int getStartDay() {
+        return startDay;
+    }
+
+    /**
+     * @return the hhmm of the first observation in the product.
+     */
+    public int getStartTime() {
+        return startTime;
+    }
+
+    /**
+     * @return the observation line, null if the product could not be parsed.
+     */
+    public MetarTextLine getLine() {
+        return line;
+    }
+
+}
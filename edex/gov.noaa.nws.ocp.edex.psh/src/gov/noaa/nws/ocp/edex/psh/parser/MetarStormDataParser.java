@@ -27,6 +27,9 @@ import gov.noaa.nws.ocp.common.dataplugin.psh.MetarDataEntry;
  * Sep 14, 2017 #37917     wpaintsil   Tweaked METAR_EXP regex. 
  *                                     Added some logging for when products aren't matched.
  * Oct 05, 2017 #37917     wpaintsil   Revise time range algorithm.
+ * Oct 17, 2026            agent       Split parsing of each product from
+ *                                     summarizing, so parsed products can
+ *                                     be cached.
  *
  * </pre>
  *
@@ -94,6 +97,66 @@ public class MetarStormDataParser {
      */
     public MetarDataEntry parse(List<StdTextProduct> metarProducts,
             String station, float lat, float lon, int period) {
+        List<MetarProduct> products = new ArrayList<>(metarProducts.size());
+        for (StdTextProduct stp : metarProducts) {
+            products.add(parseProduct(stp.getProduct()));
+        }
+        return summarize(products, station, lat, lon, period);
+    }
+
+    /**
+     * Parse the observation of one Metar product.
+     * 
+     * @param product
+     *            product text
+     * @return the parsed product, with a null line if no METAR/SPECI line was
+     *         found.
+     */
+    public MetarProduct parseProduct(String product) {
+        String[] lineArray = product.split(NEW_LINE);
+
+        int startTime = -1;
+        int startDay = -1;
+
+        // each line of text product
+        MetarTextLine mline = null;
+        for (int i = 0; i < lineArray.length; i++) {
+
+            if (METAR_SPECI_EXP.matcher(lineArray[i]).find()) {
+                mline = new MetarTextLine(lineArray[i]);
+
+                if (startTime == -1 || startDay == -1) {
+                    startTime = mline.getHhmm();
+                    startDay = mline.getDay();
+                }
+            } else if (mline != null) {
+                mline.mergeToOneLine(lineArray[i]);
+            }
+        }
+
+        if (mline == null) {
+            logger.warn("Could not parse Metar product:\n [" + product + "]");
+        } else {
+            mline.determineContentType();
+        }
+
+        return new MetarProduct(startDay, startTime, mline);
+    }
+
+    /**
+     * Get the min SLP, and max sustained and peak winds of parsed Metar
+     * products within the given period.
+     * 
+     * @param metarProducts
+     *            parsed products, latest first
+     * @param station
+     * @param lat
+     * @param lon
+     * @param period
+     * @return
+     */
+    public MetarDataEntry summarize(List<MetarProduct> metarProducts,
+            String station, float lat, float lon, int period) {
         MetarDataEntry osd = new MetarDataEntry();
         // osd.setCategory(PshDataCategory.METAR);
         osd.setSite(station);
@@ -109,35 +172,18 @@ public class MetarStormDataParser {
         int startDay = -1;
 
         // each product
-        for (StdTextProduct stp : metarProducts) {
-
-            String[] lineArray = stp.getProduct().split(NEW_LINE);
-
-            // each line of text product
-            MetarTextLine mline = null;
-            for (int i = 0; i < lineArray.length; i++) {
-
-                if (METAR_SPECI_EXP.matcher(lineArray[i]).find()) {
-                    mline = new MetarTextLine(lineArray[i]);
-
-                    // Get the start time. Assumes the latest entry has the
-                    // latest date-time.
-                    if (startTime == -1 || startDay == -1) {
-                        startTime = mline.getHhmm();
-                        startDay = mline.getDay();
-                    }
-                } else if (mline != null) {
-                    mline.mergeToOneLine(lineArray[i]);
-                }
-            }
-
+        for (MetarProduct product : metarProducts) {
+            MetarTextLine mline = product.getLine();
             if (mline == null) {
-                logger.warn("Could not parse Metar product:\n ["
-                        + stp.getProduct() + "]");
                 continue;
             }
 
-            mline.determineContentType();
+            // Get the start time. Assumes the latest entry has the
+            // latest date-time.
+            if (startTime == -1 || startDay == -1) {
+                startTime = product.getStartTime();
+                startDay = product.getStartDay();
+            }
 
             // Add into list
             if (mline.isContainSLP()) {
@@ -0,0 +1,628 @@
+/**
+ * This software was developed and / or modified by NOAA/NWS/OCP/ASDT
+ */
+package gov.noaa.nws.ocp.edex.psh.parser;
+
+import java.text.DateFormat;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.commons.lang.StringUtils;
+
+import com.raytheon.uf.common.status.IUFStatusHandler;
+import com.raytheon.uf.common.status.UFStatus;
+import com.raytheon.uf.common.time.util.TimeUtil;
+
+import gov.noaa.nws.ocp.common.dataplugin.psh.EffectDataEntry;
+import gov.noaa.nws.ocp.common.dataplugin.psh.FloodingDataEntry;
+import gov.noaa.nws.ocp.common.dataplugin.psh.PshDataCategory;
+import gov.noaa.nws.ocp.common.dataplugin.psh.PshLSRHazard;
+import gov.noaa.nws.ocp.common.dataplugin.psh.PshLSRReport;
+import gov.noaa.nws.ocp.common.dataplugin.psh.RainfallDataEntry;
+import gov.noaa.nws.ocp.common.dataplugin.psh.TornadoDataEntry;
+import gov.noaa.nws.ocp.common.localization.psh.PshCity;
+import gov.noaa.nws.ocp.common.localization.psh.PshTimeZone;
+
+/**
+ * Parses the reports of an LSR product into rainfall, flooding, tornado, and
+ * storm effect entries for the PSH tabs. All tabs are parsed in one pass over
+ * the product, which was previously done per tab by the LSR File Manager
+ * dialog.
+ *
+ * <pre>
+ *
+ * SOFTWARE HISTORY
+ *
+ * Date         Ticket#    Engineer    Description
+ * ------------ ---------- ----------- --------------------------
+ * Oct 17, 2026            agent       Initial creation, from PshLSRDialog.
+ *
+ * </pre>
+ *
+ * @author agent
+ * @version 1.0
+ */
+public class PshLSRParser {
+
+    /**
+     * A regex used to match a latitude string in an LSR product. "[+-]?"
+     * indicates a positive or negative number. "\\d+" indicates an integer "."
+     * indicates a decimal point. "N" indicates the North/South abbreviation for
+     * latitude.
+     */
+    private static final Pattern LAT_EXP = Pattern
+            .compile("([+-]?\\d+\\.?\\d+)\\s*[N|S]");
+
+    /**
+     * A regex used to match a longitude string in an LSR product. "[+-]?"
+     * indicates a positive or negative number. "\\d+" indicates an integer "."
+     * indicates a decimal point. "W" indicates the West/East abbreviation for
+     * longitude.
+     */
+    private static final Pattern LON_EXP = Pattern
+            .compile("([+-]?\\d+\\.?\\d+)\\s*[W|E]");
+
+    /** The "$$" terminator line of a product segment */
+    private static final Pattern TERMINATOR_EXP = Pattern.compile("\\$\\$");
+
+    /** A single digit, the distance of a report from a city */
+    private static final Pattern DIGIT_EXP = Pattern.compile("[0-9]");
+
+    /**
+     * Start of the LSR text after the product header.
+     */
+    private static final String LSR_START = "PRELIMINARY LOCAL STORM REPORT";
+
+    /**
+     * Logger.
+     */
+    private static final IUFStatusHandler logger = UFStatus
+            .getHandler(PshLSRParser.class);
+
+    /**
+     * Empty constructor
+     */
+    public PshLSRParser() {
+
+    }
+
+    /**
+     * Checks if the contents of an LSR product are relevant to a PSH tab.
+     *
+     * @param productText
+     * @param category
+     * @return true if the product mentions events of the tab.
+     */
+    public static boolean isRelevant(String productText,
+            PshDataCategory category) {
+
+        String tempText = productText.toUpperCase();
+
+        switch (category) {
+        case RAINFALL:
+            return tempText.contains("HEAVY RAIN");
+        case FLOODING:
+            return tempText.contains("FLOOD");
+        case TORNADO:
+            return tempText.contains("TORNADO");
+        case EFFECT:
+            for (PshLSRHazard hazard : PshLSRHazard.values()) {
+                if (tempText.contains(hazard.name().toUpperCase())
+                        || tempText.contains(hazard.toString().toUpperCase())) {
+                    return true;
+                }
+            }
+            return false;
+        default:
+            return true;
+        }
+    }
+
+    /**
+     * Remove the header of an LSR product.
+     *
+     * @param productText
+     * @return the product text from the "PRELIMINARY LOCAL STORM REPORT" line.
+     */
+    public static String removeHeader(String productText) {
+        int begin = productText.indexOf(LSR_START);
+        return begin < 0 ? productText : productText.substring(begin);
+    }
+
+    /**
+     * Parse the reports of an LSR product for every tab that takes LSR
+     * reports.
+     *
+     * @param productText
+     *            LSR product text, with or without the header.
+     * @param mixedCase
+     *            true to write remarks in mixed case.
+     * @return reports by tab, in product order. Storm effect reports are
+     *         grouped by hazard in hazard order.
+     */
+    public Map<PshDataCategory, List<PshLSRReport>> parse(String productText,
+            boolean mixedCase) {
+        List<PshLSRReport> rainfall = new ArrayList<>();
+        List<PshLSRReport> flooding = new ArrayList<>();
+        List<PshLSRReport> tornado = new ArrayList<>();
+        Map<PshLSRHazard, List<PshLSRReport>> effects = new EnumMap<>(
+                PshLSRHazard.class);
+
+        String[] lsrLines = removeHeader(productText).split("\n");
+
+        String zone = "EST";
+        if (lsrLines.length > 2) {
+            String[] zoneLine = lsrLines[2].split(" ");
+            if (zoneLine.length > 2) {
+                zone = zoneLine[2];
+            }
+        }
+
+        for (int ii = 7; ii < lsrLines.length - 1; ii++) {
+            if (!isReportStart(lsrLines[ii])) {
+                continue;
+            }
+
+            try {
+                String event = lsrLines[ii].substring(12, 29).trim();
+
+                if (event.equalsIgnoreCase("HEAVY RAIN")) {
+                    rainfall.add(new PshLSRReport(event,
+                            parseRainfall(lsrLines, ii)));
+                }
+
+                if (event.equalsIgnoreCase("FLOOD")
+                        || event.equalsIgnoreCase("FLASH FLOOD")) {
+                    flooding.add(new PshLSRReport(event,
+                            parseFlooding(lsrLines, ii, mixedCase)));
+                }
+
+                if (event.equalsIgnoreCase("TORNADO")) {
+                    tornado.add(new PshLSRReport(event,
+                            parseTornado(lsrLines, ii, zone, mixedCase)));
+                }
+
+                for (PshLSRHazard hazard : PshLSRHazard.values()) {
+                    if (hazard.getLabel().toUpperCase()
+                            .equals(event.toUpperCase())) {
+                        List<PshLSRReport> hazardReports = effects
+                                .get(hazard);
+                        if (hazardReports == null) {
+                            hazardReports = new ArrayList<>();
+                            effects.put(hazard, hazardReports);
+                        }
+                        hazardReports.add(new PshLSRReport(hazard.getLabel(),
+                                parseEffect(lsrLines, ii, mixedCase)));
+                    }
+                }
+            } catch (RuntimeException e) {
+                logger.warn("Could not parse LSR report at line " + ii + ": ["
+                        + lsrLines[ii] + "]", e);
+            }
+        }
+
+        List<PshLSRReport> effect = new ArrayList<>();
+        for (List<PshLSRReport> hazardReports : effects.values()) {
+            effect.addAll(hazardReports);
+        }
+
+        Map<PshDataCategory, List<PshLSRReport>> reports = new EnumMap<>(
+                PshDataCategory.class);
+        reports.put(PshDataCategory.RAINFALL,
+                Collections.unmodifiableList(rainfall));
+        reports.put(PshDataCategory.FLOODING,
+                Collections.unmodifiableList(flooding));
+        reports.put(PshDataCategory.TORNADO,
+                Collections.unmodifiableList(tornado));
+        reports.put(PshDataCategory.EFFECT,
+                Collections.unmodifiableList(effect));
+        return reports;
+    }
+
+    /**
+     * @param line
+     * @return true if the line is the first line of a report, which starts
+     *         with the local time, e.g. "0900 AM".
+     */
+    private static boolean isReportStart(String line) {
+        if (line.isEmpty() || line.charAt(0) == ' '
+                || TERMINATOR_EXP.matcher(line).matches()) {
+            return false;
+        }
+
+        String[] splitLine = line.split(" ");
+        return splitLine.length > 1 && (splitLine[1].equalsIgnoreCase("AM")
+                || splitLine[1].equalsIgnoreCase("PM"));
+    }
+
+    /**
+     * Parse a storm rainfall report.
+     *
+     * @param lsrLines
+     * @param ii
+     *            index of the first line of the report.
+     * @return rainfall entry
+     */
+    private static RainfallDataEntry parseRainfall(String[] lsrLines, int ii) {
+        String line1 = lsrLines[ii];
+        String line2 = lsrLines[ii + 1];
+
+        String magnitude = firstWord(line2.substring(13, 28));
+
+        RainfallDataEntry rainData = new RainfallDataEntry();
+        rainData.setRainfall(parseFloat(magnitude));
+        rainData.setIncomplete(magnitude.isEmpty() ? "I" : "");
+
+        rainData.setCity(parseCity(line1, line2));
+
+        String[] cityLocationArr = line1.substring(29, 53).split(" ");
+        if (isDistance(cityLocationArr)) {
+            rainData.setDirection(cityLocationArr[1]);
+            rainData.setDistance(parseFloat(cityLocationArr[0]));
+        } else {
+            rainData.setDirection("None");
+            rainData.setDistance(0);
+        }
+
+        return rainData;
+    }
+
+    /**
+     * Parse an inland flooding report.
+     *
+     * @param lsrLines
+     * @param ii
+     *            index of the first line of the report.
+     * @param mixedCase
+     * @return flooding entry
+     */
+    private static FloodingDataEntry parseFlooding(String[] lsrLines, int ii,
+            boolean mixedCase) {
+        FloodingDataEntry floodData = new FloodingDataEntry();
+
+        floodData.setCounty(lsrLines[ii + 1].substring(29, 47).trim());
+        floodData.setRemarks(
+                formatRemarks(parseRemarks(lsrLines, ii + 3), mixedCase));
+
+        return floodData;
+    }
+
+    /**
+     * Parse a tornado report.
+     *
+     * @param lsrLines
+     * @param ii
+     *            index of the first line of the report.
+     * @param zone
+     *            time zone of the product, e.g. "EST"
+     * @param mixedCase
+     * @return tornado entry
+     */
+    private static TornadoDataEntry parseTornado(String[] lsrLines, int ii,
+            String zone, boolean mixedCase) {
+        String line1 = lsrLines[ii];
+        String line2 = lsrLines[ii + 1];
+
+        String localTime = line1.substring(0, 7).trim();
+        String date = line2.substring(0, 7).trim();
+        String magnitude = firstWord(line2.substring(13, 28));
+
+        TornadoDataEntry tornadoData = new TornadoDataEntry();
+        if (!magnitude.isEmpty()) {
+            tornadoData.setMagnitude(magnitude);
+            tornadoData.setIncomplete("");
+        } else {
+            tornadoData.setMagnitude("N/A");
+            tornadoData.setIncomplete("I");
+        }
+
+        tornadoData.setDatetime(parseDateTime(zone, date, localTime));
+
+        tornadoData.setLocation(parseCity(line1, line2));
+
+        String[] cityLocationArr = line1.substring(29, 53).split(" ");
+        if (isDistance(cityLocationArr)) {
+            tornadoData.setDirection(cityLocationArr[1]);
+            tornadoData.setDistance(parseFloat(cityLocationArr[0]));
+        } else {
+            tornadoData.setDirection("None");
+            tornadoData.setDistance(0);
+        }
+
+        tornadoData.setRemarks(
+                formatRemarks(parseRemarks(lsrLines, ii + 3), mixedCase));
+
+        return tornadoData;
+    }
+
+    /**
+     * Parse a storm effect report. The first remarks line may hold the number
+     * of fatalities and injuries, e.g. "*** 1 FATAL, 2 INJ ***".
+     *
+     * @param lsrLines
+     * @param ii
+     *            index of the first line of the report.
+     * @param mixedCase
+     * @return effect entry
+     */
+    private static EffectDataEntry parseEffect(String[] lsrLines, int ii,
+            boolean mixedCase) {
+        String[] comm1 = ii + 3 < lsrLines.length ? lsrLines[ii + 3].split(" ")
+                : new String[0];
+
+        int fatal = 0, inj = 0, commf = 0;
+        if (comm1.length > 5 && comm1[0].equals("***")
+                && comm1[2].equalsIgnoreCase("FATAL")
+                && comm1[4].equalsIgnoreCase("INJ") && comm1[5].equals("***")) {
+            commf = 6;
+            fatal = parseInt(comm1[1]);
+            inj = parseInt(comm1[3]);
+        } else if (comm1.length > 3 && comm1[0].equals("***")
+                && comm1[3].equals("***")) {
+            commf = 4;
+            if (comm1[2].equalsIgnoreCase("FATAL")) {
+                fatal = parseInt(comm1[1]);
+            } else if (comm1[2].equalsIgnoreCase("INJ")) {
+                inj = parseInt(comm1[1]);
+            }
+        }
+
+        EffectDataEntry stormData = new EffectDataEntry();
+        stormData.setCounty(lsrLines[ii + 1].substring(29, 47).trim());
+        stormData.setDeaths(fatal);
+        stormData.setInjuries(inj);
+
+        // Set to 0 in legacy
+        stormData.setEvacuations(0);
+
+        StringBuilder remark = new StringBuilder();
+        if (commf == 0 && isRemarkLine(lsrLines, ii + 3)) {
+            // The first line is all remarks
+            for (String word : comm1) {
+                remark.append(word).append(' ');
+            }
+            remark.append(parseRemarks(lsrLines, ii + 4));
+        } else {
+            remark.append(parseRemarks(lsrLines, ii + 3));
+        }
+
+        stormData.setRemarks(formatRemarks(remark.toString(), mixedCase));
+
+        return stormData;
+    }
+
+    /**
+     * Parse the city, county, state, and location of a report.
+     *
+     * @param line1
+     *            first line of the report.
+     * @param line2
+     *            second line of the report.
+     * @return city of the report
+     */
+    private static PshCity parseCity(String line1, String line2) {
+        String cityLocation = line1.substring(29, 53);
+
+        String latStr = line1.substring(53, 59).trim();
+        float lat = parseFloat(findPattern(LAT_EXP, latStr));
+        if (latStr.endsWith("S")) {
+            lat = -lat;
+        }
+
+        String lonStr = line1.substring(60, Math.min(67, line1.length()))
+                .trim();
+        float lon = parseFloat(findPattern(LON_EXP, lonStr));
+        if (lonStr.endsWith("W")) {
+            lon = -lon;
+        }
+
+        String countyLocation = line2.substring(29, 47);
+        String state = line2.substring(48, 50);
+
+        String location = cityLocation;
+        String[] cityLocationArr = cityLocation.split(" ");
+        if (isDistance(cityLocationArr)) {
+            // e.g. "3 NNE MIAMI", the city follows the distance and direction
+            StringBuilder locationBuilder = new StringBuilder();
+            for (int jj = 2; jj < cityLocationArr.length; jj++) {
+                locationBuilder.append(' ').append(cityLocationArr[jj]);
+            }
+            location = locationBuilder.toString();
+        }
+
+        return new PshCity(location.trim(), countyLocation.trim(),
+                state.trim(), lat, lon, "", "", "");
+    }
+
+    /**
+     * @param cityLocationArr
+     *            words of the location of a report.
+     * @return true if the location starts with a distance and direction from
+     *         a city.
+     */
+    private static boolean isDistance(String[] cityLocationArr) {
+        return cityLocationArr.length > 1
+                && DIGIT_EXP.matcher(cityLocationArr[0]).matches();
+    }
+
+    /**
+     * @param text
+     * @return the first word of the text, or empty if it starts with a space.
+     */
+    private static String firstWord(String text) {
+        String[] words = text.split(" ");
+        return words.length > 0 ? words[0] : "";
+    }
+
+    /**
+     * @param lsrLines
+     * @param jj
+     * @return true if the line exists and is an indented remarks line.
+     */
+    private static boolean isRemarkLine(String[] lsrLines, int jj) {
+        return jj < lsrLines.length && !lsrLines[jj].isEmpty()
+                && lsrLines[jj].charAt(0) == ' ';
+    }
+
+    /**
+     * Join the remarks lines of a report.
+     *
+     * @param lsrLines
+     * @param start
+     *            index of the first remarks line.
+     * @return remarks, each line followed by a space.
+     */
+    private static String parseRemarks(String[] lsrLines, int start) {
+        StringBuilder remark = new StringBuilder();
+        for (int jj = start; isRemarkLine(lsrLines, jj); jj++) {
+            String line = lsrLines[jj];
+            String commLine = line.length() > 12
+                    ? line.substring(12, Math.min(line.length(), 69)) : "";
+
+            remark.append(commLine);
+            if (!commLine.endsWith(" ")) {
+                remark.append(' ');
+            }
+        }
+        return remark.toString();
+    }
+
+    /**
+     * @param remarks
+     * @param mixedCase
+     * @return trimmed remarks, capitalized if mixed case.
+     */
+    private static String formatRemarks(String remarks, boolean mixedCase) {
+        String trimmed = remarks.trim();
+        return mixedCase ? capitalize(trimmed) : trimmed;
+    }
+
+    /**
+     * Convert a string to lower case and then capitalize the first word in each
+     * sentence of the string.
+     *
+     * @param inStr
+     *            String to be Capitalized.
+     * @return String
+     */
+    private static String capitalize(String inStr) {
+
+        String outStr = inStr;
+
+        if (inStr != null && !inStr.isEmpty()) {
+            String lwStr = inStr.trim().toLowerCase();
+            String[] sentences = lwStr.split("\\.");
+            if (sentences.length > 0) {
+                StringBuilder stb = new StringBuilder();
+                for (String str : sentences) {
+                    stb.append(StringUtils.capitalize(str)).append(". ");
+                }
+                outStr = stb.toString();
+            } else {
+                outStr = StringUtils.capitalize(lwStr);
+            }
+        }
+
+        return outStr;
+
+    }
+
+    /**
+     * Use a regular expression to search a string.
+     *
+     * @param pattern
+     *            a regular expression
+     * @param searchString
+     *            the string to search
+     * @return the first group of the match, or empty if none.
+     */
+    private static String findPattern(Pattern pattern, String searchString) {
+        Matcher matcher = pattern.matcher(searchString);
+        if (matcher.find()) {
+            return matcher.group(1);
+        }
+
+        logger.debug("Match not found: regex ->" + pattern.pattern()
+                + " string -> " + searchString);
+        return "";
+    }
+
+    /**
+     * Parse a local date and time form LSR report and convert to UTC.
+     *
+     * @param zone
+     *            time zone string such as "EST"
+     * @param date
+     *            date String in the format MM/dd/yyyy
+     * @param time
+     *            time String in the format hhmm a
+     * @return dateTime String in the format dd/HHmm
+     */
+    private static String parseDateTime(String zone, String date,
+            String time) {
+        DateFormat timeFormat = new SimpleDateFormat("hhmm a MM/dd/yyyy");
+        Calendar formattedLocalDate = TimeUtil.newCalendar();
+        try {
+            formattedLocalDate.setTime(timeFormat.parse(time + " " + date));
+        } catch (ParseException e) {
+            logger.warn("Could not parse date or time string: " + time + " "
+                    + date);
+        }
+
+        // Adjust to UTC
+        PshTimeZone pshTZ = PshTimeZone.getPshTimeZone(zone.substring(0, 1));
+        int timeDiff = pshTZ.getTimeOffset(formattedLocalDate.getTime());
+
+        formattedLocalDate.add(Calendar.HOUR_OF_DAY, -timeDiff);
+
+        return formattedLocalDate.get(Calendar.DAY_OF_MONTH) + "/"
+                + String.format("%02d",
+                        formattedLocalDate.get(Calendar.HOUR_OF_DAY))
+                + String.format("%02d",
+                        formattedLocalDate.get(Calendar.MINUTE));
+    }
+
+    /**
+     * Error handling for Float.parseFloat()
+     *
+     * @param valueString
+     *            the String to parse
+     * @return a float, or 0 if not a number.
+     */
+    private static float parseFloat(String valueString) {
+        float value = 0;
+        try {
+            value = Float.parseFloat(valueString);
+        } catch (NumberFormatException e) {
+            logger.error("PshLSRParser could not parse " + valueString
+                    + " to float");
+        }
+        return value;
+    }
+
+    /**
+     * Error handling for Integer.parseInt()
+     *
+     * @param valueString
+     *            the String to parse
+     * @return an int, or 0 if not a number.
+     */
+    private static int parseInt(String valueString) {
+        int value = 0;
+        try {
+            value = Integer.parseInt(valueString);
+        } catch (NumberFormatException e) {
+            logger.error("PshLSRParser could not parse " + valueString
+                    + " to int");
+        }
+        return value;
+    }
+}
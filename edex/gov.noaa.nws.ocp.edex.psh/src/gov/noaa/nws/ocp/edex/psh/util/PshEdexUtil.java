@@ -41,6 +41,7 @@ import gov.noaa.nws.ocp.common.localization.psh.PshExportType;
  * 14 AUG 2017  #6930      jwu         Initial creation
  * 11 DEC 2017  #41998     jwu         Add exportProduct().
  * 07 MAR 2018  #47069     wpaintsil   Add getStormDataRecord().
+ * 17 OCT 2026             agent       Add isExportConfigured().
  * 
  * </pre>
  * 
@@ -106,6 +107,17 @@ public class PshEdexUtil {
                 msgBody, null);
     }
 
+    /**
+     * @return true if PSH products are configured to be exported.
+     */
+    public static boolean isExportConfigured() {
+        PshExportType export = PshConfigurationManager.getInstance()
+                .getConfigHeader().getExportProduct();
+
+        return export == PshExportType.LOCALIZATION
+                || export == PshExportType.USER;
+    }
+
     /**
      * Export PSH product content to the configured directory. If any part of
      * the directory path does not exist, create it. If the file does not exist,
@@ -119,11 +131,7 @@ public class PshEdexUtil {
     public static void exportProduct(String product, PshData pdata,
             String fileName) {
 
-        PshExportType export = PshConfigurationManager.getInstance()
-                .getConfigHeader().getExportProduct();
-
-        if (export == PshExportType.LOCALIZATION
-                || export == PshExportType.USER) {
+        if (isExportConfigured()) {
 
             String dir = PshConfigurationManager.getInstance().getConfigHeader()
                     .getExportDir();
@@ -38,6 +38,8 @@ import com.raytheon.uf.common.status.UFStatus;
  *                                     moved decodeBinLightningData() and decodeBitShiftedBinLightningData() 
  *                                          to BinLightningDecoder to solve circular dependency
  * Jun 05, 2014  3226      bclement    LightningStrikePoint refactor
+ * Oct 17, 2026            agent       decode encrypted data in place into BinLightningStrikes columns
+ * Oct 17, 2026            agent       added isValidFirstRecord() to probe decryption keys
  * </pre>
  * 
  * @author Wufeng Zhou
@@ -89,51 +91,19 @@ public class BinLightningDecoderUtil {
 	 * @return
 	 */
 	public static List<LightningStrikePoint> decodeDecryptedBinLightningData(byte[] data) {
-		List<LightningStrikePoint> strikes = new ArrayList<LightningStrikePoint>();
+		BinLightningStrikes columns = decodeDecryptedBinLightningStrikes(data);
+		List<LightningStrikePoint> strikes = new ArrayList<LightningStrikePoint>(columns.size());
 		
-		int offset = 0;
-		// length of data to be put in ByteBuffer for easier reading of the little-endian data
-		//   data put into ByteBuffer would be byte 2 to byte 27 (skipping leading 2 type bytes and trailing 4 terminator bytes) 
-		int dataLen = BINLIGHTNING_RECORD_SIZE - 2 - LAST_TERM_BYTES.length;
+		// Calendar.getInstance() looks up the default time zone and locale, clone one instead
+		Calendar calTemplate = Calendar.getInstance();
 		
-		for (int i = 0; i < data.length / BINLIGHTNING_RECORD_SIZE; i++) {
-			ByteBuffer buffer = ByteBuffer.allocate(dataLen);
-			buffer.order(ByteOrder.LITTLE_ENDIAN);
-	
-			// put the data into ByteBuffer
-			offset = i * BINLIGHTNING_RECORD_SIZE;
-			buffer.put(data, offset + 2, dataLen);
-
-			// Reset buffer position to read in data we just stored.
-			buffer.position(0);
-			
-			// Do NOT change the read order below
-			// read signed 16 bit integer as short and assigned to short
-			// read other 16 bit (unsigned) integer as short, but assign to int after bit & with 0xffff, so no negatives when first bit is 1 
-			// Read count of seconds first
-			long epochSeconds = buffer.getInt() & 0xffffffffL;
-			// Convert to millisecond and add on millisecond offset
-			int miliseconds = buffer.getShort() & 0xffff; // valid range: 0 to 999
-			long epochTime = epochSeconds * 1000 + miliseconds;
-	
-			// read lat/lon as float 
-			float lat = buffer.getFloat(); // valid range: -90.0 to 90.0
-			float lon = buffer.getFloat(); // valid range: -180.0 to 180.0
-	
-			// vendor, 0x01 for CONUS, i.e. NLD data;
-			//         0x02 for long range source, GLD360? 
-			int vendor = buffer.getShort() & 0xffff; // valid values: 0x0001 (CONUS) or 0x0002 (long range source)
-
-			int strokeType = buffer.getShort() & 0xffff; // 0x0000 for cloud-to-ground, 0x00ff for cloud-to-cloud, 0xffff for total flash
-			short strokeKiloAmps = buffer.getShort(); // valid range: -254 to 254, specifically 16 bit signed integer
-			int strokeMultiplicity = buffer.getShort() & 0xffff; // i.e. stroke count, valid range: 0 to 15
-            // int strokeDuration = buffer.getShort() & 0xffff; // valid range:
-            // 0 to 65535 (i.e., looks like unsigned short)
-            // int reserved = buffer.getShort() & 0xffff;
+		for (int i = 0; i < columns.size(); i++) {
+			int vendor = columns.getVendors()[i];
+			int strokeType = columns.getStrokeTypes()[i];
 
             // Create the strike record from the report info and base time information. 
-			Calendar cal = Calendar.getInstance();
-			cal.setTimeInMillis(epochTime);
+			Calendar cal = (Calendar) calTemplate.clone();
+			cal.setTimeInMillis(columns.getTimes()[i]);
 			
             /*
              * new spec does not seem to have lightning message type indicator
@@ -161,8 +131,8 @@ public class BinLightningDecoderUtil {
 				msgType = LtgMsgType.STRIKE_MSG_RT;
 			}
 			
-            LightningStrikePoint lsp = new LightningStrikePoint(lat, lon, cal,
-                    msgType);
+            LightningStrikePoint lsp = new LightningStrikePoint(
+                    columns.getLats()[i], columns.getLons()[i], cal, msgType);
             LtgStrikeType ltgStrikeType = LtgStrikeType.CLOUD_TO_GROUND; // default ??
             if (strokeType == 0x0000) {
             	ltgStrikeType = LtgStrikeType.CLOUD_TO_GROUND;
@@ -186,14 +156,57 @@ public class BinLightningDecoderUtil {
 				lsp.setLightSource("GLD"); 
 			}
 
-            lsp.setPulseCount(strokeMultiplicity);
-            lsp.setStrikeStrength(strokeKiloAmps);
+            lsp.setPulseCount(columns.getPulseCounts()[i]);
+            lsp.setStrikeStrength(columns.getKiloAmps()[i]);
             // stroke duration does not seem to be used
             
             strikes.add(lsp);
 		}
 		return strikes;
 	}
+
+	/**
+	 * decode the new bin lightning data into columns of primitive values, after the data record
+	 * is decrypted, and it is not keep-alive record. Records are read in place from a single
+	 * little-endian view of the data.
+	 * 
+	 * @param data
+	 * @return
+	 */
+	public static BinLightningStrikes decodeDecryptedBinLightningStrikes(byte[] data) {
+		int count = data.length / BINLIGHTNING_RECORD_SIZE;
+		BinLightningStrikes strikes = new BinLightningStrikes(count);
+		ByteBuffer buffer = ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN);
+		
+		for (int i = 0; i < count; i++) {
+			// record data is byte 2 to byte 27 (skipping leading 2 type bytes and trailing 4 terminator bytes)
+			int offset = i * BINLIGHTNING_RECORD_SIZE + 2;
+			
+			// read signed 16 bit integer as short and assigned to short
+			// read other 16 bit (unsigned) integer as short, but assign to int after bit & with 0xffff, so no negatives when first bit is 1 
+			// count of seconds
+			long epochSeconds = buffer.getInt(offset) & 0xffffffffL;
+			// Convert to millisecond and add on millisecond offset
+			int miliseconds = buffer.getShort(offset + 4) & 0xffff; // valid range: 0 to 999
+			strikes.getTimes()[i] = epochSeconds * 1000 + miliseconds;
+	
+			// lat/lon as float 
+			strikes.getLats()[i] = buffer.getFloat(offset + 6); // valid range: -90.0 to 90.0
+			strikes.getLons()[i] = buffer.getFloat(offset + 10); // valid range: -180.0 to 180.0
+	
+			// vendor, 0x01 for CONUS, i.e. NLD data;
+			//         0x02 for long range source, GLD360? 
+			strikes.getVendors()[i] = buffer.getShort(offset + 14) & 0xffff; // valid values: 0x0001 (CONUS) or 0x0002 (long range source)
+
+			strikes.getStrokeTypes()[i] = buffer.getShort(offset + 16) & 0xffff; // 0x0000 for cloud-to-ground, 0x00ff for cloud-to-cloud, 0xffff for total flash
+			strikes.getKiloAmps()[i] = buffer.getShort(offset + 18); // valid range: -254 to 254, specifically 16 bit signed integer
+			strikes.getPulseCounts()[i] = buffer.getShort(offset + 20) & 0xffff; // i.e. stroke count, valid range: 0 to 15
+            // int strokeDuration = buffer.getShort(offset + 22) & 0xffff; // valid range:
+            // 0 to 65535 (i.e., looks like unsigned short)
+            // int reserved = buffer.getShort(offset + 24) & 0xffff;
+		}
+		return strikes;
+	}
 	
 
 	
@@ -287,6 +300,24 @@ public class BinLightningDecoderUtil {
 		return true;
 	}
 	
+	/**
+	 * Check if the start of the decrypted data is a keep-alive record or a lightning data
+	 * record, i.e. the record type bytes are followed by the terminator bytes of the record.
+	 * Used to reject a decryption key from the first blocks of the data.
+	 * 
+	 * @param data	Start of the decrypted data.
+	 * @param len	Number of decrypted bytes, at least {@link #BINLIGHTNING_RECORD_SIZE}
+	 *              to check a lightning data record.
+	 * @return true if the data starts with a keep-alive or lightning data record
+	 */
+	public static boolean isValidFirstRecord(byte[] data, int len) {
+		if (data == null || len < 2) return false;
+		if (((data[0] & 0xff) == (KEEP_ALIVE_TYPE & 0xff)) && ((data[1] & 0xff) == ((KEEP_ALIVE_TYPE >> 8) & 0xff))) {
+			return isLastTerminator(data, 2, len - 2);
+		}
+		return checkBinLightningRecord(data, 0, len) >= 0;
+	}
+	
 	/**
 	 * check if the decrypted data is valid, check record by record for either keep-alive record or lightning data record
 	 *    
@@ -0,0 +1,114 @@
+/**
+ * This code has been developed by NWS/OST to support AWIPS II
+ * 
+ */
+package gov.noaa.nws.ost.edex.plugin.binlightning;
+
+/**
+ * BinLightningStrikes
+ * 
+ * Strikes decoded from decrypted bin lightning data, as one primitive array
+ * per field. Lets large bursts of strikes be used without creating a
+ * LightningStrikePoint and Calendar for each strike.
+ * 
+ * <pre>
+ * 
+ * SOFTWARE HISTORY
+ * 
+ * Date         Ticket#    Engineer    Description
+ * ------------ ---------- ----------- --------------------------
+ * Oct 17, 2026            agent       Initial creation
+ * 
+ * </pre>
+ * 
+ * @author agent
+ * 
+ */
+public class BinLightningStrikes {
+
+    private final long[] times;
+
+    private final float[] lats;
+
+    private final float[] lons;
+
+    private final int[] vendors;
+
+    private final int[] strokeTypes;
+
+    private final short[] kiloAmps;
+
+    private final int[] pulseCounts;
+
+    /**
+     * @param size
+     *            number of strikes
+     */
+    public BinLightningStrikes(int size) {
+        times = new long[size];
+        lats = new float[size];
+        lons = new float[size];
+        vendors = new int[size];
+        strokeTypes = new int[size];
+        kiloAmps = new short[size];
+        pulseCounts = new int[size];
+    }
+
+    /**
+     * @return number of strikes
+     */
+    public int size() {
+        return times.length;
+    }
+
+    /**
+     * @return strike times, in epoch milliseconds
+     */
+    public long[] getTimes() {
+        return times;
+    }
+
+    /**
+     * @return strike latitudes
+     */
+    public float[] getLats() {
+        return lats;
+    }
+
+    /**
+     * @return strike longitudes
+     */
+    public float[] getLons() {
+        return lons;
+    }
+
+    /**
+     * @return data vendors, 0x0001 for CONUS (NLDN), 0x0002 for long range
+     *         source (GLD360)
+     */
+    public int[] getVendors() {
+        return vendors;
+    }
+
+    /**
+     * @return stroke types, 0x0000 for cloud-to-ground, 0x00ff for
+     *         cloud-to-cloud, 0xffff for total flash
+     */
+    public int[] getStrokeTypes() {
+        return strokeTypes;
+    }
+
+    /**
+     * @return stroke strengths, in kiloamps
+     */
+    public short[] getKiloAmps() {
+        return kiloAmps;
+    }
+
+    /**
+     * @return stroke multiplicities
+     */
+    public int[] getPulseCounts() {
+        return pulseCounts;
+    }
+}
@@ -4,6 +4,7 @@
  */
 package gov.noaa.nws.ost.edex.plugin.binlightning;
 
+import java.security.GeneralSecurityException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -39,6 +40,10 @@ import com.raytheon.uf.common.status.UFStatus;
  *                                      handled null return from BinLightningAESKey.getBinLightningAESKeys()
  * Jun 09, 2014 3226       bclement    refactored to support multiple stores for different data types
  * Jun 19, 2014 3226       bclement    added validator callback, added initialization vector support
+ * Oct 17, 2026            agent       cache ciphers per thread, try the last successful key
+ *                                      of each data type first
+ * Oct 17, 2026            agent       reject a wrong ECB or CBC key from the first record
+ *                                      before decrypting all of the data
  * 
  * </pre>
  * 
@@ -50,25 +55,58 @@ public class EncryptedBinLightningCipher {
 	/** Maximum size of the encrypted block, determined by 3 byte length field in the header */
 	private static final int MAX_SIZE_ENCRYPTED_BLOCK = 0xffffff;
 	    
-    private static final Map<String, Map<String, Cipher>> decryptCipherMapCache = new ConcurrentHashMap<String, Map<String, Cipher>>(
+    /**
+     * Number of cipher blocks decrypted to check the first record, enough for
+     * a lightning data record.
+     */
+    private static final int PROBE_BLOCKS = 2;
+
+    /**
+     * Decrypt ciphers by datatype properties file prefix and key alias. A
+     * Cipher is not thread safe, so each thread has its own.
+     */
+    private static final ThreadLocal<Map<String, Map<String, DecryptCipher>>> decryptCipherMapCache = ThreadLocal
+            .withInitial(HashMap::new);
+
+    /**
+     * Cipher to decrypt data with a key, and cipher to decrypt the first blocks
+     * of the data alone with the same key
+     */
+    private static class DecryptCipher {
+
+        private final Cipher cipher;
+
+        /** null if blocks cannot be decrypted without the rest of the data */
+        private final Cipher probe;
+
+        public DecryptCipher(Cipher cipher, Cipher probe) {
+            this.cipher = cipher;
+            this.probe = probe;
+        }
+    }
+
+    /**
+     * Alias of the last key that decrypted data, by datatype properties file
+     * prefix
+     */
+    private static final Map<String, String> lastKeyAliases = new ConcurrentHashMap<String, String>(
             2);
-	
+
     /**
-     * Get cipher map using cache
+     * Get cipher map of the current thread using cache
      * 
      * @param propertyPrefix
      *            datatype properties file prefix
      * @return
      */
-    private static Map<String, Cipher> getCachedCipherMap(String propertyPrefix) {
-        Map<String, Cipher> rval = decryptCipherMapCache.get(propertyPrefix);
+    private static Map<String, DecryptCipher> getCachedCipherMap(
+            String propertyPrefix) {
+        Map<String, Map<String, DecryptCipher>> threadCache = decryptCipherMapCache
+                .get();
+        Map<String, DecryptCipher> rval = threadCache.get(propertyPrefix);
         if (rval == null) {
-            synchronized (decryptCipherMapCache) {
-                if (rval == null) {
-                    rval = createCipherMap(propertyPrefix);
-                    decryptCipherMapCache.put(propertyPrefix, rval);
-                }
-            }
+            rval = createCipherMap(propertyPrefix);
+            threadCache.put(propertyPrefix, rval);
         }
         return rval;
     }
@@ -80,7 +118,8 @@ public class EncryptedBinLightningCipher {
      *            datatype properties file prefix
      * @return
      */
-    private static Map<String, Cipher> createCipherMap(String propertyPrefix) {
+    private static Map<String, DecryptCipher> createCipherMap(
+            String propertyPrefix) {
         /*
          * get AES keys from keystore and create encryption and decryption
          * ciphers from them
@@ -94,18 +133,18 @@ public class EncryptedBinLightningCipher {
                 .getCipherAlgorithm(propertyPrefix);
         IvParameterSpec iv = BinLightningAESKey
                 .getInitializationVector(propertyPrefix);
-        HashMap<String, Cipher> cipherMap = new HashMap<String, Cipher>();
+        String probeAlgorithm = getProbeAlgorithm(algorithm);
+        HashMap<String, DecryptCipher> cipherMap = new HashMap<String, DecryptCipher>();
         for (BinLightningAESKey key : keys) {
             try {
                 SecretKeySpec skeySpec = (SecretKeySpec) key.getKey();
 
-                Cipher cipher = Cipher.getInstance(algorithm);
-                if (iv != null) {
-                    cipher.init(Cipher.DECRYPT_MODE, skeySpec, iv);
-                } else {
-                    cipher.init(Cipher.DECRYPT_MODE, skeySpec);
+                Cipher cipher = createDecryptCipher(algorithm, skeySpec, iv);
+                Cipher probe = null;
+                if (probeAlgorithm != null) {
+                    probe = createDecryptCipher(probeAlgorithm, skeySpec, iv);
                 }
-                cipherMap.put(key.getAlias(), cipher);
+                cipherMap.put(key.getAlias(), new DecryptCipher(cipher, probe));
             } catch (Exception e) {
                 logger.error(
                         "Fail to create decrypt Cipher from key "
@@ -115,6 +154,85 @@ public class EncryptedBinLightningCipher {
         return cipherMap;
     }
 
+    /**
+     * Create a decrypt cipher
+     * 
+     * @param algorithm
+     * @param skeySpec
+     * @param iv
+     *            may be null
+     * @return
+     * @throws GeneralSecurityException
+     */
+    private static Cipher createDecryptCipher(String algorithm,
+            SecretKeySpec skeySpec, IvParameterSpec iv)
+            throws GeneralSecurityException {
+        Cipher cipher = Cipher.getInstance(algorithm);
+        if (iv != null) {
+            cipher.init(Cipher.DECRYPT_MODE, skeySpec, iv);
+        } else {
+            cipher.init(Cipher.DECRYPT_MODE, skeySpec);
+        }
+        return cipher;
+    }
+
+    /**
+     * In ECB mode each block decrypts alone, and in CBC mode a block decrypts
+     * from the block before it (or the initialization vector), so the first
+     * blocks of the data can be decrypted without the rest, without padding.
+     * 
+     * @param algorithm
+     *            cipher transformation of the data type, "AES" is ECB
+     * @return transformation to decrypt the first blocks of the data, null for
+     *         other modes
+     */
+    private static String getProbeAlgorithm(String algorithm) {
+        String[] parts = algorithm.split("/");
+        String mode = parts.length > 1 ? parts[1].trim().toUpperCase() : "ECB";
+        if (mode.equals("ECB") || mode.equals("CBC")) {
+            return parts[0].trim() + "/" + mode + "/NoPadding";
+        }
+        return null;
+    }
+
+    /**
+     * Decrypt the first blocks of the data and check that they hold a
+     * keep-alive or lightning data record, see
+     * {@link BinLightningDecoderUtil#isValidFirstRecord(byte[], int)}
+     * 
+     * @param decryptCipher
+     * @param data
+     * @param alias
+     *            key alias, for the error message
+     * @throws BinLightningDataDecryptionException
+     *             if the first record is not valid
+     * @throws IllegalBlockSizeException
+     * @throws BadPaddingException
+     */
+    private static void probeFirstRecord(DecryptCipher decryptCipher,
+            byte[] data, String alias)
+            throws BinLightningDataDecryptionException,
+            IllegalBlockSizeException, BadPaddingException {
+        Cipher probe = decryptCipher.probe;
+        if (probe == null) {
+            return;
+        }
+        int probeLength = probe.getBlockSize() * PROBE_BLOCKS;
+        if (probeLength < BinLightningDecoderUtil.BINLIGHTNING_RECORD_SIZE
+                || data.length <= probeLength) {
+            // nothing to save over decrypting all of the data
+            return;
+        }
+        byte[] firstRecord = probe.doFinal(data, 0, probeLength);
+        if (!BinLightningDecoderUtil.isValidFirstRecord(firstRecord,
+                firstRecord.length)) {
+            throw new BinLightningDataDecryptionException("First "
+                    + probeLength + " bytes decrypted with key " + alias
+                    + " are not a keep-alive or binLightning record.",
+                    firstRecord);
+        }
+    }
+
     private static IUFStatusHandler logger = UFStatus
             .getHandler(EncryptedBinLightningCipher.class);
 
@@ -170,10 +288,12 @@ public class EncryptedBinLightningCipher {
                     "Block size exceeds maximum expected.");
 		}
 		
-        Map<String, Cipher> cipherMap = getCachedCipherMap(propertyPrefix);
+        Map<String, DecryptCipher> cipherMap = getCachedCipherMap(propertyPrefix);
 		// find the preferred key order to try decryption based on data date
         List<BinLightningAESKey> preferredKeyList = findPreferredKeyOrderForData(
                 dataDate, propertyPrefix);
+        preferredKeyList = moveLastKeyFirst(preferredKeyList,
+                lastKeyAliases.get(propertyPrefix));
 		
 		if (preferredKeyList == null || preferredKeyList.size() == 0) {
 			throw new BinLightningDataDecryptionException("No AES key found to decrypt data. Please make sure keystore is properly configured with key(s).");
@@ -183,13 +303,15 @@ public class EncryptedBinLightningCipher {
 		byte[] decryptedData = null;
 		for (int i = 0; i < preferredKeyList.size(); i++) {
             String alias = preferredKeyList.get(i).getAlias();
-            Cipher cipher = cipherMap.get(alias);
-            if (cipher == null) {
+            DecryptCipher decryptCipher = cipherMap.get(alias);
+            if (decryptCipher == null) {
                 logger.warn("No cipher found for alias: " + alias);
                 continue;
             }
 			try {
-				decryptedData = cipher.doFinal(data, 0, data.length);
+                // a wrong key seldom decrypts the first record
+                probeFirstRecord(decryptCipher, data, alias);
+				decryptedData = decryptCipher.cipher.doFinal(data, 0, data.length);
 				
 				// wrong key will decrypt data into random noise/garbage, so we need to do a sanity check to make sure 
 				//   we are decrypting with the right key
@@ -201,6 +323,7 @@ public class EncryptedBinLightningCipher {
 				}				
                 logger.info("Data (" + data.length + " bytes) decrypted to "
                         + decryptedData.length + " bytes with key: " + alias);
+                lastKeyAliases.put(propertyPrefix, alias);
 				break; // decrypt ok, break out
 			} catch (IllegalBlockSizeException e) {
 				// ignore exception if not the last, and try next cipher
@@ -278,6 +401,33 @@ public class EncryptedBinLightningCipher {
 		}
 	}
 		
+    /**
+     * Move the key that last decrypted data to the front of the key list, as
+     * consecutive data of a type are usually encrypted with the same key
+     * 
+     * @param keyList
+     *            preferred key order
+     * @param lastKeyAlias
+     *            alias of the last successful key, may be null
+     * @return key order to try
+     */
+    private static List<BinLightningAESKey> moveLastKeyFirst(
+            List<BinLightningAESKey> keyList, String lastKeyAlias) {
+        if (lastKeyAlias == null || keyList == null || keyList.isEmpty()
+                || lastKeyAlias.equals(keyList.get(0).getAlias())) {
+            return keyList;
+        }
+        for (int i = 1; i < keyList.size(); i++) {
+            if (lastKeyAlias.equals(keyList.get(i).getAlias())) {
+                List<BinLightningAESKey> rval = new ArrayList<BinLightningAESKey>(
+                        keyList);
+                rval.add(0, rval.remove(i));
+                return rval;
+            }
+        }
+        return keyList;
+    }
+
     /**
      * ensures that the data is the appropriate length for AES decryption.
      * Copies data to new array.
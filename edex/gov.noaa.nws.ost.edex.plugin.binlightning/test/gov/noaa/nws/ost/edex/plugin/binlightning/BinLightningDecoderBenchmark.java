@@ -0,0 +1,269 @@
+/**
+ * This code has been developed by NWS/OST to support AWIPS II
+ *
+ */
+package gov.noaa.nws.ost.edex.plugin.binlightning;
+
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.Random;
+
+import com.raytheon.uf.common.dataplugin.binlightning.impl.LightningStrikePoint;
+import com.raytheon.uf.common.dataplugin.binlightning.impl.LtgMsgType;
+import com.raytheon.uf.common.dataplugin.binlightning.impl.LtgStrikeType;
+import com.sun.management.ThreadMXBean;
+
+/**
+ * BinLightningDecoderBenchmark
+ *
+ * Micro-benchmark of decoding a synthetic payload of decrypted bin lightning
+ * data records, 100,000 strikes by default, as a GLD360 burst would give
+ * after decryption. Records are written as laid out in the record spec read
+ * by {@link BinLightningDecoderUtil}: lightning type, epoch seconds and
+ * milliseconds, lat/lon, vendor, stroke type, kiloamps, multiplicity and
+ * duration, then the "more" terminator, or the last terminator on the final
+ * record.
+ *
+ * Times three ways of decoding the payload:
+ * <ul>
+ * <li>columns: decodeDecryptedBinLightningStrikes()</li>
+ * <li>points: decodeDecryptedBinLightningData(), which builds a
+ * LightningStrikePoint and its Calendar for each strike from the columns</li>
+ * <li>legacy: decodeDecryptedBinLightningData() as it was before the columns,
+ * with a ByteBuffer copy of each record and Calendar.getInstance() for each
+ * strike</li>
+ * </ul>
+ * The decoded columns are checked against the values written first, and the
+ * number of mismatched strikes printed; there should be none. Prints strikes
+ * per second and bytes allocated per strike on the decoding thread.
+ *
+ * Run with: java BinLightningDecoderBenchmark [strikes] [iterations]
+ *
+ * <pre>
+ *
+ * SOFTWARE HISTORY
+ *
+ * Date         Ticket#    Engineer    Description
+ * ------------ ---------- ----------- --------------------------
+ * Oct 17, 2026            agent       Initial creation
+ *
+ * </pre>
+ *
+ * @author agent
+ *
+ */
+public class BinLightningDecoderBenchmark {
+
+    private static final long SEED = 20130503L;
+
+    private static final int WARMUP_ITERATIONS = 10;
+
+    private static final int PASSES = 3;
+
+    /* Epoch seconds of the first strike. */
+    private static final long START_SECONDS = 1476921600L;
+
+    private static final int[] STROKE_TYPES = { 0x0000, 0x00ff, 0xffff };
+
+    public static void main(String[] args) {
+        int strikes = args.length > 0 ? Integer.parseInt(args[0]) : 100000;
+        int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+
+        Random random = new Random(SEED);
+        BinLightningStrikes expected = createStrikes(random, strikes);
+        byte[] data = createPayload(expected);
+
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory
+                .getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        int mismatches = compare(expected,
+                BinLightningDecoderUtil.decodeDecryptedBinLightningStrikes(data));
+        System.out.printf("%d strikes, %d mismatches%n", strikes, mismatches);
+
+        String[] modes = { "columns", "points", "legacy" };
+        for (int mode = 0; mode < modes.length; mode++) {
+            for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+                decode(mode, data);
+            }
+            long decoded = (long) strikes * iterations;
+            for (int pass = 0; pass < PASSES; pass++) {
+                long bytes = threads.getThreadAllocatedBytes(threadId);
+                long start = System.nanoTime();
+                for (int i = 0; i < iterations; i++) {
+                    decode(mode, data);
+                }
+                long nanos = System.nanoTime() - start;
+                bytes = threads.getThreadAllocatedBytes(threadId) - bytes;
+
+                System.out.printf(
+                        "%s pass %d: %.0f strikes/sec, %.1f bytes allocated/strike%n",
+                        modes[mode], pass + 1, decoded * 1e9 / nanos,
+                        (double) bytes / decoded);
+            }
+        }
+    }
+
+    /**
+     * @param mode
+     *            0 for columns, 1 for points, 2 for legacy
+     * @param data
+     * @return number of strikes decoded
+     */
+    private static int decode(int mode, byte[] data) {
+        switch (mode) {
+        case 0:
+            return BinLightningDecoderUtil
+                    .decodeDecryptedBinLightningStrikes(data).size();
+        case 1:
+            return BinLightningDecoderUtil
+                    .decodeDecryptedBinLightningData(data).size();
+        default:
+            return decodeLegacy(data);
+        }
+    }
+
+    /**
+     * decodeDecryptedBinLightningData() before the columns.
+     *
+     * @param data
+     * @return number of strikes decoded
+     */
+    private static int decodeLegacy(byte[] data) {
+        List<LightningStrikePoint> strikes = new ArrayList<>();
+        int dataLen = BinLightningDecoderUtil.BINLIGHTNING_RECORD_SIZE - 2
+                - BinLightningDecoderUtil.LAST_TERM_BYTES.length;
+        int count = data.length
+                / BinLightningDecoderUtil.BINLIGHTNING_RECORD_SIZE;
+        for (int i = 0; i < count; i++) {
+            ByteBuffer buffer = ByteBuffer.allocate(dataLen);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            buffer.put(data,
+                    i * BinLightningDecoderUtil.BINLIGHTNING_RECORD_SIZE + 2,
+                    dataLen);
+            buffer.position(0);
+
+            long epochSeconds = buffer.getInt() & 0xffffffffL;
+            int miliseconds = buffer.getShort() & 0xffff;
+            float lat = buffer.getFloat();
+            float lon = buffer.getFloat();
+            int vendor = buffer.getShort() & 0xffff;
+            int strokeType = buffer.getShort() & 0xffff;
+            short strokeKiloAmps = buffer.getShort();
+            int strokeMultiplicity = buffer.getShort() & 0xffff;
+
+            Calendar cal = Calendar.getInstance();
+            cal.setTimeInMillis(epochSeconds * 1000 + miliseconds);
+
+            LtgMsgType msgType = LtgMsgType.STRIKE_MSG_FL;
+            if (vendor == 0x0001) {
+                msgType = LtgMsgType.STRIKE_MSG_FL;
+            } else if (vendor == 0x0002) {
+                msgType = LtgMsgType.STRIKE_MSG_RT;
+            }
+
+            LightningStrikePoint lsp = new LightningStrikePoint(lat, lon, cal,
+                    msgType);
+            LtgStrikeType ltgStrikeType = LtgStrikeType.CLOUD_TO_GROUND;
+            if (strokeType == 0x0000) {
+                ltgStrikeType = LtgStrikeType.CLOUD_TO_GROUND;
+            } else if (strokeType == 0x00ff) {
+                ltgStrikeType = LtgStrikeType.CLOUD_TO_CLOUD;
+            } else if (strokeType == 0xffff) {
+                ltgStrikeType = LtgStrikeType.TOTAL_FLASH;
+            }
+            lsp.setType(ltgStrikeType);
+
+            if (vendor == 0x0001) {
+                lsp.setLightSource("NLDN");
+            } else if (vendor == 0x0002) {
+                lsp.setLightSource("GLD");
+            }
+
+            lsp.setPulseCount(strokeMultiplicity);
+            lsp.setStrikeStrength(strokeKiloAmps);
+
+            strikes.add(lsp);
+        }
+        return strikes.size();
+    }
+
+    private static BinLightningStrikes createStrikes(Random random,
+            int count) {
+        BinLightningStrikes strikes = new BinLightningStrikes(count);
+        for (int i = 0; i < count; i++) {
+            // a burst over about ten minutes
+            strikes.getTimes()[i] = (START_SECONDS + random.nextInt(600))
+                    * 1000 + random.nextInt(1000);
+            strikes.getLats()[i] = random.nextFloat() * 180f - 90f;
+            strikes.getLons()[i] = random.nextFloat() * 360f - 180f;
+            strikes.getVendors()[i] = random.nextInt(4) == 0 ? 0x0001
+                    : 0x0002;
+            strikes.getStrokeTypes()[i] = STROKE_TYPES[random
+                    .nextInt(STROKE_TYPES.length)];
+            strikes.getKiloAmps()[i] = (short) (random.nextInt(509) - 254);
+            strikes.getPulseCounts()[i] = random.nextInt(16);
+        }
+        return strikes;
+    }
+
+    /**
+     * @param strikes
+     * @return the decrypted data records of the strikes
+     */
+    private static byte[] createPayload(BinLightningStrikes strikes) {
+        int size = BinLightningDecoderUtil.BINLIGHTNING_RECORD_SIZE;
+        ByteBuffer buffer = ByteBuffer.allocate(strikes.size() * size)
+                .order(ByteOrder.LITTLE_ENDIAN);
+        Random random = new Random(SEED);
+        for (int i = 0; i < strikes.size(); i++) {
+            buffer.putShort(BinLightningDecoderUtil.LIGHTNING_TYPE);
+            buffer.putInt((int) (strikes.getTimes()[i] / 1000));
+            buffer.putShort((short) (strikes.getTimes()[i] % 1000));
+            buffer.putFloat(strikes.getLats()[i]);
+            buffer.putFloat(strikes.getLons()[i]);
+            buffer.putShort((short) strikes.getVendors()[i]);
+            buffer.putShort((short) strikes.getStrokeTypes()[i]);
+            buffer.putShort(strikes.getKiloAmps()[i]);
+            buffer.putShort((short) strikes.getPulseCounts()[i]);
+            // duration and reserved
+            buffer.putShort((short) random.nextInt(1000));
+            buffer.putShort((short) 0);
+            buffer.put(i == strikes.size() - 1
+                    ? BinLightningDecoderUtil.LAST_TERM_BYTES
+                    : BinLightningDecoderUtil.MORE_TERM_BYTES);
+        }
+        return buffer.array();
+    }
+
+    /**
+     * @param expected
+     * @param actual
+     * @return number of strikes that differ
+     */
+    private static int compare(BinLightningStrikes expected,
+            BinLightningStrikes actual) {
+        if (expected.size() != actual.size()) {
+            return Math.abs(expected.size() - actual.size());
+        }
+        int mismatches = 0;
+        for (int i = 0; i < expected.size(); i++) {
+            if (expected.getTimes()[i] != actual.getTimes()[i]
+                    || expected.getLats()[i] != actual.getLats()[i]
+                    || expected.getLons()[i] != actual.getLons()[i]
+                    || expected.getVendors()[i] != actual.getVendors()[i]
+                    || expected.getStrokeTypes()[i] != actual
+                            .getStrokeTypes()[i]
+                    || expected.getKiloAmps()[i] != actual.getKiloAmps()[i]
+                    || expected.getPulseCounts()[i] != actual
+                            .getPulseCounts()[i]) {
+                mismatches++;
+            }
+        }
+        return mismatches;
+    }
+}
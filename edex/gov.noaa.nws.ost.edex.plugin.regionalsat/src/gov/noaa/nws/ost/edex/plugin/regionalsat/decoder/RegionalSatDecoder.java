@@ -13,9 +13,14 @@ package gov.noaa.nws.ost.edex.plugin.regionalsat.decoder;
 import gov.noaa.nws.ost.edex.plugin.regionalsat.util.RegionalSatLookups;
 import gov.noaa.nws.ost.edex.plugin.regionalsat.util.RegionalSatLookups.PhysicalElementValue;
 
+import java.io.File;
 import java.util.Calendar;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.TimeZone;
 
+import ucar.ma2.Array;
 import ucar.nc2.Attribute;
 import ucar.nc2.NetcdfFile;
 
@@ -62,6 +67,10 @@ import com.raytheon.uf.edex.decodertools.time.TimeTools;
  * Aug 30, 2013 2298        rjpeter     Make getPluginName abstract
  * Apr 15, 2014 3017        bsteffen    Call new methods in SatSpatialFactory
  * Sep 11, 2014 DR 17303    jgerth      Support for second standard latitude
+ * Oct 17, 2026             agent       Add decodeFile to read the netcdf3 file
+ *                                      from disk, keep the decode state in
+ *                                      locals, pass the image through without
+ *                                      copying and cache the map coverages.
  * </pre>
  * 
  * @author tk
@@ -73,7 +82,27 @@ public class RegionalSatDecoder extends AbstractDecoder {
     private static final IUFStatusHandler handler = UFStatus
             .getHandler(AbstractDecoder.class);
 
-    private final String traceId = "";
+    /**
+     * Number of map coverages to keep, by projection parameters.
+     */
+    private static final int COVERAGE_CACHE_SIZE = Integer
+            .getInteger("regionalsat.coverageCacheSize", 64);
+
+    /**
+     * Map coverages of recently decoded sectors, least recently used first.
+     */
+    private static final Map<String, SatMapCoverage> coverages = Collections
+            .synchronizedMap(new LinkedHashMap<String, SatMapCoverage>(16,
+                    0.75f, true) {
+
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(
+                        Map.Entry<String, SatMapCoverage> eldest) {
+                    return size() > COVERAGE_CACHE_SIZE;
+                }
+            });
 
     private String source;
 
@@ -98,24 +127,54 @@ public class RegionalSatDecoder extends AbstractDecoder {
      * @return The decoded data record(s).
      */
     public PluginDataObject[] decode(byte[] data) throws Exception {
+        if ((data == null) || (data.length == 0)) {
+            return new PluginDataObject[0];
+        }
+
+        String name = filename;
+        return decode(NetcdfFile.openInMemory(name, data), name);
+    }
+
+    /**
+     * Decode a netcdf3 file read from disk instead of from a byte array, so
+     * the whole file is not held in memory. The decoder keeps no state between
+     * files, so files can be decoded concurrently.
+     * 
+     * @param file
+     *            The netcdf3 file to be decoded.
+     * @return The decoded data record(s).
+     */
+    public PluginDataObject[] decodeFile(File file) throws Exception {
+        if ((file == null) || (file.length() == 0)) {
+            return new PluginDataObject[0];
+        }
+
+        return decode(NetcdfFile.open(file.getAbsolutePath()), file.getName());
+    }
+
+    /**
+     * Decode an open netcdf3 file, and close it.
+     * 
+     * @param netCdfFile
+     *            The netcdf3 file to be decoded.
+     * @param traceId
+     *            The trace id of the decoded record.
+     * @return The decoded data record(s).
+     */
+    private PluginDataObject[] decode(NetcdfFile netCdfFile, String traceId)
+            throws Exception {
 
         PluginDataObject[] retData = null;
 
         SatelliteRecord record = null;
 
-        NetcdfFile netCdfFile = null;
-
-        if ((data != null) && (data.length > 0)) {
+        try {
 
             Calendar calendar = Calendar.getInstance(TimeZone
                     .getTimeZone("GMT"));
 
             record = new SatelliteRecord();
 
-            // String filename = "alaska_netcdf3"; // dummy filename; TODO: get
-            // filename from camel context?
-            netCdfFile = NetcdfFile.openInMemory(filename, data);
-
             // set the source; Alaska Region
             String gaSourceStr = "Unknown";
             Attribute gaSource = netCdfFile.findGlobalAttribute("source");
@@ -250,8 +309,7 @@ public class RegionalSatDecoder extends AbstractDecoder {
                 ny = numRecords;
 
                 // read the image as byte data and store as byte array
-                record.setMessageData(netCdfFile.readSection("image")
-                        .get1DJavaArray(Class.forName("java.lang.Byte")));
+                record.setMessageData(getImage(netCdfFile.readSection("image")));
 
                 // get the latitude of the first point, upper left corner
                 la1 = netCdfFile.findGlobalAttribute("lat00").getNumericValue()
@@ -278,15 +336,24 @@ public class RegionalSatDecoder extends AbstractDecoder {
                         "Unable to decode Satellite: Encountered Unknown projection");
             } // end of if map projection block
 
-            SatMapCoverage mapCoverage;
-            if (mapProjection == SatSpatialFactory.PROJ_LAMBERT && rot != null && rotation != latin)
-                mapCoverage = SatSpatialFactory.getInstance()
-                .getCoverageTwoCorners(mapProjection, nx, ny, lov, latin, rotation,
-                        la1, lo1, la2, lo2);
-            else
-                mapCoverage = SatSpatialFactory.getInstance()
-                .getCoverageTwoCorners(mapProjection, nx, ny, lov, latin,
-                        la1, lo1, la2, lo2);
+            boolean secondLatin = mapProjection == SatSpatialFactory.PROJ_LAMBERT
+                    && rot != null && rotation != latin;
+            String coverageKey = mapProjection + ":" + nx + ":" + ny + ":"
+                    + lov + ":" + latin + ":"
+                    + (secondLatin ? String.valueOf(rotation) : "") + ":"
+                    + la1 + ":" + lo1 + ":" + la2 + ":" + lo2;
+            SatMapCoverage mapCoverage = coverages.get(coverageKey);
+            if (mapCoverage == null) {
+                if (secondLatin)
+                    mapCoverage = SatSpatialFactory.getInstance()
+                    .getCoverageTwoCorners(mapProjection, nx, ny, lov, latin, rotation,
+                            la1, lo1, la2, lo2);
+                else
+                    mapCoverage = SatSpatialFactory.getInstance()
+                    .getCoverageTwoCorners(mapProjection, nx, ny, lov, latin,
+                            la1, lo1, la2, lo2);
+                coverages.put(coverageKey, mapCoverage);
+            }
 
             record.setTraceId(traceId);
             record.setCoverage(mapCoverage);
@@ -297,13 +364,14 @@ public class RegionalSatDecoder extends AbstractDecoder {
             if (dataRec != null) {
                 record.setMessageData(dataRec);
             } else {
-                handler.error(
-                        String.format("Could not create datarecord for %s"),
-                        traceId);
+                handler.error(String.format(
+                        "Could not create datarecord for %s", traceId));
                 record = null;
             }
 
-        } // end of if data not empty statement
+        } finally {
+            netCdfFile.close();
+        }
 
         if (record == null) {
             retData = new PluginDataObject[0];
@@ -313,6 +381,23 @@ public class RegionalSatDecoder extends AbstractDecoder {
         return retData;
     }
 
+    /**
+     * Get the image data as a byte array, using the storage of the array
+     * read from the file when it holds the whole image instead of copying it.
+     * 
+     * @param image
+     *            The image read from the file.
+     * @return The image data.
+     */
+    private static byte[] getImage(Array image) {
+        Object storage = image.getStorage();
+        if ((storage instanceof byte[])
+                && (((byte[]) storage).length == image.getSize())) {
+            return (byte[]) storage;
+        }
+        return (byte[]) image.get1DJavaArray(byte.class);
+    }
+
     // uses lookup map instead of database to store creating entity parameter
     // configuration
     private String getCreatingEntity(String name) {
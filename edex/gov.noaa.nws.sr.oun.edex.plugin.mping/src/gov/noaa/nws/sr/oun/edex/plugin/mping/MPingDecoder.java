@@ -4,18 +4,27 @@ import gov.noaa.nws.sr.oun.dataplugin.mping.MPingReport;
 import gov.noaa.nws.sr.oun.edex.plugin.mping.dao.MPingReportDao;
 
 import java.io.File;
-import java.text.DateFormat;
-import java.text.SimpleDateFormat;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
-import java.util.Iterator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
-import org.dom4j.Document;
-import org.dom4j.DocumentException;
-import org.dom4j.DocumentHelper;
-import org.dom4j.Element;
 import com.raytheon.edex.plugin.AbstractDecoder;
 import com.raytheon.uf.common.dataplugin.PluginDataObject;
 import com.raytheon.uf.common.pointdata.PointDataContainer;
@@ -37,6 +46,12 @@ import com.vividsolutions.jts.geom.GeometryFactory;
  * Date         Ticket#    Engineer    Description
  * ------------ ---------- ----------- --------------------------
  * Jun 25, 2015            aanderson   Initial creation of history
+ * Oct 17, 2026            agent       Stream the xml with StAX, parse times
+ *                                     with a thread safe formatter, drop
+ *                                     reports already ingested and keep the
+ *                                     PointDataContainers of one decode only.
+ * Oct 17, 2026            agent       Remember the ids of reports only once
+ *                                     they are persisted.
  * </pre>
  * 
  * @author Aaron Anderson
@@ -47,15 +62,55 @@ public class MPingDecoder extends AbstractDecoder {
 	private static IUFStatusHandler logger = UFStatus
 			.getHandler(MPingDecoder.class);
 
-	GeometryFactory geomFact = new GeometryFactory();
+	/**
+	 * Number of report ids to remember, to drop reports delivered again in an
+	 * overlapping feed.
+	 */
+	private static final int RECENT_REPORTS_SIZE = Integer.getInteger(
+			"mping.recentReports", 20000);
+
+	/**
+	 * Ids of recently persisted reports, least recently seen first.
+	 */
+	private static final Set<String> recentReportIds = Collections
+			.newSetFromMap(Collections
+					.synchronizedMap(new LinkedHashMap<String, Boolean>(16,
+							0.75f, true) {
+
+						private static final long serialVersionUID = 1L;
+
+						@Override
+						protected boolean removeEldestEntry(
+								Map.Entry<String, Boolean> eldest) {
+							return size() > RECENT_REPORTS_SIZE;
+						}
+					}));
+
+	/**
+	 * Text elements of a report, other than the coordinates.
+	 */
+	private static final Set<String> REPORT_FIELDS = new HashSet<String>(
+			Arrays.asList("id", "description_id", "description", "category",
+					"obtime"));
+
+	private static final DateTimeFormatter reportTimeFormat = DateTimeFormatter
+			.ofPattern("yyyy-MM-dd HH:mm:ss[XXX][XX][X]");
+
+	private static final XMLInputFactory xmlInputFactory = XMLInputFactory
+			.newInstance();
+
+	static {
+		xmlInputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+		xmlInputFactory.setProperty(
+				XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+	}
 
-	DateFormat reportTimeFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ssX");
+	GeometryFactory geomFact = new GeometryFactory();
 
 	MPingReportDao dao;
 
 	private PointDataDescription pointDataDescription = null;
 
-	private Map<File, PointDataContainer> containerMap = new HashMap<File, PointDataContainer>();
 	private final String pluginName = "mping";
 
 	public MPingDecoder() {
@@ -76,84 +131,200 @@ public class MPingDecoder extends AbstractDecoder {
 
 	public PluginDataObject[] decode(String input) throws Exception {
 		logger.info("Starting Decode of mPING xml");
-		ArrayList<MPingReport> list = new ArrayList<MPingReport>();
+		XMLStreamReader reader = xmlInputFactory
+				.createXMLStreamReader(new StringReader(input));
+		try {
+			return decode(reader);
+		} finally {
+			reader.close();
+		}
+	}
+
+	/**
+	 * Decode an mPING xml file, reading it as a stream instead of loading the
+	 * whole file.
+	 * 
+	 * @param file
+	 *            the mPING xml file
+	 * @return the decoded reports
+	 * @throws Exception
+	 */
+	public PluginDataObject[] decodeFile(File file) throws Exception {
+		logger.info("Starting Decode of mPING xml");
+		try (InputStream in = new FileInputStream(file)) {
+			XMLStreamReader reader = xmlInputFactory.createXMLStreamReader(in);
+			try {
+				return decode(reader);
+			} finally {
+				reader.close();
+			}
+		}
+	}
+
+	/**
+	 * Create a record of each report element of the xml, skipping reports
+	 * that were already ingested or are repeated in the xml.
+	 * 
+	 * @param reader
+	 * @return the decoded reports
+	 */
+	private PluginDataObject[] decode(XMLStreamReader reader) {
+		List<MPingReport> list = new ArrayList<MPingReport>();
+		// containers of this decode, by point data file
+		Map<File, PointDataContainer> containerMap = new HashMap<File, PointDataContainer>();
+		Map<String, String> fields = new HashMap<String, String>();
+		// report ids of this decode
+		Set<String> decodedIds = new HashSet<String>();
+		int duplicates = 0;
+		int depth = 0;
+		int reportDepth = -1;
 		try {
-			// Parse the text input into a Document so that we can extract out
-			// the root element.
-			Document document = DocumentHelper.parseText(input);
-			// Get root element of the document in xml
-			Element e = document.getRootElement();
-			// grab the results section of the kml file
-			Element results = e.element("results");
-			// iterate over the items in the Document section and only grab
-			// report items.
-			Iterator<Element> i = results.elementIterator("report");
-			while (i.hasNext()) {
-				// Grab next report
-				Element report = i.next();
-				try {
-					// pull out the description_id tag
-					Element description_id = report.element("description_id");
-					// If there actually is mPING data then process it.
-					if (description_id != null) {
-						// Get individual items of report
-						Element idElement = report.element("id");
-						Element description = report.element("description");
-						Element category = report.element("category");
-						Element timeElement = report.element("obtime");
-						Date reportTime = reportTimeFormat.parse(timeElement
-								.getText());
-						Element geom = report.element("geom");
-						Element coordinates = geom.element("coordinates");
-						Element lon = coordinates.element("longitude");
-						Element lat = coordinates.element("latitude");
-						
-						// Create mping record
-						MPingReport record = new MPingReport();
-
-						// set the description and categories
-						record.setDescription_id(Integer
-								.parseInt(description_id.getText()));
-						record.setDescription(description.getText());
-						record.setCategory(category.getText());
-						// Create new SurfaceObsLocation
-						SurfaceObsLocation obsLoc = new SurfaceObsLocation();
-						// Use id from mPING xml as stationid as this provides
-						// for an always
-						// unique value
-						obsLoc.setStationId(idElement.getText());
-						// Set geometry of report
-						obsLoc.setGeometry(geomFact.createPoint(new Coordinate(
-								Float.parseFloat(lon.getText()), Float
-										.parseFloat(lat.getText()))));
-						record.setLocation(obsLoc);
-
-						// Add our DataTime
-						record.setDataTime(new DataTime(reportTime));
-
-						PointDataContainer pdc = getContainer(record);
-
-						// Populate the point data.
-						PointDataView view = pdc.append();
-						view.setLong("description_id",
-								record.getDescription_id());
-
-						record.setPointDataView(view);
-
-						// Add the record to the list
-						list.add(record);
+			while (reader.hasNext()) {
+				int event = reader.next();
+				if (event == XMLStreamConstants.START_ELEMENT) {
+					depth++;
+					String name = reader.getLocalName();
+					if (reportDepth < 0) {
+						if ("report".equals(name)) {
+							reportDepth = depth;
+							fields.clear();
+						}
+					} else if ((depth == reportDepth + 1 && REPORT_FIELDS
+							.contains(name))
+							|| "longitude".equals(name)
+							|| "latitude".equals(name)) {
+						// getElementText reads through the end element
+						fields.put(name, reader.getElementText());
+						depth--;
 					}
-				} catch (Exception ex) {
-					logger.error("Error Creating Mping Record", ex);	
+				} else if (event == XMLStreamConstants.END_ELEMENT) {
+					if (depth == reportDepth) {
+						reportDepth = -1;
+						try {
+							MPingReport record = createRecord(fields,
+									decodedIds, containerMap);
+							if (record != null) {
+								list.add(record);
+							} else if (fields.containsKey("description_id")) {
+								duplicates++;
+							}
+						} catch (Exception ex) {
+							logger.error("Error Creating Mping Record", ex);
+						}
+					}
+					depth--;
 				}
 			}
-		} catch (DocumentException ex) {
+		} catch (XMLStreamException ex) {
 			logger.error("Error parsing Mping XML", ex);
 		}
+		if (duplicates > 0) {
+			logger.info("Dropped " + duplicates
+					+ " mPING reports already ingested");
+		}
 		// Process the list and send back an array of PluginDataObjects
 		return (list.toArray(new PluginDataObject[list.size()]));
 	}
 
+	/**
+	 * Create the record of a report.
+	 * 
+	 * @param fields
+	 *            the text of the elements of the report, by element name
+	 * @param decodedIds
+	 *            the report ids of the current decode
+	 * @param containerMap
+	 *            the PointDataContainers of the current decode
+	 * @return the record, or null if the report has no mPING data or was
+	 *         already ingested
+	 */
+	private MPingReport createRecord(Map<String, String> fields,
+			Set<String> decodedIds, Map<File, PointDataContainer> containerMap) {
+		// pull out the description_id tag
+		String descriptionId = fields.get("description_id");
+		// If there actually is mPING data then process it.
+		if (descriptionId == null) {
+			return null;
+		}
+
+		// Get individual items of report
+		String id = getField(fields, "id");
+		int description_id = Integer.parseInt(descriptionId);
+		Date reportTime = Date.from(OffsetDateTime.parse(
+				getField(fields, "obtime"), reportTimeFormat).toInstant());
+		float lon = Float.parseFloat(getField(fields, "longitude"));
+		float lat = Float.parseFloat(getField(fields, "latitude"));
+
+		// Drop reports delivered again in an overlapping feed
+		if (recentReportIds.contains(id) || decodedIds.contains(id)) {
+			return null;
+		}
+
+		// Create mping record
+		MPingReport record = new MPingReport();
+
+		// set the description and categories
+		record.setDescription_id(description_id);
+		record.setDescription(fields.get("description"));
+		record.setCategory(fields.get("category"));
+		// Create new SurfaceObsLocation
+		SurfaceObsLocation obsLoc = new SurfaceObsLocation();
+		// Use id from mPING xml as stationid as this provides
+		// for an always
+		// unique value
+		obsLoc.setStationId(id);
+		// Set geometry of report
+		obsLoc.setGeometry(geomFact.createPoint(new Coordinate(lon, lat)));
+		record.setLocation(obsLoc);
+
+		// Add our DataTime
+		record.setDataTime(new DataTime(reportTime));
+
+		PointDataContainer pdc = getContainer(record, containerMap);
+
+		// Populate the point data.
+		PointDataView view = pdc.append();
+		view.setLong("description_id", record.getDescription_id());
+
+		record.setPointDataView(view);
+
+		decodedIds.add(id);
+		return record;
+	}
+
+	/**
+	 * Remember the ids of reports once they are persisted, so that the reports
+	 * are dropped if they are delivered again. Reports that failed to persist
+	 * are ingested when they are delivered again.
+	 * 
+	 * @param reports
+	 *            the decoded reports
+	 */
+	public void rememberReports(PluginDataObject[] reports) {
+		if (reports == null) {
+			return;
+		}
+		for (PluginDataObject pdo : reports) {
+			if (pdo instanceof MPingReport) {
+				recentReportIds.add(((MPingReport) pdo).getStationId());
+			}
+		}
+	}
+
+	/**
+	 * @param fields
+	 * @param name
+	 * @return the text of a required element of a report
+	 */
+	private static String getField(Map<String, String> fields, String name) {
+		String value = fields.get(name);
+		if (value == null) {
+			throw new IllegalArgumentException("Report has no " + name
+					+ " element");
+		}
+		return value.trim();
+	}
+
 	public MPingReportDao getDao() {
 		return dao;
 	}
@@ -165,9 +336,12 @@ public class MPingDecoder extends AbstractDecoder {
 	/**
 	 * 
 	 * @param mpingData
+	 * @param containerMap
+	 *            the PointDataContainers of the current decode
 	 * @return
 	 */
-	private PointDataContainer getContainer(MPingReport mpingData) {
+	private PointDataContainer getContainer(MPingReport mpingData,
+			Map<File, PointDataContainer> containerMap) {
 
 		File file = dao.getFullFilePath(mpingData);
 		PointDataContainer container = containerMap.get(file);
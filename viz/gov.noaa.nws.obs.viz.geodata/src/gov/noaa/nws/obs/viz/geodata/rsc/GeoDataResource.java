@@ -1,7 +1,9 @@
 package gov.noaa.nws.obs.viz.geodata.rsc;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -41,10 +43,7 @@ import com.raytheon.uf.viz.core.rsc.capabilities.ColorMapCapability;
 import com.raytheon.uf.viz.core.rsc.capabilities.ColorableCapability;
 import com.raytheon.uf.viz.core.rsc.capabilities.OutlineCapability;
 import com.vividsolutions.jts.geom.Coordinate;
-import com.vividsolutions.jts.geom.Geometry;
-import com.vividsolutions.jts.geom.GeometryFactory;
 import com.vividsolutions.jts.geom.Point;
-import com.vividsolutions.jts.geom.Polygon;
 
 import gov.nasa.msfc.sport.viz.geodata.drawable.GeoDrawable;
 import gov.nasa.msfc.sport.viz.geodata.drawable.PointDrawable;
@@ -71,6 +70,15 @@ import gov.noaa.nws.obs.viz.geodata.style.GeometryPreferences;
  * 07/25/2016   19064      jburks      Initial checkin (DCS 19064)
  * 08/04/2016   19064      mcomerford  Adding styleRules handling.
  * Dec 01, 2017 5863       mapeters    Change dataTimes to a NavigableSet
+ * Oct 17, 2026            agent       Sample through spatial indexes of each
+ *                                     DataFrame, and match StyleRules once
+ *                                     per GeoDataRecordCriteria.
+ * Oct 17, 2026            agent       Read record attributes stored packed
+ *                                     or as rows.
+ * Oct 17, 2026            agent       Load packed attributes of incoming
+ *                                     records.
+ * Oct 17, 2026            agent       Move the sampling indexes to
+ *                                     GeoDataSampleIndex.
  *
  * </pre>
  *
@@ -138,6 +146,15 @@ public class GeoDataResource
     private static final GeometryPreferences defaultPrefs = new GeometryPreferences(
             Float.valueOf(1.f), WHITE, Double.valueOf(5.0));
 
+    /* Default sampleCutoff, in pixels. */
+    private static final double DEFAULT_SAMPLE_CUTOFF = 5.0;
+
+    /*
+     * The StyleRules matched so far, by the criteria of the matched records.
+     * Holds null for criteria without a matching StyleRule.
+     */
+    private final Map<GeoDataRecordCriteria, StyleRule> styleRules = new HashMap<>();
+
     /**
      * The default constructor. Generates the GeoDataResource from the
      * associated resourceData and loadProperties. getDefaultPrefs
@@ -326,8 +343,7 @@ public class GeoDataResource
             return "";
         }
 
-        GeoDataRecord closestRecord = getClosestRecord(coord,
-                frame.getRecords());
+        GeoDataRecord closestRecord = frame.getClosestRecord(coord);
 
         String sampleString = "";
 
@@ -338,24 +354,8 @@ public class GeoDataResource
              * matching StyleRule, which contains the unit conversion for any
              * applicable Float/Integer/StringAttribute(s).
              */
-            StyleRule closestRecordRule = null;
-            GeometryPreferences closestRecordPrefs = defaultPrefs;
-            try {
-                GeoDataRecordCriteria closestRecordCriteria = new GeoDataRecordCriteria(
-                        closestRecord);
-                closestRecordRule = StyleManager.getInstance().getStyleRule(
-                        StyleManager.StyleType.GEOMETRY, closestRecordCriteria);
-            } catch (StyleException e) {
-                throw new VizException(e);
-            }
-
-            if (closestRecordRule != null) {
-                if (closestRecordRule
-                        .getPreferences() instanceof GeometryPreferences) {
-                    closestRecordPrefs = (GeometryPreferences) closestRecordRule
-                            .getPreferences();
-                }
-            }
+            GeometryPreferences closestRecordPrefs = getPreferences(
+                    getStyleRule(closestRecord));
 
             /*
              * Generate the sampleString from the closestRecord and its matching
@@ -384,19 +384,19 @@ public class GeoDataResource
         StringBuilder sb = new StringBuilder();
 
         sb.append("Time: " + closestRecord.getDataTime() + "\n");
-        for (IntegerAttribute intAtt : closestRecord.getIntegerAtt()) {
+        for (IntegerAttribute intAtt : closestRecord.getIntegerAttributes()) {
             double sampleVal = intAtt.getValue();
             String name = intAtt.getName();
             String units = "";
             genSampleString(sampleVal, name, units, sb, closestRecordPrefs);
         }
-        for (FloatAttribute floatAtt : closestRecord.getFloatAtt()) {
+        for (FloatAttribute floatAtt : closestRecord.getFloatAttributes()) {
             double sampleVal = floatAtt.getValue();
             String name = floatAtt.getName();
             String units = "";
             genSampleString(sampleVal, name, units, sb, closestRecordPrefs);
         }
-        for (StringAttribute stringAtt : closestRecord.getStringAtt()) {
+        for (StringAttribute stringAtt : closestRecord.getStringAttributes()) {
             double sampleVal = Double.valueOf(stringAtt.getName());
             String name = stringAtt.getName();
             String units = "";
@@ -452,115 +452,83 @@ public class GeoDataResource
     }
 
     /**
-     * Use the ReferencedCoordinate (of the mouse pointer) to parse through the
-     * Set of GeoDataRecords and determine which record provides the Geometry
-     * closest to the ReferencedCoordinate.
+     * Get the StyleRule matching a GeoDataRecord. StyleRules are only looked
+     * up in the StyleManager once for each distinct GeoDataRecordCriteria.
      *
-     * @param coord
-     *            The coordinate of the mouse pointer.
-     * @param records
-     *            The set of GeoDataRecords from which the record closest to the
-     *            mouse pointer coordinate will be returned.
-     * @return The GeoDataRecord instance that is closest to mouse pointer
-     *         coordinate
+     * @param record
+     *            The GeoDataRecord to match.
+     * @return The matching StyleRule, or null if none matches.
      * @throws VizException
-     *             If there is an error calculating the closest GeoDataRecord.
+     *             If there is an error matching the StyleRule.
      */
-    public GeoDataRecord getClosestRecord(ReferencedCoordinate coord,
-            Set<GeoDataRecord> records) throws VizException {
-
-        try {
-            Coordinate pointer = coord.asGridCell(descriptor.getGridGeometry(),
-                    PixelInCell.CELL_CENTER);
-
-            double sampleCutoff = 5.0;
-            GeoDataRecord closestRecord = null;
-            StyleRule sr = null;
-
-            for (GeoDataRecord record : records) {
-
-                Geometry geometry = record.getGeometry();
-
-                /*
-                 * If the record Geometry is Polygon, determine if the pointer
-                 * is within that Geometry. If so, return that record
-                 * immediately.
-                 */
-                if (geometry instanceof Polygon) {
-                    Point point = new GeometryFactory()
-                            .createPoint(coord.asLatLon());
-                    if (geometry.contains(point)) {
-                        return record;
-                    }
-                }
+    private StyleRule getStyleRule(GeoDataRecord record) throws VizException {
+        GeoDataRecordCriteria criteria = new GeoDataRecordCriteria(record);
+        synchronized (styleRules) {
+            if (styleRules.containsKey(criteria)) {
+                return styleRules.get(criteria);
+            }
 
-                /* Get the best matching style rule for this record. */
-                GeometryPreferences prefs = defaultPrefs;
-                try {
-                    GeoDataRecordCriteria recordCriteria = new GeoDataRecordCriteria(
-                            record);
-                    sr = StyleManager.getInstance().getStyleRule(
-                            StyleManager.StyleType.GEOMETRY, recordCriteria);
-                } catch (StyleException e) {
-                    throw new VizException(e);
-                }
+            StyleRule styleRule;
+            try {
+                styleRule = StyleManager.getInstance().getStyleRule(
+                        StyleManager.StyleType.GEOMETRY, criteria);
+            } catch (StyleException e) {
+                throw new VizException(e);
+            }
+            styleRules.put(criteria, styleRule);
+            return styleRule;
+        }
+    }
 
-                if (sr != null) {
-                    if (sr.getPreferences() instanceof GeometryPreferences) {
-                        prefs = (GeometryPreferences) sr.getPreferences();
-                    }
-                }
+    /**
+     * @param styleRule
+     *            A matched StyleRule, may be null.
+     * @return The GeometryPreferences of the StyleRule, or the default
+     *         GeometryPreferences if it has none.
+     */
+    private GeometryPreferences getPreferences(StyleRule styleRule) {
+        if (styleRule != null
+                && styleRule.getPreferences() instanceof GeometryPreferences) {
+            return (GeometryPreferences) styleRule.getPreferences();
+        }
+        return defaultPrefs;
+    }
 
-                /*
-                 * If we are working with a GeometryPreferences, then the
-                 * sampleCutoff value (or Attribute that holds the value) may be
-                 * defined. Need to determine the value if that is the case.
-                 */
-                if (prefs.getSampleCutoff() instanceof Double) {
-                    sampleCutoff = ((Double) prefs.getSampleCutoff())
-                            .doubleValue();
-                } else if (prefs.getSampleCutoff() instanceof FloatAttribute) {
-                    FloatAttribute sampleAtt = (FloatAttribute) prefs
-                            .getSampleCutoff();
-
-                    for (FloatAttribute att : record.getFloatAtt()) {
-                        if (att.getName().equals(sampleAtt.getName())) {
-                            sampleCutoff = att.getValue();
-                            break;
-                        }
-                    }
-                } else if (prefs
-                        .getSampleCutoff() instanceof IntegerAttribute) {
-                    IntegerAttribute sampleAtt = (IntegerAttribute) prefs
-                            .getSampleCutoff();
-
-                    for (IntegerAttribute att : record.getIntegerAtt()) {
-                        if (att.getName().equals(sampleAtt.getName())) {
-                            sampleCutoff = att.getValue();
-                            break;
-                        }
-                    }
+    /**
+     * Determine the sampleCutoff of a GeoDataRecord. The sampleCutoff of a
+     * GeometryPreferences may be a value, or an Attribute that holds the
+     * value.
+     *
+     * @param record
+     *            The GeoDataRecord to sample.
+     * @param prefs
+     *            The GeometryPreferences that correspond to the GeoDataRecord.
+     * @return The maximum distance, in pixels, at which the record is sampled.
+     */
+    private double getSampleCutoff(GeoDataRecord record,
+            GeometryPreferences prefs) {
+        if (prefs.getSampleCutoff() instanceof Double) {
+            return ((Double) prefs.getSampleCutoff()).doubleValue();
+        } else if (prefs.getSampleCutoff() instanceof FloatAttribute) {
+            FloatAttribute sampleAtt = (FloatAttribute) prefs
+                    .getSampleCutoff();
+
+            for (FloatAttribute att : record.getFloatAttributes()) {
+                if (att.getName().equals(sampleAtt.getName())) {
+                    return att.getValue();
                 }
+            }
+        } else if (prefs.getSampleCutoff() instanceof IntegerAttribute) {
+            IntegerAttribute sampleAtt = (IntegerAttribute) prefs
+                    .getSampleCutoff();
 
-                Coordinate geomCenter = geometry.getCentroid().getCoordinate();
-
-                double[] pixel = descriptor.worldToPixel(
-                        new double[] { geomCenter.x, geomCenter.y });
-
-                Coordinate recordLoc = new Coordinate(pixel[0], pixel[1]);
-                double recordDist = recordLoc.distance(pointer);
-                if (recordDist < sampleCutoff) {
-                    sampleCutoff = recordDist;
-                    closestRecord = record;
+            for (IntegerAttribute att : record.getIntegerAttributes()) {
+                if (att.getName().equals(sampleAtt.getName())) {
+                    return att.getValue();
                 }
             }
-
-            return closestRecord;
-        } catch (FactoryException | TransformException e) {
-            throw new VizException("Error retrieving the closes GeoDataRecord.",
-                    e);
         }
-
+        return DEFAULT_SAMPLE_CUTOFF;
     }
 
     @Override
@@ -578,6 +546,7 @@ public class GeoDataResource
         if (type == ChangeType.DATA_UPDATE) {
             if (updateObject instanceof GeoDataRecord[]) {
                 GeoDataRecord[] records = (GeoDataRecord[]) updateObject;
+                loadPackedAttributes(Arrays.asList(records));
                 for (GeoDataRecord record : records) {
                     DataFrame frame = getDataFrameForTime(record.getDataTime());
                     try {
@@ -598,6 +567,7 @@ public class GeoDataResource
                 }
             } else if (updateObject instanceof GeoDataRecord) {
                 GeoDataRecord record = (GeoDataRecord) updateObject;
+                loadPackedAttributes(Collections.singletonList(record));
                 DataFrame frame = getDataFrameForTime(record.getDataTime());
                 try {
                     if (frame == null) {
@@ -625,6 +595,23 @@ public class GeoDataResource
 
     }
 
+    /**
+     * Load the packed attributes of incoming GeoDataRecord(s). Records whose
+     * attributes cannot be loaded are still added, without attributes.
+     *
+     * @param records
+     *            The incoming GeoDataRecord(s).
+     */
+    private void loadPackedAttributes(List<GeoDataRecord> records) {
+        try {
+            PackedAttributesLoader.load(records);
+        } catch (VizException e) {
+            statusHandler.error(
+                    "An error occurred while loading the attributes of incoming GeoDataRecords",
+                    e);
+        }
+    }
+
     @Override
     public void remove(DataTime dataTime) {
         super.remove(dataTime);
@@ -668,6 +655,15 @@ public class GeoDataResource
          */
         Map<GeoDataRecord, IRenderable> map = new HashMap<>();
 
+        /* The sampleCutoff of each GeoDataRecord, in pixels. */
+        private final Map<GeoDataRecord, Double> sampleCutoffs = new HashMap<>();
+
+        /*
+         * Index of the GeoDataRecords for sampling. Built on the first sample
+         * after the records change.
+         */
+        private GeoDataSampleIndex sampleIndex;
+
         /**
          * Add a GeoDataRecord:IRenderable pair to the DataFrame mapping
          *
@@ -675,7 +671,8 @@ public class GeoDataResource
          *            Any number of GeoDataRecords
          * @throws VizException
          */
-        public void addRecord(GeoDataRecord... records) throws VizException {
+        public synchronized void addRecord(GeoDataRecord... records)
+                throws VizException {
 
             List<PointDrawable> points = new ArrayList<>();
 
@@ -683,15 +680,7 @@ public class GeoDataResource
 
                 /* Get the matching style rule for the given record. */
                 GeometryPreferences prefs = defaultPrefs;
-                StyleRule styleRule = null;
-                try {
-                    GeoDataRecordCriteria recordCriteria = new GeoDataRecordCriteria(
-                            record);
-                    styleRule = StyleManager.getInstance().getStyleRule(
-                            StyleManager.StyleType.GEOMETRY, recordCriteria);
-                } catch (StyleException e) {
-                    throw new VizException(e);
-                }
+                StyleRule styleRule = getStyleRule(record);
 
                 /*
                  * Determine if there are any ColorMapParameters for coloring
@@ -743,7 +732,8 @@ public class GeoDataResource
                             /*
                              * Find the first instance of a matching attribute.
                              */
-                            for (FloatAttribute att : record.getFloatAtt()) {
+                            for (FloatAttribute att : record
+                                    .getFloatAttributes()) {
                                 if (att.getName()
                                         .equals(lineWidthAtt.getName())) {
                                     lineWidth = att.getValue();
@@ -756,7 +746,7 @@ public class GeoDataResource
                                     .getLineWidth();
 
                             for (IntegerAttribute att : record
-                                    .getIntegerAtt()) {
+                                    .getIntegerAttributes()) {
                                 if (att.getName()
                                         .equals(lineWidthAtt.getName())) {
                                     lineWidth = att.getValue();
@@ -782,7 +772,7 @@ public class GeoDataResource
                                     .getLineColor();
 
                             for (FloatAttribute recordAtt : record
-                                    .getFloatAtt()) {
+                                    .getFloatAttributes()) {
                                 if (recordAtt.getName()
                                         .equals(lineColorAtt.getName())) {
                                     floatVal = recordAtt.getValue();
@@ -804,7 +794,7 @@ public class GeoDataResource
                                     .getLineColor();
 
                             for (IntegerAttribute recordAtt : record
-                                    .getIntegerAtt()) {
+                                    .getIntegerAttributes()) {
                                 if (recordAtt.getName()
                                         .equals(lineColorAtt.getName())) {
                                     floatVal = recordAtt.getValue();
@@ -872,7 +862,10 @@ public class GeoDataResource
                     map.put(record, new GeoDrawable(rgb, record.getGeometry(),
                             lineWidth, alpha, LineStyle.SOLID, descriptor));
                 }
+
+                sampleCutoffs.put(record, getSampleCutoff(record, prefs));
             }
+            clearIndexes();
             /* Apply the magnification to PointDrawables. */
             if (minPointSize != maxPointSize) {
                 if (minMagSize != maxMagSize) {
@@ -889,7 +882,9 @@ public class GeoDataResource
          * Dispose of the DataFrame information when the Resource is disposed
          * of.
          */
-        public void dispose() {
+        public synchronized void dispose() {
+            sampleCutoffs.clear();
+            clearIndexes();
             if (map.values() == null) {
                 return;
             }
@@ -929,7 +924,9 @@ public class GeoDataResource
          * @param record
          *            The GeoDataRecord to be removed.
          */
-        public void remove(GeoDataRecord record) {
+        public synchronized void remove(GeoDataRecord record) {
+            sampleCutoffs.remove(record);
+            clearIndexes();
             IRenderable renderable = map.remove(record);
             if (renderable instanceof PointDrawable) {
                 ((PointDrawable) renderable).dispose();
@@ -939,6 +936,48 @@ public class GeoDataResource
 
         }
 
+        /**
+         * Use the ReferencedCoordinate (of the mouse pointer) to determine
+         * which record provides the Geometry closest to the
+         * ReferencedCoordinate. A Polygon containing the pointer is returned
+         * first; otherwise the record whose centroid is nearest the pointer,
+         * within the record's sampleCutoff.
+         *
+         * @param coord
+         *            The coordinate of the mouse pointer.
+         * @return The GeoDataRecord instance that is closest to mouse pointer
+         *         coordinate, or null if none is within its sampleCutoff.
+         * @throws VizException
+         *             If there is an error calculating the closest
+         *             GeoDataRecord.
+         */
+        public synchronized GeoDataRecord getClosestRecord(
+                ReferencedCoordinate coord) throws VizException {
+
+            try {
+                Coordinate latLon = coord.asLatLon();
+                Coordinate pointer = coord.asGridCell(
+                        descriptor.getGridGeometry(), PixelInCell.CELL_CENTER);
+
+                if (sampleIndex == null) {
+                    sampleIndex = new GeoDataSampleIndex(sampleCutoffs,
+                            descriptor::worldToPixel);
+                }
+
+                return sampleIndex.getClosestRecord(latLon, pointer);
+            } catch (FactoryException | TransformException e) {
+                throw new VizException(
+                        "Error retrieving the closes GeoDataRecord.", e);
+            }
+        }
+
+        /**
+         * Drop the index, to be rebuilt on the next sample.
+         */
+        private void clearIndexes() {
+            sampleIndex = null;
+        }
+
     }
 
 }
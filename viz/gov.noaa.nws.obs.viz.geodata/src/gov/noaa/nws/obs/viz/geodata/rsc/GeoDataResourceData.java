@@ -38,6 +38,10 @@ import gov.noaa.nws.obs.viz.geodata.style.GeoDataRecordCriteria;
  * ------------ ---------- ----------- --------------------------
  * 07/25/2016     19064      jburks    Initial checkin (DCS 19064)
  * 08/20/2016     19064    mcomerford  Implementing StyleRule handling.
+ * 10/17/2026                agent     Read record attributes stored packed
+ *                                     or as rows.
+ * 10/17/2026                agent     Load packed attributes, which are not
+ *                                     returned with the records.
  * </pre>
  *
  * @author jason.burks
@@ -64,44 +68,46 @@ public class GeoDataResourceData extends AbstractRequestableResourceData {
         List<String> sources = new ArrayList<>();
         List<String> products = new ArrayList<>();
 
+        List<GeoDataRecord> records = new ArrayList<>(objects.length);
         for (PluginDataObject obj : objects) {
             if (obj instanceof GeoDataRecord) {
-
-                GeoDataRecord rec = (GeoDataRecord) obj;
-
-                /*
-                 * Generate the lists of Attribute names, sources, and products
-                 * to use to generate this GeoDataResourceData's MatchCriteria.
-                 */
-                for (IntegerAttribute intAtt : rec.getIntegerAtt()) {
-                    if (!attNames.contains(intAtt.getName())) {
-                        attNames.add(intAtt.getName());
-                    }
-                }
-                for (FloatAttribute floatAtt : rec.getFloatAtt()) {
-                    if (!attNames.contains(floatAtt.getName())) {
-                        attNames.add(floatAtt.getName());
-                    }
-                }
-                for (StringAttribute stringAtt : rec.getStringAtt()) {
-                    if (!attNames.contains(stringAtt.getName())) {
-                        attNames.add(stringAtt.getName());
-                    }
+                records.add((GeoDataRecord) obj);
+            } else {
+                statusHandler.handle(Priority.PROBLEM,
+                        "Not of type" + GeoDataRecord.class);
+            }
+        }
+        PackedAttributesLoader.load(records);
+
+        for (GeoDataRecord rec : records) {
+            /*
+             * Generate the lists of Attribute names, sources, and products
+             * to use to generate this GeoDataResourceData's MatchCriteria.
+             */
+            for (IntegerAttribute intAtt : rec.getIntegerAttributes()) {
+                if (!attNames.contains(intAtt.getName())) {
+                    attNames.add(intAtt.getName());
                 }
-
-                if (!sources.contains(rec.getSource())) {
-                    sources.add(rec.getSource());
+            }
+            for (FloatAttribute floatAtt : rec.getFloatAttributes()) {
+                if (!attNames.contains(floatAtt.getName())) {
+                    attNames.add(floatAtt.getName());
                 }
-                if (!products.contains(rec.getProduct())) {
-                    products.add(rec.getProduct());
+            }
+            for (StringAttribute stringAtt : rec.getStringAttributes()) {
+                if (!attNames.contains(stringAtt.getName())) {
+                    attNames.add(stringAtt.getName());
                 }
+            }
 
-                rsc.addRecord(rec);
-            } else {
-                statusHandler.handle(Priority.PROBLEM,
-                        "Not of type" + GeoDataRecord.class);
+            if (!sources.contains(rec.getSource())) {
+                sources.add(rec.getSource());
+            }
+            if (!products.contains(rec.getProduct())) {
+                products.add(rec.getProduct());
             }
 
+            rsc.addRecord(rec);
         }
 
         StyleRule matchingStyleRule;
@@ -0,0 +1,151 @@
+package gov.noaa.nws.obs.viz.geodata.rsc;
+
+import java.util.Map;
+import java.util.function.Function;
+
+import com.vividsolutions.jts.geom.Coordinate;
+import com.vividsolutions.jts.geom.Envelope;
+import com.vividsolutions.jts.geom.Geometry;
+import com.vividsolutions.jts.geom.GeometryFactory;
+import com.vividsolutions.jts.geom.Point;
+import com.vividsolutions.jts.geom.Polygon;
+import com.vividsolutions.jts.index.strtree.STRtree;
+
+import gov.noaa.nws.obs.common.dataplugin.geodata.GeoDataRecord;
+
+/**
+ * GeoDataSampleIndex
+ *
+ * Spatial indexes of the GeoDataRecord(s) of a DataFrame, for sampling: an
+ * STRtree of the Polygon envelopes in lat/lon for the containment check, and
+ * an STRtree of the record centroids in pixel space. A sample is an envelope
+ * query of each index followed by the exact check of the candidates. An
+ * STRtree cannot be added to once queried, so an index is built for a fixed
+ * set of records and rebuilt when they change.
+ *
+ * <pre>
+ *
+ * SOFTWARE HISTORY
+ *
+ * Date         Ticket#    Engineer    Description
+ * ------------ ---------- ----------- --------------------------
+ * 10/17/2026                agent     Initial creation, from the indexes
+ *                                     of GeoDataResource.DataFrame
+ *
+ * </pre>
+ *
+ * @author agent
+ * @version 1.0
+ */
+class GeoDataSampleIndex {
+
+    private static final GeometryFactory GEOMETRY_FACTORY = new GeometryFactory();
+
+    private final STRtree centroidIndex = new STRtree();
+
+    private final STRtree polygonIndex = new STRtree();
+
+    /* The largest sampleCutoff of the indexed GeoDataRecords. */
+    private double maxSampleCutoff;
+
+    /**
+     * Build the indexes of the given records.
+     *
+     * @param sampleCutoffs
+     *            The sampleCutoff of each GeoDataRecord, in pixels.
+     * @param worldToPixel
+     *            Transform of a lon/lat to pixel space, returning null for a
+     *            location not visible in the projection.
+     */
+    GeoDataSampleIndex(Map<GeoDataRecord, Double> sampleCutoffs,
+            Function<double[], double[]> worldToPixel) {
+        for (Map.Entry<GeoDataRecord, Double> entry : sampleCutoffs
+                .entrySet()) {
+            GeoDataRecord record = entry.getKey();
+            Geometry geometry = record.getGeometry();
+
+            if (geometry instanceof Polygon) {
+                polygonIndex.insert(geometry.getEnvelopeInternal(), record);
+            }
+
+            Coordinate geomCenter = geometry.getCentroid().getCoordinate();
+            double[] pixel = worldToPixel
+                    .apply(new double[] { geomCenter.x, geomCenter.y });
+            if (pixel == null) {
+                /* Not visible in this projection. */
+                continue;
+            }
+
+            SampleLocation location = new SampleLocation(record,
+                    new Coordinate(pixel[0], pixel[1]), entry.getValue());
+            centroidIndex.insert(new Envelope(location.pixel), location);
+            maxSampleCutoff = Math.max(maxSampleCutoff, location.sampleCutoff);
+        }
+
+        centroidIndex.build();
+        polygonIndex.build();
+    }
+
+    /**
+     * Find the record sampled at a location. A Polygon containing the
+     * location is returned first; otherwise the record whose centroid is
+     * nearest the location, within the record's sampleCutoff.
+     *
+     * @param latLon
+     *            The sampled location, in lon/lat.
+     * @param pointer
+     *            The sampled location, in pixels.
+     * @return The GeoDataRecord sampled, or null if none is within its
+     *         sampleCutoff.
+     */
+    GeoDataRecord getClosestRecord(Coordinate latLon, Coordinate pointer) {
+        /*
+         * If a record Geometry is a Polygon containing the pointer, return
+         * that record immediately.
+         */
+        Point point = GEOMETRY_FACTORY.createPoint(latLon);
+        for (Object item : polygonIndex.query(new Envelope(latLon))) {
+            GeoDataRecord record = (GeoDataRecord) item;
+            if (record.getGeometry().contains(point)) {
+                return record;
+            }
+        }
+
+        Envelope searchEnv = new Envelope(pointer);
+        searchEnv.expandBy(maxSampleCutoff);
+
+        GeoDataRecord closestRecord = null;
+        double closestDist = Double.POSITIVE_INFINITY;
+        for (Object item : centroidIndex.query(searchEnv)) {
+            SampleLocation location = (SampleLocation) item;
+            double recordDist = location.pixel.distance(pointer);
+            if (recordDist < location.sampleCutoff
+                    && recordDist < closestDist) {
+                closestDist = recordDist;
+                closestRecord = location.record;
+            }
+        }
+
+        return closestRecord;
+    }
+
+    /**
+     * A GeoDataRecord in the centroid index.
+     */
+    private static class SampleLocation {
+
+        private final GeoDataRecord record;
+
+        /* The record centroid, in pixels. */
+        private final Coordinate pixel;
+
+        private final double sampleCutoff;
+
+        public SampleLocation(GeoDataRecord record, Coordinate pixel,
+                double sampleCutoff) {
+            this.record = record;
+            this.pixel = pixel;
+            this.sampleCutoff = sampleCutoff;
+        }
+    }
+}
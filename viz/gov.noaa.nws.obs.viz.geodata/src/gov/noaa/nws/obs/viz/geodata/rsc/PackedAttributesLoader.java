@@ -0,0 +1,81 @@
+package gov.noaa.nws.obs.viz.geodata.rsc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.raytheon.uf.viz.core.exception.VizException;
+import com.raytheon.uf.viz.core.requests.ThriftClient;
+
+import gov.noaa.nws.obs.common.dataplugin.geodata.GeoDataRecord;
+import gov.noaa.nws.obs.common.dataplugin.geodata.request.GetPackedAttributesRequest;
+
+/**
+ * PackedAttributesLoader
+ *
+ * Loads the packed attributes of GeoDataRecord(s) decoded with packed
+ * attribute storage. Packed attributes are kept in their own table and are not
+ * returned with the records, so records without attributes are looked up by
+ * id, a chunk of records per request.
+ *
+ * <pre>
+ *
+ * SOFTWARE HISTORY
+ *
+ * Date         Ticket#    Engineer    Description
+ * ------------ ---------- ----------- --------------------------
+ * 10/17/2026                agent     Initial creation
+ *
+ * </pre>
+ *
+ * @author agent
+ * @version 1.0
+ */
+class PackedAttributesLoader {
+
+    /* Number of record ids sent per request. */
+    private static final int IDS_PER_REQUEST = 1000;
+
+    private PackedAttributesLoader() {
+
+    }
+
+    /**
+     * Set the packed attributes of each record that has no attributes.
+     * Records stored with attribute rows already have them and are left
+     * alone, so nothing is requested unless packed storage was used.
+     *
+     * @param records
+     *            The GeoDataRecord(s) to load the attributes of.
+     * @throws VizException
+     *             if the attributes could not be requested.
+     */
+    static void load(List<GeoDataRecord> records) throws VizException {
+        List<GeoDataRecord> pending = new ArrayList<>();
+        for (GeoDataRecord record : records) {
+            if (!record.hasAttributes()) {
+                pending.add(record);
+            }
+        }
+
+        for (int start = 0; start < pending.size(); start += IDS_PER_REQUEST) {
+            List<GeoDataRecord> chunk = pending.subList(start,
+                    Math.min(start + IDS_PER_REQUEST, pending.size()));
+            int[] ids = new int[chunk.size()];
+            for (int i = 0; i < ids.length; i++) {
+                ids[i] = chunk.get(i).getId();
+            }
+
+            @SuppressWarnings("unchecked")
+            Map<Integer, byte[]> packed = (Map<Integer, byte[]>) ThriftClient
+                    .sendRequest(new GetPackedAttributesRequest(ids));
+            for (GeoDataRecord record : chunk) {
+                byte[] attributes = packed.get(record.getId());
+                if (attributes != null) {
+                    record.setPackedAttributes(attributes);
+                }
+            }
+        }
+    }
+
+}
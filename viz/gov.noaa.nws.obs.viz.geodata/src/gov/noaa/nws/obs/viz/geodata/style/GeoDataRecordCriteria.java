@@ -2,7 +2,9 @@ package gov.noaa.nws.obs.viz.geodata.style;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 
 import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
@@ -29,6 +31,8 @@ import gov.noaa.nws.obs.common.dataplugin.geodata.GeoDataRecord;
  * Date         Ticket#    Engineer    Description
  * ------------ ---------- ----------- --------------------------
  * 08/20/2016     19064    mcomerford   Initial creation (DCS 19064)
+ * 10/17/2026              agent        Add equals and hashCode, so matched
+ *                                      StyleRules can be cached by criteria.
  *
  * </pre>
  *
@@ -191,6 +195,39 @@ public class GeoDataRecordCriteria extends MatchCriteria {
         this.sources = sources;
     }
 
+    /*
+     * The attribute names of a record come from Sets, so their order is not
+     * significant.
+     */
+    @Override
+    public int hashCode() {
+        int result = Objects.hashCode(sources);
+        result = 31 * result + Objects.hashCode(products);
+        result = 31 * result + (attributeNames == null ? 0
+                : new HashSet<>(attributeNames).hashCode());
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        GeoDataRecordCriteria other = (GeoDataRecordCriteria) obj;
+        if (!Objects.equals(sources, other.sources)
+                || !Objects.equals(products, other.products)) {
+            return false;
+        }
+        if (attributeNames == null || other.attributeNames == null) {
+            return attributeNames == other.attributeNames;
+        }
+        return new HashSet<>(attributeNames)
+                .equals(new HashSet<>(other.attributeNames));
+    }
+
     @Override
     public String toString() {
 
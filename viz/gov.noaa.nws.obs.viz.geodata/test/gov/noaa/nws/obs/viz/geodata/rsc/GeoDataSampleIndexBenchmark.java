@@ -0,0 +1,324 @@
+package gov.noaa.nws.obs.viz.geodata.rsc;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Function;
+
+import com.raytheon.uf.common.time.DataTime;
+import com.sun.management.ThreadMXBean;
+import com.vividsolutions.jts.geom.Coordinate;
+import com.vividsolutions.jts.geom.Geometry;
+import com.vividsolutions.jts.geom.GeometryFactory;
+import com.vividsolutions.jts.geom.Point;
+import com.vividsolutions.jts.geom.Polygon;
+
+import gov.noaa.nws.obs.common.dataplugin.geodata.FloatAttribute;
+import gov.noaa.nws.obs.common.dataplugin.geodata.GeoDataRecord;
+import gov.noaa.nws.obs.common.dataplugin.geodata.IntegerAttribute;
+import gov.noaa.nws.obs.viz.geodata.style.GeoDataRecordCriteria;
+
+/**
+ * GeoDataSampleIndexBenchmark
+ *
+ * Micro-benchmark of sampling a frame of synthetic GeoDataRecord(s) through a
+ * GeoDataSampleIndex, against the linear walk of every record that sampling
+ * did before. By default the frame holds 100,000 records over the CONUS:
+ * points, lines and small polygons, with a sampleCutoff of 5 or 10 pixels. A
+ * plate carree transform to a 2000x1000 pixel display stands in for the
+ * descriptor. Sampled locations are random, half of them at a record
+ * centroid.
+ *
+ * Prints the time to build the index, samples per second and bytes allocated
+ * per sample on the sampling thread for the index and the linear walk, and
+ * lookups per second of the StyleRule cache key of each record. Every sample
+ * is checked against the linear walk first, and the number of mismatches
+ * printed; there should be none.
+ *
+ * Run with: java GeoDataSampleIndexBenchmark [records] [samples]
+ *
+ * <pre>
+ *
+ * SOFTWARE HISTORY
+ *
+ * Date         Ticket#    Engineer    Description
+ * ------------ ---------- ----------- --------------------------
+ * 10/17/2026                agent     Initial creation
+ *
+ * </pre>
+ *
+ * @author agent
+ * @version 1.0
+ */
+public class GeoDataSampleIndexBenchmark {
+
+    private static final long SEED = 20161020L;
+
+    private static final int WARMUP_ITERATIONS = 5;
+
+    private static final int PASSES = 3;
+
+    /* Bounds of the records, in lon/lat. */
+    private static final double MIN_LON = -125.0;
+
+    private static final double MAX_LON = -66.0;
+
+    private static final double MIN_LAT = 24.0;
+
+    private static final double MAX_LAT = 50.0;
+
+    /* Size of the display, in pixels. */
+    private static final double WIDTH = 2000.0;
+
+    private static final double HEIGHT = 1000.0;
+
+    private static final String[] SOURCES = { "SPoRT", "NASA", "NESDIS" };
+
+    private static final String[] PRODUCTS = { "lightning", "fires",
+            "floods", "snow" };
+
+    private static final GeometryFactory GEOMETRY_FACTORY = new GeometryFactory();
+
+    private static final Function<double[], double[]> WORLD_TO_PIXEL = lonLat -> new double[] {
+            (lonLat[0] - MIN_LON) * WIDTH / (MAX_LON - MIN_LON),
+            (MAX_LAT - lonLat[1]) * HEIGHT / (MAX_LAT - MIN_LAT) };
+
+    public static void main(String[] args) {
+        int recordCount = args.length > 0 ? Integer.parseInt(args[0])
+                : 100000;
+        int sampleCount = args.length > 1 ? Integer.parseInt(args[1]) : 2000;
+
+        Random random = new Random(SEED);
+        Map<GeoDataRecord, Double> sampleCutoffs = createRecords(random,
+                recordCount);
+        List<Coordinate> samples = createSamples(random, sampleCutoffs,
+                sampleCount);
+
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory
+                .getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        long start = System.nanoTime();
+        GeoDataSampleIndex index = new GeoDataSampleIndex(sampleCutoffs,
+                WORLD_TO_PIXEL);
+        System.out.printf("%d records, index built in %.1f ms%n",
+                sampleCutoffs.size(), (System.nanoTime() - start) / 1e6);
+
+        int hits = 0;
+        int mismatches = 0;
+        for (Coordinate latLon : samples) {
+            GeoDataRecord indexed = index.getClosestRecord(latLon,
+                    toPixel(latLon));
+            GeoDataRecord walked = walkRecords(sampleCutoffs, latLon);
+            if (indexed != null) {
+                hits++;
+            }
+            if (!sameSample(indexed, walked, latLon)) {
+                mismatches++;
+            }
+        }
+        System.out.printf("%d samples, %d hits, %d mismatches%n",
+                samples.size(), hits, mismatches);
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            sampleIndex(index, samples);
+        }
+        for (int pass = 0; pass < PASSES; pass++) {
+            long bytes = threads.getThreadAllocatedBytes(threadId);
+            start = System.nanoTime();
+            sampleIndex(index, samples);
+            long nanos = System.nanoTime() - start;
+            bytes = threads.getThreadAllocatedBytes(threadId) - bytes;
+            System.out.printf(
+                    "index pass %d: %.0f samples/sec, %.0f bytes allocated/sample%n",
+                    pass + 1, samples.size() * 1e9 / nanos,
+                    (double) bytes / samples.size());
+        }
+
+        /* The linear walk is slow, so only a slice of the samples is used. */
+        List<Coordinate> walkSamples = samples.subList(0,
+                Math.min(samples.size(), 50));
+        for (int pass = 0; pass < PASSES; pass++) {
+            long bytes = threads.getThreadAllocatedBytes(threadId);
+            start = System.nanoTime();
+            for (Coordinate latLon : walkSamples) {
+                walkRecords(sampleCutoffs, latLon);
+            }
+            long nanos = System.nanoTime() - start;
+            bytes = threads.getThreadAllocatedBytes(threadId) - bytes;
+            System.out.printf(
+                    "walk pass %d: %.1f samples/sec, %.0f bytes allocated/sample%n",
+                    pass + 1, walkSamples.size() * 1e9 / nanos,
+                    (double) bytes / walkSamples.size());
+        }
+
+        Map<GeoDataRecordCriteria, String> styleRules = new HashMap<>();
+        for (int pass = 0; pass < PASSES; pass++) {
+            start = System.nanoTime();
+            for (GeoDataRecord record : sampleCutoffs.keySet()) {
+                GeoDataRecordCriteria criteria = new GeoDataRecordCriteria(
+                        record);
+                if (!styleRules.containsKey(criteria)) {
+                    styleRules.put(criteria, record.getProduct());
+                }
+            }
+            long nanos = System.nanoTime() - start;
+            System.out.printf(
+                    "style pass %d: %.0f lookups/sec, %d distinct criteria%n",
+                    pass + 1, sampleCutoffs.size() * 1e9 / nanos,
+                    styleRules.size());
+        }
+    }
+
+    private static void sampleIndex(GeoDataSampleIndex index,
+            List<Coordinate> samples) {
+        for (Coordinate latLon : samples) {
+            index.getClosestRecord(latLon, toPixel(latLon));
+        }
+    }
+
+    /**
+     * Sample by walking every record, as was done before the index: check
+     * each Polygon for containment, then reproject each centroid.
+     */
+    private static GeoDataRecord walkRecords(
+            Map<GeoDataRecord, Double> sampleCutoffs, Coordinate latLon) {
+        Point point = GEOMETRY_FACTORY.createPoint(latLon);
+        for (GeoDataRecord record : sampleCutoffs.keySet()) {
+            Geometry geometry = record.getGeometry();
+            if (geometry instanceof Polygon && geometry.contains(point)) {
+                return record;
+            }
+        }
+
+        Coordinate pointer = toPixel(latLon);
+        GeoDataRecord closestRecord = null;
+        double closestDist = Double.POSITIVE_INFINITY;
+        for (Map.Entry<GeoDataRecord, Double> entry : sampleCutoffs
+                .entrySet()) {
+            Coordinate center = entry.getKey().getGeometry().getCentroid()
+                    .getCoordinate();
+            double dist = toPixel(center).distance(pointer);
+            if (dist < entry.getValue() && dist < closestDist) {
+                closestDist = dist;
+                closestRecord = entry.getKey();
+            }
+        }
+        return closestRecord;
+    }
+
+    /**
+     * Overlapping Polygons may both contain a sample, and each way of
+     * sampling may return either one.
+     */
+    private static boolean sameSample(GeoDataRecord indexed,
+            GeoDataRecord walked, Coordinate latLon) {
+        if (indexed == walked) {
+            return true;
+        }
+        if (indexed == null || walked == null) {
+            return false;
+        }
+        Point point = GEOMETRY_FACTORY.createPoint(latLon);
+        return indexed.getGeometry() instanceof Polygon
+                && walked.getGeometry() instanceof Polygon
+                && indexed.getGeometry().contains(point)
+                && walked.getGeometry().contains(point);
+    }
+
+    private static Coordinate toPixel(Coordinate latLon) {
+        double[] pixel = WORLD_TO_PIXEL
+                .apply(new double[] { latLon.x, latLon.y });
+        return new Coordinate(pixel[0], pixel[1]);
+    }
+
+    /**
+     * Create the records of a frame: 60% points, 20% lines and 20% polygons.
+     *
+     * @return the sampleCutoff of each record, as kept by a DataFrame.
+     */
+    private static Map<GeoDataRecord, Double> createRecords(Random random,
+            int count) {
+        Date refTime = new Date(1476921600000L);
+        Map<GeoDataRecord, Double> sampleCutoffs = new HashMap<>(count * 2);
+        for (int i = 0; i < count; i++) {
+            Coordinate center = randomLocation(random);
+            Geometry geometry;
+            int shape = random.nextInt(10);
+            if (shape < 6) {
+                geometry = GEOMETRY_FACTORY.createPoint(center);
+            } else if (shape < 8) {
+                geometry = GEOMETRY_FACTORY.createLineString(
+                        new Coordinate[] { center, offset(random, center),
+                                offset(random, center) });
+            } else {
+                double size = 0.02 + random.nextDouble() * 0.2;
+                geometry = GEOMETRY_FACTORY.createPolygon(
+                        GEOMETRY_FACTORY.createLinearRing(new Coordinate[] {
+                                center,
+                                new Coordinate(center.x + size, center.y),
+                                new Coordinate(center.x + size,
+                                        center.y + size),
+                                new Coordinate(center.x, center.y + size),
+                                center }),
+                        null);
+            }
+
+            GeoDataRecord record = new GeoDataRecord();
+            record.setDataTime(new DataTime(refTime));
+            record.setSource(SOURCES[random.nextInt(SOURCES.length)]);
+            record.setProduct(PRODUCTS[random.nextInt(PRODUCTS.length)]);
+            record.setGeometry(geometry);
+
+            Set<FloatAttribute> floatAtts = new HashSet<>();
+            floatAtts.add(new FloatAttribute("value",
+                    random.nextFloat() * 100, record));
+            record.setFloatAtt(floatAtts);
+            Set<IntegerAttribute> integerAtts = new HashSet<>();
+            if (random.nextBoolean()) {
+                integerAtts.add(
+                        new IntegerAttribute("count", random.nextInt(50),
+                                record));
+            }
+            record.setIntegerAtt(integerAtts);
+
+            sampleCutoffs.put(record, random.nextInt(5) == 0 ? 10.0 : 5.0);
+        }
+        return sampleCutoffs;
+    }
+
+    /**
+     * Create sample locations, half of them at a record centroid.
+     */
+    private static List<Coordinate> createSamples(Random random,
+            Map<GeoDataRecord, Double> sampleCutoffs, int count) {
+        List<GeoDataRecord> records = new ArrayList<>(sampleCutoffs.keySet());
+        List<Coordinate> samples = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            if (random.nextBoolean()) {
+                samples.add(randomLocation(random));
+            } else {
+                samples.add(records.get(random.nextInt(records.size()))
+                        .getGeometry().getCentroid().getCoordinate());
+            }
+        }
+        return samples;
+    }
+
+    private static Coordinate randomLocation(Random random) {
+        return new Coordinate(
+                MIN_LON + random.nextDouble() * (MAX_LON - MIN_LON),
+                MIN_LAT + random.nextDouble() * (MAX_LAT - MIN_LAT));
+    }
+
+    private static Coordinate offset(Random random, Coordinate center) {
+        return new Coordinate(center.x + random.nextGaussian() * 0.2,
+                center.y + random.nextGaussian() * 0.2);
+    }
+}
@@ -8,6 +8,7 @@ import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -63,6 +64,7 @@ import com.vividsolutions.jts.io.WKBReader;
 
 import gov.noaa.nws.ocp.common.dataplugin.psh.PshData;
 import gov.noaa.nws.ocp.common.dataplugin.psh.PshDataCategory;
+import gov.noaa.nws.ocp.common.dataplugin.psh.StormData;
 import gov.noaa.nws.ocp.common.dataplugin.psh.request.PshPreviewServiceRequest;
 import gov.noaa.nws.ocp.common.dataplugin.psh.request.PshProductServiceRequest;
 import gov.noaa.nws.ocp.common.dataplugin.psh.request.PshProductTransmitRequest;
@@ -97,6 +99,8 @@ import gov.noaa.ocp.viz.psh.data.PshCounty;
  * Nov 22, 2017 #40417      astrakovsky Added alternate method for reading a file.
  * Dec 08, 2017 #41955      astrakovsky Added static county list for storing county geometry data.
  * Feb 15, 2018 #46354      wpaintsil   Various refactorings.
+ * Oct 17, 2026             agent       Save or retrieve only some categories
+ *                                      of PSH data, or save only the header.
  *
  * </pre>
  *
@@ -1104,8 +1108,62 @@ public class PshUtil {
      * @return boolean Flag to indicate if saved successfully.
      */
     public static boolean savePshData(PshData data) {
+        return savePshData(new SavePSHDataRequest(data, null));
+    }
 
-        SavePSHDataRequest request = new SavePSHDataRequest(data);
+    /**
+     * Saves one category of a PSH data object, with the storm information,
+     * into database and HDF5. Fails if the category was saved by someone else
+     * since it was retrieved.
+     * 
+     * @param data
+     *            PshData object
+     * @param category
+     *            Category to save
+     * 
+     * @return boolean Flag to indicate if saved successfully.
+     */
+    public static boolean savePshData(PshData data, PshDataCategory category) {
+        return savePshData(new SavePSHDataRequest(data, category));
+    }
+
+    /**
+     * Saves the storm information of a PSH data object into database and
+     * HDF5, without the storm data, so saved categories are not replaced.
+     * 
+     * @param data
+     *            PshData object
+     * 
+     * @return boolean Flag to indicate if saved successfully.
+     */
+    public static boolean savePshDataHeader(PshData data) {
+        SavePSHDataRequest request = new SavePSHDataRequest(data, null);
+        request.setHeaderOnly(true);
+        return savePshData(request);
+    }
+
+    /**
+     * Saves PSH data object into database and HDF5, replacing any stored data
+     * for the storm.
+     * 
+     * @param data
+     *            PshData object
+     * 
+     * @return boolean Flag to indicate if saved successfully.
+     */
+    public static boolean overwritePshData(PshData data) {
+        SavePSHDataRequest request = new SavePSHDataRequest(data, null);
+        request.setOverwrite(true);
+        return savePshData(request);
+    }
+
+    /**
+     * Send a save request and update the versions of the saved categories.
+     * 
+     * @param request
+     * @return boolean Flag to indicate if saved successfully.
+     */
+    private static boolean savePshData(SavePSHDataRequest request) {
 
         boolean success;
 
@@ -1116,6 +1174,18 @@ public class PshUtil {
             statusHandler.error("PshUtil - Save PshData failed: ", e);
         }
 
+        if (success && !request.isHeaderOnly()) {
+            PshData data = request.getPshData();
+            List<PshDataCategory> categories = PshData.STORM_DATA_CATEGORIES;
+            if (request.getCategory() != null) {
+                categories = Collections.singletonList(request.getCategory());
+            }
+            for (PshDataCategory category : categories) {
+                StormData stormData = data.getStormData(category);
+                stormData.setVersion(stormData.getVersion() + 1);
+            }
+        }
+
         return success;
     }
 
@@ -1133,9 +1203,29 @@ public class PshUtil {
      */
     public static PshData retrievePshData(String basin, int year,
             String storm) {
+        return retrievePshData(basin, year, storm, null);
+    }
+
+    /**
+     * Retrieve PSH data for a specific basin, year and storm name, with only
+     * the given categories of storm data.
+     * 
+     * @param basin
+     *            PSH basin name
+     * @param year
+     *            Storm year
+     * @param storm
+     *            Storm name
+     * @param categories
+     *            Categories to retrieve, null for all
+     * 
+     * @return PshData object.
+     */
+    public static PshData retrievePshData(String basin, int year, String storm,
+            List<PshDataCategory> categories) {
 
         RetrievePSHDataRequest request = new RetrievePSHDataRequest(basin, year,
-                storm);
+                storm, categories);
 
         PshData result = null;
 
@@ -3,10 +3,13 @@
  */
 package gov.noaa.nws.ocp.viz.psh.ui.generator;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import java.util.Timer;
 import java.util.TimerTask;
 
@@ -37,12 +40,14 @@ import org.eclipse.swt.widgets.Menu;
 import org.eclipse.swt.widgets.MenuItem;
 import org.eclipse.swt.widgets.Shell;
 import org.eclipse.swt.widgets.TabFolder;
+import org.eclipse.swt.widgets.TabItem;
 import org.eclipse.swt.widgets.Text;
 
 import com.raytheon.uf.common.time.util.TimeUtil;
 import com.raytheon.viz.ui.dialogs.CaveJFACEDialog;
 
 import gov.noaa.nws.ocp.common.dataplugin.psh.PshData;
+import gov.noaa.nws.ocp.common.dataplugin.psh.PshDataCategory;
 import gov.noaa.nws.ocp.common.localization.psh.PshBasin;
 import gov.noaa.nws.ocp.common.localization.psh.PshConfigurationManager;
 import gov.noaa.nws.ocp.common.localization.psh.PshCounties;
@@ -56,6 +61,7 @@ import gov.noaa.nws.ocp.viz.psh.ui.generator.tab.PshMarineTabComp;
 import gov.noaa.nws.ocp.viz.psh.ui.generator.tab.PshMetarTabComp;
 import gov.noaa.nws.ocp.viz.psh.ui.generator.tab.PshNonMetarTabComp;
 import gov.noaa.nws.ocp.viz.psh.ui.generator.tab.PshRainfallTabComp;
+import gov.noaa.nws.ocp.viz.psh.ui.generator.tab.PshTabComp;
 import gov.noaa.nws.ocp.viz.psh.ui.generator.tab.PshTornadoesTabComp;
 import gov.noaa.nws.ocp.viz.psh.ui.generator.tab.PshWaterLevelTabComp;
 import gov.noaa.nws.ocp.viz.psh.ui.setup.PshCitiesSetupDialog;
@@ -90,6 +96,11 @@ import gov.noaa.nws.ocp.viz.psh.ui.setup.PshSetupConfigDialog;
  * Nov 20, 2017 #40417      astrakovsky Added historical report viewer to menu.
  * Dec 06, 2017 #41620      wpaintsil   Add import option to the File menu.
  * Dec 11, 2017 #41998      jwu         Use localization access control file in base/roles.
+ * Oct 17, 2026             agent       Check an imported storm exists from its
+ *                                      header only, and overwrite it on import.
+ *                                      Save only the header for counties.
+ * Oct 17, 2026             agent       Retrieve the storm data of each tab when
+ *                                      the tab is first selected.
  * 
  * </pre>
  * 
@@ -125,6 +136,13 @@ public class PshGeneratorDialog extends CaveJFACEDialog implements IPshData {
      */
     private PshData pshData;
 
+    /**
+     * Categories of storm data retrieved for the current storm and shown in
+     * their tabs.
+     */
+    private final Set<PshDataCategory> loadedCategories = EnumSet
+            .noneOf(PshDataCategory.class);
+
     private Combo basinCombo;
 
     private Combo yearCombo;
@@ -276,6 +294,7 @@ public class PshGeneratorDialog extends CaveJFACEDialog implements IPshData {
         viewSendMenuItem.addSelectionListener(new SelectionAdapter() {
             @Override
             public void widgetSelected(SelectionEvent event) {
+                loadAllTabs();
                 new PshViewSendDialog(getShell(), pshData).open();
             }
         });
@@ -288,6 +307,7 @@ public class PshGeneratorDialog extends CaveJFACEDialog implements IPshData {
         printMenuItem.addSelectionListener(new SelectionAdapter() {
             @Override
             public void widgetSelected(SelectionEvent event) {
+                loadAllTabs();
 
                 String pshReport = PshUtil.buildPshReport(pshData);
 
@@ -689,11 +709,13 @@ public class PshGeneratorDialog extends CaveJFACEDialog implements IPshData {
         tornadoesTab = new PshTornadoesTabComp(this, tabFolder);
         effectsTab = new PshEffectsTabComp(this, tabFolder);
 
-        // Cancel row editing when switching tabs.
+        // Cancel row editing when switching tabs, and fill the selected tab
+        // the first time it is shown.
         tabFolder.addSelectionListener(new SelectionAdapter() {
             @Override
             public void widgetSelected(SelectionEvent e) {
                 cancelEditing();
+                loadTab(getSelectedTab());
             }
         });
 
@@ -792,12 +814,19 @@ public class PshGeneratorDialog extends CaveJFACEDialog implements IPshData {
     }
 
     /**
-     * Fill each tab with appropriate data from the database.
+     * Fill the selected tab with appropriate data from the database. Only the
+     * storm information and the storm data of the selected tab are retrieved;
+     * the other tabs are filled when they are first selected, or all at once
+     * when the whole report is needed.
      */
     private void populateTabs() {
+        PshTabComp selectedTab = getSelectedTab();
+        loadedCategories.clear();
+
         // retrieve PSH data from the database
         PshData retrievedData = PshUtil.retrievePshData(basinCombo.getText(),
-                PshUtil.parseInt(yearCombo.getText()), stormCombo.getText());
+                PshUtil.parseInt(yearCombo.getText()), stormCombo.getText(),
+                Collections.singletonList(selectedTab.getTabType()));
 
         if (retrievedData != null) {
             pshData = retrievedData;
@@ -809,14 +838,16 @@ public class PshGeneratorDialog extends CaveJFACEDialog implements IPshData {
         pshData.setYear(PshUtil.parseInt(yearCombo.getText()));
         pshData.setStormName(stormCombo.getText());
 
-        metarTab.setDataList();
-        nonMetarTab.setDataList();
-        marineTab.setDataList();
-        rainfallTab.setDataList();
-        floodingTab.setDataList();
-        waterLevelTab.setDataList();
-        tornadoesTab.setDataList();
-        effectsTab.setDataList();
+        if (retrievedData != null) {
+            selectedTab.setDataList();
+            loadedCategories.add(selectedTab.getTabType());
+        } else {
+            // nothing stored for the storm yet
+            for (PshTabComp tab : getTabs()) {
+                tab.setDataList();
+                loadedCategories.add(tab.getTabType());
+            }
+        }
 
         // Warn the user if the current storm data has been edited by
         // another forecaster.
@@ -849,6 +880,83 @@ public class PshGeneratorDialog extends CaveJFACEDialog implements IPshData {
 
     }
 
+    /**
+     * Fill the given tab with its storm data, retrieving it the first time.
+     * 
+     * @param tab
+     */
+    private void loadTab(PshTabComp tab) {
+        if (pshData != null && !loadedCategories.contains(tab.getTabType())) {
+            loadCategories(Collections.singletonList(tab.getTabType()));
+        }
+    }
+
+    /**
+     * Fill every tab not filled yet, retrieving their storm data with one
+     * request, so that the whole report can be viewed, sent or printed.
+     */
+    private void loadAllTabs() {
+        if (pshData == null) {
+            return;
+        }
+
+        List<PshDataCategory> categories = new ArrayList<>();
+        for (PshTabComp tab : getTabs()) {
+            if (!loadedCategories.contains(tab.getTabType())) {
+                categories.add(tab.getTabType());
+            }
+        }
+
+        if (!categories.isEmpty()) {
+            loadCategories(categories);
+        }
+    }
+
+    /**
+     * Retrieve the given categories of storm data of the current storm and
+     * fill their tabs.
+     * 
+     * @param categories
+     */
+    private void loadCategories(List<PshDataCategory> categories) {
+        PshData retrievedData = PshUtil.retrievePshData(
+                pshData.getBasinName(), pshData.getYear(),
+                pshData.getStormName(), categories);
+
+        for (PshTabComp tab : getTabs()) {
+            PshDataCategory category = tab.getTabType();
+            if (categories.contains(category)) {
+                if (retrievedData != null) {
+                    pshData.setStormData(category,
+                            retrievedData.getStormData(category));
+                }
+                tab.setDataList();
+                loadedCategories.add(category);
+            }
+        }
+    }
+
+    /**
+     * @return the tabs, in tab folder order.
+     */
+    private PshTabComp[] getTabs() {
+        return new PshTabComp[] { metarTab, nonMetarTab, marineTab,
+                rainfallTab, floodingTab, waterLevelTab, tornadoesTab,
+                effectsTab };
+    }
+
+    /**
+     * @return the selected tab.
+     */
+    private PshTabComp getSelectedTab() {
+        TabItem[] selection = tabFolder.getSelection();
+        if (selection.length > 0
+                && selection[0].getControl() instanceof PshTabComp) {
+            return (PshTabComp) selection[0].getControl();
+        }
+        return metarTab;
+    }
+
     /**
      * Set the text of the counties label.
      * 
@@ -1047,7 +1155,8 @@ public class PshGeneratorDialog extends CaveJFACEDialog implements IPshData {
                 // check if already exists
                 PshData foundData = PshUtil.retrievePshData(
                         importedData.getBasinName(), importedData.getYear(),
-                        importedData.getStormName());
+                        importedData.getStormName(),
+                        Collections.<PshDataCategory> emptyList());
 
                 boolean overwrite = true;
                 if (foundData != null) {
@@ -1063,7 +1172,7 @@ public class PshGeneratorDialog extends CaveJFACEDialog implements IPshData {
                 }
 
                 if (overwrite) {
-                    PshUtil.savePshData(importedData);
+                    PshUtil.overwritePshData(importedData);
 
                     basinCombo.setText(importedData.getBasinName());
                     yearCombo.setText(String.valueOf(importedData.getYear()));
@@ -1399,7 +1508,13 @@ public class PshGeneratorDialog extends CaveJFACEDialog implements IPshData {
             setCountiesText(includedCounties);
 
             pshData.setIncludedCounties(includedCounties);
-            PshUtil.savePshData(pshData);
+            if (!PshUtil.savePshDataHeader(pshData)) {
+                new MessageDialog(PshGeneratorDialog.this.getShell(),
+                        "Save Error", null,
+                        "Error saving the included counties for the storm, "
+                                + pshData.getStormName() + ".",
+                        MessageDialog.ERROR, new String[] { "OK" }, 0).open();
+            }
         }
 
     }
@@ -42,6 +42,8 @@ import gov.noaa.nws.ocp.viz.psh.PshUtil;
  * Aug 01, 2017 #35738     jwu         Build product with template.
  * Sep 14, 2017 #37365     jwu         Integrate with product builder/transmitter.
  * Sep 18, 2017 #36920     astrakovsky Added print button.
+ * Oct 17, 2026            agent       Save only the header, and report a
+ *                                     failed save.
  * 
  * </pre>
  * 
@@ -540,7 +542,12 @@ public class PshViewSendDialog extends CaveJFACEDialog {
     private void updateProduct(boolean rebuild) {
 
         // Save the product.
-        PshUtil.savePshData(pshData);
+        if (!PshUtil.savePshDataHeader(pshData)) {
+            new MessageDialog(getShell(), "Save Error", null,
+                    "Error saving the storm information for the storm, "
+                            + pshData.getStormName() + ".",
+                    MessageDialog.ERROR, new String[] { "OK" }, 0).open();
+        }
 
         // Build report and display.
         if (rebuild) {
@@ -38,6 +38,7 @@ import gov.noaa.nws.ocp.viz.psh.ui.generator.tab.table.PshTableColumn;
  * Date         Ticket#     Engineer    Description
  * ------------ ---------- ----------- --------------------------
  * Jun 21, 2017 #34810      wpaintsil   Initial creation.
+ * Oct 17, 2026             agent       Save only the data of this tab.
  * 
  * </pre>
  * 
@@ -161,7 +162,7 @@ public class PshFloodingTabComp extends PshTabComp {
             PshData pshData = pshGeneratorData.getPshData();
             pshData.getFlooding().setData(floodDataList);
 
-            saveAlert(PshUtil.savePshData(pshData));
+            saveAlert(PshUtil.savePshData(pshData, getTabType()));
 
             pshGeneratorData.setPshData(pshData);
         }
@@ -35,6 +35,7 @@ import gov.noaa.nws.ocp.viz.psh.ui.generator.tab.table.PshTableColumn;
  * Date         Ticket#     Engineer    Description
  * ------------ ---------- ----------- --------------------------
  * Jun 21, 2017 #34810      wpaintsil   Initial creation.
+ * Oct 17, 2026             agent       Save only the data of this tab.
  * 
  * </pre>
  * 
@@ -162,7 +163,7 @@ public class PshMarineTabComp extends PshTabComp {
             pshData.getMarine().setRemarks(getRemarksText());
             pshData.getMarine().setData(marineDataList);
 
-            saveAlert(PshUtil.savePshData(pshData));
+            saveAlert(PshUtil.savePshData(pshData, getTabType()));
 
             pshGeneratorData.setPshData(pshData);
         }
@@ -188,7 +189,7 @@ public class PshMarineTabComp extends PshTabComp {
         pshData.getMarine().setRemarks(getRemarksText());
         pshData.getMarine().setData(dataList);
 
-        saveAlert(PshUtil.savePshData(pshData));
+        saveAlert(PshUtil.savePshData(pshData, getTabType()));
 
         pshGeneratorData.setPshData(pshData);
     }
@@ -35,6 +35,7 @@ import gov.noaa.nws.ocp.viz.psh.ui.generator.tab.table.PshTableColumn;
  * Date         Ticket#     Engineer    Description
  * ------------ ---------- ----------- --------------------------
  * Jun 21, 2017 #34810      wpaintsil   Initial creation.
+ * Oct 17, 2026             agent       Save only the data of this tab.
  * 
  * </pre>
  * 
@@ -164,7 +165,7 @@ public class PshMetarTabComp extends PshTabComp {
             pshData.getMetar().setRemarks(getRemarksText());
             pshData.getMetar().setData(metarDataList);
 
-            saveAlert(PshUtil.savePshData(pshData));
+            saveAlert(PshUtil.savePshData(pshData, getTabType()));
 
             pshGeneratorData.setPshData(pshData);
         }
@@ -190,7 +191,7 @@ public class PshMetarTabComp extends PshTabComp {
         pshData.getMetar().setRemarks(getRemarksText());
         pshData.getMetar().setData(dataList);
 
-        saveAlert(PshUtil.savePshData(pshData));
+        saveAlert(PshUtil.savePshData(pshData, getTabType()));
 
         pshGeneratorData.setPshData(pshData);
     }
@@ -36,6 +36,7 @@ import gov.noaa.nws.ocp.viz.psh.ui.generator.tab.table.PshTableColumn;
  * Date         Ticket#     Engineer    Description
  * ------------ ---------- ----------- --------------------------
  * Jun 21, 2017 #34810      wpaintsil   Initial creation.
+ * Oct 17, 2026             agent       Save only the data of this tab.
  * 
  * </pre>
  * 
@@ -168,7 +169,7 @@ public class PshNonMetarTabComp extends PshTabComp {
             PshData pshData = pshGeneratorData.getPshData();
             pshData.getNonmetar().setData(nonMetarDataList);
 
-            saveAlert(PshUtil.savePshData(pshData));
+            saveAlert(PshUtil.savePshData(pshData, getTabType()));
 
             pshGeneratorData.setPshData(pshData);
         }
@@ -195,7 +196,7 @@ public class PshNonMetarTabComp extends PshTabComp {
         pshData.getNonmetar().setRemarks(getRemarksText());
         pshData.getNonmetar().setData(dataList);
 
-        saveAlert(PshUtil.savePshData(pshData));
+        saveAlert(PshUtil.savePshData(pshData, getTabType()));
 
         pshGeneratorData.setPshData(pshData);
     }
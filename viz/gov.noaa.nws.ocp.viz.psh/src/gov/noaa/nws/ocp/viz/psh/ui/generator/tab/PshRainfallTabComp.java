@@ -56,6 +56,7 @@ import gov.noaa.nws.ocp.viz.psh.ui.generator.tab.table.PshTableColumn;
  * Sep 25, 2017 #36924      astrakovsky Moved user file dialog into its own file.
  * Sep 26, 2017 #38085      wpaintsil   Implement rainfall start/end date selection.
  * Nov,08  2017 #40423      jwu         Use PshCity for location.
+ * Oct 17, 2026             agent       Save only the data of this tab.
  * </pre>
  * 
  * @author wpaintsil
@@ -542,7 +543,7 @@ public class PshRainfallTabComp extends PshTabComp {
             pshData.getRainfall().setStartHour(startHourCombo.getText());
             pshData.getRainfall().setEndHour(startHourCombo.getText());
 
-            saveAlert(PshUtil.savePshData(pshData));
+            saveAlert(PshUtil.savePshData(pshData, getTabType()));
 
             pshGeneratorData.setPshData(pshData);
         }
@@ -569,7 +570,7 @@ public class PshRainfallTabComp extends PshTabComp {
         PshData pshData = pshGeneratorData.getPshData();
         pshData.getRainfall().setData(dataList);
 
-        saveAlert(PshUtil.savePshData(pshData));
+        saveAlert(PshUtil.savePshData(pshData, getTabType()));
 
         pshGeneratorData.setPshData(pshData);
 
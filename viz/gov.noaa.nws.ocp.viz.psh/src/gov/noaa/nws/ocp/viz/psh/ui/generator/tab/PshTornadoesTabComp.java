@@ -34,6 +34,7 @@ import gov.noaa.nws.ocp.viz.psh.ui.generator.tab.table.PshTornadoTable;
  * Jun 21, 2017 #34810      wpaintsil   Initial creation.
  * Aug 22, 2017 #36922      astrakovsky Added autocomplete fields for rainfall and tornadoes.
  * Sep 08, 2017 #36923      astrakovsky Added direction control type.
+ * Oct 17, 2026             agent       Save only the data of this tab.
  * 
  * </pre>
  * 
@@ -128,7 +129,7 @@ public class PshTornadoesTabComp extends PshTabComp {
             PshData pshData = pshGeneratorData.getPshData();
             pshData.getTornado().setData(tornadoDataList);
 
-            saveAlert(PshUtil.savePshData(pshData));
+            saveAlert(PshUtil.savePshData(pshData, getTabType()));
 
             pshGeneratorData.setPshData(pshData);
         }
@@ -37,6 +37,7 @@ import gov.noaa.nws.ocp.viz.psh.ui.generator.tab.table.PshWaterLevelTable;
  * Jun 21, 2017 #34810      wpaintsil   Initial creation.
  * Nov,08  2017 #40423      jwu         Replace tide/surge with water level.
  * Nov,14  2017 #40426      jwu         Update GUI with water level.
+ * Oct 17, 2026             agent       Save only the data of this tab.
  * 
  * </pre>
  * 
@@ -153,7 +154,7 @@ public class PshWaterLevelTabComp extends PshTabComp {
             pshData.getWaterLevel().setRemarks(getRemarksText());
             pshData.getWaterLevel().setData(surgeDataList);
 
-            saveAlert(PshUtil.savePshData(pshData));
+            saveAlert(PshUtil.savePshData(pshData, getTabType()));
 
             pshGeneratorData.setPshData(pshData);
         }
@@ -180,7 +181,7 @@ public class PshWaterLevelTabComp extends PshTabComp {
         pshData.getWaterLevel().setRemarks(getRemarksText());
         pshData.getWaterLevel().setData(dataList);
 
-        saveAlert(PshUtil.savePshData(pshData));
+        saveAlert(PshUtil.savePshData(pshData, getTabType()));
 
         pshGeneratorData.setPshData(pshData);
 